@@ -170,7 +170,13 @@ public class MainActivity extends AppCompatActivity {
           @Override
           public void run() {
             MatterAgentClient client = MatterAgentClient.getInstance();
-            client.reportAttributeChange(clusterId, attributeId);
+            // Push the value the same way MatterCommandReceiver answers reads of it, so that the
+            // platform can answer those reads itself.
+            client.reportAttributeValue(
+                clusterId,
+                attributeId,
+                String.valueOf(
+                    AttributeHolder.getInstance().getAttributeValue(clusterId, attributeId)));
           }
         });
   }
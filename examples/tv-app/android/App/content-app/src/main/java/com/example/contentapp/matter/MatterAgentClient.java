@@ -73,6 +73,17 @@ public class MatterAgentClient {
     return false;
   }
 
+  public boolean reportAttributeValue(int clusterId, int attributeId, String value) {
+    IMatterAppAgent matterAgent = getOrReinitializeMatterAgent();
+    if (matterAgent == null) return false;
+    try {
+      return matterAgent.reportAttributeValue(clusterId, attributeId, value);
+    } catch (RemoteException e) {
+      Log.e(TAG, "Error invoking remote method to report attribute value to Matter agent");
+    }
+    return false;
+  }
+
   @Nullable
   private IMatterAppAgent getOrReinitializeMatterAgent() {
     IMatterAppAgent matterAgent = getMatterAgent();
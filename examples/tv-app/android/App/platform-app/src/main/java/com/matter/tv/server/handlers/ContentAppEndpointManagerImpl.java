@@ -8,10 +8,13 @@ import com.matter.tv.app.api.Clusters;
 import com.matter.tv.server.model.ContentApp;
 import com.matter.tv.server.receivers.ContentAppDiscoveryService;
 import com.matter.tv.server.service.ContentAppAgentService;
+import com.matter.tv.server.service.ContentAppAttributeCache;
+import com.matter.tv.server.tvapp.ContentAppCommandResponder;
 import com.matter.tv.server.tvapp.ContentAppEndpointManager;
 import com.matter.tv.server.utils.EndpointsDataStore;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class ContentAppEndpointManagerImpl implements ContentAppEndpointManager {
 
@@ -48,6 +51,29 @@ public class ContentAppEndpointManagerImpl implements ContentAppEndpointManager
   }
 
   public String sendCommand(int endpointId, long clusterId, long commandId, String commandPayload) {
+    return ContentAppAgentService.getResponse(
+        dispatchCommand(endpointId, clusterId, commandId, commandPayload));
+  }
+
+  @Override
+  public void sendCommandAsync(
+      int endpointId,
+      long clusterId,
+      long commandId,
+      String commandPayload,
+      ContentAppCommandResponder responder) {
+    dispatchCommand(endpointId, clusterId, commandId, commandPayload)
+        .whenComplete(
+            (response, error) ->
+                responder.respond(
+                    error == null
+                        ? response
+                        : ContentAppAgentService.failureResponse(
+                            ContentAppAgentService.FAILED_UNKNOWN)));
+  }
+
+  private CompletableFuture<String> dispatchCommand(
+      int endpointId, long clusterId, long commandId, String commandPayload) {
     Log.d(TAG, "Received a command for endpointId " + endpointId + ". Message " + commandPayload);
 
     ContentApp discoveredApp =
@@ -67,7 +93,7 @@ public class ContentAppEndpointManagerImpl implements ContentAppEndpointManager
         }
       }
       Log.d(TAG, "Sending a command for endpointId " + endpointId + ". Message " + commandPayload);
-      return ContentAppAgentService.sendCommand(
+      return ContentAppAgentService.sendCommandAsync(
           context, discoveredApp.getAppName(), clusterId, commandId, commandPayload);
     }
 
@@ -82,16 +108,12 @@ public class ContentAppEndpointManagerImpl implements ContentAppEndpointManager
           "Message received for a previously discovered app that is no longer "
               + "available. App Name "
               + persistedApp.getAppName());
-      return "{\""
-          + ContentAppAgentService.FAILURE_KEY
-          + "\":{\""
-          + ContentAppAgentService.FAILURE_STATUS_KEY
-          + "\":"
-          + ContentAppAgentService.FAILED_UNSUPPORTED_ENDPOINT
-          + "}}";
+      return CompletableFuture.completedFuture(
+          ContentAppAgentService.failureResponse(
+              ContentAppAgentService.FAILED_UNSUPPORTED_ENDPOINT));
     }
     // For test cases to pass.
-    return "Success";
+    return CompletableFuture.completedFuture("Success");
   }
 
   public String readAttribute(int endpointId, long clusterId, long attributeId) {
@@ -108,6 +130,11 @@ public class ContentAppEndpointManagerImpl implements ContentAppEndpointManager
             ContentAppDiscoveryService.getReceiverInstance().getDiscoveredContentApps().values(),
             endpointId);
     if (discoveredApp != null) {
+      String cachedResponse =
+          ContentAppAttributeCache.getInstance().getResponse(endpointId, clusterId, attributeId);
+      if (cachedResponse != null) {
+        return cachedResponse;
+      }
       Log.d(TAG, "Sending attribute read request for endpointId " + endpointId);
       return ContentAppAgentService.sendAttributeReadRequest(
           context, discoveredApp.getAppName(), clusterId, attributeId);
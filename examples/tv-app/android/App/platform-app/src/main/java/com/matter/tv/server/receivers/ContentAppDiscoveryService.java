@@ -15,6 +15,7 @@ import android.util.Log;
 import com.matter.tv.app.api.MatterIntentConstants;
 import com.matter.tv.app.api.SupportedCluster;
 import com.matter.tv.server.model.ContentApp;
+import com.matter.tv.server.service.ContentAppAttributeCache;
 import com.matter.tv.server.utils.ResourceUtils;
 import java.util.Collections;
 import java.util.HashMap;
@@ -120,7 +121,11 @@ public class ContentAppDiscoveryService extends BroadcastReceiver {
 
       ContentApp app =
           new ContentApp(pkg, vendorName, vendorId, productId, version, supportedClusters);
-      applications.put(pkg, app);
+      ContentApp previousApp = applications.put(pkg, app);
+      if (previousApp != null) {
+        // An updated app may not have pushed its attributes yet.
+        ContentAppAttributeCache.getInstance().invalidateEndpoint(previousApp.getEndpointId());
+      }
 
       Intent in = new Intent(DISCOVERY_APPAGENT_ACTION_ADD);
       Bundle extras = new Bundle();
@@ -137,6 +142,7 @@ public class ContentAppDiscoveryService extends BroadcastReceiver {
     ContentApp contentApp = applications.get(pkg);
     if (contentApp != null) {
       applications.remove(pkg);
+      ContentAppAttributeCache.getInstance().invalidateEndpoint(contentApp.getEndpointId());
       Intent in = new Intent(DISCOVERY_APPAGENT_ACTION_REMOVE);
       Bundle extras = new Bundle();
       extras.putString(DISCOVERY_APPAGENT_EXTRA_PACKAGENAME, pkg);
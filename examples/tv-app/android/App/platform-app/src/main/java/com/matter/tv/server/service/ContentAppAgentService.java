@@ -8,6 +8,7 @@ import android.os.Binder;
 import android.os.Bundle;
 import android.os.IBinder;
 import android.os.RemoteException;
+import android.os.SystemClock;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -15,9 +16,14 @@ import com.matter.tv.app.api.IMatterAppAgent;
 import com.matter.tv.app.api.MatterIntentConstants;
 import com.matter.tv.server.model.ContentApp;
 import com.matter.tv.server.receivers.ContentAppDiscoveryService;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ContentAppAgentService extends Service {
 
@@ -35,11 +41,17 @@ public class ContentAppAgentService extends Service {
   public static final int FAILED_UNSUPPORTED_ATTRIBUTE = 0x86;
   public static final int FAILED_UNKNOWN = 0x01;
   public static final int FAILED_TIMEOUT = 0x94;
+  public static final int FAILED_BUSY = 0x9c;
 
   private static final int COMMAND_TIMEOUT = 8; // seconds
   private static final int ATTRIBUTE_TIMEOUT = 2; // seconds
+  private static final int MAX_IN_FLIGHT_REQUESTS_PER_APP = 4;
+  private static final long UNRESPONSIVE_BACKOFF_MS = 30000;
 
   private static ResponseRegistry responseRegistry = new ResponseRegistry();
+  private static Map<String, AtomicInteger> inFlightRequests = new ConcurrentHashMap<>();
+  // Apps whose last request timed out, with the time until which their requests fail at once.
+  private static Map<String, Long> unresponsiveApps = new ConcurrentHashMap<>();
   private static ExecutorService executorService =
       Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
 
@@ -69,6 +81,16 @@ public class ContentAppAgentService extends Service {
         @Override
         public boolean reportAttributeChange(int clusterId, int attributeId)
             throws RemoteException {
+          return reportChange(clusterId, attributeId, null);
+        }
+
+        @Override
+        public boolean reportAttributeValue(int clusterId, int attributeId, String value)
+            throws RemoteException {
+          return reportChange(clusterId, attributeId, value);
+        }
+
+        private boolean reportChange(int clusterId, int attributeId, @Nullable String value) {
           final int callingUID = Binder.getCallingUid();
           final String pkg = getApplicationContext().getPackageManager().getNameForUid(callingUID);
           Log.d(
@@ -80,6 +102,22 @@ public class ContentAppAgentService extends Service {
           ContentApp contentApp =
               ContentAppDiscoveryService.getReceiverInstance().getDiscoveredContentApp(pkg);
           if (contentApp != null && contentApp.getEndpointId() != ContentApp.INVALID_ENDPOINTID) {
+            // Update the cache before reporting, so that reads triggered by the report see the
+            // new value.
+            if (value != null) {
+              if (!ContentAppAttributeCache.getInstance()
+                  .putValue(contentApp.getEndpointId(), clusterId, attributeId, value)) {
+                Log.w(
+                    TAG,
+                    "Not caching invalid JSON value for cluster "
+                        + clusterId
+                        + " attribute "
+                        + attributeId);
+              }
+            } else {
+              ContentAppAttributeCache.getInstance()
+                  .invalidate(contentApp.getEndpointId(), clusterId, attributeId);
+            }
             // Make this call async so that even if the content apps make this call during command
             // processing and synchronously, the command processing thread will not block for the
             // chip stack lock.
@@ -106,28 +144,54 @@ public class ContentAppAgentService extends Service {
     return null;
   }
 
+  /**
+   * Sends a command to a content app and waits for its response, or for the command to time out.
+   * Prefer {@link #sendCommandAsync}, which does not block the caller.
+   */
   public static String sendCommand(
       Context context, String packageName, long clusterId, long commandId, String payload) {
+    return getResponse(sendCommandAsync(context, packageName, clusterId, commandId, payload));
+  }
+
+  /**
+   * Sends a command to a content app.
+   *
+   * <p>Once a request to an app timed out, its requests fail at once until it responds again or
+   * {@link #UNRESPONSIVE_BACKOFF_MS} elapses, so that an app which stopped responding does not hold
+   * up every caller that still waits for a response.
+   *
+   * @return a future completed with the response of the app, or with a failure response if the app
+   *     does not respond in time or already has too many requests in flight
+   */
+  public static CompletableFuture<String> sendCommandAsync(
+      Context context, String packageName, long clusterId, long commandId, String payload) {
     Intent in = new Intent(MatterIntentConstants.ACTION_MATTER_COMMAND);
     Bundle extras = new Bundle();
     extras.putByteArray(MatterIntentConstants.EXTRA_COMMAND_PAYLOAD, payload.getBytes());
     extras.putLong(MatterIntentConstants.EXTRA_COMMAND_ID, commandId);
     extras.putLong(MatterIntentConstants.EXTRA_CLUSTER_ID, clusterId);
     in.putExtras(extras);
-    in.setPackage(packageName);
-    int flags = Intent.FLAG_INCLUDE_STOPPED_PACKAGES;
-    flags |= Intent.FLAG_RECEIVER_FOREGROUND;
-    in.setFlags(flags);
-    int messageId = responseRegistry.getNextMessageCounter();
-    in.putExtra(
-        MatterIntentConstants.EXTRA_DIRECTIVE_RESPONSE_PENDING_INTENT,
-        getPendingIntentForResponse(context, packageName, messageId));
-    context.sendBroadcast(in);
-    return getResponse(messageId, COMMAND_TIMEOUT);
+    return dispatch(context, packageName, in, COMMAND_TIMEOUT);
   }
 
+  /**
+   * Reads an attribute from a content app and waits for its value, or for the read to time out.
+   * Prefer {@link #sendAttributeReadRequestAsync}, which does not block the caller.
+   */
   public static String sendAttributeReadRequest(
       Context context, String packageName, long clusterId, long attributeId) {
+    return getResponse(sendAttributeReadRequestAsync(context, packageName, clusterId, attributeId));
+  }
+
+  /**
+   * Reads an attribute from a content app. Apps that stopped responding are handled as by {@link
+   * #sendCommandAsync}.
+   *
+   * @return a future completed with the response of the app, or with a failure response if the app
+   *     does not respond in time or already has too many requests in flight
+   */
+  public static CompletableFuture<String> sendAttributeReadRequestAsync(
+      Context context, String packageName, long clusterId, long attributeId) {
     Intent in = new Intent(MatterIntentConstants.ACTION_MATTER_COMMAND);
     Bundle extras = new Bundle();
     extras.putString(
@@ -135,73 +199,76 @@ public class ContentAppAgentService extends Service {
     extras.putLong(MatterIntentConstants.EXTRA_ATTRIBUTE_ID, attributeId);
     extras.putLong(MatterIntentConstants.EXTRA_CLUSTER_ID, clusterId);
     in.putExtras(extras);
+    return dispatch(context, packageName, in, ATTRIBUTE_TIMEOUT);
+  }
+
+  private static CompletableFuture<String> dispatch(
+      Context context, String packageName, Intent in, int timeout) {
+    Long unresponsiveUntil = unresponsiveApps.get(packageName);
+    if (unresponsiveUntil != null) {
+      if (SystemClock.elapsedRealtime() < unresponsiveUntil) {
+        Log.w(TAG, "Not waiting for unresponsive app " + packageName);
+        return CompletableFuture.completedFuture(failureResponse(FAILED_TIMEOUT));
+      }
+      unresponsiveApps.remove(packageName, unresponsiveUntil);
+    }
+
+    // A slow app only gets its own excess requests refused, instead of tying up more callers.
+    AtomicInteger inFlight =
+        inFlightRequests.computeIfAbsent(packageName, key -> new AtomicInteger());
+    if (inFlight.incrementAndGet() > MAX_IN_FLIGHT_REQUESTS_PER_APP) {
+      inFlight.decrementAndGet();
+      Log.w(TAG, "Too many requests in flight for " + packageName);
+      return CompletableFuture.completedFuture(failureResponse(FAILED_BUSY));
+    }
+
     in.setPackage(packageName);
     int flags = Intent.FLAG_INCLUDE_STOPPED_PACKAGES;
     flags |= Intent.FLAG_RECEIVER_FOREGROUND;
     in.setFlags(flags);
-    int messageId = responseRegistry.getNextMessageCounter();
+    ResponseRegistry.PendingResponse pendingResponse =
+        responseRegistry.register(timeout, TimeUnit.SECONDS, failureResponse(FAILED_TIMEOUT));
+    int messageId = pendingResponse.getMessageId();
     in.putExtra(
         MatterIntentConstants.EXTRA_DIRECTIVE_RESPONSE_PENDING_INTENT,
         getPendingIntentForResponse(context, packageName, messageId));
     context.sendBroadcast(in);
-    return getResponse(messageId, ATTRIBUTE_TIMEOUT);
+    return pendingResponse
+        .getResponse()
+        .whenComplete(
+            (response, error) -> {
+              inFlight.decrementAndGet();
+              if (pendingResponse.isExpired()) {
+                unresponsiveApps.put(
+                    packageName, SystemClock.elapsedRealtime() + UNRESPONSIVE_BACKOFF_MS);
+              }
+              Log.d(TAG, "Response " + response + " being returned for message " + messageId);
+            });
   }
 
+  /** Waits for a response returned by one of the async methods. */
   @NonNull
-  private static String getResponse(int messageId, int timeout) {
-    ResponseRegistry.WaitState status =
-        responseRegistry.waitForMessage(messageId, timeout, TimeUnit.SECONDS);
-    String response = "";
-    switch (status) {
-      case SUCCESS:
-      case INVALID_COUNTER:
-        response = responseRegistry.readAndRemoveResponse(messageId);
-        if (response == null) {
-          response =
-              "{\""
-                  + FAILURE_KEY
-                  + "\":{\""
-                  + ContentAppAgentService.FAILURE_STATUS_KEY
-                  + "\":"
-                  + FAILED_UNKNOWN
-                  + "}}";
-        }
-        break;
-      case TIMED_OUT:
-        response =
-            "{\""
-                + FAILURE_KEY
-                + "\":{\""
-                + ContentAppAgentService.FAILURE_STATUS_KEY
-                + "\":"
-                + FAILED_TIMEOUT
-                + "}}";
-        break;
-      case INTERRUPTED:
-        response = responseRegistry.readAndRemoveResponse(messageId);
-        if (response == null) {
-          response =
-              "{\""
-                  + FAILURE_KEY
-                  + "\":{\""
-                  + ContentAppAgentService.FAILURE_STATUS_KEY
-                  + "\":"
-                  + FAILED_TIMEOUT
-                  + "}}";
-        }
-        break;
-      default:
-        response =
-            "{\""
-                + FAILURE_KEY
-                + "\":{\""
-                + ContentAppAgentService.FAILURE_STATUS_KEY
-                + "\":"
-                + FAILED_UNKNOWN
-                + "}}";
+  public static String getResponse(CompletableFuture<String> response) {
+    // The registry completes every response by its timeout, so this wait is bounded.
+    try {
+      return response.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return failureResponse(FAILED_TIMEOUT);
+    } catch (ExecutionException e) {
+      return failureResponse(FAILED_UNKNOWN);
     }
-    Log.d(TAG, "Response " + response + " being returned for message " + messageId);
-    return response;
+  }
+
+  /** Returns the response sent to Matter when a request fails with the given status. */
+  public static String failureResponse(int status) {
+    return "{\""
+        + FAILURE_KEY
+        + "\":{\""
+        + ContentAppAgentService.FAILURE_STATUS_KEY
+        + "\":"
+        + status
+        + "}}";
   }
 
   private static PendingIntent getPendingIntentForResponse(
@@ -211,7 +278,10 @@ public class ContentAppAgentService extends Service {
     ackBackIntent.putExtra(EXTRA_RESPONSE_RECEIVING_PACKAGE, targetPackage);
     ackBackIntent.putExtra(EXTRA_RESPONSE_ID, responseId);
 
-    return PendingIntent.getService(context, 0, ackBackIntent, PendingIntent.FLAG_ONE_SHOT);
+    // Intents differing only in their extras share a PendingIntent, so key it by message to keep
+    // the responses of concurrent requests apart.
+    return PendingIntent.getService(
+        context, responseId, ackBackIntent, PendingIntent.FLAG_ONE_SHOT);
   }
 
   @Override
@@ -221,6 +291,11 @@ public class ContentAppAgentService extends Service {
           new String(intent.getByteArrayExtra(MatterIntentConstants.EXTRA_RESPONSE_PAYLOAD));
       int messageId = intent.getIntExtra(EXTRA_RESPONSE_ID, Integer.MAX_VALUE);
       Log.d(TAG, "Response " + response + " received for message " + messageId);
+      String packageName = intent.getStringExtra(EXTRA_RESPONSE_RECEIVING_PACKAGE);
+      if (packageName != null) {
+        // Even a late response shows that the app is responding again.
+        unresponsiveApps.remove(packageName);
+      }
       responseRegistry.receivedMessageResponse(messageId, response);
     }
     return START_NOT_STICKY;
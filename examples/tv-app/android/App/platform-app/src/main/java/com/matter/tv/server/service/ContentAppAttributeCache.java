@@ -0,0 +1,82 @@
+package com.matter.tv.server.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.json.JSONException;
+import org.json.JSONTokener;
+
+/**
+ * Attribute values pushed by content apps, so that reads of them are answered without a round trip
+ * into the app.
+ *
+ * <p>Values are stored per endpoint as the JSON response an attribute read of the app returns. A
+ * value is replaced when the app pushes a new one, and dropped when the app reports a change
+ * without a value, pushes a value that is not valid JSON, or is removed or updated.
+ */
+public class ContentAppAttributeCache {
+
+  private static final ContentAppAttributeCache instance = new ContentAppAttributeCache();
+
+  // Keyed by endpoint, then by cluster ID in the high and attribute ID in the low 32 bits.
+  private final Map<Integer, Map<Long, String>> responsesByEndpoint = new ConcurrentHashMap<>();
+
+  private ContentAppAttributeCache() {}
+
+  public static ContentAppAttributeCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Stores the value of an attribute, or drops the cached one if {@code value} is not a single JSON
+   * value.
+   *
+   * @param value the JSON encoding of the value
+   * @return whether the value was stored
+   */
+  public boolean putValue(int endpointId, long clusterId, long attributeId, String value) {
+    if (!isJsonValue(value)) {
+      invalidate(endpointId, clusterId, attributeId);
+      return false;
+    }
+    responsesByEndpoint
+        .computeIfAbsent(endpointId, key -> new ConcurrentHashMap<>())
+        .put(key(clusterId, attributeId), "{\"" + attributeId + "\":" + value.trim() + "}");
+    return true;
+  }
+
+  /** Returns the read response of an attribute, or null if its value is not cached. */
+  public String getResponse(int endpointId, long clusterId, long attributeId) {
+    Map<Long, String> responses = responsesByEndpoint.get(endpointId);
+    return responses == null ? null : responses.get(key(clusterId, attributeId));
+  }
+
+  public void invalidate(int endpointId, long clusterId, long attributeId) {
+    Map<Long, String> responses = responsesByEndpoint.get(endpointId);
+    if (responses != null) {
+      responses.remove(key(clusterId, attributeId));
+    }
+  }
+
+  public void invalidateEndpoint(int endpointId) {
+    responsesByEndpoint.remove(endpointId);
+  }
+
+  private static boolean isJsonValue(String value) {
+    try {
+      JSONTokener tokener = new JSONTokener(value);
+      Object parsed = tokener.nextValue();
+      // The tokener accepts unquoted strings, which would corrupt the response.
+      if (parsed instanceof String && !value.trim().startsWith("\"")) {
+        return false;
+      }
+      // Anything after the value, such as further members, must not reach the response either.
+      return tokener.nextClean() == 0;
+    } catch (JSONException e) {
+      return false;
+    }
+  }
+
+  private static long key(long clusterId, long attributeId) {
+    return (clusterId << 32) | (attributeId & 0xFFFFFFFFL);
+  }
+}
@@ -2,67 +2,109 @@ package com.matter.tv.server.service;
 
 import android.util.Log;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Tracks the messages sent to content apps until their response arrives or they expire.
+ *
+ * <p>Each registered message gets a future, completed with the response of the app, or with a
+ * timeout response once its timeout elapses. Either way the message is then removed, so that apps
+ * which never respond do not leak entries.
+ */
 public class ResponseRegistry {
 
-  public enum WaitState {
-    TIMED_OUT,
-    INTERRUPTED,
-    SUCCESS,
-    INVALID_COUNTER
+  private static final String TAG = "ResponseRegistry";
+
+  /** A registered message and the future of its response. */
+  public static final class PendingResponse {
+    private final int messageId;
+    private final CompletableFuture<String> response;
+    private volatile boolean expired;
+
+    private PendingResponse(int messageId, CompletableFuture<String> response) {
+      this.messageId = messageId;
+      this.response = response;
+    }
+
+    public int getMessageId() {
+      return messageId;
+    }
+
+    /**
+     * Completed on the thread receiving the response, or on the expiry thread, which should not be
+     * blocked by dependent stages.
+     */
+    public CompletableFuture<String> getResponse() {
+      return response;
+    }
+
+    /** Returns whether the response was completed because the app did not respond in time. */
+    public boolean isExpired() {
+      return expired;
+    }
   }
 
-  private static final String TAG = "ResponseRegistry";
+  private final AtomicInteger messageCounter = new AtomicInteger();
 
-  private AtomicInteger messageCounter = new AtomicInteger();
+  private final Map<Integer, CompletableFuture<String>> pendingResponses =
+      new ConcurrentHashMap<>();
 
-  private Map<Integer, String> responses = new ConcurrentHashMap<>();
+  private final ScheduledThreadPoolExecutor expiryExecutor;
 
-  private Map<Integer, CountDownLatch> latches = new ConcurrentHashMap<>();
+  public ResponseRegistry() {
+    expiryExecutor = new ScheduledThreadPoolExecutor(1);
+    // Most messages are answered, so drop their expiry tasks instead of keeping them until due.
+    expiryExecutor.setRemoveOnCancelPolicy(true);
+  }
 
-  public int getNextMessageCounter() {
+  /**
+   * Registers a message, whose response future is completed with {@code timeoutResponse} if no
+   * response arrives within the timeout.
+   */
+  public PendingResponse register(long timeout, TimeUnit unit, String timeoutResponse) {
     int counter = messageCounter.incrementAndGet();
     // MAX_VALUE used for error scenarios
     if (counter == Integer.MAX_VALUE) {
       counter = messageCounter.incrementAndGet();
     }
-    latches.put(counter, new CountDownLatch(1));
-    return counter;
-  }
+    CompletableFuture<String> response = new CompletableFuture<>();
+    PendingResponse pendingResponse = new PendingResponse(counter, response);
+    pendingResponses.put(counter, response);
 
-  public WaitState waitForMessage(int counter, long timeout, TimeUnit unit) {
-    CountDownLatch latch = latches.get(counter);
-    if (latch == null) {
-      return WaitState.INVALID_COUNTER;
-    }
-    try {
-      if (!latch.await(timeout, unit)) {
-        Log.i(TAG, "Timed out while waiting for response for message " + counter);
-        return WaitState.TIMED_OUT;
-      }
-    } catch (InterruptedException e) {
-      Log.i(TAG, "Interrupted while waiting for response for message " + counter);
-      return WaitState.INTERRUPTED;
-    }
-    return WaitState.SUCCESS;
+    final int messageId = counter;
+    ScheduledFuture<?> expiry =
+        expiryExecutor.schedule(
+            () -> {
+              CompletableFuture<String> expired = pendingResponses.remove(messageId);
+              if (expired != null) {
+                Log.i(TAG, "Timed out while waiting for response for message " + messageId);
+                pendingResponse.expired = true;
+                expired.complete(timeoutResponse);
+              }
+            },
+            timeout,
+            unit);
+    response.whenComplete((result, error) -> expiry.cancel(false));
+    return pendingResponse;
   }
 
   public void receivedMessageResponse(int counter, String response) {
-    CountDownLatch latch = latches.remove(counter);
-    if (latch == null) {
-      // no point adding response to memory if no one is going to read it.
+    CompletableFuture<String> pendingResponse = pendingResponses.remove(counter);
+    if (pendingResponse == null) {
+      // The message expired, or was never sent.
+      Log.i(TAG, "Dropping response for unknown message " + counter);
       return;
     }
-    responses.put(counter, response);
-    latch.countDown();
+    pendingResponse.complete(response);
   }
 
-  public String readAndRemoveResponse(int counter) {
-    // caller should manage null values
-    return responses.remove(counter);
+  /** Returns the number of messages waiting for a response. */
+  public int getPendingCount() {
+    return pendingResponses.size();
   }
 }
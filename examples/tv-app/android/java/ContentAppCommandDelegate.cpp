@@ -23,11 +23,13 @@
 #include "ContentAppCommandDelegate.h"
 
 #include <app-common/zap-generated/cluster-objects.h>
+#include <app/CommandHandler.h>
 #include <app/CommandHandlerInterface.h>
 #include <app/util/config.h>
 #include <jni.h>
 #include <lib/core/DataModelTypes.h>
 #include <lib/support/CHIPJNIError.h>
+#include <lib/support/CHIPMem.h>
 #include <lib/support/JniReferences.h>
 #include <lib/support/JniTypeWrappers.h>
 #include <lib/support/jsontlv/TlvJson.h>
@@ -74,11 +76,51 @@ bool isValidJson(const char * response)
     return true;
 }
 
+namespace {
+
+const char * const kEmptyResponse = "{\"value\":{}}";
+
+// A command handed to the content app, which stays open until the app responds.
+struct PendingCommand
+{
+    PendingCommand(ContentAppCommandDelegate * aDelegate, app::CommandHandler & commandHandler,
+                   const app::ConcreteCommandPath & aPath) :
+        delegate(aDelegate), handle(&commandHandler), path(aPath)
+    {}
+
+    ContentAppCommandDelegate * delegate;
+    app::CommandHandler::Handle handle;
+    app::ConcreteCommandPath path;
+    std::string response;
+};
+
+void RespondToPendingCommand(intptr_t context)
+{
+    PendingCommand * pending             = reinterpret_cast<PendingCommand *>(context);
+    app::CommandHandler * commandHandler = pending->handle.Get();
+    if (commandHandler == nullptr)
+    {
+        ChipLogError(Zcl, "ContentAppCommandDelegate: command closed before the content app responded");
+    }
+    else
+    {
+        ChipLogProgress(Zcl, "ContentAppCommandDelegate::InvokeCommand got response %s", pending->response.c_str());
+        // return dummy value in case JSON is invalid
+        const char * response = isValidJson(pending->response.c_str()) ? pending->response.c_str() : kEmptyResponse;
+        if (!pending->delegate->FormatResponseData(*commandHandler, pending->path, response))
+        {
+            commandHandler->AddStatus(pending->path, chip::Protocols::InteractionModel::Status::Failure);
+        }
+    }
+    Platform::Delete(pending);
+}
+
+} // namespace
+
 void ContentAppCommandDelegate::InvokeCommand(CommandHandlerInterface::HandlerContext & handlerContext)
 {
     if (handlerContext.mRequestPath.mEndpointId >= FIXED_ENDPOINT_COUNT)
     {
-        DeviceLayer::StackUnlock unlock;
         TLV::TLVReader readerForJson;
         readerForJson.Init(handlerContext.mPayload);
 
@@ -93,10 +135,8 @@ void ContentAppCommandDelegate::InvokeCommand(CommandHandlerInterface::HandlerCo
             return;
         }
 
-        JNIEnv * env        = JniReferences::GetInstance().GetEnvForCurrentThread();
         Json::Value value   = json["value"];
         std::string payload = JsonToString(value);
-        UtfString jsonString(env, payload.c_str());
 
         if (!mContentAppEndpointManager.HasValidObjectRef())
         {
@@ -104,6 +144,15 @@ void ContentAppCommandDelegate::InvokeCommand(CommandHandlerInterface::HandlerCo
             return;
         }
 
+        if (EncodesResponses(handlerContext.mRequestPath.mClusterId) && SendCommandAsync(handlerContext, payload))
+        {
+            return;
+        }
+
+        DeviceLayer::StackUnlock unlock;
+        JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
+        UtfString jsonString(env, payload.c_str());
+
         jstring resp = static_cast<jstring>(env->CallObjectMethod(
             mContentAppEndpointManager.ObjectRef(), mSendCommandMethod, static_cast<jint>(handlerContext.mRequestPath.mEndpointId),
             static_cast<jlong>(handlerContext.mRequestPath.mClusterId), static_cast<jlong>(handlerContext.mRequestPath.mCommandId),
@@ -113,7 +162,7 @@ void ContentAppCommandDelegate::InvokeCommand(CommandHandlerInterface::HandlerCo
             ChipLogError(Zcl, "Java exception in ContentAppCommandDelegate::sendCommand");
             env->ExceptionDescribe();
             env->ExceptionClear();
-            FormatResponseData(handlerContext, "{\"value\":{}}");
+            FormatResponseData(handlerContext, kEmptyResponse);
         }
         else
         {
@@ -126,7 +175,7 @@ void ContentAppCommandDelegate::InvokeCommand(CommandHandlerInterface::HandlerCo
             else
             {
                 // return dummy value in case JSON is invalid
-                FormatResponseData(handlerContext, "{\"value\":{}}");
+                FormatResponseData(handlerContext, kEmptyResponse);
             }
         }
         env->DeleteLocalRef(resp);
@@ -216,14 +265,84 @@ Status ContentAppCommandDelegate::InvokeCommand(EndpointId epId, ClusterId clust
     }
 }
 
+bool ContentAppCommandDelegate::EncodesResponses(ClusterId clusterId)
+{
+    switch (clusterId)
+    {
+    case app::Clusters::ContentLauncher::Id:
+    case app::Clusters::TargetNavigator::Id:
+    case app::Clusters::MediaPlayback::Id:
+    case app::Clusters::AccountLogin::Id:
+        return true;
+    default:
+        return false;
+    }
+}
+
+bool ContentAppCommandDelegate::SendCommandAsync(CommandHandlerInterface::HandlerContext & handlerContext,
+                                                 const std::string & payload)
+{
+    VerifyOrReturnValue(mSendCommandAsyncMethod != nullptr, false);
+
+    JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
+    VerifyOrReturnValue(env != nullptr, false);
+
+    PendingCommand * pending = Platform::New<PendingCommand>(this, handlerContext.mCommandHandler, handlerContext.mRequestPath);
+    VerifyOrReturnValue(pending != nullptr, false);
+
+    jobject responder = env->NewObject(static_cast<jclass>(mResponderClass.ObjectRef()), mResponderConstructor,
+                                       static_cast<jlong>(reinterpret_cast<intptr_t>(pending)));
+    if (responder == nullptr)
+    {
+        ChipLogError(Zcl, "Failed to create ContentAppCommandResponder");
+        env->ExceptionClear();
+        Platform::Delete(pending);
+        return false;
+    }
+
+    // The handle keeps the command open, and RespondToPendingCommand() adds the response once the app responds.
+    handlerContext.SetCommandHandled();
+    handlerContext.mCommandHandler.FlushAcksRightAwayOnSlowCommand();
+
+    UtfString jsonString(env, payload.c_str());
+    {
+        DeviceLayer::StackUnlock unlock;
+        env->CallVoidMethod(mContentAppEndpointManager.ObjectRef(), mSendCommandAsyncMethod,
+                            static_cast<jint>(handlerContext.mRequestPath.mEndpointId),
+                            static_cast<jlong>(handlerContext.mRequestPath.mClusterId),
+                            static_cast<jlong>(handlerContext.mRequestPath.mCommandId), jsonString.jniValue(), responder);
+    }
+    if (env->ExceptionCheck())
+    {
+        ChipLogError(Zcl, "Java exception in ContentAppCommandDelegate::sendCommandAsync");
+        env->ExceptionDescribe();
+        env->ExceptionClear();
+        // The responder ignores this if the command was already responded to.
+        UtfString emptyResponse(env, kEmptyResponse);
+        env->CallVoidMethod(responder, mRespondMethod, emptyResponse.jniValue());
+        env->ExceptionClear();
+    }
+    env->DeleteLocalRef(responder);
+    return true;
+}
+
 void ContentAppCommandDelegate::FormatResponseData(CommandHandlerInterface::HandlerContext & handlerContext, const char * response)
 {
     handlerContext.SetCommandHandled();
+    if (!FormatResponseData(handlerContext.mCommandHandler, handlerContext.mRequestPath, response))
+    {
+        handlerContext.SetCommandNotHandled();
+    }
+}
+
+bool ContentAppCommandDelegate::FormatResponseData(app::CommandHandler & commandHandler, const app::ConcreteCommandPath & path,
+                                                   const char * response)
+{
     Json::Reader reader;
     Json::Value value;
     if (!reader.parse(response, value))
     {
-        return;
+        return true;
     }
 
     // handle errors from platform-app
@@ -232,26 +351,26 @@ void ContentAppCommandDelegate::FormatResponseData(CommandHandlerInterface::Hand
         value = value[FAILURE_KEY];
         if (!value[FAILURE_STATUS_KEY].empty() && value[FAILURE_STATUS_KEY].isUInt())
         {
-            handlerContext.mCommandHandler.AddStatus(
-                handlerContext.mRequestPath, static_cast<Protocols::InteractionModel::Status>(value[FAILURE_STATUS_KEY].asUInt()));
-            return;
+            commandHandler.AddStatus(
+                path, static_cast<Protocols::InteractionModel::Status>(value[FAILURE_STATUS_KEY].asUInt()));
+            return true;
         }
-        handlerContext.mCommandHandler.AddStatus(handlerContext.mRequestPath, chip::Protocols::InteractionModel::Status::Failure);
-        return;
+        commandHandler.AddStatus(path, chip::Protocols::InteractionModel::Status::Failure);
+        return true;
     }
 
-    switch (handlerContext.mRequestPath.mClusterId)
+    switch (path.mClusterId)
     {
     case app::Clusters::ContentLauncher::Id: {
         Status status;
         LaunchResponseType launchResponse = FormatContentLauncherResponse(value, status);
         if (status != chip::Protocols::InteractionModel::Status::Success)
         {
-            handlerContext.mCommandHandler.AddStatus(handlerContext.mRequestPath, status);
+            commandHandler.AddStatus(path, status);
         }
         else
         {
-            handlerContext.mCommandHandler.AddResponse(handlerContext.mRequestPath, launchResponse);
+            commandHandler.AddResponse(path, launchResponse);
         }
         break;
     }
@@ -261,11 +380,11 @@ void ContentAppCommandDelegate::FormatResponseData(CommandHandlerInterface::Hand
         NavigateTargetResponseType navigateTargetResponse = FormatNavigateTargetResponse(value, status);
         if (status != chip::Protocols::InteractionModel::Status::Success)
         {
-            handlerContext.mCommandHandler.AddStatus(handlerContext.mRequestPath, status);
+            commandHandler.AddStatus(path, status);
         }
         else
         {
-            handlerContext.mCommandHandler.AddResponse(handlerContext.mRequestPath, navigateTargetResponse);
+            commandHandler.AddResponse(path, navigateTargetResponse);
         }
         break;
     }
@@ -275,37 +394,37 @@ void ContentAppCommandDelegate::FormatResponseData(CommandHandlerInterface::Hand
         PlaybackResponseType playbackResponse = FormatMediaPlaybackResponse(value, status);
         if (status != chip::Protocols::InteractionModel::Status::Success)
         {
-            handlerContext.mCommandHandler.AddStatus(handlerContext.mRequestPath, status);
+            commandHandler.AddStatus(path, status);
         }
         else
         {
-            handlerContext.mCommandHandler.AddResponse(handlerContext.mRequestPath, playbackResponse);
+            commandHandler.AddResponse(path, playbackResponse);
         }
         break;
     }
 
     case app::Clusters::AccountLogin::Id: {
-        switch (handlerContext.mRequestPath.mCommandId)
+        switch (path.mCommandId)
         {
         case app::Clusters::AccountLogin::Commands::GetSetupPIN::Id: {
             Status status;
             GetSetupPINResponseType getSetupPINresponse = FormatGetSetupPINResponse(value, status);
             if (status != chip::Protocols::InteractionModel::Status::Success)
             {
-                handlerContext.mCommandHandler.AddStatus(handlerContext.mRequestPath, status);
+                commandHandler.AddStatus(path, status);
             }
             else
             {
-                handlerContext.mCommandHandler.AddResponse(handlerContext.mRequestPath, getSetupPINresponse);
+                commandHandler.AddResponse(path, getSetupPINresponse);
             }
             break;
         }
         case app::Clusters::AccountLogin::Commands::Login::Id: {
-            handlerContext.mCommandHandler.AddStatus(handlerContext.mRequestPath, FormatStatusResponse(value));
+            commandHandler.AddStatus(path, FormatStatusResponse(value));
             break;
         }
         case app::Clusters::AccountLogin::Commands::Logout::Id: {
-            handlerContext.mCommandHandler.AddStatus(handlerContext.mRequestPath, FormatStatusResponse(value));
+            commandHandler.AddStatus(path, FormatStatusResponse(value));
             break;
         }
         default:
@@ -314,8 +433,9 @@ void ContentAppCommandDelegate::FormatResponseData(CommandHandlerInterface::Hand
         break;
     }
     default:
-        handlerContext.SetCommandNotHandled();
+        return false;
     }
+    return true;
 }
 
 LaunchResponseType ContentAppCommandDelegate::FormatContentLauncherResponse(Json::Value value, Status & status)
@@ -422,3 +542,22 @@ Status ContentAppCommandDelegate::FormatStatusResponse(Json::Value value)
 
 } // namespace AppPlatform
 } // namespace chip
+
+#define JNI_METHOD(RETURN, METHOD_NAME)                                                                                            \
+    extern "C" JNIEXPORT RETURN JNICALL Java_com_matter_tv_server_tvapp_ContentAppCommandResponder_##METHOD_NAME
+
+JNI_METHOD(void, nativeRespond)(JNIEnv * env, jclass, jlong jPendingCommand, jstring jResponse)
+{
+    auto * pending = reinterpret_cast<chip::AppPlatform::PendingCommand *>(static_cast<intptr_t>(jPendingCommand));
+    chip::JniUtfString response(env, jResponse);
+    pending->response = (response.c_str() != nullptr) ? response.c_str() : "";
+
+    // Respond on the Matter thread, which may be waiting for the stack lock in another call of the app platform.
+    if (chip::DeviceLayer::PlatformMgr().ScheduleWork(chip::AppPlatform::RespondToPendingCommand,
+                                                      reinterpret_cast<intptr_t>(pending)) != CHIP_NO_ERROR)
+    {
+        ChipLogError(Zcl, "Failed to schedule the response of a content app command");
+        chip::DeviceLayer::StackLock lock;
+        chip::Platform::Delete(pending);
+    }
+}
@@ -78,6 +78,10 @@ public:
     PlaybackResponseType FormatMediaPlaybackResponse(Json::Value value, Status & status);
     Status FormatStatusResponse(Json::Value value);
 
+    // Adds the response of the content app to the command. Returns false if the responses of commands of the cluster are
+    // not encoded here.
+    bool FormatResponseData(app::CommandHandler & commandHandler, const app::ConcreteCommandPath & path, const char * response);
+
 private:
     void InitializeJNIObjects(jobject manager)
     {
@@ -98,12 +102,43 @@ private:
             ChipLogError(Zcl, "Failed to access ContentAppEndpointManager 'sendCommand' method");
             env->ExceptionClear();
         }
+
+        mSendCommandAsyncMethod = env->GetMethodID(ContentAppEndpointManagerClass, "sendCommandAsync",
+                                                   "(IJJLjava/lang/String;Lcom/matter/tv/server/tvapp/ContentAppCommandResponder;)V");
+        if (mSendCommandAsyncMethod == nullptr)
+        {
+            ChipLogError(Zcl, "Failed to access ContentAppEndpointManager 'sendCommandAsync' method");
+            env->ExceptionClear();
+        }
+
+        jclass responderClass;
+        VerifyOrReturn(JniReferences::GetInstance().GetLocalClassRef(env, "com/matter/tv/server/tvapp/ContentAppCommandResponder",
+                                                                     responderClass) == CHIP_NO_ERROR,
+                       ChipLogError(Zcl, "Failed to get ContentAppCommandResponder Java class"));
+        mResponderConstructor = env->GetMethodID(responderClass, "<init>", "(J)V");
+        mRespondMethod        = env->GetMethodID(responderClass, "respond", "(Ljava/lang/String;)V");
+        if (mResponderConstructor == nullptr || mRespondMethod == nullptr || mResponderClass.Init(responderClass) != CHIP_NO_ERROR)
+        {
+            ChipLogError(Zcl, "Failed to access ContentAppCommandResponder methods");
+            env->ExceptionClear();
+            mSendCommandAsyncMethod = nullptr;
+        }
+        env->DeleteLocalRef(responderClass);
     }
 
+    // Whether FormatResponseData() encodes the responses of commands of the cluster.
+    static bool EncodesResponses(ClusterId clusterId);
+
+    bool SendCommandAsync(CommandHandlerInterface::HandlerContext & handlerContext, const std::string & payload);
+
     void FormatResponseData(CommandHandlerInterface::HandlerContext & handlerContext, const char * response);
 
     chip::JniGlobalReference mContentAppEndpointManager;
-    jmethodID mSendCommandMethod = nullptr;
+    jmethodID mSendCommandMethod      = nullptr;
+    jmethodID mSendCommandAsyncMethod = nullptr;
+    chip::JniGlobalReference mResponderClass;
+    jmethodID mResponderConstructor = nullptr;
+    jmethodID mRespondMethod        = nullptr;
 };
 
 } // namespace AppPlatform
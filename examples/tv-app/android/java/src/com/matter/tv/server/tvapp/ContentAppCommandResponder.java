@@ -0,0 +1,51 @@
+/*
+ *   Copyright (c) 2026 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package com.matter.tv.server.tvapp;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sends the response to a command handed to {@link ContentAppEndpointManager#sendCommandAsync}. The
+ * command stays open until {@link #respond} is called, which must happen exactly once.
+ */
+public class ContentAppCommandResponder {
+
+  private final long pendingCommand;
+  private final AtomicBoolean responded = new AtomicBoolean();
+
+  // Created by the native command delegate, which owns the pending command until respond().
+  private ContentAppCommandResponder(long pendingCommand) {
+    this.pendingCommand = pendingCommand;
+  }
+
+  /**
+   * Responds to the command with the JSON response of the content app. May be called from any
+   * thread; calls after the first one are ignored.
+   */
+  public void respond(String response) {
+    if (responded.compareAndSet(false, true)) {
+      nativeRespond(pendingCommand, response);
+    }
+  }
+
+  private static native void nativeRespond(long pendingCommand, String response);
+
+  static {
+    System.loadLibrary("TvApp");
+  }
+}
@@ -4,5 +4,18 @@ public interface ContentAppEndpointManager {
 
   public String sendCommand(int endpointId, long clusterId, long commandId, String commandPayload);
 
+  /**
+   * Sends a command without blocking the caller. The response is passed to {@code responder} once
+   * the content app answers or the command fails.
+   */
+  public default void sendCommandAsync(
+      int endpointId,
+      long clusterId,
+      long commandId,
+      String commandPayload,
+      ContentAppCommandResponder responder) {
+    responder.respond(sendCommand(endpointId, clusterId, commandId, commandPayload));
+  }
+
   public String readAttribute(int endpointId, long clusterId, long attributeId);
 }
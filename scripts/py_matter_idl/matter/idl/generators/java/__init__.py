@@ -795,6 +795,15 @@ class JavaClassGenerator(__JavaCodeGenerator):
             }
         )
 
+        self.internal_render_one_output(
+            template_path="ClusterValueDecoder_java.jinja",
+            output_file_name="java/chip/devicecontroller/ClusterValueDecoder.java",
+            vars={
+                'idl': self.idl,
+                'clientClusters': clientClusters,
+            }
+        )
+
         self.internal_render_one_output(
             template_path="ClusterInfoMapping_java.jinja",
             output_file_name="java/chip/devicecontroller/ClusterInfoMapping.java",
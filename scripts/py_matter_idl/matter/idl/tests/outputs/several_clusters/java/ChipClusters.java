@@ -36,7 +36,12 @@ import java.util.Optional;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import static chip.devicecontroller.ChipTLVType.*;
+import matter.tlv.AnonymousTag;
+import matter.tlv.ContextSpecificTag;
+import matter.tlv.Tag;
+import matter.tlv.TlvParsingException;
+import matter.tlv.TlvReader;
+import matter.tlv.TlvWriter;
 
 public class ChipClusters {
 
@@ -127,10 +132,9 @@ public class ChipClusters {
     protected void writeAttribute(
         WriteAttributesCallbackImpl callback,
         long attributeId,
-        BaseTLVType value,
+        byte[] tlv,
         int timedRequestTimeoutMs) {
       WriteAttributesCallbackJni jniCallback = new WriteAttributesCallbackJni(callback);
-      byte[] tlv = encodeToTlv(value);
       AttributeWriteRequest writeRequest = AttributeWriteRequest.newInstance(endpointId, clusterId, attributeId, tlv);
       ChipInteractionClient.write(0, jniCallback.getCallbackHandle(), devicePtr, Arrays.asList(writeRequest), timedRequestTimeoutMs, timeoutMillis.orElse(0L).intValue());
     }
@@ -150,29 +154,15 @@ public class ChipClusters {
     protected void invoke(
         InvokeCallbackImpl callback,
         long commandId,
-        BaseTLVType value,
+        byte[] tlv,
         int timedRequestTimeoutMs) {
       InvokeCallbackJni jniCallback = new InvokeCallbackJni(callback);
-      byte[] tlv = encodeToTlv(value);
       InvokeElement element = InvokeElement.newInstance(endpointId, clusterId, commandId, tlv, null);
       ChipInteractionClient.invoke(0, jniCallback.getCallbackHandle(), devicePtr, element, timedRequestTimeoutMs, timeoutMillis.orElse(0L).intValue());
     }
 
-    private static native byte[] encodeToTlv(BaseTLVType value);
-
-    static native BaseTLVType decodeFromTlv(byte[] tlv);
-
     @Deprecated
     public void deleteCluster(long chipClusterPtr) {}
-    @SuppressWarnings("deprecation")
-    protected void finalize() throws Throwable {
-      super.finalize();
-
-      if (chipClusterPtr != 0) {
-        deleteCluster(chipClusterPtr);
-        chipClusterPtr = 0;
-      }
-    }
   }
 
   abstract static class ReportCallbackImpl implements ReportCallback, SubscriptionEstablishedCallback, ResubscriptionAttemptCallback {
@@ -283,15 +273,17 @@ public class ChipClusters {
         onResponse(null);
         return;
       }
-      BaseTLVType value = BaseChipCluster.decodeFromTlv(tlv);
-      if (value == null || value.type() != TLVType.Struct) {
+      TlvReader reader = new TlvReader(tlv);
+      // A response that is not the expected structure fails the command instead of throwing.
+      try {
+        reader.enterStructure(AnonymousTag.INSTANCE);
+        onResponse(reader);
+      } catch (TlvParsingException | IllegalArgumentException e) {
         callback.onError(new ChipClusterException(CHIP_ERROR_UNSUPPORTED_COMMAND));
-        return;
       }
-      onResponse((StructType)value);
     }
 
-    public abstract void onResponse(StructType value);
+    public abstract void onResponse(TlvReader reader);
   }
 
   public static class FirstCluster extends BaseChipCluster {
@@ -316,7 +308,7 @@ public class ChipClusters {
       readAttribute(new ReportCallbackImpl(callback, path) {
           @Override
           public void onSuccess(byte[] tlv) {
-            Integer value = ChipTLVValueDecoder.decodeAttributeValue(path, tlv);
+            Integer value = ClusterValueDecoder.decodeAttributeValue(clusterId, SOME_INTEGER_ATTRIBUTE_ID, tlv);
             callback.onSuccess(value);
           }
         }, SOME_INTEGER_ATTRIBUTE_ID, true);
@@ -327,8 +319,9 @@ public class ChipClusters {
     }
 
     public void writeSomeIntegerAttribute(DefaultClusterCallback callback, Integer value, int timedWriteTimeoutMs) {
-      BaseTLVType tlvValue = new UIntType(value);
-      writeAttribute(new WriteAttributesCallbackImpl(callback), SOME_INTEGER_ATTRIBUTE_ID, tlvValue, timedWriteTimeoutMs);
+      TlvWriter writer = new TlvWriter();
+      writer.putUnsigned(AnonymousTag.INSTANCE, value);
+      writeAttribute(new WriteAttributesCallbackImpl(callback), SOME_INTEGER_ATTRIBUTE_ID, writer.getEncoded(), timedWriteTimeoutMs);
     }
 
     public void subscribeSomeIntegerAttribute(
@@ -338,7 +331,7 @@ public class ChipClusters {
       subscribeAttribute(new ReportCallbackImpl(callback, path) {
           @Override
           public void onSuccess(byte[] tlv) {
-            Integer value = ChipTLVValueDecoder.decodeAttributeValue(path, tlv);
+            Integer value = ClusterValueDecoder.decodeAttributeValue(clusterId, SOME_INTEGER_ATTRIBUTE_ID, tlv);
             callback.onSuccess(value);
           }
         }, SOME_INTEGER_ATTRIBUTE_ID, minInterval, maxInterval);
@@ -377,7 +370,7 @@ public class ChipClusters {
       readAttribute(new ReportCallbackImpl(callback, path) {
           @Override
           public void onSuccess(byte[] tlv) {
-            List<ChipStructs.SecondClusterFabricDescriptorStruct> value = ChipTLVValueDecoder.decodeAttributeValue(path, tlv);
+            List<ChipStructs.SecondClusterFabricDescriptorStruct> value = ClusterValueDecoder.decodeAttributeValue(clusterId, FABRICS_ATTRIBUTE_ID, tlv);
             callback.onSuccess(value);
           }
         }, FABRICS_ATTRIBUTE_ID, isFabricFiltered);
@@ -390,7 +383,7 @@ public class ChipClusters {
       subscribeAttribute(new ReportCallbackImpl(callback, path) {
           @Override
           public void onSuccess(byte[] tlv) {
-            List<ChipStructs.SecondClusterFabricDescriptorStruct> value = ChipTLVValueDecoder.decodeAttributeValue(path, tlv);
+            List<ChipStructs.SecondClusterFabricDescriptorStruct> value = ClusterValueDecoder.decodeAttributeValue(clusterId, FABRICS_ATTRIBUTE_ID, tlv);
             callback.onSuccess(value);
           }
         }, FABRICS_ATTRIBUTE_ID, minInterval, maxInterval);
@@ -403,7 +396,7 @@ public class ChipClusters {
       readAttribute(new ReportCallbackImpl(callback, path) {
           @Override
           public void onSuccess(byte[] tlv) {
-            byte[] value = ChipTLVValueDecoder.decodeAttributeValue(path, tlv);
+            byte[] value = ClusterValueDecoder.decodeAttributeValue(clusterId, SOME_BYTES_ATTRIBUTE_ID, tlv);
             callback.onSuccess(value);
           }
         }, SOME_BYTES_ATTRIBUTE_ID, true);
@@ -416,7 +409,7 @@ public class ChipClusters {
       subscribeAttribute(new ReportCallbackImpl(callback, path) {
           @Override
           public void onSuccess(byte[] tlv) {
-            byte[] value = ChipTLVValueDecoder.decodeAttributeValue(path, tlv);
+            byte[] value = ClusterValueDecoder.decodeAttributeValue(clusterId, SOME_BYTES_ATTRIBUTE_ID, tlv);
             callback.onSuccess(value);
           }
         }, SOME_BYTES_ATTRIBUTE_ID, minInterval, maxInterval);
@@ -446,7 +439,7 @@ public class ChipClusters {
       readAttribute(new ReportCallbackImpl(callback, path) {
           @Override
           public void onSuccess(byte[] tlv) {
-            Integer value = ChipTLVValueDecoder.decodeAttributeValue(path, tlv);
+            Integer value = ClusterValueDecoder.decodeAttributeValue(clusterId, SOME_ENUM_ATTRIBUTE_ID, tlv);
             callback.onSuccess(value);
           }
         }, SOME_ENUM_ATTRIBUTE_ID, true);
@@ -457,8 +450,9 @@ public class ChipClusters {
     }
 
     public void writeSomeEnumAttribute(DefaultClusterCallback callback, Integer value, int timedWriteTimeoutMs) {
-      BaseTLVType tlvValue = new UIntType(value);
-      writeAttribute(new WriteAttributesCallbackImpl(callback), SOME_ENUM_ATTRIBUTE_ID, tlvValue, timedWriteTimeoutMs);
+      TlvWriter writer = new TlvWriter();
+      writer.putUnsigned(AnonymousTag.INSTANCE, value);
+      writeAttribute(new WriteAttributesCallbackImpl(callback), SOME_ENUM_ATTRIBUTE_ID, writer.getEncoded(), timedWriteTimeoutMs);
     }
 
     public void subscribeSomeEnumAttribute(
@@ -468,7 +462,7 @@ public class ChipClusters {
       subscribeAttribute(new ReportCallbackImpl(callback, path) {
           @Override
           public void onSuccess(byte[] tlv) {
-            Integer value = ChipTLVValueDecoder.decodeAttributeValue(path, tlv);
+            Integer value = ClusterValueDecoder.decodeAttributeValue(clusterId, SOME_ENUM_ATTRIBUTE_ID, tlv);
             callback.onSuccess(value);
           }
         }, SOME_ENUM_ATTRIBUTE_ID, minInterval, maxInterval);
@@ -481,7 +475,7 @@ public class ChipClusters {
       readAttribute(new ReportCallbackImpl(callback, path) {
           @Override
           public void onSuccess(byte[] tlv) {
-            Integer value = ChipTLVValueDecoder.decodeAttributeValue(path, tlv);
+            Integer value = ClusterValueDecoder.decodeAttributeValue(clusterId, OPTIONS_ATTRIBUTE_ID, tlv);
             callback.onSuccess(value);
           }
         }, OPTIONS_ATTRIBUTE_ID, true);
@@ -492,8 +486,9 @@ public class ChipClusters {
     }
 
     public void writeOptionsAttribute(DefaultClusterCallback callback, Integer value, int timedWriteTimeoutMs) {
-      BaseTLVType tlvValue = new UIntType(value);
-      writeAttribute(new WriteAttributesCallbackImpl(callback), OPTIONS_ATTRIBUTE_ID, tlvValue, timedWriteTimeoutMs);
+      TlvWriter writer = new TlvWriter();
+      writer.putUnsigned(AnonymousTag.INSTANCE, value);
+      writeAttribute(new WriteAttributesCallbackImpl(callback), OPTIONS_ATTRIBUTE_ID, writer.getEncoded(), timedWriteTimeoutMs);
     }
 
     public void subscribeOptionsAttribute(
@@ -503,7 +498,7 @@ public class ChipClusters {
       subscribeAttribute(new ReportCallbackImpl(callback, path) {
           @Override
           public void onSuccess(byte[] tlv) {
-            Integer value = ChipTLVValueDecoder.decodeAttributeValue(path, tlv);
+            Integer value = ClusterValueDecoder.decodeAttributeValue(clusterId, OPTIONS_ATTRIBUTE_ID, tlv);
             callback.onSuccess(value);
           }
         }, OPTIONS_ATTRIBUTE_ID, minInterval, maxInterval);
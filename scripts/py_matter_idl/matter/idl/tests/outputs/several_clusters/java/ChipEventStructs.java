@@ -20,8 +20,11 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Optional;
-
-import static chip.devicecontroller.ChipTLVType.*;
+import matter.tlv.AnonymousTag;
+import matter.tlv.ContextSpecificTag;
+import matter.tlv.Tag;
+import matter.tlv.TlvReader;
+import matter.tlv.TlvWriter;
 
 public class ChipEventStructs {
 }
@@ -20,8 +20,11 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Optional;
-
-import static chip.devicecontroller.ChipTLVType.*;
+import matter.tlv.AnonymousTag;
+import matter.tlv.ContextSpecificTag;
+import matter.tlv.Tag;
+import matter.tlv.TlvReader;
+import matter.tlv.TlvWriter;
 
 public class ChipStructs {
 public static class SecondClusterFabricDescriptorStruct {
@@ -31,12 +34,12 @@ public static class SecondClusterFabricDescriptorStruct {
   public Long nodeID;
   public String label;
   public Integer fabricIndex;
-  private static final long ROOT_PUBLIC_KEY_ID = 1L;
-  private static final long VENDOR_ID_ID = 2L;
-  private static final long FABRIC_ID_ID = 3L;
-  private static final long NODE_ID_ID = 4L;
-  private static final long LABEL_ID = 5L;
-  private static final long FABRIC_INDEX_ID = 254L;
+  private static final Tag ROOT_PUBLIC_KEY_TAG = new ContextSpecificTag(1);
+  private static final Tag VENDOR_ID_TAG = new ContextSpecificTag(2);
+  private static final Tag FABRIC_ID_TAG = new ContextSpecificTag(3);
+  private static final Tag NODE_ID_TAG = new ContextSpecificTag(4);
+  private static final Tag LABEL_TAG = new ContextSpecificTag(5);
+  private static final Tag FABRIC_INDEX_TAG = new ContextSpecificTag(254);
 
   public SecondClusterFabricDescriptorStruct(
     byte[] rootPublicKey,
@@ -54,61 +57,45 @@ public static class SecondClusterFabricDescriptorStruct {
     this.fabricIndex = fabricIndex;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ROOT_PUBLIC_KEY_ID, new ByteArrayType(rootPublicKey)));
-    values.add(new StructElement(VENDOR_ID_ID, new UIntType(vendorID)));
-    values.add(new StructElement(FABRIC_ID_ID, new UIntType(fabricID)));
-    values.add(new StructElement(NODE_ID_ID, new UIntType(nodeID)));
-    values.add(new StructElement(LABEL_ID, new StringType(label)));
-    values.add(new StructElement(FABRIC_INDEX_ID, new UIntType(fabricIndex)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.put(ROOT_PUBLIC_KEY_TAG, rootPublicKey);
+    writer.putUnsigned(VENDOR_ID_TAG, vendorID);
+    writer.putUnsigned(FABRIC_ID_TAG, fabricID);
+    writer.putUnsigned(NODE_ID_TAG, nodeID);
+    writer.put(LABEL_TAG, label);
+    writer.putUnsigned(FABRIC_INDEX_TAG, fabricIndex);
+    writer.endStructure();
   }
 
-  public static SecondClusterFabricDescriptorStruct decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static SecondClusterFabricDescriptorStruct decodeTlv(Tag tlvTag, TlvReader reader) {
     byte[] rootPublicKey = null;
     Integer vendorID = null;
     Long fabricID = null;
     Long nodeID = null;
     String label = null;
     Integer fabricIndex = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ROOT_PUBLIC_KEY_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.ByteArray) {
-          ByteArrayType castingValue = element.value(ByteArrayType.class);
-          rootPublicKey = castingValue.value(byte[].class);
-        }
-      } else if (element.contextTagNum() == VENDOR_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          vendorID = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == FABRIC_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          fabricID = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == NODE_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          nodeID = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == LABEL_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.String) {
-          StringType castingValue = element.value(StringType.class);
-          label = castingValue.value(String.class);
-        }
-      } else if (element.contextTagNum() == FABRIC_INDEX_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          fabricIndex = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ROOT_PUBLIC_KEY_TAG)) {
+        rootPublicKey = reader.getByteString(ROOT_PUBLIC_KEY_TAG);
+      } else if (reader.isNextTag(VENDOR_ID_TAG)) {
+        vendorID = (int) reader.getUnsigned(VENDOR_ID_TAG);
+      } else if (reader.isNextTag(FABRIC_ID_TAG)) {
+        fabricID = reader.getUnsigned(FABRIC_ID_TAG);
+      } else if (reader.isNextTag(NODE_ID_TAG)) {
+        nodeID = reader.getUnsigned(NODE_ID_TAG);
+      } else if (reader.isNextTag(LABEL_TAG)) {
+        label = reader.getUtf8String(LABEL_TAG);
+      } else if (reader.isNextTag(FABRIC_INDEX_TAG)) {
+        fabricIndex = (int) reader.getUnsigned(FABRIC_INDEX_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new SecondClusterFabricDescriptorStruct(
       rootPublicKey,
       vendorID,
@@ -25,21 +25,49 @@ public class ClusterIDMapping {
         long getAttributeID(String name) throws IllegalArgumentException;
         long getEventID(String name) throws IllegalArgumentException;
         long getCommandID(String name) throws IllegalArgumentException;
+        // Same as the get*Name() methods, but returning null instead of throwing for unknown IDs.
+        // The generated clusters override these to look the name up without throwing.
+        default String findAttributeName(long id) {
+            try {
+                return getAttributeName(id);
+            } catch (NoSuchFieldError e) {
+                return null;
+            }
+        }
+        default String findEventName(long id) {
+            try {
+                return getEventName(id);
+            } catch (NoSuchFieldError e) {
+                return null;
+            }
+        }
+        default String findCommandName(long id) {
+            try {
+                return getCommandName(id);
+            } catch (NoSuchFieldError e) {
+                return null;
+            }
+        }
     }
 
     public static BaseCluster getCluster(long clusterId) {
-        if (clusterId == First.ID) {
-            return new First();
+        if ((clusterId >>> 32) != 0) {
+            return null;
         }
-        if (clusterId == Second.ID) {
-            return new Second();
+        switch ((int) clusterId) {
+            case (int) First.ID:
+                return First.INSTANCE;
+            case (int) Second.ID:
+                return Second.INSTANCE;
+            case (int) Third.ID:
+                return Third.INSTANCE;
+            default:
+                return null;
         }
-        if (clusterId == Third.ID) {
-            return new Third();
-        }return null;
     }
     public static class First implements BaseCluster {
         public static final long ID = 1L;
+        public static final First INSTANCE = new First();
         public long getID() {
             return ID;
         }
@@ -56,12 +84,23 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 1L:
+                        return SomeInteger;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -76,12 +115,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -96,12 +144,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -132,9 +189,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class Second implements BaseCluster {
         public static final long ID = 2L;
+        public static final Second INSTANCE = new Second();
         public long getID() {
             return ID;
         }
@@ -152,12 +228,25 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Fabrics;
+                    case (int) 123L:
+                        return SomeBytes;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -172,12 +261,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -192,12 +290,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -228,9 +335,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class Third implements BaseCluster {
         public static final long ID = 3L;
+        public static final Third INSTANCE = new Third();
         public long getID() {
             return ID;
         }
@@ -248,12 +374,25 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 10L:
+                        return SomeEnum;
+                    case (int) 20L:
+                        return Options;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -268,12 +407,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -288,12 +436,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -324,4 +481,22 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }}
@@ -235,16 +235,43 @@ public class ClusterInfoMapping {
   }
 
 
+  /**
+   * Returns a new map of the clusters by name, with new {@link ClusterInfo} instances that the
+   * caller may modify. The commands, read and write interactions of a cluster are only created the
+   * first time its {@link ClusterInfo#getCommands()} is called.
+   */
   public Map<String, ClusterInfo> getClusterMap() {
-    Map<String, ClusterInfo> clusterMap = initializeClusterMap();
-    Map<String, Map<String, InteractionInfo>> commandMap = getCommandMap();
-    combineCommand(clusterMap, commandMap);
-    Map<String, Map<String, InteractionInfo>> readAttributeMap = new ClusterReadMapping().getReadAttributeMap();
-    combineCommand(clusterMap, readAttributeMap);
-    Map<String, Map<String, InteractionInfo>> writeAttributeMap = new ClusterWriteMapping().getWriteAttributeMap();
-    combineCommand(clusterMap, writeAttributeMap);
+    Map<String, ClusterInfo> clusterMap = new HashMap<>();
+    clusterMap.put("first", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.FirstCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getFirstCommandMap(),
+        ClusterReadMapping.readFirstInteractionInfo(),
+        ClusterWriteMapping.writeFirstInteractionInfo())));
+    clusterMap.put("second", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.SecondCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getSecondCommandMap(),
+        ClusterReadMapping.readSecondInteractionInfo(),
+        ClusterWriteMapping.writeSecondInteractionInfo())));
+    clusterMap.put("third", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ThirdCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getThirdCommandMap(),
+        ClusterReadMapping.readThirdInteractionInfo(),
+        ClusterWriteMapping.writeThirdInteractionInfo())));
     return clusterMap;
- }
+  }
+
+  private static Map<String, InteractionInfo> combineInteractionInfo(
+      Map<String, InteractionInfo> commands,
+      Map<String, InteractionInfo> readAttributes,
+      Map<String, InteractionInfo> writeAttributes) {
+    Map<String, InteractionInfo> interactionInfo = new LinkedHashMap<>(commands);
+    interactionInfo.putAll(readAttributes);
+    interactionInfo.putAll(writeAttributes);
+    return interactionInfo;
+  }
 
   public Map<String, ClusterInfo> initializeClusterMap() {
     Map<String, ClusterInfo> clusterMap = new HashMap<>();
@@ -270,22 +297,32 @@ public class ClusterInfoMapping {
     destination.get("third").combineCommands(source.get("third"));
   }
 
- @SuppressWarnings("unchecked")
   public Map<String, Map<String, InteractionInfo>> getCommandMap() {
     Map<String, Map<String, InteractionInfo>> commandMap = new HashMap<>();
+    commandMap.put("first", getFirstCommandMap());
+    commandMap.put("second", getSecondCommandMap());
+    commandMap.put("third", getThirdCommandMap());
+    return commandMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getFirstCommandMap() {
     Map<String, InteractionInfo> firstClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("first", firstClusterInteractionInfoMap);
+    return firstClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getSecondCommandMap() {
     Map<String, InteractionInfo> secondClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("second", secondClusterInteractionInfoMap);
+    return secondClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getThirdCommandMap() {
     Map<String, InteractionInfo> thirdClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("third", thirdClusterInteractionInfoMap);
-
-    return commandMap;
+    return thirdClusterInteractionInfoMap;
   }
 }
@@ -25,7 +25,7 @@ import java.util.Map;
 public class ClusterReadMapping {
 
 
-    private static Map<String, InteractionInfo> readFirstInteractionInfo() {
+    static Map<String, InteractionInfo> readFirstInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readFirstSomeIntegerCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readFirstSomeIntegerAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -40,7 +40,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readSecondInteractionInfo() {
+    static Map<String, InteractionInfo> readSecondInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readSecondFabricsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readSecondFabricsAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -66,7 +66,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readThirdInteractionInfo() {
+    static Map<String, InteractionInfo> readThirdInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readThirdSomeEnumCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readThirdSomeEnumAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -92,13 +92,12 @@ public class ClusterReadMapping {
      
        return result;
     }
-    @SuppressWarnings("serial")
     public Map<String, Map<String, InteractionInfo>> getReadAttributeMap() {
-
-        return new HashMap<String, Map<String, InteractionInfo>>(){{
-            put("first", readFirstInteractionInfo());
-            put("second", readSecondInteractionInfo());
-            put("third", readThirdInteractionInfo());}};
+        Map<String, Map<String, InteractionInfo>> readAttributeMap = new HashMap<>();
+        readAttributeMap.put("first", readFirstInteractionInfo());
+        readAttributeMap.put("second", readSecondInteractionInfo());
+        readAttributeMap.put("third", readThirdInteractionInfo());
+        return readAttributeMap;
     }
 }
 
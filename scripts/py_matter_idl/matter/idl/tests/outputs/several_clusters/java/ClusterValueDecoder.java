@@ -0,0 +1,109 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package chip.devicecontroller;
+
+import javax.annotation.Nullable;
+import matter.tlv.AnonymousTag;
+import matter.tlv.TlvParsingException;
+import matter.tlv.TlvReader;
+
+/**
+ * Decodes attribute and event values into the types used by ChipClusters, ChipStructs and
+ * ChipEventStructs, without going through JNI. The decoded values are the same as the ones returned
+ * by ChipTLVValueDecoder.
+ */
+public final class ClusterValueDecoder {
+  private ClusterValueDecoder() {}
+
+
+  /**
+   * Decodes the TLV of an attribute value. Returns null if the attribute is unknown or its value
+   * cannot be decoded.
+   */
+  @SuppressWarnings("unchecked")
+  public static @Nullable <T> T decodeAttributeValue(long clusterId, long attributeId, byte[] tlv) {
+    if ((clusterId >>> 32) != 0 || (attributeId >>> 32) != 0) {
+      return null;
+    }
+    TlvReader reader = new TlvReader(tlv);
+    try {
+      switch ((int) clusterId) {
+        case (int) 1L:
+          return (T) decodeFirstAttributeValue((int) attributeId, reader);
+        case (int) 2L:
+          return (T) decodeSecondAttributeValue((int) attributeId, reader);
+        case (int) 3L:
+          return (T) decodeThirdAttributeValue((int) attributeId, reader);
+        default:
+          return null;
+      }
+    } catch (TlvParsingException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Decodes the TLV of an event value. Returns null if the event is unknown or its value cannot be
+   * decoded.
+   */
+  @SuppressWarnings("unchecked")
+  public static @Nullable <T> T decodeEventValue(long clusterId, long eventId, byte[] tlv) {
+    if ((clusterId >>> 32) != 0 || (eventId >>> 32) != 0) {
+      return null;
+    }
+    TlvReader reader = new TlvReader(tlv);
+    try {
+      switch ((int) clusterId) {
+        default:
+          return null;
+      }
+    } catch (TlvParsingException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static @Nullable Object decodeFirstAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeSecondAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.SecondClusterFabricDescriptorStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 123L:
+        return reader.getByteString(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeThirdAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 20L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+}
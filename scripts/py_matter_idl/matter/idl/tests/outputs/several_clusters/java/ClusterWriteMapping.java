@@ -26,7 +26,14 @@ import java.util.Map;
 public class ClusterWriteMapping {
   public Map<String, Map<String, InteractionInfo>> getWriteAttributeMap() {
     Map<String, Map<String, InteractionInfo>> writeAttributeMap = new HashMap<>();
-    Map<String, InteractionInfo> writeFirstInteractionInfo = new LinkedHashMap<>();
+    writeAttributeMap.put("first", writeFirstInteractionInfo());
+    writeAttributeMap.put("second", writeSecondInteractionInfo());
+    writeAttributeMap.put("third", writeThirdInteractionInfo());
+    return writeAttributeMap;
+  }
+
+  static Map<String, InteractionInfo> writeFirstInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeFirstSomeIntegerCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo firstsomeIntegerCommandParameterInfo =
         new CommandParameterInfo(
@@ -48,11 +55,17 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeFirstSomeIntegerCommandParams
     );
-    writeFirstInteractionInfo.put("writeSomeIntegerAttribute", writeFirstSomeIntegerAttributeInteractionInfo);
-    writeAttributeMap.put("first", writeFirstInteractionInfo);
-    Map<String, InteractionInfo> writeSecondInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("second", writeSecondInteractionInfo);
-    Map<String, InteractionInfo> writeThirdInteractionInfo = new LinkedHashMap<>();
+    result.put("writeSomeIntegerAttribute", writeFirstSomeIntegerAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeSecondInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeThirdInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeThirdSomeEnumCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thirdsomeEnumCommandParameterInfo =
         new CommandParameterInfo(
@@ -74,7 +87,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThirdSomeEnumCommandParams
     );
-    writeThirdInteractionInfo.put("writeSomeEnumAttribute", writeThirdSomeEnumAttributeInteractionInfo);
+    result.put("writeSomeEnumAttribute", writeThirdSomeEnumAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThirdOptionsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thirdoptionsCommandParameterInfo =
         new CommandParameterInfo(
@@ -96,7 +109,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThirdOptionsCommandParams
     );
-    writeThirdInteractionInfo.put("writeOptionsAttribute", writeThirdOptionsAttributeInteractionInfo);
-    writeAttributeMap.put("third", writeThirdInteractionInfo);return writeAttributeMap;
+    result.put("writeOptionsAttribute", writeThirdOptionsAttributeInteractionInfo);
+    return result;
   }
 }
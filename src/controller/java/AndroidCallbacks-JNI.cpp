@@ -24,6 +24,9 @@
 #define JNI_METHOD(RETURN, CLASS_NAME, METHOD_NAME)                                                                                \
     extern "C" JNIEXPORT RETURN JNICALL Java_chip_devicecontroller_##CLASS_NAME##_##METHOD_NAME
 
+#define JNI_MODEL_METHOD(RETURN, CLASS_NAME, METHOD_NAME)                                                                          \
+    extern "C" JNIEXPORT RETURN JNICALL Java_chip_devicecontroller_model_##CLASS_NAME##_##METHOD_NAME
+
 using namespace chip::Controller;
 
 JNI_METHOD(jlong, GetConnectedDeviceCallbackJni, newCallback)(JNIEnv * env, jobject self, jobject callback)
@@ -37,15 +40,33 @@ JNI_METHOD(void, GetConnectedDeviceCallbackJni, deleteCallback)(JNIEnv * env, jo
 }
 
 JNI_METHOD(jlong, ReportCallbackJni, newCallback)
-(JNIEnv * env, jobject self, jobject subscriptionEstablishedCallbackJava, jobject resubscriptionAttemptCallbackJava)
+(JNIEnv * env, jobject self, jobject subscriptionEstablishedCallbackJava, jobject resubscriptionAttemptCallbackJava,
+ jboolean decodeLazily, jboolean streamElements)
 {
     return newReportCallback(env, self, subscriptionEstablishedCallbackJava, resubscriptionAttemptCallbackJava,
-                             "()Lchip/devicecontroller/model/NodeState;");
+                             "()Lchip/devicecontroller/model/NodeState;", decodeLazily == JNI_TRUE, streamElements == JNI_TRUE);
+}
+
+JNI_METHOD(void, ReportCallbackJni, deleteCallback)(JNIEnv * env, jclass clazz, jlong callbackHandle)
+{
+    deleteReportCallback(env, callbackHandle);
+}
+
+JNI_MODEL_METHOD(jobject, ReportValueDecoder, decodeAttributeValue)
+(JNIEnv * env, jclass clazz, jint endpointId, jlong clusterId, jlong attributeId, jbyteArray tlv)
+{
+    return decodeReportAttributeValue(env, endpointId, clusterId, attributeId, tlv);
+}
+
+JNI_MODEL_METHOD(jobject, ReportValueDecoder, decodeEventValue)
+(JNIEnv * env, jclass clazz, jint endpointId, jlong clusterId, jlong eventId, jbyteArray tlv)
+{
+    return decodeReportEventValue(env, endpointId, clusterId, eventId, tlv);
 }
 
-JNI_METHOD(void, ReportCallbackJni, deleteCallback)(JNIEnv * env, jobject self, jlong callbackHandle)
+JNI_MODEL_METHOD(jstring, ReportValueDecoder, convertToJson)(JNIEnv * env, jclass clazz, jlong id, jbyteArray tlv)
 {
-    deleteReportCallback(env, self, callbackHandle);
+    return convertReportTlvToJson(env, id, tlv);
 }
 
 JNI_METHOD(jlong, WriteAttributesCallbackJni, newCallback)
@@ -54,9 +75,9 @@ JNI_METHOD(jlong, WriteAttributesCallbackJni, newCallback)
     return newWriteAttributesCallback(env, self);
 }
 
-JNI_METHOD(void, WriteAttributesCallbackJni, deleteCallback)(JNIEnv * env, jobject self, jlong callbackHandle)
+JNI_METHOD(void, WriteAttributesCallbackJni, deleteCallback)(JNIEnv * env, jclass clazz, jlong callbackHandle)
 {
-    deleteWriteAttributesCallback(env, self, callbackHandle);
+    deleteWriteAttributesCallback(env, callbackHandle);
 }
 
 JNI_METHOD(jlong, InvokeCallbackJni, newCallback)
@@ -65,9 +86,9 @@ JNI_METHOD(jlong, InvokeCallbackJni, newCallback)
     return newInvokeCallback(env, self);
 }
 
-JNI_METHOD(void, InvokeCallbackJni, deleteCallback)(JNIEnv * env, jobject self, jlong callbackHandle)
+JNI_METHOD(void, InvokeCallbackJni, deleteCallback)(JNIEnv * env, jclass clazz, jlong callbackHandle)
 {
-    deleteInvokeCallback(env, self, callbackHandle);
+    deleteInvokeCallback(env, callbackHandle);
 }
 
 JNI_METHOD(jlong, ExtendableInvokeCallbackJni, newCallback)
@@ -76,7 +97,7 @@ JNI_METHOD(jlong, ExtendableInvokeCallbackJni, newCallback)
     return newExtendableInvokeCallback(env, self);
 }
 
-JNI_METHOD(void, ExtendableInvokeCallbackJni, deleteCallback)(JNIEnv * env, jobject self, jlong callbackHandle)
+JNI_METHOD(void, ExtendableInvokeCallbackJni, deleteCallback)(JNIEnv * env, jclass clazz, jlong callbackHandle)
 {
-    deleteExtendableInvokeCallback(env, self, callbackHandle);
+    deleteExtendableInvokeCallback(env, callbackHandle);
 }
@@ -41,6 +41,8 @@ static const int MILLIS_SINCE_BOOT  = 0;
 static const int MILLIS_SINCE_EPOCH = 1;
 // Add the bytes for attribute tag(1:control + 8:tag + 8:length) and structure(1:struct + 1:close container)
 static const int EXTRA_SPACE_FOR_ATTRIBUTE_TAG = 19;
+// Data version passed to a streaming Java callback for attribute data reported without one.
+static const jlong NO_DATA_VERSION = -1;
 
 jobject DecodeGeneralTLVValue(JNIEnv * env, TLV::TLVReader & readerForGeneralValueObject, CHIP_ERROR & err);
 
@@ -148,9 +150,10 @@ jobject GetNodeStateObj(JNIEnv * env, const char * nodeStateClassSignature, jobj
 }
 
 ReportCallback::ReportCallback(jobject wrapperCallback, jobject subscriptionEstablishedCallback,
-                               jobject resubscriptionAttemptCallback, const char * nodeStateClassSignature) :
+                               jobject resubscriptionAttemptCallback, const char * nodeStateClassSignature, bool decodeLazily,
+                               bool streamElements) :
     mClusterCacheAdapter(*this, Optional<EventNumber>::Missing(), false /*cacheData*/),
-    mNodeStateClassSignature(nodeStateClassSignature)
+    mNodeStateClassSignature(nodeStateClassSignature), mDecodeLazily(decodeLazily), mStreamElements(streamElements)
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     VerifyOrReturn(env != nullptr, ChipLogError(Controller, "Could not get JNIEnv for current thread"));
@@ -168,6 +171,22 @@ ReportCallback::ReportCallback(jobject wrapperCallback, jobject subscriptionEsta
         VerifyOrReturn(mResubscriptionAttemptCallbackRef.Init(resubscriptionAttemptCallback) == CHIP_NO_ERROR,
                        ChipLogError(Controller, "Could not init mResubscriptionAttemptCallbackRef in %s", __func__));
     }
+
+    if (mStreamElements)
+    {
+        // Streamed elements can arrive at a high rate, so their methods are not looked up for each of them.
+        CHIP_ERROR err =
+            JniReferences::GetInstance().FindMethod(env, wrapperCallback, "onAttributeData", "(IJJJ[B)V", &mOnAttributeDataMethod);
+        VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Controller, "Could not find onAttributeData method"));
+        err = JniReferences::GetInstance().FindMethod(env, wrapperCallback, "onAttributeStatus", "(IJJILjava/lang/Integer;)V",
+                                                      &mOnAttributeStatusMethod);
+        VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Controller, "Could not find onAttributeStatus method"));
+        err = JniReferences::GetInstance().FindMethod(env, wrapperCallback, "onEventData", "(IJJJIIJ[B)V", &mOnEventDataMethod);
+        VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Controller, "Could not find onEventData method"));
+        err = JniReferences::GetInstance().FindMethod(env, wrapperCallback, "onEventStatus", "(IJJILjava/lang/Integer;)V",
+                                                      &mOnEventStatusMethod);
+        VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Controller, "Could not find onEventStatus method"));
+    }
 }
 
 ReportCallback::~ReportCallback()
@@ -269,6 +288,49 @@ CHIP_ERROR ConvertReportTlvToJson(const uint32_t id, TLV::TLVReader & data, std:
     return TlvToJson(readerForJson, json);
 }
 
+// Decode the reported value of an attribute to a Java object, with a generic decoding for attributes without generated decoders.
+jobject DecodeReportAttributeValue(JNIEnv * env, const app::ConcreteAttributePath & aPath, const TLV::TLVReader & aData,
+                                   CHIP_ERROR & err)
+{
+    TLV::TLVReader readerForJavaObject;
+    readerForJavaObject.Init(aData);
+#ifdef USE_JAVA_TLV_ENCODE_DECODE
+    jobject value = DecodeAttributeValue(aPath, readerForJavaObject, &err);
+    // If we don't know this attribute, suppress it.
+    if (err == CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH_IB)
+    {
+        TLV::TLVReader readerForGeneralValueObject;
+        readerForGeneralValueObject.Init(aData);
+        value = DecodeGeneralTLVValue(env, readerForGeneralValueObject, err);
+        err   = CHIP_NO_ERROR;
+    }
+    return value;
+#else
+    return DecodeGeneralTLVValue(env, readerForJavaObject, err);
+#endif
+}
+
+// Decode the reported value of an event to a Java object, with a generic decoding for events without generated decoders.
+jobject DecodeReportEventValue(JNIEnv * env, const app::ConcreteEventPath & aPath, const TLV::TLVReader & aData, CHIP_ERROR & err)
+{
+    TLV::TLVReader readerForJavaObject;
+    readerForJavaObject.Init(aData);
+#ifdef USE_JAVA_TLV_ENCODE_DECODE
+    jobject value = DecodeEventValue(aPath, readerForJavaObject, &err);
+    // If we don't know this event, just skip it.
+    if (err == CHIP_ERROR_IM_MALFORMED_EVENT_PATH_IB)
+    {
+        TLV::TLVReader readerForGeneralValueObject;
+        readerForGeneralValueObject.Init(aData);
+        value = DecodeGeneralTLVValue(env, readerForGeneralValueObject, err);
+        err   = CHIP_NO_ERROR;
+    }
+    return value;
+#else
+    return DecodeGeneralTLVValue(env, readerForJavaObject, err);
+#endif
+}
+
 void ReportCallback::OnAttributeData(const app::ConcreteDataAttributePath & aPath, TLV::TLVReader * apData,
                                      const app::StatusIB & aStatus)
 {
@@ -283,15 +345,19 @@ void ReportCallback::OnAttributeData(const app::ConcreteDataAttributePath & aPat
                    ChipLogError(Controller, "mReportCallbackRef is not valid in %s", __func__));
     jobject wrapperCallback = mWrapperCallbackRef.ObjectRef();
 
-    jobject nodeState = GetNodeStateObj(env, mNodeStateClassSignature, wrapperCallback);
+    // When streaming, every element goes straight to the wrapper callback instead of being added to a NodeState.
+    jobject nodeState = mStreamElements ? wrapperCallback : GetNodeStateObj(env, mNodeStateClassSignature, wrapperCallback);
 
     {
         // Add Attribute Status to wrapperCallback
-        jmethodID addAttributeStatusMethod = nullptr;
-        err = JniReferences::GetInstance().FindMethod(env, nodeState, "addAttributeStatus", "(IJJILjava/lang/Integer;)V",
-                                                      &addAttributeStatusMethod);
+        jmethodID addAttributeStatusMethod = mOnAttributeStatusMethod;
+        if (!mStreamElements)
+        {
+            err = JniReferences::GetInstance().FindMethod(env, nodeState, "addAttributeStatus", "(IJJILjava/lang/Integer;)V",
+                                                          &addAttributeStatusMethod);
+        }
         VerifyOrReturn(
-            err == CHIP_NO_ERROR,
+            err == CHIP_NO_ERROR && addAttributeStatusMethod != nullptr,
             ChipLogError(Controller, "Could not find addAttributeStatus method with error %" CHIP_ERROR_FORMAT, err.Format()));
 
         jobject jClusterState = nullptr;
@@ -317,27 +383,6 @@ void ReportCallback::OnAttributeData(const app::ConcreteDataAttributePath & aPat
     TLV::TLVReader readerForJavaTLV;
     readerForJavaTLV.Init(*apData);
 
-    jobject value = nullptr;
-    TLV::TLVReader readerForJavaObject;
-    readerForJavaObject.Init(*apData);
-#ifdef USE_JAVA_TLV_ENCODE_DECODE
-    value = DecodeAttributeValue(aPath, readerForJavaObject, &err);
-    // If we don't know this attribute, suppress it.
-    if (err == CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH_IB)
-    {
-        TLV::TLVReader readerForGeneralValueObject;
-        readerForGeneralValueObject.Init(*apData);
-        value = DecodeGeneralTLVValue(env, readerForGeneralValueObject, err);
-        err   = CHIP_NO_ERROR;
-    }
-
-    VerifyOrReturn(err == CHIP_NO_ERROR,
-                   ChipLogError(Controller, "Fail to decode attribute with error %" CHIP_ERROR_FORMAT, err.Format());
-                   aPath.LogPath());
-    VerifyOrReturn(!env->ExceptionCheck(), env->ExceptionDescribe());
-#else
-    value = DecodeGeneralTLVValue(env, readerForJavaObject, err);
-#endif
     // Create TLV byte array to pass to Java layer
     size_t bufferLen                  = readerForJavaTLV.GetRemainingLength() + readerForJavaTLV.GetLengthRead();
     std::unique_ptr<uint8_t[]> buffer = std::unique_ptr<uint8_t[]>(new uint8_t[bufferLen]);
@@ -355,6 +400,40 @@ void ReportCallback::OnAttributeData(const app::ConcreteDataAttributePath & aPat
     size = writer.GetLengthWritten();
     chip::ByteArray jniByteArray(env, reinterpret_cast<jbyte *>(buffer.get()), static_cast<jint>(size));
 
+    if (mStreamElements)
+    {
+        VerifyOrReturn(mOnAttributeDataMethod != nullptr, ChipLogError(Controller, "Could not find onAttributeData method"));
+        jlong dataVersion = aPath.mDataVersion.HasValue() ? static_cast<jlong>(aPath.mDataVersion.Value()) : NO_DATA_VERSION;
+        env->CallVoidMethod(wrapperCallback, mOnAttributeDataMethod, static_cast<jint>(aPath.mEndpointId),
+                            static_cast<jlong>(aPath.mClusterId), static_cast<jlong>(aPath.mAttributeId), dataVersion,
+                            jniByteArray.jniValue());
+        VerifyOrReturn(!env->ExceptionCheck(), env->ExceptionDescribe());
+        return;
+    }
+
+    if (mDecodeLazily)
+    {
+        // The Java layer decodes the value object and JSON from the TLV when they are first requested.
+        jmethodID addAttributeTlvMethod;
+        err = JniReferences::GetInstance().FindMethod(env, nodeState, "addAttribute", "(IJJ[B)V", &addAttributeTlvMethod);
+        VerifyOrReturn(err == CHIP_NO_ERROR,
+                       ChipLogError(Controller, "Could not find addAttribute method with error %" CHIP_ERROR_FORMAT, err.Format()));
+        env->CallVoidMethod(nodeState, addAttributeTlvMethod, static_cast<jint>(aPath.mEndpointId),
+                            static_cast<jlong>(aPath.mClusterId), static_cast<jlong>(aPath.mAttributeId), jniByteArray.jniValue());
+        VerifyOrReturn(!env->ExceptionCheck(), env->ExceptionDescribe());
+
+        UpdateClusterDataVersion();
+        return;
+    }
+
+    jobject value = DecodeReportAttributeValue(env, aPath, *apData, err);
+#ifdef USE_JAVA_TLV_ENCODE_DECODE
+    VerifyOrReturn(err == CHIP_NO_ERROR,
+                   ChipLogError(Controller, "Fail to decode attribute with error %" CHIP_ERROR_FORMAT, err.Format());
+                   aPath.LogPath());
+    VerifyOrReturn(!env->ExceptionCheck(), env->ExceptionDescribe());
+#endif
+
     // Convert TLV to JSON
     std::string json;
     err = ConvertReportTlvToJson(static_cast<uint32_t>(aPath.mAttributeId), *apData, json);
@@ -378,6 +457,9 @@ void ReportCallback::OnAttributeData(const app::ConcreteDataAttributePath & aPat
 
 void ReportCallback::UpdateClusterDataVersion()
 {
+    // Streamed attribute data carries its own data version, and there is no NodeState to update.
+    VerifyOrReturn(!mStreamElements);
+
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     VerifyOrReturn(env != nullptr, ChipLogError(Controller, "Could not get JNIEnv for current thread"));
     chip::app::ConcreteClusterPath lastConcreteClusterPath;
@@ -426,15 +508,20 @@ void ReportCallback::OnEventData(const app::EventHeader & aEventHeader, TLV::TLV
     VerifyOrReturn(mWrapperCallbackRef.HasValidObjectRef(),
                    ChipLogError(Controller, "mReportCallbackRef is not valid in %s", __func__));
     jobject wrapperCallback = mWrapperCallbackRef.ObjectRef();
-    jobject nodeState       = GetNodeStateObj(env, mNodeStateClassSignature, wrapperCallback);
+
+    // When streaming, every element goes straight to the wrapper callback instead of being added to a NodeState.
+    jobject nodeState = mStreamElements ? wrapperCallback : GetNodeStateObj(env, mNodeStateClassSignature, wrapperCallback);
     if (apStatus != nullptr)
     {
         // Add Event Status to NodeState
-        jmethodID addEventStatusMethod;
-        err = JniReferences::GetInstance().FindMethod(env, nodeState, "addEventStatus", "(IJJILjava/lang/Integer;)V",
-                                                      &addEventStatusMethod);
+        jmethodID addEventStatusMethod = mOnEventStatusMethod;
+        if (!mStreamElements)
+        {
+            err = JniReferences::GetInstance().FindMethod(env, nodeState, "addEventStatus", "(IJJILjava/lang/Integer;)V",
+                                                          &addEventStatusMethod);
+        }
         VerifyOrReturn(
-            err == CHIP_NO_ERROR,
+            err == CHIP_NO_ERROR && addEventStatusMethod != nullptr,
             ChipLogError(Controller, "Could not find addEventStatus method with error %" CHIP_ERROR_FORMAT, err.Format()));
 
         jobject jClusterState = nullptr;
@@ -477,27 +564,6 @@ void ReportCallback::OnEventData(const app::EventHeader & aEventHeader, TLV::TLV
         return;
     }
 
-    jobject value = nullptr;
-    TLV::TLVReader readerForJavaObject;
-    readerForJavaObject.Init(*apData);
-#ifdef USE_JAVA_TLV_ENCODE_DECODE
-    value = DecodeEventValue(aEventHeader.mPath, readerForJavaObject, &err);
-    // If we don't know this event, just skip it.
-    if (err == CHIP_ERROR_IM_MALFORMED_EVENT_PATH_IB)
-    {
-        TLV::TLVReader readerForGeneralValueObject;
-        readerForGeneralValueObject.Init(*apData);
-        value = DecodeGeneralTLVValue(env, readerForGeneralValueObject, err);
-        err   = CHIP_NO_ERROR;
-    }
-    VerifyOrReturn(err == CHIP_NO_ERROR,
-                   ChipLogError(Controller, "Fail to decode event with error %" CHIP_ERROR_FORMAT, err.Format());
-                   aEventHeader.LogPath());
-    VerifyOrReturn(!env->ExceptionCheck(), env->ExceptionDescribe());
-#else
-    value = DecodeGeneralTLVValue(env, readerForJavaObject, err);
-#endif
-
     // Create TLV byte array to pass to Java layer
     size_t bufferLen                  = readerForJavaTLV.GetRemainingLength() + readerForJavaTLV.GetLengthRead();
     std::unique_ptr<uint8_t[]> buffer = std::unique_ptr<uint8_t[]>(new uint8_t[bufferLen]);
@@ -515,6 +581,32 @@ void ReportCallback::OnEventData(const app::EventHeader & aEventHeader, TLV::TLV
     size = writer.GetLengthWritten();
     chip::ByteArray jniByteArray(env, reinterpret_cast<jbyte *>(buffer.get()), static_cast<jint>(size));
 
+    if (mStreamElements || mDecodeLazily)
+    {
+        // Only the TLV is passed to the Java layer, which decodes the value object and JSON if it needs them.
+        jmethodID addEventTlvMethod = mOnEventDataMethod;
+        if (!mStreamElements)
+        {
+            err = JniReferences::GetInstance().FindMethod(env, nodeState, "addEvent", "(IJJJIIJ[B)V", &addEventTlvMethod);
+        }
+        VerifyOrReturn(err == CHIP_NO_ERROR && addEventTlvMethod != nullptr,
+                       ChipLogError(Controller, "Could not find addEvent method with error %" CHIP_ERROR_FORMAT, err.Format());
+                       aEventHeader.LogPath());
+        env->CallVoidMethod(nodeState, addEventTlvMethod, static_cast<jint>(aEventHeader.mPath.mEndpointId),
+                            static_cast<jlong>(aEventHeader.mPath.mClusterId), static_cast<jlong>(aEventHeader.mPath.mEventId),
+                            eventNumber, priorityLevel, timestampType, timestampValue, jniByteArray.jniValue());
+        VerifyOrReturn(!env->ExceptionCheck(), env->ExceptionDescribe(); aEventHeader.LogPath());
+        return;
+    }
+
+    jobject value = DecodeReportEventValue(env, aEventHeader.mPath, *apData, err);
+#ifdef USE_JAVA_TLV_ENCODE_DECODE
+    VerifyOrReturn(err == CHIP_NO_ERROR,
+                   ChipLogError(Controller, "Fail to decode event with error %" CHIP_ERROR_FORMAT, err.Format());
+                   aEventHeader.LogPath());
+    VerifyOrReturn(!env->ExceptionCheck(), env->ExceptionDescribe());
+#endif
+
     // Convert TLV to JSON
     std::string json;
     err = ConvertReportTlvToJson(static_cast<uint32_t>(aEventHeader.mPath.mEventId), *apData, json);
@@ -1221,15 +1313,71 @@ void deleteConnectedDeviceCallback(JNIEnv * env, jobject self, jlong callbackHan
 }
 
 jlong newReportCallback(JNIEnv * env, jobject self, jobject subscriptionEstablishedCallbackJava,
-                        jobject resubscriptionAttemptCallbackJava, const char * nodeStateClassSignature)
+                        jobject resubscriptionAttemptCallbackJava, const char * nodeStateClassSignature, bool decodeLazily,
+                        bool streamElements)
 {
     chip::DeviceLayer::StackLock lock;
-    ReportCallback * reportCallback = chip::Platform::New<ReportCallback>(
-        self, subscriptionEstablishedCallbackJava, resubscriptionAttemptCallbackJava, nodeStateClassSignature);
+    ReportCallback * reportCallback =
+        chip::Platform::New<ReportCallback>(self, subscriptionEstablishedCallbackJava, resubscriptionAttemptCallbackJava,
+                                            nodeStateClassSignature, decodeLazily, streamElements);
     return reinterpret_cast<jlong>(reportCallback);
 }
 
-void deleteReportCallback(JNIEnv * env, jobject self, jlong callbackHandle)
+jobject decodeReportAttributeValue(JNIEnv * env, jint endpointId, jlong clusterId, jlong attributeId, jbyteArray tlv)
+{
+    app::ConcreteAttributePath path(static_cast<EndpointId>(endpointId), static_cast<ClusterId>(clusterId),
+                                    static_cast<AttributeId>(attributeId));
+    JniByteArray tlvBytes(env, tlv);
+    TLV::TLVReader reader;
+    reader.Init(tlvBytes.byteSpan());
+    CHIP_ERROR err = reader.Next();
+    jobject value  = nullptr;
+    if (err == CHIP_NO_ERROR)
+    {
+        value = DecodeReportAttributeValue(env, path, reader, err);
+    }
+    VerifyOrReturnValue(err == CHIP_NO_ERROR, nullptr,
+                        ChipLogError(Controller, "Fail to decode attribute with error %" CHIP_ERROR_FORMAT, err.Format());
+                        path.LogPath());
+    return value;
+}
+
+jobject decodeReportEventValue(JNIEnv * env, jint endpointId, jlong clusterId, jlong eventId, jbyteArray tlv)
+{
+    app::ConcreteEventPath path(static_cast<EndpointId>(endpointId), static_cast<ClusterId>(clusterId),
+                                static_cast<EventId>(eventId));
+    JniByteArray tlvBytes(env, tlv);
+    TLV::TLVReader reader;
+    reader.Init(tlvBytes.byteSpan());
+    CHIP_ERROR err = reader.Next();
+    jobject value  = nullptr;
+    if (err == CHIP_NO_ERROR)
+    {
+        value = DecodeReportEventValue(env, path, reader, err);
+    }
+    VerifyOrReturnValue(err == CHIP_NO_ERROR, nullptr,
+                        ChipLogError(Controller, "Fail to decode event with error %" CHIP_ERROR_FORMAT, err.Format()));
+    return value;
+}
+
+jstring convertReportTlvToJson(JNIEnv * env, jlong id, jbyteArray tlv)
+{
+    JniByteArray tlvBytes(env, tlv);
+    TLV::TLVReader reader;
+    reader.Init(tlvBytes.byteSpan());
+    std::string json;
+    CHIP_ERROR err = reader.Next();
+    if (err == CHIP_NO_ERROR)
+    {
+        err = ConvertReportTlvToJson(static_cast<uint32_t>(id), reader, json);
+    }
+    VerifyOrReturnValue(
+        err == CHIP_NO_ERROR, nullptr,
+        ChipLogError(Controller, "Fail to convert report tlv to json with error %" CHIP_ERROR_FORMAT, err.Format()));
+    return env->NewStringUTF(json.c_str());
+}
+
+void deleteReportCallback(JNIEnv * env, jlong callbackHandle)
 {
     chip::DeviceLayer::StackLock lock;
     ReportCallback * reportCallback = reinterpret_cast<ReportCallback *>(callbackHandle);
@@ -1244,7 +1392,7 @@ jlong newWriteAttributesCallback(JNIEnv * env, jobject self)
     return reinterpret_cast<jlong>(writeAttributesCallback);
 }
 
-void deleteWriteAttributesCallback(JNIEnv * env, jobject self, jlong callbackHandle)
+void deleteWriteAttributesCallback(JNIEnv * env, jlong callbackHandle)
 {
     chip::DeviceLayer::StackLock lock;
     WriteAttributesCallback * writeAttributesCallback = reinterpret_cast<WriteAttributesCallback *>(callbackHandle);
@@ -1259,7 +1407,7 @@ jlong newInvokeCallback(JNIEnv * env, jobject self)
     return reinterpret_cast<jlong>(invokeCallback);
 }
 
-void deleteInvokeCallback(JNIEnv * env, jobject self, jlong callbackHandle)
+void deleteInvokeCallback(JNIEnv * env, jlong callbackHandle)
 {
     chip::DeviceLayer::StackLock lock;
     InvokeCallback * invokeCallback = reinterpret_cast<InvokeCallback *>(callbackHandle);
@@ -1274,7 +1422,7 @@ jlong newExtendableInvokeCallback(JNIEnv * env, jobject self)
     return reinterpret_cast<jlong>(invokeCallback);
 }
 
-void deleteExtendableInvokeCallback(JNIEnv * env, jobject self, jlong callbackHandle)
+void deleteExtendableInvokeCallback(JNIEnv * env, jlong callbackHandle)
 {
     chip::DeviceLayer::StackLock lock;
     ExtendableInvokeCallback * invokeCallback = reinterpret_cast<ExtendableInvokeCallback *>(callbackHandle);
@@ -57,7 +57,7 @@ struct ReportCallback : public app::ClusterStateCache::Callback
 {
     /** Subscription established callback can be nullptr. */
     ReportCallback(jobject wrapperCallback, jobject subscriptionEstablishedCallback, jobject resubscriptionAttemptCallback,
-                   const char * nodeStateClassSignature);
+                   const char * nodeStateClassSignature, bool decodeLazily, bool streamElements);
     ~ReportCallback();
 
     void OnReportBegin() override;
@@ -95,6 +95,18 @@ struct ReportCallback : public app::ClusterStateCache::Callback
     JniGlobalReference mResubscriptionAttemptCallbackRef;
 
     const char * mNodeStateClassSignature;
+    /** Whether only the TLV of reported values is passed to the Java layer, which decodes it on demand. */
+    bool mDecodeLazily;
+    /**
+     * Whether attribute and event data are passed one element at a time to the onAttributeData/onEventData methods of the
+     * wrapper callback, instead of being added to its NodeState.
+     */
+    bool mStreamElements;
+    // Methods of the wrapper callback receiving streamed elements, resolved once when streaming.
+    jmethodID mOnAttributeDataMethod   = nullptr;
+    jmethodID mOnAttributeStatusMethod = nullptr;
+    jmethodID mOnEventDataMethod       = nullptr;
+    jmethodID mOnEventStatusMethod     = nullptr;
 };
 
 struct WriteAttributesCallback : public app::WriteClient::Callback
@@ -156,14 +168,18 @@ struct ExtendableInvokeCallback : public app::CommandSender::ExtendableCallback
 jlong newConnectedDeviceCallback(JNIEnv * env, jobject self, jobject callback);
 void deleteConnectedDeviceCallback(JNIEnv * env, jobject self, jlong callbackHandle);
 jlong newReportCallback(JNIEnv * env, jobject self, jobject subscriptionEstablishedCallbackJava,
-                        jobject resubscriptionAttemptCallbackJava, const char * nodeStateClassSignature);
-void deleteReportCallback(JNIEnv * env, jobject self, jlong callbackHandle);
+                        jobject resubscriptionAttemptCallbackJava, const char * nodeStateClassSignature, bool decodeLazily,
+                        bool streamElements);
+void deleteReportCallback(JNIEnv * env, jlong callbackHandle);
+jobject decodeReportAttributeValue(JNIEnv * env, jint endpointId, jlong clusterId, jlong attributeId, jbyteArray tlv);
+jobject decodeReportEventValue(JNIEnv * env, jint endpointId, jlong clusterId, jlong eventId, jbyteArray tlv);
+jstring convertReportTlvToJson(JNIEnv * env, jlong id, jbyteArray tlv);
 jlong newWriteAttributesCallback(JNIEnv * env, jobject self);
-void deleteWriteAttributesCallback(JNIEnv * env, jobject self, jlong callbackHandle);
+void deleteWriteAttributesCallback(JNIEnv * env, jlong callbackHandle);
 jlong newInvokeCallback(JNIEnv * env, jobject self);
-void deleteInvokeCallback(JNIEnv * env, jobject self, jlong callbackHandle);
+void deleteInvokeCallback(JNIEnv * env, jlong callbackHandle);
 jlong newExtendableInvokeCallback(JNIEnv * env, jobject self);
-void deleteExtendableInvokeCallback(JNIEnv * env, jobject self, jlong callbackHandle);
+void deleteExtendableInvokeCallback(JNIEnv * env, jlong callbackHandle);
 
 } // namespace Controller
 } // namespace chip
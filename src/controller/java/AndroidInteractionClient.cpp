@@ -185,7 +185,9 @@ exit:
         }
         if (callback != nullptr)
         {
-            Platform::Delete(callback);
+            // The callback is owned by its Java wrapper, which releases it once it is no longer reachable.
+            callback->mWrapperCallbackRef.Reset();
+            callback = nullptr;
         }
     }
     return err;
@@ -255,7 +257,8 @@ exit:
         }
         if (callback != nullptr)
         {
-            Platform::Delete(callback);
+            // The callback is owned by its Java wrapper, which releases it once it is no longer reachable.
+            callback->mWrapperCallbackRef.Reset();
             callback = nullptr;
         }
     }
@@ -428,7 +431,8 @@ exit:
         }
         if (callback != nullptr)
         {
-            Platform::Delete(callback);
+            // The callback is owned by its Java wrapper, which releases it once it is no longer reachable.
+            callback->mWrapperCallbackRef.Reset();
             callback = nullptr;
         }
     }
@@ -626,7 +630,8 @@ exit:
         }
         if (callback != nullptr)
         {
-            Platform::Delete(callback);
+            // The callback is owned by its Java wrapper, which releases it once it is no longer reachable.
+            callback->mWrapperCallbackRef.Reset();
             callback = nullptr;
         }
     }
@@ -802,7 +807,8 @@ exit:
         }
         if (callback != nullptr)
         {
-            Platform::Delete(callback);
+            // The callback is owned by its Java wrapper, which releases it once it is no longer reachable.
+            callback->mWrapperCallbackRef.Reset();
             callback = nullptr;
         }
     }
@@ -821,6 +827,26 @@ jlong getRemoteDeviceId(jlong devicePtr)
     return static_cast<jlong>(chipDevice->GetDeviceId());
 }
 
+jint getMaxPathsPerInvoke(jlong devicePtr)
+{
+    chip::DeviceLayer::StackLock lock;
+    DeviceProxy * device = reinterpret_cast<DeviceProxy *>(devicePtr);
+    if (device == nullptr || !device->GetSecureSession().HasValue())
+    {
+        ChipLogProgress(Controller, "Could not get the secure session of the device");
+        return 1;
+    }
+
+    return static_cast<jint>(device->GetSecureSession().Value()->GetRemoteSessionParameters().GetMaxPathsPerInvoke());
+}
+
+jboolean isSessionActive(jlong devicePtr)
+{
+    chip::DeviceLayer::StackLock lock;
+    DeviceProxy * device = reinterpret_cast<DeviceProxy *>(devicePtr);
+    return (device != nullptr && device->GetSecureSession().HasValue()) ? JNI_TRUE : JNI_FALSE;
+}
+
 jint getFabricIndex(jlong devicePtr)
 {
     OperationalDeviceProxy * chipDevice = reinterpret_cast<OperationalDeviceProxy *>(devicePtr);
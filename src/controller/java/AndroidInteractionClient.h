@@ -35,3 +35,5 @@ CHIP_ERROR shutdownSubscriptions(JNIEnv * env, jlong handle, jobject fabricIndex
 
 jlong getRemoteDeviceId(jlong devicePtr);
 jint getFabricIndex(jlong devicePtr);
+jint getMaxPathsPerInvoke(jlong devicePtr);
+jboolean isSessionActive(jlong devicePtr);
@@ -108,7 +108,7 @@ CHIP_ERROR AndroidLogDownloadFromNode::SendRetrieveLogsRequest(Messaging::Exchan
     VerifyOrReturnValue(mBdxReceiver != nullptr, CHIP_ERROR_NO_MEMORY);
 
     auto systemState = DeviceControllerFactory::GetInstance().GetSystemState();
-    systemState->BDXTransferServer()->SetDelegate(mBdxReceiver);
+    mBdxReceiver->Register(systemState->BDXTransferServer());
 
     if (mTimeout > 0)
     {
@@ -25,6 +25,43 @@ namespace Controller {
 
 using namespace ::chip::DeviceLayer;
 
+// The BDX transfer server has a single delegate, which hands each transfer to the registered receiver of its node.
+class BdxDiagnosticLogsReceiver::Dispatcher : public chip::bdx::BDXTransferServerDelegate
+{
+public:
+    CHIP_ERROR OnTransferBegin(chip::bdx::BDXTransferProxy * transfer) override
+    {
+        BdxDiagnosticLogsReceiver * receiver = FindReceiver(transfer);
+        if (receiver == nullptr)
+        {
+            TEMPORARY_RETURN_IGNORED transfer->Reject(CHIP_ERROR_INVALID_DESTINATION_NODE_ID);
+            return CHIP_NO_ERROR;
+        }
+        return receiver->OnTransferBegin(transfer);
+    }
+
+    CHIP_ERROR OnTransferEnd(chip::bdx::BDXTransferProxy * transfer, CHIP_ERROR error) override
+    {
+        // The receiver is gone if its download already finished, for example on timeout.
+        BdxDiagnosticLogsReceiver * receiver = FindReceiver(transfer);
+        return receiver == nullptr ? CHIP_NO_ERROR : receiver->OnTransferEnd(transfer, error);
+    }
+
+    CHIP_ERROR OnTransferData(chip::bdx::BDXTransferProxy * transfer, const chip::ByteSpan & data) override
+    {
+        BdxDiagnosticLogsReceiver * receiver = FindReceiver(transfer);
+        if (receiver == nullptr)
+        {
+            TEMPORARY_RETURN_IGNORED transfer->Reject(CHIP_ERROR_INCORRECT_STATE);
+            return CHIP_NO_ERROR;
+        }
+        return receiver->OnTransferData(transfer, data);
+    }
+};
+
+BdxDiagnosticLogsReceiver::Dispatcher BdxDiagnosticLogsReceiver::sDispatcher;
+BdxDiagnosticLogsReceiver * BdxDiagnosticLogsReceiver::sFirstReceiver = nullptr;
+
 BdxDiagnosticLogsReceiver::BdxDiagnosticLogsReceiver(Callback::Callback<OnBdxTransfer> * onTransfer,
                                                      Callback::Callback<OnBdxTransferSuccess> * onSuccess,
                                                      Callback::Callback<OnBdxTransferFailure> * onFailure,
@@ -40,6 +77,43 @@ BdxDiagnosticLogsReceiver::BdxDiagnosticLogsReceiver(Callback::Callback<OnBdxTra
     mFileDesignator = fileDesignator;
 }
 
+BdxDiagnosticLogsReceiver::~BdxDiagnosticLogsReceiver()
+{
+    VerifyOrReturn(mRegistered);
+    for (BdxDiagnosticLogsReceiver ** receiver = &sFirstReceiver; *receiver != nullptr; receiver = &(*receiver)->mNextReceiver)
+    {
+        if (*receiver == this)
+        {
+            *receiver = mNextReceiver;
+            break;
+        }
+    }
+}
+
+void BdxDiagnosticLogsReceiver::Register(chip::bdx::BDXTransferServer * server)
+{
+    VerifyOrReturn(!mRegistered);
+    mNextReceiver  = sFirstReceiver;
+    sFirstReceiver = this;
+    mRegistered    = true;
+    server->SetDelegate(&sDispatcher);
+}
+
+BdxDiagnosticLogsReceiver * BdxDiagnosticLogsReceiver::FindReceiver(chip::bdx::BDXTransferProxy * transfer)
+{
+    VerifyOrReturnValue(transfer != nullptr, nullptr);
+    chip::FabricIndex fabricIndex = transfer->GetFabricIndex();
+    chip::NodeId nodeId           = transfer->GetPeerNodeId();
+    for (BdxDiagnosticLogsReceiver * receiver = sFirstReceiver; receiver != nullptr; receiver = receiver->mNextReceiver)
+    {
+        if (receiver->mFabricIndex == fabricIndex && receiver->mNodeId == nodeId)
+        {
+            return receiver;
+        }
+    }
+    return nullptr;
+}
+
 CHIP_ERROR BdxDiagnosticLogsReceiver::OnTransferBegin(chip::bdx::BDXTransferProxy * transfer)
 {
     VerifyOrReturnError(transfer != nullptr, CHIP_ERROR_INVALID_ARGUMENT, ChipLogError(Controller, "transfer is nullptr."));
@@ -19,6 +19,7 @@
 
 #include <messaging/ExchangeMgr.h>
 #include <protocols/bdx/BdxTransferProxy.h>
+#include <protocols/bdx/BdxTransferServer.h>
 #include <protocols/bdx/BdxTransferServerDelegate.h>
 #include <protocols/bdx/BdxUri.h>
 #include <protocols/bdx/TransferFacilitator.h>
@@ -40,7 +41,13 @@ public:
                               Callback::Callback<OnBdxTransferFailure> * onFailure, chip::FabricIndex fabricIndex,
                               chip::NodeId nodeId, chip::CharSpan fileDesignator);
 
-    ~BdxDiagnosticLogsReceiver() {}
+    ~BdxDiagnosticLogsReceiver();
+
+    /**
+     * Makes this receiver handle the BDX transfers of its node on the given server until it is destroyed. Receivers of
+     * different nodes can be registered at the same time, so that logs can be downloaded from several nodes in parallel.
+     */
+    void Register(chip::bdx::BDXTransferServer * server);
 
     /////////// BdxDiagnosticLogsReceiver Interface /////////
     CHIP_ERROR OnTransferBegin(chip::bdx::BDXTransferProxy * transfer) override;
@@ -51,7 +58,13 @@ public:
     void CancelBDXTransferTimeout();
 
 private:
+    class Dispatcher;
+
     static void OnTransferTimeout(chip::System::Layer * layer, void * context);
+    static BdxDiagnosticLogsReceiver * FindReceiver(chip::bdx::BDXTransferProxy * transfer);
+
+    static Dispatcher sDispatcher;
+    static BdxDiagnosticLogsReceiver * sFirstReceiver;
 
     chip::Callback::Callback<OnBdxTransfer> * mOnBdxTransferCallback;
     chip::Callback::Callback<OnBdxTransferSuccess> * mOnBdxTransferSuccessCallback;
@@ -60,6 +73,9 @@ private:
     chip::FabricIndex mFabricIndex = kUndefinedFabricIndex;
     chip::NodeId mNodeId           = kUndefinedNodeId;
     chip::CharSpan mFileDesignator;
+
+    BdxDiagnosticLogsReceiver * mNextReceiver = nullptr;
+    bool mRegistered                          = false;
 };
 } // namespace Controller
 } // namespace chip
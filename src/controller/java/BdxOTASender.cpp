@@ -289,15 +289,9 @@ CHIP_ERROR BdxOTASender::OnBlockQuery(TransferSession::OutputEvent & event)
         return CHIP_ERROR_INVALID_ARGUMENT;
     }
 
-    jmethodID getDataMethod;
-    err = JniReferences::GetInstance().FindMethod(env, bdxData, "getData", "()[B", &getDataMethod);
-    if (env->ExceptionCheck())
-    {
-        ChipLogError(Support, "Exception in call java method");
-        env->ExceptionDescribe();
-        env->ExceptionClear();
-        return CHIP_JNI_ERROR_EXCEPTION_THROWN;
-    }
+    jmethodID getBufferMethod;
+    err = JniReferences::GetInstance().FindMethod(env, bdxData, "getBuffer", "()Ljava/nio/ByteBuffer;", &getBufferMethod);
+    VerifyOrReturnError(err == CHIP_NO_ERROR, err, ChipLogError(Controller, "Could not find getBuffer method"));
 
     jmethodID isEOFMethod;
     err = JniReferences::GetInstance().FindMethod(env, bdxData, "isEOF", "()Z", &isEOFMethod);
@@ -308,17 +302,41 @@ CHIP_ERROR BdxOTASender::OnBlockQuery(TransferSession::OutputEvent & event)
         env->ExceptionClear();
         return CHIP_JNI_ERROR_EXCEPTION_THROWN;
     }
-    jbyteArray jData = (jbyteArray) env->CallObjectMethod(bdxData, getDataMethod);
-    jboolean jIsEOF  = env->CallBooleanMethod(bdxData, isEOFMethod);
-
-    JniByteArray data(env, jData);
+    jobject jBuffer = env->CallObjectMethod(bdxData, getBufferMethod);
+    jboolean jIsEOF = env->CallBooleanMethod(bdxData, isEOFMethod);
 
     TransferSession::BlockData blockData;
-    blockData.Data   = static_cast<const uint8_t *>(data.byteSpan().data());
-    blockData.Length = static_cast<size_t>(data.byteSpan().size());
-    blockData.IsEof  = jIsEOF == JNI_TRUE;
+    blockData.IsEof = jIsEOF == JNI_TRUE;
+
+    // PrepareBlock copies the block into the outgoing message, so the Java array or buffer is only read until it returns.
+    if (jBuffer != nullptr)
+    {
+        // A direct buffer is read in place, which saves the JNI array copy of every block.
+        jmethodID positionMethod;
+        jmethodID remainingMethod;
+        ReturnErrorOnFailure(JniReferences::GetInstance().FindMethod(env, jBuffer, "position", "()I", &positionMethod));
+        ReturnErrorOnFailure(JniReferences::GetInstance().FindMethod(env, jBuffer, "remaining", "()I", &remainingMethod));
+        jint position    = env->CallIntMethod(jBuffer, positionMethod);
+        blockData.Length = static_cast<size_t>(env->CallIntMethod(jBuffer, remainingMethod));
+        if (blockData.Length > 0)
+        {
+            const uint8_t * address = static_cast<const uint8_t *>(env->GetDirectBufferAddress(jBuffer));
+            VerifyOrReturnError(address != nullptr, CHIP_ERROR_INVALID_ARGUMENT,
+                                ChipLogError(Controller, "BDX block buffer is not direct"));
+            blockData.Data = address + position;
+        }
+        err = mTransfer.PrepareBlock(blockData);
+    }
+    else
+    {
+        jmethodID getDataMethod;
+        ReturnErrorOnFailure(JniReferences::GetInstance().FindMethod(env, bdxData, "getData", "()[B", &getDataMethod));
+        JniByteArray data(env, static_cast<jbyteArray>(env->CallObjectMethod(bdxData, getDataMethod)));
+        blockData.Data   = static_cast<const uint8_t *>(data.byteSpan().data());
+        blockData.Length = static_cast<size_t>(data.byteSpan().size());
+        err              = mTransfer.PrepareBlock(blockData);
+    }
 
-    err = mTransfer.PrepareBlock(blockData);
     if (CHIP_NO_ERROR != err)
     {
         LogErrorOnFailure(err);
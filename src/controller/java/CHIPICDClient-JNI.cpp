@@ -28,19 +28,19 @@ JNI_METHOD(jobject, getICDClientInfo)(JNIEnv * env, jobject self, jint jFabricIn
     return getICDClientInfo(env, "chip/devicecontroller/ICDClientInfo", jFabricIndex);
 }
 
-JNI_METHOD(void, storeICDEntryWithKey)(JNIEnv * env, jobject self, jint jFabricIndex, jobject jicdClientInfo, jbyteArray jKey)
+JNI_METHOD(void, nativeStoreICDEntryWithKey)(JNIEnv * env, jobject self, jint jFabricIndex, jobject jicdClientInfo, jbyteArray jKey)
 {
     chip::DeviceLayer::StackLock lock;
     TEMPORARY_RETURN_IGNORED StoreICDEntryWithKey(env, jFabricIndex, jicdClientInfo, jKey);
 }
 
-JNI_METHOD(void, removeICDEntryWithKey)(JNIEnv * env, jobject self, jint jFabricIndex, jobject jicdClientInfo)
+JNI_METHOD(void, nativeRemoveICDEntryWithKey)(JNIEnv * env, jobject self, jint jFabricIndex, jobject jicdClientInfo)
 {
     chip::DeviceLayer::StackLock lock;
     TEMPORARY_RETURN_IGNORED RemoveICDEntryWithKey(env, jFabricIndex, jicdClientInfo);
 }
 
-JNI_METHOD(void, clearICDClientInfo)(JNIEnv * env, jobject self, jint jFabricIndex, jlong jNodeId)
+JNI_METHOD(void, nativeClearICDClientInfo)(JNIEnv * env, jobject self, jint jFabricIndex, jlong jNodeId)
 {
     chip::DeviceLayer::StackLock lock;
     TEMPORARY_RETURN_IGNORED ClearICDClientInfo(env, jFabricIndex, jNodeId);
@@ -37,15 +37,16 @@ JNI_METHOD(void, GetConnectedDeviceCallbackJni, deleteCallback)(JNIEnv * env, jo
 }
 
 JNI_METHOD(jlong, ReportCallbackJni, newCallback)
-(JNIEnv * env, jobject self, jobject subscriptionEstablishedCallbackJava, jobject resubscriptionAttemptCallbackJava)
+(JNIEnv * env, jobject self, jobject subscriptionEstablishedCallbackJava, jobject resubscriptionAttemptCallbackJava,
+ jboolean streamElements)
 {
     return newReportCallback(env, self, subscriptionEstablishedCallbackJava, resubscriptionAttemptCallbackJava,
-                             "()Lmatter/controller/model/NodeState;");
+                             "()Lmatter/controller/model/NodeState;", false /* decodeLazily */, streamElements == JNI_TRUE);
 }
 
-JNI_METHOD(void, ReportCallbackJni, deleteCallback)(JNIEnv * env, jobject self, jlong callbackHandle)
+JNI_METHOD(void, ReportCallbackJni, deleteCallback)(JNIEnv * env, jclass clazz, jlong callbackHandle)
 {
-    deleteReportCallback(env, self, callbackHandle);
+    deleteReportCallback(env, callbackHandle);
 }
 
 JNI_METHOD(jlong, WriteAttributesCallbackJni, newCallback)
@@ -54,9 +55,9 @@ JNI_METHOD(jlong, WriteAttributesCallbackJni, newCallback)
     return newWriteAttributesCallback(env, self);
 }
 
-JNI_METHOD(void, WriteAttributesCallbackJni, deleteCallback)(JNIEnv * env, jobject self, jlong callbackHandle)
+JNI_METHOD(void, WriteAttributesCallbackJni, deleteCallback)(JNIEnv * env, jclass clazz, jlong callbackHandle)
 {
-    deleteWriteAttributesCallback(env, self, callbackHandle);
+    deleteWriteAttributesCallback(env, callbackHandle);
 }
 
 JNI_METHOD(jlong, InvokeCallbackJni, newCallback)
@@ -65,9 +66,9 @@ JNI_METHOD(jlong, InvokeCallbackJni, newCallback)
     return newInvokeCallback(env, self);
 }
 
-JNI_METHOD(void, InvokeCallbackJni, deleteCallback)(JNIEnv * env, jobject self, jlong callbackHandle)
+JNI_METHOD(void, InvokeCallbackJni, deleteCallback)(JNIEnv * env, jclass clazz, jlong callbackHandle)
 {
-    deleteInvokeCallback(env, self, callbackHandle);
+    deleteInvokeCallback(env, callbackHandle);
 }
 
 JNI_METHOD(jlong, ExtendableInvokeCallbackJni, newCallback)
@@ -76,7 +77,7 @@ JNI_METHOD(jlong, ExtendableInvokeCallbackJni, newCallback)
     return newExtendableInvokeCallback(env, self);
 }
 
-JNI_METHOD(void, ExtendableInvokeCallbackJni, deleteCallback)(JNIEnv * env, jobject self, jlong callbackHandle)
+JNI_METHOD(void, ExtendableInvokeCallbackJni, deleteCallback)(JNIEnv * env, jclass clazz, jlong callbackHandle)
 {
-    deleteExtendableInvokeCallback(env, self, callbackHandle);
+    deleteExtendableInvokeCallback(env, callbackHandle);
 }
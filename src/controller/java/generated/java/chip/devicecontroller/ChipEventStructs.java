@@ -20,8 +20,11 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Optional;
-
-import static chip.devicecontroller.ChipTLVType.*;
+import matter.tlv.AnonymousTag;
+import matter.tlv.ContextSpecificTag;
+import matter.tlv.Tag;
+import matter.tlv.TlvReader;
+import matter.tlv.TlvWriter;
 
 public class ChipEventStructs {
 public static class AccessControlClusterAccessControlEntryChangedEvent {
@@ -30,11 +33,11 @@ public static class AccessControlClusterAccessControlEntryChangedEvent {
   public Integer changeType;
   public @Nullable ChipStructs.AccessControlClusterAccessControlEntryStruct latestValue;
   public Integer fabricIndex;
-  private static final long ADMIN_NODE_ID_ID = 1L;
-  private static final long ADMIN_PASSCODE_ID_ID = 2L;
-  private static final long CHANGE_TYPE_ID = 3L;
-  private static final long LATEST_VALUE_ID = 4L;
-  private static final long FABRIC_INDEX_ID = 254L;
+  private static final Tag ADMIN_NODE_ID_TAG = new ContextSpecificTag(1);
+  private static final Tag ADMIN_PASSCODE_ID_TAG = new ContextSpecificTag(2);
+  private static final Tag CHANGE_TYPE_TAG = new ContextSpecificTag(3);
+  private static final Tag LATEST_VALUE_TAG = new ContextSpecificTag(4);
+  private static final Tag FABRIC_INDEX_TAG = new ContextSpecificTag(254);
 
   public AccessControlClusterAccessControlEntryChangedEvent(
     @Nullable Long adminNodeID,
@@ -50,54 +53,41 @@ public static class AccessControlClusterAccessControlEntryChangedEvent {
     this.fabricIndex = fabricIndex;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ADMIN_NODE_ID_ID, adminNodeID != null ? new UIntType(adminNodeID) : new NullType()));
-    values.add(new StructElement(ADMIN_PASSCODE_ID_ID, adminPasscodeID != null ? new UIntType(adminPasscodeID) : new NullType()));
-    values.add(new StructElement(CHANGE_TYPE_ID, new UIntType(changeType)));
-    values.add(new StructElement(LATEST_VALUE_ID, latestValue != null ? latestValue.encodeTlv() : new NullType()));
-    values.add(new StructElement(FABRIC_INDEX_ID, new UIntType(fabricIndex)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    if (adminNodeID != null) { writer.putUnsigned(ADMIN_NODE_ID_TAG, adminNodeID); } else { writer.putNull(ADMIN_NODE_ID_TAG); }
+    if (adminPasscodeID != null) { writer.putUnsigned(ADMIN_PASSCODE_ID_TAG, adminPasscodeID); } else { writer.putNull(ADMIN_PASSCODE_ID_TAG); }
+    writer.putUnsigned(CHANGE_TYPE_TAG, changeType);
+    if (latestValue != null) { latestValue.encodeTlv(LATEST_VALUE_TAG, writer); } else { writer.putNull(LATEST_VALUE_TAG); }
+    writer.putUnsigned(FABRIC_INDEX_TAG, fabricIndex);
+    writer.endStructure();
   }
 
-  public static AccessControlClusterAccessControlEntryChangedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static AccessControlClusterAccessControlEntryChangedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     @Nullable Long adminNodeID = null;
     @Nullable Integer adminPasscodeID = null;
     Integer changeType = null;
     @Nullable ChipStructs.AccessControlClusterAccessControlEntryStruct latestValue = null;
     Integer fabricIndex = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ADMIN_NODE_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          adminNodeID = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == ADMIN_PASSCODE_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          adminPasscodeID = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == CHANGE_TYPE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          changeType = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == LATEST_VALUE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Struct) {
-          StructType castingValue = element.value(StructType.class);
-          latestValue = ChipStructs.AccessControlClusterAccessControlEntryStruct.decodeTlv(castingValue);
-        }
-      } else if (element.contextTagNum() == FABRIC_INDEX_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          fabricIndex = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ADMIN_NODE_ID_TAG)) {
+        adminNodeID = reader.getUnsigned(ADMIN_NODE_ID_TAG);
+      } else if (reader.isNextTag(ADMIN_PASSCODE_ID_TAG)) {
+        adminPasscodeID = (int) reader.getUnsigned(ADMIN_PASSCODE_ID_TAG);
+      } else if (reader.isNextTag(CHANGE_TYPE_TAG)) {
+        changeType = (int) reader.getUnsigned(CHANGE_TYPE_TAG);
+      } else if (reader.isNextTag(LATEST_VALUE_TAG)) {
+        latestValue = ChipStructs.AccessControlClusterAccessControlEntryStruct.decodeTlv(LATEST_VALUE_TAG, reader);
+      } else if (reader.isNextTag(FABRIC_INDEX_TAG)) {
+        fabricIndex = (int) reader.getUnsigned(FABRIC_INDEX_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new AccessControlClusterAccessControlEntryChangedEvent(
       adminNodeID,
       adminPasscodeID,
@@ -136,11 +126,11 @@ public static class AccessControlClusterAccessControlExtensionChangedEvent {
   public Integer changeType;
   public @Nullable ChipStructs.AccessControlClusterAccessControlExtensionStruct latestValue;
   public Integer fabricIndex;
-  private static final long ADMIN_NODE_ID_ID = 1L;
-  private static final long ADMIN_PASSCODE_ID_ID = 2L;
-  private static final long CHANGE_TYPE_ID = 3L;
-  private static final long LATEST_VALUE_ID = 4L;
-  private static final long FABRIC_INDEX_ID = 254L;
+  private static final Tag ADMIN_NODE_ID_TAG = new ContextSpecificTag(1);
+  private static final Tag ADMIN_PASSCODE_ID_TAG = new ContextSpecificTag(2);
+  private static final Tag CHANGE_TYPE_TAG = new ContextSpecificTag(3);
+  private static final Tag LATEST_VALUE_TAG = new ContextSpecificTag(4);
+  private static final Tag FABRIC_INDEX_TAG = new ContextSpecificTag(254);
 
   public AccessControlClusterAccessControlExtensionChangedEvent(
     @Nullable Long adminNodeID,
@@ -156,54 +146,41 @@ public static class AccessControlClusterAccessControlExtensionChangedEvent {
     this.fabricIndex = fabricIndex;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ADMIN_NODE_ID_ID, adminNodeID != null ? new UIntType(adminNodeID) : new NullType()));
-    values.add(new StructElement(ADMIN_PASSCODE_ID_ID, adminPasscodeID != null ? new UIntType(adminPasscodeID) : new NullType()));
-    values.add(new StructElement(CHANGE_TYPE_ID, new UIntType(changeType)));
-    values.add(new StructElement(LATEST_VALUE_ID, latestValue != null ? latestValue.encodeTlv() : new NullType()));
-    values.add(new StructElement(FABRIC_INDEX_ID, new UIntType(fabricIndex)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    if (adminNodeID != null) { writer.putUnsigned(ADMIN_NODE_ID_TAG, adminNodeID); } else { writer.putNull(ADMIN_NODE_ID_TAG); }
+    if (adminPasscodeID != null) { writer.putUnsigned(ADMIN_PASSCODE_ID_TAG, adminPasscodeID); } else { writer.putNull(ADMIN_PASSCODE_ID_TAG); }
+    writer.putUnsigned(CHANGE_TYPE_TAG, changeType);
+    if (latestValue != null) { latestValue.encodeTlv(LATEST_VALUE_TAG, writer); } else { writer.putNull(LATEST_VALUE_TAG); }
+    writer.putUnsigned(FABRIC_INDEX_TAG, fabricIndex);
+    writer.endStructure();
   }
 
-  public static AccessControlClusterAccessControlExtensionChangedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static AccessControlClusterAccessControlExtensionChangedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     @Nullable Long adminNodeID = null;
     @Nullable Integer adminPasscodeID = null;
     Integer changeType = null;
     @Nullable ChipStructs.AccessControlClusterAccessControlExtensionStruct latestValue = null;
     Integer fabricIndex = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ADMIN_NODE_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          adminNodeID = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == ADMIN_PASSCODE_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          adminPasscodeID = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == CHANGE_TYPE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          changeType = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == LATEST_VALUE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Struct) {
-          StructType castingValue = element.value(StructType.class);
-          latestValue = ChipStructs.AccessControlClusterAccessControlExtensionStruct.decodeTlv(castingValue);
-        }
-      } else if (element.contextTagNum() == FABRIC_INDEX_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          fabricIndex = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ADMIN_NODE_ID_TAG)) {
+        adminNodeID = reader.getUnsigned(ADMIN_NODE_ID_TAG);
+      } else if (reader.isNextTag(ADMIN_PASSCODE_ID_TAG)) {
+        adminPasscodeID = (int) reader.getUnsigned(ADMIN_PASSCODE_ID_TAG);
+      } else if (reader.isNextTag(CHANGE_TYPE_TAG)) {
+        changeType = (int) reader.getUnsigned(CHANGE_TYPE_TAG);
+      } else if (reader.isNextTag(LATEST_VALUE_TAG)) {
+        latestValue = ChipStructs.AccessControlClusterAccessControlExtensionStruct.decodeTlv(LATEST_VALUE_TAG, reader);
+      } else if (reader.isNextTag(FABRIC_INDEX_TAG)) {
+        fabricIndex = (int) reader.getUnsigned(FABRIC_INDEX_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new AccessControlClusterAccessControlExtensionChangedEvent(
       adminNodeID,
       adminPasscodeID,
@@ -241,10 +218,10 @@ public static class AccessControlClusterFabricRestrictionReviewUpdateEvent {
   public Optional<String> instruction;
   public Optional<String> ARLRequestFlowUrl;
   public Integer fabricIndex;
-  private static final long TOKEN_ID = 0L;
-  private static final long INSTRUCTION_ID = 1L;
-  private static final long ARL_REQUEST_FLOW_URL_ID = 2L;
-  private static final long FABRIC_INDEX_ID = 254L;
+  private static final Tag TOKEN_TAG = new ContextSpecificTag(0);
+  private static final Tag INSTRUCTION_TAG = new ContextSpecificTag(1);
+  private static final Tag ARL_REQUEST_FLOW_URL_TAG = new ContextSpecificTag(2);
+  private static final Tag FABRIC_INDEX_TAG = new ContextSpecificTag(254);
 
   public AccessControlClusterFabricRestrictionReviewUpdateEvent(
     Long token,
@@ -258,47 +235,37 @@ public static class AccessControlClusterFabricRestrictionReviewUpdateEvent {
     this.fabricIndex = fabricIndex;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(TOKEN_ID, new UIntType(token)));
-    values.add(new StructElement(INSTRUCTION_ID, instruction.<BaseTLVType>map((nonOptionalinstruction) -> new StringType(nonOptionalinstruction)).orElse(new EmptyType())));
-    values.add(new StructElement(ARL_REQUEST_FLOW_URL_ID, ARLRequestFlowUrl.<BaseTLVType>map((nonOptionalARLRequestFlowUrl) -> new StringType(nonOptionalARLRequestFlowUrl)).orElse(new EmptyType())));
-    values.add(new StructElement(FABRIC_INDEX_ID, new UIntType(fabricIndex)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(TOKEN_TAG, token);
+    instruction.ifPresent((nonOptionalinstruction) -> { writer.put(INSTRUCTION_TAG, nonOptionalinstruction); });
+    ARLRequestFlowUrl.ifPresent((nonOptionalARLRequestFlowUrl) -> { writer.put(ARL_REQUEST_FLOW_URL_TAG, nonOptionalARLRequestFlowUrl); });
+    writer.putUnsigned(FABRIC_INDEX_TAG, fabricIndex);
+    writer.endStructure();
   }
 
-  public static AccessControlClusterFabricRestrictionReviewUpdateEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static AccessControlClusterFabricRestrictionReviewUpdateEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Long token = null;
     Optional<String> instruction = Optional.empty();
     Optional<String> ARLRequestFlowUrl = Optional.empty();
     Integer fabricIndex = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == TOKEN_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          token = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == INSTRUCTION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.String) {
-          StringType castingValue = element.value(StringType.class);
-          instruction = Optional.of(castingValue.value(String.class));
-        }
-      } else if (element.contextTagNum() == ARL_REQUEST_FLOW_URL_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.String) {
-          StringType castingValue = element.value(StringType.class);
-          ARLRequestFlowUrl = Optional.of(castingValue.value(String.class));
-        }
-      } else if (element.contextTagNum() == FABRIC_INDEX_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          fabricIndex = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(TOKEN_TAG)) {
+        token = reader.getUnsigned(TOKEN_TAG);
+      } else if (reader.isNextTag(INSTRUCTION_TAG)) {
+        instruction = Optional.of(reader.getUtf8String(INSTRUCTION_TAG));
+      } else if (reader.isNextTag(ARL_REQUEST_FLOW_URL_TAG)) {
+        ARLRequestFlowUrl = Optional.of(reader.getUtf8String(ARL_REQUEST_FLOW_URL_TAG));
+      } else if (reader.isNextTag(FABRIC_INDEX_TAG)) {
+        fabricIndex = (int) reader.getUnsigned(FABRIC_INDEX_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new AccessControlClusterFabricRestrictionReviewUpdateEvent(
       token,
       instruction,
@@ -330,8 +297,8 @@ public static class AccessControlClusterFabricRestrictionReviewUpdateEvent {
 public static class AccessControlClusterAuxiliaryAccessUpdatedEvent {
   public @Nullable Long adminNodeID;
   public Integer fabricIndex;
-  private static final long ADMIN_NODE_ID_ID = 0L;
-  private static final long FABRIC_INDEX_ID = 254L;
+  private static final Tag ADMIN_NODE_ID_TAG = new ContextSpecificTag(0);
+  private static final Tag FABRIC_INDEX_TAG = new ContextSpecificTag(254);
 
   public AccessControlClusterAuxiliaryAccessUpdatedEvent(
     @Nullable Long adminNodeID,
@@ -341,33 +308,29 @@ public static class AccessControlClusterAuxiliaryAccessUpdatedEvent {
     this.fabricIndex = fabricIndex;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ADMIN_NODE_ID_ID, adminNodeID != null ? new UIntType(adminNodeID) : new NullType()));
-    values.add(new StructElement(FABRIC_INDEX_ID, new UIntType(fabricIndex)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    if (adminNodeID != null) { writer.putUnsigned(ADMIN_NODE_ID_TAG, adminNodeID); } else { writer.putNull(ADMIN_NODE_ID_TAG); }
+    writer.putUnsigned(FABRIC_INDEX_TAG, fabricIndex);
+    writer.endStructure();
   }
 
-  public static AccessControlClusterAuxiliaryAccessUpdatedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static AccessControlClusterAuxiliaryAccessUpdatedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     @Nullable Long adminNodeID = null;
     Integer fabricIndex = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ADMIN_NODE_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          adminNodeID = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == FABRIC_INDEX_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          fabricIndex = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ADMIN_NODE_ID_TAG)) {
+        adminNodeID = reader.getUnsigned(ADMIN_NODE_ID_TAG);
+      } else if (reader.isNextTag(FABRIC_INDEX_TAG)) {
+        fabricIndex = (int) reader.getUnsigned(FABRIC_INDEX_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new AccessControlClusterAuxiliaryAccessUpdatedEvent(
       adminNodeID,
       fabricIndex
@@ -392,9 +355,9 @@ public static class ActionsClusterStateChangedEvent {
   public Integer actionID;
   public Long invokeID;
   public Integer newState;
-  private static final long ACTION_ID_ID = 0L;
-  private static final long INVOKE_ID_ID = 1L;
-  private static final long NEW_STATE_ID = 2L;
+  private static final Tag ACTION_ID_TAG = new ContextSpecificTag(0);
+  private static final Tag INVOKE_ID_TAG = new ContextSpecificTag(1);
+  private static final Tag NEW_STATE_TAG = new ContextSpecificTag(2);
 
   public ActionsClusterStateChangedEvent(
     Integer actionID,
@@ -406,40 +369,33 @@ public static class ActionsClusterStateChangedEvent {
     this.newState = newState;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ACTION_ID_ID, new UIntType(actionID)));
-    values.add(new StructElement(INVOKE_ID_ID, new UIntType(invokeID)));
-    values.add(new StructElement(NEW_STATE_ID, new UIntType(newState)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(ACTION_ID_TAG, actionID);
+    writer.putUnsigned(INVOKE_ID_TAG, invokeID);
+    writer.putUnsigned(NEW_STATE_TAG, newState);
+    writer.endStructure();
   }
 
-  public static ActionsClusterStateChangedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ActionsClusterStateChangedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer actionID = null;
     Long invokeID = null;
     Integer newState = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ACTION_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          actionID = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == INVOKE_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          invokeID = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == NEW_STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          newState = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ACTION_ID_TAG)) {
+        actionID = (int) reader.getUnsigned(ACTION_ID_TAG);
+      } else if (reader.isNextTag(INVOKE_ID_TAG)) {
+        invokeID = reader.getUnsigned(INVOKE_ID_TAG);
+      } else if (reader.isNextTag(NEW_STATE_TAG)) {
+        newState = (int) reader.getUnsigned(NEW_STATE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ActionsClusterStateChangedEvent(
       actionID,
       invokeID,
@@ -469,10 +425,10 @@ public static class ActionsClusterActionFailedEvent {
   public Long invokeID;
   public Integer newState;
   public Integer error;
-  private static final long ACTION_ID_ID = 0L;
-  private static final long INVOKE_ID_ID = 1L;
-  private static final long NEW_STATE_ID = 2L;
-  private static final long ERROR_ID = 3L;
+  private static final Tag ACTION_ID_TAG = new ContextSpecificTag(0);
+  private static final Tag INVOKE_ID_TAG = new ContextSpecificTag(1);
+  private static final Tag NEW_STATE_TAG = new ContextSpecificTag(2);
+  private static final Tag ERROR_TAG = new ContextSpecificTag(3);
 
   public ActionsClusterActionFailedEvent(
     Integer actionID,
@@ -486,47 +442,37 @@ public static class ActionsClusterActionFailedEvent {
     this.error = error;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ACTION_ID_ID, new UIntType(actionID)));
-    values.add(new StructElement(INVOKE_ID_ID, new UIntType(invokeID)));
-    values.add(new StructElement(NEW_STATE_ID, new UIntType(newState)));
-    values.add(new StructElement(ERROR_ID, new UIntType(error)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(ACTION_ID_TAG, actionID);
+    writer.putUnsigned(INVOKE_ID_TAG, invokeID);
+    writer.putUnsigned(NEW_STATE_TAG, newState);
+    writer.putUnsigned(ERROR_TAG, error);
+    writer.endStructure();
   }
 
-  public static ActionsClusterActionFailedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ActionsClusterActionFailedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer actionID = null;
     Long invokeID = null;
     Integer newState = null;
     Integer error = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ACTION_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          actionID = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == INVOKE_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          invokeID = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == NEW_STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          newState = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == ERROR_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          error = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ACTION_ID_TAG)) {
+        actionID = (int) reader.getUnsigned(ACTION_ID_TAG);
+      } else if (reader.isNextTag(INVOKE_ID_TAG)) {
+        invokeID = reader.getUnsigned(INVOKE_ID_TAG);
+      } else if (reader.isNextTag(NEW_STATE_TAG)) {
+        newState = (int) reader.getUnsigned(NEW_STATE_TAG);
+      } else if (reader.isNextTag(ERROR_TAG)) {
+        error = (int) reader.getUnsigned(ERROR_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ActionsClusterActionFailedEvent(
       actionID,
       invokeID,
@@ -557,7 +503,7 @@ public static class ActionsClusterActionFailedEvent {
 }
 public static class BasicInformationClusterStartUpEvent {
   public Long softwareVersion;
-  private static final long SOFTWARE_VERSION_ID = 0L;
+  private static final Tag SOFTWARE_VERSION_TAG = new ContextSpecificTag(0);
 
   public BasicInformationClusterStartUpEvent(
     Long softwareVersion
@@ -565,26 +511,25 @@ public static class BasicInformationClusterStartUpEvent {
     this.softwareVersion = softwareVersion;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(SOFTWARE_VERSION_ID, new UIntType(softwareVersion)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(SOFTWARE_VERSION_TAG, softwareVersion);
+    writer.endStructure();
   }
 
-  public static BasicInformationClusterStartUpEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static BasicInformationClusterStartUpEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Long softwareVersion = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == SOFTWARE_VERSION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          softwareVersion = castingValue.value(Long.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(SOFTWARE_VERSION_TAG)) {
+        softwareVersion = reader.getUnsigned(SOFTWARE_VERSION_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new BasicInformationClusterStartUpEvent(
       softwareVersion
     );
@@ -607,16 +552,17 @@ public static class BasicInformationClusterShutDownEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static BasicInformationClusterShutDownEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static BasicInformationClusterShutDownEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new BasicInformationClusterShutDownEvent(
     );
   }
@@ -631,7 +577,7 @@ public static class BasicInformationClusterShutDownEvent {
 }
 public static class BasicInformationClusterLeaveEvent {
   public Integer fabricIndex;
-  private static final long FABRIC_INDEX_ID = 0L;
+  private static final Tag FABRIC_INDEX_TAG = new ContextSpecificTag(0);
 
   public BasicInformationClusterLeaveEvent(
     Integer fabricIndex
@@ -639,26 +585,25 @@ public static class BasicInformationClusterLeaveEvent {
     this.fabricIndex = fabricIndex;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(FABRIC_INDEX_ID, new UIntType(fabricIndex)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(FABRIC_INDEX_TAG, fabricIndex);
+    writer.endStructure();
   }
 
-  public static BasicInformationClusterLeaveEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static BasicInformationClusterLeaveEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer fabricIndex = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == FABRIC_INDEX_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          fabricIndex = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(FABRIC_INDEX_TAG)) {
+        fabricIndex = (int) reader.getUnsigned(FABRIC_INDEX_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new BasicInformationClusterLeaveEvent(
       fabricIndex
     );
@@ -677,7 +622,7 @@ public static class BasicInformationClusterLeaveEvent {
 }
 public static class BasicInformationClusterReachableChangedEvent {
   public Boolean reachableNewValue;
-  private static final long REACHABLE_NEW_VALUE_ID = 0L;
+  private static final Tag REACHABLE_NEW_VALUE_TAG = new ContextSpecificTag(0);
 
   public BasicInformationClusterReachableChangedEvent(
     Boolean reachableNewValue
@@ -685,26 +630,25 @@ public static class BasicInformationClusterReachableChangedEvent {
     this.reachableNewValue = reachableNewValue;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(REACHABLE_NEW_VALUE_ID, new BooleanType(reachableNewValue)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.put(REACHABLE_NEW_VALUE_TAG, reachableNewValue);
+    writer.endStructure();
   }
 
-  public static BasicInformationClusterReachableChangedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static BasicInformationClusterReachableChangedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Boolean reachableNewValue = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == REACHABLE_NEW_VALUE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Boolean) {
-          BooleanType castingValue = element.value(BooleanType.class);
-          reachableNewValue = castingValue.value(Boolean.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(REACHABLE_NEW_VALUE_TAG)) {
+        reachableNewValue = reader.getBool(REACHABLE_NEW_VALUE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new BasicInformationClusterReachableChangedEvent(
       reachableNewValue
     );
@@ -726,10 +670,10 @@ public static class OtaSoftwareUpdateRequestorClusterStateTransitionEvent {
   public Integer newState;
   public Integer reason;
   public @Nullable Long targetSoftwareVersion;
-  private static final long PREVIOUS_STATE_ID = 0L;
-  private static final long NEW_STATE_ID = 1L;
-  private static final long REASON_ID = 2L;
-  private static final long TARGET_SOFTWARE_VERSION_ID = 3L;
+  private static final Tag PREVIOUS_STATE_TAG = new ContextSpecificTag(0);
+  private static final Tag NEW_STATE_TAG = new ContextSpecificTag(1);
+  private static final Tag REASON_TAG = new ContextSpecificTag(2);
+  private static final Tag TARGET_SOFTWARE_VERSION_TAG = new ContextSpecificTag(3);
 
   public OtaSoftwareUpdateRequestorClusterStateTransitionEvent(
     Integer previousState,
@@ -743,47 +687,37 @@ public static class OtaSoftwareUpdateRequestorClusterStateTransitionEvent {
     this.targetSoftwareVersion = targetSoftwareVersion;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(PREVIOUS_STATE_ID, new UIntType(previousState)));
-    values.add(new StructElement(NEW_STATE_ID, new UIntType(newState)));
-    values.add(new StructElement(REASON_ID, new UIntType(reason)));
-    values.add(new StructElement(TARGET_SOFTWARE_VERSION_ID, targetSoftwareVersion != null ? new UIntType(targetSoftwareVersion) : new NullType()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(PREVIOUS_STATE_TAG, previousState);
+    writer.putUnsigned(NEW_STATE_TAG, newState);
+    writer.putUnsigned(REASON_TAG, reason);
+    if (targetSoftwareVersion != null) { writer.putUnsigned(TARGET_SOFTWARE_VERSION_TAG, targetSoftwareVersion); } else { writer.putNull(TARGET_SOFTWARE_VERSION_TAG); }
+    writer.endStructure();
   }
 
-  public static OtaSoftwareUpdateRequestorClusterStateTransitionEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static OtaSoftwareUpdateRequestorClusterStateTransitionEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer previousState = null;
     Integer newState = null;
     Integer reason = null;
     @Nullable Long targetSoftwareVersion = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == PREVIOUS_STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          previousState = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == NEW_STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          newState = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == REASON_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          reason = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == TARGET_SOFTWARE_VERSION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          targetSoftwareVersion = castingValue.value(Long.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(PREVIOUS_STATE_TAG)) {
+        previousState = (int) reader.getUnsigned(PREVIOUS_STATE_TAG);
+      } else if (reader.isNextTag(NEW_STATE_TAG)) {
+        newState = (int) reader.getUnsigned(NEW_STATE_TAG);
+      } else if (reader.isNextTag(REASON_TAG)) {
+        reason = (int) reader.getUnsigned(REASON_TAG);
+      } else if (reader.isNextTag(TARGET_SOFTWARE_VERSION_TAG)) {
+        targetSoftwareVersion = reader.getUnsigned(TARGET_SOFTWARE_VERSION_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new OtaSoftwareUpdateRequestorClusterStateTransitionEvent(
       previousState,
       newState,
@@ -815,8 +749,8 @@ public static class OtaSoftwareUpdateRequestorClusterStateTransitionEvent {
 public static class OtaSoftwareUpdateRequestorClusterVersionAppliedEvent {
   public Long softwareVersion;
   public Integer productID;
-  private static final long SOFTWARE_VERSION_ID = 0L;
-  private static final long PRODUCT_ID_ID = 1L;
+  private static final Tag SOFTWARE_VERSION_TAG = new ContextSpecificTag(0);
+  private static final Tag PRODUCT_ID_TAG = new ContextSpecificTag(1);
 
   public OtaSoftwareUpdateRequestorClusterVersionAppliedEvent(
     Long softwareVersion,
@@ -826,33 +760,29 @@ public static class OtaSoftwareUpdateRequestorClusterVersionAppliedEvent {
     this.productID = productID;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(SOFTWARE_VERSION_ID, new UIntType(softwareVersion)));
-    values.add(new StructElement(PRODUCT_ID_ID, new UIntType(productID)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(SOFTWARE_VERSION_TAG, softwareVersion);
+    writer.putUnsigned(PRODUCT_ID_TAG, productID);
+    writer.endStructure();
   }
 
-  public static OtaSoftwareUpdateRequestorClusterVersionAppliedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static OtaSoftwareUpdateRequestorClusterVersionAppliedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Long softwareVersion = null;
     Integer productID = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == SOFTWARE_VERSION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          softwareVersion = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == PRODUCT_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          productID = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(SOFTWARE_VERSION_TAG)) {
+        softwareVersion = reader.getUnsigned(SOFTWARE_VERSION_TAG);
+      } else if (reader.isNextTag(PRODUCT_ID_TAG)) {
+        productID = (int) reader.getUnsigned(PRODUCT_ID_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new OtaSoftwareUpdateRequestorClusterVersionAppliedEvent(
       softwareVersion,
       productID
@@ -878,10 +808,10 @@ public static class OtaSoftwareUpdateRequestorClusterDownloadErrorEvent {
   public Long bytesDownloaded;
   public @Nullable Integer progressPercent;
   public @Nullable Long platformCode;
-  private static final long SOFTWARE_VERSION_ID = 0L;
-  private static final long BYTES_DOWNLOADED_ID = 1L;
-  private static final long PROGRESS_PERCENT_ID = 2L;
-  private static final long PLATFORM_CODE_ID = 3L;
+  private static final Tag SOFTWARE_VERSION_TAG = new ContextSpecificTag(0);
+  private static final Tag BYTES_DOWNLOADED_TAG = new ContextSpecificTag(1);
+  private static final Tag PROGRESS_PERCENT_TAG = new ContextSpecificTag(2);
+  private static final Tag PLATFORM_CODE_TAG = new ContextSpecificTag(3);
 
   public OtaSoftwareUpdateRequestorClusterDownloadErrorEvent(
     Long softwareVersion,
@@ -895,47 +825,37 @@ public static class OtaSoftwareUpdateRequestorClusterDownloadErrorEvent {
     this.platformCode = platformCode;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(SOFTWARE_VERSION_ID, new UIntType(softwareVersion)));
-    values.add(new StructElement(BYTES_DOWNLOADED_ID, new UIntType(bytesDownloaded)));
-    values.add(new StructElement(PROGRESS_PERCENT_ID, progressPercent != null ? new UIntType(progressPercent) : new NullType()));
-    values.add(new StructElement(PLATFORM_CODE_ID, platformCode != null ? new IntType(platformCode) : new NullType()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(SOFTWARE_VERSION_TAG, softwareVersion);
+    writer.putUnsigned(BYTES_DOWNLOADED_TAG, bytesDownloaded);
+    if (progressPercent != null) { writer.putUnsigned(PROGRESS_PERCENT_TAG, progressPercent); } else { writer.putNull(PROGRESS_PERCENT_TAG); }
+    if (platformCode != null) { writer.put(PLATFORM_CODE_TAG, platformCode); } else { writer.putNull(PLATFORM_CODE_TAG); }
+    writer.endStructure();
   }
 
-  public static OtaSoftwareUpdateRequestorClusterDownloadErrorEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static OtaSoftwareUpdateRequestorClusterDownloadErrorEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Long softwareVersion = null;
     Long bytesDownloaded = null;
     @Nullable Integer progressPercent = null;
     @Nullable Long platformCode = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == SOFTWARE_VERSION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          softwareVersion = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == BYTES_DOWNLOADED_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          bytesDownloaded = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == PROGRESS_PERCENT_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          progressPercent = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == PLATFORM_CODE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Int) {
-          IntType castingValue = element.value(IntType.class);
-          platformCode = castingValue.value(Long.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(SOFTWARE_VERSION_TAG)) {
+        softwareVersion = reader.getUnsigned(SOFTWARE_VERSION_TAG);
+      } else if (reader.isNextTag(BYTES_DOWNLOADED_TAG)) {
+        bytesDownloaded = reader.getUnsigned(BYTES_DOWNLOADED_TAG);
+      } else if (reader.isNextTag(PROGRESS_PERCENT_TAG)) {
+        progressPercent = (int) reader.getUnsigned(PROGRESS_PERCENT_TAG);
+      } else if (reader.isNextTag(PLATFORM_CODE_TAG)) {
+        platformCode = reader.getLong(PLATFORM_CODE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new OtaSoftwareUpdateRequestorClusterDownloadErrorEvent(
       softwareVersion,
       bytesDownloaded,
@@ -967,8 +887,8 @@ public static class OtaSoftwareUpdateRequestorClusterDownloadErrorEvent {
 public static class PowerSourceClusterWiredFaultChangeEvent {
   public ArrayList<Integer> current;
   public ArrayList<Integer> previous;
-  private static final long CURRENT_ID = 0L;
-  private static final long PREVIOUS_ID = 1L;
+  private static final Tag CURRENT_TAG = new ContextSpecificTag(0);
+  private static final Tag PREVIOUS_TAG = new ContextSpecificTag(1);
 
   public PowerSourceClusterWiredFaultChangeEvent(
     ArrayList<Integer> current,
@@ -978,33 +898,29 @@ public static class PowerSourceClusterWiredFaultChangeEvent {
     this.previous = previous;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(CURRENT_ID, ArrayType.generateArrayType(current, (elementcurrent) -> new UIntType(elementcurrent))));
-    values.add(new StructElement(PREVIOUS_ID, ArrayType.generateArrayType(previous, (elementprevious) -> new UIntType(elementprevious))));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.startArray(CURRENT_TAG); current.forEach((elementcurrent) -> { writer.putUnsigned(AnonymousTag.INSTANCE, elementcurrent); }); writer.endArray();
+    writer.startArray(PREVIOUS_TAG); previous.forEach((elementprevious) -> { writer.putUnsigned(AnonymousTag.INSTANCE, elementprevious); }); writer.endArray();
+    writer.endStructure();
   }
 
-  public static PowerSourceClusterWiredFaultChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static PowerSourceClusterWiredFaultChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     ArrayList<Integer> current = null;
     ArrayList<Integer> previous = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == CURRENT_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          current = castingValue.map((elementcastingValue) -> elementcastingValue.value(Integer.class));
-        }
-      } else if (element.contextTagNum() == PREVIOUS_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          previous = castingValue.map((elementcastingValue) -> elementcastingValue.value(Integer.class));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(CURRENT_TAG)) {
+        current = ChipTLVCodec.readArray(reader, CURRENT_TAG, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      } else if (reader.isNextTag(PREVIOUS_TAG)) {
+        previous = ChipTLVCodec.readArray(reader, PREVIOUS_TAG, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new PowerSourceClusterWiredFaultChangeEvent(
       current,
       previous
@@ -1028,8 +944,8 @@ public static class PowerSourceClusterWiredFaultChangeEvent {
 public static class PowerSourceClusterBatFaultChangeEvent {
   public ArrayList<Integer> current;
   public ArrayList<Integer> previous;
-  private static final long CURRENT_ID = 0L;
-  private static final long PREVIOUS_ID = 1L;
+  private static final Tag CURRENT_TAG = new ContextSpecificTag(0);
+  private static final Tag PREVIOUS_TAG = new ContextSpecificTag(1);
 
   public PowerSourceClusterBatFaultChangeEvent(
     ArrayList<Integer> current,
@@ -1039,33 +955,29 @@ public static class PowerSourceClusterBatFaultChangeEvent {
     this.previous = previous;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(CURRENT_ID, ArrayType.generateArrayType(current, (elementcurrent) -> new UIntType(elementcurrent))));
-    values.add(new StructElement(PREVIOUS_ID, ArrayType.generateArrayType(previous, (elementprevious) -> new UIntType(elementprevious))));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.startArray(CURRENT_TAG); current.forEach((elementcurrent) -> { writer.putUnsigned(AnonymousTag.INSTANCE, elementcurrent); }); writer.endArray();
+    writer.startArray(PREVIOUS_TAG); previous.forEach((elementprevious) -> { writer.putUnsigned(AnonymousTag.INSTANCE, elementprevious); }); writer.endArray();
+    writer.endStructure();
   }
 
-  public static PowerSourceClusterBatFaultChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static PowerSourceClusterBatFaultChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     ArrayList<Integer> current = null;
     ArrayList<Integer> previous = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == CURRENT_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          current = castingValue.map((elementcastingValue) -> elementcastingValue.value(Integer.class));
-        }
-      } else if (element.contextTagNum() == PREVIOUS_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          previous = castingValue.map((elementcastingValue) -> elementcastingValue.value(Integer.class));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(CURRENT_TAG)) {
+        current = ChipTLVCodec.readArray(reader, CURRENT_TAG, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      } else if (reader.isNextTag(PREVIOUS_TAG)) {
+        previous = ChipTLVCodec.readArray(reader, PREVIOUS_TAG, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new PowerSourceClusterBatFaultChangeEvent(
       current,
       previous
@@ -1089,8 +1001,8 @@ public static class PowerSourceClusterBatFaultChangeEvent {
 public static class PowerSourceClusterBatChargeFaultChangeEvent {
   public ArrayList<Integer> current;
   public ArrayList<Integer> previous;
-  private static final long CURRENT_ID = 0L;
-  private static final long PREVIOUS_ID = 1L;
+  private static final Tag CURRENT_TAG = new ContextSpecificTag(0);
+  private static final Tag PREVIOUS_TAG = new ContextSpecificTag(1);
 
   public PowerSourceClusterBatChargeFaultChangeEvent(
     ArrayList<Integer> current,
@@ -1100,33 +1012,29 @@ public static class PowerSourceClusterBatChargeFaultChangeEvent {
     this.previous = previous;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(CURRENT_ID, ArrayType.generateArrayType(current, (elementcurrent) -> new UIntType(elementcurrent))));
-    values.add(new StructElement(PREVIOUS_ID, ArrayType.generateArrayType(previous, (elementprevious) -> new UIntType(elementprevious))));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.startArray(CURRENT_TAG); current.forEach((elementcurrent) -> { writer.putUnsigned(AnonymousTag.INSTANCE, elementcurrent); }); writer.endArray();
+    writer.startArray(PREVIOUS_TAG); previous.forEach((elementprevious) -> { writer.putUnsigned(AnonymousTag.INSTANCE, elementprevious); }); writer.endArray();
+    writer.endStructure();
   }
 
-  public static PowerSourceClusterBatChargeFaultChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static PowerSourceClusterBatChargeFaultChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     ArrayList<Integer> current = null;
     ArrayList<Integer> previous = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == CURRENT_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          current = castingValue.map((elementcastingValue) -> elementcastingValue.value(Integer.class));
-        }
-      } else if (element.contextTagNum() == PREVIOUS_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          previous = castingValue.map((elementcastingValue) -> elementcastingValue.value(Integer.class));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(CURRENT_TAG)) {
+        current = ChipTLVCodec.readArray(reader, CURRENT_TAG, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      } else if (reader.isNextTag(PREVIOUS_TAG)) {
+        previous = ChipTLVCodec.readArray(reader, PREVIOUS_TAG, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new PowerSourceClusterBatChargeFaultChangeEvent(
       current,
       previous
@@ -1150,8 +1058,8 @@ public static class PowerSourceClusterBatChargeFaultChangeEvent {
 public static class GeneralDiagnosticsClusterHardwareFaultChangeEvent {
   public ArrayList<Integer> current;
   public ArrayList<Integer> previous;
-  private static final long CURRENT_ID = 0L;
-  private static final long PREVIOUS_ID = 1L;
+  private static final Tag CURRENT_TAG = new ContextSpecificTag(0);
+  private static final Tag PREVIOUS_TAG = new ContextSpecificTag(1);
 
   public GeneralDiagnosticsClusterHardwareFaultChangeEvent(
     ArrayList<Integer> current,
@@ -1161,33 +1069,29 @@ public static class GeneralDiagnosticsClusterHardwareFaultChangeEvent {
     this.previous = previous;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(CURRENT_ID, ArrayType.generateArrayType(current, (elementcurrent) -> new UIntType(elementcurrent))));
-    values.add(new StructElement(PREVIOUS_ID, ArrayType.generateArrayType(previous, (elementprevious) -> new UIntType(elementprevious))));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.startArray(CURRENT_TAG); current.forEach((elementcurrent) -> { writer.putUnsigned(AnonymousTag.INSTANCE, elementcurrent); }); writer.endArray();
+    writer.startArray(PREVIOUS_TAG); previous.forEach((elementprevious) -> { writer.putUnsigned(AnonymousTag.INSTANCE, elementprevious); }); writer.endArray();
+    writer.endStructure();
   }
 
-  public static GeneralDiagnosticsClusterHardwareFaultChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static GeneralDiagnosticsClusterHardwareFaultChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     ArrayList<Integer> current = null;
     ArrayList<Integer> previous = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == CURRENT_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          current = castingValue.map((elementcastingValue) -> elementcastingValue.value(Integer.class));
-        }
-      } else if (element.contextTagNum() == PREVIOUS_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          previous = castingValue.map((elementcastingValue) -> elementcastingValue.value(Integer.class));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(CURRENT_TAG)) {
+        current = ChipTLVCodec.readArray(reader, CURRENT_TAG, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      } else if (reader.isNextTag(PREVIOUS_TAG)) {
+        previous = ChipTLVCodec.readArray(reader, PREVIOUS_TAG, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new GeneralDiagnosticsClusterHardwareFaultChangeEvent(
       current,
       previous
@@ -1211,8 +1115,8 @@ public static class GeneralDiagnosticsClusterHardwareFaultChangeEvent {
 public static class GeneralDiagnosticsClusterRadioFaultChangeEvent {
   public ArrayList<Integer> current;
   public ArrayList<Integer> previous;
-  private static final long CURRENT_ID = 0L;
-  private static final long PREVIOUS_ID = 1L;
+  private static final Tag CURRENT_TAG = new ContextSpecificTag(0);
+  private static final Tag PREVIOUS_TAG = new ContextSpecificTag(1);
 
   public GeneralDiagnosticsClusterRadioFaultChangeEvent(
     ArrayList<Integer> current,
@@ -1222,33 +1126,29 @@ public static class GeneralDiagnosticsClusterRadioFaultChangeEvent {
     this.previous = previous;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(CURRENT_ID, ArrayType.generateArrayType(current, (elementcurrent) -> new UIntType(elementcurrent))));
-    values.add(new StructElement(PREVIOUS_ID, ArrayType.generateArrayType(previous, (elementprevious) -> new UIntType(elementprevious))));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.startArray(CURRENT_TAG); current.forEach((elementcurrent) -> { writer.putUnsigned(AnonymousTag.INSTANCE, elementcurrent); }); writer.endArray();
+    writer.startArray(PREVIOUS_TAG); previous.forEach((elementprevious) -> { writer.putUnsigned(AnonymousTag.INSTANCE, elementprevious); }); writer.endArray();
+    writer.endStructure();
   }
 
-  public static GeneralDiagnosticsClusterRadioFaultChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static GeneralDiagnosticsClusterRadioFaultChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     ArrayList<Integer> current = null;
     ArrayList<Integer> previous = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == CURRENT_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          current = castingValue.map((elementcastingValue) -> elementcastingValue.value(Integer.class));
-        }
-      } else if (element.contextTagNum() == PREVIOUS_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          previous = castingValue.map((elementcastingValue) -> elementcastingValue.value(Integer.class));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(CURRENT_TAG)) {
+        current = ChipTLVCodec.readArray(reader, CURRENT_TAG, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      } else if (reader.isNextTag(PREVIOUS_TAG)) {
+        previous = ChipTLVCodec.readArray(reader, PREVIOUS_TAG, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new GeneralDiagnosticsClusterRadioFaultChangeEvent(
       current,
       previous
@@ -1272,8 +1172,8 @@ public static class GeneralDiagnosticsClusterRadioFaultChangeEvent {
 public static class GeneralDiagnosticsClusterNetworkFaultChangeEvent {
   public ArrayList<Integer> current;
   public ArrayList<Integer> previous;
-  private static final long CURRENT_ID = 0L;
-  private static final long PREVIOUS_ID = 1L;
+  private static final Tag CURRENT_TAG = new ContextSpecificTag(0);
+  private static final Tag PREVIOUS_TAG = new ContextSpecificTag(1);
 
   public GeneralDiagnosticsClusterNetworkFaultChangeEvent(
     ArrayList<Integer> current,
@@ -1283,33 +1183,29 @@ public static class GeneralDiagnosticsClusterNetworkFaultChangeEvent {
     this.previous = previous;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(CURRENT_ID, ArrayType.generateArrayType(current, (elementcurrent) -> new UIntType(elementcurrent))));
-    values.add(new StructElement(PREVIOUS_ID, ArrayType.generateArrayType(previous, (elementprevious) -> new UIntType(elementprevious))));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.startArray(CURRENT_TAG); current.forEach((elementcurrent) -> { writer.putUnsigned(AnonymousTag.INSTANCE, elementcurrent); }); writer.endArray();
+    writer.startArray(PREVIOUS_TAG); previous.forEach((elementprevious) -> { writer.putUnsigned(AnonymousTag.INSTANCE, elementprevious); }); writer.endArray();
+    writer.endStructure();
   }
 
-  public static GeneralDiagnosticsClusterNetworkFaultChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static GeneralDiagnosticsClusterNetworkFaultChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     ArrayList<Integer> current = null;
     ArrayList<Integer> previous = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == CURRENT_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          current = castingValue.map((elementcastingValue) -> elementcastingValue.value(Integer.class));
-        }
-      } else if (element.contextTagNum() == PREVIOUS_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          previous = castingValue.map((elementcastingValue) -> elementcastingValue.value(Integer.class));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(CURRENT_TAG)) {
+        current = ChipTLVCodec.readArray(reader, CURRENT_TAG, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      } else if (reader.isNextTag(PREVIOUS_TAG)) {
+        previous = ChipTLVCodec.readArray(reader, PREVIOUS_TAG, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new GeneralDiagnosticsClusterNetworkFaultChangeEvent(
       current,
       previous
@@ -1332,7 +1228,7 @@ public static class GeneralDiagnosticsClusterNetworkFaultChangeEvent {
 }
 public static class GeneralDiagnosticsClusterBootReasonEvent {
   public Integer bootReason;
-  private static final long BOOT_REASON_ID = 0L;
+  private static final Tag BOOT_REASON_TAG = new ContextSpecificTag(0);
 
   public GeneralDiagnosticsClusterBootReasonEvent(
     Integer bootReason
@@ -1340,26 +1236,25 @@ public static class GeneralDiagnosticsClusterBootReasonEvent {
     this.bootReason = bootReason;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(BOOT_REASON_ID, new UIntType(bootReason)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(BOOT_REASON_TAG, bootReason);
+    writer.endStructure();
   }
 
-  public static GeneralDiagnosticsClusterBootReasonEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static GeneralDiagnosticsClusterBootReasonEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer bootReason = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == BOOT_REASON_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          bootReason = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(BOOT_REASON_TAG)) {
+        bootReason = (int) reader.getUnsigned(BOOT_REASON_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new GeneralDiagnosticsClusterBootReasonEvent(
       bootReason
     );
@@ -1380,9 +1275,9 @@ public static class SoftwareDiagnosticsClusterSoftwareFaultEvent {
   public Long id;
   public Optional<String> name;
   public Optional<byte[]> faultRecording;
-  private static final long ID_ID = 0L;
-  private static final long NAME_ID = 1L;
-  private static final long FAULT_RECORDING_ID = 2L;
+  private static final Tag ID_TAG = new ContextSpecificTag(0);
+  private static final Tag NAME_TAG = new ContextSpecificTag(1);
+  private static final Tag FAULT_RECORDING_TAG = new ContextSpecificTag(2);
 
   public SoftwareDiagnosticsClusterSoftwareFaultEvent(
     Long id,
@@ -1394,40 +1289,33 @@ public static class SoftwareDiagnosticsClusterSoftwareFaultEvent {
     this.faultRecording = faultRecording;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ID_ID, new UIntType(id)));
-    values.add(new StructElement(NAME_ID, name.<BaseTLVType>map((nonOptionalname) -> new StringType(nonOptionalname)).orElse(new EmptyType())));
-    values.add(new StructElement(FAULT_RECORDING_ID, faultRecording.<BaseTLVType>map((nonOptionalfaultRecording) -> new ByteArrayType(nonOptionalfaultRecording)).orElse(new EmptyType())));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(ID_TAG, id);
+    name.ifPresent((nonOptionalname) -> { writer.put(NAME_TAG, nonOptionalname); });
+    faultRecording.ifPresent((nonOptionalfaultRecording) -> { writer.put(FAULT_RECORDING_TAG, nonOptionalfaultRecording); });
+    writer.endStructure();
   }
 
-  public static SoftwareDiagnosticsClusterSoftwareFaultEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static SoftwareDiagnosticsClusterSoftwareFaultEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Long id = null;
     Optional<String> name = Optional.empty();
     Optional<byte[]> faultRecording = Optional.empty();
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          id = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == NAME_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.String) {
-          StringType castingValue = element.value(StringType.class);
-          name = Optional.of(castingValue.value(String.class));
-        }
-      } else if (element.contextTagNum() == FAULT_RECORDING_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.ByteArray) {
-          ByteArrayType castingValue = element.value(ByteArrayType.class);
-          faultRecording = Optional.of(castingValue.value(byte[].class));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ID_TAG)) {
+        id = reader.getUnsigned(ID_TAG);
+      } else if (reader.isNextTag(NAME_TAG)) {
+        name = Optional.of(reader.getUtf8String(NAME_TAG));
+      } else if (reader.isNextTag(FAULT_RECORDING_TAG)) {
+        faultRecording = Optional.of(reader.getByteString(FAULT_RECORDING_TAG));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new SoftwareDiagnosticsClusterSoftwareFaultEvent(
       id,
       name,
@@ -1454,7 +1342,7 @@ public static class SoftwareDiagnosticsClusterSoftwareFaultEvent {
 }
 public static class ThreadNetworkDiagnosticsClusterConnectionStatusEvent {
   public Integer connectionStatus;
-  private static final long CONNECTION_STATUS_ID = 0L;
+  private static final Tag CONNECTION_STATUS_TAG = new ContextSpecificTag(0);
 
   public ThreadNetworkDiagnosticsClusterConnectionStatusEvent(
     Integer connectionStatus
@@ -1462,26 +1350,25 @@ public static class ThreadNetworkDiagnosticsClusterConnectionStatusEvent {
     this.connectionStatus = connectionStatus;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(CONNECTION_STATUS_ID, new UIntType(connectionStatus)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(CONNECTION_STATUS_TAG, connectionStatus);
+    writer.endStructure();
   }
 
-  public static ThreadNetworkDiagnosticsClusterConnectionStatusEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ThreadNetworkDiagnosticsClusterConnectionStatusEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer connectionStatus = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == CONNECTION_STATUS_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          connectionStatus = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(CONNECTION_STATUS_TAG)) {
+        connectionStatus = (int) reader.getUnsigned(CONNECTION_STATUS_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ThreadNetworkDiagnosticsClusterConnectionStatusEvent(
       connectionStatus
     );
@@ -1501,8 +1388,8 @@ public static class ThreadNetworkDiagnosticsClusterConnectionStatusEvent {
 public static class ThreadNetworkDiagnosticsClusterNetworkFaultChangeEvent {
   public ArrayList<Integer> current;
   public ArrayList<Integer> previous;
-  private static final long CURRENT_ID = 0L;
-  private static final long PREVIOUS_ID = 1L;
+  private static final Tag CURRENT_TAG = new ContextSpecificTag(0);
+  private static final Tag PREVIOUS_TAG = new ContextSpecificTag(1);
 
   public ThreadNetworkDiagnosticsClusterNetworkFaultChangeEvent(
     ArrayList<Integer> current,
@@ -1512,33 +1399,29 @@ public static class ThreadNetworkDiagnosticsClusterNetworkFaultChangeEvent {
     this.previous = previous;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(CURRENT_ID, ArrayType.generateArrayType(current, (elementcurrent) -> new UIntType(elementcurrent))));
-    values.add(new StructElement(PREVIOUS_ID, ArrayType.generateArrayType(previous, (elementprevious) -> new UIntType(elementprevious))));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.startArray(CURRENT_TAG); current.forEach((elementcurrent) -> { writer.putUnsigned(AnonymousTag.INSTANCE, elementcurrent); }); writer.endArray();
+    writer.startArray(PREVIOUS_TAG); previous.forEach((elementprevious) -> { writer.putUnsigned(AnonymousTag.INSTANCE, elementprevious); }); writer.endArray();
+    writer.endStructure();
   }
 
-  public static ThreadNetworkDiagnosticsClusterNetworkFaultChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ThreadNetworkDiagnosticsClusterNetworkFaultChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     ArrayList<Integer> current = null;
     ArrayList<Integer> previous = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == CURRENT_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          current = castingValue.map((elementcastingValue) -> elementcastingValue.value(Integer.class));
-        }
-      } else if (element.contextTagNum() == PREVIOUS_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          previous = castingValue.map((elementcastingValue) -> elementcastingValue.value(Integer.class));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(CURRENT_TAG)) {
+        current = ChipTLVCodec.readArray(reader, CURRENT_TAG, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      } else if (reader.isNextTag(PREVIOUS_TAG)) {
+        previous = ChipTLVCodec.readArray(reader, PREVIOUS_TAG, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ThreadNetworkDiagnosticsClusterNetworkFaultChangeEvent(
       current,
       previous
@@ -1561,7 +1444,7 @@ public static class ThreadNetworkDiagnosticsClusterNetworkFaultChangeEvent {
 }
 public static class WiFiNetworkDiagnosticsClusterDisconnectionEvent {
   public Integer reasonCode;
-  private static final long REASON_CODE_ID = 0L;
+  private static final Tag REASON_CODE_TAG = new ContextSpecificTag(0);
 
   public WiFiNetworkDiagnosticsClusterDisconnectionEvent(
     Integer reasonCode
@@ -1569,26 +1452,25 @@ public static class WiFiNetworkDiagnosticsClusterDisconnectionEvent {
     this.reasonCode = reasonCode;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(REASON_CODE_ID, new UIntType(reasonCode)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(REASON_CODE_TAG, reasonCode);
+    writer.endStructure();
   }
 
-  public static WiFiNetworkDiagnosticsClusterDisconnectionEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static WiFiNetworkDiagnosticsClusterDisconnectionEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer reasonCode = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == REASON_CODE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          reasonCode = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(REASON_CODE_TAG)) {
+        reasonCode = (int) reader.getUnsigned(REASON_CODE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new WiFiNetworkDiagnosticsClusterDisconnectionEvent(
       reasonCode
     );
@@ -1608,8 +1490,8 @@ public static class WiFiNetworkDiagnosticsClusterDisconnectionEvent {
 public static class WiFiNetworkDiagnosticsClusterAssociationFailureEvent {
   public Integer associationFailureCause;
   public Integer status;
-  private static final long ASSOCIATION_FAILURE_CAUSE_ID = 0L;
-  private static final long STATUS_ID = 1L;
+  private static final Tag ASSOCIATION_FAILURE_CAUSE_TAG = new ContextSpecificTag(0);
+  private static final Tag STATUS_TAG = new ContextSpecificTag(1);
 
   public WiFiNetworkDiagnosticsClusterAssociationFailureEvent(
     Integer associationFailureCause,
@@ -1619,33 +1501,29 @@ public static class WiFiNetworkDiagnosticsClusterAssociationFailureEvent {
     this.status = status;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ASSOCIATION_FAILURE_CAUSE_ID, new UIntType(associationFailureCause)));
-    values.add(new StructElement(STATUS_ID, new UIntType(status)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(ASSOCIATION_FAILURE_CAUSE_TAG, associationFailureCause);
+    writer.putUnsigned(STATUS_TAG, status);
+    writer.endStructure();
   }
 
-  public static WiFiNetworkDiagnosticsClusterAssociationFailureEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static WiFiNetworkDiagnosticsClusterAssociationFailureEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer associationFailureCause = null;
     Integer status = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ASSOCIATION_FAILURE_CAUSE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          associationFailureCause = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == STATUS_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          status = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ASSOCIATION_FAILURE_CAUSE_TAG)) {
+        associationFailureCause = (int) reader.getUnsigned(ASSOCIATION_FAILURE_CAUSE_TAG);
+      } else if (reader.isNextTag(STATUS_TAG)) {
+        status = (int) reader.getUnsigned(STATUS_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new WiFiNetworkDiagnosticsClusterAssociationFailureEvent(
       associationFailureCause,
       status
@@ -1668,7 +1546,7 @@ public static class WiFiNetworkDiagnosticsClusterAssociationFailureEvent {
 }
 public static class WiFiNetworkDiagnosticsClusterConnectionStatusEvent {
   public Integer connectionStatus;
-  private static final long CONNECTION_STATUS_ID = 0L;
+  private static final Tag CONNECTION_STATUS_TAG = new ContextSpecificTag(0);
 
   public WiFiNetworkDiagnosticsClusterConnectionStatusEvent(
     Integer connectionStatus
@@ -1676,26 +1554,25 @@ public static class WiFiNetworkDiagnosticsClusterConnectionStatusEvent {
     this.connectionStatus = connectionStatus;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(CONNECTION_STATUS_ID, new UIntType(connectionStatus)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(CONNECTION_STATUS_TAG, connectionStatus);
+    writer.endStructure();
   }
 
-  public static WiFiNetworkDiagnosticsClusterConnectionStatusEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static WiFiNetworkDiagnosticsClusterConnectionStatusEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer connectionStatus = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == CONNECTION_STATUS_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          connectionStatus = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(CONNECTION_STATUS_TAG)) {
+        connectionStatus = (int) reader.getUnsigned(CONNECTION_STATUS_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new WiFiNetworkDiagnosticsClusterConnectionStatusEvent(
       connectionStatus
     );
@@ -1718,16 +1595,17 @@ public static class TimeSynchronizationClusterDSTTableEmptyEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static TimeSynchronizationClusterDSTTableEmptyEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static TimeSynchronizationClusterDSTTableEmptyEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new TimeSynchronizationClusterDSTTableEmptyEvent(
     );
   }
@@ -1742,7 +1620,7 @@ public static class TimeSynchronizationClusterDSTTableEmptyEvent {
 }
 public static class TimeSynchronizationClusterDSTStatusEvent {
   public Boolean DSTOffsetActive;
-  private static final long DST_OFFSET_ACTIVE_ID = 0L;
+  private static final Tag DST_OFFSET_ACTIVE_TAG = new ContextSpecificTag(0);
 
   public TimeSynchronizationClusterDSTStatusEvent(
     Boolean DSTOffsetActive
@@ -1750,26 +1628,25 @@ public static class TimeSynchronizationClusterDSTStatusEvent {
     this.DSTOffsetActive = DSTOffsetActive;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(DST_OFFSET_ACTIVE_ID, new BooleanType(DSTOffsetActive)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.put(DST_OFFSET_ACTIVE_TAG, DSTOffsetActive);
+    writer.endStructure();
   }
 
-  public static TimeSynchronizationClusterDSTStatusEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static TimeSynchronizationClusterDSTStatusEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Boolean DSTOffsetActive = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == DST_OFFSET_ACTIVE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Boolean) {
-          BooleanType castingValue = element.value(BooleanType.class);
-          DSTOffsetActive = castingValue.value(Boolean.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(DST_OFFSET_ACTIVE_TAG)) {
+        DSTOffsetActive = reader.getBool(DST_OFFSET_ACTIVE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new TimeSynchronizationClusterDSTStatusEvent(
       DSTOffsetActive
     );
@@ -1789,8 +1666,8 @@ public static class TimeSynchronizationClusterDSTStatusEvent {
 public static class TimeSynchronizationClusterTimeZoneStatusEvent {
   public Long offset;
   public Optional<String> name;
-  private static final long OFFSET_ID = 0L;
-  private static final long NAME_ID = 1L;
+  private static final Tag OFFSET_TAG = new ContextSpecificTag(0);
+  private static final Tag NAME_TAG = new ContextSpecificTag(1);
 
   public TimeSynchronizationClusterTimeZoneStatusEvent(
     Long offset,
@@ -1800,33 +1677,29 @@ public static class TimeSynchronizationClusterTimeZoneStatusEvent {
     this.name = name;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(OFFSET_ID, new IntType(offset)));
-    values.add(new StructElement(NAME_ID, name.<BaseTLVType>map((nonOptionalname) -> new StringType(nonOptionalname)).orElse(new EmptyType())));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.put(OFFSET_TAG, offset);
+    name.ifPresent((nonOptionalname) -> { writer.put(NAME_TAG, nonOptionalname); });
+    writer.endStructure();
   }
 
-  public static TimeSynchronizationClusterTimeZoneStatusEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static TimeSynchronizationClusterTimeZoneStatusEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Long offset = null;
     Optional<String> name = Optional.empty();
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == OFFSET_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Int) {
-          IntType castingValue = element.value(IntType.class);
-          offset = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == NAME_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.String) {
-          StringType castingValue = element.value(StringType.class);
-          name = Optional.of(castingValue.value(String.class));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(OFFSET_TAG)) {
+        offset = reader.getLong(OFFSET_TAG);
+      } else if (reader.isNextTag(NAME_TAG)) {
+        name = Optional.of(reader.getUtf8String(NAME_TAG));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new TimeSynchronizationClusterTimeZoneStatusEvent(
       offset,
       name
@@ -1853,16 +1726,17 @@ public static class TimeSynchronizationClusterTimeFailureEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static TimeSynchronizationClusterTimeFailureEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static TimeSynchronizationClusterTimeFailureEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new TimeSynchronizationClusterTimeFailureEvent(
     );
   }
@@ -1881,16 +1755,17 @@ public static class TimeSynchronizationClusterMissingTrustedTimeSourceEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static TimeSynchronizationClusterMissingTrustedTimeSourceEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static TimeSynchronizationClusterMissingTrustedTimeSourceEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new TimeSynchronizationClusterMissingTrustedTimeSourceEvent(
     );
   }
@@ -1905,7 +1780,7 @@ public static class TimeSynchronizationClusterMissingTrustedTimeSourceEvent {
 }
 public static class BridgedDeviceBasicInformationClusterStartUpEvent {
   public Long softwareVersion;
-  private static final long SOFTWARE_VERSION_ID = 0L;
+  private static final Tag SOFTWARE_VERSION_TAG = new ContextSpecificTag(0);
 
   public BridgedDeviceBasicInformationClusterStartUpEvent(
     Long softwareVersion
@@ -1913,26 +1788,25 @@ public static class BridgedDeviceBasicInformationClusterStartUpEvent {
     this.softwareVersion = softwareVersion;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(SOFTWARE_VERSION_ID, new UIntType(softwareVersion)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(SOFTWARE_VERSION_TAG, softwareVersion);
+    writer.endStructure();
   }
 
-  public static BridgedDeviceBasicInformationClusterStartUpEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static BridgedDeviceBasicInformationClusterStartUpEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Long softwareVersion = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == SOFTWARE_VERSION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          softwareVersion = castingValue.value(Long.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(SOFTWARE_VERSION_TAG)) {
+        softwareVersion = reader.getUnsigned(SOFTWARE_VERSION_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new BridgedDeviceBasicInformationClusterStartUpEvent(
       softwareVersion
     );
@@ -1955,16 +1829,17 @@ public static class BridgedDeviceBasicInformationClusterShutDownEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static BridgedDeviceBasicInformationClusterShutDownEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static BridgedDeviceBasicInformationClusterShutDownEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new BridgedDeviceBasicInformationClusterShutDownEvent(
     );
   }
@@ -1983,16 +1858,17 @@ public static class BridgedDeviceBasicInformationClusterLeaveEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static BridgedDeviceBasicInformationClusterLeaveEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static BridgedDeviceBasicInformationClusterLeaveEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new BridgedDeviceBasicInformationClusterLeaveEvent(
     );
   }
@@ -2007,7 +1883,7 @@ public static class BridgedDeviceBasicInformationClusterLeaveEvent {
 }
 public static class BridgedDeviceBasicInformationClusterReachableChangedEvent {
   public Boolean reachableNewValue;
-  private static final long REACHABLE_NEW_VALUE_ID = 0L;
+  private static final Tag REACHABLE_NEW_VALUE_TAG = new ContextSpecificTag(0);
 
   public BridgedDeviceBasicInformationClusterReachableChangedEvent(
     Boolean reachableNewValue
@@ -2015,26 +1891,25 @@ public static class BridgedDeviceBasicInformationClusterReachableChangedEvent {
     this.reachableNewValue = reachableNewValue;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(REACHABLE_NEW_VALUE_ID, new BooleanType(reachableNewValue)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.put(REACHABLE_NEW_VALUE_TAG, reachableNewValue);
+    writer.endStructure();
   }
 
-  public static BridgedDeviceBasicInformationClusterReachableChangedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static BridgedDeviceBasicInformationClusterReachableChangedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Boolean reachableNewValue = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == REACHABLE_NEW_VALUE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Boolean) {
-          BooleanType castingValue = element.value(BooleanType.class);
-          reachableNewValue = castingValue.value(Boolean.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(REACHABLE_NEW_VALUE_TAG)) {
+        reachableNewValue = reader.getBool(REACHABLE_NEW_VALUE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new BridgedDeviceBasicInformationClusterReachableChangedEvent(
       reachableNewValue
     );
@@ -2053,7 +1928,7 @@ public static class BridgedDeviceBasicInformationClusterReachableChangedEvent {
 }
 public static class BridgedDeviceBasicInformationClusterActiveChangedEvent {
   public Long promisedActiveDuration;
-  private static final long PROMISED_ACTIVE_DURATION_ID = 0L;
+  private static final Tag PROMISED_ACTIVE_DURATION_TAG = new ContextSpecificTag(0);
 
   public BridgedDeviceBasicInformationClusterActiveChangedEvent(
     Long promisedActiveDuration
@@ -2061,26 +1936,25 @@ public static class BridgedDeviceBasicInformationClusterActiveChangedEvent {
     this.promisedActiveDuration = promisedActiveDuration;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(PROMISED_ACTIVE_DURATION_ID, new UIntType(promisedActiveDuration)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(PROMISED_ACTIVE_DURATION_TAG, promisedActiveDuration);
+    writer.endStructure();
   }
 
-  public static BridgedDeviceBasicInformationClusterActiveChangedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static BridgedDeviceBasicInformationClusterActiveChangedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Long promisedActiveDuration = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == PROMISED_ACTIVE_DURATION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          promisedActiveDuration = castingValue.value(Long.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(PROMISED_ACTIVE_DURATION_TAG)) {
+        promisedActiveDuration = reader.getUnsigned(PROMISED_ACTIVE_DURATION_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new BridgedDeviceBasicInformationClusterActiveChangedEvent(
       promisedActiveDuration
     );
@@ -2099,7 +1973,7 @@ public static class BridgedDeviceBasicInformationClusterActiveChangedEvent {
 }
 public static class SwitchClusterSwitchLatchedEvent {
   public Integer newPosition;
-  private static final long NEW_POSITION_ID = 0L;
+  private static final Tag NEW_POSITION_TAG = new ContextSpecificTag(0);
 
   public SwitchClusterSwitchLatchedEvent(
     Integer newPosition
@@ -2107,26 +1981,25 @@ public static class SwitchClusterSwitchLatchedEvent {
     this.newPosition = newPosition;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(NEW_POSITION_ID, new UIntType(newPosition)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(NEW_POSITION_TAG, newPosition);
+    writer.endStructure();
   }
 
-  public static SwitchClusterSwitchLatchedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static SwitchClusterSwitchLatchedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer newPosition = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == NEW_POSITION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          newPosition = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(NEW_POSITION_TAG)) {
+        newPosition = (int) reader.getUnsigned(NEW_POSITION_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new SwitchClusterSwitchLatchedEvent(
       newPosition
     );
@@ -2145,7 +2018,7 @@ public static class SwitchClusterSwitchLatchedEvent {
 }
 public static class SwitchClusterInitialPressEvent {
   public Integer newPosition;
-  private static final long NEW_POSITION_ID = 0L;
+  private static final Tag NEW_POSITION_TAG = new ContextSpecificTag(0);
 
   public SwitchClusterInitialPressEvent(
     Integer newPosition
@@ -2153,26 +2026,25 @@ public static class SwitchClusterInitialPressEvent {
     this.newPosition = newPosition;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(NEW_POSITION_ID, new UIntType(newPosition)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(NEW_POSITION_TAG, newPosition);
+    writer.endStructure();
   }
 
-  public static SwitchClusterInitialPressEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static SwitchClusterInitialPressEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer newPosition = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == NEW_POSITION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          newPosition = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(NEW_POSITION_TAG)) {
+        newPosition = (int) reader.getUnsigned(NEW_POSITION_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new SwitchClusterInitialPressEvent(
       newPosition
     );
@@ -2191,7 +2063,7 @@ public static class SwitchClusterInitialPressEvent {
 }
 public static class SwitchClusterLongPressEvent {
   public Integer newPosition;
-  private static final long NEW_POSITION_ID = 0L;
+  private static final Tag NEW_POSITION_TAG = new ContextSpecificTag(0);
 
   public SwitchClusterLongPressEvent(
     Integer newPosition
@@ -2199,26 +2071,25 @@ public static class SwitchClusterLongPressEvent {
     this.newPosition = newPosition;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(NEW_POSITION_ID, new UIntType(newPosition)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(NEW_POSITION_TAG, newPosition);
+    writer.endStructure();
   }
 
-  public static SwitchClusterLongPressEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static SwitchClusterLongPressEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer newPosition = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == NEW_POSITION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          newPosition = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(NEW_POSITION_TAG)) {
+        newPosition = (int) reader.getUnsigned(NEW_POSITION_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new SwitchClusterLongPressEvent(
       newPosition
     );
@@ -2237,7 +2108,7 @@ public static class SwitchClusterLongPressEvent {
 }
 public static class SwitchClusterShortReleaseEvent {
   public Integer previousPosition;
-  private static final long PREVIOUS_POSITION_ID = 0L;
+  private static final Tag PREVIOUS_POSITION_TAG = new ContextSpecificTag(0);
 
   public SwitchClusterShortReleaseEvent(
     Integer previousPosition
@@ -2245,26 +2116,25 @@ public static class SwitchClusterShortReleaseEvent {
     this.previousPosition = previousPosition;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(PREVIOUS_POSITION_ID, new UIntType(previousPosition)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(PREVIOUS_POSITION_TAG, previousPosition);
+    writer.endStructure();
   }
 
-  public static SwitchClusterShortReleaseEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static SwitchClusterShortReleaseEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer previousPosition = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == PREVIOUS_POSITION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          previousPosition = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(PREVIOUS_POSITION_TAG)) {
+        previousPosition = (int) reader.getUnsigned(PREVIOUS_POSITION_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new SwitchClusterShortReleaseEvent(
       previousPosition
     );
@@ -2283,7 +2153,7 @@ public static class SwitchClusterShortReleaseEvent {
 }
 public static class SwitchClusterLongReleaseEvent {
   public Integer previousPosition;
-  private static final long PREVIOUS_POSITION_ID = 0L;
+  private static final Tag PREVIOUS_POSITION_TAG = new ContextSpecificTag(0);
 
   public SwitchClusterLongReleaseEvent(
     Integer previousPosition
@@ -2291,26 +2161,25 @@ public static class SwitchClusterLongReleaseEvent {
     this.previousPosition = previousPosition;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(PREVIOUS_POSITION_ID, new UIntType(previousPosition)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(PREVIOUS_POSITION_TAG, previousPosition);
+    writer.endStructure();
   }
 
-  public static SwitchClusterLongReleaseEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static SwitchClusterLongReleaseEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer previousPosition = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == PREVIOUS_POSITION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          previousPosition = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(PREVIOUS_POSITION_TAG)) {
+        previousPosition = (int) reader.getUnsigned(PREVIOUS_POSITION_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new SwitchClusterLongReleaseEvent(
       previousPosition
     );
@@ -2330,8 +2199,8 @@ public static class SwitchClusterLongReleaseEvent {
 public static class SwitchClusterMultiPressOngoingEvent {
   public Integer newPosition;
   public Integer currentNumberOfPressesCounted;
-  private static final long NEW_POSITION_ID = 0L;
-  private static final long CURRENT_NUMBER_OF_PRESSES_COUNTED_ID = 1L;
+  private static final Tag NEW_POSITION_TAG = new ContextSpecificTag(0);
+  private static final Tag CURRENT_NUMBER_OF_PRESSES_COUNTED_TAG = new ContextSpecificTag(1);
 
   public SwitchClusterMultiPressOngoingEvent(
     Integer newPosition,
@@ -2341,33 +2210,29 @@ public static class SwitchClusterMultiPressOngoingEvent {
     this.currentNumberOfPressesCounted = currentNumberOfPressesCounted;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(NEW_POSITION_ID, new UIntType(newPosition)));
-    values.add(new StructElement(CURRENT_NUMBER_OF_PRESSES_COUNTED_ID, new UIntType(currentNumberOfPressesCounted)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(NEW_POSITION_TAG, newPosition);
+    writer.putUnsigned(CURRENT_NUMBER_OF_PRESSES_COUNTED_TAG, currentNumberOfPressesCounted);
+    writer.endStructure();
   }
 
-  public static SwitchClusterMultiPressOngoingEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static SwitchClusterMultiPressOngoingEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer newPosition = null;
     Integer currentNumberOfPressesCounted = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == NEW_POSITION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          newPosition = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == CURRENT_NUMBER_OF_PRESSES_COUNTED_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          currentNumberOfPressesCounted = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(NEW_POSITION_TAG)) {
+        newPosition = (int) reader.getUnsigned(NEW_POSITION_TAG);
+      } else if (reader.isNextTag(CURRENT_NUMBER_OF_PRESSES_COUNTED_TAG)) {
+        currentNumberOfPressesCounted = (int) reader.getUnsigned(CURRENT_NUMBER_OF_PRESSES_COUNTED_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new SwitchClusterMultiPressOngoingEvent(
       newPosition,
       currentNumberOfPressesCounted
@@ -2391,8 +2256,8 @@ public static class SwitchClusterMultiPressOngoingEvent {
 public static class SwitchClusterMultiPressCompleteEvent {
   public Integer previousPosition;
   public Integer totalNumberOfPressesCounted;
-  private static final long PREVIOUS_POSITION_ID = 0L;
-  private static final long TOTAL_NUMBER_OF_PRESSES_COUNTED_ID = 1L;
+  private static final Tag PREVIOUS_POSITION_TAG = new ContextSpecificTag(0);
+  private static final Tag TOTAL_NUMBER_OF_PRESSES_COUNTED_TAG = new ContextSpecificTag(1);
 
   public SwitchClusterMultiPressCompleteEvent(
     Integer previousPosition,
@@ -2402,33 +2267,29 @@ public static class SwitchClusterMultiPressCompleteEvent {
     this.totalNumberOfPressesCounted = totalNumberOfPressesCounted;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(PREVIOUS_POSITION_ID, new UIntType(previousPosition)));
-    values.add(new StructElement(TOTAL_NUMBER_OF_PRESSES_COUNTED_ID, new UIntType(totalNumberOfPressesCounted)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(PREVIOUS_POSITION_TAG, previousPosition);
+    writer.putUnsigned(TOTAL_NUMBER_OF_PRESSES_COUNTED_TAG, totalNumberOfPressesCounted);
+    writer.endStructure();
   }
 
-  public static SwitchClusterMultiPressCompleteEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static SwitchClusterMultiPressCompleteEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer previousPosition = null;
     Integer totalNumberOfPressesCounted = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == PREVIOUS_POSITION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          previousPosition = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == TOTAL_NUMBER_OF_PRESSES_COUNTED_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          totalNumberOfPressesCounted = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(PREVIOUS_POSITION_TAG)) {
+        previousPosition = (int) reader.getUnsigned(PREVIOUS_POSITION_TAG);
+      } else if (reader.isNextTag(TOTAL_NUMBER_OF_PRESSES_COUNTED_TAG)) {
+        totalNumberOfPressesCounted = (int) reader.getUnsigned(TOTAL_NUMBER_OF_PRESSES_COUNTED_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new SwitchClusterMultiPressCompleteEvent(
       previousPosition,
       totalNumberOfPressesCounted
@@ -2451,7 +2312,7 @@ public static class SwitchClusterMultiPressCompleteEvent {
 }
 public static class BooleanStateClusterStateChangeEvent {
   public Boolean stateValue;
-  private static final long STATE_VALUE_ID = 0L;
+  private static final Tag STATE_VALUE_TAG = new ContextSpecificTag(0);
 
   public BooleanStateClusterStateChangeEvent(
     Boolean stateValue
@@ -2459,26 +2320,25 @@ public static class BooleanStateClusterStateChangeEvent {
     this.stateValue = stateValue;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(STATE_VALUE_ID, new BooleanType(stateValue)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.put(STATE_VALUE_TAG, stateValue);
+    writer.endStructure();
   }
 
-  public static BooleanStateClusterStateChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static BooleanStateClusterStateChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Boolean stateValue = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == STATE_VALUE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Boolean) {
-          BooleanType castingValue = element.value(BooleanType.class);
-          stateValue = castingValue.value(Boolean.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(STATE_VALUE_TAG)) {
+        stateValue = reader.getBool(STATE_VALUE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new BooleanStateClusterStateChangeEvent(
       stateValue
     );
@@ -2497,7 +2357,7 @@ public static class BooleanStateClusterStateChangeEvent {
 }
 public static class OvenCavityOperationalStateClusterOperationalErrorEvent {
   public ChipStructs.OvenCavityOperationalStateClusterErrorStateStruct errorState;
-  private static final long ERROR_STATE_ID = 0L;
+  private static final Tag ERROR_STATE_TAG = new ContextSpecificTag(0);
 
   public OvenCavityOperationalStateClusterOperationalErrorEvent(
     ChipStructs.OvenCavityOperationalStateClusterErrorStateStruct errorState
@@ -2505,26 +2365,25 @@ public static class OvenCavityOperationalStateClusterOperationalErrorEvent {
     this.errorState = errorState;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ERROR_STATE_ID, errorState.encodeTlv()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    errorState.encodeTlv(ERROR_STATE_TAG, writer);
+    writer.endStructure();
   }
 
-  public static OvenCavityOperationalStateClusterOperationalErrorEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static OvenCavityOperationalStateClusterOperationalErrorEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     ChipStructs.OvenCavityOperationalStateClusterErrorStateStruct errorState = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ERROR_STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Struct) {
-          StructType castingValue = element.value(StructType.class);
-          errorState = ChipStructs.OvenCavityOperationalStateClusterErrorStateStruct.decodeTlv(castingValue);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ERROR_STATE_TAG)) {
+        errorState = ChipStructs.OvenCavityOperationalStateClusterErrorStateStruct.decodeTlv(ERROR_STATE_TAG, reader);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new OvenCavityOperationalStateClusterOperationalErrorEvent(
       errorState
     );
@@ -2545,9 +2404,9 @@ public static class OvenCavityOperationalStateClusterOperationCompletionEvent {
   public Integer completionErrorCode;
   public @Nullable Optional<Long> totalOperationalTime;
   public @Nullable Optional<Long> pausedTime;
-  private static final long COMPLETION_ERROR_CODE_ID = 0L;
-  private static final long TOTAL_OPERATIONAL_TIME_ID = 1L;
-  private static final long PAUSED_TIME_ID = 2L;
+  private static final Tag COMPLETION_ERROR_CODE_TAG = new ContextSpecificTag(0);
+  private static final Tag TOTAL_OPERATIONAL_TIME_TAG = new ContextSpecificTag(1);
+  private static final Tag PAUSED_TIME_TAG = new ContextSpecificTag(2);
 
   public OvenCavityOperationalStateClusterOperationCompletionEvent(
     Integer completionErrorCode,
@@ -2559,40 +2418,33 @@ public static class OvenCavityOperationalStateClusterOperationCompletionEvent {
     this.pausedTime = pausedTime;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(COMPLETION_ERROR_CODE_ID, new UIntType(completionErrorCode)));
-    values.add(new StructElement(TOTAL_OPERATIONAL_TIME_ID, totalOperationalTime != null ? totalOperationalTime.<BaseTLVType>map((nonOptionaltotalOperationalTime) -> new UIntType(nonOptionaltotalOperationalTime)).orElse(new EmptyType()) : new NullType()));
-    values.add(new StructElement(PAUSED_TIME_ID, pausedTime != null ? pausedTime.<BaseTLVType>map((nonOptionalpausedTime) -> new UIntType(nonOptionalpausedTime)).orElse(new EmptyType()) : new NullType()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(COMPLETION_ERROR_CODE_TAG, completionErrorCode);
+    if (totalOperationalTime != null) { totalOperationalTime.ifPresent((nonOptionaltotalOperationalTime) -> { writer.putUnsigned(TOTAL_OPERATIONAL_TIME_TAG, nonOptionaltotalOperationalTime); }); } else { writer.putNull(TOTAL_OPERATIONAL_TIME_TAG); }
+    if (pausedTime != null) { pausedTime.ifPresent((nonOptionalpausedTime) -> { writer.putUnsigned(PAUSED_TIME_TAG, nonOptionalpausedTime); }); } else { writer.putNull(PAUSED_TIME_TAG); }
+    writer.endStructure();
   }
 
-  public static OvenCavityOperationalStateClusterOperationCompletionEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static OvenCavityOperationalStateClusterOperationCompletionEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer completionErrorCode = null;
-    @Nullable Optional<Long> totalOperationalTime = null;
-    @Nullable Optional<Long> pausedTime = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == COMPLETION_ERROR_CODE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          completionErrorCode = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == TOTAL_OPERATIONAL_TIME_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          totalOperationalTime = Optional.of(castingValue.value(Long.class));
-        }
-      } else if (element.contextTagNum() == PAUSED_TIME_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          pausedTime = Optional.of(castingValue.value(Long.class));
-        }
+    @Nullable Optional<Long> totalOperationalTime = Optional.empty();
+    @Nullable Optional<Long> pausedTime = Optional.empty();
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(COMPLETION_ERROR_CODE_TAG)) {
+        completionErrorCode = (int) reader.getUnsigned(COMPLETION_ERROR_CODE_TAG);
+      } else if (reader.isNextTag(TOTAL_OPERATIONAL_TIME_TAG)) {
+        totalOperationalTime = Optional.of(reader.getUnsigned(TOTAL_OPERATIONAL_TIME_TAG));
+      } else if (reader.isNextTag(PAUSED_TIME_TAG)) {
+        pausedTime = Optional.of(reader.getUnsigned(PAUSED_TIME_TAG));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new OvenCavityOperationalStateClusterOperationCompletionEvent(
       completionErrorCode,
       totalOperationalTime,
@@ -2622,10 +2474,10 @@ public static class RefrigeratorAlarmClusterNotifyEvent {
   public Long inactive;
   public Long state;
   public Long mask;
-  private static final long ACTIVE_ID = 0L;
-  private static final long INACTIVE_ID = 1L;
-  private static final long STATE_ID = 2L;
-  private static final long MASK_ID = 3L;
+  private static final Tag ACTIVE_TAG = new ContextSpecificTag(0);
+  private static final Tag INACTIVE_TAG = new ContextSpecificTag(1);
+  private static final Tag STATE_TAG = new ContextSpecificTag(2);
+  private static final Tag MASK_TAG = new ContextSpecificTag(3);
 
   public RefrigeratorAlarmClusterNotifyEvent(
     Long active,
@@ -2639,47 +2491,37 @@ public static class RefrigeratorAlarmClusterNotifyEvent {
     this.mask = mask;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ACTIVE_ID, new UIntType(active)));
-    values.add(new StructElement(INACTIVE_ID, new UIntType(inactive)));
-    values.add(new StructElement(STATE_ID, new UIntType(state)));
-    values.add(new StructElement(MASK_ID, new UIntType(mask)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(ACTIVE_TAG, active);
+    writer.putUnsigned(INACTIVE_TAG, inactive);
+    writer.putUnsigned(STATE_TAG, state);
+    writer.putUnsigned(MASK_TAG, mask);
+    writer.endStructure();
   }
 
-  public static RefrigeratorAlarmClusterNotifyEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static RefrigeratorAlarmClusterNotifyEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Long active = null;
     Long inactive = null;
     Long state = null;
     Long mask = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ACTIVE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          active = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == INACTIVE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          inactive = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          state = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == MASK_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          mask = castingValue.value(Long.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ACTIVE_TAG)) {
+        active = reader.getUnsigned(ACTIVE_TAG);
+      } else if (reader.isNextTag(INACTIVE_TAG)) {
+        inactive = reader.getUnsigned(INACTIVE_TAG);
+      } else if (reader.isNextTag(STATE_TAG)) {
+        state = reader.getUnsigned(STATE_TAG);
+      } else if (reader.isNextTag(MASK_TAG)) {
+        mask = reader.getUnsigned(MASK_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new RefrigeratorAlarmClusterNotifyEvent(
       active,
       inactive,
@@ -2710,7 +2552,7 @@ public static class RefrigeratorAlarmClusterNotifyEvent {
 }
 public static class SmokeCoAlarmClusterSmokeAlarmEvent {
   public Integer alarmSeverityLevel;
-  private static final long ALARM_SEVERITY_LEVEL_ID = 0L;
+  private static final Tag ALARM_SEVERITY_LEVEL_TAG = new ContextSpecificTag(0);
 
   public SmokeCoAlarmClusterSmokeAlarmEvent(
     Integer alarmSeverityLevel
@@ -2718,26 +2560,25 @@ public static class SmokeCoAlarmClusterSmokeAlarmEvent {
     this.alarmSeverityLevel = alarmSeverityLevel;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ALARM_SEVERITY_LEVEL_ID, new UIntType(alarmSeverityLevel)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(ALARM_SEVERITY_LEVEL_TAG, alarmSeverityLevel);
+    writer.endStructure();
   }
 
-  public static SmokeCoAlarmClusterSmokeAlarmEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static SmokeCoAlarmClusterSmokeAlarmEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer alarmSeverityLevel = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ALARM_SEVERITY_LEVEL_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          alarmSeverityLevel = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ALARM_SEVERITY_LEVEL_TAG)) {
+        alarmSeverityLevel = (int) reader.getUnsigned(ALARM_SEVERITY_LEVEL_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new SmokeCoAlarmClusterSmokeAlarmEvent(
       alarmSeverityLevel
     );
@@ -2756,7 +2597,7 @@ public static class SmokeCoAlarmClusterSmokeAlarmEvent {
 }
 public static class SmokeCoAlarmClusterCOAlarmEvent {
   public Integer alarmSeverityLevel;
-  private static final long ALARM_SEVERITY_LEVEL_ID = 0L;
+  private static final Tag ALARM_SEVERITY_LEVEL_TAG = new ContextSpecificTag(0);
 
   public SmokeCoAlarmClusterCOAlarmEvent(
     Integer alarmSeverityLevel
@@ -2764,26 +2605,25 @@ public static class SmokeCoAlarmClusterCOAlarmEvent {
     this.alarmSeverityLevel = alarmSeverityLevel;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ALARM_SEVERITY_LEVEL_ID, new UIntType(alarmSeverityLevel)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(ALARM_SEVERITY_LEVEL_TAG, alarmSeverityLevel);
+    writer.endStructure();
   }
 
-  public static SmokeCoAlarmClusterCOAlarmEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static SmokeCoAlarmClusterCOAlarmEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer alarmSeverityLevel = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ALARM_SEVERITY_LEVEL_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          alarmSeverityLevel = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ALARM_SEVERITY_LEVEL_TAG)) {
+        alarmSeverityLevel = (int) reader.getUnsigned(ALARM_SEVERITY_LEVEL_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new SmokeCoAlarmClusterCOAlarmEvent(
       alarmSeverityLevel
     );
@@ -2802,7 +2642,7 @@ public static class SmokeCoAlarmClusterCOAlarmEvent {
 }
 public static class SmokeCoAlarmClusterLowBatteryEvent {
   public Integer alarmSeverityLevel;
-  private static final long ALARM_SEVERITY_LEVEL_ID = 0L;
+  private static final Tag ALARM_SEVERITY_LEVEL_TAG = new ContextSpecificTag(0);
 
   public SmokeCoAlarmClusterLowBatteryEvent(
     Integer alarmSeverityLevel
@@ -2810,26 +2650,25 @@ public static class SmokeCoAlarmClusterLowBatteryEvent {
     this.alarmSeverityLevel = alarmSeverityLevel;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ALARM_SEVERITY_LEVEL_ID, new UIntType(alarmSeverityLevel)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(ALARM_SEVERITY_LEVEL_TAG, alarmSeverityLevel);
+    writer.endStructure();
   }
 
-  public static SmokeCoAlarmClusterLowBatteryEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static SmokeCoAlarmClusterLowBatteryEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer alarmSeverityLevel = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ALARM_SEVERITY_LEVEL_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          alarmSeverityLevel = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ALARM_SEVERITY_LEVEL_TAG)) {
+        alarmSeverityLevel = (int) reader.getUnsigned(ALARM_SEVERITY_LEVEL_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new SmokeCoAlarmClusterLowBatteryEvent(
       alarmSeverityLevel
     );
@@ -2852,16 +2691,17 @@ public static class SmokeCoAlarmClusterHardwareFaultEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static SmokeCoAlarmClusterHardwareFaultEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static SmokeCoAlarmClusterHardwareFaultEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new SmokeCoAlarmClusterHardwareFaultEvent(
     );
   }
@@ -2880,16 +2720,17 @@ public static class SmokeCoAlarmClusterEndOfServiceEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static SmokeCoAlarmClusterEndOfServiceEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static SmokeCoAlarmClusterEndOfServiceEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new SmokeCoAlarmClusterEndOfServiceEvent(
     );
   }
@@ -2908,16 +2749,17 @@ public static class SmokeCoAlarmClusterSelfTestCompleteEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static SmokeCoAlarmClusterSelfTestCompleteEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static SmokeCoAlarmClusterSelfTestCompleteEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new SmokeCoAlarmClusterSelfTestCompleteEvent(
     );
   }
@@ -2936,16 +2778,17 @@ public static class SmokeCoAlarmClusterAlarmMutedEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static SmokeCoAlarmClusterAlarmMutedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static SmokeCoAlarmClusterAlarmMutedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new SmokeCoAlarmClusterAlarmMutedEvent(
     );
   }
@@ -2964,16 +2807,17 @@ public static class SmokeCoAlarmClusterMuteEndedEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static SmokeCoAlarmClusterMuteEndedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static SmokeCoAlarmClusterMuteEndedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new SmokeCoAlarmClusterMuteEndedEvent(
     );
   }
@@ -2988,7 +2832,7 @@ public static class SmokeCoAlarmClusterMuteEndedEvent {
 }
 public static class SmokeCoAlarmClusterInterconnectSmokeAlarmEvent {
   public Integer alarmSeverityLevel;
-  private static final long ALARM_SEVERITY_LEVEL_ID = 0L;
+  private static final Tag ALARM_SEVERITY_LEVEL_TAG = new ContextSpecificTag(0);
 
   public SmokeCoAlarmClusterInterconnectSmokeAlarmEvent(
     Integer alarmSeverityLevel
@@ -2996,26 +2840,25 @@ public static class SmokeCoAlarmClusterInterconnectSmokeAlarmEvent {
     this.alarmSeverityLevel = alarmSeverityLevel;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ALARM_SEVERITY_LEVEL_ID, new UIntType(alarmSeverityLevel)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(ALARM_SEVERITY_LEVEL_TAG, alarmSeverityLevel);
+    writer.endStructure();
   }
 
-  public static SmokeCoAlarmClusterInterconnectSmokeAlarmEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static SmokeCoAlarmClusterInterconnectSmokeAlarmEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer alarmSeverityLevel = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ALARM_SEVERITY_LEVEL_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          alarmSeverityLevel = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ALARM_SEVERITY_LEVEL_TAG)) {
+        alarmSeverityLevel = (int) reader.getUnsigned(ALARM_SEVERITY_LEVEL_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new SmokeCoAlarmClusterInterconnectSmokeAlarmEvent(
       alarmSeverityLevel
     );
@@ -3034,7 +2877,7 @@ public static class SmokeCoAlarmClusterInterconnectSmokeAlarmEvent {
 }
 public static class SmokeCoAlarmClusterInterconnectCOAlarmEvent {
   public Integer alarmSeverityLevel;
-  private static final long ALARM_SEVERITY_LEVEL_ID = 0L;
+  private static final Tag ALARM_SEVERITY_LEVEL_TAG = new ContextSpecificTag(0);
 
   public SmokeCoAlarmClusterInterconnectCOAlarmEvent(
     Integer alarmSeverityLevel
@@ -3042,26 +2885,25 @@ public static class SmokeCoAlarmClusterInterconnectCOAlarmEvent {
     this.alarmSeverityLevel = alarmSeverityLevel;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ALARM_SEVERITY_LEVEL_ID, new UIntType(alarmSeverityLevel)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(ALARM_SEVERITY_LEVEL_TAG, alarmSeverityLevel);
+    writer.endStructure();
   }
 
-  public static SmokeCoAlarmClusterInterconnectCOAlarmEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static SmokeCoAlarmClusterInterconnectCOAlarmEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer alarmSeverityLevel = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ALARM_SEVERITY_LEVEL_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          alarmSeverityLevel = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ALARM_SEVERITY_LEVEL_TAG)) {
+        alarmSeverityLevel = (int) reader.getUnsigned(ALARM_SEVERITY_LEVEL_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new SmokeCoAlarmClusterInterconnectCOAlarmEvent(
       alarmSeverityLevel
     );
@@ -3084,16 +2926,17 @@ public static class SmokeCoAlarmClusterAllClearEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static SmokeCoAlarmClusterAllClearEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static SmokeCoAlarmClusterAllClearEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new SmokeCoAlarmClusterAllClearEvent(
     );
   }
@@ -3111,10 +2954,10 @@ public static class DishwasherAlarmClusterNotifyEvent {
   public Long inactive;
   public Long state;
   public Long mask;
-  private static final long ACTIVE_ID = 0L;
-  private static final long INACTIVE_ID = 1L;
-  private static final long STATE_ID = 2L;
-  private static final long MASK_ID = 3L;
+  private static final Tag ACTIVE_TAG = new ContextSpecificTag(0);
+  private static final Tag INACTIVE_TAG = new ContextSpecificTag(1);
+  private static final Tag STATE_TAG = new ContextSpecificTag(2);
+  private static final Tag MASK_TAG = new ContextSpecificTag(3);
 
   public DishwasherAlarmClusterNotifyEvent(
     Long active,
@@ -3128,47 +2971,37 @@ public static class DishwasherAlarmClusterNotifyEvent {
     this.mask = mask;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ACTIVE_ID, new UIntType(active)));
-    values.add(new StructElement(INACTIVE_ID, new UIntType(inactive)));
-    values.add(new StructElement(STATE_ID, new UIntType(state)));
-    values.add(new StructElement(MASK_ID, new UIntType(mask)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(ACTIVE_TAG, active);
+    writer.putUnsigned(INACTIVE_TAG, inactive);
+    writer.putUnsigned(STATE_TAG, state);
+    writer.putUnsigned(MASK_TAG, mask);
+    writer.endStructure();
   }
 
-  public static DishwasherAlarmClusterNotifyEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static DishwasherAlarmClusterNotifyEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Long active = null;
     Long inactive = null;
     Long state = null;
     Long mask = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ACTIVE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          active = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == INACTIVE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          inactive = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          state = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == MASK_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          mask = castingValue.value(Long.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ACTIVE_TAG)) {
+        active = reader.getUnsigned(ACTIVE_TAG);
+      } else if (reader.isNextTag(INACTIVE_TAG)) {
+        inactive = reader.getUnsigned(INACTIVE_TAG);
+      } else if (reader.isNextTag(STATE_TAG)) {
+        state = reader.getUnsigned(STATE_TAG);
+      } else if (reader.isNextTag(MASK_TAG)) {
+        mask = reader.getUnsigned(MASK_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new DishwasherAlarmClusterNotifyEvent(
       active,
       inactive,
@@ -3199,7 +3032,7 @@ public static class DishwasherAlarmClusterNotifyEvent {
 }
 public static class OperationalStateClusterOperationalErrorEvent {
   public ChipStructs.OperationalStateClusterErrorStateStruct errorState;
-  private static final long ERROR_STATE_ID = 0L;
+  private static final Tag ERROR_STATE_TAG = new ContextSpecificTag(0);
 
   public OperationalStateClusterOperationalErrorEvent(
     ChipStructs.OperationalStateClusterErrorStateStruct errorState
@@ -3207,26 +3040,25 @@ public static class OperationalStateClusterOperationalErrorEvent {
     this.errorState = errorState;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ERROR_STATE_ID, errorState.encodeTlv()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    errorState.encodeTlv(ERROR_STATE_TAG, writer);
+    writer.endStructure();
   }
 
-  public static OperationalStateClusterOperationalErrorEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static OperationalStateClusterOperationalErrorEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     ChipStructs.OperationalStateClusterErrorStateStruct errorState = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ERROR_STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Struct) {
-          StructType castingValue = element.value(StructType.class);
-          errorState = ChipStructs.OperationalStateClusterErrorStateStruct.decodeTlv(castingValue);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ERROR_STATE_TAG)) {
+        errorState = ChipStructs.OperationalStateClusterErrorStateStruct.decodeTlv(ERROR_STATE_TAG, reader);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new OperationalStateClusterOperationalErrorEvent(
       errorState
     );
@@ -3247,9 +3079,9 @@ public static class OperationalStateClusterOperationCompletionEvent {
   public Integer completionErrorCode;
   public @Nullable Optional<Long> totalOperationalTime;
   public @Nullable Optional<Long> pausedTime;
-  private static final long COMPLETION_ERROR_CODE_ID = 0L;
-  private static final long TOTAL_OPERATIONAL_TIME_ID = 1L;
-  private static final long PAUSED_TIME_ID = 2L;
+  private static final Tag COMPLETION_ERROR_CODE_TAG = new ContextSpecificTag(0);
+  private static final Tag TOTAL_OPERATIONAL_TIME_TAG = new ContextSpecificTag(1);
+  private static final Tag PAUSED_TIME_TAG = new ContextSpecificTag(2);
 
   public OperationalStateClusterOperationCompletionEvent(
     Integer completionErrorCode,
@@ -3261,40 +3093,33 @@ public static class OperationalStateClusterOperationCompletionEvent {
     this.pausedTime = pausedTime;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(COMPLETION_ERROR_CODE_ID, new UIntType(completionErrorCode)));
-    values.add(new StructElement(TOTAL_OPERATIONAL_TIME_ID, totalOperationalTime != null ? totalOperationalTime.<BaseTLVType>map((nonOptionaltotalOperationalTime) -> new UIntType(nonOptionaltotalOperationalTime)).orElse(new EmptyType()) : new NullType()));
-    values.add(new StructElement(PAUSED_TIME_ID, pausedTime != null ? pausedTime.<BaseTLVType>map((nonOptionalpausedTime) -> new UIntType(nonOptionalpausedTime)).orElse(new EmptyType()) : new NullType()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(COMPLETION_ERROR_CODE_TAG, completionErrorCode);
+    if (totalOperationalTime != null) { totalOperationalTime.ifPresent((nonOptionaltotalOperationalTime) -> { writer.putUnsigned(TOTAL_OPERATIONAL_TIME_TAG, nonOptionaltotalOperationalTime); }); } else { writer.putNull(TOTAL_OPERATIONAL_TIME_TAG); }
+    if (pausedTime != null) { pausedTime.ifPresent((nonOptionalpausedTime) -> { writer.putUnsigned(PAUSED_TIME_TAG, nonOptionalpausedTime); }); } else { writer.putNull(PAUSED_TIME_TAG); }
+    writer.endStructure();
   }
 
-  public static OperationalStateClusterOperationCompletionEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static OperationalStateClusterOperationCompletionEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer completionErrorCode = null;
-    @Nullable Optional<Long> totalOperationalTime = null;
-    @Nullable Optional<Long> pausedTime = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == COMPLETION_ERROR_CODE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          completionErrorCode = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == TOTAL_OPERATIONAL_TIME_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          totalOperationalTime = Optional.of(castingValue.value(Long.class));
-        }
-      } else if (element.contextTagNum() == PAUSED_TIME_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          pausedTime = Optional.of(castingValue.value(Long.class));
-        }
+    @Nullable Optional<Long> totalOperationalTime = Optional.empty();
+    @Nullable Optional<Long> pausedTime = Optional.empty();
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(COMPLETION_ERROR_CODE_TAG)) {
+        completionErrorCode = (int) reader.getUnsigned(COMPLETION_ERROR_CODE_TAG);
+      } else if (reader.isNextTag(TOTAL_OPERATIONAL_TIME_TAG)) {
+        totalOperationalTime = Optional.of(reader.getUnsigned(TOTAL_OPERATIONAL_TIME_TAG));
+      } else if (reader.isNextTag(PAUSED_TIME_TAG)) {
+        pausedTime = Optional.of(reader.getUnsigned(PAUSED_TIME_TAG));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new OperationalStateClusterOperationCompletionEvent(
       completionErrorCode,
       totalOperationalTime,
@@ -3321,7 +3146,7 @@ public static class OperationalStateClusterOperationCompletionEvent {
 }
 public static class RvcOperationalStateClusterOperationalErrorEvent {
   public ChipStructs.RvcOperationalStateClusterErrorStateStruct errorState;
-  private static final long ERROR_STATE_ID = 0L;
+  private static final Tag ERROR_STATE_TAG = new ContextSpecificTag(0);
 
   public RvcOperationalStateClusterOperationalErrorEvent(
     ChipStructs.RvcOperationalStateClusterErrorStateStruct errorState
@@ -3329,26 +3154,25 @@ public static class RvcOperationalStateClusterOperationalErrorEvent {
     this.errorState = errorState;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ERROR_STATE_ID, errorState.encodeTlv()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    errorState.encodeTlv(ERROR_STATE_TAG, writer);
+    writer.endStructure();
   }
 
-  public static RvcOperationalStateClusterOperationalErrorEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static RvcOperationalStateClusterOperationalErrorEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     ChipStructs.RvcOperationalStateClusterErrorStateStruct errorState = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ERROR_STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Struct) {
-          StructType castingValue = element.value(StructType.class);
-          errorState = ChipStructs.RvcOperationalStateClusterErrorStateStruct.decodeTlv(castingValue);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ERROR_STATE_TAG)) {
+        errorState = ChipStructs.RvcOperationalStateClusterErrorStateStruct.decodeTlv(ERROR_STATE_TAG, reader);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new RvcOperationalStateClusterOperationalErrorEvent(
       errorState
     );
@@ -3369,9 +3193,9 @@ public static class RvcOperationalStateClusterOperationCompletionEvent {
   public Integer completionErrorCode;
   public @Nullable Optional<Long> totalOperationalTime;
   public @Nullable Optional<Long> pausedTime;
-  private static final long COMPLETION_ERROR_CODE_ID = 0L;
-  private static final long TOTAL_OPERATIONAL_TIME_ID = 1L;
-  private static final long PAUSED_TIME_ID = 2L;
+  private static final Tag COMPLETION_ERROR_CODE_TAG = new ContextSpecificTag(0);
+  private static final Tag TOTAL_OPERATIONAL_TIME_TAG = new ContextSpecificTag(1);
+  private static final Tag PAUSED_TIME_TAG = new ContextSpecificTag(2);
 
   public RvcOperationalStateClusterOperationCompletionEvent(
     Integer completionErrorCode,
@@ -3383,40 +3207,33 @@ public static class RvcOperationalStateClusterOperationCompletionEvent {
     this.pausedTime = pausedTime;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(COMPLETION_ERROR_CODE_ID, new UIntType(completionErrorCode)));
-    values.add(new StructElement(TOTAL_OPERATIONAL_TIME_ID, totalOperationalTime != null ? totalOperationalTime.<BaseTLVType>map((nonOptionaltotalOperationalTime) -> new UIntType(nonOptionaltotalOperationalTime)).orElse(new EmptyType()) : new NullType()));
-    values.add(new StructElement(PAUSED_TIME_ID, pausedTime != null ? pausedTime.<BaseTLVType>map((nonOptionalpausedTime) -> new UIntType(nonOptionalpausedTime)).orElse(new EmptyType()) : new NullType()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(COMPLETION_ERROR_CODE_TAG, completionErrorCode);
+    if (totalOperationalTime != null) { totalOperationalTime.ifPresent((nonOptionaltotalOperationalTime) -> { writer.putUnsigned(TOTAL_OPERATIONAL_TIME_TAG, nonOptionaltotalOperationalTime); }); } else { writer.putNull(TOTAL_OPERATIONAL_TIME_TAG); }
+    if (pausedTime != null) { pausedTime.ifPresent((nonOptionalpausedTime) -> { writer.putUnsigned(PAUSED_TIME_TAG, nonOptionalpausedTime); }); } else { writer.putNull(PAUSED_TIME_TAG); }
+    writer.endStructure();
   }
 
-  public static RvcOperationalStateClusterOperationCompletionEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static RvcOperationalStateClusterOperationCompletionEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer completionErrorCode = null;
-    @Nullable Optional<Long> totalOperationalTime = null;
-    @Nullable Optional<Long> pausedTime = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == COMPLETION_ERROR_CODE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          completionErrorCode = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == TOTAL_OPERATIONAL_TIME_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          totalOperationalTime = Optional.of(castingValue.value(Long.class));
-        }
-      } else if (element.contextTagNum() == PAUSED_TIME_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          pausedTime = Optional.of(castingValue.value(Long.class));
-        }
+    @Nullable Optional<Long> totalOperationalTime = Optional.empty();
+    @Nullable Optional<Long> pausedTime = Optional.empty();
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(COMPLETION_ERROR_CODE_TAG)) {
+        completionErrorCode = (int) reader.getUnsigned(COMPLETION_ERROR_CODE_TAG);
+      } else if (reader.isNextTag(TOTAL_OPERATIONAL_TIME_TAG)) {
+        totalOperationalTime = Optional.of(reader.getUnsigned(TOTAL_OPERATIONAL_TIME_TAG));
+      } else if (reader.isNextTag(PAUSED_TIME_TAG)) {
+        pausedTime = Optional.of(reader.getUnsigned(PAUSED_TIME_TAG));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new RvcOperationalStateClusterOperationCompletionEvent(
       completionErrorCode,
       totalOperationalTime,
@@ -3444,8 +3261,8 @@ public static class RvcOperationalStateClusterOperationCompletionEvent {
 public static class BooleanStateConfigurationClusterAlarmsStateChangedEvent {
   public Integer alarmsActive;
   public Optional<Integer> alarmsSuppressed;
-  private static final long ALARMS_ACTIVE_ID = 0L;
-  private static final long ALARMS_SUPPRESSED_ID = 1L;
+  private static final Tag ALARMS_ACTIVE_TAG = new ContextSpecificTag(0);
+  private static final Tag ALARMS_SUPPRESSED_TAG = new ContextSpecificTag(1);
 
   public BooleanStateConfigurationClusterAlarmsStateChangedEvent(
     Integer alarmsActive,
@@ -3455,33 +3272,29 @@ public static class BooleanStateConfigurationClusterAlarmsStateChangedEvent {
     this.alarmsSuppressed = alarmsSuppressed;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ALARMS_ACTIVE_ID, new UIntType(alarmsActive)));
-    values.add(new StructElement(ALARMS_SUPPRESSED_ID, alarmsSuppressed.<BaseTLVType>map((nonOptionalalarmsSuppressed) -> new UIntType(nonOptionalalarmsSuppressed)).orElse(new EmptyType())));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(ALARMS_ACTIVE_TAG, alarmsActive);
+    alarmsSuppressed.ifPresent((nonOptionalalarmsSuppressed) -> { writer.putUnsigned(ALARMS_SUPPRESSED_TAG, nonOptionalalarmsSuppressed); });
+    writer.endStructure();
   }
 
-  public static BooleanStateConfigurationClusterAlarmsStateChangedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static BooleanStateConfigurationClusterAlarmsStateChangedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer alarmsActive = null;
     Optional<Integer> alarmsSuppressed = Optional.empty();
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ALARMS_ACTIVE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          alarmsActive = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == ALARMS_SUPPRESSED_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          alarmsSuppressed = Optional.of(castingValue.value(Integer.class));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ALARMS_ACTIVE_TAG)) {
+        alarmsActive = (int) reader.getUnsigned(ALARMS_ACTIVE_TAG);
+      } else if (reader.isNextTag(ALARMS_SUPPRESSED_TAG)) {
+        alarmsSuppressed = Optional.of((int) reader.getUnsigned(ALARMS_SUPPRESSED_TAG));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new BooleanStateConfigurationClusterAlarmsStateChangedEvent(
       alarmsActive,
       alarmsSuppressed
@@ -3504,7 +3317,7 @@ public static class BooleanStateConfigurationClusterAlarmsStateChangedEvent {
 }
 public static class BooleanStateConfigurationClusterSensorFaultEvent {
   public Integer sensorFault;
-  private static final long SENSOR_FAULT_ID = 0L;
+  private static final Tag SENSOR_FAULT_TAG = new ContextSpecificTag(0);
 
   public BooleanStateConfigurationClusterSensorFaultEvent(
     Integer sensorFault
@@ -3512,26 +3325,25 @@ public static class BooleanStateConfigurationClusterSensorFaultEvent {
     this.sensorFault = sensorFault;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(SENSOR_FAULT_ID, new UIntType(sensorFault)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(SENSOR_FAULT_TAG, sensorFault);
+    writer.endStructure();
   }
 
-  public static BooleanStateConfigurationClusterSensorFaultEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static BooleanStateConfigurationClusterSensorFaultEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer sensorFault = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == SENSOR_FAULT_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          sensorFault = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(SENSOR_FAULT_TAG)) {
+        sensorFault = (int) reader.getUnsigned(SENSOR_FAULT_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new BooleanStateConfigurationClusterSensorFaultEvent(
       sensorFault
     );
@@ -3551,8 +3363,8 @@ public static class BooleanStateConfigurationClusterSensorFaultEvent {
 public static class ValveConfigurationAndControlClusterValveStateChangedEvent {
   public Integer valveState;
   public Optional<Integer> valveLevel;
-  private static final long VALVE_STATE_ID = 0L;
-  private static final long VALVE_LEVEL_ID = 1L;
+  private static final Tag VALVE_STATE_TAG = new ContextSpecificTag(0);
+  private static final Tag VALVE_LEVEL_TAG = new ContextSpecificTag(1);
 
   public ValveConfigurationAndControlClusterValveStateChangedEvent(
     Integer valveState,
@@ -3562,33 +3374,29 @@ public static class ValveConfigurationAndControlClusterValveStateChangedEvent {
     this.valveLevel = valveLevel;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(VALVE_STATE_ID, new UIntType(valveState)));
-    values.add(new StructElement(VALVE_LEVEL_ID, valveLevel.<BaseTLVType>map((nonOptionalvalveLevel) -> new UIntType(nonOptionalvalveLevel)).orElse(new EmptyType())));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(VALVE_STATE_TAG, valveState);
+    valveLevel.ifPresent((nonOptionalvalveLevel) -> { writer.putUnsigned(VALVE_LEVEL_TAG, nonOptionalvalveLevel); });
+    writer.endStructure();
   }
 
-  public static ValveConfigurationAndControlClusterValveStateChangedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ValveConfigurationAndControlClusterValveStateChangedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer valveState = null;
     Optional<Integer> valveLevel = Optional.empty();
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == VALVE_STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          valveState = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == VALVE_LEVEL_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          valveLevel = Optional.of(castingValue.value(Integer.class));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(VALVE_STATE_TAG)) {
+        valveState = (int) reader.getUnsigned(VALVE_STATE_TAG);
+      } else if (reader.isNextTag(VALVE_LEVEL_TAG)) {
+        valveLevel = Optional.of((int) reader.getUnsigned(VALVE_LEVEL_TAG));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ValveConfigurationAndControlClusterValveStateChangedEvent(
       valveState,
       valveLevel
@@ -3611,7 +3419,7 @@ public static class ValveConfigurationAndControlClusterValveStateChangedEvent {
 }
 public static class ValveConfigurationAndControlClusterValveFaultEvent {
   public Integer valveFault;
-  private static final long VALVE_FAULT_ID = 0L;
+  private static final Tag VALVE_FAULT_TAG = new ContextSpecificTag(0);
 
   public ValveConfigurationAndControlClusterValveFaultEvent(
     Integer valveFault
@@ -3619,26 +3427,25 @@ public static class ValveConfigurationAndControlClusterValveFaultEvent {
     this.valveFault = valveFault;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(VALVE_FAULT_ID, new UIntType(valveFault)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(VALVE_FAULT_TAG, valveFault);
+    writer.endStructure();
   }
 
-  public static ValveConfigurationAndControlClusterValveFaultEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ValveConfigurationAndControlClusterValveFaultEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer valveFault = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == VALVE_FAULT_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          valveFault = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(VALVE_FAULT_TAG)) {
+        valveFault = (int) reader.getUnsigned(VALVE_FAULT_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ValveConfigurationAndControlClusterValveFaultEvent(
       valveFault
     );
@@ -3657,7 +3464,7 @@ public static class ValveConfigurationAndControlClusterValveFaultEvent {
 }
 public static class ElectricalPowerMeasurementClusterMeasurementPeriodRangesEvent {
   public ArrayList<ChipStructs.ElectricalPowerMeasurementClusterMeasurementRangeStruct> ranges;
-  private static final long RANGES_ID = 0L;
+  private static final Tag RANGES_TAG = new ContextSpecificTag(0);
 
   public ElectricalPowerMeasurementClusterMeasurementPeriodRangesEvent(
     ArrayList<ChipStructs.ElectricalPowerMeasurementClusterMeasurementRangeStruct> ranges
@@ -3665,26 +3472,25 @@ public static class ElectricalPowerMeasurementClusterMeasurementPeriodRangesEven
     this.ranges = ranges;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(RANGES_ID, ArrayType.generateArrayType(ranges, (elementranges) -> elementranges.encodeTlv())));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.startArray(RANGES_TAG); ranges.forEach((elementranges) -> { elementranges.encodeTlv(AnonymousTag.INSTANCE, writer); }); writer.endArray();
+    writer.endStructure();
   }
 
-  public static ElectricalPowerMeasurementClusterMeasurementPeriodRangesEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ElectricalPowerMeasurementClusterMeasurementPeriodRangesEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     ArrayList<ChipStructs.ElectricalPowerMeasurementClusterMeasurementRangeStruct> ranges = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == RANGES_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          ranges = castingValue.map((elementcastingValue) -> ChipStructs.ElectricalPowerMeasurementClusterMeasurementRangeStruct.decodeTlv(elementcastingValue));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(RANGES_TAG)) {
+        ranges = ChipTLVCodec.readArray(reader, RANGES_TAG, () -> ChipStructs.ElectricalPowerMeasurementClusterMeasurementRangeStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ElectricalPowerMeasurementClusterMeasurementPeriodRangesEvent(
       ranges
     );
@@ -3704,8 +3510,8 @@ public static class ElectricalPowerMeasurementClusterMeasurementPeriodRangesEven
 public static class ElectricalEnergyMeasurementClusterCumulativeEnergyMeasuredEvent {
   public Optional<ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct> energyImported;
   public Optional<ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct> energyExported;
-  private static final long ENERGY_IMPORTED_ID = 0L;
-  private static final long ENERGY_EXPORTED_ID = 1L;
+  private static final Tag ENERGY_IMPORTED_TAG = new ContextSpecificTag(0);
+  private static final Tag ENERGY_EXPORTED_TAG = new ContextSpecificTag(1);
 
   public ElectricalEnergyMeasurementClusterCumulativeEnergyMeasuredEvent(
     Optional<ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct> energyImported,
@@ -3715,33 +3521,29 @@ public static class ElectricalEnergyMeasurementClusterCumulativeEnergyMeasuredEv
     this.energyExported = energyExported;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ENERGY_IMPORTED_ID, energyImported.<BaseTLVType>map((nonOptionalenergyImported) -> nonOptionalenergyImported.encodeTlv()).orElse(new EmptyType())));
-    values.add(new StructElement(ENERGY_EXPORTED_ID, energyExported.<BaseTLVType>map((nonOptionalenergyExported) -> nonOptionalenergyExported.encodeTlv()).orElse(new EmptyType())));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    energyImported.ifPresent((nonOptionalenergyImported) -> { nonOptionalenergyImported.encodeTlv(ENERGY_IMPORTED_TAG, writer); });
+    energyExported.ifPresent((nonOptionalenergyExported) -> { nonOptionalenergyExported.encodeTlv(ENERGY_EXPORTED_TAG, writer); });
+    writer.endStructure();
   }
 
-  public static ElectricalEnergyMeasurementClusterCumulativeEnergyMeasuredEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ElectricalEnergyMeasurementClusterCumulativeEnergyMeasuredEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Optional<ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct> energyImported = Optional.empty();
     Optional<ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct> energyExported = Optional.empty();
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ENERGY_IMPORTED_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Struct) {
-          StructType castingValue = element.value(StructType.class);
-          energyImported = Optional.of(ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct.decodeTlv(castingValue));
-        }
-      } else if (element.contextTagNum() == ENERGY_EXPORTED_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Struct) {
-          StructType castingValue = element.value(StructType.class);
-          energyExported = Optional.of(ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct.decodeTlv(castingValue));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ENERGY_IMPORTED_TAG)) {
+        energyImported = Optional.of(ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct.decodeTlv(ENERGY_IMPORTED_TAG, reader));
+      } else if (reader.isNextTag(ENERGY_EXPORTED_TAG)) {
+        energyExported = Optional.of(ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct.decodeTlv(ENERGY_EXPORTED_TAG, reader));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ElectricalEnergyMeasurementClusterCumulativeEnergyMeasuredEvent(
       energyImported,
       energyExported
@@ -3765,8 +3567,8 @@ public static class ElectricalEnergyMeasurementClusterCumulativeEnergyMeasuredEv
 public static class ElectricalEnergyMeasurementClusterPeriodicEnergyMeasuredEvent {
   public Optional<ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct> energyImported;
   public Optional<ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct> energyExported;
-  private static final long ENERGY_IMPORTED_ID = 0L;
-  private static final long ENERGY_EXPORTED_ID = 1L;
+  private static final Tag ENERGY_IMPORTED_TAG = new ContextSpecificTag(0);
+  private static final Tag ENERGY_EXPORTED_TAG = new ContextSpecificTag(1);
 
   public ElectricalEnergyMeasurementClusterPeriodicEnergyMeasuredEvent(
     Optional<ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct> energyImported,
@@ -3776,33 +3578,29 @@ public static class ElectricalEnergyMeasurementClusterPeriodicEnergyMeasuredEven
     this.energyExported = energyExported;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ENERGY_IMPORTED_ID, energyImported.<BaseTLVType>map((nonOptionalenergyImported) -> nonOptionalenergyImported.encodeTlv()).orElse(new EmptyType())));
-    values.add(new StructElement(ENERGY_EXPORTED_ID, energyExported.<BaseTLVType>map((nonOptionalenergyExported) -> nonOptionalenergyExported.encodeTlv()).orElse(new EmptyType())));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    energyImported.ifPresent((nonOptionalenergyImported) -> { nonOptionalenergyImported.encodeTlv(ENERGY_IMPORTED_TAG, writer); });
+    energyExported.ifPresent((nonOptionalenergyExported) -> { nonOptionalenergyExported.encodeTlv(ENERGY_EXPORTED_TAG, writer); });
+    writer.endStructure();
   }
 
-  public static ElectricalEnergyMeasurementClusterPeriodicEnergyMeasuredEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ElectricalEnergyMeasurementClusterPeriodicEnergyMeasuredEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Optional<ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct> energyImported = Optional.empty();
     Optional<ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct> energyExported = Optional.empty();
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ENERGY_IMPORTED_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Struct) {
-          StructType castingValue = element.value(StructType.class);
-          energyImported = Optional.of(ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct.decodeTlv(castingValue));
-        }
-      } else if (element.contextTagNum() == ENERGY_EXPORTED_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Struct) {
-          StructType castingValue = element.value(StructType.class);
-          energyExported = Optional.of(ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct.decodeTlv(castingValue));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ENERGY_IMPORTED_TAG)) {
+        energyImported = Optional.of(ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct.decodeTlv(ENERGY_IMPORTED_TAG, reader));
+      } else if (reader.isNextTag(ENERGY_EXPORTED_TAG)) {
+        energyExported = Optional.of(ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct.decodeTlv(ENERGY_EXPORTED_TAG, reader));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ElectricalEnergyMeasurementClusterPeriodicEnergyMeasuredEvent(
       energyImported,
       energyExported
@@ -3825,7 +3623,7 @@ public static class ElectricalEnergyMeasurementClusterPeriodicEnergyMeasuredEven
 }
 public static class WaterHeaterManagementClusterBoostStartedEvent {
   public ChipStructs.WaterHeaterManagementClusterWaterHeaterBoostInfoStruct boostInfo;
-  private static final long BOOST_INFO_ID = 0L;
+  private static final Tag BOOST_INFO_TAG = new ContextSpecificTag(0);
 
   public WaterHeaterManagementClusterBoostStartedEvent(
     ChipStructs.WaterHeaterManagementClusterWaterHeaterBoostInfoStruct boostInfo
@@ -3833,26 +3631,25 @@ public static class WaterHeaterManagementClusterBoostStartedEvent {
     this.boostInfo = boostInfo;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(BOOST_INFO_ID, boostInfo.encodeTlv()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    boostInfo.encodeTlv(BOOST_INFO_TAG, writer);
+    writer.endStructure();
   }
 
-  public static WaterHeaterManagementClusterBoostStartedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static WaterHeaterManagementClusterBoostStartedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     ChipStructs.WaterHeaterManagementClusterWaterHeaterBoostInfoStruct boostInfo = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == BOOST_INFO_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Struct) {
-          StructType castingValue = element.value(StructType.class);
-          boostInfo = ChipStructs.WaterHeaterManagementClusterWaterHeaterBoostInfoStruct.decodeTlv(castingValue);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(BOOST_INFO_TAG)) {
+        boostInfo = ChipStructs.WaterHeaterManagementClusterWaterHeaterBoostInfoStruct.decodeTlv(BOOST_INFO_TAG, reader);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new WaterHeaterManagementClusterBoostStartedEvent(
       boostInfo
     );
@@ -3875,16 +3672,17 @@ public static class WaterHeaterManagementClusterBoostEndedEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static WaterHeaterManagementClusterBoostEndedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static WaterHeaterManagementClusterBoostEndedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new WaterHeaterManagementClusterBoostEndedEvent(
     );
   }
@@ -3899,7 +3697,7 @@ public static class WaterHeaterManagementClusterBoostEndedEvent {
 }
 public static class CommodityPriceClusterPriceChangeEvent {
   public @Nullable ChipStructs.CommodityPriceClusterCommodityPriceStruct currentPrice;
-  private static final long CURRENT_PRICE_ID = 0L;
+  private static final Tag CURRENT_PRICE_TAG = new ContextSpecificTag(0);
 
   public CommodityPriceClusterPriceChangeEvent(
     @Nullable ChipStructs.CommodityPriceClusterCommodityPriceStruct currentPrice
@@ -3907,26 +3705,25 @@ public static class CommodityPriceClusterPriceChangeEvent {
     this.currentPrice = currentPrice;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(CURRENT_PRICE_ID, currentPrice != null ? currentPrice.encodeTlv() : new NullType()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    if (currentPrice != null) { currentPrice.encodeTlv(CURRENT_PRICE_TAG, writer); } else { writer.putNull(CURRENT_PRICE_TAG); }
+    writer.endStructure();
   }
 
-  public static CommodityPriceClusterPriceChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static CommodityPriceClusterPriceChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     @Nullable ChipStructs.CommodityPriceClusterCommodityPriceStruct currentPrice = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == CURRENT_PRICE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Struct) {
-          StructType castingValue = element.value(StructType.class);
-          currentPrice = ChipStructs.CommodityPriceClusterCommodityPriceStruct.decodeTlv(castingValue);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(CURRENT_PRICE_TAG)) {
+        currentPrice = ChipStructs.CommodityPriceClusterCommodityPriceStruct.decodeTlv(CURRENT_PRICE_TAG, reader);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new CommodityPriceClusterPriceChangeEvent(
       currentPrice
     );
@@ -3945,7 +3742,7 @@ public static class CommodityPriceClusterPriceChangeEvent {
 }
 public static class MessagesClusterMessageQueuedEvent {
   public byte[] messageID;
-  private static final long MESSAGE_ID_ID = 0L;
+  private static final Tag MESSAGE_ID_TAG = new ContextSpecificTag(0);
 
   public MessagesClusterMessageQueuedEvent(
     byte[] messageID
@@ -3953,26 +3750,25 @@ public static class MessagesClusterMessageQueuedEvent {
     this.messageID = messageID;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(MESSAGE_ID_ID, new ByteArrayType(messageID)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.put(MESSAGE_ID_TAG, messageID);
+    writer.endStructure();
   }
 
-  public static MessagesClusterMessageQueuedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static MessagesClusterMessageQueuedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     byte[] messageID = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == MESSAGE_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.ByteArray) {
-          ByteArrayType castingValue = element.value(ByteArrayType.class);
-          messageID = castingValue.value(byte[].class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(MESSAGE_ID_TAG)) {
+        messageID = reader.getByteString(MESSAGE_ID_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new MessagesClusterMessageQueuedEvent(
       messageID
     );
@@ -3991,7 +3787,7 @@ public static class MessagesClusterMessageQueuedEvent {
 }
 public static class MessagesClusterMessagePresentedEvent {
   public byte[] messageID;
-  private static final long MESSAGE_ID_ID = 0L;
+  private static final Tag MESSAGE_ID_TAG = new ContextSpecificTag(0);
 
   public MessagesClusterMessagePresentedEvent(
     byte[] messageID
@@ -3999,26 +3795,25 @@ public static class MessagesClusterMessagePresentedEvent {
     this.messageID = messageID;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(MESSAGE_ID_ID, new ByteArrayType(messageID)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.put(MESSAGE_ID_TAG, messageID);
+    writer.endStructure();
   }
 
-  public static MessagesClusterMessagePresentedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static MessagesClusterMessagePresentedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     byte[] messageID = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == MESSAGE_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.ByteArray) {
-          ByteArrayType castingValue = element.value(ByteArrayType.class);
-          messageID = castingValue.value(byte[].class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(MESSAGE_ID_TAG)) {
+        messageID = reader.getByteString(MESSAGE_ID_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new MessagesClusterMessagePresentedEvent(
       messageID
     );
@@ -4040,10 +3835,10 @@ public static class MessagesClusterMessageCompleteEvent {
   public @Nullable Optional<Long> responseID;
   public @Nullable Optional<String> reply;
   public @Nullable Integer futureMessagesPreference;
-  private static final long MESSAGE_ID_ID = 0L;
-  private static final long RESPONSE_ID_ID = 1L;
-  private static final long REPLY_ID = 2L;
-  private static final long FUTURE_MESSAGES_PREFERENCE_ID = 3L;
+  private static final Tag MESSAGE_ID_TAG = new ContextSpecificTag(0);
+  private static final Tag RESPONSE_ID_TAG = new ContextSpecificTag(1);
+  private static final Tag REPLY_TAG = new ContextSpecificTag(2);
+  private static final Tag FUTURE_MESSAGES_PREFERENCE_TAG = new ContextSpecificTag(3);
 
   public MessagesClusterMessageCompleteEvent(
     byte[] messageID,
@@ -4057,47 +3852,37 @@ public static class MessagesClusterMessageCompleteEvent {
     this.futureMessagesPreference = futureMessagesPreference;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(MESSAGE_ID_ID, new ByteArrayType(messageID)));
-    values.add(new StructElement(RESPONSE_ID_ID, responseID != null ? responseID.<BaseTLVType>map((nonOptionalresponseID) -> new UIntType(nonOptionalresponseID)).orElse(new EmptyType()) : new NullType()));
-    values.add(new StructElement(REPLY_ID, reply != null ? reply.<BaseTLVType>map((nonOptionalreply) -> new StringType(nonOptionalreply)).orElse(new EmptyType()) : new NullType()));
-    values.add(new StructElement(FUTURE_MESSAGES_PREFERENCE_ID, futureMessagesPreference != null ? new UIntType(futureMessagesPreference) : new NullType()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.put(MESSAGE_ID_TAG, messageID);
+    if (responseID != null) { responseID.ifPresent((nonOptionalresponseID) -> { writer.putUnsigned(RESPONSE_ID_TAG, nonOptionalresponseID); }); } else { writer.putNull(RESPONSE_ID_TAG); }
+    if (reply != null) { reply.ifPresent((nonOptionalreply) -> { writer.put(REPLY_TAG, nonOptionalreply); }); } else { writer.putNull(REPLY_TAG); }
+    if (futureMessagesPreference != null) { writer.putUnsigned(FUTURE_MESSAGES_PREFERENCE_TAG, futureMessagesPreference); } else { writer.putNull(FUTURE_MESSAGES_PREFERENCE_TAG); }
+    writer.endStructure();
   }
 
-  public static MessagesClusterMessageCompleteEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static MessagesClusterMessageCompleteEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     byte[] messageID = null;
-    @Nullable Optional<Long> responseID = null;
-    @Nullable Optional<String> reply = null;
+    @Nullable Optional<Long> responseID = Optional.empty();
+    @Nullable Optional<String> reply = Optional.empty();
     @Nullable Integer futureMessagesPreference = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == MESSAGE_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.ByteArray) {
-          ByteArrayType castingValue = element.value(ByteArrayType.class);
-          messageID = castingValue.value(byte[].class);
-        }
-      } else if (element.contextTagNum() == RESPONSE_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          responseID = Optional.of(castingValue.value(Long.class));
-        }
-      } else if (element.contextTagNum() == REPLY_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.String) {
-          StringType castingValue = element.value(StringType.class);
-          reply = Optional.of(castingValue.value(String.class));
-        }
-      } else if (element.contextTagNum() == FUTURE_MESSAGES_PREFERENCE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          futureMessagesPreference = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(MESSAGE_ID_TAG)) {
+        messageID = reader.getByteString(MESSAGE_ID_TAG);
+      } else if (reader.isNextTag(RESPONSE_ID_TAG)) {
+        responseID = Optional.of(reader.getUnsigned(RESPONSE_ID_TAG));
+      } else if (reader.isNextTag(REPLY_TAG)) {
+        reply = Optional.of(reader.getUtf8String(REPLY_TAG));
+      } else if (reader.isNextTag(FUTURE_MESSAGES_PREFERENCE_TAG)) {
+        futureMessagesPreference = (int) reader.getUnsigned(FUTURE_MESSAGES_PREFERENCE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new MessagesClusterMessageCompleteEvent(
       messageID,
       responseID,
@@ -4132,16 +3917,17 @@ public static class DeviceEnergyManagementClusterPowerAdjustStartEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static DeviceEnergyManagementClusterPowerAdjustStartEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static DeviceEnergyManagementClusterPowerAdjustStartEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new DeviceEnergyManagementClusterPowerAdjustStartEvent(
     );
   }
@@ -4158,9 +3944,9 @@ public static class DeviceEnergyManagementClusterPowerAdjustEndEvent {
   public Integer cause;
   public Long duration;
   public Long energyUse;
-  private static final long CAUSE_ID = 0L;
-  private static final long DURATION_ID = 1L;
-  private static final long ENERGY_USE_ID = 2L;
+  private static final Tag CAUSE_TAG = new ContextSpecificTag(0);
+  private static final Tag DURATION_TAG = new ContextSpecificTag(1);
+  private static final Tag ENERGY_USE_TAG = new ContextSpecificTag(2);
 
   public DeviceEnergyManagementClusterPowerAdjustEndEvent(
     Integer cause,
@@ -4172,40 +3958,33 @@ public static class DeviceEnergyManagementClusterPowerAdjustEndEvent {
     this.energyUse = energyUse;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(CAUSE_ID, new UIntType(cause)));
-    values.add(new StructElement(DURATION_ID, new UIntType(duration)));
-    values.add(new StructElement(ENERGY_USE_ID, new IntType(energyUse)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(CAUSE_TAG, cause);
+    writer.putUnsigned(DURATION_TAG, duration);
+    writer.put(ENERGY_USE_TAG, energyUse);
+    writer.endStructure();
   }
 
-  public static DeviceEnergyManagementClusterPowerAdjustEndEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static DeviceEnergyManagementClusterPowerAdjustEndEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer cause = null;
     Long duration = null;
     Long energyUse = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == CAUSE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          cause = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == DURATION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          duration = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == ENERGY_USE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Int) {
-          IntType castingValue = element.value(IntType.class);
-          energyUse = castingValue.value(Long.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(CAUSE_TAG)) {
+        cause = (int) reader.getUnsigned(CAUSE_TAG);
+      } else if (reader.isNextTag(DURATION_TAG)) {
+        duration = reader.getUnsigned(DURATION_TAG);
+      } else if (reader.isNextTag(ENERGY_USE_TAG)) {
+        energyUse = reader.getLong(ENERGY_USE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new DeviceEnergyManagementClusterPowerAdjustEndEvent(
       cause,
       duration,
@@ -4236,16 +4015,17 @@ public static class DeviceEnergyManagementClusterPausedEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static DeviceEnergyManagementClusterPausedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static DeviceEnergyManagementClusterPausedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new DeviceEnergyManagementClusterPausedEvent(
     );
   }
@@ -4260,7 +4040,7 @@ public static class DeviceEnergyManagementClusterPausedEvent {
 }
 public static class DeviceEnergyManagementClusterResumedEvent {
   public Integer cause;
-  private static final long CAUSE_ID = 0L;
+  private static final Tag CAUSE_TAG = new ContextSpecificTag(0);
 
   public DeviceEnergyManagementClusterResumedEvent(
     Integer cause
@@ -4268,26 +4048,25 @@ public static class DeviceEnergyManagementClusterResumedEvent {
     this.cause = cause;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(CAUSE_ID, new UIntType(cause)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(CAUSE_TAG, cause);
+    writer.endStructure();
   }
 
-  public static DeviceEnergyManagementClusterResumedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static DeviceEnergyManagementClusterResumedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer cause = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == CAUSE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          cause = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(CAUSE_TAG)) {
+        cause = (int) reader.getUnsigned(CAUSE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new DeviceEnergyManagementClusterResumedEvent(
       cause
     );
@@ -4306,7 +4085,7 @@ public static class DeviceEnergyManagementClusterResumedEvent {
 }
 public static class EnergyEvseClusterEVConnectedEvent {
   public Long sessionID;
-  private static final long SESSION_ID_ID = 0L;
+  private static final Tag SESSION_ID_TAG = new ContextSpecificTag(0);
 
   public EnergyEvseClusterEVConnectedEvent(
     Long sessionID
@@ -4314,26 +4093,25 @@ public static class EnergyEvseClusterEVConnectedEvent {
     this.sessionID = sessionID;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(SESSION_ID_ID, new UIntType(sessionID)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(SESSION_ID_TAG, sessionID);
+    writer.endStructure();
   }
 
-  public static EnergyEvseClusterEVConnectedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static EnergyEvseClusterEVConnectedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Long sessionID = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == SESSION_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          sessionID = castingValue.value(Long.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(SESSION_ID_TAG)) {
+        sessionID = reader.getUnsigned(SESSION_ID_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new EnergyEvseClusterEVConnectedEvent(
       sessionID
     );
@@ -4356,11 +4134,11 @@ public static class EnergyEvseClusterEVNotDetectedEvent {
   public Long sessionDuration;
   public Long sessionEnergyCharged;
   public Optional<Long> sessionEnergyDischarged;
-  private static final long SESSION_ID_ID = 0L;
-  private static final long STATE_ID = 1L;
-  private static final long SESSION_DURATION_ID = 2L;
-  private static final long SESSION_ENERGY_CHARGED_ID = 3L;
-  private static final long SESSION_ENERGY_DISCHARGED_ID = 4L;
+  private static final Tag SESSION_ID_TAG = new ContextSpecificTag(0);
+  private static final Tag STATE_TAG = new ContextSpecificTag(1);
+  private static final Tag SESSION_DURATION_TAG = new ContextSpecificTag(2);
+  private static final Tag SESSION_ENERGY_CHARGED_TAG = new ContextSpecificTag(3);
+  private static final Tag SESSION_ENERGY_DISCHARGED_TAG = new ContextSpecificTag(4);
 
   public EnergyEvseClusterEVNotDetectedEvent(
     Long sessionID,
@@ -4376,54 +4154,41 @@ public static class EnergyEvseClusterEVNotDetectedEvent {
     this.sessionEnergyDischarged = sessionEnergyDischarged;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(SESSION_ID_ID, new UIntType(sessionID)));
-    values.add(new StructElement(STATE_ID, new UIntType(state)));
-    values.add(new StructElement(SESSION_DURATION_ID, new UIntType(sessionDuration)));
-    values.add(new StructElement(SESSION_ENERGY_CHARGED_ID, new IntType(sessionEnergyCharged)));
-    values.add(new StructElement(SESSION_ENERGY_DISCHARGED_ID, sessionEnergyDischarged.<BaseTLVType>map((nonOptionalsessionEnergyDischarged) -> new IntType(nonOptionalsessionEnergyDischarged)).orElse(new EmptyType())));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(SESSION_ID_TAG, sessionID);
+    writer.putUnsigned(STATE_TAG, state);
+    writer.putUnsigned(SESSION_DURATION_TAG, sessionDuration);
+    writer.put(SESSION_ENERGY_CHARGED_TAG, sessionEnergyCharged);
+    sessionEnergyDischarged.ifPresent((nonOptionalsessionEnergyDischarged) -> { writer.put(SESSION_ENERGY_DISCHARGED_TAG, nonOptionalsessionEnergyDischarged); });
+    writer.endStructure();
   }
 
-  public static EnergyEvseClusterEVNotDetectedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static EnergyEvseClusterEVNotDetectedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Long sessionID = null;
     Integer state = null;
     Long sessionDuration = null;
     Long sessionEnergyCharged = null;
     Optional<Long> sessionEnergyDischarged = Optional.empty();
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == SESSION_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          sessionID = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          state = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == SESSION_DURATION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          sessionDuration = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == SESSION_ENERGY_CHARGED_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Int) {
-          IntType castingValue = element.value(IntType.class);
-          sessionEnergyCharged = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == SESSION_ENERGY_DISCHARGED_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Int) {
-          IntType castingValue = element.value(IntType.class);
-          sessionEnergyDischarged = Optional.of(castingValue.value(Long.class));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(SESSION_ID_TAG)) {
+        sessionID = reader.getUnsigned(SESSION_ID_TAG);
+      } else if (reader.isNextTag(STATE_TAG)) {
+        state = (int) reader.getUnsigned(STATE_TAG);
+      } else if (reader.isNextTag(SESSION_DURATION_TAG)) {
+        sessionDuration = reader.getUnsigned(SESSION_DURATION_TAG);
+      } else if (reader.isNextTag(SESSION_ENERGY_CHARGED_TAG)) {
+        sessionEnergyCharged = reader.getLong(SESSION_ENERGY_CHARGED_TAG);
+      } else if (reader.isNextTag(SESSION_ENERGY_DISCHARGED_TAG)) {
+        sessionEnergyDischarged = Optional.of(reader.getLong(SESSION_ENERGY_DISCHARGED_TAG));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new EnergyEvseClusterEVNotDetectedEvent(
       sessionID,
       state,
@@ -4461,10 +4226,10 @@ public static class EnergyEvseClusterEnergyTransferStartedEvent {
   public Integer state;
   public Long maximumCurrent;
   public Optional<Long> maximumDischargeCurrent;
-  private static final long SESSION_ID_ID = 0L;
-  private static final long STATE_ID = 1L;
-  private static final long MAXIMUM_CURRENT_ID = 2L;
-  private static final long MAXIMUM_DISCHARGE_CURRENT_ID = 3L;
+  private static final Tag SESSION_ID_TAG = new ContextSpecificTag(0);
+  private static final Tag STATE_TAG = new ContextSpecificTag(1);
+  private static final Tag MAXIMUM_CURRENT_TAG = new ContextSpecificTag(2);
+  private static final Tag MAXIMUM_DISCHARGE_CURRENT_TAG = new ContextSpecificTag(3);
 
   public EnergyEvseClusterEnergyTransferStartedEvent(
     Long sessionID,
@@ -4478,47 +4243,37 @@ public static class EnergyEvseClusterEnergyTransferStartedEvent {
     this.maximumDischargeCurrent = maximumDischargeCurrent;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(SESSION_ID_ID, new UIntType(sessionID)));
-    values.add(new StructElement(STATE_ID, new UIntType(state)));
-    values.add(new StructElement(MAXIMUM_CURRENT_ID, new IntType(maximumCurrent)));
-    values.add(new StructElement(MAXIMUM_DISCHARGE_CURRENT_ID, maximumDischargeCurrent.<BaseTLVType>map((nonOptionalmaximumDischargeCurrent) -> new IntType(nonOptionalmaximumDischargeCurrent)).orElse(new EmptyType())));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(SESSION_ID_TAG, sessionID);
+    writer.putUnsigned(STATE_TAG, state);
+    writer.put(MAXIMUM_CURRENT_TAG, maximumCurrent);
+    maximumDischargeCurrent.ifPresent((nonOptionalmaximumDischargeCurrent) -> { writer.put(MAXIMUM_DISCHARGE_CURRENT_TAG, nonOptionalmaximumDischargeCurrent); });
+    writer.endStructure();
   }
 
-  public static EnergyEvseClusterEnergyTransferStartedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static EnergyEvseClusterEnergyTransferStartedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Long sessionID = null;
     Integer state = null;
     Long maximumCurrent = null;
     Optional<Long> maximumDischargeCurrent = Optional.empty();
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == SESSION_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          sessionID = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          state = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == MAXIMUM_CURRENT_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Int) {
-          IntType castingValue = element.value(IntType.class);
-          maximumCurrent = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == MAXIMUM_DISCHARGE_CURRENT_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Int) {
-          IntType castingValue = element.value(IntType.class);
-          maximumDischargeCurrent = Optional.of(castingValue.value(Long.class));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(SESSION_ID_TAG)) {
+        sessionID = reader.getUnsigned(SESSION_ID_TAG);
+      } else if (reader.isNextTag(STATE_TAG)) {
+        state = (int) reader.getUnsigned(STATE_TAG);
+      } else if (reader.isNextTag(MAXIMUM_CURRENT_TAG)) {
+        maximumCurrent = reader.getLong(MAXIMUM_CURRENT_TAG);
+      } else if (reader.isNextTag(MAXIMUM_DISCHARGE_CURRENT_TAG)) {
+        maximumDischargeCurrent = Optional.of(reader.getLong(MAXIMUM_DISCHARGE_CURRENT_TAG));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new EnergyEvseClusterEnergyTransferStartedEvent(
       sessionID,
       state,
@@ -4553,11 +4308,11 @@ public static class EnergyEvseClusterEnergyTransferStoppedEvent {
   public Integer reason;
   public Long energyTransferred;
   public Optional<Long> energyDischarged;
-  private static final long SESSION_ID_ID = 0L;
-  private static final long STATE_ID = 1L;
-  private static final long REASON_ID = 2L;
-  private static final long ENERGY_TRANSFERRED_ID = 4L;
-  private static final long ENERGY_DISCHARGED_ID = 5L;
+  private static final Tag SESSION_ID_TAG = new ContextSpecificTag(0);
+  private static final Tag STATE_TAG = new ContextSpecificTag(1);
+  private static final Tag REASON_TAG = new ContextSpecificTag(2);
+  private static final Tag ENERGY_TRANSFERRED_TAG = new ContextSpecificTag(4);
+  private static final Tag ENERGY_DISCHARGED_TAG = new ContextSpecificTag(5);
 
   public EnergyEvseClusterEnergyTransferStoppedEvent(
     Long sessionID,
@@ -4573,54 +4328,41 @@ public static class EnergyEvseClusterEnergyTransferStoppedEvent {
     this.energyDischarged = energyDischarged;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(SESSION_ID_ID, new UIntType(sessionID)));
-    values.add(new StructElement(STATE_ID, new UIntType(state)));
-    values.add(new StructElement(REASON_ID, new UIntType(reason)));
-    values.add(new StructElement(ENERGY_TRANSFERRED_ID, new IntType(energyTransferred)));
-    values.add(new StructElement(ENERGY_DISCHARGED_ID, energyDischarged.<BaseTLVType>map((nonOptionalenergyDischarged) -> new IntType(nonOptionalenergyDischarged)).orElse(new EmptyType())));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(SESSION_ID_TAG, sessionID);
+    writer.putUnsigned(STATE_TAG, state);
+    writer.putUnsigned(REASON_TAG, reason);
+    writer.put(ENERGY_TRANSFERRED_TAG, energyTransferred);
+    energyDischarged.ifPresent((nonOptionalenergyDischarged) -> { writer.put(ENERGY_DISCHARGED_TAG, nonOptionalenergyDischarged); });
+    writer.endStructure();
   }
 
-  public static EnergyEvseClusterEnergyTransferStoppedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static EnergyEvseClusterEnergyTransferStoppedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Long sessionID = null;
     Integer state = null;
     Integer reason = null;
     Long energyTransferred = null;
     Optional<Long> energyDischarged = Optional.empty();
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == SESSION_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          sessionID = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          state = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == REASON_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          reason = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == ENERGY_TRANSFERRED_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Int) {
-          IntType castingValue = element.value(IntType.class);
-          energyTransferred = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == ENERGY_DISCHARGED_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Int) {
-          IntType castingValue = element.value(IntType.class);
-          energyDischarged = Optional.of(castingValue.value(Long.class));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(SESSION_ID_TAG)) {
+        sessionID = reader.getUnsigned(SESSION_ID_TAG);
+      } else if (reader.isNextTag(STATE_TAG)) {
+        state = (int) reader.getUnsigned(STATE_TAG);
+      } else if (reader.isNextTag(REASON_TAG)) {
+        reason = (int) reader.getUnsigned(REASON_TAG);
+      } else if (reader.isNextTag(ENERGY_TRANSFERRED_TAG)) {
+        energyTransferred = reader.getLong(ENERGY_TRANSFERRED_TAG);
+      } else if (reader.isNextTag(ENERGY_DISCHARGED_TAG)) {
+        energyDischarged = Optional.of(reader.getLong(ENERGY_DISCHARGED_TAG));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new EnergyEvseClusterEnergyTransferStoppedEvent(
       sessionID,
       state,
@@ -4658,10 +4400,10 @@ public static class EnergyEvseClusterFaultEvent {
   public Integer state;
   public Integer faultStatePreviousState;
   public Integer faultStateCurrentState;
-  private static final long SESSION_ID_ID = 0L;
-  private static final long STATE_ID = 1L;
-  private static final long FAULT_STATE_PREVIOUS_STATE_ID = 2L;
-  private static final long FAULT_STATE_CURRENT_STATE_ID = 4L;
+  private static final Tag SESSION_ID_TAG = new ContextSpecificTag(0);
+  private static final Tag STATE_TAG = new ContextSpecificTag(1);
+  private static final Tag FAULT_STATE_PREVIOUS_STATE_TAG = new ContextSpecificTag(2);
+  private static final Tag FAULT_STATE_CURRENT_STATE_TAG = new ContextSpecificTag(4);
 
   public EnergyEvseClusterFaultEvent(
     @Nullable Long sessionID,
@@ -4675,47 +4417,37 @@ public static class EnergyEvseClusterFaultEvent {
     this.faultStateCurrentState = faultStateCurrentState;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(SESSION_ID_ID, sessionID != null ? new UIntType(sessionID) : new NullType()));
-    values.add(new StructElement(STATE_ID, new UIntType(state)));
-    values.add(new StructElement(FAULT_STATE_PREVIOUS_STATE_ID, new UIntType(faultStatePreviousState)));
-    values.add(new StructElement(FAULT_STATE_CURRENT_STATE_ID, new UIntType(faultStateCurrentState)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    if (sessionID != null) { writer.putUnsigned(SESSION_ID_TAG, sessionID); } else { writer.putNull(SESSION_ID_TAG); }
+    writer.putUnsigned(STATE_TAG, state);
+    writer.putUnsigned(FAULT_STATE_PREVIOUS_STATE_TAG, faultStatePreviousState);
+    writer.putUnsigned(FAULT_STATE_CURRENT_STATE_TAG, faultStateCurrentState);
+    writer.endStructure();
   }
 
-  public static EnergyEvseClusterFaultEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static EnergyEvseClusterFaultEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     @Nullable Long sessionID = null;
     Integer state = null;
     Integer faultStatePreviousState = null;
     Integer faultStateCurrentState = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == SESSION_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          sessionID = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          state = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == FAULT_STATE_PREVIOUS_STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          faultStatePreviousState = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == FAULT_STATE_CURRENT_STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          faultStateCurrentState = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(SESSION_ID_TAG)) {
+        sessionID = reader.getUnsigned(SESSION_ID_TAG);
+      } else if (reader.isNextTag(STATE_TAG)) {
+        state = (int) reader.getUnsigned(STATE_TAG);
+      } else if (reader.isNextTag(FAULT_STATE_PREVIOUS_STATE_TAG)) {
+        faultStatePreviousState = (int) reader.getUnsigned(FAULT_STATE_PREVIOUS_STATE_TAG);
+      } else if (reader.isNextTag(FAULT_STATE_CURRENT_STATE_TAG)) {
+        faultStateCurrentState = (int) reader.getUnsigned(FAULT_STATE_CURRENT_STATE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new EnergyEvseClusterFaultEvent(
       sessionID,
       state,
@@ -4746,7 +4478,7 @@ public static class EnergyEvseClusterFaultEvent {
 }
 public static class EnergyEvseClusterRFIDEvent {
   public byte[] uid;
-  private static final long UID_ID = 0L;
+  private static final Tag UID_TAG = new ContextSpecificTag(0);
 
   public EnergyEvseClusterRFIDEvent(
     byte[] uid
@@ -4754,26 +4486,25 @@ public static class EnergyEvseClusterRFIDEvent {
     this.uid = uid;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(UID_ID, new ByteArrayType(uid)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.put(UID_TAG, uid);
+    writer.endStructure();
   }
 
-  public static EnergyEvseClusterRFIDEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static EnergyEvseClusterRFIDEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     byte[] uid = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == UID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.ByteArray) {
-          ByteArrayType castingValue = element.value(ByteArrayType.class);
-          uid = castingValue.value(byte[].class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(UID_TAG)) {
+        uid = reader.getByteString(UID_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new EnergyEvseClusterRFIDEvent(
       uid
     );
@@ -4792,7 +4523,7 @@ public static class EnergyEvseClusterRFIDEvent {
 }
 public static class ElectricalGridConditionsClusterCurrentConditionsChangedEvent {
   public @Nullable ChipStructs.ElectricalGridConditionsClusterElectricalGridConditionsStruct currentConditions;
-  private static final long CURRENT_CONDITIONS_ID = 0L;
+  private static final Tag CURRENT_CONDITIONS_TAG = new ContextSpecificTag(0);
 
   public ElectricalGridConditionsClusterCurrentConditionsChangedEvent(
     @Nullable ChipStructs.ElectricalGridConditionsClusterElectricalGridConditionsStruct currentConditions
@@ -4800,26 +4531,25 @@ public static class ElectricalGridConditionsClusterCurrentConditionsChangedEvent
     this.currentConditions = currentConditions;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(CURRENT_CONDITIONS_ID, currentConditions != null ? currentConditions.encodeTlv() : new NullType()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    if (currentConditions != null) { currentConditions.encodeTlv(CURRENT_CONDITIONS_TAG, writer); } else { writer.putNull(CURRENT_CONDITIONS_TAG); }
+    writer.endStructure();
   }
 
-  public static ElectricalGridConditionsClusterCurrentConditionsChangedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ElectricalGridConditionsClusterCurrentConditionsChangedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     @Nullable ChipStructs.ElectricalGridConditionsClusterElectricalGridConditionsStruct currentConditions = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == CURRENT_CONDITIONS_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Struct) {
-          StructType castingValue = element.value(StructType.class);
-          currentConditions = ChipStructs.ElectricalGridConditionsClusterElectricalGridConditionsStruct.decodeTlv(castingValue);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(CURRENT_CONDITIONS_TAG)) {
+        currentConditions = ChipStructs.ElectricalGridConditionsClusterElectricalGridConditionsStruct.decodeTlv(CURRENT_CONDITIONS_TAG, reader);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ElectricalGridConditionsClusterCurrentConditionsChangedEvent(
       currentConditions
     );
@@ -4838,7 +4568,7 @@ public static class ElectricalGridConditionsClusterCurrentConditionsChangedEvent
 }
 public static class DoorLockClusterDoorLockAlarmEvent {
   public Integer alarmCode;
-  private static final long ALARM_CODE_ID = 0L;
+  private static final Tag ALARM_CODE_TAG = new ContextSpecificTag(0);
 
   public DoorLockClusterDoorLockAlarmEvent(
     Integer alarmCode
@@ -4846,26 +4576,25 @@ public static class DoorLockClusterDoorLockAlarmEvent {
     this.alarmCode = alarmCode;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ALARM_CODE_ID, new UIntType(alarmCode)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(ALARM_CODE_TAG, alarmCode);
+    writer.endStructure();
   }
 
-  public static DoorLockClusterDoorLockAlarmEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static DoorLockClusterDoorLockAlarmEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer alarmCode = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ALARM_CODE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          alarmCode = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ALARM_CODE_TAG)) {
+        alarmCode = (int) reader.getUnsigned(ALARM_CODE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new DoorLockClusterDoorLockAlarmEvent(
       alarmCode
     );
@@ -4884,7 +4613,7 @@ public static class DoorLockClusterDoorLockAlarmEvent {
 }
 public static class DoorLockClusterDoorStateChangeEvent {
   public Integer doorState;
-  private static final long DOOR_STATE_ID = 0L;
+  private static final Tag DOOR_STATE_TAG = new ContextSpecificTag(0);
 
   public DoorLockClusterDoorStateChangeEvent(
     Integer doorState
@@ -4892,26 +4621,25 @@ public static class DoorLockClusterDoorStateChangeEvent {
     this.doorState = doorState;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(DOOR_STATE_ID, new UIntType(doorState)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(DOOR_STATE_TAG, doorState);
+    writer.endStructure();
   }
 
-  public static DoorLockClusterDoorStateChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static DoorLockClusterDoorStateChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer doorState = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == DOOR_STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          doorState = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(DOOR_STATE_TAG)) {
+        doorState = (int) reader.getUnsigned(DOOR_STATE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new DoorLockClusterDoorStateChangeEvent(
       doorState
     );
@@ -4935,12 +4663,12 @@ public static class DoorLockClusterLockOperationEvent {
   public @Nullable Integer fabricIndex;
   public @Nullable Long sourceNode;
   public @Nullable Optional<ArrayList<ChipStructs.DoorLockClusterCredentialStruct>> credentials;
-  private static final long LOCK_OPERATION_TYPE_ID = 0L;
-  private static final long OPERATION_SOURCE_ID = 1L;
-  private static final long USER_INDEX_ID = 2L;
-  private static final long FABRIC_INDEX_ID = 3L;
-  private static final long SOURCE_NODE_ID = 4L;
-  private static final long CREDENTIALS_ID = 5L;
+  private static final Tag LOCK_OPERATION_TYPE_TAG = new ContextSpecificTag(0);
+  private static final Tag OPERATION_SOURCE_TAG = new ContextSpecificTag(1);
+  private static final Tag USER_INDEX_TAG = new ContextSpecificTag(2);
+  private static final Tag FABRIC_INDEX_TAG = new ContextSpecificTag(3);
+  private static final Tag SOURCE_NODE_TAG = new ContextSpecificTag(4);
+  private static final Tag CREDENTIALS_TAG = new ContextSpecificTag(5);
 
   public DoorLockClusterLockOperationEvent(
     Integer lockOperationType,
@@ -4958,61 +4686,45 @@ public static class DoorLockClusterLockOperationEvent {
     this.credentials = credentials;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(LOCK_OPERATION_TYPE_ID, new UIntType(lockOperationType)));
-    values.add(new StructElement(OPERATION_SOURCE_ID, new UIntType(operationSource)));
-    values.add(new StructElement(USER_INDEX_ID, userIndex != null ? new UIntType(userIndex) : new NullType()));
-    values.add(new StructElement(FABRIC_INDEX_ID, fabricIndex != null ? new UIntType(fabricIndex) : new NullType()));
-    values.add(new StructElement(SOURCE_NODE_ID, sourceNode != null ? new UIntType(sourceNode) : new NullType()));
-    values.add(new StructElement(CREDENTIALS_ID, credentials != null ? credentials.<BaseTLVType>map((nonOptionalcredentials) -> ArrayType.generateArrayType(nonOptionalcredentials, (elementnonOptionalcredentials) -> elementnonOptionalcredentials.encodeTlv())).orElse(new EmptyType()) : new NullType()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(LOCK_OPERATION_TYPE_TAG, lockOperationType);
+    writer.putUnsigned(OPERATION_SOURCE_TAG, operationSource);
+    if (userIndex != null) { writer.putUnsigned(USER_INDEX_TAG, userIndex); } else { writer.putNull(USER_INDEX_TAG); }
+    if (fabricIndex != null) { writer.putUnsigned(FABRIC_INDEX_TAG, fabricIndex); } else { writer.putNull(FABRIC_INDEX_TAG); }
+    if (sourceNode != null) { writer.putUnsigned(SOURCE_NODE_TAG, sourceNode); } else { writer.putNull(SOURCE_NODE_TAG); }
+    if (credentials != null) { credentials.ifPresent((nonOptionalcredentials) -> { writer.startArray(CREDENTIALS_TAG); nonOptionalcredentials.forEach((elementnonOptionalcredentials) -> { elementnonOptionalcredentials.encodeTlv(AnonymousTag.INSTANCE, writer); }); writer.endArray(); }); } else { writer.putNull(CREDENTIALS_TAG); }
+    writer.endStructure();
   }
 
-  public static DoorLockClusterLockOperationEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static DoorLockClusterLockOperationEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer lockOperationType = null;
     Integer operationSource = null;
     @Nullable Integer userIndex = null;
     @Nullable Integer fabricIndex = null;
     @Nullable Long sourceNode = null;
-    @Nullable Optional<ArrayList<ChipStructs.DoorLockClusterCredentialStruct>> credentials = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == LOCK_OPERATION_TYPE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          lockOperationType = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == OPERATION_SOURCE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          operationSource = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == USER_INDEX_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          userIndex = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == FABRIC_INDEX_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          fabricIndex = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == SOURCE_NODE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          sourceNode = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == CREDENTIALS_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          credentials = Optional.of(castingValue.map((elementcastingValue) -> ChipStructs.DoorLockClusterCredentialStruct.decodeTlv(elementcastingValue)));
-        }
+    @Nullable Optional<ArrayList<ChipStructs.DoorLockClusterCredentialStruct>> credentials = Optional.empty();
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(LOCK_OPERATION_TYPE_TAG)) {
+        lockOperationType = (int) reader.getUnsigned(LOCK_OPERATION_TYPE_TAG);
+      } else if (reader.isNextTag(OPERATION_SOURCE_TAG)) {
+        operationSource = (int) reader.getUnsigned(OPERATION_SOURCE_TAG);
+      } else if (reader.isNextTag(USER_INDEX_TAG)) {
+        userIndex = (int) reader.getUnsigned(USER_INDEX_TAG);
+      } else if (reader.isNextTag(FABRIC_INDEX_TAG)) {
+        fabricIndex = (int) reader.getUnsigned(FABRIC_INDEX_TAG);
+      } else if (reader.isNextTag(SOURCE_NODE_TAG)) {
+        sourceNode = reader.getUnsigned(SOURCE_NODE_TAG);
+      } else if (reader.isNextTag(CREDENTIALS_TAG)) {
+        credentials = Optional.of(ChipTLVCodec.readArray(reader, CREDENTIALS_TAG, () -> ChipStructs.DoorLockClusterCredentialStruct.decodeTlv(AnonymousTag.INSTANCE, reader)));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new DoorLockClusterLockOperationEvent(
       lockOperationType,
       operationSource,
@@ -5057,13 +4769,13 @@ public static class DoorLockClusterLockOperationErrorEvent {
   public @Nullable Integer fabricIndex;
   public @Nullable Long sourceNode;
   public @Nullable Optional<ArrayList<ChipStructs.DoorLockClusterCredentialStruct>> credentials;
-  private static final long LOCK_OPERATION_TYPE_ID = 0L;
-  private static final long OPERATION_SOURCE_ID = 1L;
-  private static final long OPERATION_ERROR_ID = 2L;
-  private static final long USER_INDEX_ID = 3L;
-  private static final long FABRIC_INDEX_ID = 4L;
-  private static final long SOURCE_NODE_ID = 5L;
-  private static final long CREDENTIALS_ID = 6L;
+  private static final Tag LOCK_OPERATION_TYPE_TAG = new ContextSpecificTag(0);
+  private static final Tag OPERATION_SOURCE_TAG = new ContextSpecificTag(1);
+  private static final Tag OPERATION_ERROR_TAG = new ContextSpecificTag(2);
+  private static final Tag USER_INDEX_TAG = new ContextSpecificTag(3);
+  private static final Tag FABRIC_INDEX_TAG = new ContextSpecificTag(4);
+  private static final Tag SOURCE_NODE_TAG = new ContextSpecificTag(5);
+  private static final Tag CREDENTIALS_TAG = new ContextSpecificTag(6);
 
   public DoorLockClusterLockOperationErrorEvent(
     Integer lockOperationType,
@@ -5083,68 +4795,49 @@ public static class DoorLockClusterLockOperationErrorEvent {
     this.credentials = credentials;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(LOCK_OPERATION_TYPE_ID, new UIntType(lockOperationType)));
-    values.add(new StructElement(OPERATION_SOURCE_ID, new UIntType(operationSource)));
-    values.add(new StructElement(OPERATION_ERROR_ID, new UIntType(operationError)));
-    values.add(new StructElement(USER_INDEX_ID, userIndex != null ? new UIntType(userIndex) : new NullType()));
-    values.add(new StructElement(FABRIC_INDEX_ID, fabricIndex != null ? new UIntType(fabricIndex) : new NullType()));
-    values.add(new StructElement(SOURCE_NODE_ID, sourceNode != null ? new UIntType(sourceNode) : new NullType()));
-    values.add(new StructElement(CREDENTIALS_ID, credentials != null ? credentials.<BaseTLVType>map((nonOptionalcredentials) -> ArrayType.generateArrayType(nonOptionalcredentials, (elementnonOptionalcredentials) -> elementnonOptionalcredentials.encodeTlv())).orElse(new EmptyType()) : new NullType()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(LOCK_OPERATION_TYPE_TAG, lockOperationType);
+    writer.putUnsigned(OPERATION_SOURCE_TAG, operationSource);
+    writer.putUnsigned(OPERATION_ERROR_TAG, operationError);
+    if (userIndex != null) { writer.putUnsigned(USER_INDEX_TAG, userIndex); } else { writer.putNull(USER_INDEX_TAG); }
+    if (fabricIndex != null) { writer.putUnsigned(FABRIC_INDEX_TAG, fabricIndex); } else { writer.putNull(FABRIC_INDEX_TAG); }
+    if (sourceNode != null) { writer.putUnsigned(SOURCE_NODE_TAG, sourceNode); } else { writer.putNull(SOURCE_NODE_TAG); }
+    if (credentials != null) { credentials.ifPresent((nonOptionalcredentials) -> { writer.startArray(CREDENTIALS_TAG); nonOptionalcredentials.forEach((elementnonOptionalcredentials) -> { elementnonOptionalcredentials.encodeTlv(AnonymousTag.INSTANCE, writer); }); writer.endArray(); }); } else { writer.putNull(CREDENTIALS_TAG); }
+    writer.endStructure();
   }
 
-  public static DoorLockClusterLockOperationErrorEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static DoorLockClusterLockOperationErrorEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer lockOperationType = null;
     Integer operationSource = null;
     Integer operationError = null;
     @Nullable Integer userIndex = null;
     @Nullable Integer fabricIndex = null;
     @Nullable Long sourceNode = null;
-    @Nullable Optional<ArrayList<ChipStructs.DoorLockClusterCredentialStruct>> credentials = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == LOCK_OPERATION_TYPE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          lockOperationType = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == OPERATION_SOURCE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          operationSource = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == OPERATION_ERROR_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          operationError = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == USER_INDEX_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          userIndex = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == FABRIC_INDEX_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          fabricIndex = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == SOURCE_NODE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          sourceNode = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == CREDENTIALS_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          credentials = Optional.of(castingValue.map((elementcastingValue) -> ChipStructs.DoorLockClusterCredentialStruct.decodeTlv(elementcastingValue)));
-        }
+    @Nullable Optional<ArrayList<ChipStructs.DoorLockClusterCredentialStruct>> credentials = Optional.empty();
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(LOCK_OPERATION_TYPE_TAG)) {
+        lockOperationType = (int) reader.getUnsigned(LOCK_OPERATION_TYPE_TAG);
+      } else if (reader.isNextTag(OPERATION_SOURCE_TAG)) {
+        operationSource = (int) reader.getUnsigned(OPERATION_SOURCE_TAG);
+      } else if (reader.isNextTag(OPERATION_ERROR_TAG)) {
+        operationError = (int) reader.getUnsigned(OPERATION_ERROR_TAG);
+      } else if (reader.isNextTag(USER_INDEX_TAG)) {
+        userIndex = (int) reader.getUnsigned(USER_INDEX_TAG);
+      } else if (reader.isNextTag(FABRIC_INDEX_TAG)) {
+        fabricIndex = (int) reader.getUnsigned(FABRIC_INDEX_TAG);
+      } else if (reader.isNextTag(SOURCE_NODE_TAG)) {
+        sourceNode = reader.getUnsigned(SOURCE_NODE_TAG);
+      } else if (reader.isNextTag(CREDENTIALS_TAG)) {
+        credentials = Optional.of(ChipTLVCodec.readArray(reader, CREDENTIALS_TAG, () -> ChipStructs.DoorLockClusterCredentialStruct.decodeTlv(AnonymousTag.INSTANCE, reader)));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new DoorLockClusterLockOperationErrorEvent(
       lockOperationType,
       operationSource,
@@ -5193,13 +4886,13 @@ public static class DoorLockClusterLockUserChangeEvent {
   public @Nullable Integer fabricIndex;
   public @Nullable Long sourceNode;
   public @Nullable Integer dataIndex;
-  private static final long LOCK_DATA_TYPE_ID = 0L;
-  private static final long DATA_OPERATION_TYPE_ID = 1L;
-  private static final long OPERATION_SOURCE_ID = 2L;
-  private static final long USER_INDEX_ID = 3L;
-  private static final long FABRIC_INDEX_ID = 4L;
-  private static final long SOURCE_NODE_ID = 5L;
-  private static final long DATA_INDEX_ID = 6L;
+  private static final Tag LOCK_DATA_TYPE_TAG = new ContextSpecificTag(0);
+  private static final Tag DATA_OPERATION_TYPE_TAG = new ContextSpecificTag(1);
+  private static final Tag OPERATION_SOURCE_TAG = new ContextSpecificTag(2);
+  private static final Tag USER_INDEX_TAG = new ContextSpecificTag(3);
+  private static final Tag FABRIC_INDEX_TAG = new ContextSpecificTag(4);
+  private static final Tag SOURCE_NODE_TAG = new ContextSpecificTag(5);
+  private static final Tag DATA_INDEX_TAG = new ContextSpecificTag(6);
 
   public DoorLockClusterLockUserChangeEvent(
     Integer lockDataType,
@@ -5219,23 +4912,19 @@ public static class DoorLockClusterLockUserChangeEvent {
     this.dataIndex = dataIndex;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(LOCK_DATA_TYPE_ID, new UIntType(lockDataType)));
-    values.add(new StructElement(DATA_OPERATION_TYPE_ID, new UIntType(dataOperationType)));
-    values.add(new StructElement(OPERATION_SOURCE_ID, new UIntType(operationSource)));
-    values.add(new StructElement(USER_INDEX_ID, userIndex != null ? new UIntType(userIndex) : new NullType()));
-    values.add(new StructElement(FABRIC_INDEX_ID, fabricIndex != null ? new UIntType(fabricIndex) : new NullType()));
-    values.add(new StructElement(SOURCE_NODE_ID, sourceNode != null ? new UIntType(sourceNode) : new NullType()));
-    values.add(new StructElement(DATA_INDEX_ID, dataIndex != null ? new UIntType(dataIndex) : new NullType()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(LOCK_DATA_TYPE_TAG, lockDataType);
+    writer.putUnsigned(DATA_OPERATION_TYPE_TAG, dataOperationType);
+    writer.putUnsigned(OPERATION_SOURCE_TAG, operationSource);
+    if (userIndex != null) { writer.putUnsigned(USER_INDEX_TAG, userIndex); } else { writer.putNull(USER_INDEX_TAG); }
+    if (fabricIndex != null) { writer.putUnsigned(FABRIC_INDEX_TAG, fabricIndex); } else { writer.putNull(FABRIC_INDEX_TAG); }
+    if (sourceNode != null) { writer.putUnsigned(SOURCE_NODE_TAG, sourceNode); } else { writer.putNull(SOURCE_NODE_TAG); }
+    if (dataIndex != null) { writer.putUnsigned(DATA_INDEX_TAG, dataIndex); } else { writer.putNull(DATA_INDEX_TAG); }
+    writer.endStructure();
   }
 
-  public static DoorLockClusterLockUserChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static DoorLockClusterLockUserChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer lockDataType = null;
     Integer dataOperationType = null;
     Integer operationSource = null;
@@ -5243,44 +4932,29 @@ public static class DoorLockClusterLockUserChangeEvent {
     @Nullable Integer fabricIndex = null;
     @Nullable Long sourceNode = null;
     @Nullable Integer dataIndex = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == LOCK_DATA_TYPE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          lockDataType = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == DATA_OPERATION_TYPE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          dataOperationType = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == OPERATION_SOURCE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          operationSource = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == USER_INDEX_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          userIndex = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == FABRIC_INDEX_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          fabricIndex = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == SOURCE_NODE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          sourceNode = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == DATA_INDEX_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          dataIndex = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(LOCK_DATA_TYPE_TAG)) {
+        lockDataType = (int) reader.getUnsigned(LOCK_DATA_TYPE_TAG);
+      } else if (reader.isNextTag(DATA_OPERATION_TYPE_TAG)) {
+        dataOperationType = (int) reader.getUnsigned(DATA_OPERATION_TYPE_TAG);
+      } else if (reader.isNextTag(OPERATION_SOURCE_TAG)) {
+        operationSource = (int) reader.getUnsigned(OPERATION_SOURCE_TAG);
+      } else if (reader.isNextTag(USER_INDEX_TAG)) {
+        userIndex = (int) reader.getUnsigned(USER_INDEX_TAG);
+      } else if (reader.isNextTag(FABRIC_INDEX_TAG)) {
+        fabricIndex = (int) reader.getUnsigned(FABRIC_INDEX_TAG);
+      } else if (reader.isNextTag(SOURCE_NODE_TAG)) {
+        sourceNode = reader.getUnsigned(SOURCE_NODE_TAG);
+      } else if (reader.isNextTag(DATA_INDEX_TAG)) {
+        dataIndex = (int) reader.getUnsigned(DATA_INDEX_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new DoorLockClusterLockUserChangeEvent(
       lockDataType,
       dataOperationType,
@@ -5323,7 +4997,7 @@ public static class DoorLockClusterLockUserChangeEvent {
 }
 public static class ClosureControlClusterOperationalErrorEvent {
   public ArrayList<Integer> errorState;
-  private static final long ERROR_STATE_ID = 0L;
+  private static final Tag ERROR_STATE_TAG = new ContextSpecificTag(0);
 
   public ClosureControlClusterOperationalErrorEvent(
     ArrayList<Integer> errorState
@@ -5331,26 +5005,25 @@ public static class ClosureControlClusterOperationalErrorEvent {
     this.errorState = errorState;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ERROR_STATE_ID, ArrayType.generateArrayType(errorState, (elementerrorState) -> new UIntType(elementerrorState))));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.startArray(ERROR_STATE_TAG); errorState.forEach((elementerrorState) -> { writer.putUnsigned(AnonymousTag.INSTANCE, elementerrorState); }); writer.endArray();
+    writer.endStructure();
   }
 
-  public static ClosureControlClusterOperationalErrorEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ClosureControlClusterOperationalErrorEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     ArrayList<Integer> errorState = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ERROR_STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          errorState = castingValue.map((elementcastingValue) -> elementcastingValue.value(Integer.class));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ERROR_STATE_TAG)) {
+        errorState = ChipTLVCodec.readArray(reader, ERROR_STATE_TAG, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ClosureControlClusterOperationalErrorEvent(
       errorState
     );
@@ -5373,16 +5046,17 @@ public static class ClosureControlClusterMovementCompletedEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static ClosureControlClusterMovementCompletedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static ClosureControlClusterMovementCompletedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new ClosureControlClusterMovementCompletedEvent(
     );
   }
@@ -5397,7 +5071,7 @@ public static class ClosureControlClusterMovementCompletedEvent {
 }
 public static class ClosureControlClusterEngageStateChangedEvent {
   public Boolean engageValue;
-  private static final long ENGAGE_VALUE_ID = 0L;
+  private static final Tag ENGAGE_VALUE_TAG = new ContextSpecificTag(0);
 
   public ClosureControlClusterEngageStateChangedEvent(
     Boolean engageValue
@@ -5405,26 +5079,25 @@ public static class ClosureControlClusterEngageStateChangedEvent {
     this.engageValue = engageValue;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ENGAGE_VALUE_ID, new BooleanType(engageValue)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.put(ENGAGE_VALUE_TAG, engageValue);
+    writer.endStructure();
   }
 
-  public static ClosureControlClusterEngageStateChangedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ClosureControlClusterEngageStateChangedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Boolean engageValue = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ENGAGE_VALUE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Boolean) {
-          BooleanType castingValue = element.value(BooleanType.class);
-          engageValue = castingValue.value(Boolean.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ENGAGE_VALUE_TAG)) {
+        engageValue = reader.getBool(ENGAGE_VALUE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ClosureControlClusterEngageStateChangedEvent(
       engageValue
     );
@@ -5443,7 +5116,7 @@ public static class ClosureControlClusterEngageStateChangedEvent {
 }
 public static class ClosureControlClusterSecureStateChangedEvent {
   public Boolean secureValue;
-  private static final long SECURE_VALUE_ID = 0L;
+  private static final Tag SECURE_VALUE_TAG = new ContextSpecificTag(0);
 
   public ClosureControlClusterSecureStateChangedEvent(
     Boolean secureValue
@@ -5451,26 +5124,25 @@ public static class ClosureControlClusterSecureStateChangedEvent {
     this.secureValue = secureValue;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(SECURE_VALUE_ID, new BooleanType(secureValue)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.put(SECURE_VALUE_TAG, secureValue);
+    writer.endStructure();
   }
 
-  public static ClosureControlClusterSecureStateChangedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ClosureControlClusterSecureStateChangedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Boolean secureValue = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == SECURE_VALUE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Boolean) {
-          BooleanType castingValue = element.value(BooleanType.class);
-          secureValue = castingValue.value(Boolean.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(SECURE_VALUE_TAG)) {
+        secureValue = reader.getBool(SECURE_VALUE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ClosureControlClusterSecureStateChangedEvent(
       secureValue
     );
@@ -5493,16 +5165,17 @@ public static class PumpConfigurationAndControlClusterSupplyVoltageLowEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static PumpConfigurationAndControlClusterSupplyVoltageLowEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static PumpConfigurationAndControlClusterSupplyVoltageLowEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new PumpConfigurationAndControlClusterSupplyVoltageLowEvent(
     );
   }
@@ -5521,16 +5194,17 @@ public static class PumpConfigurationAndControlClusterSupplyVoltageHighEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static PumpConfigurationAndControlClusterSupplyVoltageHighEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static PumpConfigurationAndControlClusterSupplyVoltageHighEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new PumpConfigurationAndControlClusterSupplyVoltageHighEvent(
     );
   }
@@ -5549,16 +5223,17 @@ public static class PumpConfigurationAndControlClusterPowerMissingPhaseEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static PumpConfigurationAndControlClusterPowerMissingPhaseEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static PumpConfigurationAndControlClusterPowerMissingPhaseEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new PumpConfigurationAndControlClusterPowerMissingPhaseEvent(
     );
   }
@@ -5577,16 +5252,17 @@ public static class PumpConfigurationAndControlClusterSystemPressureLowEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static PumpConfigurationAndControlClusterSystemPressureLowEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static PumpConfigurationAndControlClusterSystemPressureLowEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new PumpConfigurationAndControlClusterSystemPressureLowEvent(
     );
   }
@@ -5605,16 +5281,17 @@ public static class PumpConfigurationAndControlClusterSystemPressureHighEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static PumpConfigurationAndControlClusterSystemPressureHighEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static PumpConfigurationAndControlClusterSystemPressureHighEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new PumpConfigurationAndControlClusterSystemPressureHighEvent(
     );
   }
@@ -5633,16 +5310,17 @@ public static class PumpConfigurationAndControlClusterDryRunningEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static PumpConfigurationAndControlClusterDryRunningEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static PumpConfigurationAndControlClusterDryRunningEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new PumpConfigurationAndControlClusterDryRunningEvent(
     );
   }
@@ -5661,16 +5339,17 @@ public static class PumpConfigurationAndControlClusterMotorTemperatureHighEvent
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static PumpConfigurationAndControlClusterMotorTemperatureHighEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static PumpConfigurationAndControlClusterMotorTemperatureHighEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new PumpConfigurationAndControlClusterMotorTemperatureHighEvent(
     );
   }
@@ -5689,16 +5368,17 @@ public static class PumpConfigurationAndControlClusterPumpMotorFatalFailureEvent
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static PumpConfigurationAndControlClusterPumpMotorFatalFailureEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static PumpConfigurationAndControlClusterPumpMotorFatalFailureEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new PumpConfigurationAndControlClusterPumpMotorFatalFailureEvent(
     );
   }
@@ -5717,16 +5397,17 @@ public static class PumpConfigurationAndControlClusterElectronicTemperatureHighE
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static PumpConfigurationAndControlClusterElectronicTemperatureHighEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static PumpConfigurationAndControlClusterElectronicTemperatureHighEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new PumpConfigurationAndControlClusterElectronicTemperatureHighEvent(
     );
   }
@@ -5745,16 +5426,17 @@ public static class PumpConfigurationAndControlClusterPumpBlockedEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static PumpConfigurationAndControlClusterPumpBlockedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static PumpConfigurationAndControlClusterPumpBlockedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new PumpConfigurationAndControlClusterPumpBlockedEvent(
     );
   }
@@ -5773,16 +5455,17 @@ public static class PumpConfigurationAndControlClusterSensorFailureEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static PumpConfigurationAndControlClusterSensorFailureEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static PumpConfigurationAndControlClusterSensorFailureEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new PumpConfigurationAndControlClusterSensorFailureEvent(
     );
   }
@@ -5801,16 +5484,17 @@ public static class PumpConfigurationAndControlClusterElectronicNonFatalFailureE
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static PumpConfigurationAndControlClusterElectronicNonFatalFailureEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static PumpConfigurationAndControlClusterElectronicNonFatalFailureEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new PumpConfigurationAndControlClusterElectronicNonFatalFailureEvent(
     );
   }
@@ -5829,16 +5513,17 @@ public static class PumpConfigurationAndControlClusterElectronicFatalFailureEven
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static PumpConfigurationAndControlClusterElectronicFatalFailureEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static PumpConfigurationAndControlClusterElectronicFatalFailureEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new PumpConfigurationAndControlClusterElectronicFatalFailureEvent(
     );
   }
@@ -5857,16 +5542,17 @@ public static class PumpConfigurationAndControlClusterGeneralFaultEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static PumpConfigurationAndControlClusterGeneralFaultEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static PumpConfigurationAndControlClusterGeneralFaultEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new PumpConfigurationAndControlClusterGeneralFaultEvent(
     );
   }
@@ -5885,16 +5571,17 @@ public static class PumpConfigurationAndControlClusterLeakageEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static PumpConfigurationAndControlClusterLeakageEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static PumpConfigurationAndControlClusterLeakageEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new PumpConfigurationAndControlClusterLeakageEvent(
     );
   }
@@ -5913,16 +5600,17 @@ public static class PumpConfigurationAndControlClusterAirDetectionEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static PumpConfigurationAndControlClusterAirDetectionEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static PumpConfigurationAndControlClusterAirDetectionEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new PumpConfigurationAndControlClusterAirDetectionEvent(
     );
   }
@@ -5941,16 +5629,17 @@ public static class PumpConfigurationAndControlClusterTurbineOperationEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static PumpConfigurationAndControlClusterTurbineOperationEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static PumpConfigurationAndControlClusterTurbineOperationEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new PumpConfigurationAndControlClusterTurbineOperationEvent(
     );
   }
@@ -5966,8 +5655,8 @@ public static class PumpConfigurationAndControlClusterTurbineOperationEvent {
 public static class ThermostatClusterSystemModeChangeEvent {
   public Optional<Integer> previousSystemMode;
   public Integer currentSystemMode;
-  private static final long PREVIOUS_SYSTEM_MODE_ID = 0L;
-  private static final long CURRENT_SYSTEM_MODE_ID = 1L;
+  private static final Tag PREVIOUS_SYSTEM_MODE_TAG = new ContextSpecificTag(0);
+  private static final Tag CURRENT_SYSTEM_MODE_TAG = new ContextSpecificTag(1);
 
   public ThermostatClusterSystemModeChangeEvent(
     Optional<Integer> previousSystemMode,
@@ -5977,33 +5666,29 @@ public static class ThermostatClusterSystemModeChangeEvent {
     this.currentSystemMode = currentSystemMode;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(PREVIOUS_SYSTEM_MODE_ID, previousSystemMode.<BaseTLVType>map((nonOptionalpreviousSystemMode) -> new UIntType(nonOptionalpreviousSystemMode)).orElse(new EmptyType())));
-    values.add(new StructElement(CURRENT_SYSTEM_MODE_ID, new UIntType(currentSystemMode)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    previousSystemMode.ifPresent((nonOptionalpreviousSystemMode) -> { writer.putUnsigned(PREVIOUS_SYSTEM_MODE_TAG, nonOptionalpreviousSystemMode); });
+    writer.putUnsigned(CURRENT_SYSTEM_MODE_TAG, currentSystemMode);
+    writer.endStructure();
   }
 
-  public static ThermostatClusterSystemModeChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ThermostatClusterSystemModeChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Optional<Integer> previousSystemMode = Optional.empty();
     Integer currentSystemMode = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == PREVIOUS_SYSTEM_MODE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          previousSystemMode = Optional.of(castingValue.value(Integer.class));
-        }
-      } else if (element.contextTagNum() == CURRENT_SYSTEM_MODE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          currentSystemMode = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(PREVIOUS_SYSTEM_MODE_TAG)) {
+        previousSystemMode = Optional.of((int) reader.getUnsigned(PREVIOUS_SYSTEM_MODE_TAG));
+      } else if (reader.isNextTag(CURRENT_SYSTEM_MODE_TAG)) {
+        currentSystemMode = (int) reader.getUnsigned(CURRENT_SYSTEM_MODE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ThermostatClusterSystemModeChangeEvent(
       previousSystemMode,
       currentSystemMode
@@ -6026,7 +5711,7 @@ public static class ThermostatClusterSystemModeChangeEvent {
 }
 public static class ThermostatClusterLocalTemperatureChangeEvent {
   public @Nullable Integer currentLocalTemperature;
-  private static final long CURRENT_LOCAL_TEMPERATURE_ID = 0L;
+  private static final Tag CURRENT_LOCAL_TEMPERATURE_TAG = new ContextSpecificTag(0);
 
   public ThermostatClusterLocalTemperatureChangeEvent(
     @Nullable Integer currentLocalTemperature
@@ -6034,26 +5719,25 @@ public static class ThermostatClusterLocalTemperatureChangeEvent {
     this.currentLocalTemperature = currentLocalTemperature;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(CURRENT_LOCAL_TEMPERATURE_ID, currentLocalTemperature != null ? new IntType(currentLocalTemperature) : new NullType()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    if (currentLocalTemperature != null) { writer.put(CURRENT_LOCAL_TEMPERATURE_TAG, currentLocalTemperature); } else { writer.putNull(CURRENT_LOCAL_TEMPERATURE_TAG); }
+    writer.endStructure();
   }
 
-  public static ThermostatClusterLocalTemperatureChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ThermostatClusterLocalTemperatureChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     @Nullable Integer currentLocalTemperature = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == CURRENT_LOCAL_TEMPERATURE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Int) {
-          IntType castingValue = element.value(IntType.class);
-          currentLocalTemperature = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(CURRENT_LOCAL_TEMPERATURE_TAG)) {
+        currentLocalTemperature = (int) reader.getLong(CURRENT_LOCAL_TEMPERATURE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ThermostatClusterLocalTemperatureChangeEvent(
       currentLocalTemperature
     );
@@ -6073,8 +5757,8 @@ public static class ThermostatClusterLocalTemperatureChangeEvent {
 public static class ThermostatClusterOccupancyChangeEvent {
   public Optional<Integer> previousOccupancy;
   public Integer currentOccupancy;
-  private static final long PREVIOUS_OCCUPANCY_ID = 0L;
-  private static final long CURRENT_OCCUPANCY_ID = 1L;
+  private static final Tag PREVIOUS_OCCUPANCY_TAG = new ContextSpecificTag(0);
+  private static final Tag CURRENT_OCCUPANCY_TAG = new ContextSpecificTag(1);
 
   public ThermostatClusterOccupancyChangeEvent(
     Optional<Integer> previousOccupancy,
@@ -6084,33 +5768,29 @@ public static class ThermostatClusterOccupancyChangeEvent {
     this.currentOccupancy = currentOccupancy;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(PREVIOUS_OCCUPANCY_ID, previousOccupancy.<BaseTLVType>map((nonOptionalpreviousOccupancy) -> new UIntType(nonOptionalpreviousOccupancy)).orElse(new EmptyType())));
-    values.add(new StructElement(CURRENT_OCCUPANCY_ID, new UIntType(currentOccupancy)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    previousOccupancy.ifPresent((nonOptionalpreviousOccupancy) -> { writer.putUnsigned(PREVIOUS_OCCUPANCY_TAG, nonOptionalpreviousOccupancy); });
+    writer.putUnsigned(CURRENT_OCCUPANCY_TAG, currentOccupancy);
+    writer.endStructure();
   }
 
-  public static ThermostatClusterOccupancyChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ThermostatClusterOccupancyChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Optional<Integer> previousOccupancy = Optional.empty();
     Integer currentOccupancy = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == PREVIOUS_OCCUPANCY_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          previousOccupancy = Optional.of(castingValue.value(Integer.class));
-        }
-      } else if (element.contextTagNum() == CURRENT_OCCUPANCY_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          currentOccupancy = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(PREVIOUS_OCCUPANCY_TAG)) {
+        previousOccupancy = Optional.of((int) reader.getUnsigned(PREVIOUS_OCCUPANCY_TAG));
+      } else if (reader.isNextTag(CURRENT_OCCUPANCY_TAG)) {
+        currentOccupancy = (int) reader.getUnsigned(CURRENT_OCCUPANCY_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ThermostatClusterOccupancyChangeEvent(
       previousOccupancy,
       currentOccupancy
@@ -6136,10 +5816,10 @@ public static class ThermostatClusterSetpointChangeEvent {
   public Optional<Integer> occupancy;
   public Optional<Integer> previousSetpoint;
   public Integer currentSetpoint;
-  private static final long SYSTEM_MODE_ID = 0L;
-  private static final long OCCUPANCY_ID = 1L;
-  private static final long PREVIOUS_SETPOINT_ID = 2L;
-  private static final long CURRENT_SETPOINT_ID = 3L;
+  private static final Tag SYSTEM_MODE_TAG = new ContextSpecificTag(0);
+  private static final Tag OCCUPANCY_TAG = new ContextSpecificTag(1);
+  private static final Tag PREVIOUS_SETPOINT_TAG = new ContextSpecificTag(2);
+  private static final Tag CURRENT_SETPOINT_TAG = new ContextSpecificTag(3);
 
   public ThermostatClusterSetpointChangeEvent(
     Integer systemMode,
@@ -6153,47 +5833,37 @@ public static class ThermostatClusterSetpointChangeEvent {
     this.currentSetpoint = currentSetpoint;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(SYSTEM_MODE_ID, new UIntType(systemMode)));
-    values.add(new StructElement(OCCUPANCY_ID, occupancy.<BaseTLVType>map((nonOptionaloccupancy) -> new UIntType(nonOptionaloccupancy)).orElse(new EmptyType())));
-    values.add(new StructElement(PREVIOUS_SETPOINT_ID, previousSetpoint.<BaseTLVType>map((nonOptionalpreviousSetpoint) -> new IntType(nonOptionalpreviousSetpoint)).orElse(new EmptyType())));
-    values.add(new StructElement(CURRENT_SETPOINT_ID, new IntType(currentSetpoint)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(SYSTEM_MODE_TAG, systemMode);
+    occupancy.ifPresent((nonOptionaloccupancy) -> { writer.putUnsigned(OCCUPANCY_TAG, nonOptionaloccupancy); });
+    previousSetpoint.ifPresent((nonOptionalpreviousSetpoint) -> { writer.put(PREVIOUS_SETPOINT_TAG, nonOptionalpreviousSetpoint); });
+    writer.put(CURRENT_SETPOINT_TAG, currentSetpoint);
+    writer.endStructure();
   }
 
-  public static ThermostatClusterSetpointChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ThermostatClusterSetpointChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer systemMode = null;
     Optional<Integer> occupancy = Optional.empty();
     Optional<Integer> previousSetpoint = Optional.empty();
     Integer currentSetpoint = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == SYSTEM_MODE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          systemMode = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == OCCUPANCY_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          occupancy = Optional.of(castingValue.value(Integer.class));
-        }
-      } else if (element.contextTagNum() == PREVIOUS_SETPOINT_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Int) {
-          IntType castingValue = element.value(IntType.class);
-          previousSetpoint = Optional.of(castingValue.value(Integer.class));
-        }
-      } else if (element.contextTagNum() == CURRENT_SETPOINT_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Int) {
-          IntType castingValue = element.value(IntType.class);
-          currentSetpoint = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(SYSTEM_MODE_TAG)) {
+        systemMode = (int) reader.getUnsigned(SYSTEM_MODE_TAG);
+      } else if (reader.isNextTag(OCCUPANCY_TAG)) {
+        occupancy = Optional.of((int) reader.getUnsigned(OCCUPANCY_TAG));
+      } else if (reader.isNextTag(PREVIOUS_SETPOINT_TAG)) {
+        previousSetpoint = Optional.of((int) reader.getLong(PREVIOUS_SETPOINT_TAG));
+      } else if (reader.isNextTag(CURRENT_SETPOINT_TAG)) {
+        currentSetpoint = (int) reader.getLong(CURRENT_SETPOINT_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ThermostatClusterSetpointChangeEvent(
       systemMode,
       occupancy,
@@ -6225,8 +5895,8 @@ public static class ThermostatClusterSetpointChangeEvent {
 public static class ThermostatClusterRunningStateChangeEvent {
   public Optional<Integer> previousRunningState;
   public Integer currentRunningState;
-  private static final long PREVIOUS_RUNNING_STATE_ID = 0L;
-  private static final long CURRENT_RUNNING_STATE_ID = 1L;
+  private static final Tag PREVIOUS_RUNNING_STATE_TAG = new ContextSpecificTag(0);
+  private static final Tag CURRENT_RUNNING_STATE_TAG = new ContextSpecificTag(1);
 
   public ThermostatClusterRunningStateChangeEvent(
     Optional<Integer> previousRunningState,
@@ -6236,33 +5906,29 @@ public static class ThermostatClusterRunningStateChangeEvent {
     this.currentRunningState = currentRunningState;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(PREVIOUS_RUNNING_STATE_ID, previousRunningState.<BaseTLVType>map((nonOptionalpreviousRunningState) -> new UIntType(nonOptionalpreviousRunningState)).orElse(new EmptyType())));
-    values.add(new StructElement(CURRENT_RUNNING_STATE_ID, new UIntType(currentRunningState)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    previousRunningState.ifPresent((nonOptionalpreviousRunningState) -> { writer.putUnsigned(PREVIOUS_RUNNING_STATE_TAG, nonOptionalpreviousRunningState); });
+    writer.putUnsigned(CURRENT_RUNNING_STATE_TAG, currentRunningState);
+    writer.endStructure();
   }
 
-  public static ThermostatClusterRunningStateChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ThermostatClusterRunningStateChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Optional<Integer> previousRunningState = Optional.empty();
     Integer currentRunningState = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == PREVIOUS_RUNNING_STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          previousRunningState = Optional.of(castingValue.value(Integer.class));
-        }
-      } else if (element.contextTagNum() == CURRENT_RUNNING_STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          currentRunningState = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(PREVIOUS_RUNNING_STATE_TAG)) {
+        previousRunningState = Optional.of((int) reader.getUnsigned(PREVIOUS_RUNNING_STATE_TAG));
+      } else if (reader.isNextTag(CURRENT_RUNNING_STATE_TAG)) {
+        currentRunningState = (int) reader.getUnsigned(CURRENT_RUNNING_STATE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ThermostatClusterRunningStateChangeEvent(
       previousRunningState,
       currentRunningState
@@ -6286,8 +5952,8 @@ public static class ThermostatClusterRunningStateChangeEvent {
 public static class ThermostatClusterRunningModeChangeEvent {
   public Optional<Integer> previousRunningMode;
   public Integer currentRunningMode;
-  private static final long PREVIOUS_RUNNING_MODE_ID = 0L;
-  private static final long CURRENT_RUNNING_MODE_ID = 1L;
+  private static final Tag PREVIOUS_RUNNING_MODE_TAG = new ContextSpecificTag(0);
+  private static final Tag CURRENT_RUNNING_MODE_TAG = new ContextSpecificTag(1);
 
   public ThermostatClusterRunningModeChangeEvent(
     Optional<Integer> previousRunningMode,
@@ -6297,33 +5963,29 @@ public static class ThermostatClusterRunningModeChangeEvent {
     this.currentRunningMode = currentRunningMode;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(PREVIOUS_RUNNING_MODE_ID, previousRunningMode.<BaseTLVType>map((nonOptionalpreviousRunningMode) -> new UIntType(nonOptionalpreviousRunningMode)).orElse(new EmptyType())));
-    values.add(new StructElement(CURRENT_RUNNING_MODE_ID, new UIntType(currentRunningMode)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    previousRunningMode.ifPresent((nonOptionalpreviousRunningMode) -> { writer.putUnsigned(PREVIOUS_RUNNING_MODE_TAG, nonOptionalpreviousRunningMode); });
+    writer.putUnsigned(CURRENT_RUNNING_MODE_TAG, currentRunningMode);
+    writer.endStructure();
   }
 
-  public static ThermostatClusterRunningModeChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ThermostatClusterRunningModeChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Optional<Integer> previousRunningMode = Optional.empty();
     Integer currentRunningMode = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == PREVIOUS_RUNNING_MODE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          previousRunningMode = Optional.of(castingValue.value(Integer.class));
-        }
-      } else if (element.contextTagNum() == CURRENT_RUNNING_MODE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          currentRunningMode = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(PREVIOUS_RUNNING_MODE_TAG)) {
+        previousRunningMode = Optional.of((int) reader.getUnsigned(PREVIOUS_RUNNING_MODE_TAG));
+      } else if (reader.isNextTag(CURRENT_RUNNING_MODE_TAG)) {
+        currentRunningMode = (int) reader.getUnsigned(CURRENT_RUNNING_MODE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ThermostatClusterRunningModeChangeEvent(
       previousRunningMode,
       currentRunningMode
@@ -6347,8 +6009,8 @@ public static class ThermostatClusterRunningModeChangeEvent {
 public static class ThermostatClusterActiveScheduleChangeEvent {
   public @Nullable Optional<byte[]> previousScheduleHandle;
   public @Nullable byte[] currentScheduleHandle;
-  private static final long PREVIOUS_SCHEDULE_HANDLE_ID = 0L;
-  private static final long CURRENT_SCHEDULE_HANDLE_ID = 1L;
+  private static final Tag PREVIOUS_SCHEDULE_HANDLE_TAG = new ContextSpecificTag(0);
+  private static final Tag CURRENT_SCHEDULE_HANDLE_TAG = new ContextSpecificTag(1);
 
   public ThermostatClusterActiveScheduleChangeEvent(
     @Nullable Optional<byte[]> previousScheduleHandle,
@@ -6358,33 +6020,29 @@ public static class ThermostatClusterActiveScheduleChangeEvent {
     this.currentScheduleHandle = currentScheduleHandle;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(PREVIOUS_SCHEDULE_HANDLE_ID, previousScheduleHandle != null ? previousScheduleHandle.<BaseTLVType>map((nonOptionalpreviousScheduleHandle) -> new ByteArrayType(nonOptionalpreviousScheduleHandle)).orElse(new EmptyType()) : new NullType()));
-    values.add(new StructElement(CURRENT_SCHEDULE_HANDLE_ID, currentScheduleHandle != null ? new ByteArrayType(currentScheduleHandle) : new NullType()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    if (previousScheduleHandle != null) { previousScheduleHandle.ifPresent((nonOptionalpreviousScheduleHandle) -> { writer.put(PREVIOUS_SCHEDULE_HANDLE_TAG, nonOptionalpreviousScheduleHandle); }); } else { writer.putNull(PREVIOUS_SCHEDULE_HANDLE_TAG); }
+    if (currentScheduleHandle != null) { writer.put(CURRENT_SCHEDULE_HANDLE_TAG, currentScheduleHandle); } else { writer.putNull(CURRENT_SCHEDULE_HANDLE_TAG); }
+    writer.endStructure();
   }
 
-  public static ThermostatClusterActiveScheduleChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
-    @Nullable Optional<byte[]> previousScheduleHandle = null;
+  public static ThermostatClusterActiveScheduleChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    @Nullable Optional<byte[]> previousScheduleHandle = Optional.empty();
     @Nullable byte[] currentScheduleHandle = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == PREVIOUS_SCHEDULE_HANDLE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.ByteArray) {
-          ByteArrayType castingValue = element.value(ByteArrayType.class);
-          previousScheduleHandle = Optional.of(castingValue.value(byte[].class));
-        }
-      } else if (element.contextTagNum() == CURRENT_SCHEDULE_HANDLE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.ByteArray) {
-          ByteArrayType castingValue = element.value(ByteArrayType.class);
-          currentScheduleHandle = castingValue.value(byte[].class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(PREVIOUS_SCHEDULE_HANDLE_TAG)) {
+        previousScheduleHandle = Optional.of(reader.getByteString(PREVIOUS_SCHEDULE_HANDLE_TAG));
+      } else if (reader.isNextTag(CURRENT_SCHEDULE_HANDLE_TAG)) {
+        currentScheduleHandle = reader.getByteString(CURRENT_SCHEDULE_HANDLE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ThermostatClusterActiveScheduleChangeEvent(
       previousScheduleHandle,
       currentScheduleHandle
@@ -6408,8 +6066,8 @@ public static class ThermostatClusterActiveScheduleChangeEvent {
 public static class ThermostatClusterActivePresetChangeEvent {
   public @Nullable Optional<byte[]> previousPresetHandle;
   public @Nullable byte[] currentPresetHandle;
-  private static final long PREVIOUS_PRESET_HANDLE_ID = 0L;
-  private static final long CURRENT_PRESET_HANDLE_ID = 1L;
+  private static final Tag PREVIOUS_PRESET_HANDLE_TAG = new ContextSpecificTag(0);
+  private static final Tag CURRENT_PRESET_HANDLE_TAG = new ContextSpecificTag(1);
 
   public ThermostatClusterActivePresetChangeEvent(
     @Nullable Optional<byte[]> previousPresetHandle,
@@ -6419,33 +6077,29 @@ public static class ThermostatClusterActivePresetChangeEvent {
     this.currentPresetHandle = currentPresetHandle;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(PREVIOUS_PRESET_HANDLE_ID, previousPresetHandle != null ? previousPresetHandle.<BaseTLVType>map((nonOptionalpreviousPresetHandle) -> new ByteArrayType(nonOptionalpreviousPresetHandle)).orElse(new EmptyType()) : new NullType()));
-    values.add(new StructElement(CURRENT_PRESET_HANDLE_ID, currentPresetHandle != null ? new ByteArrayType(currentPresetHandle) : new NullType()));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    if (previousPresetHandle != null) { previousPresetHandle.ifPresent((nonOptionalpreviousPresetHandle) -> { writer.put(PREVIOUS_PRESET_HANDLE_TAG, nonOptionalpreviousPresetHandle); }); } else { writer.putNull(PREVIOUS_PRESET_HANDLE_TAG); }
+    if (currentPresetHandle != null) { writer.put(CURRENT_PRESET_HANDLE_TAG, currentPresetHandle); } else { writer.putNull(CURRENT_PRESET_HANDLE_TAG); }
+    writer.endStructure();
   }
 
-  public static ThermostatClusterActivePresetChangeEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
-    @Nullable Optional<byte[]> previousPresetHandle = null;
+  public static ThermostatClusterActivePresetChangeEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    @Nullable Optional<byte[]> previousPresetHandle = Optional.empty();
     @Nullable byte[] currentPresetHandle = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == PREVIOUS_PRESET_HANDLE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.ByteArray) {
-          ByteArrayType castingValue = element.value(ByteArrayType.class);
-          previousPresetHandle = Optional.of(castingValue.value(byte[].class));
-        }
-      } else if (element.contextTagNum() == CURRENT_PRESET_HANDLE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.ByteArray) {
-          ByteArrayType castingValue = element.value(ByteArrayType.class);
-          currentPresetHandle = castingValue.value(byte[].class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(PREVIOUS_PRESET_HANDLE_TAG)) {
+        previousPresetHandle = Optional.of(reader.getByteString(PREVIOUS_PRESET_HANDLE_TAG));
+      } else if (reader.isNextTag(CURRENT_PRESET_HANDLE_TAG)) {
+        currentPresetHandle = reader.getByteString(CURRENT_PRESET_HANDLE_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ThermostatClusterActivePresetChangeEvent(
       previousPresetHandle,
       currentPresetHandle
@@ -6468,7 +6122,7 @@ public static class ThermostatClusterActivePresetChangeEvent {
 }
 public static class OccupancySensingClusterOccupancyChangedEvent {
   public Integer occupancy;
-  private static final long OCCUPANCY_ID = 0L;
+  private static final Tag OCCUPANCY_TAG = new ContextSpecificTag(0);
 
   public OccupancySensingClusterOccupancyChangedEvent(
     Integer occupancy
@@ -6476,26 +6130,25 @@ public static class OccupancySensingClusterOccupancyChangedEvent {
     this.occupancy = occupancy;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(OCCUPANCY_ID, new UIntType(occupancy)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(OCCUPANCY_TAG, occupancy);
+    writer.endStructure();
   }
 
-  public static OccupancySensingClusterOccupancyChangedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static OccupancySensingClusterOccupancyChangedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer occupancy = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == OCCUPANCY_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          occupancy = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(OCCUPANCY_TAG)) {
+        occupancy = (int) reader.getUnsigned(OCCUPANCY_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new OccupancySensingClusterOccupancyChangedEvent(
       occupancy
     );
@@ -6516,9 +6169,9 @@ public static class TargetNavigatorClusterTargetUpdatedEvent {
   public ArrayList<ChipStructs.TargetNavigatorClusterTargetInfoStruct> targetList;
   public Integer currentTarget;
   public byte[] data;
-  private static final long TARGET_LIST_ID = 0L;
-  private static final long CURRENT_TARGET_ID = 1L;
-  private static final long DATA_ID = 2L;
+  private static final Tag TARGET_LIST_TAG = new ContextSpecificTag(0);
+  private static final Tag CURRENT_TARGET_TAG = new ContextSpecificTag(1);
+  private static final Tag DATA_TAG = new ContextSpecificTag(2);
 
   public TargetNavigatorClusterTargetUpdatedEvent(
     ArrayList<ChipStructs.TargetNavigatorClusterTargetInfoStruct> targetList,
@@ -6530,40 +6183,33 @@ public static class TargetNavigatorClusterTargetUpdatedEvent {
     this.data = data;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(TARGET_LIST_ID, ArrayType.generateArrayType(targetList, (elementtargetList) -> elementtargetList.encodeTlv())));
-    values.add(new StructElement(CURRENT_TARGET_ID, new UIntType(currentTarget)));
-    values.add(new StructElement(DATA_ID, new ByteArrayType(data)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.startArray(TARGET_LIST_TAG); targetList.forEach((elementtargetList) -> { elementtargetList.encodeTlv(AnonymousTag.INSTANCE, writer); }); writer.endArray();
+    writer.putUnsigned(CURRENT_TARGET_TAG, currentTarget);
+    writer.put(DATA_TAG, data);
+    writer.endStructure();
   }
 
-  public static TargetNavigatorClusterTargetUpdatedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static TargetNavigatorClusterTargetUpdatedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     ArrayList<ChipStructs.TargetNavigatorClusterTargetInfoStruct> targetList = null;
     Integer currentTarget = null;
     byte[] data = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == TARGET_LIST_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          targetList = castingValue.map((elementcastingValue) -> ChipStructs.TargetNavigatorClusterTargetInfoStruct.decodeTlv(elementcastingValue));
-        }
-      } else if (element.contextTagNum() == CURRENT_TARGET_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          currentTarget = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == DATA_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.ByteArray) {
-          ByteArrayType castingValue = element.value(ByteArrayType.class);
-          data = castingValue.value(byte[].class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(TARGET_LIST_TAG)) {
+        targetList = ChipTLVCodec.readArray(reader, TARGET_LIST_TAG, () -> ChipStructs.TargetNavigatorClusterTargetInfoStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      } else if (reader.isNextTag(CURRENT_TARGET_TAG)) {
+        currentTarget = (int) reader.getUnsigned(CURRENT_TARGET_TAG);
+      } else if (reader.isNextTag(DATA_TAG)) {
+        data = reader.getByteString(DATA_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new TargetNavigatorClusterTargetUpdatedEvent(
       targetList,
       currentTarget,
@@ -6598,15 +6244,15 @@ public static class MediaPlaybackClusterStateChangedEvent {
   public Long seekRangeStart;
   public Optional<byte[]> data;
   public Boolean audioAdvanceUnmuted;
-  private static final long CURRENT_STATE_ID = 0L;
-  private static final long START_TIME_ID = 1L;
-  private static final long DURATION_ID = 2L;
-  private static final long SAMPLED_POSITION_ID = 3L;
-  private static final long PLAYBACK_SPEED_ID = 4L;
-  private static final long SEEK_RANGE_END_ID = 5L;
-  private static final long SEEK_RANGE_START_ID = 6L;
-  private static final long DATA_ID = 7L;
-  private static final long AUDIO_ADVANCE_UNMUTED_ID = 8L;
+  private static final Tag CURRENT_STATE_TAG = new ContextSpecificTag(0);
+  private static final Tag START_TIME_TAG = new ContextSpecificTag(1);
+  private static final Tag DURATION_TAG = new ContextSpecificTag(2);
+  private static final Tag SAMPLED_POSITION_TAG = new ContextSpecificTag(3);
+  private static final Tag PLAYBACK_SPEED_TAG = new ContextSpecificTag(4);
+  private static final Tag SEEK_RANGE_END_TAG = new ContextSpecificTag(5);
+  private static final Tag SEEK_RANGE_START_TAG = new ContextSpecificTag(6);
+  private static final Tag DATA_TAG = new ContextSpecificTag(7);
+  private static final Tag AUDIO_ADVANCE_UNMUTED_TAG = new ContextSpecificTag(8);
 
   public MediaPlaybackClusterStateChangedEvent(
     Integer currentState,
@@ -6630,25 +6276,21 @@ public static class MediaPlaybackClusterStateChangedEvent {
     this.audioAdvanceUnmuted = audioAdvanceUnmuted;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(CURRENT_STATE_ID, new UIntType(currentState)));
-    values.add(new StructElement(START_TIME_ID, new UIntType(startTime)));
-    values.add(new StructElement(DURATION_ID, new UIntType(duration)));
-    values.add(new StructElement(SAMPLED_POSITION_ID, sampledPosition.encodeTlv()));
-    values.add(new StructElement(PLAYBACK_SPEED_ID, new FloatType(playbackSpeed)));
-    values.add(new StructElement(SEEK_RANGE_END_ID, new UIntType(seekRangeEnd)));
-    values.add(new StructElement(SEEK_RANGE_START_ID, new UIntType(seekRangeStart)));
-    values.add(new StructElement(DATA_ID, data.<BaseTLVType>map((nonOptionaldata) -> new ByteArrayType(nonOptionaldata)).orElse(new EmptyType())));
-    values.add(new StructElement(AUDIO_ADVANCE_UNMUTED_ID, new BooleanType(audioAdvanceUnmuted)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(CURRENT_STATE_TAG, currentState);
+    writer.putUnsigned(START_TIME_TAG, startTime);
+    writer.putUnsigned(DURATION_TAG, duration);
+    sampledPosition.encodeTlv(SAMPLED_POSITION_TAG, writer);
+    writer.put(PLAYBACK_SPEED_TAG, playbackSpeed);
+    writer.putUnsigned(SEEK_RANGE_END_TAG, seekRangeEnd);
+    writer.putUnsigned(SEEK_RANGE_START_TAG, seekRangeStart);
+    data.ifPresent((nonOptionaldata) -> { writer.put(DATA_TAG, nonOptionaldata); });
+    writer.put(AUDIO_ADVANCE_UNMUTED_TAG, audioAdvanceUnmuted);
+    writer.endStructure();
   }
 
-  public static MediaPlaybackClusterStateChangedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static MediaPlaybackClusterStateChangedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer currentState = null;
     Long startTime = null;
     Long duration = null;
@@ -6658,54 +6300,33 @@ public static class MediaPlaybackClusterStateChangedEvent {
     Long seekRangeStart = null;
     Optional<byte[]> data = Optional.empty();
     Boolean audioAdvanceUnmuted = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == CURRENT_STATE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          currentState = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == START_TIME_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          startTime = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == DURATION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          duration = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == SAMPLED_POSITION_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Struct) {
-          StructType castingValue = element.value(StructType.class);
-          sampledPosition = ChipStructs.MediaPlaybackClusterPlaybackPositionStruct.decodeTlv(castingValue);
-        }
-      } else if (element.contextTagNum() == PLAYBACK_SPEED_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Float) {
-          FloatType castingValue = element.value(FloatType.class);
-          playbackSpeed = castingValue.value(Float.class);
-        }
-      } else if (element.contextTagNum() == SEEK_RANGE_END_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          seekRangeEnd = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == SEEK_RANGE_START_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          seekRangeStart = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == DATA_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.ByteArray) {
-          ByteArrayType castingValue = element.value(ByteArrayType.class);
-          data = Optional.of(castingValue.value(byte[].class));
-        }
-      } else if (element.contextTagNum() == AUDIO_ADVANCE_UNMUTED_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Boolean) {
-          BooleanType castingValue = element.value(BooleanType.class);
-          audioAdvanceUnmuted = castingValue.value(Boolean.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(CURRENT_STATE_TAG)) {
+        currentState = (int) reader.getUnsigned(CURRENT_STATE_TAG);
+      } else if (reader.isNextTag(START_TIME_TAG)) {
+        startTime = reader.getUnsigned(START_TIME_TAG);
+      } else if (reader.isNextTag(DURATION_TAG)) {
+        duration = reader.getUnsigned(DURATION_TAG);
+      } else if (reader.isNextTag(SAMPLED_POSITION_TAG)) {
+        sampledPosition = ChipStructs.MediaPlaybackClusterPlaybackPositionStruct.decodeTlv(SAMPLED_POSITION_TAG, reader);
+      } else if (reader.isNextTag(PLAYBACK_SPEED_TAG)) {
+        playbackSpeed = reader.getFloat(PLAYBACK_SPEED_TAG);
+      } else if (reader.isNextTag(SEEK_RANGE_END_TAG)) {
+        seekRangeEnd = reader.getUnsigned(SEEK_RANGE_END_TAG);
+      } else if (reader.isNextTag(SEEK_RANGE_START_TAG)) {
+        seekRangeStart = reader.getUnsigned(SEEK_RANGE_START_TAG);
+      } else if (reader.isNextTag(DATA_TAG)) {
+        data = Optional.of(reader.getByteString(DATA_TAG));
+      } else if (reader.isNextTag(AUDIO_ADVANCE_UNMUTED_TAG)) {
+        audioAdvanceUnmuted = reader.getBool(AUDIO_ADVANCE_UNMUTED_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new MediaPlaybackClusterStateChangedEvent(
       currentState,
       startTime,
@@ -6757,8 +6378,8 @@ public static class MediaPlaybackClusterStateChangedEvent {
 public static class AccountLoginClusterLoggedOutEvent {
   public Optional<Long> node;
   public Integer fabricIndex;
-  private static final long NODE_ID = 0L;
-  private static final long FABRIC_INDEX_ID = 254L;
+  private static final Tag NODE_TAG = new ContextSpecificTag(0);
+  private static final Tag FABRIC_INDEX_TAG = new ContextSpecificTag(254);
 
   public AccountLoginClusterLoggedOutEvent(
     Optional<Long> node,
@@ -6768,33 +6389,29 @@ public static class AccountLoginClusterLoggedOutEvent {
     this.fabricIndex = fabricIndex;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(NODE_ID, node.<BaseTLVType>map((nonOptionalnode) -> new UIntType(nonOptionalnode)).orElse(new EmptyType())));
-    values.add(new StructElement(FABRIC_INDEX_ID, new UIntType(fabricIndex)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    node.ifPresent((nonOptionalnode) -> { writer.putUnsigned(NODE_TAG, nonOptionalnode); });
+    writer.putUnsigned(FABRIC_INDEX_TAG, fabricIndex);
+    writer.endStructure();
   }
 
-  public static AccountLoginClusterLoggedOutEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static AccountLoginClusterLoggedOutEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Optional<Long> node = Optional.empty();
     Integer fabricIndex = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == NODE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          node = Optional.of(castingValue.value(Long.class));
-        }
-      } else if (element.contextTagNum() == FABRIC_INDEX_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          fabricIndex = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(NODE_TAG)) {
+        node = Optional.of(reader.getUnsigned(NODE_TAG));
+      } else if (reader.isNextTag(FABRIC_INDEX_TAG)) {
+        fabricIndex = (int) reader.getUnsigned(FABRIC_INDEX_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new AccountLoginClusterLoggedOutEvent(
       node,
       fabricIndex
@@ -6821,16 +6438,17 @@ public static class ContentControlClusterRemainingScreenTimeExpiredEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static ContentControlClusterRemainingScreenTimeExpiredEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static ContentControlClusterRemainingScreenTimeExpiredEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new ContentControlClusterRemainingScreenTimeExpiredEvent(
     );
   }
@@ -6849,16 +6467,17 @@ public static class ContentControlClusterEnteringBlockContentTimeWindowEvent {
   ) {
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.endStructure();
   }
 
-  public static ContentControlClusterEnteringBlockContentTimeWindowEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
+  public static ContentControlClusterEnteringBlockContentTimeWindowEvent decodeTlv(Tag tlvTag, TlvReader reader) {
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      reader.skipElement();
     }
+    reader.exitContainer();
     return new ContentControlClusterEnteringBlockContentTimeWindowEvent(
     );
   }
@@ -6874,8 +6493,8 @@ public static class ContentControlClusterEnteringBlockContentTimeWindowEvent {
 public static class ZoneManagementClusterZoneTriggeredEvent {
   public Integer zone;
   public Integer reason;
-  private static final long ZONE_ID = 0L;
-  private static final long REASON_ID = 1L;
+  private static final Tag ZONE_TAG = new ContextSpecificTag(0);
+  private static final Tag REASON_TAG = new ContextSpecificTag(1);
 
   public ZoneManagementClusterZoneTriggeredEvent(
     Integer zone,
@@ -6885,33 +6504,29 @@ public static class ZoneManagementClusterZoneTriggeredEvent {
     this.reason = reason;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ZONE_ID, new UIntType(zone)));
-    values.add(new StructElement(REASON_ID, new UIntType(reason)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(ZONE_TAG, zone);
+    writer.putUnsigned(REASON_TAG, reason);
+    writer.endStructure();
   }
 
-  public static ZoneManagementClusterZoneTriggeredEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ZoneManagementClusterZoneTriggeredEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer zone = null;
     Integer reason = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ZONE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          zone = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == REASON_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          reason = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ZONE_TAG)) {
+        zone = (int) reader.getUnsigned(ZONE_TAG);
+      } else if (reader.isNextTag(REASON_TAG)) {
+        reason = (int) reader.getUnsigned(REASON_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ZoneManagementClusterZoneTriggeredEvent(
       zone,
       reason
@@ -6935,8 +6550,8 @@ public static class ZoneManagementClusterZoneTriggeredEvent {
 public static class ZoneManagementClusterZoneStoppedEvent {
   public Integer zone;
   public Integer reason;
-  private static final long ZONE_ID = 0L;
-  private static final long REASON_ID = 1L;
+  private static final Tag ZONE_TAG = new ContextSpecificTag(0);
+  private static final Tag REASON_TAG = new ContextSpecificTag(1);
 
   public ZoneManagementClusterZoneStoppedEvent(
     Integer zone,
@@ -6946,33 +6561,29 @@ public static class ZoneManagementClusterZoneStoppedEvent {
     this.reason = reason;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ZONE_ID, new UIntType(zone)));
-    values.add(new StructElement(REASON_ID, new UIntType(reason)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(ZONE_TAG, zone);
+    writer.putUnsigned(REASON_TAG, reason);
+    writer.endStructure();
   }
 
-  public static ZoneManagementClusterZoneStoppedEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static ZoneManagementClusterZoneStoppedEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer zone = null;
     Integer reason = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ZONE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          zone = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == REASON_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          reason = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ZONE_TAG)) {
+        zone = (int) reader.getUnsigned(ZONE_TAG);
+      } else if (reader.isNextTag(REASON_TAG)) {
+        reason = (int) reader.getUnsigned(REASON_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new ZoneManagementClusterZoneStoppedEvent(
       zone,
       reason
@@ -6997,9 +6608,9 @@ public static class PushAvStreamTransportClusterPushTransportBeginEvent {
   public Integer connectionID;
   public Integer triggerType;
   public Optional<Integer> activationReason;
-  private static final long CONNECTION_ID_ID = 0L;
-  private static final long TRIGGER_TYPE_ID = 1L;
-  private static final long ACTIVATION_REASON_ID = 2L;
+  private static final Tag CONNECTION_ID_TAG = new ContextSpecificTag(0);
+  private static final Tag TRIGGER_TYPE_TAG = new ContextSpecificTag(1);
+  private static final Tag ACTIVATION_REASON_TAG = new ContextSpecificTag(2);
 
   public PushAvStreamTransportClusterPushTransportBeginEvent(
     Integer connectionID,
@@ -7011,40 +6622,33 @@ public static class PushAvStreamTransportClusterPushTransportBeginEvent {
     this.activationReason = activationReason;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(CONNECTION_ID_ID, new UIntType(connectionID)));
-    values.add(new StructElement(TRIGGER_TYPE_ID, new UIntType(triggerType)));
-    values.add(new StructElement(ACTIVATION_REASON_ID, activationReason.<BaseTLVType>map((nonOptionalactivationReason) -> new UIntType(nonOptionalactivationReason)).orElse(new EmptyType())));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(CONNECTION_ID_TAG, connectionID);
+    writer.putUnsigned(TRIGGER_TYPE_TAG, triggerType);
+    activationReason.ifPresent((nonOptionalactivationReason) -> { writer.putUnsigned(ACTIVATION_REASON_TAG, nonOptionalactivationReason); });
+    writer.endStructure();
   }
 
-  public static PushAvStreamTransportClusterPushTransportBeginEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static PushAvStreamTransportClusterPushTransportBeginEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer connectionID = null;
     Integer triggerType = null;
     Optional<Integer> activationReason = Optional.empty();
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == CONNECTION_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          connectionID = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == TRIGGER_TYPE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          triggerType = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == ACTIVATION_REASON_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          activationReason = Optional.of(castingValue.value(Integer.class));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(CONNECTION_ID_TAG)) {
+        connectionID = (int) reader.getUnsigned(CONNECTION_ID_TAG);
+      } else if (reader.isNextTag(TRIGGER_TYPE_TAG)) {
+        triggerType = (int) reader.getUnsigned(TRIGGER_TYPE_TAG);
+      } else if (reader.isNextTag(ACTIVATION_REASON_TAG)) {
+        activationReason = Optional.of((int) reader.getUnsigned(ACTIVATION_REASON_TAG));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new PushAvStreamTransportClusterPushTransportBeginEvent(
       connectionID,
       triggerType,
@@ -7071,7 +6675,7 @@ public static class PushAvStreamTransportClusterPushTransportBeginEvent {
 }
 public static class PushAvStreamTransportClusterPushTransportEndEvent {
   public Integer connectionID;
-  private static final long CONNECTION_ID_ID = 0L;
+  private static final Tag CONNECTION_ID_TAG = new ContextSpecificTag(0);
 
   public PushAvStreamTransportClusterPushTransportEndEvent(
     Integer connectionID
@@ -7079,26 +6683,25 @@ public static class PushAvStreamTransportClusterPushTransportEndEvent {
     this.connectionID = connectionID;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(CONNECTION_ID_ID, new UIntType(connectionID)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(CONNECTION_ID_TAG, connectionID);
+    writer.endStructure();
   }
 
-  public static PushAvStreamTransportClusterPushTransportEndEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static PushAvStreamTransportClusterPushTransportEndEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer connectionID = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == CONNECTION_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          connectionID = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(CONNECTION_ID_TAG)) {
+        connectionID = (int) reader.getUnsigned(CONNECTION_ID_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new PushAvStreamTransportClusterPushTransportEndEvent(
       connectionID
     );
@@ -7120,10 +6723,10 @@ public static class CommissionerControlClusterCommissioningRequestResultEvent {
   public Long clientNodeID;
   public Integer statusCode;
   public Integer fabricIndex;
-  private static final long REQUEST_ID_ID = 0L;
-  private static final long CLIENT_NODE_ID_ID = 1L;
-  private static final long STATUS_CODE_ID = 2L;
-  private static final long FABRIC_INDEX_ID = 254L;
+  private static final Tag REQUEST_ID_TAG = new ContextSpecificTag(0);
+  private static final Tag CLIENT_NODE_ID_TAG = new ContextSpecificTag(1);
+  private static final Tag STATUS_CODE_TAG = new ContextSpecificTag(2);
+  private static final Tag FABRIC_INDEX_TAG = new ContextSpecificTag(254);
 
   public CommissionerControlClusterCommissioningRequestResultEvent(
     Long requestID,
@@ -7137,47 +6740,37 @@ public static class CommissionerControlClusterCommissioningRequestResultEvent {
     this.fabricIndex = fabricIndex;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(REQUEST_ID_ID, new UIntType(requestID)));
-    values.add(new StructElement(CLIENT_NODE_ID_ID, new UIntType(clientNodeID)));
-    values.add(new StructElement(STATUS_CODE_ID, new UIntType(statusCode)));
-    values.add(new StructElement(FABRIC_INDEX_ID, new UIntType(fabricIndex)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(REQUEST_ID_TAG, requestID);
+    writer.putUnsigned(CLIENT_NODE_ID_TAG, clientNodeID);
+    writer.putUnsigned(STATUS_CODE_TAG, statusCode);
+    writer.putUnsigned(FABRIC_INDEX_TAG, fabricIndex);
+    writer.endStructure();
   }
 
-  public static CommissionerControlClusterCommissioningRequestResultEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static CommissionerControlClusterCommissioningRequestResultEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Long requestID = null;
     Long clientNodeID = null;
     Integer statusCode = null;
     Integer fabricIndex = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == REQUEST_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          requestID = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == CLIENT_NODE_ID_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          clientNodeID = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == STATUS_CODE_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          statusCode = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == FABRIC_INDEX_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          fabricIndex = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(REQUEST_ID_TAG)) {
+        requestID = reader.getUnsigned(REQUEST_ID_TAG);
+      } else if (reader.isNextTag(CLIENT_NODE_ID_TAG)) {
+        clientNodeID = reader.getUnsigned(CLIENT_NODE_ID_TAG);
+      } else if (reader.isNextTag(STATUS_CODE_TAG)) {
+        statusCode = (int) reader.getUnsigned(STATUS_CODE_TAG);
+      } else if (reader.isNextTag(FABRIC_INDEX_TAG)) {
+        fabricIndex = (int) reader.getUnsigned(FABRIC_INDEX_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new CommissionerControlClusterCommissioningRequestResultEvent(
       requestID,
       clientNodeID,
@@ -7213,12 +6806,12 @@ public static class UnitTestingClusterTestEventEvent {
   public ChipStructs.UnitTestingClusterSimpleStruct arg4;
   public ArrayList<ChipStructs.UnitTestingClusterSimpleStruct> arg5;
   public ArrayList<Integer> arg6;
-  private static final long ARG1_ID = 1L;
-  private static final long ARG2_ID = 2L;
-  private static final long ARG3_ID = 3L;
-  private static final long ARG4_ID = 4L;
-  private static final long ARG5_ID = 5L;
-  private static final long ARG6_ID = 6L;
+  private static final Tag ARG1_TAG = new ContextSpecificTag(1);
+  private static final Tag ARG2_TAG = new ContextSpecificTag(2);
+  private static final Tag ARG3_TAG = new ContextSpecificTag(3);
+  private static final Tag ARG4_TAG = new ContextSpecificTag(4);
+  private static final Tag ARG5_TAG = new ContextSpecificTag(5);
+  private static final Tag ARG6_TAG = new ContextSpecificTag(6);
 
   public UnitTestingClusterTestEventEvent(
     Integer arg1,
@@ -7236,61 +6829,45 @@ public static class UnitTestingClusterTestEventEvent {
     this.arg6 = arg6;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ARG1_ID, new UIntType(arg1)));
-    values.add(new StructElement(ARG2_ID, new UIntType(arg2)));
-    values.add(new StructElement(ARG3_ID, new BooleanType(arg3)));
-    values.add(new StructElement(ARG4_ID, arg4.encodeTlv()));
-    values.add(new StructElement(ARG5_ID, ArrayType.generateArrayType(arg5, (elementarg5) -> elementarg5.encodeTlv())));
-    values.add(new StructElement(ARG6_ID, ArrayType.generateArrayType(arg6, (elementarg6) -> new UIntType(elementarg6))));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(ARG1_TAG, arg1);
+    writer.putUnsigned(ARG2_TAG, arg2);
+    writer.put(ARG3_TAG, arg3);
+    arg4.encodeTlv(ARG4_TAG, writer);
+    writer.startArray(ARG5_TAG); arg5.forEach((elementarg5) -> { elementarg5.encodeTlv(AnonymousTag.INSTANCE, writer); }); writer.endArray();
+    writer.startArray(ARG6_TAG); arg6.forEach((elementarg6) -> { writer.putUnsigned(AnonymousTag.INSTANCE, elementarg6); }); writer.endArray();
+    writer.endStructure();
   }
 
-  public static UnitTestingClusterTestEventEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static UnitTestingClusterTestEventEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer arg1 = null;
     Integer arg2 = null;
     Boolean arg3 = null;
     ChipStructs.UnitTestingClusterSimpleStruct arg4 = null;
     ArrayList<ChipStructs.UnitTestingClusterSimpleStruct> arg5 = null;
     ArrayList<Integer> arg6 = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ARG1_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          arg1 = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == ARG2_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          arg2 = castingValue.value(Integer.class);
-        }
-      } else if (element.contextTagNum() == ARG3_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Boolean) {
-          BooleanType castingValue = element.value(BooleanType.class);
-          arg3 = castingValue.value(Boolean.class);
-        }
-      } else if (element.contextTagNum() == ARG4_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Struct) {
-          StructType castingValue = element.value(StructType.class);
-          arg4 = ChipStructs.UnitTestingClusterSimpleStruct.decodeTlv(castingValue);
-        }
-      } else if (element.contextTagNum() == ARG5_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          arg5 = castingValue.map((elementcastingValue) -> ChipStructs.UnitTestingClusterSimpleStruct.decodeTlv(elementcastingValue));
-        }
-      } else if (element.contextTagNum() == ARG6_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.Array) {
-          ArrayType castingValue = element.value(ArrayType.class);
-          arg6 = castingValue.map((elementcastingValue) -> elementcastingValue.value(Integer.class));
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ARG1_TAG)) {
+        arg1 = (int) reader.getUnsigned(ARG1_TAG);
+      } else if (reader.isNextTag(ARG2_TAG)) {
+        arg2 = (int) reader.getUnsigned(ARG2_TAG);
+      } else if (reader.isNextTag(ARG3_TAG)) {
+        arg3 = reader.getBool(ARG3_TAG);
+      } else if (reader.isNextTag(ARG4_TAG)) {
+        arg4 = ChipStructs.UnitTestingClusterSimpleStruct.decodeTlv(ARG4_TAG, reader);
+      } else if (reader.isNextTag(ARG5_TAG)) {
+        arg5 = ChipTLVCodec.readArray(reader, ARG5_TAG, () -> ChipStructs.UnitTestingClusterSimpleStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      } else if (reader.isNextTag(ARG6_TAG)) {
+        arg6 = ChipTLVCodec.readArray(reader, ARG6_TAG, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new UnitTestingClusterTestEventEvent(
       arg1,
       arg2,
@@ -7329,7 +6906,7 @@ public static class UnitTestingClusterTestEventEvent {
 }
 public static class UnitTestingClusterTestFabricScopedEventEvent {
   public Integer fabricIndex;
-  private static final long FABRIC_INDEX_ID = 254L;
+  private static final Tag FABRIC_INDEX_TAG = new ContextSpecificTag(254);
 
   public UnitTestingClusterTestFabricScopedEventEvent(
     Integer fabricIndex
@@ -7337,26 +6914,25 @@ public static class UnitTestingClusterTestFabricScopedEventEvent {
     this.fabricIndex = fabricIndex;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(FABRIC_INDEX_ID, new UIntType(fabricIndex)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(FABRIC_INDEX_TAG, fabricIndex);
+    writer.endStructure();
   }
 
-  public static UnitTestingClusterTestFabricScopedEventEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static UnitTestingClusterTestFabricScopedEventEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer fabricIndex = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == FABRIC_INDEX_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          fabricIndex = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(FABRIC_INDEX_TAG)) {
+        fabricIndex = (int) reader.getUnsigned(FABRIC_INDEX_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new UnitTestingClusterTestFabricScopedEventEvent(
       fabricIndex
     );
@@ -7375,7 +6951,7 @@ public static class UnitTestingClusterTestFabricScopedEventEvent {
 }
 public static class UnitTestingClusterTestDifferentVendorMeiEventEvent {
   public Integer arg1;
-  private static final long ARG1_ID = 1L;
+  private static final Tag ARG1_TAG = new ContextSpecificTag(1);
 
   public UnitTestingClusterTestDifferentVendorMeiEventEvent(
     Integer arg1
@@ -7383,26 +6959,25 @@ public static class UnitTestingClusterTestDifferentVendorMeiEventEvent {
     this.arg1 = arg1;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(ARG1_ID, new UIntType(arg1)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(ARG1_TAG, arg1);
+    writer.endStructure();
   }
 
-  public static UnitTestingClusterTestDifferentVendorMeiEventEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static UnitTestingClusterTestDifferentVendorMeiEventEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Integer arg1 = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == ARG1_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          arg1 = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(ARG1_TAG)) {
+        arg1 = (int) reader.getUnsigned(ARG1_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new UnitTestingClusterTestDifferentVendorMeiEventEvent(
       arg1
     );
@@ -7422,8 +6997,8 @@ public static class UnitTestingClusterTestDifferentVendorMeiEventEvent {
 public static class SampleMeiClusterPingCountEventEvent {
   public Long count;
   public Integer fabricIndex;
-  private static final long COUNT_ID = 1L;
-  private static final long FABRIC_INDEX_ID = 254L;
+  private static final Tag COUNT_TAG = new ContextSpecificTag(1);
+  private static final Tag FABRIC_INDEX_TAG = new ContextSpecificTag(254);
 
   public SampleMeiClusterPingCountEventEvent(
     Long count,
@@ -7433,33 +7008,29 @@ public static class SampleMeiClusterPingCountEventEvent {
     this.fabricIndex = fabricIndex;
   }
 
-  public StructType encodeTlv() {
-    ArrayList<StructElement> values = new ArrayList<>();
-    values.add(new StructElement(COUNT_ID, new UIntType(count)));
-    values.add(new StructElement(FABRIC_INDEX_ID, new UIntType(fabricIndex)));
-
-    return new StructType(values);
+  public void encodeTlv(Tag tlvTag, TlvWriter writer) {
+    writer.startStructure(tlvTag);
+    writer.putUnsigned(COUNT_TAG, count);
+    writer.putUnsigned(FABRIC_INDEX_TAG, fabricIndex);
+    writer.endStructure();
   }
 
-  public static SampleMeiClusterPingCountEventEvent decodeTlv(BaseTLVType tlvValue) {
-    if (tlvValue == null || tlvValue.type() != TLVType.Struct) {
-      return null;
-    }
+  public static SampleMeiClusterPingCountEventEvent decodeTlv(Tag tlvTag, TlvReader reader) {
     Long count = null;
     Integer fabricIndex = null;
-    for (StructElement element: ((StructType)tlvValue).value()) {
-      if (element.contextTagNum() == COUNT_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          count = castingValue.value(Long.class);
-        }
-      } else if (element.contextTagNum() == FABRIC_INDEX_ID) {
-        if (element.value(BaseTLVType.class).type() == TLVType.UInt) {
-          UIntType castingValue = element.value(UIntType.class);
-          fabricIndex = castingValue.value(Integer.class);
-        }
+    reader.enterStructure(tlvTag);
+    while (!reader.isEndOfContainer()) {
+      if (reader.isNull()) {
+        reader.skipElement();
+      } else if (reader.isNextTag(COUNT_TAG)) {
+        count = reader.getUnsigned(COUNT_TAG);
+      } else if (reader.isNextTag(FABRIC_INDEX_TAG)) {
+        fabricIndex = (int) reader.getUnsigned(FABRIC_INDEX_TAG);
+      } else {
+        reader.skipElement();
       }
     }
+    reader.exitContainer();
     return new SampleMeiClusterPingCountEventEvent(
       count,
       fabricIndex
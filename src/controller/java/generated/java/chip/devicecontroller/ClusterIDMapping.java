@@ -25,441 +25,329 @@ public class ClusterIDMapping {
         long getAttributeID(String name) throws IllegalArgumentException;
         long getEventID(String name) throws IllegalArgumentException;
         long getCommandID(String name) throws IllegalArgumentException;
-    }
-
-    public static BaseCluster getCluster(long clusterId) {
-        if (clusterId == Identify.ID) {
-            return new Identify();
-        }
-        if (clusterId == Groups.ID) {
-            return new Groups();
-        }
-        if (clusterId == OnOff.ID) {
-            return new OnOff();
-        }
-        if (clusterId == LevelControl.ID) {
-            return new LevelControl();
-        }
-        if (clusterId == PulseWidthModulation.ID) {
-            return new PulseWidthModulation();
-        }
-        if (clusterId == Descriptor.ID) {
-            return new Descriptor();
-        }
-        if (clusterId == Binding.ID) {
-            return new Binding();
-        }
-        if (clusterId == AccessControl.ID) {
-            return new AccessControl();
-        }
-        if (clusterId == Actions.ID) {
-            return new Actions();
-        }
-        if (clusterId == BasicInformation.ID) {
-            return new BasicInformation();
-        }
-        if (clusterId == OtaSoftwareUpdateProvider.ID) {
-            return new OtaSoftwareUpdateProvider();
-        }
-        if (clusterId == OtaSoftwareUpdateRequestor.ID) {
-            return new OtaSoftwareUpdateRequestor();
-        }
-        if (clusterId == LocalizationConfiguration.ID) {
-            return new LocalizationConfiguration();
-        }
-        if (clusterId == TimeFormatLocalization.ID) {
-            return new TimeFormatLocalization();
-        }
-        if (clusterId == UnitLocalization.ID) {
-            return new UnitLocalization();
-        }
-        if (clusterId == PowerSourceConfiguration.ID) {
-            return new PowerSourceConfiguration();
-        }
-        if (clusterId == PowerSource.ID) {
-            return new PowerSource();
-        }
-        if (clusterId == GeneralCommissioning.ID) {
-            return new GeneralCommissioning();
-        }
-        if (clusterId == NetworkCommissioning.ID) {
-            return new NetworkCommissioning();
-        }
-        if (clusterId == DiagnosticLogs.ID) {
-            return new DiagnosticLogs();
-        }
-        if (clusterId == GeneralDiagnostics.ID) {
-            return new GeneralDiagnostics();
-        }
-        if (clusterId == SoftwareDiagnostics.ID) {
-            return new SoftwareDiagnostics();
-        }
-        if (clusterId == ThreadNetworkDiagnostics.ID) {
-            return new ThreadNetworkDiagnostics();
-        }
-        if (clusterId == WiFiNetworkDiagnostics.ID) {
-            return new WiFiNetworkDiagnostics();
-        }
-        if (clusterId == EthernetNetworkDiagnostics.ID) {
-            return new EthernetNetworkDiagnostics();
-        }
-        if (clusterId == TimeSynchronization.ID) {
-            return new TimeSynchronization();
-        }
-        if (clusterId == BridgedDeviceBasicInformation.ID) {
-            return new BridgedDeviceBasicInformation();
-        }
-        if (clusterId == Switch.ID) {
-            return new Switch();
-        }
-        if (clusterId == AdministratorCommissioning.ID) {
-            return new AdministratorCommissioning();
-        }
-        if (clusterId == OperationalCredentials.ID) {
-            return new OperationalCredentials();
-        }
-        if (clusterId == GroupKeyManagement.ID) {
-            return new GroupKeyManagement();
-        }
-        if (clusterId == FixedLabel.ID) {
-            return new FixedLabel();
-        }
-        if (clusterId == UserLabel.ID) {
-            return new UserLabel();
-        }
-        if (clusterId == ProxyConfiguration.ID) {
-            return new ProxyConfiguration();
-        }
-        if (clusterId == ProxyDiscovery.ID) {
-            return new ProxyDiscovery();
-        }
-        if (clusterId == ProxyValid.ID) {
-            return new ProxyValid();
-        }
-        if (clusterId == BooleanState.ID) {
-            return new BooleanState();
-        }
-        if (clusterId == IcdManagement.ID) {
-            return new IcdManagement();
-        }
-        if (clusterId == Timer.ID) {
-            return new Timer();
-        }
-        if (clusterId == OvenCavityOperationalState.ID) {
-            return new OvenCavityOperationalState();
-        }
-        if (clusterId == OvenMode.ID) {
-            return new OvenMode();
-        }
-        if (clusterId == LaundryDryerControls.ID) {
-            return new LaundryDryerControls();
-        }
-        if (clusterId == ModeSelect.ID) {
-            return new ModeSelect();
-        }
-        if (clusterId == LaundryWasherMode.ID) {
-            return new LaundryWasherMode();
-        }
-        if (clusterId == RefrigeratorAndTemperatureControlledCabinetMode.ID) {
-            return new RefrigeratorAndTemperatureControlledCabinetMode();
-        }
-        if (clusterId == LaundryWasherControls.ID) {
-            return new LaundryWasherControls();
-        }
-        if (clusterId == RvcRunMode.ID) {
-            return new RvcRunMode();
-        }
-        if (clusterId == RvcCleanMode.ID) {
-            return new RvcCleanMode();
-        }
-        if (clusterId == TemperatureControl.ID) {
-            return new TemperatureControl();
-        }
-        if (clusterId == RefrigeratorAlarm.ID) {
-            return new RefrigeratorAlarm();
-        }
-        if (clusterId == DishwasherMode.ID) {
-            return new DishwasherMode();
-        }
-        if (clusterId == AirQuality.ID) {
-            return new AirQuality();
-        }
-        if (clusterId == SmokeCoAlarm.ID) {
-            return new SmokeCoAlarm();
-        }
-        if (clusterId == DishwasherAlarm.ID) {
-            return new DishwasherAlarm();
-        }
-        if (clusterId == MicrowaveOvenMode.ID) {
-            return new MicrowaveOvenMode();
-        }
-        if (clusterId == MicrowaveOvenControl.ID) {
-            return new MicrowaveOvenControl();
-        }
-        if (clusterId == OperationalState.ID) {
-            return new OperationalState();
-        }
-        if (clusterId == RvcOperationalState.ID) {
-            return new RvcOperationalState();
-        }
-        if (clusterId == ScenesManagement.ID) {
-            return new ScenesManagement();
-        }
-        if (clusterId == Groupcast.ID) {
-            return new Groupcast();
-        }
-        if (clusterId == HepaFilterMonitoring.ID) {
-            return new HepaFilterMonitoring();
-        }
-        if (clusterId == ActivatedCarbonFilterMonitoring.ID) {
-            return new ActivatedCarbonFilterMonitoring();
-        }
-        if (clusterId == WaterTankLevelMonitoring.ID) {
-            return new WaterTankLevelMonitoring();
-        }
-        if (clusterId == BooleanStateConfiguration.ID) {
-            return new BooleanStateConfiguration();
-        }
-        if (clusterId == ValveConfigurationAndControl.ID) {
-            return new ValveConfigurationAndControl();
-        }
-        if (clusterId == ElectricalPowerMeasurement.ID) {
-            return new ElectricalPowerMeasurement();
-        }
-        if (clusterId == ElectricalEnergyMeasurement.ID) {
-            return new ElectricalEnergyMeasurement();
-        }
-        if (clusterId == WaterHeaterManagement.ID) {
-            return new WaterHeaterManagement();
-        }
-        if (clusterId == CommodityPrice.ID) {
-            return new CommodityPrice();
-        }
-        if (clusterId == Messages.ID) {
-            return new Messages();
-        }
-        if (clusterId == DeviceEnergyManagement.ID) {
-            return new DeviceEnergyManagement();
-        }
-        if (clusterId == EnergyEvse.ID) {
-            return new EnergyEvse();
-        }
-        if (clusterId == EnergyPreference.ID) {
-            return new EnergyPreference();
-        }
-        if (clusterId == PowerTopology.ID) {
-            return new PowerTopology();
-        }
-        if (clusterId == EnergyEvseMode.ID) {
-            return new EnergyEvseMode();
-        }
-        if (clusterId == WaterHeaterMode.ID) {
-            return new WaterHeaterMode();
-        }
-        if (clusterId == DeviceEnergyManagementMode.ID) {
-            return new DeviceEnergyManagementMode();
-        }
-        if (clusterId == ElectricalGridConditions.ID) {
-            return new ElectricalGridConditions();
-        }
-        if (clusterId == DoorLock.ID) {
-            return new DoorLock();
-        }
-        if (clusterId == WindowCovering.ID) {
-            return new WindowCovering();
-        }
-        if (clusterId == ClosureControl.ID) {
-            return new ClosureControl();
-        }
-        if (clusterId == ClosureDimension.ID) {
-            return new ClosureDimension();
-        }
-        if (clusterId == ServiceArea.ID) {
-            return new ServiceArea();
-        }
-        if (clusterId == PumpConfigurationAndControl.ID) {
-            return new PumpConfigurationAndControl();
-        }
-        if (clusterId == Thermostat.ID) {
-            return new Thermostat();
-        }
-        if (clusterId == FanControl.ID) {
-            return new FanControl();
-        }
-        if (clusterId == ThermostatUserInterfaceConfiguration.ID) {
-            return new ThermostatUserInterfaceConfiguration();
-        }
-        if (clusterId == ColorControl.ID) {
-            return new ColorControl();
-        }
-        if (clusterId == BallastConfiguration.ID) {
-            return new BallastConfiguration();
-        }
-        if (clusterId == IlluminanceMeasurement.ID) {
-            return new IlluminanceMeasurement();
-        }
-        if (clusterId == TemperatureMeasurement.ID) {
-            return new TemperatureMeasurement();
-        }
-        if (clusterId == PressureMeasurement.ID) {
-            return new PressureMeasurement();
-        }
-        if (clusterId == FlowMeasurement.ID) {
-            return new FlowMeasurement();
-        }
-        if (clusterId == RelativeHumidityMeasurement.ID) {
-            return new RelativeHumidityMeasurement();
-        }
-        if (clusterId == OccupancySensing.ID) {
-            return new OccupancySensing();
-        }
-        if (clusterId == CarbonMonoxideConcentrationMeasurement.ID) {
-            return new CarbonMonoxideConcentrationMeasurement();
-        }
-        if (clusterId == CarbonDioxideConcentrationMeasurement.ID) {
-            return new CarbonDioxideConcentrationMeasurement();
-        }
-        if (clusterId == NitrogenDioxideConcentrationMeasurement.ID) {
-            return new NitrogenDioxideConcentrationMeasurement();
-        }
-        if (clusterId == OzoneConcentrationMeasurement.ID) {
-            return new OzoneConcentrationMeasurement();
-        }
-        if (clusterId == Pm25ConcentrationMeasurement.ID) {
-            return new Pm25ConcentrationMeasurement();
-        }
-        if (clusterId == FormaldehydeConcentrationMeasurement.ID) {
-            return new FormaldehydeConcentrationMeasurement();
-        }
-        if (clusterId == Pm1ConcentrationMeasurement.ID) {
-            return new Pm1ConcentrationMeasurement();
-        }
-        if (clusterId == Pm10ConcentrationMeasurement.ID) {
-            return new Pm10ConcentrationMeasurement();
-        }
-        if (clusterId == TotalVolatileOrganicCompoundsConcentrationMeasurement.ID) {
-            return new TotalVolatileOrganicCompoundsConcentrationMeasurement();
-        }
-        if (clusterId == RadonConcentrationMeasurement.ID) {
-            return new RadonConcentrationMeasurement();
-        }
-        if (clusterId == SoilMeasurement.ID) {
-            return new SoilMeasurement();
-        }
-        if (clusterId == AmbientContextSensing.ID) {
-            return new AmbientContextSensing();
-        }
-        if (clusterId == WiFiNetworkManagement.ID) {
-            return new WiFiNetworkManagement();
-        }
-        if (clusterId == ThreadBorderRouterManagement.ID) {
-            return new ThreadBorderRouterManagement();
-        }
-        if (clusterId == ThreadNetworkDirectory.ID) {
-            return new ThreadNetworkDirectory();
-        }
-        if (clusterId == WakeOnLan.ID) {
-            return new WakeOnLan();
-        }
-        if (clusterId == Channel.ID) {
-            return new Channel();
-        }
-        if (clusterId == TargetNavigator.ID) {
-            return new TargetNavigator();
-        }
-        if (clusterId == MediaPlayback.ID) {
-            return new MediaPlayback();
-        }
-        if (clusterId == MediaInput.ID) {
-            return new MediaInput();
-        }
-        if (clusterId == LowPower.ID) {
-            return new LowPower();
-        }
-        if (clusterId == KeypadInput.ID) {
-            return new KeypadInput();
-        }
-        if (clusterId == ContentLauncher.ID) {
-            return new ContentLauncher();
-        }
-        if (clusterId == AudioOutput.ID) {
-            return new AudioOutput();
-        }
-        if (clusterId == ApplicationLauncher.ID) {
-            return new ApplicationLauncher();
-        }
-        if (clusterId == ApplicationBasic.ID) {
-            return new ApplicationBasic();
-        }
-        if (clusterId == AccountLogin.ID) {
-            return new AccountLogin();
-        }
-        if (clusterId == ContentControl.ID) {
-            return new ContentControl();
-        }
-        if (clusterId == ContentAppObserver.ID) {
-            return new ContentAppObserver();
-        }
-        if (clusterId == ZoneManagement.ID) {
-            return new ZoneManagement();
-        }
-        if (clusterId == CameraAvStreamManagement.ID) {
-            return new CameraAvStreamManagement();
-        }
-        if (clusterId == CameraAvSettingsUserLevelManagement.ID) {
-            return new CameraAvSettingsUserLevelManagement();
-        }
-        if (clusterId == WebRTCTransportProvider.ID) {
-            return new WebRTCTransportProvider();
-        }
-        if (clusterId == WebRTCTransportRequestor.ID) {
-            return new WebRTCTransportRequestor();
-        }
-        if (clusterId == PushAvStreamTransport.ID) {
-            return new PushAvStreamTransport();
-        }
-        if (clusterId == Chime.ID) {
-            return new Chime();
-        }
-        if (clusterId == CommodityTariff.ID) {
-            return new CommodityTariff();
-        }
-        if (clusterId == EcosystemInformation.ID) {
-            return new EcosystemInformation();
-        }
-        if (clusterId == CommissionerControl.ID) {
-            return new CommissionerControl();
-        }
-        if (clusterId == JointFabricDatastore.ID) {
-            return new JointFabricDatastore();
-        }
-        if (clusterId == JointFabricAdministrator.ID) {
-            return new JointFabricAdministrator();
-        }
-        if (clusterId == TlsCertificateManagement.ID) {
-            return new TlsCertificateManagement();
-        }
-        if (clusterId == TlsClientManagement.ID) {
-            return new TlsClientManagement();
-        }
-        if (clusterId == MeterIdentification.ID) {
-            return new MeterIdentification();
+        // Same as the get*Name() methods, but returning null instead of throwing for unknown IDs.
+        // The generated clusters override these to look the name up without throwing.
+        default String findAttributeName(long id) {
+            try {
+                return getAttributeName(id);
+            } catch (NoSuchFieldError e) {
+                return null;
+            }
         }
-        if (clusterId == CommodityMetering.ID) {
-            return new CommodityMetering();
+        default String findEventName(long id) {
+            try {
+                return getEventName(id);
+            } catch (NoSuchFieldError e) {
+                return null;
+            }
         }
-        if (clusterId == UnitTesting.ID) {
-            return new UnitTesting();
+        default String findCommandName(long id) {
+            try {
+                return getCommandName(id);
+            } catch (NoSuchFieldError e) {
+                return null;
+            }
         }
-        if (clusterId == FaultInjection.ID) {
-            return new FaultInjection();
+    }
+
+    public static BaseCluster getCluster(long clusterId) {
+        if ((clusterId >>> 32) != 0) {
+            return null;
+        }
+        switch ((int) clusterId) {
+            case (int) Identify.ID:
+                return Identify.INSTANCE;
+            case (int) Groups.ID:
+                return Groups.INSTANCE;
+            case (int) OnOff.ID:
+                return OnOff.INSTANCE;
+            case (int) LevelControl.ID:
+                return LevelControl.INSTANCE;
+            case (int) PulseWidthModulation.ID:
+                return PulseWidthModulation.INSTANCE;
+            case (int) Descriptor.ID:
+                return Descriptor.INSTANCE;
+            case (int) Binding.ID:
+                return Binding.INSTANCE;
+            case (int) AccessControl.ID:
+                return AccessControl.INSTANCE;
+            case (int) Actions.ID:
+                return Actions.INSTANCE;
+            case (int) BasicInformation.ID:
+                return BasicInformation.INSTANCE;
+            case (int) OtaSoftwareUpdateProvider.ID:
+                return OtaSoftwareUpdateProvider.INSTANCE;
+            case (int) OtaSoftwareUpdateRequestor.ID:
+                return OtaSoftwareUpdateRequestor.INSTANCE;
+            case (int) LocalizationConfiguration.ID:
+                return LocalizationConfiguration.INSTANCE;
+            case (int) TimeFormatLocalization.ID:
+                return TimeFormatLocalization.INSTANCE;
+            case (int) UnitLocalization.ID:
+                return UnitLocalization.INSTANCE;
+            case (int) PowerSourceConfiguration.ID:
+                return PowerSourceConfiguration.INSTANCE;
+            case (int) PowerSource.ID:
+                return PowerSource.INSTANCE;
+            case (int) GeneralCommissioning.ID:
+                return GeneralCommissioning.INSTANCE;
+            case (int) NetworkCommissioning.ID:
+                return NetworkCommissioning.INSTANCE;
+            case (int) DiagnosticLogs.ID:
+                return DiagnosticLogs.INSTANCE;
+            case (int) GeneralDiagnostics.ID:
+                return GeneralDiagnostics.INSTANCE;
+            case (int) SoftwareDiagnostics.ID:
+                return SoftwareDiagnostics.INSTANCE;
+            case (int) ThreadNetworkDiagnostics.ID:
+                return ThreadNetworkDiagnostics.INSTANCE;
+            case (int) WiFiNetworkDiagnostics.ID:
+                return WiFiNetworkDiagnostics.INSTANCE;
+            case (int) EthernetNetworkDiagnostics.ID:
+                return EthernetNetworkDiagnostics.INSTANCE;
+            case (int) TimeSynchronization.ID:
+                return TimeSynchronization.INSTANCE;
+            case (int) BridgedDeviceBasicInformation.ID:
+                return BridgedDeviceBasicInformation.INSTANCE;
+            case (int) Switch.ID:
+                return Switch.INSTANCE;
+            case (int) AdministratorCommissioning.ID:
+                return AdministratorCommissioning.INSTANCE;
+            case (int) OperationalCredentials.ID:
+                return OperationalCredentials.INSTANCE;
+            case (int) GroupKeyManagement.ID:
+                return GroupKeyManagement.INSTANCE;
+            case (int) FixedLabel.ID:
+                return FixedLabel.INSTANCE;
+            case (int) UserLabel.ID:
+                return UserLabel.INSTANCE;
+            case (int) ProxyConfiguration.ID:
+                return ProxyConfiguration.INSTANCE;
+            case (int) ProxyDiscovery.ID:
+                return ProxyDiscovery.INSTANCE;
+            case (int) ProxyValid.ID:
+                return ProxyValid.INSTANCE;
+            case (int) BooleanState.ID:
+                return BooleanState.INSTANCE;
+            case (int) IcdManagement.ID:
+                return IcdManagement.INSTANCE;
+            case (int) Timer.ID:
+                return Timer.INSTANCE;
+            case (int) OvenCavityOperationalState.ID:
+                return OvenCavityOperationalState.INSTANCE;
+            case (int) OvenMode.ID:
+                return OvenMode.INSTANCE;
+            case (int) LaundryDryerControls.ID:
+                return LaundryDryerControls.INSTANCE;
+            case (int) ModeSelect.ID:
+                return ModeSelect.INSTANCE;
+            case (int) LaundryWasherMode.ID:
+                return LaundryWasherMode.INSTANCE;
+            case (int) RefrigeratorAndTemperatureControlledCabinetMode.ID:
+                return RefrigeratorAndTemperatureControlledCabinetMode.INSTANCE;
+            case (int) LaundryWasherControls.ID:
+                return LaundryWasherControls.INSTANCE;
+            case (int) RvcRunMode.ID:
+                return RvcRunMode.INSTANCE;
+            case (int) RvcCleanMode.ID:
+                return RvcCleanMode.INSTANCE;
+            case (int) TemperatureControl.ID:
+                return TemperatureControl.INSTANCE;
+            case (int) RefrigeratorAlarm.ID:
+                return RefrigeratorAlarm.INSTANCE;
+            case (int) DishwasherMode.ID:
+                return DishwasherMode.INSTANCE;
+            case (int) AirQuality.ID:
+                return AirQuality.INSTANCE;
+            case (int) SmokeCoAlarm.ID:
+                return SmokeCoAlarm.INSTANCE;
+            case (int) DishwasherAlarm.ID:
+                return DishwasherAlarm.INSTANCE;
+            case (int) MicrowaveOvenMode.ID:
+                return MicrowaveOvenMode.INSTANCE;
+            case (int) MicrowaveOvenControl.ID:
+                return MicrowaveOvenControl.INSTANCE;
+            case (int) OperationalState.ID:
+                return OperationalState.INSTANCE;
+            case (int) RvcOperationalState.ID:
+                return RvcOperationalState.INSTANCE;
+            case (int) ScenesManagement.ID:
+                return ScenesManagement.INSTANCE;
+            case (int) Groupcast.ID:
+                return Groupcast.INSTANCE;
+            case (int) HepaFilterMonitoring.ID:
+                return HepaFilterMonitoring.INSTANCE;
+            case (int) ActivatedCarbonFilterMonitoring.ID:
+                return ActivatedCarbonFilterMonitoring.INSTANCE;
+            case (int) WaterTankLevelMonitoring.ID:
+                return WaterTankLevelMonitoring.INSTANCE;
+            case (int) BooleanStateConfiguration.ID:
+                return BooleanStateConfiguration.INSTANCE;
+            case (int) ValveConfigurationAndControl.ID:
+                return ValveConfigurationAndControl.INSTANCE;
+            case (int) ElectricalPowerMeasurement.ID:
+                return ElectricalPowerMeasurement.INSTANCE;
+            case (int) ElectricalEnergyMeasurement.ID:
+                return ElectricalEnergyMeasurement.INSTANCE;
+            case (int) WaterHeaterManagement.ID:
+                return WaterHeaterManagement.INSTANCE;
+            case (int) CommodityPrice.ID:
+                return CommodityPrice.INSTANCE;
+            case (int) Messages.ID:
+                return Messages.INSTANCE;
+            case (int) DeviceEnergyManagement.ID:
+                return DeviceEnergyManagement.INSTANCE;
+            case (int) EnergyEvse.ID:
+                return EnergyEvse.INSTANCE;
+            case (int) EnergyPreference.ID:
+                return EnergyPreference.INSTANCE;
+            case (int) PowerTopology.ID:
+                return PowerTopology.INSTANCE;
+            case (int) EnergyEvseMode.ID:
+                return EnergyEvseMode.INSTANCE;
+            case (int) WaterHeaterMode.ID:
+                return WaterHeaterMode.INSTANCE;
+            case (int) DeviceEnergyManagementMode.ID:
+                return DeviceEnergyManagementMode.INSTANCE;
+            case (int) ElectricalGridConditions.ID:
+                return ElectricalGridConditions.INSTANCE;
+            case (int) DoorLock.ID:
+                return DoorLock.INSTANCE;
+            case (int) WindowCovering.ID:
+                return WindowCovering.INSTANCE;
+            case (int) ClosureControl.ID:
+                return ClosureControl.INSTANCE;
+            case (int) ClosureDimension.ID:
+                return ClosureDimension.INSTANCE;
+            case (int) ServiceArea.ID:
+                return ServiceArea.INSTANCE;
+            case (int) PumpConfigurationAndControl.ID:
+                return PumpConfigurationAndControl.INSTANCE;
+            case (int) Thermostat.ID:
+                return Thermostat.INSTANCE;
+            case (int) FanControl.ID:
+                return FanControl.INSTANCE;
+            case (int) ThermostatUserInterfaceConfiguration.ID:
+                return ThermostatUserInterfaceConfiguration.INSTANCE;
+            case (int) ColorControl.ID:
+                return ColorControl.INSTANCE;
+            case (int) BallastConfiguration.ID:
+                return BallastConfiguration.INSTANCE;
+            case (int) IlluminanceMeasurement.ID:
+                return IlluminanceMeasurement.INSTANCE;
+            case (int) TemperatureMeasurement.ID:
+                return TemperatureMeasurement.INSTANCE;
+            case (int) PressureMeasurement.ID:
+                return PressureMeasurement.INSTANCE;
+            case (int) FlowMeasurement.ID:
+                return FlowMeasurement.INSTANCE;
+            case (int) RelativeHumidityMeasurement.ID:
+                return RelativeHumidityMeasurement.INSTANCE;
+            case (int) OccupancySensing.ID:
+                return OccupancySensing.INSTANCE;
+            case (int) CarbonMonoxideConcentrationMeasurement.ID:
+                return CarbonMonoxideConcentrationMeasurement.INSTANCE;
+            case (int) CarbonDioxideConcentrationMeasurement.ID:
+                return CarbonDioxideConcentrationMeasurement.INSTANCE;
+            case (int) NitrogenDioxideConcentrationMeasurement.ID:
+                return NitrogenDioxideConcentrationMeasurement.INSTANCE;
+            case (int) OzoneConcentrationMeasurement.ID:
+                return OzoneConcentrationMeasurement.INSTANCE;
+            case (int) Pm25ConcentrationMeasurement.ID:
+                return Pm25ConcentrationMeasurement.INSTANCE;
+            case (int) FormaldehydeConcentrationMeasurement.ID:
+                return FormaldehydeConcentrationMeasurement.INSTANCE;
+            case (int) Pm1ConcentrationMeasurement.ID:
+                return Pm1ConcentrationMeasurement.INSTANCE;
+            case (int) Pm10ConcentrationMeasurement.ID:
+                return Pm10ConcentrationMeasurement.INSTANCE;
+            case (int) TotalVolatileOrganicCompoundsConcentrationMeasurement.ID:
+                return TotalVolatileOrganicCompoundsConcentrationMeasurement.INSTANCE;
+            case (int) RadonConcentrationMeasurement.ID:
+                return RadonConcentrationMeasurement.INSTANCE;
+            case (int) SoilMeasurement.ID:
+                return SoilMeasurement.INSTANCE;
+            case (int) AmbientContextSensing.ID:
+                return AmbientContextSensing.INSTANCE;
+            case (int) WiFiNetworkManagement.ID:
+                return WiFiNetworkManagement.INSTANCE;
+            case (int) ThreadBorderRouterManagement.ID:
+                return ThreadBorderRouterManagement.INSTANCE;
+            case (int) ThreadNetworkDirectory.ID:
+                return ThreadNetworkDirectory.INSTANCE;
+            case (int) WakeOnLan.ID:
+                return WakeOnLan.INSTANCE;
+            case (int) Channel.ID:
+                return Channel.INSTANCE;
+            case (int) TargetNavigator.ID:
+                return TargetNavigator.INSTANCE;
+            case (int) MediaPlayback.ID:
+                return MediaPlayback.INSTANCE;
+            case (int) MediaInput.ID:
+                return MediaInput.INSTANCE;
+            case (int) LowPower.ID:
+                return LowPower.INSTANCE;
+            case (int) KeypadInput.ID:
+                return KeypadInput.INSTANCE;
+            case (int) ContentLauncher.ID:
+                return ContentLauncher.INSTANCE;
+            case (int) AudioOutput.ID:
+                return AudioOutput.INSTANCE;
+            case (int) ApplicationLauncher.ID:
+                return ApplicationLauncher.INSTANCE;
+            case (int) ApplicationBasic.ID:
+                return ApplicationBasic.INSTANCE;
+            case (int) AccountLogin.ID:
+                return AccountLogin.INSTANCE;
+            case (int) ContentControl.ID:
+                return ContentControl.INSTANCE;
+            case (int) ContentAppObserver.ID:
+                return ContentAppObserver.INSTANCE;
+            case (int) ZoneManagement.ID:
+                return ZoneManagement.INSTANCE;
+            case (int) CameraAvStreamManagement.ID:
+                return CameraAvStreamManagement.INSTANCE;
+            case (int) CameraAvSettingsUserLevelManagement.ID:
+                return CameraAvSettingsUserLevelManagement.INSTANCE;
+            case (int) WebRTCTransportProvider.ID:
+                return WebRTCTransportProvider.INSTANCE;
+            case (int) WebRTCTransportRequestor.ID:
+                return WebRTCTransportRequestor.INSTANCE;
+            case (int) PushAvStreamTransport.ID:
+                return PushAvStreamTransport.INSTANCE;
+            case (int) Chime.ID:
+                return Chime.INSTANCE;
+            case (int) CommodityTariff.ID:
+                return CommodityTariff.INSTANCE;
+            case (int) EcosystemInformation.ID:
+                return EcosystemInformation.INSTANCE;
+            case (int) CommissionerControl.ID:
+                return CommissionerControl.INSTANCE;
+            case (int) JointFabricDatastore.ID:
+                return JointFabricDatastore.INSTANCE;
+            case (int) JointFabricAdministrator.ID:
+                return JointFabricAdministrator.INSTANCE;
+            case (int) TlsCertificateManagement.ID:
+                return TlsCertificateManagement.INSTANCE;
+            case (int) TlsClientManagement.ID:
+                return TlsClientManagement.INSTANCE;
+            case (int) MeterIdentification.ID:
+                return MeterIdentification.INSTANCE;
+            case (int) CommodityMetering.ID:
+                return CommodityMetering.INSTANCE;
+            case (int) UnitTesting.ID:
+                return UnitTesting.INSTANCE;
+            case (int) FaultInjection.ID:
+                return FaultInjection.INSTANCE;
+            case (int) SampleMei.ID:
+                return SampleMei.INSTANCE;
+            default:
+                return null;
         }
-        if (clusterId == SampleMei.ID) {
-            return new SampleMei();
-        }return null;
     }
     public static class Identify implements BaseCluster {
         public static final long ID = 3L;
+        public static final Identify INSTANCE = new Identify();
         public long getID() {
             return ID;
         }
@@ -482,12 +370,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return IdentifyTime;
+                    case (int) 1L:
+                        return IdentifyType;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -502,12 +413,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -524,12 +444,25 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Identify;
+                    case (int) 64L:
+                        return TriggerEffect;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum IdentifyCommandField {IdentifyTime(0),;
                     private final int id;
@@ -594,9 +527,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class Groups implements BaseCluster {
         public static final long ID = 4L;
+        public static final Groups INSTANCE = new Groups();
         public long getID() {
             return ID;
         }
@@ -618,12 +570,33 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return NameSupport;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -638,12 +611,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -664,12 +646,33 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return AddGroup;
+                    case (int) 1L:
+                        return ViewGroup;
+                    case (int) 2L:
+                        return GetGroupMembership;
+                    case (int) 3L:
+                        return RemoveGroup;
+                    case (int) 4L:
+                        return RemoveAllGroups;
+                    case (int) 5L:
+                        return AddGroupIfIdentifying;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum AddGroupCommandField {GroupID(0),GroupName(1),;
                     private final int id;
@@ -785,9 +788,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class OnOff implements BaseCluster {
         public static final long ID = 6L;
+        public static final OnOff INSTANCE = new OnOff();
         public long getID() {
             return ID;
         }
@@ -813,12 +835,41 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return OnOff;
+                    case (int) 16384L:
+                        return GlobalSceneControl;
+                    case (int) 16385L:
+                        return OnTime;
+                    case (int) 16386L:
+                        return OffWaitTime;
+                    case (int) 16387L:
+                        return StartUpOnOff;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -833,12 +884,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -859,12 +919,33 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Off;
+                    case (int) 1L:
+                        return On;
+                    case (int) 2L:
+                        return Toggle;
+                    case (int) 64L:
+                        return OffWithEffect;
+                    case (int) 65L:
+                        return OnWithRecallGlobalScene;
+                    case (int) 66L:
+                        return OnWithTimedOff;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum OffWithEffectCommandField {EffectIdentifier(0),EffectVariant(1),;
                     private final int id;
@@ -929,9 +1010,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class LevelControl implements BaseCluster {
         public static final long ID = 8L;
+        public static final LevelControl INSTANCE = new LevelControl();
         public long getID() {
             return ID;
         }
@@ -966,12 +1066,59 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return CurrentLevel;
+                    case (int) 1L:
+                        return RemainingTime;
+                    case (int) 2L:
+                        return MinLevel;
+                    case (int) 3L:
+                        return MaxLevel;
+                    case (int) 4L:
+                        return CurrentFrequency;
+                    case (int) 5L:
+                        return MinFrequency;
+                    case (int) 6L:
+                        return MaxFrequency;
+                    case (int) 15L:
+                        return Options;
+                    case (int) 16L:
+                        return OnOffTransitionTime;
+                    case (int) 17L:
+                        return OnLevel;
+                    case (int) 18L:
+                        return OnTransitionTime;
+                    case (int) 19L:
+                        return OffTransitionTime;
+                    case (int) 20L:
+                        return DefaultMoveRate;
+                    case (int) 16384L:
+                        return StartUpCurrentLevel;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -986,12 +1133,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -1015,12 +1171,39 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MoveToLevel;
+                    case (int) 1L:
+                        return Move;
+                    case (int) 2L:
+                        return Step;
+                    case (int) 3L:
+                        return Stop;
+                    case (int) 4L:
+                        return MoveToLevelWithOnOff;
+                    case (int) 5L:
+                        return MoveWithOnOff;
+                    case (int) 6L:
+                        return StepWithOnOff;
+                    case (int) 7L:
+                        return StopWithOnOff;
+                    case (int) 8L:
+                        return MoveToClosestFrequency;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum MoveToLevelCommandField {Level(0),TransitionTime(1),OptionsMask(2),OptionsOverride(3),;
                     private final int id;
@@ -1204,9 +1387,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class PulseWidthModulation implements BaseCluster {
         public static final long ID = 28L;
+        public static final PulseWidthModulation INSTANCE = new PulseWidthModulation();
         public long getID() {
             return ID;
         }
@@ -1227,12 +1429,31 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -1247,12 +1468,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -1267,12 +1497,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -1303,9 +1542,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class Descriptor implements BaseCluster {
         public static final long ID = 29L;
+        public static final Descriptor INSTANCE = new Descriptor();
         public long getID() {
             return ID;
         }
@@ -1332,12 +1590,43 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return DeviceTypeList;
+                    case (int) 1L:
+                        return ServerList;
+                    case (int) 2L:
+                        return ClientList;
+                    case (int) 3L:
+                        return PartsList;
+                    case (int) 4L:
+                        return TagList;
+                    case (int) 5L:
+                        return EndpointUniqueID;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -1352,12 +1641,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -1372,12 +1670,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -1408,9 +1715,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class Binding implements BaseCluster {
         public static final long ID = 30L;
+        public static final Binding INSTANCE = new Binding();
         public long getID() {
             return ID;
         }
@@ -1432,12 +1758,33 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Binding;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -1452,12 +1799,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -1472,12 +1828,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -1508,9 +1873,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class AccessControl implements BaseCluster {
         public static final long ID = 31L;
+        public static final AccessControl INSTANCE = new AccessControl();
         public long getID() {
             return ID;
         }
@@ -1539,12 +1923,47 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Acl;
+                    case (int) 1L:
+                        return Extension;
+                    case (int) 2L:
+                        return SubjectsPerAccessControlEntry;
+                    case (int) 3L:
+                        return TargetsPerAccessControlEntry;
+                    case (int) 4L:
+                        return AccessControlEntriesPerFabric;
+                    case (int) 5L:
+                        return CommissioningARL;
+                    case (int) 6L:
+                        return Arl;
+                    case (int) 7L:
+                        return AuxiliaryACL;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -1563,12 +1982,29 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return AccessControlEntryChanged;
+                    case (int) 1L:
+                        return AccessControlExtensionChanged;
+                    case (int) 2L:
+                        return FabricRestrictionReviewUpdate;
+                    case (int) 3L:
+                        return AuxiliaryAccessUpdated;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -1584,12 +2020,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ReviewFabricRestrictions;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ReviewFabricRestrictionsCommandField {Arl(0),;
                     private final int id;
@@ -1637,9 +2084,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class Actions implements BaseCluster {
         public static final long ID = 37L;
+        public static final Actions INSTANCE = new Actions();
         public long getID() {
             return ID;
         }
@@ -1663,12 +2129,37 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ActionList;
+                    case (int) 1L:
+                        return EndpointLists;
+                    case (int) 2L:
+                        return SetupURL;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -1685,12 +2176,25 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return StateChanged;
+                    case (int) 1L:
+                        return ActionFailed;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -1717,12 +2221,45 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return InstantAction;
+                    case (int) 1L:
+                        return InstantActionWithTransition;
+                    case (int) 2L:
+                        return StartAction;
+                    case (int) 3L:
+                        return StartActionWithDuration;
+                    case (int) 4L:
+                        return StopAction;
+                    case (int) 5L:
+                        return PauseAction;
+                    case (int) 6L:
+                        return PauseActionWithDuration;
+                    case (int) 7L:
+                        return ResumeAction;
+                    case (int) 8L:
+                        return EnableAction;
+                    case (int) 9L:
+                        return EnableActionWithDuration;
+                    case (int) 10L:
+                        return DisableAction;
+                    case (int) 11L:
+                        return DisableActionWithDuration;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum InstantActionCommandField {ActionID(0),InvokeID(1),;
                     private final int id;
@@ -1957,9 +2494,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class BasicInformation implements BaseCluster {
         public static final long ID = 40L;
+        public static final BasicInformation INSTANCE = new BasicInformation();
         public long getID() {
             return ID;
         }
@@ -2004,12 +2560,79 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return DataModelRevision;
+                    case (int) 1L:
+                        return VendorName;
+                    case (int) 2L:
+                        return VendorID;
+                    case (int) 3L:
+                        return ProductName;
+                    case (int) 4L:
+                        return ProductID;
+                    case (int) 5L:
+                        return NodeLabel;
+                    case (int) 6L:
+                        return Location;
+                    case (int) 7L:
+                        return HardwareVersion;
+                    case (int) 8L:
+                        return HardwareVersionString;
+                    case (int) 9L:
+                        return SoftwareVersion;
+                    case (int) 10L:
+                        return SoftwareVersionString;
+                    case (int) 11L:
+                        return ManufacturingDate;
+                    case (int) 12L:
+                        return PartNumber;
+                    case (int) 13L:
+                        return ProductURL;
+                    case (int) 14L:
+                        return ProductLabel;
+                    case (int) 15L:
+                        return SerialNumber;
+                    case (int) 16L:
+                        return LocalConfigDisabled;
+                    case (int) 17L:
+                        return Reachable;
+                    case (int) 18L:
+                        return UniqueID;
+                    case (int) 19L:
+                        return CapabilityMinima;
+                    case (int) 20L:
+                        return ProductAppearance;
+                    case (int) 21L:
+                        return SpecificationVersion;
+                    case (int) 22L:
+                        return MaxPathsPerInvoke;
+                    case (int) 24L:
+                        return ConfigurationVersion;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2028,12 +2651,29 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return StartUp;
+                    case (int) 1L:
+                        return ShutDown;
+                    case (int) 2L:
+                        return Leave;
+                    case (int) 3L:
+                        return ReachableChanged;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2049,12 +2689,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MfgSpecificPing;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -2085,9 +2736,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class OtaSoftwareUpdateProvider implements BaseCluster {
         public static final long ID = 41L;
+        public static final OtaSoftwareUpdateProvider INSTANCE = new OtaSoftwareUpdateProvider();
         public long getID() {
             return ID;
         }
@@ -2108,12 +2778,31 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2128,12 +2817,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2151,12 +2849,27 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return QueryImage;
+                    case (int) 2L:
+                        return ApplyUpdateRequest;
+                    case (int) 4L:
+                        return NotifyUpdateApplied;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum QueryImageCommandField {VendorID(0),ProductID(1),SoftwareVersion(2),ProtocolsSupported(3),HardwareVersion(4),Location(5),RequestorCanConsent(6),MetadataForProvider(7),;
                     private final int id;
@@ -2238,9 +2951,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class OtaSoftwareUpdateRequestor implements BaseCluster {
         public static final long ID = 42L;
+        public static final OtaSoftwareUpdateRequestor INSTANCE = new OtaSoftwareUpdateRequestor();
         public long getID() {
             return ID;
         }
@@ -2265,12 +2997,39 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return DefaultOTAProviders;
+                    case (int) 1L:
+                        return UpdatePossible;
+                    case (int) 2L:
+                        return UpdateState;
+                    case (int) 3L:
+                        return UpdateStateProgress;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2288,12 +3047,27 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return StateTransition;
+                    case (int) 1L:
+                        return VersionApplied;
+                    case (int) 2L:
+                        return DownloadError;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2309,12 +3083,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return AnnounceOTAProvider;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum AnnounceOTAProviderCommandField {ProviderNodeID(0),VendorID(1),AnnouncementReason(2),MetadataForNode(3),Endpoint(4),;
                     private final int id;
@@ -2362,9 +3147,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class LocalizationConfiguration implements BaseCluster {
         public static final long ID = 43L;
+        public static final LocalizationConfiguration INSTANCE = new LocalizationConfiguration();
         public long getID() {
             return ID;
         }
@@ -2387,12 +3191,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ActiveLocale;
+                    case (int) 1L:
+                        return SupportedLocales;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2407,12 +3234,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2427,12 +3263,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -2463,9 +3308,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class TimeFormatLocalization implements BaseCluster {
         public static final long ID = 44L;
+        public static final TimeFormatLocalization INSTANCE = new TimeFormatLocalization();
         public long getID() {
             return ID;
         }
@@ -2489,12 +3353,37 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return HourFormat;
+                    case (int) 1L:
+                        return ActiveCalendarType;
+                    case (int) 2L:
+                        return SupportedCalendarTypes;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2509,12 +3398,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2529,12 +3427,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -2565,9 +3472,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class UnitLocalization implements BaseCluster {
         public static final long ID = 45L;
+        public static final UnitLocalization INSTANCE = new UnitLocalization();
         public long getID() {
             return ID;
         }
@@ -2590,12 +3516,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return TemperatureUnit;
+                    case (int) 1L:
+                        return SupportedTemperatureUnits;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2610,12 +3559,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2630,12 +3588,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -2666,9 +3633,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class PowerSourceConfiguration implements BaseCluster {
         public static final long ID = 46L;
+        public static final PowerSourceConfiguration INSTANCE = new PowerSourceConfiguration();
         public long getID() {
             return ID;
         }
@@ -2690,12 +3676,33 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Sources;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2710,12 +3717,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2730,12 +3746,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -2766,9 +3791,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class PowerSource implements BaseCluster {
         public static final long ID = 47L;
+        public static final PowerSource INSTANCE = new PowerSource();
         public long getID() {
             return ID;
         }
@@ -2821,12 +3865,95 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Status;
+                    case (int) 1L:
+                        return Order;
+                    case (int) 2L:
+                        return Description;
+                    case (int) 3L:
+                        return WiredAssessedInputVoltage;
+                    case (int) 4L:
+                        return WiredAssessedInputFrequency;
+                    case (int) 5L:
+                        return WiredCurrentType;
+                    case (int) 6L:
+                        return WiredAssessedCurrent;
+                    case (int) 7L:
+                        return WiredNominalVoltage;
+                    case (int) 8L:
+                        return WiredMaximumCurrent;
+                    case (int) 9L:
+                        return WiredPresent;
+                    case (int) 10L:
+                        return ActiveWiredFaults;
+                    case (int) 11L:
+                        return BatVoltage;
+                    case (int) 12L:
+                        return BatPercentRemaining;
+                    case (int) 13L:
+                        return BatTimeRemaining;
+                    case (int) 14L:
+                        return BatChargeLevel;
+                    case (int) 15L:
+                        return BatReplacementNeeded;
+                    case (int) 16L:
+                        return BatReplaceability;
+                    case (int) 17L:
+                        return BatPresent;
+                    case (int) 18L:
+                        return ActiveBatFaults;
+                    case (int) 19L:
+                        return BatReplacementDescription;
+                    case (int) 20L:
+                        return BatCommonDesignation;
+                    case (int) 21L:
+                        return BatANSIDesignation;
+                    case (int) 22L:
+                        return BatIECDesignation;
+                    case (int) 23L:
+                        return BatApprovedChemistry;
+                    case (int) 24L:
+                        return BatCapacity;
+                    case (int) 25L:
+                        return BatQuantity;
+                    case (int) 26L:
+                        return BatChargeState;
+                    case (int) 27L:
+                        return BatTimeToFullCharge;
+                    case (int) 28L:
+                        return BatFunctionalWhileCharging;
+                    case (int) 29L:
+                        return BatChargingCurrent;
+                    case (int) 30L:
+                        return ActiveBatChargeFaults;
+                    case (int) 31L:
+                        return EndpointList;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2844,12 +3971,27 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return WiredFaultChange;
+                    case (int) 1L:
+                        return BatFaultChange;
+                    case (int) 2L:
+                        return BatChargeFaultChange;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2864,12 +4006,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -2900,9 +4051,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class GeneralCommissioning implements BaseCluster {
         public static final long ID = 48L;
+        public static final GeneralCommissioning INSTANCE = new GeneralCommissioning();
         public long getID() {
             return ID;
         }
@@ -2936,12 +4106,57 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Breadcrumb;
+                    case (int) 1L:
+                        return BasicCommissioningInfo;
+                    case (int) 2L:
+                        return RegulatoryConfig;
+                    case (int) 3L:
+                        return LocationCapability;
+                    case (int) 4L:
+                        return SupportsConcurrentConnection;
+                    case (int) 5L:
+                        return TCAcceptedVersion;
+                    case (int) 6L:
+                        return TCMinRequiredVersion;
+                    case (int) 7L:
+                        return TCAcknowledgements;
+                    case (int) 8L:
+                        return TCAcknowledgementsRequired;
+                    case (int) 9L:
+                        return TCUpdateDeadline;
+                    case (int) 10L:
+                        return RecoveryIdentifier;
+                    case (int) 11L:
+                        return NetworkRecoveryReason;
+                    case (int) 12L:
+                        return IsCommissioningWithoutPower;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2956,12 +4171,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -2980,12 +4204,29 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ArmFailSafe;
+                    case (int) 2L:
+                        return SetRegulatoryConfig;
+                    case (int) 4L:
+                        return CommissioningComplete;
+                    case (int) 6L:
+                        return SetTCAcknowledgements;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ArmFailSafeCommandField {ExpiryLengthSeconds(0),Breadcrumb(1),;
                     private final int id;
@@ -3067,9 +4308,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class NetworkCommissioning implements BaseCluster {
         public static final long ID = 49L;
+        public static final NetworkCommissioning INSTANCE = new NetworkCommissioning();
         public long getID() {
             return ID;
         }
@@ -3101,12 +4361,53 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MaxNetworks;
+                    case (int) 1L:
+                        return Networks;
+                    case (int) 2L:
+                        return ScanMaxTimeSeconds;
+                    case (int) 3L:
+                        return ConnectMaxTimeSeconds;
+                    case (int) 4L:
+                        return InterfaceEnabled;
+                    case (int) 5L:
+                        return LastNetworkingStatus;
+                    case (int) 6L:
+                        return LastNetworkID;
+                    case (int) 7L:
+                        return LastConnectErrorValue;
+                    case (int) 8L:
+                        return SupportedWiFiBands;
+                    case (int) 9L:
+                        return SupportedThreadFeatures;
+                    case (int) 10L:
+                        return ThreadVersion;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -3121,12 +4422,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -3148,12 +4458,35 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ScanNetworks;
+                    case (int) 2L:
+                        return AddOrUpdateWiFiNetwork;
+                    case (int) 3L:
+                        return AddOrUpdateThreadNetwork;
+                    case (int) 4L:
+                        return RemoveNetwork;
+                    case (int) 6L:
+                        return ConnectNetwork;
+                    case (int) 8L:
+                        return ReorderNetwork;
+                    case (int) 9L:
+                        return QueryIdentity;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ScanNetworksCommandField {Ssid(0),Breadcrumb(1),;
                     private final int id;
@@ -3303,9 +4636,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class DiagnosticLogs implements BaseCluster {
         public static final long ID = 50L;
+        public static final DiagnosticLogs INSTANCE = new DiagnosticLogs();
         public long getID() {
             return ID;
         }
@@ -3326,12 +4678,31 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -3346,12 +4717,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -3367,12 +4747,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return RetrieveLogsRequest;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum RetrieveLogsRequestCommandField {Intent(0),RequestedProtocol(1),TransferFileDesignator(2),;
                     private final int id;
@@ -3420,9 +4811,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class GeneralDiagnostics implements BaseCluster {
         public static final long ID = 51L;
+        public static final GeneralDiagnostics INSTANCE = new GeneralDiagnostics();
         public long getID() {
             return ID;
         }
@@ -3453,12 +4863,51 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return NetworkInterfaces;
+                    case (int) 1L:
+                        return RebootCount;
+                    case (int) 2L:
+                        return UpTime;
+                    case (int) 3L:
+                        return TotalOperationalHours;
+                    case (int) 4L:
+                        return BootReason;
+                    case (int) 5L:
+                        return ActiveHardwareFaults;
+                    case (int) 6L:
+                        return ActiveRadioFaults;
+                    case (int) 7L:
+                        return ActiveNetworkFaults;
+                    case (int) 8L:
+                        return TestEventTriggersEnabled;
+                    case (int) 10L:
+                        return DeviceLoadStatus;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -3477,12 +4926,29 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return HardwareFaultChange;
+                    case (int) 1L:
+                        return RadioFaultChange;
+                    case (int) 2L:
+                        return NetworkFaultChange;
+                    case (int) 3L:
+                        return BootReason;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -3500,12 +4966,27 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return TestEventTrigger;
+                    case (int) 1L:
+                        return TimeSnapshot;
+                    case (int) 3L:
+                        return PayloadTestRequest;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum TestEventTriggerCommandField {EnableKey(0),EventTrigger(1),;
                     private final int id;
@@ -3570,9 +5051,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class SoftwareDiagnostics implements BaseCluster {
         public static final long ID = 52L;
+        public static final SoftwareDiagnostics INSTANCE = new SoftwareDiagnostics();
         public long getID() {
             return ID;
         }
@@ -3597,12 +5097,39 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ThreadMetrics;
+                    case (int) 1L:
+                        return CurrentHeapFree;
+                    case (int) 2L:
+                        return CurrentHeapUsed;
+                    case (int) 3L:
+                        return CurrentHeapHighWatermark;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -3618,12 +5145,23 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SoftwareFault;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -3639,12 +5177,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ResetWatermarks;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -3675,9 +5224,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ThreadNetworkDiagnostics implements BaseCluster {
         public static final long ID = 53L;
+        public static final ThreadNetworkDiagnostics INSTANCE = new ThreadNetworkDiagnostics();
         public long getID() {
             return ID;
         }
@@ -3763,12 +5331,161 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Channel;
+                    case (int) 1L:
+                        return RoutingRole;
+                    case (int) 2L:
+                        return NetworkName;
+                    case (int) 3L:
+                        return PanId;
+                    case (int) 4L:
+                        return ExtendedPanId;
+                    case (int) 5L:
+                        return MeshLocalPrefix;
+                    case (int) 6L:
+                        return OverrunCount;
+                    case (int) 7L:
+                        return NeighborTable;
+                    case (int) 8L:
+                        return RouteTable;
+                    case (int) 9L:
+                        return PartitionId;
+                    case (int) 10L:
+                        return Weighting;
+                    case (int) 11L:
+                        return DataVersion;
+                    case (int) 12L:
+                        return StableDataVersion;
+                    case (int) 13L:
+                        return LeaderRouterId;
+                    case (int) 14L:
+                        return DetachedRoleCount;
+                    case (int) 15L:
+                        return ChildRoleCount;
+                    case (int) 16L:
+                        return RouterRoleCount;
+                    case (int) 17L:
+                        return LeaderRoleCount;
+                    case (int) 18L:
+                        return AttachAttemptCount;
+                    case (int) 19L:
+                        return PartitionIdChangeCount;
+                    case (int) 20L:
+                        return BetterPartitionAttachAttemptCount;
+                    case (int) 21L:
+                        return ParentChangeCount;
+                    case (int) 22L:
+                        return TxTotalCount;
+                    case (int) 23L:
+                        return TxUnicastCount;
+                    case (int) 24L:
+                        return TxBroadcastCount;
+                    case (int) 25L:
+                        return TxAckRequestedCount;
+                    case (int) 26L:
+                        return TxAckedCount;
+                    case (int) 27L:
+                        return TxNoAckRequestedCount;
+                    case (int) 28L:
+                        return TxDataCount;
+                    case (int) 29L:
+                        return TxDataPollCount;
+                    case (int) 30L:
+                        return TxBeaconCount;
+                    case (int) 31L:
+                        return TxBeaconRequestCount;
+                    case (int) 32L:
+                        return TxOtherCount;
+                    case (int) 33L:
+                        return TxRetryCount;
+                    case (int) 34L:
+                        return TxDirectMaxRetryExpiryCount;
+                    case (int) 35L:
+                        return TxIndirectMaxRetryExpiryCount;
+                    case (int) 36L:
+                        return TxErrCcaCount;
+                    case (int) 37L:
+                        return TxErrAbortCount;
+                    case (int) 38L:
+                        return TxErrBusyChannelCount;
+                    case (int) 39L:
+                        return RxTotalCount;
+                    case (int) 40L:
+                        return RxUnicastCount;
+                    case (int) 41L:
+                        return RxBroadcastCount;
+                    case (int) 42L:
+                        return RxDataCount;
+                    case (int) 43L:
+                        return RxDataPollCount;
+                    case (int) 44L:
+                        return RxBeaconCount;
+                    case (int) 45L:
+                        return RxBeaconRequestCount;
+                    case (int) 46L:
+                        return RxOtherCount;
+                    case (int) 47L:
+                        return RxAddressFilteredCount;
+                    case (int) 48L:
+                        return RxDestAddrFilteredCount;
+                    case (int) 49L:
+                        return RxDuplicatedCount;
+                    case (int) 50L:
+                        return RxErrNoFrameCount;
+                    case (int) 51L:
+                        return RxErrUnknownNeighborCount;
+                    case (int) 52L:
+                        return RxErrInvalidSrcAddrCount;
+                    case (int) 53L:
+                        return RxErrSecCount;
+                    case (int) 54L:
+                        return RxErrFcsCount;
+                    case (int) 55L:
+                        return RxErrOtherCount;
+                    case (int) 56L:
+                        return ActiveTimestamp;
+                    case (int) 57L:
+                        return PendingTimestamp;
+                    case (int) 58L:
+                        return Delay;
+                    case (int) 59L:
+                        return SecurityPolicy;
+                    case (int) 60L:
+                        return ChannelPage0Mask;
+                    case (int) 61L:
+                        return OperationalDatasetComponents;
+                    case (int) 62L:
+                        return ActiveNetworkFaultsList;
+                    case (int) 63L:
+                        return ExtAddress;
+                    case (int) 64L:
+                        return Rloc16;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -3785,12 +5502,25 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ConnectionStatus;
+                    case (int) 1L:
+                        return NetworkFaultChange;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -3806,12 +5536,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ResetCounts;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -3842,9 +5583,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class WiFiNetworkDiagnostics implements BaseCluster {
         public static final long ID = 54L;
+        public static final WiFiNetworkDiagnostics INSTANCE = new WiFiNetworkDiagnostics();
         public long getID() {
             return ID;
         }
@@ -3878,12 +5638,57 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Bssid;
+                    case (int) 1L:
+                        return SecurityType;
+                    case (int) 2L:
+                        return WiFiVersion;
+                    case (int) 3L:
+                        return ChannelNumber;
+                    case (int) 4L:
+                        return Rssi;
+                    case (int) 5L:
+                        return BeaconLostCount;
+                    case (int) 6L:
+                        return BeaconRxCount;
+                    case (int) 7L:
+                        return PacketMulticastRxCount;
+                    case (int) 8L:
+                        return PacketMulticastTxCount;
+                    case (int) 9L:
+                        return PacketUnicastRxCount;
+                    case (int) 10L:
+                        return PacketUnicastTxCount;
+                    case (int) 11L:
+                        return CurrentMaxRate;
+                    case (int) 12L:
+                        return OverrunCount;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -3901,12 +5706,27 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Disconnection;
+                    case (int) 1L:
+                        return AssociationFailure;
+                    case (int) 2L:
+                        return ConnectionStatus;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -3922,12 +5742,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ResetCounts;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -3958,9 +5789,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class EthernetNetworkDiagnostics implements BaseCluster {
         public static final long ID = 55L;
+        public static final EthernetNetworkDiagnostics INSTANCE = new EthernetNetworkDiagnostics();
         public long getID() {
             return ID;
         }
@@ -3990,12 +5840,49 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return PHYRate;
+                    case (int) 1L:
+                        return FullDuplex;
+                    case (int) 2L:
+                        return PacketRxCount;
+                    case (int) 3L:
+                        return PacketTxCount;
+                    case (int) 4L:
+                        return TxErrCount;
+                    case (int) 5L:
+                        return CollisionCount;
+                    case (int) 6L:
+                        return OverrunCount;
+                    case (int) 7L:
+                        return CarrierDetect;
+                    case (int) 8L:
+                        return TimeSinceReset;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -4010,12 +5897,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -4031,12 +5927,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ResetCounts;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -4054,22 +5961,41 @@ public class ClusterIDMapping {
         }
 
         @Override
-        public long getAttributeID(String name) throws IllegalArgumentException {
-            return Attribute.valueOf(name).getID();
+        public long getAttributeID(String name) throws IllegalArgumentException {
+            return Attribute.valueOf(name).getID();
+        }
+
+        @Override
+        public long getEventID(String name) throws IllegalArgumentException {
+            return Event.valueOf(name).getID();
+        }
+
+        @Override
+        public long getCommandID(String name) throws IllegalArgumentException {
+            return Command.valueOf(name).getID();
+        }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
         }
 
         @Override
-        public long getEventID(String name) throws IllegalArgumentException {
-            return Event.valueOf(name).getID();
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
         }
 
         @Override
-        public long getCommandID(String name) throws IllegalArgumentException {
-            return Command.valueOf(name).getID();
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
         }
     }
     public static class TimeSynchronization implements BaseCluster {
         public static final long ID = 56L;
+        public static final TimeSynchronization INSTANCE = new TimeSynchronization();
         public long getID() {
             return ID;
         }
@@ -4103,12 +6029,57 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return UTCTime;
+                    case (int) 1L:
+                        return Granularity;
+                    case (int) 2L:
+                        return TimeSource;
+                    case (int) 3L:
+                        return TrustedTimeSource;
+                    case (int) 4L:
+                        return DefaultNTP;
+                    case (int) 5L:
+                        return TimeZone;
+                    case (int) 6L:
+                        return DSTOffset;
+                    case (int) 7L:
+                        return LocalTime;
+                    case (int) 8L:
+                        return TimeZoneDatabase;
+                    case (int) 9L:
+                        return NTPServerAvailable;
+                    case (int) 10L:
+                        return TimeZoneListMaxSize;
+                    case (int) 11L:
+                        return DSTOffsetListMaxSize;
+                    case (int) 12L:
+                        return SupportsDNSResolve;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -4128,12 +6099,31 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return DSTTableEmpty;
+                    case (int) 1L:
+                        return DSTStatus;
+                    case (int) 2L:
+                        return TimeZoneStatus;
+                    case (int) 3L:
+                        return TimeFailure;
+                    case (int) 4L:
+                        return MissingTrustedTimeSource;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -4153,12 +6143,31 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SetUTCTime;
+                    case (int) 1L:
+                        return SetTrustedTimeSource;
+                    case (int) 2L:
+                        return SetTimeZone;
+                    case (int) 4L:
+                        return SetDSTOffset;
+                    case (int) 5L:
+                        return SetDefaultNTP;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum SetUTCTimeCommandField {UTCTime(0),Granularity(1),TimeSource(2),;
                     private final int id;
@@ -4274,9 +6283,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class BridgedDeviceBasicInformation implements BaseCluster {
         public static final long ID = 57L;
+        public static final BridgedDeviceBasicInformation INSTANCE = new BridgedDeviceBasicInformation();
         public long getID() {
             return ID;
         }
@@ -4315,12 +6343,67 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 1L:
+                        return VendorName;
+                    case (int) 2L:
+                        return VendorID;
+                    case (int) 3L:
+                        return ProductName;
+                    case (int) 4L:
+                        return ProductID;
+                    case (int) 5L:
+                        return NodeLabel;
+                    case (int) 7L:
+                        return HardwareVersion;
+                    case (int) 8L:
+                        return HardwareVersionString;
+                    case (int) 9L:
+                        return SoftwareVersion;
+                    case (int) 10L:
+                        return SoftwareVersionString;
+                    case (int) 11L:
+                        return ManufacturingDate;
+                    case (int) 12L:
+                        return PartNumber;
+                    case (int) 13L:
+                        return ProductURL;
+                    case (int) 14L:
+                        return ProductLabel;
+                    case (int) 15L:
+                        return SerialNumber;
+                    case (int) 17L:
+                        return Reachable;
+                    case (int) 18L:
+                        return UniqueID;
+                    case (int) 20L:
+                        return ProductAppearance;
+                    case (int) 24L:
+                        return ConfigurationVersion;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -4340,12 +6423,31 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return StartUp;
+                    case (int) 1L:
+                        return ShutDown;
+                    case (int) 2L:
+                        return Leave;
+                    case (int) 3L:
+                        return ReachableChanged;
+                    case (int) 128L:
+                        return ActiveChanged;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -4361,12 +6463,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 128L:
+                        return KeepActive;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum KeepActiveCommandField {StayActiveDuration(0),TimeoutMs(1),;
                     private final int id;
@@ -4414,9 +6527,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class Switch implements BaseCluster {
         public static final long ID = 59L;
+        public static final Switch INSTANCE = new Switch();
         public long getID() {
             return ID;
         }
@@ -4440,12 +6572,37 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return NumberOfPositions;
+                    case (int) 1L:
+                        return CurrentPosition;
+                    case (int) 2L:
+                        return MultiPressMax;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -4467,12 +6624,35 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SwitchLatched;
+                    case (int) 1L:
+                        return InitialPress;
+                    case (int) 2L:
+                        return LongPress;
+                    case (int) 3L:
+                        return ShortRelease;
+                    case (int) 4L:
+                        return LongRelease;
+                    case (int) 5L:
+                        return MultiPressOngoing;
+                    case (int) 6L:
+                        return MultiPressComplete;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -4487,12 +6667,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -4523,9 +6712,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class AdministratorCommissioning implements BaseCluster {
         public static final long ID = 60L;
+        public static final AdministratorCommissioning INSTANCE = new AdministratorCommissioning();
         public long getID() {
             return ID;
         }
@@ -4549,12 +6757,37 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return WindowStatus;
+                    case (int) 1L:
+                        return AdminFabricIndex;
+                    case (int) 2L:
+                        return AdminVendorId;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -4569,12 +6802,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -4592,12 +6834,27 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return OpenCommissioningWindow;
+                    case (int) 1L:
+                        return OpenBasicCommissioningWindow;
+                    case (int) 2L:
+                        return RevokeCommissioning;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum OpenCommissioningWindowCommandField {CommissioningTimeout(0),PAKEPasscodeVerifier(1),Discriminator(2),Iterations(3),Salt(4),;
                     private final int id;
@@ -4662,9 +6919,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class OperationalCredentials implements BaseCluster {
         public static final long ID = 62L;
+        public static final OperationalCredentials INSTANCE = new OperationalCredentials();
         public long getID() {
             return ID;
         }
@@ -4691,12 +6967,43 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return NOCs;
+                    case (int) 1L:
+                        return Fabrics;
+                    case (int) 2L:
+                        return SupportedFabrics;
+                    case (int) 3L:
+                        return CommissionedFabrics;
+                    case (int) 4L:
+                        return TrustedRootCertificates;
+                    case (int) 5L:
+                        return CurrentFabricIndex;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -4711,12 +7018,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -4741,12 +7057,41 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return AttestationRequest;
+                    case (int) 2L:
+                        return CertificateChainRequest;
+                    case (int) 4L:
+                        return CSRRequest;
+                    case (int) 6L:
+                        return AddNOC;
+                    case (int) 7L:
+                        return UpdateNOC;
+                    case (int) 9L:
+                        return UpdateFabricLabel;
+                    case (int) 10L:
+                        return RemoveFabric;
+                    case (int) 11L:
+                        return AddTrustedRootCertificate;
+                    case (int) 12L:
+                        return SetVIDVerificationStatement;
+                    case (int) 13L:
+                        return SignVIDVerificationRequest;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum AttestationRequestCommandField {AttestationNonce(0),;
                     private final int id;
@@ -4947,9 +7292,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class GroupKeyManagement implements BaseCluster {
         public static final long ID = 63L;
+        public static final GroupKeyManagement INSTANCE = new GroupKeyManagement();
         public long getID() {
             return ID;
         }
@@ -4974,12 +7338,39 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return GroupKeyMap;
+                    case (int) 1L:
+                        return GroupTable;
+                    case (int) 2L:
+                        return MaxGroupsPerFabric;
+                    case (int) 3L:
+                        return MaxGroupKeysPerFabric;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -4994,12 +7385,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -5018,12 +7418,29 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return KeySetWrite;
+                    case (int) 1L:
+                        return KeySetRead;
+                    case (int) 3L:
+                        return KeySetRemove;
+                    case (int) 4L:
+                        return KeySetReadAllIndices;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum KeySetWriteCommandField {GroupKeySet(0),;
                     private final int id;
@@ -5105,9 +7522,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class FixedLabel implements BaseCluster {
         public static final long ID = 64L;
+        public static final FixedLabel INSTANCE = new FixedLabel();
         public long getID() {
             return ID;
         }
@@ -5129,12 +7565,33 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return LabelList;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -5149,12 +7606,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -5169,12 +7635,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -5205,9 +7680,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class UserLabel implements BaseCluster {
         public static final long ID = 65L;
+        public static final UserLabel INSTANCE = new UserLabel();
         public long getID() {
             return ID;
         }
@@ -5229,12 +7723,33 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return LabelList;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -5249,12 +7764,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -5269,12 +7793,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -5305,9 +7838,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ProxyConfiguration implements BaseCluster {
         public static final long ID = 66L;
+        public static final ProxyConfiguration INSTANCE = new ProxyConfiguration();
         public long getID() {
             return ID;
         }
@@ -5328,12 +7880,31 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -5348,12 +7919,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -5368,12 +7948,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -5404,9 +7993,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ProxyDiscovery implements BaseCluster {
         public static final long ID = 67L;
+        public static final ProxyDiscovery INSTANCE = new ProxyDiscovery();
         public long getID() {
             return ID;
         }
@@ -5427,12 +8035,31 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -5447,12 +8074,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -5467,12 +8103,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -5503,9 +8148,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ProxyValid implements BaseCluster {
         public static final long ID = 68L;
+        public static final ProxyValid INSTANCE = new ProxyValid();
         public long getID() {
             return ID;
         }
@@ -5526,12 +8190,31 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -5546,12 +8229,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -5566,12 +8258,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -5594,17 +8295,36 @@ public class ClusterIDMapping {
         }
 
         @Override
-        public long getEventID(String name) throws IllegalArgumentException {
-            return Event.valueOf(name).getID();
+        public long getEventID(String name) throws IllegalArgumentException {
+            return Event.valueOf(name).getID();
+        }
+
+        @Override
+        public long getCommandID(String name) throws IllegalArgumentException {
+            return Command.valueOf(name).getID();
+        }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
         }
 
         @Override
-        public long getCommandID(String name) throws IllegalArgumentException {
-            return Command.valueOf(name).getID();
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
         }
     }
     public static class BooleanState implements BaseCluster {
         public static final long ID = 69L;
+        public static final BooleanState INSTANCE = new BooleanState();
         public long getID() {
             return ID;
         }
@@ -5626,12 +8346,33 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return StateValue;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -5647,12 +8388,23 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return StateChange;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -5667,12 +8419,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -5703,9 +8464,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class IcdManagement implements BaseCluster {
         public static final long ID = 70L;
+        public static final IcdManagement INSTANCE = new IcdManagement();
         public long getID() {
             return ID;
         }
@@ -5736,12 +8516,51 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return IdleModeDuration;
+                    case (int) 1L:
+                        return ActiveModeDuration;
+                    case (int) 2L:
+                        return ActiveModeThreshold;
+                    case (int) 3L:
+                        return RegisteredClients;
+                    case (int) 4L:
+                        return ICDCounter;
+                    case (int) 5L:
+                        return ClientsSupportedPerFabric;
+                    case (int) 6L:
+                        return UserActiveModeTriggerHint;
+                    case (int) 7L:
+                        return UserActiveModeTriggerInstruction;
+                    case (int) 8L:
+                        return OperatingMode;
+                    case (int) 9L:
+                        return MaximumCheckInBackOff;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -5756,12 +8575,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -5779,12 +8607,27 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return RegisterClient;
+                    case (int) 2L:
+                        return UnregisterClient;
+                    case (int) 3L:
+                        return StayActiveRequest;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum RegisterClientCommandField {CheckInNodeID(0),MonitoredSubject(1),Key(2),VerificationKey(3),ClientType(4),;
                     private final int id;
@@ -5866,9 +8709,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class Timer implements BaseCluster {
         public static final long ID = 71L;
+        public static final Timer INSTANCE = new Timer();
         public long getID() {
             return ID;
         }
@@ -5892,12 +8754,37 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SetTime;
+                    case (int) 1L:
+                        return TimeRemaining;
+                    case (int) 2L:
+                        return TimerState;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -5912,12 +8799,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -5936,12 +8832,29 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SetTimer;
+                    case (int) 1L:
+                        return ResetTimer;
+                    case (int) 2L:
+                        return AddTime;
+                    case (int) 3L:
+                        return ReduceTime;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum SetTimerCommandField {NewTime(0),;
                     private final int id;
@@ -6023,9 +8936,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class OvenCavityOperationalState implements BaseCluster {
         public static final long ID = 72L;
+        public static final OvenCavityOperationalState INSTANCE = new OvenCavityOperationalState();
         public long getID() {
             return ID;
         }
@@ -6052,12 +8984,43 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return PhaseList;
+                    case (int) 1L:
+                        return CurrentPhase;
+                    case (int) 2L:
+                        return CountdownTime;
+                    case (int) 3L:
+                        return OperationalStateList;
+                    case (int) 4L:
+                        return OperationalState;
+                    case (int) 5L:
+                        return OperationalError;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -6074,12 +9037,25 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return OperationalError;
+                    case (int) 1L:
+                        return OperationCompletion;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -6096,12 +9072,25 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 1L:
+                        return Stop;
+                    case (int) 2L:
+                        return Start;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -6132,9 +9121,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class OvenMode implements BaseCluster {
         public static final long ID = 73L;
+        public static final OvenMode INSTANCE = new OvenMode();
         public long getID() {
             return ID;
         }
@@ -6157,12 +9165,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SupportedModes;
+                    case (int) 1L:
+                        return CurrentMode;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -6177,12 +9208,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -6198,12 +9238,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ChangeToMode;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ChangeToModeCommandField {NewMode(0),;
                     private final int id;
@@ -6251,9 +9302,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class LaundryDryerControls implements BaseCluster {
         public static final long ID = 74L;
+        public static final LaundryDryerControls INSTANCE = new LaundryDryerControls();
         public long getID() {
             return ID;
         }
@@ -6276,12 +9346,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SupportedDrynessLevels;
+                    case (int) 1L:
+                        return SelectedDrynessLevel;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -6296,12 +9389,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -6316,12 +9418,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -6352,9 +9463,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ModeSelect implements BaseCluster {
         public static final long ID = 80L;
+        public static final ModeSelect INSTANCE = new ModeSelect();
         public long getID() {
             return ID;
         }
@@ -6381,12 +9511,43 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Description;
+                    case (int) 1L:
+                        return StandardNamespace;
+                    case (int) 2L:
+                        return SupportedModes;
+                    case (int) 3L:
+                        return CurrentMode;
+                    case (int) 4L:
+                        return StartUpMode;
+                    case (int) 5L:
+                        return OnMode;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -6401,12 +9562,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -6422,12 +9592,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ChangeToMode;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ChangeToModeCommandField {NewMode(0),;
                     private final int id;
@@ -6475,9 +9656,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class LaundryWasherMode implements BaseCluster {
         public static final long ID = 81L;
+        public static final LaundryWasherMode INSTANCE = new LaundryWasherMode();
         public long getID() {
             return ID;
         }
@@ -6500,12 +9700,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SupportedModes;
+                    case (int) 1L:
+                        return CurrentMode;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -6520,12 +9743,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -6541,12 +9773,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ChangeToMode;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ChangeToModeCommandField {NewMode(0),;
                     private final int id;
@@ -6594,9 +9837,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class RefrigeratorAndTemperatureControlledCabinetMode implements BaseCluster {
         public static final long ID = 82L;
+        public static final RefrigeratorAndTemperatureControlledCabinetMode INSTANCE = new RefrigeratorAndTemperatureControlledCabinetMode();
         public long getID() {
             return ID;
         }
@@ -6619,12 +9881,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SupportedModes;
+                    case (int) 1L:
+                        return CurrentMode;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -6639,12 +9924,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -6660,12 +9954,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ChangeToMode;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ChangeToModeCommandField {NewMode(0),;
                     private final int id;
@@ -6713,9 +10018,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class LaundryWasherControls implements BaseCluster {
         public static final long ID = 83L;
+        public static final LaundryWasherControls INSTANCE = new LaundryWasherControls();
         public long getID() {
             return ID;
         }
@@ -6740,12 +10064,39 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SpinSpeeds;
+                    case (int) 1L:
+                        return SpinSpeedCurrent;
+                    case (int) 2L:
+                        return NumberOfRinses;
+                    case (int) 3L:
+                        return SupportedRinses;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -6760,12 +10111,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -6780,12 +10140,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -6816,9 +10185,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class RvcRunMode implements BaseCluster {
         public static final long ID = 84L;
+        public static final RvcRunMode INSTANCE = new RvcRunMode();
         public long getID() {
             return ID;
         }
@@ -6841,12 +10229,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SupportedModes;
+                    case (int) 1L:
+                        return CurrentMode;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -6861,12 +10272,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -6882,12 +10302,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ChangeToMode;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ChangeToModeCommandField {NewMode(0),;
                     private final int id;
@@ -6935,9 +10366,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class RvcCleanMode implements BaseCluster {
         public static final long ID = 85L;
+        public static final RvcCleanMode INSTANCE = new RvcCleanMode();
         public long getID() {
             return ID;
         }
@@ -6960,12 +10410,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SupportedModes;
+                    case (int) 1L:
+                        return CurrentMode;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -6980,12 +10453,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -7001,12 +10483,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ChangeToMode;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ChangeToModeCommandField {NewMode(0),;
                     private final int id;
@@ -7054,9 +10547,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class TemperatureControl implements BaseCluster {
         public static final long ID = 86L;
+        public static final TemperatureControl INSTANCE = new TemperatureControl();
         public long getID() {
             return ID;
         }
@@ -7083,12 +10595,43 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return TemperatureSetpoint;
+                    case (int) 1L:
+                        return MinTemperature;
+                    case (int) 2L:
+                        return MaxTemperature;
+                    case (int) 3L:
+                        return Step;
+                    case (int) 4L:
+                        return SelectedTemperatureLevel;
+                    case (int) 5L:
+                        return SupportedTemperatureLevels;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -7103,12 +10646,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -7124,12 +10676,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SetTemperature;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum SetTemperatureCommandField {TargetTemperature(0),TargetTemperatureLevel(1),;
                     private final int id;
@@ -7177,9 +10740,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class RefrigeratorAlarm implements BaseCluster {
         public static final long ID = 87L;
+        public static final RefrigeratorAlarm INSTANCE = new RefrigeratorAlarm();
         public long getID() {
             return ID;
         }
@@ -7203,12 +10785,37 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Mask;
+                    case (int) 2L:
+                        return State;
+                    case (int) 3L:
+                        return Supported;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -7224,12 +10831,23 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Notify;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -7244,12 +10862,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -7280,9 +10907,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class DishwasherMode implements BaseCluster {
         public static final long ID = 89L;
+        public static final DishwasherMode INSTANCE = new DishwasherMode();
         public long getID() {
             return ID;
         }
@@ -7305,12 +10951,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SupportedModes;
+                    case (int) 1L:
+                        return CurrentMode;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -7325,12 +10994,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -7346,12 +11024,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ChangeToMode;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ChangeToModeCommandField {NewMode(0),;
                     private final int id;
@@ -7399,9 +11088,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class AirQuality implements BaseCluster {
         public static final long ID = 91L;
+        public static final AirQuality INSTANCE = new AirQuality();
         public long getID() {
             return ID;
         }
@@ -7423,12 +11131,33 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return AirQuality;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -7443,12 +11172,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -7463,12 +11201,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -7499,9 +11246,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class SmokeCoAlarm implements BaseCluster {
         public static final long ID = 92L;
+        public static final SmokeCoAlarm INSTANCE = new SmokeCoAlarm();
         public long getID() {
             return ID;
         }
@@ -7535,12 +11301,57 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ExpressedState;
+                    case (int) 1L:
+                        return SmokeState;
+                    case (int) 2L:
+                        return COState;
+                    case (int) 3L:
+                        return BatteryAlert;
+                    case (int) 4L:
+                        return DeviceMuted;
+                    case (int) 5L:
+                        return TestInProgress;
+                    case (int) 6L:
+                        return HardwareFaultAlert;
+                    case (int) 7L:
+                        return EndOfServiceAlert;
+                    case (int) 8L:
+                        return InterconnectSmokeAlarm;
+                    case (int) 9L:
+                        return InterconnectCOAlarm;
+                    case (int) 10L:
+                        return ContaminationState;
+                    case (int) 11L:
+                        return SmokeSensitivityLevel;
+                    case (int) 12L:
+                        return ExpiryDate;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -7566,12 +11377,43 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SmokeAlarm;
+                    case (int) 1L:
+                        return COAlarm;
+                    case (int) 2L:
+                        return LowBattery;
+                    case (int) 3L:
+                        return HardwareFault;
+                    case (int) 4L:
+                        return EndOfService;
+                    case (int) 5L:
+                        return SelfTestComplete;
+                    case (int) 6L:
+                        return AlarmMuted;
+                    case (int) 7L:
+                        return MuteEnded;
+                    case (int) 8L:
+                        return InterconnectSmokeAlarm;
+                    case (int) 9L:
+                        return InterconnectCOAlarm;
+                    case (int) 10L:
+                        return AllClear;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -7587,12 +11429,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SelfTestRequest;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -7623,9 +11476,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class DishwasherAlarm implements BaseCluster {
         public static final long ID = 93L;
+        public static final DishwasherAlarm INSTANCE = new DishwasherAlarm();
         public long getID() {
             return ID;
         }
@@ -7650,12 +11522,39 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Mask;
+                    case (int) 1L:
+                        return Latch;
+                    case (int) 2L:
+                        return State;
+                    case (int) 3L:
+                        return Supported;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -7671,12 +11570,23 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Notify;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -7693,12 +11603,25 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Reset;
+                    case (int) 1L:
+                        return ModifyEnabledAlarms;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ResetCommandField {Alarms(0),;
                     private final int id;
@@ -7763,9 +11686,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class MicrowaveOvenMode implements BaseCluster {
         public static final long ID = 94L;
+        public static final MicrowaveOvenMode INSTANCE = new MicrowaveOvenMode();
         public long getID() {
             return ID;
         }
@@ -7788,12 +11730,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SupportedModes;
+                    case (int) 1L:
+                        return CurrentMode;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -7808,12 +11773,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -7828,12 +11802,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -7864,9 +11847,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class MicrowaveOvenControl implements BaseCluster {
         public static final long ID = 95L;
+        public static final MicrowaveOvenControl INSTANCE = new MicrowaveOvenControl();
         public long getID() {
             return ID;
         }
@@ -7896,12 +11898,49 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return CookTime;
+                    case (int) 1L:
+                        return MaxCookTime;
+                    case (int) 2L:
+                        return PowerSetting;
+                    case (int) 3L:
+                        return MinPower;
+                    case (int) 4L:
+                        return MaxPower;
+                    case (int) 5L:
+                        return PowerStep;
+                    case (int) 6L:
+                        return SupportedWatts;
+                    case (int) 7L:
+                        return SelectedWattIndex;
+                    case (int) 8L:
+                        return WattRating;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -7916,12 +11955,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -7938,12 +11986,25 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SetCookingParameters;
+                    case (int) 1L:
+                        return AddMoreTime;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum SetCookingParametersCommandField {CookMode(0),CookTime(1),PowerSetting(2),WattSettingIndex(3),StartAfterSetting(4),;
                     private final int id;
@@ -8008,9 +12069,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class OperationalState implements BaseCluster {
         public static final long ID = 96L;
+        public static final OperationalState INSTANCE = new OperationalState();
         public long getID() {
             return ID;
         }
@@ -8037,12 +12117,43 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return PhaseList;
+                    case (int) 1L:
+                        return CurrentPhase;
+                    case (int) 2L:
+                        return CountdownTime;
+                    case (int) 3L:
+                        return OperationalStateList;
+                    case (int) 4L:
+                        return OperationalState;
+                    case (int) 5L:
+                        return OperationalError;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -8059,12 +12170,25 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return OperationalError;
+                    case (int) 1L:
+                        return OperationCompletion;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -8083,12 +12207,29 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Pause;
+                    case (int) 1L:
+                        return Stop;
+                    case (int) 2L:
+                        return Start;
+                    case (int) 3L:
+                        return Resume;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -8119,9 +12260,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class RvcOperationalState implements BaseCluster {
         public static final long ID = 97L;
+        public static final RvcOperationalState INSTANCE = new RvcOperationalState();
         public long getID() {
             return ID;
         }
@@ -8148,12 +12308,43 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return PhaseList;
+                    case (int) 1L:
+                        return CurrentPhase;
+                    case (int) 2L:
+                        return CountdownTime;
+                    case (int) 3L:
+                        return OperationalStateList;
+                    case (int) 4L:
+                        return OperationalState;
+                    case (int) 5L:
+                        return OperationalError;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -8170,12 +12361,25 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return OperationalError;
+                    case (int) 1L:
+                        return OperationCompletion;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -8193,12 +12397,27 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Pause;
+                    case (int) 3L:
+                        return Resume;
+                    case (int) 128L:
+                        return GoHome;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -8229,9 +12448,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ScenesManagement implements BaseCluster {
         public static final long ID = 98L;
+        public static final ScenesManagement INSTANCE = new ScenesManagement();
         public long getID() {
             return ID;
         }
@@ -8254,12 +12492,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 1L:
+                        return SceneTableSize;
+                    case (int) 2L:
+                        return FabricSceneInfo;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -8274,12 +12535,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -8302,12 +12572,37 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return AddScene;
+                    case (int) 1L:
+                        return ViewScene;
+                    case (int) 2L:
+                        return RemoveScene;
+                    case (int) 3L:
+                        return RemoveAllScenes;
+                    case (int) 4L:
+                        return StoreScene;
+                    case (int) 5L:
+                        return RecallScene;
+                    case (int) 6L:
+                        return GetSceneMembership;
+                    case (int) 64L:
+                        return CopyScene;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum AddSceneCommandField {GroupID(0),SceneID(1),TransitionTime(2),SceneName(3),ExtensionFieldSetStructs(4),;
                     private final int id;
@@ -8461,22 +12756,41 @@ public class ClusterIDMapping {
         }
 
         @Override
-        public long getAttributeID(String name) throws IllegalArgumentException {
-            return Attribute.valueOf(name).getID();
+        public long getAttributeID(String name) throws IllegalArgumentException {
+            return Attribute.valueOf(name).getID();
+        }
+
+        @Override
+        public long getEventID(String name) throws IllegalArgumentException {
+            return Event.valueOf(name).getID();
+        }
+
+        @Override
+        public long getCommandID(String name) throws IllegalArgumentException {
+            return Command.valueOf(name).getID();
+        }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
         }
 
         @Override
-        public long getEventID(String name) throws IllegalArgumentException {
-            return Event.valueOf(name).getID();
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
         }
 
         @Override
-        public long getCommandID(String name) throws IllegalArgumentException {
-            return Command.valueOf(name).getID();
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
         }
     }
     public static class Groupcast implements BaseCluster {
         public static final long ID = 101L;
+        public static final Groupcast INSTANCE = new Groupcast();
         public long getID() {
             return ID;
         }
@@ -8499,12 +12813,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Membership;
+                    case (int) 1L:
+                        return MaxMembershipCount;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -8519,12 +12856,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -8544,12 +12890,31 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return JoinGroup;
+                    case (int) 1L:
+                        return LeaveGroup;
+                    case (int) 3L:
+                        return UpdateGroupKey;
+                    case (int) 4L:
+                        return ExpireGracePeriod;
+                    case (int) 5L:
+                        return ConfigureAuxiliaryACL;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum JoinGroupCommandField {GroupID(0),Endpoints(1),KeyID(2),Key(3),GracePeriod(4),UseAuxiliaryACL(5),;
                     private final int id;
@@ -8665,9 +13030,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class HepaFilterMonitoring implements BaseCluster {
         public static final long ID = 113L;
+        public static final HepaFilterMonitoring INSTANCE = new HepaFilterMonitoring();
         public long getID() {
             return ID;
         }
@@ -8694,12 +13078,43 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Condition;
+                    case (int) 1L:
+                        return DegradationDirection;
+                    case (int) 2L:
+                        return ChangeIndication;
+                    case (int) 3L:
+                        return InPlaceIndicator;
+                    case (int) 4L:
+                        return LastChangedTime;
+                    case (int) 5L:
+                        return ReplacementProductList;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -8714,12 +13129,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -8735,12 +13159,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ResetCondition;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -8771,9 +13206,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ActivatedCarbonFilterMonitoring implements BaseCluster {
         public static final long ID = 114L;
+        public static final ActivatedCarbonFilterMonitoring INSTANCE = new ActivatedCarbonFilterMonitoring();
         public long getID() {
             return ID;
         }
@@ -8800,12 +13254,43 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Condition;
+                    case (int) 1L:
+                        return DegradationDirection;
+                    case (int) 2L:
+                        return ChangeIndication;
+                    case (int) 3L:
+                        return InPlaceIndicator;
+                    case (int) 4L:
+                        return LastChangedTime;
+                    case (int) 5L:
+                        return ReplacementProductList;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -8820,12 +13305,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -8841,12 +13335,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ResetCondition;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -8877,9 +13382,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class WaterTankLevelMonitoring implements BaseCluster {
         public static final long ID = 121L;
+        public static final WaterTankLevelMonitoring INSTANCE = new WaterTankLevelMonitoring();
         public long getID() {
             return ID;
         }
@@ -8906,12 +13430,43 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Condition;
+                    case (int) 1L:
+                        return DegradationDirection;
+                    case (int) 2L:
+                        return ChangeIndication;
+                    case (int) 3L:
+                        return InPlaceIndicator;
+                    case (int) 4L:
+                        return LastChangedTime;
+                    case (int) 5L:
+                        return ReplacementProductList;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -8926,12 +13481,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -8947,12 +13511,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ResetCondition;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -8983,9 +13558,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class BooleanStateConfiguration implements BaseCluster {
         public static final long ID = 128L;
+        public static final BooleanStateConfiguration INSTANCE = new BooleanStateConfiguration();
         public long getID() {
             return ID;
         }
@@ -9014,12 +13608,47 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return CurrentSensitivityLevel;
+                    case (int) 1L:
+                        return SupportedSensitivityLevels;
+                    case (int) 2L:
+                        return DefaultSensitivityLevel;
+                    case (int) 3L:
+                        return AlarmsActive;
+                    case (int) 4L:
+                        return AlarmsSuppressed;
+                    case (int) 5L:
+                        return AlarmsEnabled;
+                    case (int) 6L:
+                        return AlarmsSupported;
+                    case (int) 7L:
+                        return SensorFault;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -9036,12 +13665,25 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return AlarmsStateChanged;
+                    case (int) 1L:
+                        return SensorFault;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -9058,12 +13700,25 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SuppressAlarm;
+                    case (int) 1L:
+                        return EnableDisableAlarm;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum SuppressAlarmCommandField {AlarmsToSuppress(0),;
                     private final int id;
@@ -9128,9 +13783,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ValveConfigurationAndControl implements BaseCluster {
         public static final long ID = 129L;
+        public static final ValveConfigurationAndControl INSTANCE = new ValveConfigurationAndControl();
         public long getID() {
             return ID;
         }
@@ -9162,12 +13836,53 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return OpenDuration;
+                    case (int) 1L:
+                        return DefaultOpenDuration;
+                    case (int) 2L:
+                        return AutoCloseTime;
+                    case (int) 3L:
+                        return RemainingDuration;
+                    case (int) 4L:
+                        return CurrentState;
+                    case (int) 5L:
+                        return TargetState;
+                    case (int) 6L:
+                        return CurrentLevel;
+                    case (int) 7L:
+                        return TargetLevel;
+                    case (int) 8L:
+                        return DefaultOpenLevel;
+                    case (int) 9L:
+                        return ValveFault;
+                    case (int) 10L:
+                        return LevelStep;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -9184,12 +13899,25 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ValveStateChanged;
+                    case (int) 1L:
+                        return ValveFault;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -9206,12 +13934,25 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Open;
+                    case (int) 1L:
+                        return Close;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum OpenCommandField {OpenDuration(0),TargetLevel(1),;
                     private final int id;
@@ -9259,9 +14000,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ElectricalPowerMeasurement implements BaseCluster {
         public static final long ID = 144L;
+        public static final ElectricalPowerMeasurement INSTANCE = new ElectricalPowerMeasurement();
         public long getID() {
             return ID;
         }
@@ -9301,12 +14061,69 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return PowerMode;
+                    case (int) 1L:
+                        return NumberOfMeasurementTypes;
+                    case (int) 2L:
+                        return Accuracy;
+                    case (int) 3L:
+                        return Ranges;
+                    case (int) 4L:
+                        return Voltage;
+                    case (int) 5L:
+                        return ActiveCurrent;
+                    case (int) 6L:
+                        return ReactiveCurrent;
+                    case (int) 7L:
+                        return ApparentCurrent;
+                    case (int) 8L:
+                        return ActivePower;
+                    case (int) 9L:
+                        return ReactivePower;
+                    case (int) 10L:
+                        return ApparentPower;
+                    case (int) 11L:
+                        return RMSVoltage;
+                    case (int) 12L:
+                        return RMSCurrent;
+                    case (int) 13L:
+                        return RMSPower;
+                    case (int) 14L:
+                        return Frequency;
+                    case (int) 15L:
+                        return HarmonicCurrents;
+                    case (int) 16L:
+                        return HarmonicPhases;
+                    case (int) 17L:
+                        return PowerFactor;
+                    case (int) 18L:
+                        return NeutralCurrent;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -9322,12 +14139,23 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeasurementPeriodRanges;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -9342,12 +14170,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -9378,9 +14215,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ElectricalEnergyMeasurement implements BaseCluster {
         public static final long ID = 145L;
+        public static final ElectricalEnergyMeasurement INSTANCE = new ElectricalEnergyMeasurement();
         public long getID() {
             return ID;
         }
@@ -9407,12 +14263,43 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Accuracy;
+                    case (int) 1L:
+                        return CumulativeEnergyImported;
+                    case (int) 2L:
+                        return CumulativeEnergyExported;
+                    case (int) 3L:
+                        return PeriodicEnergyImported;
+                    case (int) 4L:
+                        return PeriodicEnergyExported;
+                    case (int) 5L:
+                        return CumulativeEnergyReset;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -9429,12 +14316,25 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return CumulativeEnergyMeasured;
+                    case (int) 1L:
+                        return PeriodicEnergyMeasured;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -9449,12 +14349,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -9485,9 +14394,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class WaterHeaterManagement implements BaseCluster {
         public static final long ID = 148L;
+        public static final WaterHeaterManagement INSTANCE = new WaterHeaterManagement();
         public long getID() {
             return ID;
         }
@@ -9514,12 +14442,43 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return HeaterTypes;
+                    case (int) 1L:
+                        return HeatDemand;
+                    case (int) 2L:
+                        return TankVolume;
+                    case (int) 3L:
+                        return EstimatedHeatRequired;
+                    case (int) 4L:
+                        return TankPercentage;
+                    case (int) 5L:
+                        return BoostState;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -9536,12 +14495,25 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return BoostStarted;
+                    case (int) 1L:
+                        return BoostEnded;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -9558,12 +14530,25 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Boost;
+                    case (int) 1L:
+                        return CancelBoost;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum BoostCommandField {BoostInfo(0),;
                     private final int id;
@@ -9611,9 +14596,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class CommodityPrice implements BaseCluster {
         public static final long ID = 149L;
+        public static final CommodityPrice INSTANCE = new CommodityPrice();
         public long getID() {
             return ID;
         }
@@ -9638,12 +14642,39 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return TariffUnit;
+                    case (int) 1L:
+                        return Currency;
+                    case (int) 2L:
+                        return CurrentPrice;
+                    case (int) 3L:
+                        return PriceForecast;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -9659,12 +14690,23 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return PriceChange;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -9681,12 +14723,25 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return GetDetailedPriceRequest;
+                    case (int) 2L:
+                        return GetDetailedForecastRequest;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum GetDetailedPriceRequestCommandField {Details(0),;
                     private final int id;
@@ -9751,9 +14806,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class Messages implements BaseCluster {
         public static final long ID = 151L;
+        public static final Messages INSTANCE = new Messages();
         public long getID() {
             return ID;
         }
@@ -9776,12 +14850,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Messages;
+                    case (int) 1L:
+                        return ActiveMessageIDs;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -9799,12 +14896,27 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MessageQueued;
+                    case (int) 1L:
+                        return MessagePresented;
+                    case (int) 2L:
+                        return MessageComplete;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -9821,12 +14933,25 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return PresentMessagesRequest;
+                    case (int) 1L:
+                        return CancelMessagesRequest;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum PresentMessagesRequestCommandField {MessageID(0),Priority(1),MessageControl(2),StartTime(3),Duration(4),MessageText(5),Responses(6),;
                     private final int id;
@@ -9891,9 +15016,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class DeviceEnergyManagement implements BaseCluster {
         public static final long ID = 152L;
+        public static final DeviceEnergyManagement INSTANCE = new DeviceEnergyManagement();
         public long getID() {
             return ID;
         }
@@ -9922,12 +15066,47 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ESAType;
+                    case (int) 1L:
+                        return ESACanGenerate;
+                    case (int) 2L:
+                        return ESAState;
+                    case (int) 3L:
+                        return AbsMinPower;
+                    case (int) 4L:
+                        return AbsMaxPower;
+                    case (int) 5L:
+                        return PowerAdjustmentCapability;
+                    case (int) 6L:
+                        return Forecast;
+                    case (int) 7L:
+                        return OptOutState;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -9946,12 +15125,29 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return PowerAdjustStart;
+                    case (int) 1L:
+                        return PowerAdjustEnd;
+                    case (int) 2L:
+                        return Paused;
+                    case (int) 3L:
+                        return Resumed;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -9974,12 +15170,37 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return PowerAdjustRequest;
+                    case (int) 1L:
+                        return CancelPowerAdjustRequest;
+                    case (int) 2L:
+                        return StartTimeAdjustRequest;
+                    case (int) 3L:
+                        return PauseRequest;
+                    case (int) 4L:
+                        return ResumeRequest;
+                    case (int) 5L:
+                        return ModifyForecastRequest;
+                    case (int) 6L:
+                        return RequestConstraintBasedForecast;
+                    case (int) 7L:
+                        return CancelRequest;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum PowerAdjustRequestCommandField {Power(0),Duration(1),Cause(2),;
                     private final int id;
@@ -10082,22 +15303,41 @@ public class ClusterIDMapping {
         }
 
         @Override
-        public long getAttributeID(String name) throws IllegalArgumentException {
-            return Attribute.valueOf(name).getID();
+        public long getAttributeID(String name) throws IllegalArgumentException {
+            return Attribute.valueOf(name).getID();
+        }
+
+        @Override
+        public long getEventID(String name) throws IllegalArgumentException {
+            return Event.valueOf(name).getID();
+        }
+
+        @Override
+        public long getCommandID(String name) throws IllegalArgumentException {
+            return Command.valueOf(name).getID();
+        }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
         }
 
         @Override
-        public long getEventID(String name) throws IllegalArgumentException {
-            return Event.valueOf(name).getID();
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
         }
 
         @Override
-        public long getCommandID(String name) throws IllegalArgumentException {
-            return Command.valueOf(name).getID();
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
         }
     }
     public static class EnergyEvse implements BaseCluster {
         public static final long ID = 153L;
+        public static final EnergyEvse INSTANCE = new EnergyEvse();
         public long getID() {
             return ID;
         }
@@ -10141,12 +15381,77 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return State;
+                    case (int) 1L:
+                        return SupplyState;
+                    case (int) 2L:
+                        return FaultState;
+                    case (int) 3L:
+                        return ChargingEnabledUntil;
+                    case (int) 4L:
+                        return DischargingEnabledUntil;
+                    case (int) 5L:
+                        return CircuitCapacity;
+                    case (int) 6L:
+                        return MinimumChargeCurrent;
+                    case (int) 7L:
+                        return MaximumChargeCurrent;
+                    case (int) 8L:
+                        return MaximumDischargeCurrent;
+                    case (int) 9L:
+                        return UserMaximumChargeCurrent;
+                    case (int) 10L:
+                        return RandomizationDelayWindow;
+                    case (int) 35L:
+                        return NextChargeStartTime;
+                    case (int) 36L:
+                        return NextChargeTargetTime;
+                    case (int) 37L:
+                        return NextChargeRequiredEnergy;
+                    case (int) 38L:
+                        return NextChargeTargetSoC;
+                    case (int) 39L:
+                        return ApproximateEVEfficiency;
+                    case (int) 48L:
+                        return StateOfCharge;
+                    case (int) 49L:
+                        return BatteryCapacity;
+                    case (int) 50L:
+                        return VehicleID;
+                    case (int) 64L:
+                        return SessionID;
+                    case (int) 65L:
+                        return SessionDuration;
+                    case (int) 66L:
+                        return SessionEnergyCharged;
+                    case (int) 67L:
+                        return SessionEnergyDischarged;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -10167,12 +15472,33 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return EVConnected;
+                    case (int) 1L:
+                        return EVNotDetected;
+                    case (int) 2L:
+                        return EnergyTransferStarted;
+                    case (int) 3L:
+                        return EnergyTransferStopped;
+                    case (int) 4L:
+                        return Fault;
+                    case (int) 5L:
+                        return RFID;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -10194,12 +15520,35 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 1L:
+                        return Disable;
+                    case (int) 2L:
+                        return EnableCharging;
+                    case (int) 3L:
+                        return EnableDischarging;
+                    case (int) 4L:
+                        return StartDiagnostics;
+                    case (int) 5L:
+                        return SetTargets;
+                    case (int) 6L:
+                        return GetTargets;
+                    case (int) 7L:
+                        return ClearTargets;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum EnableChargingCommandField {ChargingEnabledUntil(0),MinimumChargeCurrent(1),MaximumChargeCurrent(2),;
                     private final int id;
@@ -10281,9 +15630,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class EnergyPreference implements BaseCluster {
         public static final long ID = 155L;
+        public static final EnergyPreference INSTANCE = new EnergyPreference();
         public long getID() {
             return ID;
         }
@@ -10309,12 +15677,41 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return EnergyBalances;
+                    case (int) 1L:
+                        return CurrentEnergyBalance;
+                    case (int) 2L:
+                        return EnergyPriorities;
+                    case (int) 3L:
+                        return LowPowerModeSensitivities;
+                    case (int) 4L:
+                        return CurrentLowPowerModeSensitivity;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -10329,12 +15726,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -10349,12 +15755,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -10385,9 +15800,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class PowerTopology implements BaseCluster {
         public static final long ID = 156L;
+        public static final PowerTopology INSTANCE = new PowerTopology();
         public long getID() {
             return ID;
         }
@@ -10411,12 +15845,37 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return AvailableEndpoints;
+                    case (int) 1L:
+                        return ActiveEndpoints;
+                    case (int) 2L:
+                        return ElectricalCircuitNodes;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -10431,12 +15890,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -10451,12 +15919,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -10487,9 +15964,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class EnergyEvseMode implements BaseCluster {
         public static final long ID = 157L;
+        public static final EnergyEvseMode INSTANCE = new EnergyEvseMode();
         public long getID() {
             return ID;
         }
@@ -10512,12 +16008,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SupportedModes;
+                    case (int) 1L:
+                        return CurrentMode;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -10532,12 +16051,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -10553,12 +16081,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ChangeToMode;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ChangeToModeCommandField {NewMode(0),;
                     private final int id;
@@ -10606,9 +16145,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class WaterHeaterMode implements BaseCluster {
         public static final long ID = 158L;
+        public static final WaterHeaterMode INSTANCE = new WaterHeaterMode();
         public long getID() {
             return ID;
         }
@@ -10631,12 +16189,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SupportedModes;
+                    case (int) 1L:
+                        return CurrentMode;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -10651,12 +16232,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -10672,12 +16262,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ChangeToMode;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ChangeToModeCommandField {NewMode(0),;
                     private final int id;
@@ -10725,9 +16326,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class DeviceEnergyManagementMode implements BaseCluster {
         public static final long ID = 159L;
+        public static final DeviceEnergyManagementMode INSTANCE = new DeviceEnergyManagementMode();
         public long getID() {
             return ID;
         }
@@ -10750,12 +16370,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SupportedModes;
+                    case (int) 1L:
+                        return CurrentMode;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -10770,12 +16413,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -10791,12 +16443,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ChangeToMode;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ChangeToModeCommandField {NewMode(0),;
                     private final int id;
@@ -10844,9 +16507,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ElectricalGridConditions implements BaseCluster {
         public static final long ID = 160L;
+        public static final ElectricalGridConditions INSTANCE = new ElectricalGridConditions();
         public long getID() {
             return ID;
         }
@@ -10870,12 +16552,37 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return LocalGenerationAvailable;
+                    case (int) 1L:
+                        return CurrentConditions;
+                    case (int) 2L:
+                        return ForecastConditions;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -10891,12 +16598,23 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return CurrentConditionsChanged;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -10911,12 +16629,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -10947,9 +16674,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class DoorLock implements BaseCluster {
         public static final long ID = 257L;
+        public static final DoorLock INSTANCE = new DoorLock();
         public long getID() {
             return ID;
         }
@@ -11015,12 +16761,121 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return LockState;
+                    case (int) 1L:
+                        return LockType;
+                    case (int) 2L:
+                        return ActuatorEnabled;
+                    case (int) 3L:
+                        return DoorState;
+                    case (int) 4L:
+                        return DoorOpenEvents;
+                    case (int) 5L:
+                        return DoorClosedEvents;
+                    case (int) 6L:
+                        return OpenPeriod;
+                    case (int) 17L:
+                        return NumberOfTotalUsersSupported;
+                    case (int) 18L:
+                        return NumberOfPINUsersSupported;
+                    case (int) 19L:
+                        return NumberOfRFIDUsersSupported;
+                    case (int) 20L:
+                        return NumberOfWeekDaySchedulesSupportedPerUser;
+                    case (int) 21L:
+                        return NumberOfYearDaySchedulesSupportedPerUser;
+                    case (int) 22L:
+                        return NumberOfHolidaySchedulesSupported;
+                    case (int) 23L:
+                        return MaxPINCodeLength;
+                    case (int) 24L:
+                        return MinPINCodeLength;
+                    case (int) 25L:
+                        return MaxRFIDCodeLength;
+                    case (int) 26L:
+                        return MinRFIDCodeLength;
+                    case (int) 27L:
+                        return CredentialRulesSupport;
+                    case (int) 28L:
+                        return NumberOfCredentialsSupportedPerUser;
+                    case (int) 33L:
+                        return Language;
+                    case (int) 34L:
+                        return LEDSettings;
+                    case (int) 35L:
+                        return AutoRelockTime;
+                    case (int) 36L:
+                        return SoundVolume;
+                    case (int) 37L:
+                        return OperatingMode;
+                    case (int) 38L:
+                        return SupportedOperatingModes;
+                    case (int) 39L:
+                        return DefaultConfigurationRegister;
+                    case (int) 40L:
+                        return EnableLocalProgramming;
+                    case (int) 41L:
+                        return EnableOneTouchLocking;
+                    case (int) 42L:
+                        return EnableInsideStatusLED;
+                    case (int) 43L:
+                        return EnablePrivacyModeButton;
+                    case (int) 44L:
+                        return LocalProgrammingFeatures;
+                    case (int) 48L:
+                        return WrongCodeEntryLimit;
+                    case (int) 49L:
+                        return UserCodeTemporaryDisableTime;
+                    case (int) 50L:
+                        return SendPINOverTheAir;
+                    case (int) 51L:
+                        return RequirePINforRemoteOperation;
+                    case (int) 53L:
+                        return ExpiringUserTimeout;
+                    case (int) 128L:
+                        return AliroReaderVerificationKey;
+                    case (int) 129L:
+                        return AliroReaderGroupIdentifier;
+                    case (int) 130L:
+                        return AliroReaderGroupSubIdentifier;
+                    case (int) 131L:
+                        return AliroExpeditedTransactionSupportedProtocolVersions;
+                    case (int) 132L:
+                        return AliroGroupResolvingKey;
+                    case (int) 133L:
+                        return AliroSupportedBLEUWBProtocolVersions;
+                    case (int) 134L:
+                        return AliroBLEAdvertisingVersion;
+                    case (int) 135L:
+                        return NumberOfAliroCredentialIssuerKeysSupported;
+                    case (int) 136L:
+                        return NumberOfAliroEndpointKeysSupported;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -11040,12 +16895,31 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return DoorLockAlarm;
+                    case (int) 1L:
+                        return DoorStateChange;
+                    case (int) 2L:
+                        return LockOperation;
+                    case (int) 3L:
+                        return LockOperationError;
+                    case (int) 4L:
+                        return LockUserChange;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -11081,12 +16955,63 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return LockDoor;
+                    case (int) 1L:
+                        return UnlockDoor;
+                    case (int) 3L:
+                        return UnlockWithTimeout;
+                    case (int) 11L:
+                        return SetWeekDaySchedule;
+                    case (int) 12L:
+                        return GetWeekDaySchedule;
+                    case (int) 13L:
+                        return ClearWeekDaySchedule;
+                    case (int) 14L:
+                        return SetYearDaySchedule;
+                    case (int) 15L:
+                        return GetYearDaySchedule;
+                    case (int) 16L:
+                        return ClearYearDaySchedule;
+                    case (int) 17L:
+                        return SetHolidaySchedule;
+                    case (int) 18L:
+                        return GetHolidaySchedule;
+                    case (int) 19L:
+                        return ClearHolidaySchedule;
+                    case (int) 26L:
+                        return SetUser;
+                    case (int) 27L:
+                        return GetUser;
+                    case (int) 29L:
+                        return ClearUser;
+                    case (int) 34L:
+                        return SetCredential;
+                    case (int) 36L:
+                        return GetCredentialStatus;
+                    case (int) 38L:
+                        return ClearCredential;
+                    case (int) 39L:
+                        return UnboltDoor;
+                    case (int) 40L:
+                        return SetAliroReaderConfig;
+                    case (int) 41L:
+                        return ClearAliroReaderConfig;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum LockDoorCommandField {PINCode(0),;
                     private final int id;
@@ -11457,9 +17382,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class WindowCovering implements BaseCluster {
         public static final long ID = 258L;
+        public static final WindowCovering INSTANCE = new WindowCovering();
         public long getID() {
             return ID;
         }
@@ -11502,12 +17446,75 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Type;
+                    case (int) 1L:
+                        return PhysicalClosedLimitLift;
+                    case (int) 2L:
+                        return PhysicalClosedLimitTilt;
+                    case (int) 3L:
+                        return CurrentPositionLift;
+                    case (int) 4L:
+                        return CurrentPositionTilt;
+                    case (int) 5L:
+                        return NumberOfActuationsLift;
+                    case (int) 6L:
+                        return NumberOfActuationsTilt;
+                    case (int) 7L:
+                        return ConfigStatus;
+                    case (int) 8L:
+                        return CurrentPositionLiftPercentage;
+                    case (int) 9L:
+                        return CurrentPositionTiltPercentage;
+                    case (int) 10L:
+                        return OperationalStatus;
+                    case (int) 11L:
+                        return TargetPositionLiftPercent100ths;
+                    case (int) 12L:
+                        return TargetPositionTiltPercent100ths;
+                    case (int) 13L:
+                        return EndProductType;
+                    case (int) 14L:
+                        return CurrentPositionLiftPercent100ths;
+                    case (int) 15L:
+                        return CurrentPositionTiltPercent100ths;
+                    case (int) 16L:
+                        return InstalledOpenLimitLift;
+                    case (int) 17L:
+                        return InstalledClosedLimitLift;
+                    case (int) 18L:
+                        return InstalledOpenLimitTilt;
+                    case (int) 19L:
+                        return InstalledClosedLimitTilt;
+                    case (int) 23L:
+                        return Mode;
+                    case (int) 26L:
+                        return SafetyStatus;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -11522,12 +17529,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -11549,12 +17565,35 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return UpOrOpen;
+                    case (int) 1L:
+                        return DownOrClose;
+                    case (int) 2L:
+                        return StopMotion;
+                    case (int) 4L:
+                        return GoToLiftValue;
+                    case (int) 5L:
+                        return GoToLiftPercentage;
+                    case (int) 7L:
+                        return GoToTiltValue;
+                    case (int) 8L:
+                        return GoToTiltPercentage;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum GoToLiftValueCommandField {LiftValue(0),;
                     private final int id;
@@ -11653,9 +17692,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ClosureControl implements BaseCluster {
         public static final long ID = 260L;
+        public static final ClosureControl INSTANCE = new ClosureControl();
         public long getID() {
             return ID;
         }
@@ -11682,12 +17740,43 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return CountdownTime;
+                    case (int) 1L:
+                        return MainState;
+                    case (int) 2L:
+                        return CurrentErrorList;
+                    case (int) 3L:
+                        return OverallCurrentState;
+                    case (int) 4L:
+                        return OverallTargetState;
+                    case (int) 5L:
+                        return LatchControlModes;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -11706,12 +17795,29 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return OperationalError;
+                    case (int) 1L:
+                        return MovementCompleted;
+                    case (int) 2L:
+                        return EngageStateChanged;
+                    case (int) 3L:
+                        return SecureStateChanged;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -11729,12 +17835,27 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Stop;
+                    case (int) 1L:
+                        return MoveTo;
+                    case (int) 2L:
+                        return Calibrate;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum MoveToCommandField {Position(0),Latch(1),Speed(2),;
                     private final int id;
@@ -11782,9 +17903,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ClosureDimension implements BaseCluster {
         public static final long ID = 261L;
+        public static final ClosureDimension INSTANCE = new ClosureDimension();
         public long getID() {
             return ID;
         }
@@ -11817,12 +17957,55 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return CurrentState;
+                    case (int) 1L:
+                        return TargetState;
+                    case (int) 2L:
+                        return Resolution;
+                    case (int) 3L:
+                        return StepValue;
+                    case (int) 4L:
+                        return Unit;
+                    case (int) 5L:
+                        return UnitRange;
+                    case (int) 6L:
+                        return LimitRange;
+                    case (int) 7L:
+                        return TranslationDirection;
+                    case (int) 8L:
+                        return RotationAxis;
+                    case (int) 9L:
+                        return Overflow;
+                    case (int) 10L:
+                        return ModulationType;
+                    case (int) 11L:
+                        return LatchControlModes;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -11837,12 +18020,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -11859,12 +18051,25 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SetTarget;
+                    case (int) 1L:
+                        return Step;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum SetTargetCommandField {Position(0),Latch(1),Speed(2),;
                     private final int id;
@@ -11929,9 +18134,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ServiceArea implements BaseCluster {
         public static final long ID = 336L;
+        public static final ServiceArea INSTANCE = new ServiceArea();
         public long getID() {
             return ID;
         }
@@ -11958,12 +18182,43 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SupportedAreas;
+                    case (int) 1L:
+                        return SupportedMaps;
+                    case (int) 2L:
+                        return SelectedAreas;
+                    case (int) 3L:
+                        return CurrentArea;
+                    case (int) 4L:
+                        return EstimatedEndTime;
+                    case (int) 5L:
+                        return Progress;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -11978,12 +18233,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -12000,12 +18264,25 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SelectAreas;
+                    case (int) 2L:
+                        return SkipArea;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum SelectAreasCommandField {NewAreas(0),;
                     private final int id;
@@ -12070,9 +18347,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class PumpConfigurationAndControl implements BaseCluster {
         public static final long ID = 512L;
+        public static final PumpConfigurationAndControl INSTANCE = new PumpConfigurationAndControl();
         public long getID() {
             return ID;
         }
@@ -12116,12 +18412,77 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MaxPressure;
+                    case (int) 1L:
+                        return MaxSpeed;
+                    case (int) 2L:
+                        return MaxFlow;
+                    case (int) 3L:
+                        return MinConstPressure;
+                    case (int) 4L:
+                        return MaxConstPressure;
+                    case (int) 5L:
+                        return MinCompPressure;
+                    case (int) 6L:
+                        return MaxCompPressure;
+                    case (int) 7L:
+                        return MinConstSpeed;
+                    case (int) 8L:
+                        return MaxConstSpeed;
+                    case (int) 9L:
+                        return MinConstFlow;
+                    case (int) 10L:
+                        return MaxConstFlow;
+                    case (int) 11L:
+                        return MinConstTemp;
+                    case (int) 12L:
+                        return MaxConstTemp;
+                    case (int) 16L:
+                        return PumpStatus;
+                    case (int) 17L:
+                        return EffectiveOperationMode;
+                    case (int) 18L:
+                        return EffectiveControlMode;
+                    case (int) 19L:
+                        return Capacity;
+                    case (int) 20L:
+                        return Speed;
+                    case (int) 21L:
+                        return LifetimeRunningHours;
+                    case (int) 22L:
+                        return Power;
+                    case (int) 23L:
+                        return LifetimeEnergyConsumed;
+                    case (int) 32L:
+                        return OperationMode;
+                    case (int) 33L:
+                        return ControlMode;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -12153,12 +18514,55 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SupplyVoltageLow;
+                    case (int) 1L:
+                        return SupplyVoltageHigh;
+                    case (int) 2L:
+                        return PowerMissingPhase;
+                    case (int) 3L:
+                        return SystemPressureLow;
+                    case (int) 4L:
+                        return SystemPressureHigh;
+                    case (int) 5L:
+                        return DryRunning;
+                    case (int) 6L:
+                        return MotorTemperatureHigh;
+                    case (int) 7L:
+                        return PumpMotorFatalFailure;
+                    case (int) 8L:
+                        return ElectronicTemperatureHigh;
+                    case (int) 9L:
+                        return PumpBlocked;
+                    case (int) 10L:
+                        return SensorFailure;
+                    case (int) 11L:
+                        return ElectronicNonFatalFailure;
+                    case (int) 12L:
+                        return ElectronicFatalFailure;
+                    case (int) 13L:
+                        return GeneralFault;
+                    case (int) 14L:
+                        return Leakage;
+                    case (int) 15L:
+                        return AirDetection;
+                    case (int) 16L:
+                        return TurbineOperation;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -12173,12 +18577,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -12209,9 +18622,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class Thermostat implements BaseCluster {
         public static final long ID = 513L;
+        public static final Thermostat INSTANCE = new Thermostat();
         public long getID() {
             return ID;
         }
@@ -12296,12 +18728,159 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return LocalTemperature;
+                    case (int) 1L:
+                        return OutdoorTemperature;
+                    case (int) 2L:
+                        return Occupancy;
+                    case (int) 3L:
+                        return AbsMinHeatSetpointLimit;
+                    case (int) 4L:
+                        return AbsMaxHeatSetpointLimit;
+                    case (int) 5L:
+                        return AbsMinCoolSetpointLimit;
+                    case (int) 6L:
+                        return AbsMaxCoolSetpointLimit;
+                    case (int) 7L:
+                        return PICoolingDemand;
+                    case (int) 8L:
+                        return PIHeatingDemand;
+                    case (int) 9L:
+                        return HVACSystemTypeConfiguration;
+                    case (int) 16L:
+                        return LocalTemperatureCalibration;
+                    case (int) 17L:
+                        return OccupiedCoolingSetpoint;
+                    case (int) 18L:
+                        return OccupiedHeatingSetpoint;
+                    case (int) 19L:
+                        return UnoccupiedCoolingSetpoint;
+                    case (int) 20L:
+                        return UnoccupiedHeatingSetpoint;
+                    case (int) 21L:
+                        return MinHeatSetpointLimit;
+                    case (int) 22L:
+                        return MaxHeatSetpointLimit;
+                    case (int) 23L:
+                        return MinCoolSetpointLimit;
+                    case (int) 24L:
+                        return MaxCoolSetpointLimit;
+                    case (int) 25L:
+                        return MinSetpointDeadBand;
+                    case (int) 26L:
+                        return RemoteSensing;
+                    case (int) 27L:
+                        return ControlSequenceOfOperation;
+                    case (int) 28L:
+                        return SystemMode;
+                    case (int) 30L:
+                        return ThermostatRunningMode;
+                    case (int) 32L:
+                        return StartOfWeek;
+                    case (int) 33L:
+                        return NumberOfWeeklyTransitions;
+                    case (int) 34L:
+                        return NumberOfDailyTransitions;
+                    case (int) 35L:
+                        return TemperatureSetpointHold;
+                    case (int) 36L:
+                        return TemperatureSetpointHoldDuration;
+                    case (int) 37L:
+                        return ThermostatProgrammingOperationMode;
+                    case (int) 41L:
+                        return ThermostatRunningState;
+                    case (int) 48L:
+                        return SetpointChangeSource;
+                    case (int) 49L:
+                        return SetpointChangeAmount;
+                    case (int) 50L:
+                        return SetpointChangeSourceTimestamp;
+                    case (int) 52L:
+                        return OccupiedSetback;
+                    case (int) 53L:
+                        return OccupiedSetbackMin;
+                    case (int) 54L:
+                        return OccupiedSetbackMax;
+                    case (int) 55L:
+                        return UnoccupiedSetback;
+                    case (int) 56L:
+                        return UnoccupiedSetbackMin;
+                    case (int) 57L:
+                        return UnoccupiedSetbackMax;
+                    case (int) 58L:
+                        return EmergencyHeatDelta;
+                    case (int) 64L:
+                        return ACType;
+                    case (int) 65L:
+                        return ACCapacity;
+                    case (int) 66L:
+                        return ACRefrigerantType;
+                    case (int) 67L:
+                        return ACCompressorType;
+                    case (int) 68L:
+                        return ACErrorCode;
+                    case (int) 69L:
+                        return ACLouverPosition;
+                    case (int) 70L:
+                        return ACCoilTemperature;
+                    case (int) 71L:
+                        return ACCapacityformat;
+                    case (int) 72L:
+                        return PresetTypes;
+                    case (int) 73L:
+                        return ScheduleTypes;
+                    case (int) 74L:
+                        return NumberOfPresets;
+                    case (int) 75L:
+                        return NumberOfSchedules;
+                    case (int) 76L:
+                        return NumberOfScheduleTransitions;
+                    case (int) 77L:
+                        return NumberOfScheduleTransitionPerDay;
+                    case (int) 78L:
+                        return ActivePresetHandle;
+                    case (int) 79L:
+                        return ActiveScheduleHandle;
+                    case (int) 80L:
+                        return Presets;
+                    case (int) 81L:
+                        return Schedules;
+                    case (int) 82L:
+                        return SetpointHoldExpiryTimestamp;
+                    case (int) 83L:
+                        return MaxThermostatSuggestions;
+                    case (int) 84L:
+                        return ThermostatSuggestions;
+                    case (int) 85L:
+                        return CurrentThermostatSuggestion;
+                    case (int) 86L:
+                        return ThermostatSuggestionNotFollowingReason;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -12324,12 +18903,37 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SystemModeChange;
+                    case (int) 1L:
+                        return LocalTemperatureChange;
+                    case (int) 2L:
+                        return OccupancyChange;
+                    case (int) 3L:
+                        return SetpointChange;
+                    case (int) 4L:
+                        return RunningStateChange;
+                    case (int) 5L:
+                        return RunningModeChange;
+                    case (int) 6L:
+                        return ActiveScheduleChange;
+                    case (int) 7L:
+                        return ActivePresetChange;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -12353,12 +18957,39 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SetpointRaiseLower;
+                    case (int) 1L:
+                        return SetWeeklySchedule;
+                    case (int) 2L:
+                        return GetWeeklySchedule;
+                    case (int) 3L:
+                        return ClearWeeklySchedule;
+                    case (int) 5L:
+                        return SetActiveScheduleRequest;
+                    case (int) 6L:
+                        return SetActivePresetRequest;
+                    case (int) 7L:
+                        return AddThermostatSuggestion;
+                    case (int) 8L:
+                        return RemoveThermostatSuggestion;
+                    case (int) 254L:
+                        return AtomicRequest;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum SetpointRaiseLowerCommandField {Mode(0),Amount(1),;
                     private final int id;
@@ -12525,9 +19156,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class FanControl implements BaseCluster {
         public static final long ID = 514L;
+        public static final FanControl INSTANCE = new FanControl();
         public long getID() {
             return ID;
         }
@@ -12560,12 +19210,55 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return FanMode;
+                    case (int) 1L:
+                        return FanModeSequence;
+                    case (int) 2L:
+                        return PercentSetting;
+                    case (int) 3L:
+                        return PercentCurrent;
+                    case (int) 4L:
+                        return SpeedMax;
+                    case (int) 5L:
+                        return SpeedSetting;
+                    case (int) 6L:
+                        return SpeedCurrent;
+                    case (int) 7L:
+                        return RockSupport;
+                    case (int) 8L:
+                        return RockSetting;
+                    case (int) 9L:
+                        return WindSupport;
+                    case (int) 10L:
+                        return WindSetting;
+                    case (int) 11L:
+                        return AirflowDirection;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -12580,12 +19273,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -12601,12 +19303,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Step;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum StepCommandField {Direction(0),Wrap(1),LowestOff(2),;
                     private final int id;
@@ -12654,9 +19367,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ThermostatUserInterfaceConfiguration implements BaseCluster {
         public static final long ID = 516L;
+        public static final ThermostatUserInterfaceConfiguration INSTANCE = new ThermostatUserInterfaceConfiguration();
         public long getID() {
             return ID;
         }
@@ -12680,12 +19412,37 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return TemperatureDisplayMode;
+                    case (int) 1L:
+                        return KeypadLockout;
+                    case (int) 2L:
+                        return ScheduleProgrammingVisibility;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -12700,12 +19457,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -12720,12 +19486,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -12756,9 +19531,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ColorControl implements BaseCluster {
         public static final long ID = 768L;
+        public static final ColorControl INSTANCE = new ColorControl();
         public long getID() {
             return ID;
         }
@@ -12831,12 +19625,135 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return CurrentHue;
+                    case (int) 1L:
+                        return CurrentSaturation;
+                    case (int) 2L:
+                        return RemainingTime;
+                    case (int) 3L:
+                        return CurrentX;
+                    case (int) 4L:
+                        return CurrentY;
+                    case (int) 5L:
+                        return DriftCompensation;
+                    case (int) 6L:
+                        return CompensationText;
+                    case (int) 7L:
+                        return ColorTemperatureMireds;
+                    case (int) 8L:
+                        return ColorMode;
+                    case (int) 15L:
+                        return Options;
+                    case (int) 16L:
+                        return NumberOfPrimaries;
+                    case (int) 17L:
+                        return Primary1X;
+                    case (int) 18L:
+                        return Primary1Y;
+                    case (int) 19L:
+                        return Primary1Intensity;
+                    case (int) 21L:
+                        return Primary2X;
+                    case (int) 22L:
+                        return Primary2Y;
+                    case (int) 23L:
+                        return Primary2Intensity;
+                    case (int) 25L:
+                        return Primary3X;
+                    case (int) 26L:
+                        return Primary3Y;
+                    case (int) 27L:
+                        return Primary3Intensity;
+                    case (int) 32L:
+                        return Primary4X;
+                    case (int) 33L:
+                        return Primary4Y;
+                    case (int) 34L:
+                        return Primary4Intensity;
+                    case (int) 36L:
+                        return Primary5X;
+                    case (int) 37L:
+                        return Primary5Y;
+                    case (int) 38L:
+                        return Primary5Intensity;
+                    case (int) 40L:
+                        return Primary6X;
+                    case (int) 41L:
+                        return Primary6Y;
+                    case (int) 42L:
+                        return Primary6Intensity;
+                    case (int) 48L:
+                        return WhitePointX;
+                    case (int) 49L:
+                        return WhitePointY;
+                    case (int) 50L:
+                        return ColorPointRX;
+                    case (int) 51L:
+                        return ColorPointRY;
+                    case (int) 52L:
+                        return ColorPointRIntensity;
+                    case (int) 54L:
+                        return ColorPointGX;
+                    case (int) 55L:
+                        return ColorPointGY;
+                    case (int) 56L:
+                        return ColorPointGIntensity;
+                    case (int) 58L:
+                        return ColorPointBX;
+                    case (int) 59L:
+                        return ColorPointBY;
+                    case (int) 60L:
+                        return ColorPointBIntensity;
+                    case (int) 16384L:
+                        return EnhancedCurrentHue;
+                    case (int) 16385L:
+                        return EnhancedColorMode;
+                    case (int) 16386L:
+                        return ColorLoopActive;
+                    case (int) 16387L:
+                        return ColorLoopDirection;
+                    case (int) 16388L:
+                        return ColorLoopTime;
+                    case (int) 16389L:
+                        return ColorLoopStartEnhancedHue;
+                    case (int) 16390L:
+                        return ColorLoopStoredEnhancedHue;
+                    case (int) 16394L:
+                        return ColorCapabilities;
+                    case (int) 16395L:
+                        return ColorTempPhysicalMinMireds;
+                    case (int) 16396L:
+                        return ColorTempPhysicalMaxMireds;
+                    case (int) 16397L:
+                        return CoupleColorTempToLevelMinMireds;
+                    case (int) 16400L:
+                        return StartUpColorTemperatureMireds;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -12851,12 +19768,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -12890,12 +19816,59 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MoveToHue;
+                    case (int) 1L:
+                        return MoveHue;
+                    case (int) 2L:
+                        return StepHue;
+                    case (int) 3L:
+                        return MoveToSaturation;
+                    case (int) 4L:
+                        return MoveSaturation;
+                    case (int) 5L:
+                        return StepSaturation;
+                    case (int) 6L:
+                        return MoveToHueAndSaturation;
+                    case (int) 7L:
+                        return MoveToColor;
+                    case (int) 8L:
+                        return MoveColor;
+                    case (int) 9L:
+                        return StepColor;
+                    case (int) 10L:
+                        return MoveToColorTemperature;
+                    case (int) 64L:
+                        return EnhancedMoveToHue;
+                    case (int) 65L:
+                        return EnhancedMoveHue;
+                    case (int) 66L:
+                        return EnhancedStepHue;
+                    case (int) 67L:
+                        return EnhancedMoveToHueAndSaturation;
+                    case (int) 68L:
+                        return ColorLoopSet;
+                    case (int) 71L:
+                        return StopMoveStep;
+                    case (int) 75L:
+                        return MoveColorTemperature;
+                    case (int) 76L:
+                        return StepColorTemperature;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum MoveToHueCommandField {Hue(0),Direction(1),TransitionTime(2),OptionsMask(3),OptionsOverride(4),;
                     private final int id;
@@ -13249,9 +20222,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class BallastConfiguration implements BaseCluster {
         public static final long ID = 769L;
+        public static final BallastConfiguration INSTANCE = new BallastConfiguration();
         public long getID() {
             return ID;
         }
@@ -13286,12 +20278,59 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return PhysicalMinLevel;
+                    case (int) 1L:
+                        return PhysicalMaxLevel;
+                    case (int) 2L:
+                        return BallastStatus;
+                    case (int) 16L:
+                        return MinLevel;
+                    case (int) 17L:
+                        return MaxLevel;
+                    case (int) 20L:
+                        return IntrinsicBallastFactor;
+                    case (int) 21L:
+                        return BallastFactorAdjustment;
+                    case (int) 32L:
+                        return LampQuantity;
+                    case (int) 48L:
+                        return LampType;
+                    case (int) 49L:
+                        return LampManufacturer;
+                    case (int) 50L:
+                        return LampRatedHours;
+                    case (int) 51L:
+                        return LampBurnHours;
+                    case (int) 52L:
+                        return LampAlarmMode;
+                    case (int) 53L:
+                        return LampBurnHoursTripPoint;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -13306,12 +20345,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -13326,12 +20374,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -13362,9 +20419,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class IlluminanceMeasurement implements BaseCluster {
         public static final long ID = 1024L;
+        public static final IlluminanceMeasurement INSTANCE = new IlluminanceMeasurement();
         public long getID() {
             return ID;
         }
@@ -13390,12 +20466,41 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeasuredValue;
+                    case (int) 1L:
+                        return MinMeasuredValue;
+                    case (int) 2L:
+                        return MaxMeasuredValue;
+                    case (int) 3L:
+                        return Tolerance;
+                    case (int) 4L:
+                        return LightSensorType;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -13410,12 +20515,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -13430,12 +20544,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -13466,9 +20589,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class TemperatureMeasurement implements BaseCluster {
         public static final long ID = 1026L;
+        public static final TemperatureMeasurement INSTANCE = new TemperatureMeasurement();
         public long getID() {
             return ID;
         }
@@ -13493,12 +20635,39 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeasuredValue;
+                    case (int) 1L:
+                        return MinMeasuredValue;
+                    case (int) 2L:
+                        return MaxMeasuredValue;
+                    case (int) 3L:
+                        return Tolerance;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -13513,12 +20682,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -13533,12 +20711,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -13569,9 +20756,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class PressureMeasurement implements BaseCluster {
         public static final long ID = 1027L;
+        public static final PressureMeasurement INSTANCE = new PressureMeasurement();
         public long getID() {
             return ID;
         }
@@ -13601,12 +20807,49 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeasuredValue;
+                    case (int) 1L:
+                        return MinMeasuredValue;
+                    case (int) 2L:
+                        return MaxMeasuredValue;
+                    case (int) 3L:
+                        return Tolerance;
+                    case (int) 16L:
+                        return ScaledValue;
+                    case (int) 17L:
+                        return MinScaledValue;
+                    case (int) 18L:
+                        return MaxScaledValue;
+                    case (int) 19L:
+                        return ScaledTolerance;
+                    case (int) 20L:
+                        return Scale;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -13621,12 +20864,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -13641,12 +20893,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -13677,9 +20938,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class FlowMeasurement implements BaseCluster {
         public static final long ID = 1028L;
+        public static final FlowMeasurement INSTANCE = new FlowMeasurement();
         public long getID() {
             return ID;
         }
@@ -13704,12 +20984,39 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeasuredValue;
+                    case (int) 1L:
+                        return MinMeasuredValue;
+                    case (int) 2L:
+                        return MaxMeasuredValue;
+                    case (int) 3L:
+                        return Tolerance;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -13724,12 +21031,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -13744,12 +21060,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -13780,9 +21105,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class RelativeHumidityMeasurement implements BaseCluster {
         public static final long ID = 1029L;
+        public static final RelativeHumidityMeasurement INSTANCE = new RelativeHumidityMeasurement();
         public long getID() {
             return ID;
         }
@@ -13807,12 +21151,39 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeasuredValue;
+                    case (int) 1L:
+                        return MinMeasuredValue;
+                    case (int) 2L:
+                        return MaxMeasuredValue;
+                    case (int) 3L:
+                        return Tolerance;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -13827,12 +21198,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -13847,12 +21227,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -13883,9 +21272,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class OccupancySensing implements BaseCluster {
         public static final long ID = 1030L;
+        public static final OccupancySensing INSTANCE = new OccupancySensing();
         public long getID() {
             return ID;
         }
@@ -13920,12 +21328,59 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Occupancy;
+                    case (int) 1L:
+                        return OccupancySensorType;
+                    case (int) 2L:
+                        return OccupancySensorTypeBitmap;
+                    case (int) 3L:
+                        return HoldTime;
+                    case (int) 4L:
+                        return HoldTimeLimits;
+                    case (int) 16L:
+                        return PIROccupiedToUnoccupiedDelay;
+                    case (int) 17L:
+                        return PIRUnoccupiedToOccupiedDelay;
+                    case (int) 18L:
+                        return PIRUnoccupiedToOccupiedThreshold;
+                    case (int) 32L:
+                        return UltrasonicOccupiedToUnoccupiedDelay;
+                    case (int) 33L:
+                        return UltrasonicUnoccupiedToOccupiedDelay;
+                    case (int) 34L:
+                        return UltrasonicUnoccupiedToOccupiedThreshold;
+                    case (int) 48L:
+                        return PhysicalContactOccupiedToUnoccupiedDelay;
+                    case (int) 49L:
+                        return PhysicalContactUnoccupiedToOccupiedDelay;
+                    case (int) 50L:
+                        return PhysicalContactUnoccupiedToOccupiedThreshold;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -13941,12 +21396,23 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return OccupancyChanged;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -13961,12 +21427,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -13997,9 +21472,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class CarbonMonoxideConcentrationMeasurement implements BaseCluster {
         public static final long ID = 1036L;
+        public static final CarbonMonoxideConcentrationMeasurement INSTANCE = new CarbonMonoxideConcentrationMeasurement();
         public long getID() {
             return ID;
         }
@@ -14031,12 +21525,53 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeasuredValue;
+                    case (int) 1L:
+                        return MinMeasuredValue;
+                    case (int) 2L:
+                        return MaxMeasuredValue;
+                    case (int) 3L:
+                        return PeakMeasuredValue;
+                    case (int) 4L:
+                        return PeakMeasuredValueWindow;
+                    case (int) 5L:
+                        return AverageMeasuredValue;
+                    case (int) 6L:
+                        return AverageMeasuredValueWindow;
+                    case (int) 7L:
+                        return Uncertainty;
+                    case (int) 8L:
+                        return MeasurementUnit;
+                    case (int) 9L:
+                        return MeasurementMedium;
+                    case (int) 10L:
+                        return LevelValue;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14051,12 +21586,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14071,12 +21615,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -14099,17 +21652,36 @@ public class ClusterIDMapping {
         }
 
         @Override
-        public long getEventID(String name) throws IllegalArgumentException {
-            return Event.valueOf(name).getID();
+        public long getEventID(String name) throws IllegalArgumentException {
+            return Event.valueOf(name).getID();
+        }
+
+        @Override
+        public long getCommandID(String name) throws IllegalArgumentException {
+            return Command.valueOf(name).getID();
+        }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
         }
 
         @Override
-        public long getCommandID(String name) throws IllegalArgumentException {
-            return Command.valueOf(name).getID();
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
         }
     }
     public static class CarbonDioxideConcentrationMeasurement implements BaseCluster {
         public static final long ID = 1037L;
+        public static final CarbonDioxideConcentrationMeasurement INSTANCE = new CarbonDioxideConcentrationMeasurement();
         public long getID() {
             return ID;
         }
@@ -14141,12 +21713,53 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeasuredValue;
+                    case (int) 1L:
+                        return MinMeasuredValue;
+                    case (int) 2L:
+                        return MaxMeasuredValue;
+                    case (int) 3L:
+                        return PeakMeasuredValue;
+                    case (int) 4L:
+                        return PeakMeasuredValueWindow;
+                    case (int) 5L:
+                        return AverageMeasuredValue;
+                    case (int) 6L:
+                        return AverageMeasuredValueWindow;
+                    case (int) 7L:
+                        return Uncertainty;
+                    case (int) 8L:
+                        return MeasurementUnit;
+                    case (int) 9L:
+                        return MeasurementMedium;
+                    case (int) 10L:
+                        return LevelValue;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14161,12 +21774,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14181,12 +21803,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -14217,9 +21848,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class NitrogenDioxideConcentrationMeasurement implements BaseCluster {
         public static final long ID = 1043L;
+        public static final NitrogenDioxideConcentrationMeasurement INSTANCE = new NitrogenDioxideConcentrationMeasurement();
         public long getID() {
             return ID;
         }
@@ -14251,12 +21901,53 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeasuredValue;
+                    case (int) 1L:
+                        return MinMeasuredValue;
+                    case (int) 2L:
+                        return MaxMeasuredValue;
+                    case (int) 3L:
+                        return PeakMeasuredValue;
+                    case (int) 4L:
+                        return PeakMeasuredValueWindow;
+                    case (int) 5L:
+                        return AverageMeasuredValue;
+                    case (int) 6L:
+                        return AverageMeasuredValueWindow;
+                    case (int) 7L:
+                        return Uncertainty;
+                    case (int) 8L:
+                        return MeasurementUnit;
+                    case (int) 9L:
+                        return MeasurementMedium;
+                    case (int) 10L:
+                        return LevelValue;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14271,12 +21962,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14291,12 +21991,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -14327,9 +22036,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class OzoneConcentrationMeasurement implements BaseCluster {
         public static final long ID = 1045L;
+        public static final OzoneConcentrationMeasurement INSTANCE = new OzoneConcentrationMeasurement();
         public long getID() {
             return ID;
         }
@@ -14361,12 +22089,53 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeasuredValue;
+                    case (int) 1L:
+                        return MinMeasuredValue;
+                    case (int) 2L:
+                        return MaxMeasuredValue;
+                    case (int) 3L:
+                        return PeakMeasuredValue;
+                    case (int) 4L:
+                        return PeakMeasuredValueWindow;
+                    case (int) 5L:
+                        return AverageMeasuredValue;
+                    case (int) 6L:
+                        return AverageMeasuredValueWindow;
+                    case (int) 7L:
+                        return Uncertainty;
+                    case (int) 8L:
+                        return MeasurementUnit;
+                    case (int) 9L:
+                        return MeasurementMedium;
+                    case (int) 10L:
+                        return LevelValue;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14381,12 +22150,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14401,12 +22179,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -14437,9 +22224,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class Pm25ConcentrationMeasurement implements BaseCluster {
         public static final long ID = 1066L;
+        public static final Pm25ConcentrationMeasurement INSTANCE = new Pm25ConcentrationMeasurement();
         public long getID() {
             return ID;
         }
@@ -14471,12 +22277,53 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeasuredValue;
+                    case (int) 1L:
+                        return MinMeasuredValue;
+                    case (int) 2L:
+                        return MaxMeasuredValue;
+                    case (int) 3L:
+                        return PeakMeasuredValue;
+                    case (int) 4L:
+                        return PeakMeasuredValueWindow;
+                    case (int) 5L:
+                        return AverageMeasuredValue;
+                    case (int) 6L:
+                        return AverageMeasuredValueWindow;
+                    case (int) 7L:
+                        return Uncertainty;
+                    case (int) 8L:
+                        return MeasurementUnit;
+                    case (int) 9L:
+                        return MeasurementMedium;
+                    case (int) 10L:
+                        return LevelValue;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14491,12 +22338,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14511,12 +22367,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -14547,9 +22412,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class FormaldehydeConcentrationMeasurement implements BaseCluster {
         public static final long ID = 1067L;
+        public static final FormaldehydeConcentrationMeasurement INSTANCE = new FormaldehydeConcentrationMeasurement();
         public long getID() {
             return ID;
         }
@@ -14581,12 +22465,53 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeasuredValue;
+                    case (int) 1L:
+                        return MinMeasuredValue;
+                    case (int) 2L:
+                        return MaxMeasuredValue;
+                    case (int) 3L:
+                        return PeakMeasuredValue;
+                    case (int) 4L:
+                        return PeakMeasuredValueWindow;
+                    case (int) 5L:
+                        return AverageMeasuredValue;
+                    case (int) 6L:
+                        return AverageMeasuredValueWindow;
+                    case (int) 7L:
+                        return Uncertainty;
+                    case (int) 8L:
+                        return MeasurementUnit;
+                    case (int) 9L:
+                        return MeasurementMedium;
+                    case (int) 10L:
+                        return LevelValue;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14601,12 +22526,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14621,12 +22555,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -14657,9 +22600,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class Pm1ConcentrationMeasurement implements BaseCluster {
         public static final long ID = 1068L;
+        public static final Pm1ConcentrationMeasurement INSTANCE = new Pm1ConcentrationMeasurement();
         public long getID() {
             return ID;
         }
@@ -14691,12 +22653,53 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeasuredValue;
+                    case (int) 1L:
+                        return MinMeasuredValue;
+                    case (int) 2L:
+                        return MaxMeasuredValue;
+                    case (int) 3L:
+                        return PeakMeasuredValue;
+                    case (int) 4L:
+                        return PeakMeasuredValueWindow;
+                    case (int) 5L:
+                        return AverageMeasuredValue;
+                    case (int) 6L:
+                        return AverageMeasuredValueWindow;
+                    case (int) 7L:
+                        return Uncertainty;
+                    case (int) 8L:
+                        return MeasurementUnit;
+                    case (int) 9L:
+                        return MeasurementMedium;
+                    case (int) 10L:
+                        return LevelValue;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14711,12 +22714,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14731,12 +22743,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -14767,9 +22788,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class Pm10ConcentrationMeasurement implements BaseCluster {
         public static final long ID = 1069L;
+        public static final Pm10ConcentrationMeasurement INSTANCE = new Pm10ConcentrationMeasurement();
         public long getID() {
             return ID;
         }
@@ -14801,12 +22841,53 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeasuredValue;
+                    case (int) 1L:
+                        return MinMeasuredValue;
+                    case (int) 2L:
+                        return MaxMeasuredValue;
+                    case (int) 3L:
+                        return PeakMeasuredValue;
+                    case (int) 4L:
+                        return PeakMeasuredValueWindow;
+                    case (int) 5L:
+                        return AverageMeasuredValue;
+                    case (int) 6L:
+                        return AverageMeasuredValueWindow;
+                    case (int) 7L:
+                        return Uncertainty;
+                    case (int) 8L:
+                        return MeasurementUnit;
+                    case (int) 9L:
+                        return MeasurementMedium;
+                    case (int) 10L:
+                        return LevelValue;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14821,12 +22902,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14841,12 +22931,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -14877,9 +22976,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class TotalVolatileOrganicCompoundsConcentrationMeasurement implements BaseCluster {
         public static final long ID = 1070L;
+        public static final TotalVolatileOrganicCompoundsConcentrationMeasurement INSTANCE = new TotalVolatileOrganicCompoundsConcentrationMeasurement();
         public long getID() {
             return ID;
         }
@@ -14911,12 +23029,53 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeasuredValue;
+                    case (int) 1L:
+                        return MinMeasuredValue;
+                    case (int) 2L:
+                        return MaxMeasuredValue;
+                    case (int) 3L:
+                        return PeakMeasuredValue;
+                    case (int) 4L:
+                        return PeakMeasuredValueWindow;
+                    case (int) 5L:
+                        return AverageMeasuredValue;
+                    case (int) 6L:
+                        return AverageMeasuredValueWindow;
+                    case (int) 7L:
+                        return Uncertainty;
+                    case (int) 8L:
+                        return MeasurementUnit;
+                    case (int) 9L:
+                        return MeasurementMedium;
+                    case (int) 10L:
+                        return LevelValue;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14931,12 +23090,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -14951,12 +23119,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -14987,9 +23164,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class RadonConcentrationMeasurement implements BaseCluster {
         public static final long ID = 1071L;
+        public static final RadonConcentrationMeasurement INSTANCE = new RadonConcentrationMeasurement();
         public long getID() {
             return ID;
         }
@@ -15021,12 +23217,53 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeasuredValue;
+                    case (int) 1L:
+                        return MinMeasuredValue;
+                    case (int) 2L:
+                        return MaxMeasuredValue;
+                    case (int) 3L:
+                        return PeakMeasuredValue;
+                    case (int) 4L:
+                        return PeakMeasuredValueWindow;
+                    case (int) 5L:
+                        return AverageMeasuredValue;
+                    case (int) 6L:
+                        return AverageMeasuredValueWindow;
+                    case (int) 7L:
+                        return Uncertainty;
+                    case (int) 8L:
+                        return MeasurementUnit;
+                    case (int) 9L:
+                        return MeasurementMedium;
+                    case (int) 10L:
+                        return LevelValue;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -15041,12 +23278,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -15061,12 +23307,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -15097,9 +23352,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class SoilMeasurement implements BaseCluster {
         public static final long ID = 1072L;
+        public static final SoilMeasurement INSTANCE = new SoilMeasurement();
         public long getID() {
             return ID;
         }
@@ -15122,12 +23396,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SoilMoistureMeasurementLimits;
+                    case (int) 1L:
+                        return SoilMoistureMeasuredValue;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -15142,12 +23439,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -15162,12 +23468,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -15198,9 +23513,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class AmbientContextSensing implements BaseCluster {
         public static final long ID = 1073L;
+        public static final AmbientContextSensing INSTANCE = new AmbientContextSensing();
         public long getID() {
             return ID;
         }
@@ -15234,12 +23568,57 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return HumanActivityDetected;
+                    case (int) 1L:
+                        return ObjectIdentified;
+                    case (int) 2L:
+                        return AudioContextDetected;
+                    case (int) 3L:
+                        return AmbientContextType;
+                    case (int) 4L:
+                        return AmbientContextTypeSupported;
+                    case (int) 5L:
+                        return SimultaneousDetectionLimit;
+                    case (int) 6L:
+                        return CountThresholdReached;
+                    case (int) 7L:
+                        return CountThreshold;
+                    case (int) 8L:
+                        return ObjectCount;
+                    case (int) 9L:
+                        return HoldTime;
+                    case (int) 10L:
+                        return HoldTimeLimits;
+                    case (int) 11L:
+                        return PredictedActivity;
+                    case (int) 12L:
+                        return PrivacyModeEnabled;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -15254,12 +23633,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -15274,12 +23662,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -15310,9 +23707,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class WiFiNetworkManagement implements BaseCluster {
         public static final long ID = 1105L;
+        public static final WiFiNetworkManagement INSTANCE = new WiFiNetworkManagement();
         public long getID() {
             return ID;
         }
@@ -15335,12 +23751,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Ssid;
+                    case (int) 1L:
+                        return PassphraseSurrogate;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -15355,12 +23794,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -15376,12 +23824,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return NetworkPassphraseRequest;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -15399,22 +23858,41 @@ public class ClusterIDMapping {
         }
 
         @Override
-        public long getAttributeID(String name) throws IllegalArgumentException {
-            return Attribute.valueOf(name).getID();
+        public long getAttributeID(String name) throws IllegalArgumentException {
+            return Attribute.valueOf(name).getID();
+        }
+
+        @Override
+        public long getEventID(String name) throws IllegalArgumentException {
+            return Event.valueOf(name).getID();
+        }
+
+        @Override
+        public long getCommandID(String name) throws IllegalArgumentException {
+            return Command.valueOf(name).getID();
+        }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
         }
 
         @Override
-        public long getEventID(String name) throws IllegalArgumentException {
-            return Event.valueOf(name).getID();
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
         }
 
         @Override
-        public long getCommandID(String name) throws IllegalArgumentException {
-            return Command.valueOf(name).getID();
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
         }
     }
     public static class ThreadBorderRouterManagement implements BaseCluster {
         public static final long ID = 1106L;
+        public static final ThreadBorderRouterManagement INSTANCE = new ThreadBorderRouterManagement();
         public long getID() {
             return ID;
         }
@@ -15441,12 +23919,43 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return BorderRouterName;
+                    case (int) 1L:
+                        return BorderAgentID;
+                    case (int) 2L:
+                        return ThreadVersion;
+                    case (int) 3L:
+                        return InterfaceEnabled;
+                    case (int) 4L:
+                        return ActiveDatasetTimestamp;
+                    case (int) 5L:
+                        return PendingDatasetTimestamp;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -15461,12 +23970,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -15485,12 +24003,29 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return GetActiveDatasetRequest;
+                    case (int) 1L:
+                        return GetPendingDatasetRequest;
+                    case (int) 3L:
+                        return SetActiveDatasetRequest;
+                    case (int) 4L:
+                        return SetPendingDatasetRequest;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum SetActiveDatasetRequestCommandField {ActiveDataset(0),Breadcrumb(1),;
                     private final int id;
@@ -15555,9 +24090,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ThreadNetworkDirectory implements BaseCluster {
         public static final long ID = 1107L;
+        public static final ThreadNetworkDirectory INSTANCE = new ThreadNetworkDirectory();
         public long getID() {
             return ID;
         }
@@ -15581,12 +24135,37 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return PreferredExtendedPanID;
+                    case (int) 1L:
+                        return ThreadNetworks;
+                    case (int) 2L:
+                        return ThreadNetworkTableSize;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -15601,12 +24180,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -15624,12 +24212,27 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return AddNetwork;
+                    case (int) 1L:
+                        return RemoveNetwork;
+                    case (int) 2L:
+                        return GetOperationalDataset;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum AddNetworkCommandField {OperationalDataset(0),;
                     private final int id;
@@ -15711,9 +24314,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class WakeOnLan implements BaseCluster {
         public static final long ID = 1283L;
+        public static final WakeOnLan INSTANCE = new WakeOnLan();
         public long getID() {
             return ID;
         }
@@ -15736,12 +24358,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MACAddress;
+                    case (int) 1L:
+                        return LinkLocalAddress;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -15756,12 +24401,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -15776,12 +24430,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -15812,9 +24475,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class Channel implements BaseCluster {
         public static final long ID = 1284L;
+        public static final Channel INSTANCE = new Channel();
         public long getID() {
             return ID;
         }
@@ -15838,12 +24520,37 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ChannelList;
+                    case (int) 1L:
+                        return Lineup;
+                    case (int) 2L:
+                        return CurrentChannel;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -15858,12 +24565,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -15884,12 +24600,33 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ChangeChannel;
+                    case (int) 2L:
+                        return ChangeChannelByNumber;
+                    case (int) 3L:
+                        return SkipChannel;
+                    case (int) 4L:
+                        return GetProgramGuide;
+                    case (int) 6L:
+                        return RecordProgram;
+                    case (int) 7L:
+                        return CancelRecordProgram;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ChangeChannelCommandField {Match(0),;
                     private final int id;
@@ -16022,9 +24759,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class TargetNavigator implements BaseCluster {
         public static final long ID = 1285L;
+        public static final TargetNavigator INSTANCE = new TargetNavigator();
         public long getID() {
             return ID;
         }
@@ -16047,12 +24803,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return TargetList;
+                    case (int) 1L:
+                        return CurrentTarget;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -16068,12 +24847,23 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return TargetUpdated;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -16089,12 +24879,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return NavigateTarget;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum NavigateTargetCommandField {Target(0),Data(1),;
                     private final int id;
@@ -16142,9 +24943,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class MediaPlayback implements BaseCluster {
         public static final long ID = 1286L;
+        public static final MediaPlayback INSTANCE = new MediaPlayback();
         public long getID() {
             return ID;
         }
@@ -16176,12 +24996,53 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return CurrentState;
+                    case (int) 1L:
+                        return StartTime;
+                    case (int) 2L:
+                        return Duration;
+                    case (int) 3L:
+                        return SampledPosition;
+                    case (int) 4L:
+                        return PlaybackSpeed;
+                    case (int) 5L:
+                        return SeekRangeEnd;
+                    case (int) 6L:
+                        return SeekRangeStart;
+                    case (int) 7L:
+                        return ActiveAudioTrack;
+                    case (int) 8L:
+                        return AvailableAudioTracks;
+                    case (int) 9L:
+                        return ActiveTextTrack;
+                    case (int) 10L:
+                        return AvailableTextTracks;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -16197,12 +25058,23 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return StateChanged;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -16231,12 +25103,49 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Play;
+                    case (int) 1L:
+                        return Pause;
+                    case (int) 2L:
+                        return Stop;
+                    case (int) 3L:
+                        return StartOver;
+                    case (int) 4L:
+                        return Previous;
+                    case (int) 5L:
+                        return Next;
+                    case (int) 6L:
+                        return Rewind;
+                    case (int) 7L:
+                        return FastForward;
+                    case (int) 8L:
+                        return SkipForward;
+                    case (int) 9L:
+                        return SkipBackward;
+                    case (int) 11L:
+                        return Seek;
+                    case (int) 12L:
+                        return ActivateAudioTrack;
+                    case (int) 13L:
+                        return ActivateTextTrack;
+                    case (int) 14L:
+                        return DeactivateTextTrack;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum RewindCommandField {AudioAdvanceUnmuted(0),;
                     private final int id;
@@ -16386,9 +25295,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class MediaInput implements BaseCluster {
         public static final long ID = 1287L;
+        public static final MediaInput INSTANCE = new MediaInput();
         public long getID() {
             return ID;
         }
@@ -16411,12 +25339,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return InputList;
+                    case (int) 1L:
+                        return CurrentInput;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -16431,12 +25382,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -16455,12 +25415,29 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SelectInput;
+                    case (int) 1L:
+                        return ShowInputStatus;
+                    case (int) 2L:
+                        return HideInputStatus;
+                    case (int) 3L:
+                        return RenameInput;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum SelectInputCommandField {Index(0),;
                     private final int id;
@@ -16525,9 +25502,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class LowPower implements BaseCluster {
         public static final long ID = 1288L;
+        public static final LowPower INSTANCE = new LowPower();
         public long getID() {
             return ID;
         }
@@ -16548,12 +25544,31 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -16568,12 +25583,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -16589,12 +25613,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Sleep;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -16625,9 +25660,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class KeypadInput implements BaseCluster {
         public static final long ID = 1289L;
+        public static final KeypadInput INSTANCE = new KeypadInput();
         public long getID() {
             return ID;
         }
@@ -16648,12 +25702,31 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -16668,12 +25741,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -16689,12 +25771,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SendKey;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum SendKeyCommandField {KeyCode(0),;
                     private final int id;
@@ -16742,9 +25835,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ContentLauncher implements BaseCluster {
         public static final long ID = 1290L;
+        public static final ContentLauncher INSTANCE = new ContentLauncher();
         public long getID() {
             return ID;
         }
@@ -16767,12 +25879,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return AcceptHeader;
+                    case (int) 1L:
+                        return SupportedStreamingProtocols;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -16787,12 +25922,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -16809,12 +25953,25 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return LaunchContent;
+                    case (int) 1L:
+                        return LaunchURL;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum LaunchContentCommandField {Search(0),AutoPlay(1),Data(2),PlaybackPreferences(3),UseCurrentContext(4),;
                     private final int id;
@@ -16879,9 +26036,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class AudioOutput implements BaseCluster {
         public static final long ID = 1291L;
+        public static final AudioOutput INSTANCE = new AudioOutput();
         public long getID() {
             return ID;
         }
@@ -16904,12 +26080,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return OutputList;
+                    case (int) 1L:
+                        return CurrentOutput;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -16924,12 +26123,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -16946,12 +26154,25 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SelectOutput;
+                    case (int) 1L:
+                        return RenameOutput;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum SelectOutputCommandField {Index(0),;
                     private final int id;
@@ -17016,9 +26237,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ApplicationLauncher implements BaseCluster {
         public static final long ID = 1292L;
+        public static final ApplicationLauncher INSTANCE = new ApplicationLauncher();
         public long getID() {
             return ID;
         }
@@ -17041,12 +26281,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return CatalogList;
+                    case (int) 1L:
+                        return CurrentApp;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -17061,12 +26324,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -17084,12 +26356,27 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return LaunchApp;
+                    case (int) 1L:
+                        return StopApp;
+                    case (int) 2L:
+                        return HideApp;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum LaunchAppCommandField {Application(0),Data(1),;
                     private final int id;
@@ -17171,9 +26458,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ApplicationBasic implements BaseCluster {
         public static final long ID = 1293L;
+        public static final ApplicationBasic INSTANCE = new ApplicationBasic();
         public long getID() {
             return ID;
         }
@@ -17202,12 +26508,47 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return VendorName;
+                    case (int) 1L:
+                        return VendorID;
+                    case (int) 2L:
+                        return ApplicationName;
+                    case (int) 3L:
+                        return ProductID;
+                    case (int) 4L:
+                        return Application;
+                    case (int) 5L:
+                        return Status;
+                    case (int) 6L:
+                        return ApplicationVersion;
+                    case (int) 7L:
+                        return AllowedVendorList;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -17222,12 +26563,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -17242,12 +26592,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -17278,9 +26637,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class AccountLogin implements BaseCluster {
         public static final long ID = 1294L;
+        public static final AccountLogin INSTANCE = new AccountLogin();
         public long getID() {
             return ID;
         }
@@ -17301,12 +26679,31 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -17322,12 +26719,23 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return LoggedOut;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -17345,12 +26753,27 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return GetSetupPIN;
+                    case (int) 2L:
+                        return Login;
+                    case (int) 3L:
+                        return Logout;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum GetSetupPINCommandField {TempAccountIdentifier(0),;
                     private final int id;
@@ -17432,9 +26855,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ContentControl implements BaseCluster {
         public static final long ID = 1295L;
+        public static final ContentControl INSTANCE = new ContentControl();
         public long getID() {
             return ID;
         }
@@ -17466,12 +26908,53 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Enabled;
+                    case (int) 1L:
+                        return OnDemandRatings;
+                    case (int) 2L:
+                        return OnDemandRatingThreshold;
+                    case (int) 3L:
+                        return ScheduledContentRatings;
+                    case (int) 4L:
+                        return ScheduledContentRatingThreshold;
+                    case (int) 5L:
+                        return ScreenDailyTime;
+                    case (int) 6L:
+                        return RemainingScreenTime;
+                    case (int) 7L:
+                        return BlockUnrated;
+                    case (int) 8L:
+                        return BlockChannelList;
+                    case (int) 9L:
+                        return BlockApplicationList;
+                    case (int) 10L:
+                        return BlockContentTimeWindow;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -17488,12 +26971,25 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return RemainingScreenTimeExpired;
+                    case (int) 1L:
+                        return EnteringBlockContentTimeWindow;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -17524,12 +27020,53 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return UpdatePIN;
+                    case (int) 1L:
+                        return ResetPIN;
+                    case (int) 3L:
+                        return Enable;
+                    case (int) 4L:
+                        return Disable;
+                    case (int) 5L:
+                        return AddBonusTime;
+                    case (int) 6L:
+                        return SetScreenDailyTime;
+                    case (int) 7L:
+                        return BlockUnratedContent;
+                    case (int) 8L:
+                        return UnblockUnratedContent;
+                    case (int) 9L:
+                        return SetOnDemandRatingThreshold;
+                    case (int) 10L:
+                        return SetScheduledContentRatingThreshold;
+                    case (int) 11L:
+                        return AddBlockChannels;
+                    case (int) 12L:
+                        return RemoveBlockChannels;
+                    case (int) 13L:
+                        return AddBlockApplications;
+                    case (int) 14L:
+                        return RemoveBlockApplications;
+                    case (int) 15L:
+                        return SetBlockContentTimeWindow;
+                    case (int) 16L:
+                        return RemoveBlockContentTimeWindow;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum UpdatePINCommandField {OldPIN(0),NewPIN(1),;
                     private final int id;
@@ -17747,9 +27284,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ContentAppObserver implements BaseCluster {
         public static final long ID = 1296L;
+        public static final ContentAppObserver INSTANCE = new ContentAppObserver();
         public long getID() {
             return ID;
         }
@@ -17770,12 +27326,31 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -17790,12 +27365,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -17811,12 +27395,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ContentAppMessage;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ContentAppMessageCommandField {Data(0),EncodingHint(1),;
                     private final int id;
@@ -17864,9 +27459,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class ZoneManagement implements BaseCluster {
         public static final long ID = 1360L;
+        public static final ZoneManagement INSTANCE = new ZoneManagement();
         public long getID() {
             return ID;
         }
@@ -17894,12 +27508,45 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MaxUserDefinedZones;
+                    case (int) 1L:
+                        return MaxZones;
+                    case (int) 2L:
+                        return Zones;
+                    case (int) 3L:
+                        return Triggers;
+                    case (int) 4L:
+                        return SensitivityMax;
+                    case (int) 5L:
+                        return Sensitivity;
+                    case (int) 6L:
+                        return TwoDCartesianMax;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -17916,12 +27563,25 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ZoneTriggered;
+                    case (int) 1L:
+                        return ZoneStopped;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -17941,12 +27601,31 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return CreateTwoDCartesianZone;
+                    case (int) 2L:
+                        return UpdateTwoDCartesianZone;
+                    case (int) 3L:
+                        return RemoveZone;
+                    case (int) 4L:
+                        return CreateOrUpdateTrigger;
+                    case (int) 5L:
+                        return RemoveTrigger;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum CreateTwoDCartesianZoneCommandField {Zone(0),;
                     private final int id;
@@ -18062,9 +27741,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class CameraAvStreamManagement implements BaseCluster {
         public static final long ID = 1361L;
+        public static final CameraAvStreamManagement INSTANCE = new CameraAvStreamManagement();
         public long getID() {
             return ID;
         }
@@ -18126,12 +27824,113 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MaxConcurrentEncoders;
+                    case (int) 1L:
+                        return MaxEncodedPixelRate;
+                    case (int) 2L:
+                        return VideoSensorParams;
+                    case (int) 3L:
+                        return NightVisionUsesInfrared;
+                    case (int) 4L:
+                        return MinViewportResolution;
+                    case (int) 5L:
+                        return RateDistortionTradeOffPoints;
+                    case (int) 6L:
+                        return MaxContentBufferSize;
+                    case (int) 7L:
+                        return MicrophoneCapabilities;
+                    case (int) 8L:
+                        return SpeakerCapabilities;
+                    case (int) 9L:
+                        return TwoWayTalkSupport;
+                    case (int) 10L:
+                        return SnapshotCapabilities;
+                    case (int) 11L:
+                        return MaxNetworkBandwidth;
+                    case (int) 12L:
+                        return CurrentFrameRate;
+                    case (int) 13L:
+                        return HDRModeEnabled;
+                    case (int) 14L:
+                        return SupportedStreamUsages;
+                    case (int) 15L:
+                        return AllocatedVideoStreams;
+                    case (int) 16L:
+                        return AllocatedAudioStreams;
+                    case (int) 17L:
+                        return AllocatedSnapshotStreams;
+                    case (int) 18L:
+                        return StreamUsagePriorities;
+                    case (int) 19L:
+                        return SoftRecordingPrivacyModeEnabled;
+                    case (int) 20L:
+                        return SoftLivestreamPrivacyModeEnabled;
+                    case (int) 21L:
+                        return HardPrivacyModeOn;
+                    case (int) 22L:
+                        return NightVision;
+                    case (int) 23L:
+                        return NightVisionIllum;
+                    case (int) 24L:
+                        return Viewport;
+                    case (int) 25L:
+                        return SpeakerMuted;
+                    case (int) 26L:
+                        return SpeakerVolumeLevel;
+                    case (int) 27L:
+                        return SpeakerMaxLevel;
+                    case (int) 28L:
+                        return SpeakerMinLevel;
+                    case (int) 29L:
+                        return MicrophoneMuted;
+                    case (int) 30L:
+                        return MicrophoneVolumeLevel;
+                    case (int) 31L:
+                        return MicrophoneMaxLevel;
+                    case (int) 32L:
+                        return MicrophoneMinLevel;
+                    case (int) 33L:
+                        return MicrophoneAGCEnabled;
+                    case (int) 34L:
+                        return ImageRotation;
+                    case (int) 35L:
+                        return ImageFlipHorizontal;
+                    case (int) 36L:
+                        return ImageFlipVertical;
+                    case (int) 37L:
+                        return LocalVideoRecordingEnabled;
+                    case (int) 38L:
+                        return LocalSnapshotRecordingEnabled;
+                    case (int) 39L:
+                        return StatusLightEnabled;
+                    case (int) 40L:
+                        return StatusLightBrightness;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -18146,12 +27945,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -18176,12 +27984,41 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return AudioStreamAllocate;
+                    case (int) 2L:
+                        return AudioStreamDeallocate;
+                    case (int) 3L:
+                        return VideoStreamAllocate;
+                    case (int) 5L:
+                        return VideoStreamModify;
+                    case (int) 6L:
+                        return VideoStreamDeallocate;
+                    case (int) 7L:
+                        return SnapshotStreamAllocate;
+                    case (int) 9L:
+                        return SnapshotStreamModify;
+                    case (int) 10L:
+                        return SnapshotStreamDeallocate;
+                    case (int) 11L:
+                        return SetStreamPriorities;
+                    case (int) 12L:
+                        return CaptureSnapshot;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum AudioStreamAllocateCommandField {StreamUsage(0),AudioCodec(1),ChannelCount(2),SampleRate(3),BitRate(4),BitDepth(5),;
                     private final int id;
@@ -18382,9 +28219,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class CameraAvSettingsUserLevelManagement implements BaseCluster {
         public static final long ID = 1362L;
+        public static final CameraAvSettingsUserLevelManagement INSTANCE = new CameraAvSettingsUserLevelManagement();
         public long getID() {
             return ID;
         }
@@ -18415,12 +28271,51 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MPTZPosition;
+                    case (int) 1L:
+                        return MaxPresets;
+                    case (int) 2L:
+                        return MPTZPresets;
+                    case (int) 3L:
+                        return DPTZStreams;
+                    case (int) 4L:
+                        return ZoomMax;
+                    case (int) 5L:
+                        return TiltMin;
+                    case (int) 6L:
+                        return TiltMax;
+                    case (int) 7L:
+                        return PanMin;
+                    case (int) 8L:
+                        return PanMax;
+                    case (int) 9L:
+                        return MovementState;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -18435,12 +28330,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -18462,12 +28366,35 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MPTZSetPosition;
+                    case (int) 1L:
+                        return MPTZRelativeMove;
+                    case (int) 2L:
+                        return MPTZMoveToPreset;
+                    case (int) 3L:
+                        return MPTZSavePreset;
+                    case (int) 4L:
+                        return MPTZRemovePreset;
+                    case (int) 5L:
+                        return DPTZSetViewport;
+                    case (int) 6L:
+                        return DPTZRelativeMove;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum MPTZSetPositionCommandField {Pan(0),Tilt(1),Zoom(2),;
                     private final int id;
@@ -18617,9 +28544,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class WebRTCTransportProvider implements BaseCluster {
         public static final long ID = 1363L;
+        public static final WebRTCTransportProvider INSTANCE = new WebRTCTransportProvider();
         public long getID() {
             return ID;
         }
@@ -18641,12 +28587,33 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return CurrentSessions;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -18661,12 +28628,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -18686,12 +28662,31 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SolicitOffer;
+                    case (int) 2L:
+                        return ProvideOffer;
+                    case (int) 4L:
+                        return ProvideAnswer;
+                    case (int) 5L:
+                        return ProvideICECandidates;
+                    case (int) 6L:
+                        return EndSession;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum SolicitOfferCommandField {StreamUsage(0),OriginatingEndpointID(1),VideoStreamID(2),AudioStreamID(3),ICEServers(4),ICETransportPolicy(5),MetadataEnabled(6),SFrameConfig(7),;
                     private final int id;
@@ -18807,9 +28802,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class WebRTCTransportRequestor implements BaseCluster {
         public static final long ID = 1364L;
+        public static final WebRTCTransportRequestor INSTANCE = new WebRTCTransportRequestor();
         public long getID() {
             return ID;
         }
@@ -18831,12 +28845,33 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return CurrentSessions;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -18851,12 +28886,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -18875,12 +28919,29 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Offer;
+                    case (int) 1L:
+                        return Answer;
+                    case (int) 2L:
+                        return ICECandidates;
+                    case (int) 3L:
+                        return End;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum OfferCommandField {WebRTCSessionID(0),Sdp(1),ICEServers(2),ICETransportPolicy(3),;
                     private final int id;
@@ -18979,9 +29040,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class PushAvStreamTransport implements BaseCluster {
         public static final long ID = 1365L;
+        public static final PushAvStreamTransport INSTANCE = new PushAvStreamTransport();
         public long getID() {
             return ID;
         }
@@ -19004,12 +29084,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SupportedFormats;
+                    case (int) 1L:
+                        return CurrentConnections;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -19026,12 +29129,25 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return PushTransportBegin;
+                    case (int) 1L:
+                        return PushTransportEnd;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -19052,12 +29168,33 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return AllocatePushTransport;
+                    case (int) 2L:
+                        return DeallocatePushTransport;
+                    case (int) 3L:
+                        return ModifyPushTransport;
+                    case (int) 4L:
+                        return SetTransportStatus;
+                    case (int) 5L:
+                        return ManuallyTriggerTransport;
+                    case (int) 6L:
+                        return FindTransport;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum AllocatePushTransportCommandField {TransportOptions(0),;
                     private final int id;
@@ -19190,9 +29327,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class Chime implements BaseCluster {
         public static final long ID = 1366L;
+        public static final Chime INSTANCE = new Chime();
         public long getID() {
             return ID;
         }
@@ -19216,12 +29372,37 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return InstalledChimeSounds;
+                    case (int) 1L:
+                        return SelectedChime;
+                    case (int) 2L:
+                        return Enabled;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -19236,12 +29417,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -19257,12 +29447,23 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return PlayChimeSound;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -19280,22 +29481,41 @@ public class ClusterIDMapping {
         }
 
         @Override
-        public long getAttributeID(String name) throws IllegalArgumentException {
-            return Attribute.valueOf(name).getID();
+        public long getAttributeID(String name) throws IllegalArgumentException {
+            return Attribute.valueOf(name).getID();
+        }
+
+        @Override
+        public long getEventID(String name) throws IllegalArgumentException {
+            return Event.valueOf(name).getID();
+        }
+
+        @Override
+        public long getCommandID(String name) throws IllegalArgumentException {
+            return Command.valueOf(name).getID();
+        }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
         }
 
         @Override
-        public long getEventID(String name) throws IllegalArgumentException {
-            return Event.valueOf(name).getID();
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
         }
 
         @Override
-        public long getCommandID(String name) throws IllegalArgumentException {
-            return Command.valueOf(name).getID();
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
         }
     }
     public static class CommodityTariff implements BaseCluster {
         public static final long ID = 1792L;
+        public static final CommodityTariff INSTANCE = new CommodityTariff();
         public long getID() {
             return ID;
         }
@@ -19335,12 +29555,69 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return TariffInfo;
+                    case (int) 1L:
+                        return TariffUnit;
+                    case (int) 2L:
+                        return StartDate;
+                    case (int) 3L:
+                        return DayEntries;
+                    case (int) 4L:
+                        return DayPatterns;
+                    case (int) 5L:
+                        return CalendarPeriods;
+                    case (int) 6L:
+                        return IndividualDays;
+                    case (int) 7L:
+                        return CurrentDay;
+                    case (int) 8L:
+                        return NextDay;
+                    case (int) 9L:
+                        return CurrentDayEntry;
+                    case (int) 10L:
+                        return CurrentDayEntryDate;
+                    case (int) 11L:
+                        return NextDayEntry;
+                    case (int) 12L:
+                        return NextDayEntryDate;
+                    case (int) 13L:
+                        return TariffComponents;
+                    case (int) 14L:
+                        return TariffPeriods;
+                    case (int) 15L:
+                        return CurrentTariffComponents;
+                    case (int) 16L:
+                        return NextTariffComponents;
+                    case (int) 17L:
+                        return DefaultRandomizationOffset;
+                    case (int) 18L:
+                        return DefaultRandomizationType;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -19355,12 +29632,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -19377,12 +29663,25 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return GetTariffComponent;
+                    case (int) 1L:
+                        return GetDayEntry;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum GetTariffComponentCommandField {TariffComponentID(0),;
                     private final int id;
@@ -19447,9 +29746,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class EcosystemInformation implements BaseCluster {
         public static final long ID = 1872L;
+        public static final EcosystemInformation INSTANCE = new EcosystemInformation();
         public long getID() {
             return ID;
         }
@@ -19472,12 +29790,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return DeviceDirectory;
+                    case (int) 1L:
+                        return LocationDirectory;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -19492,12 +29833,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -19512,12 +29862,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -19548,9 +29907,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class CommissionerControl implements BaseCluster {
         public static final long ID = 1873L;
+        public static final CommissionerControl INSTANCE = new CommissionerControl();
         public long getID() {
             return ID;
         }
@@ -19572,12 +29950,33 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return SupportedDeviceCategories;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -19593,12 +29992,23 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return CommissioningRequestResult;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -19615,12 +30025,25 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return RequestCommissioningApproval;
+                    case (int) 1L:
+                        return CommissionNode;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum RequestCommissioningApprovalCommandField {RequestID(0),VendorID(1),ProductID(2),Label(3),;
                     private final int id;
@@ -19685,9 +30108,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class JointFabricDatastore implements BaseCluster {
         public static final long ID = 1874L;
+        public static final JointFabricDatastore INSTANCE = new JointFabricDatastore();
         public long getID() {
             return ID;
         }
@@ -19722,12 +30164,59 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return AnchorRootCA;
+                    case (int) 1L:
+                        return AnchorNodeID;
+                    case (int) 2L:
+                        return AnchorVendorID;
+                    case (int) 3L:
+                        return FriendlyName;
+                    case (int) 4L:
+                        return GroupKeySetList;
+                    case (int) 5L:
+                        return GroupList;
+                    case (int) 6L:
+                        return NodeList;
+                    case (int) 7L:
+                        return AdminList;
+                    case (int) 8L:
+                        return Status;
+                    case (int) 9L:
+                        return EndpointGroupIDList;
+                    case (int) 10L:
+                        return EndpointBindingList;
+                    case (int) 11L:
+                        return NodeKeySetList;
+                    case (int) 12L:
+                        return NodeACLList;
+                    case (int) 13L:
+                        return NodeEndpointList;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -19742,12 +30231,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -19782,12 +30280,61 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return AddKeySet;
+                    case (int) 1L:
+                        return UpdateKeySet;
+                    case (int) 2L:
+                        return RemoveKeySet;
+                    case (int) 3L:
+                        return AddGroup;
+                    case (int) 4L:
+                        return UpdateGroup;
+                    case (int) 5L:
+                        return RemoveGroup;
+                    case (int) 6L:
+                        return AddAdmin;
+                    case (int) 7L:
+                        return UpdateAdmin;
+                    case (int) 8L:
+                        return RemoveAdmin;
+                    case (int) 9L:
+                        return AddPendingNode;
+                    case (int) 10L:
+                        return RefreshNode;
+                    case (int) 11L:
+                        return UpdateNode;
+                    case (int) 12L:
+                        return RemoveNode;
+                    case (int) 13L:
+                        return UpdateEndpointForNode;
+                    case (int) 14L:
+                        return AddGroupIDToEndpointForNode;
+                    case (int) 15L:
+                        return RemoveGroupIDFromEndpointForNode;
+                    case (int) 16L:
+                        return AddBindingToEndpointForNode;
+                    case (int) 17L:
+                        return RemoveBindingFromEndpointForNode;
+                    case (int) 18L:
+                        return AddACLToNode;
+                    case (int) 19L:
+                        return RemoveACLFromNode;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum AddKeySetCommandField {GroupKeySet(0),;
                     private final int id;
@@ -20158,9 +30705,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class JointFabricAdministrator implements BaseCluster {
         public static final long ID = 1875L;
+        public static final JointFabricAdministrator INSTANCE = new JointFabricAdministrator();
         public long getID() {
             return ID;
         }
@@ -20182,12 +30748,33 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return AdministratorFabricIndex;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -20202,12 +30789,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -20228,12 +30824,33 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ICACCSRRequest;
+                    case (int) 2L:
+                        return AddICAC;
+                    case (int) 4L:
+                        return OpenJointCommissioningWindow;
+                    case (int) 5L:
+                        return TransferAnchorRequest;
+                    case (int) 7L:
+                        return TransferAnchorComplete;
+                    case (int) 8L:
+                        return AnnounceJointFabricAdministrator;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum AddICACCommandField {ICACValue(0),;
                     private final int id;
@@ -20315,9 +30932,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class TlsCertificateManagement implements BaseCluster {
         public static final long ID = 2049L;
+        public static final TlsCertificateManagement INSTANCE = new TlsCertificateManagement();
         public long getID() {
             return ID;
         }
@@ -20342,12 +30978,39 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MaxRootCertificates;
+                    case (int) 1L:
+                        return ProvisionedRootCertificates;
+                    case (int) 2L:
+                        return MaxClientCertificates;
+                    case (int) 3L:
+                        return ProvisionedClientCertificates;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -20362,12 +31025,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -20391,12 +31063,39 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ProvisionRootCertificate;
+                    case (int) 2L:
+                        return FindRootCertificate;
+                    case (int) 4L:
+                        return LookupRootCertificate;
+                    case (int) 6L:
+                        return RemoveRootCertificate;
+                    case (int) 7L:
+                        return ClientCSR;
+                    case (int) 9L:
+                        return ProvisionClientCertificate;
+                    case (int) 10L:
+                        return FindClientCertificate;
+                    case (int) 12L:
+                        return LookupClientCertificate;
+                    case (int) 14L:
+                        return RemoveClientCertificate;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ProvisionRootCertificateCommandField {Certificate(0),Caid(1),;
                     private final int id;
@@ -20580,9 +31279,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class TlsClientManagement implements BaseCluster {
         public static final long ID = 2050L;
+        public static final TlsClientManagement INSTANCE = new TlsClientManagement();
         public long getID() {
             return ID;
         }
@@ -20605,12 +31323,35 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MaxProvisioned;
+                    case (int) 1L:
+                        return ProvisionedEndpoints;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -20625,12 +31366,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -20648,12 +31398,27 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return ProvisionEndpoint;
+                    case (int) 2L:
+                        return FindEndpoint;
+                    case (int) 4L:
+                        return RemoveEndpoint;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum ProvisionEndpointCommandField {Hostname(0),Port(1),Caid(2),Ccdid(3),EndpointID(4),;
                     private final int id;
@@ -20735,9 +31500,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class MeterIdentification implements BaseCluster {
         public static final long ID = 2822L;
+        public static final MeterIdentification INSTANCE = new MeterIdentification();
         public long getID() {
             return ID;
         }
@@ -20763,12 +31547,41 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeterType;
+                    case (int) 1L:
+                        return PointOfDelivery;
+                    case (int) 2L:
+                        return MeterSerialNumber;
+                    case (int) 3L:
+                        return ProtocolVersion;
+                    case (int) 4L:
+                        return PowerThreshold;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -20783,12 +31596,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -20803,12 +31625,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -20839,9 +31670,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class CommodityMetering implements BaseCluster {
         public static final long ID = 2823L;
+        public static final CommodityMetering INSTANCE = new CommodityMetering();
         public long getID() {
             return ID;
         }
@@ -20866,12 +31716,39 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return MeteredQuantity;
+                    case (int) 1L:
+                        return MeteredQuantityTimestamp;
+                    case (int) 2L:
+                        return TariffUnit;
+                    case (int) 3L:
+                        return MaximumMeteredQuantities;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -20886,12 +31763,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -20906,12 +31792,21 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }@Override
         public String getAttributeName(long id) throws NoSuchFieldError {
@@ -20942,9 +31837,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class UnitTesting implements BaseCluster {
         public static final long ID = 4294048773L;
+        public static final UnitTesting INSTANCE = new UnitTesting();
         public long getID() {
             return ID;
         }
@@ -21055,12 +31969,211 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Boolean;
+                    case (int) 1L:
+                        return Bitmap8;
+                    case (int) 2L:
+                        return Bitmap16;
+                    case (int) 3L:
+                        return Bitmap32;
+                    case (int) 4L:
+                        return Bitmap64;
+                    case (int) 5L:
+                        return Int8u;
+                    case (int) 6L:
+                        return Int16u;
+                    case (int) 7L:
+                        return Int24u;
+                    case (int) 8L:
+                        return Int32u;
+                    case (int) 9L:
+                        return Int40u;
+                    case (int) 10L:
+                        return Int48u;
+                    case (int) 11L:
+                        return Int56u;
+                    case (int) 12L:
+                        return Int64u;
+                    case (int) 13L:
+                        return Int8s;
+                    case (int) 14L:
+                        return Int16s;
+                    case (int) 15L:
+                        return Int24s;
+                    case (int) 16L:
+                        return Int32s;
+                    case (int) 17L:
+                        return Int40s;
+                    case (int) 18L:
+                        return Int48s;
+                    case (int) 19L:
+                        return Int56s;
+                    case (int) 20L:
+                        return Int64s;
+                    case (int) 21L:
+                        return Enum8;
+                    case (int) 22L:
+                        return Enum16;
+                    case (int) 23L:
+                        return FloatSingle;
+                    case (int) 24L:
+                        return FloatDouble;
+                    case (int) 25L:
+                        return OctetString;
+                    case (int) 26L:
+                        return ListInt8u;
+                    case (int) 27L:
+                        return ListOctetString;
+                    case (int) 28L:
+                        return ListStructOctetString;
+                    case (int) 29L:
+                        return LongOctetString;
+                    case (int) 30L:
+                        return CharString;
+                    case (int) 31L:
+                        return LongCharString;
+                    case (int) 32L:
+                        return EpochUs;
+                    case (int) 33L:
+                        return EpochS;
+                    case (int) 34L:
+                        return VendorId;
+                    case (int) 35L:
+                        return ListNullablesAndOptionalsStruct;
+                    case (int) 36L:
+                        return EnumAttr;
+                    case (int) 37L:
+                        return StructAttr;
+                    case (int) 38L:
+                        return RangeRestrictedInt8u;
+                    case (int) 39L:
+                        return RangeRestrictedInt8s;
+                    case (int) 40L:
+                        return RangeRestrictedInt16u;
+                    case (int) 41L:
+                        return RangeRestrictedInt16s;
+                    case (int) 42L:
+                        return ListLongOctetString;
+                    case (int) 43L:
+                        return ListFabricScoped;
+                    case (int) 48L:
+                        return TimedWriteBoolean;
+                    case (int) 49L:
+                        return GeneralErrorBoolean;
+                    case (int) 50L:
+                        return ClusterErrorBoolean;
+                    case (int) 51L:
+                        return GlobalEnum;
+                    case (int) 52L:
+                        return GlobalStruct;
+                    case (int) 254L:
+                        return UnsupportedAttributeRequiringAdminPrivilege;
+                    case (int) 255L:
+                        return Unsupported;
+                    case (int) 12288L:
+                        return ReadFailureCode;
+                    case (int) 12289L:
+                        return FailureInt32U;
+                    case (int) 16384L:
+                        return NullableBoolean;
+                    case (int) 16385L:
+                        return NullableBitmap8;
+                    case (int) 16386L:
+                        return NullableBitmap16;
+                    case (int) 16387L:
+                        return NullableBitmap32;
+                    case (int) 16388L:
+                        return NullableBitmap64;
+                    case (int) 16389L:
+                        return NullableInt8u;
+                    case (int) 16390L:
+                        return NullableInt16u;
+                    case (int) 16391L:
+                        return NullableInt24u;
+                    case (int) 16392L:
+                        return NullableInt32u;
+                    case (int) 16393L:
+                        return NullableInt40u;
+                    case (int) 16394L:
+                        return NullableInt48u;
+                    case (int) 16395L:
+                        return NullableInt56u;
+                    case (int) 16396L:
+                        return NullableInt64u;
+                    case (int) 16397L:
+                        return NullableInt8s;
+                    case (int) 16398L:
+                        return NullableInt16s;
+                    case (int) 16399L:
+                        return NullableInt24s;
+                    case (int) 16400L:
+                        return NullableInt32s;
+                    case (int) 16401L:
+                        return NullableInt40s;
+                    case (int) 16402L:
+                        return NullableInt48s;
+                    case (int) 16403L:
+                        return NullableInt56s;
+                    case (int) 16404L:
+                        return NullableInt64s;
+                    case (int) 16405L:
+                        return NullableEnum8;
+                    case (int) 16406L:
+                        return NullableEnum16;
+                    case (int) 16407L:
+                        return NullableFloatSingle;
+                    case (int) 16408L:
+                        return NullableFloatDouble;
+                    case (int) 16409L:
+                        return NullableOctetString;
+                    case (int) 16414L:
+                        return NullableCharString;
+                    case (int) 16420L:
+                        return NullableEnumAttr;
+                    case (int) 16421L:
+                        return NullableStruct;
+                    case (int) 16422L:
+                        return NullableRangeRestrictedInt8u;
+                    case (int) 16423L:
+                        return NullableRangeRestrictedInt8s;
+                    case (int) 16424L:
+                        return NullableRangeRestrictedInt16u;
+                    case (int) 16425L:
+                        return NullableRangeRestrictedInt16s;
+                    case (int) 16426L:
+                        return WriteOnlyInt8u;
+                    case (int) 16435L:
+                        return NullableGlobalEnum;
+                    case (int) 16436L:
+                        return NullableGlobalStruct;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    case (int) 4294070017L:
+                        return MeiInt8u;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -21078,12 +32191,27 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 1L:
+                        return TestEvent;
+                    case (int) 2L:
+                        return TestFabricScopedEvent;
+                    case (int) 4294050030L:
+                        return TestDifferentVendorMeiEvent;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -21126,12 +32254,77 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Test;
+                    case (int) 1L:
+                        return TestNotHandled;
+                    case (int) 2L:
+                        return TestSpecific;
+                    case (int) 3L:
+                        return TestUnknownCommand;
+                    case (int) 4L:
+                        return TestAddArguments;
+                    case (int) 5L:
+                        return TestSimpleArgumentRequest;
+                    case (int) 6L:
+                        return TestStructArrayArgumentRequest;
+                    case (int) 7L:
+                        return TestStructArgumentRequest;
+                    case (int) 8L:
+                        return TestNestedStructArgumentRequest;
+                    case (int) 9L:
+                        return TestListStructArgumentRequest;
+                    case (int) 10L:
+                        return TestListInt8UArgumentRequest;
+                    case (int) 11L:
+                        return TestNestedStructListArgumentRequest;
+                    case (int) 12L:
+                        return TestListNestedStructListArgumentRequest;
+                    case (int) 13L:
+                        return TestListInt8UReverseRequest;
+                    case (int) 14L:
+                        return TestEnumsRequest;
+                    case (int) 15L:
+                        return TestNullableOptionalRequest;
+                    case (int) 16L:
+                        return TestComplexNullableOptionalRequest;
+                    case (int) 17L:
+                        return SimpleStructEchoRequest;
+                    case (int) 18L:
+                        return TimedInvokeRequest;
+                    case (int) 19L:
+                        return TestSimpleOptionalArgumentRequest;
+                    case (int) 20L:
+                        return TestEmitTestEventRequest;
+                    case (int) 21L:
+                        return TestEmitTestFabricScopedEventRequest;
+                    case (int) 22L:
+                        return TestBatchHelperRequest;
+                    case (int) 23L:
+                        return TestSecondBatchHelperRequest;
+                    case (int) 24L:
+                        return StringEchoRequest;
+                    case (int) 25L:
+                        return GlobalEchoRequest;
+                    case (int) 26L:
+                        return TestCheckCommandFlags;
+                    case (int) 4294049962L:
+                        return TestDifferentVendorMeiRequest;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum TestAddArgumentsCommandField {Arg1(0),Arg2(1),;
                     private final int id;
@@ -21536,9 +32729,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class FaultInjection implements BaseCluster {
         public static final long ID = 4294048774L;
+        public static final FaultInjection INSTANCE = new FaultInjection();
         public long getID() {
             return ID;
         }
@@ -21559,12 +32771,31 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -21579,12 +32810,21 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -21601,12 +32841,25 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return FailAtFault;
+                    case (int) 1L:
+                        return FailRandomlyAtFault;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum FailAtFaultCommandField {Type(0),Id(1),NumCallsToSkip(2),NumCallsToFail(3),TakeMutex(4),;
                     private final int id;
@@ -21671,9 +32924,28 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }
     public static class SampleMei implements BaseCluster {
         public static final long ID = 4294048800L;
+        public static final SampleMei INSTANCE = new SampleMei();
         public long getID() {
             return ID;
         }
@@ -21695,12 +32967,33 @@ public class ClusterIDMapping {
             }
 
             public static Attribute value(long id) throws NoSuchFieldError {
-                for (Attribute attribute : Attribute.values()) {
-                    if (attribute.getID() == id) {
-                        return attribute;
-                    }
+                Attribute attribute = find(id);
+                if (attribute == null) {
+                    throw new NoSuchFieldError();
+                }
+                return attribute;
+            }
+
+            public static Attribute find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return FlipFlop;
+                    case (int) 65528L:
+                        return GeneratedCommandList;
+                    case (int) 65529L:
+                        return AcceptedCommandList;
+                    case (int) 65531L:
+                        return AttributeList;
+                    case (int) 65532L:
+                        return FeatureMap;
+                    case (int) 65533L:
+                        return ClusterRevision;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -21716,12 +33009,23 @@ public class ClusterIDMapping {
             }
 
             public static Event value(long id) throws NoSuchFieldError {
-                for (Event event : Event.values()) {
-                    if (event.getID() == id) {
-                        return event;
-                    }
+                Event event = find(id);
+                if (event == null) {
+                    throw new NoSuchFieldError();
+                }
+                return event;
+            }
+
+            public static Event find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return PingCountEvent;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }
 
@@ -21738,12 +33042,25 @@ public class ClusterIDMapping {
             }
 
             public static Command value(long id) throws NoSuchFieldError {
-                for (Command command : Command.values()) {
-                    if (command.getID() == id) {
-                        return command;
-                    }
+                Command command = find(id);
+                if (command == null) {
+                    throw new NoSuchFieldError();
+                }
+                return command;
+            }
+
+            public static Command find(long id) {
+                if ((id >>> 32) != 0) {
+                    return null;
+                }
+                switch ((int) id) {
+                    case (int) 0L:
+                        return Ping;
+                    case (int) 2L:
+                        return AddArguments;
+                    default:
+                        return null;
                 }
-                throw new NoSuchFieldError();
             }
         }public enum AddArgumentsCommandField {Arg1(0),Arg2(1),;
                     private final int id;
@@ -21791,4 +33108,22 @@ public class ClusterIDMapping {
         public long getCommandID(String name) throws IllegalArgumentException {
             return Command.valueOf(name).getID();
         }
+
+        @Override
+        public String findAttributeName(long id) {
+            Attribute attribute = Attribute.find(id);
+            return attribute == null ? null : attribute.toString();
+        }
+
+        @Override
+        public String findEventName(long id) {
+            Event event = Event.find(id);
+            return event == null ? null : event.toString();
+        }
+
+        @Override
+        public String findCommandName(long id) {
+            Command command = Command.find(id);
+            return command == null ? null : command.toString();
+        }
     }}
@@ -23003,16 +23003,883 @@ public class ClusterInfoMapping {
   }
 
 
+  /**
+   * Returns a new map of the clusters by name, with new {@link ClusterInfo} instances that the
+   * caller may modify. The commands, read and write interactions of a cluster are only created the
+   * first time its {@link ClusterInfo#getCommands()} is called.
+   */
   public Map<String, ClusterInfo> getClusterMap() {
-    Map<String, ClusterInfo> clusterMap = initializeClusterMap();
-    Map<String, Map<String, InteractionInfo>> commandMap = getCommandMap();
-    combineCommand(clusterMap, commandMap);
-    Map<String, Map<String, InteractionInfo>> readAttributeMap = new ClusterReadMapping().getReadAttributeMap();
-    combineCommand(clusterMap, readAttributeMap);
-    Map<String, Map<String, InteractionInfo>> writeAttributeMap = new ClusterWriteMapping().getWriteAttributeMap();
-    combineCommand(clusterMap, writeAttributeMap);
+    Map<String, ClusterInfo> clusterMap = new HashMap<>();
+    clusterMap.put("identify", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.IdentifyCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getIdentifyCommandMap(),
+        ClusterReadMapping.readIdentifyInteractionInfo(),
+        ClusterWriteMapping.writeIdentifyInteractionInfo())));
+    clusterMap.put("groups", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.GroupsCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getGroupsCommandMap(),
+        ClusterReadMapping.readGroupsInteractionInfo(),
+        ClusterWriteMapping.writeGroupsInteractionInfo())));
+    clusterMap.put("onOff", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.OnOffCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getOnOffCommandMap(),
+        ClusterReadMapping.readOnOffInteractionInfo(),
+        ClusterWriteMapping.writeOnOffInteractionInfo())));
+    clusterMap.put("levelControl", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.LevelControlCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getLevelControlCommandMap(),
+        ClusterReadMapping.readLevelControlInteractionInfo(),
+        ClusterWriteMapping.writeLevelControlInteractionInfo())));
+    clusterMap.put("pulseWidthModulation", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.PulseWidthModulationCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getPulseWidthModulationCommandMap(),
+        ClusterReadMapping.readPulseWidthModulationInteractionInfo(),
+        ClusterWriteMapping.writePulseWidthModulationInteractionInfo())));
+    clusterMap.put("descriptor", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.DescriptorCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getDescriptorCommandMap(),
+        ClusterReadMapping.readDescriptorInteractionInfo(),
+        ClusterWriteMapping.writeDescriptorInteractionInfo())));
+    clusterMap.put("binding", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.BindingCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getBindingCommandMap(),
+        ClusterReadMapping.readBindingInteractionInfo(),
+        ClusterWriteMapping.writeBindingInteractionInfo())));
+    clusterMap.put("accessControl", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.AccessControlCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getAccessControlCommandMap(),
+        ClusterReadMapping.readAccessControlInteractionInfo(),
+        ClusterWriteMapping.writeAccessControlInteractionInfo())));
+    clusterMap.put("actions", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ActionsCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getActionsCommandMap(),
+        ClusterReadMapping.readActionsInteractionInfo(),
+        ClusterWriteMapping.writeActionsInteractionInfo())));
+    clusterMap.put("basicInformation", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.BasicInformationCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getBasicInformationCommandMap(),
+        ClusterReadMapping.readBasicInformationInteractionInfo(),
+        ClusterWriteMapping.writeBasicInformationInteractionInfo())));
+    clusterMap.put("otaSoftwareUpdateProvider", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.OtaSoftwareUpdateProviderCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getOtaSoftwareUpdateProviderCommandMap(),
+        ClusterReadMapping.readOtaSoftwareUpdateProviderInteractionInfo(),
+        ClusterWriteMapping.writeOtaSoftwareUpdateProviderInteractionInfo())));
+    clusterMap.put("otaSoftwareUpdateRequestor", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.OtaSoftwareUpdateRequestorCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getOtaSoftwareUpdateRequestorCommandMap(),
+        ClusterReadMapping.readOtaSoftwareUpdateRequestorInteractionInfo(),
+        ClusterWriteMapping.writeOtaSoftwareUpdateRequestorInteractionInfo())));
+    clusterMap.put("localizationConfiguration", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.LocalizationConfigurationCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getLocalizationConfigurationCommandMap(),
+        ClusterReadMapping.readLocalizationConfigurationInteractionInfo(),
+        ClusterWriteMapping.writeLocalizationConfigurationInteractionInfo())));
+    clusterMap.put("timeFormatLocalization", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.TimeFormatLocalizationCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getTimeFormatLocalizationCommandMap(),
+        ClusterReadMapping.readTimeFormatLocalizationInteractionInfo(),
+        ClusterWriteMapping.writeTimeFormatLocalizationInteractionInfo())));
+    clusterMap.put("unitLocalization", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.UnitLocalizationCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getUnitLocalizationCommandMap(),
+        ClusterReadMapping.readUnitLocalizationInteractionInfo(),
+        ClusterWriteMapping.writeUnitLocalizationInteractionInfo())));
+    clusterMap.put("powerSourceConfiguration", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.PowerSourceConfigurationCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getPowerSourceConfigurationCommandMap(),
+        ClusterReadMapping.readPowerSourceConfigurationInteractionInfo(),
+        ClusterWriteMapping.writePowerSourceConfigurationInteractionInfo())));
+    clusterMap.put("powerSource", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.PowerSourceCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getPowerSourceCommandMap(),
+        ClusterReadMapping.readPowerSourceInteractionInfo(),
+        ClusterWriteMapping.writePowerSourceInteractionInfo())));
+    clusterMap.put("generalCommissioning", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.GeneralCommissioningCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getGeneralCommissioningCommandMap(),
+        ClusterReadMapping.readGeneralCommissioningInteractionInfo(),
+        ClusterWriteMapping.writeGeneralCommissioningInteractionInfo())));
+    clusterMap.put("networkCommissioning", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.NetworkCommissioningCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getNetworkCommissioningCommandMap(),
+        ClusterReadMapping.readNetworkCommissioningInteractionInfo(),
+        ClusterWriteMapping.writeNetworkCommissioningInteractionInfo())));
+    clusterMap.put("diagnosticLogs", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.DiagnosticLogsCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getDiagnosticLogsCommandMap(),
+        ClusterReadMapping.readDiagnosticLogsInteractionInfo(),
+        ClusterWriteMapping.writeDiagnosticLogsInteractionInfo())));
+    clusterMap.put("generalDiagnostics", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.GeneralDiagnosticsCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getGeneralDiagnosticsCommandMap(),
+        ClusterReadMapping.readGeneralDiagnosticsInteractionInfo(),
+        ClusterWriteMapping.writeGeneralDiagnosticsInteractionInfo())));
+    clusterMap.put("softwareDiagnostics", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.SoftwareDiagnosticsCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getSoftwareDiagnosticsCommandMap(),
+        ClusterReadMapping.readSoftwareDiagnosticsInteractionInfo(),
+        ClusterWriteMapping.writeSoftwareDiagnosticsInteractionInfo())));
+    clusterMap.put("threadNetworkDiagnostics", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ThreadNetworkDiagnosticsCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getThreadNetworkDiagnosticsCommandMap(),
+        ClusterReadMapping.readThreadNetworkDiagnosticsInteractionInfo(),
+        ClusterWriteMapping.writeThreadNetworkDiagnosticsInteractionInfo())));
+    clusterMap.put("wiFiNetworkDiagnostics", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.WiFiNetworkDiagnosticsCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getWiFiNetworkDiagnosticsCommandMap(),
+        ClusterReadMapping.readWiFiNetworkDiagnosticsInteractionInfo(),
+        ClusterWriteMapping.writeWiFiNetworkDiagnosticsInteractionInfo())));
+    clusterMap.put("ethernetNetworkDiagnostics", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.EthernetNetworkDiagnosticsCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getEthernetNetworkDiagnosticsCommandMap(),
+        ClusterReadMapping.readEthernetNetworkDiagnosticsInteractionInfo(),
+        ClusterWriteMapping.writeEthernetNetworkDiagnosticsInteractionInfo())));
+    clusterMap.put("timeSynchronization", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.TimeSynchronizationCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getTimeSynchronizationCommandMap(),
+        ClusterReadMapping.readTimeSynchronizationInteractionInfo(),
+        ClusterWriteMapping.writeTimeSynchronizationInteractionInfo())));
+    clusterMap.put("bridgedDeviceBasicInformation", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.BridgedDeviceBasicInformationCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getBridgedDeviceBasicInformationCommandMap(),
+        ClusterReadMapping.readBridgedDeviceBasicInformationInteractionInfo(),
+        ClusterWriteMapping.writeBridgedDeviceBasicInformationInteractionInfo())));
+    clusterMap.put("switch", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.SwitchCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getSwitchCommandMap(),
+        ClusterReadMapping.readSwitchInteractionInfo(),
+        ClusterWriteMapping.writeSwitchInteractionInfo())));
+    clusterMap.put("administratorCommissioning", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.AdministratorCommissioningCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getAdministratorCommissioningCommandMap(),
+        ClusterReadMapping.readAdministratorCommissioningInteractionInfo(),
+        ClusterWriteMapping.writeAdministratorCommissioningInteractionInfo())));
+    clusterMap.put("operationalCredentials", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.OperationalCredentialsCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getOperationalCredentialsCommandMap(),
+        ClusterReadMapping.readOperationalCredentialsInteractionInfo(),
+        ClusterWriteMapping.writeOperationalCredentialsInteractionInfo())));
+    clusterMap.put("groupKeyManagement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.GroupKeyManagementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getGroupKeyManagementCommandMap(),
+        ClusterReadMapping.readGroupKeyManagementInteractionInfo(),
+        ClusterWriteMapping.writeGroupKeyManagementInteractionInfo())));
+    clusterMap.put("fixedLabel", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.FixedLabelCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getFixedLabelCommandMap(),
+        ClusterReadMapping.readFixedLabelInteractionInfo(),
+        ClusterWriteMapping.writeFixedLabelInteractionInfo())));
+    clusterMap.put("userLabel", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.UserLabelCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getUserLabelCommandMap(),
+        ClusterReadMapping.readUserLabelInteractionInfo(),
+        ClusterWriteMapping.writeUserLabelInteractionInfo())));
+    clusterMap.put("proxyConfiguration", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ProxyConfigurationCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getProxyConfigurationCommandMap(),
+        ClusterReadMapping.readProxyConfigurationInteractionInfo(),
+        ClusterWriteMapping.writeProxyConfigurationInteractionInfo())));
+    clusterMap.put("proxyDiscovery", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ProxyDiscoveryCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getProxyDiscoveryCommandMap(),
+        ClusterReadMapping.readProxyDiscoveryInteractionInfo(),
+        ClusterWriteMapping.writeProxyDiscoveryInteractionInfo())));
+    clusterMap.put("proxyValid", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ProxyValidCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getProxyValidCommandMap(),
+        ClusterReadMapping.readProxyValidInteractionInfo(),
+        ClusterWriteMapping.writeProxyValidInteractionInfo())));
+    clusterMap.put("booleanState", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.BooleanStateCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getBooleanStateCommandMap(),
+        ClusterReadMapping.readBooleanStateInteractionInfo(),
+        ClusterWriteMapping.writeBooleanStateInteractionInfo())));
+    clusterMap.put("icdManagement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.IcdManagementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getIcdManagementCommandMap(),
+        ClusterReadMapping.readIcdManagementInteractionInfo(),
+        ClusterWriteMapping.writeIcdManagementInteractionInfo())));
+    clusterMap.put("timer", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.TimerCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getTimerCommandMap(),
+        ClusterReadMapping.readTimerInteractionInfo(),
+        ClusterWriteMapping.writeTimerInteractionInfo())));
+    clusterMap.put("ovenCavityOperationalState", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.OvenCavityOperationalStateCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getOvenCavityOperationalStateCommandMap(),
+        ClusterReadMapping.readOvenCavityOperationalStateInteractionInfo(),
+        ClusterWriteMapping.writeOvenCavityOperationalStateInteractionInfo())));
+    clusterMap.put("ovenMode", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.OvenModeCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getOvenModeCommandMap(),
+        ClusterReadMapping.readOvenModeInteractionInfo(),
+        ClusterWriteMapping.writeOvenModeInteractionInfo())));
+    clusterMap.put("laundryDryerControls", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.LaundryDryerControlsCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getLaundryDryerControlsCommandMap(),
+        ClusterReadMapping.readLaundryDryerControlsInteractionInfo(),
+        ClusterWriteMapping.writeLaundryDryerControlsInteractionInfo())));
+    clusterMap.put("modeSelect", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ModeSelectCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getModeSelectCommandMap(),
+        ClusterReadMapping.readModeSelectInteractionInfo(),
+        ClusterWriteMapping.writeModeSelectInteractionInfo())));
+    clusterMap.put("laundryWasherMode", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.LaundryWasherModeCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getLaundryWasherModeCommandMap(),
+        ClusterReadMapping.readLaundryWasherModeInteractionInfo(),
+        ClusterWriteMapping.writeLaundryWasherModeInteractionInfo())));
+    clusterMap.put("refrigeratorAndTemperatureControlledCabinetMode", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.RefrigeratorAndTemperatureControlledCabinetModeCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getRefrigeratorAndTemperatureControlledCabinetModeCommandMap(),
+        ClusterReadMapping.readRefrigeratorAndTemperatureControlledCabinetModeInteractionInfo(),
+        ClusterWriteMapping.writeRefrigeratorAndTemperatureControlledCabinetModeInteractionInfo())));
+    clusterMap.put("laundryWasherControls", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.LaundryWasherControlsCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getLaundryWasherControlsCommandMap(),
+        ClusterReadMapping.readLaundryWasherControlsInteractionInfo(),
+        ClusterWriteMapping.writeLaundryWasherControlsInteractionInfo())));
+    clusterMap.put("rvcRunMode", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.RvcRunModeCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getRvcRunModeCommandMap(),
+        ClusterReadMapping.readRvcRunModeInteractionInfo(),
+        ClusterWriteMapping.writeRvcRunModeInteractionInfo())));
+    clusterMap.put("rvcCleanMode", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.RvcCleanModeCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getRvcCleanModeCommandMap(),
+        ClusterReadMapping.readRvcCleanModeInteractionInfo(),
+        ClusterWriteMapping.writeRvcCleanModeInteractionInfo())));
+    clusterMap.put("temperatureControl", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.TemperatureControlCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getTemperatureControlCommandMap(),
+        ClusterReadMapping.readTemperatureControlInteractionInfo(),
+        ClusterWriteMapping.writeTemperatureControlInteractionInfo())));
+    clusterMap.put("refrigeratorAlarm", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.RefrigeratorAlarmCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getRefrigeratorAlarmCommandMap(),
+        ClusterReadMapping.readRefrigeratorAlarmInteractionInfo(),
+        ClusterWriteMapping.writeRefrigeratorAlarmInteractionInfo())));
+    clusterMap.put("dishwasherMode", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.DishwasherModeCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getDishwasherModeCommandMap(),
+        ClusterReadMapping.readDishwasherModeInteractionInfo(),
+        ClusterWriteMapping.writeDishwasherModeInteractionInfo())));
+    clusterMap.put("airQuality", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.AirQualityCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getAirQualityCommandMap(),
+        ClusterReadMapping.readAirQualityInteractionInfo(),
+        ClusterWriteMapping.writeAirQualityInteractionInfo())));
+    clusterMap.put("smokeCoAlarm", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.SmokeCoAlarmCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getSmokeCoAlarmCommandMap(),
+        ClusterReadMapping.readSmokeCoAlarmInteractionInfo(),
+        ClusterWriteMapping.writeSmokeCoAlarmInteractionInfo())));
+    clusterMap.put("dishwasherAlarm", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.DishwasherAlarmCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getDishwasherAlarmCommandMap(),
+        ClusterReadMapping.readDishwasherAlarmInteractionInfo(),
+        ClusterWriteMapping.writeDishwasherAlarmInteractionInfo())));
+    clusterMap.put("microwaveOvenMode", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.MicrowaveOvenModeCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getMicrowaveOvenModeCommandMap(),
+        ClusterReadMapping.readMicrowaveOvenModeInteractionInfo(),
+        ClusterWriteMapping.writeMicrowaveOvenModeInteractionInfo())));
+    clusterMap.put("microwaveOvenControl", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.MicrowaveOvenControlCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getMicrowaveOvenControlCommandMap(),
+        ClusterReadMapping.readMicrowaveOvenControlInteractionInfo(),
+        ClusterWriteMapping.writeMicrowaveOvenControlInteractionInfo())));
+    clusterMap.put("operationalState", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.OperationalStateCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getOperationalStateCommandMap(),
+        ClusterReadMapping.readOperationalStateInteractionInfo(),
+        ClusterWriteMapping.writeOperationalStateInteractionInfo())));
+    clusterMap.put("rvcOperationalState", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.RvcOperationalStateCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getRvcOperationalStateCommandMap(),
+        ClusterReadMapping.readRvcOperationalStateInteractionInfo(),
+        ClusterWriteMapping.writeRvcOperationalStateInteractionInfo())));
+    clusterMap.put("scenesManagement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ScenesManagementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getScenesManagementCommandMap(),
+        ClusterReadMapping.readScenesManagementInteractionInfo(),
+        ClusterWriteMapping.writeScenesManagementInteractionInfo())));
+    clusterMap.put("groupcast", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.GroupcastCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getGroupcastCommandMap(),
+        ClusterReadMapping.readGroupcastInteractionInfo(),
+        ClusterWriteMapping.writeGroupcastInteractionInfo())));
+    clusterMap.put("hepaFilterMonitoring", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.HepaFilterMonitoringCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getHepaFilterMonitoringCommandMap(),
+        ClusterReadMapping.readHepaFilterMonitoringInteractionInfo(),
+        ClusterWriteMapping.writeHepaFilterMonitoringInteractionInfo())));
+    clusterMap.put("activatedCarbonFilterMonitoring", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ActivatedCarbonFilterMonitoringCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getActivatedCarbonFilterMonitoringCommandMap(),
+        ClusterReadMapping.readActivatedCarbonFilterMonitoringInteractionInfo(),
+        ClusterWriteMapping.writeActivatedCarbonFilterMonitoringInteractionInfo())));
+    clusterMap.put("waterTankLevelMonitoring", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.WaterTankLevelMonitoringCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getWaterTankLevelMonitoringCommandMap(),
+        ClusterReadMapping.readWaterTankLevelMonitoringInteractionInfo(),
+        ClusterWriteMapping.writeWaterTankLevelMonitoringInteractionInfo())));
+    clusterMap.put("booleanStateConfiguration", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.BooleanStateConfigurationCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getBooleanStateConfigurationCommandMap(),
+        ClusterReadMapping.readBooleanStateConfigurationInteractionInfo(),
+        ClusterWriteMapping.writeBooleanStateConfigurationInteractionInfo())));
+    clusterMap.put("valveConfigurationAndControl", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ValveConfigurationAndControlCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getValveConfigurationAndControlCommandMap(),
+        ClusterReadMapping.readValveConfigurationAndControlInteractionInfo(),
+        ClusterWriteMapping.writeValveConfigurationAndControlInteractionInfo())));
+    clusterMap.put("electricalPowerMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ElectricalPowerMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getElectricalPowerMeasurementCommandMap(),
+        ClusterReadMapping.readElectricalPowerMeasurementInteractionInfo(),
+        ClusterWriteMapping.writeElectricalPowerMeasurementInteractionInfo())));
+    clusterMap.put("electricalEnergyMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ElectricalEnergyMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getElectricalEnergyMeasurementCommandMap(),
+        ClusterReadMapping.readElectricalEnergyMeasurementInteractionInfo(),
+        ClusterWriteMapping.writeElectricalEnergyMeasurementInteractionInfo())));
+    clusterMap.put("waterHeaterManagement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.WaterHeaterManagementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getWaterHeaterManagementCommandMap(),
+        ClusterReadMapping.readWaterHeaterManagementInteractionInfo(),
+        ClusterWriteMapping.writeWaterHeaterManagementInteractionInfo())));
+    clusterMap.put("commodityPrice", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.CommodityPriceCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getCommodityPriceCommandMap(),
+        ClusterReadMapping.readCommodityPriceInteractionInfo(),
+        ClusterWriteMapping.writeCommodityPriceInteractionInfo())));
+    clusterMap.put("messages", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.MessagesCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getMessagesCommandMap(),
+        ClusterReadMapping.readMessagesInteractionInfo(),
+        ClusterWriteMapping.writeMessagesInteractionInfo())));
+    clusterMap.put("deviceEnergyManagement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.DeviceEnergyManagementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getDeviceEnergyManagementCommandMap(),
+        ClusterReadMapping.readDeviceEnergyManagementInteractionInfo(),
+        ClusterWriteMapping.writeDeviceEnergyManagementInteractionInfo())));
+    clusterMap.put("energyEvse", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.EnergyEvseCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getEnergyEvseCommandMap(),
+        ClusterReadMapping.readEnergyEvseInteractionInfo(),
+        ClusterWriteMapping.writeEnergyEvseInteractionInfo())));
+    clusterMap.put("energyPreference", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.EnergyPreferenceCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getEnergyPreferenceCommandMap(),
+        ClusterReadMapping.readEnergyPreferenceInteractionInfo(),
+        ClusterWriteMapping.writeEnergyPreferenceInteractionInfo())));
+    clusterMap.put("powerTopology", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.PowerTopologyCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getPowerTopologyCommandMap(),
+        ClusterReadMapping.readPowerTopologyInteractionInfo(),
+        ClusterWriteMapping.writePowerTopologyInteractionInfo())));
+    clusterMap.put("energyEvseMode", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.EnergyEvseModeCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getEnergyEvseModeCommandMap(),
+        ClusterReadMapping.readEnergyEvseModeInteractionInfo(),
+        ClusterWriteMapping.writeEnergyEvseModeInteractionInfo())));
+    clusterMap.put("waterHeaterMode", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.WaterHeaterModeCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getWaterHeaterModeCommandMap(),
+        ClusterReadMapping.readWaterHeaterModeInteractionInfo(),
+        ClusterWriteMapping.writeWaterHeaterModeInteractionInfo())));
+    clusterMap.put("deviceEnergyManagementMode", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.DeviceEnergyManagementModeCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getDeviceEnergyManagementModeCommandMap(),
+        ClusterReadMapping.readDeviceEnergyManagementModeInteractionInfo(),
+        ClusterWriteMapping.writeDeviceEnergyManagementModeInteractionInfo())));
+    clusterMap.put("electricalGridConditions", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ElectricalGridConditionsCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getElectricalGridConditionsCommandMap(),
+        ClusterReadMapping.readElectricalGridConditionsInteractionInfo(),
+        ClusterWriteMapping.writeElectricalGridConditionsInteractionInfo())));
+    clusterMap.put("doorLock", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.DoorLockCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getDoorLockCommandMap(),
+        ClusterReadMapping.readDoorLockInteractionInfo(),
+        ClusterWriteMapping.writeDoorLockInteractionInfo())));
+    clusterMap.put("windowCovering", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.WindowCoveringCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getWindowCoveringCommandMap(),
+        ClusterReadMapping.readWindowCoveringInteractionInfo(),
+        ClusterWriteMapping.writeWindowCoveringInteractionInfo())));
+    clusterMap.put("closureControl", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ClosureControlCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getClosureControlCommandMap(),
+        ClusterReadMapping.readClosureControlInteractionInfo(),
+        ClusterWriteMapping.writeClosureControlInteractionInfo())));
+    clusterMap.put("closureDimension", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ClosureDimensionCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getClosureDimensionCommandMap(),
+        ClusterReadMapping.readClosureDimensionInteractionInfo(),
+        ClusterWriteMapping.writeClosureDimensionInteractionInfo())));
+    clusterMap.put("serviceArea", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ServiceAreaCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getServiceAreaCommandMap(),
+        ClusterReadMapping.readServiceAreaInteractionInfo(),
+        ClusterWriteMapping.writeServiceAreaInteractionInfo())));
+    clusterMap.put("pumpConfigurationAndControl", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.PumpConfigurationAndControlCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getPumpConfigurationAndControlCommandMap(),
+        ClusterReadMapping.readPumpConfigurationAndControlInteractionInfo(),
+        ClusterWriteMapping.writePumpConfigurationAndControlInteractionInfo())));
+    clusterMap.put("thermostat", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ThermostatCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getThermostatCommandMap(),
+        ClusterReadMapping.readThermostatInteractionInfo(),
+        ClusterWriteMapping.writeThermostatInteractionInfo())));
+    clusterMap.put("fanControl", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.FanControlCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getFanControlCommandMap(),
+        ClusterReadMapping.readFanControlInteractionInfo(),
+        ClusterWriteMapping.writeFanControlInteractionInfo())));
+    clusterMap.put("thermostatUserInterfaceConfiguration", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ThermostatUserInterfaceConfigurationCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getThermostatUserInterfaceConfigurationCommandMap(),
+        ClusterReadMapping.readThermostatUserInterfaceConfigurationInteractionInfo(),
+        ClusterWriteMapping.writeThermostatUserInterfaceConfigurationInteractionInfo())));
+    clusterMap.put("colorControl", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ColorControlCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getColorControlCommandMap(),
+        ClusterReadMapping.readColorControlInteractionInfo(),
+        ClusterWriteMapping.writeColorControlInteractionInfo())));
+    clusterMap.put("ballastConfiguration", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.BallastConfigurationCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getBallastConfigurationCommandMap(),
+        ClusterReadMapping.readBallastConfigurationInteractionInfo(),
+        ClusterWriteMapping.writeBallastConfigurationInteractionInfo())));
+    clusterMap.put("illuminanceMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.IlluminanceMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getIlluminanceMeasurementCommandMap(),
+        ClusterReadMapping.readIlluminanceMeasurementInteractionInfo(),
+        ClusterWriteMapping.writeIlluminanceMeasurementInteractionInfo())));
+    clusterMap.put("temperatureMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.TemperatureMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getTemperatureMeasurementCommandMap(),
+        ClusterReadMapping.readTemperatureMeasurementInteractionInfo(),
+        ClusterWriteMapping.writeTemperatureMeasurementInteractionInfo())));
+    clusterMap.put("pressureMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.PressureMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getPressureMeasurementCommandMap(),
+        ClusterReadMapping.readPressureMeasurementInteractionInfo(),
+        ClusterWriteMapping.writePressureMeasurementInteractionInfo())));
+    clusterMap.put("flowMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.FlowMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getFlowMeasurementCommandMap(),
+        ClusterReadMapping.readFlowMeasurementInteractionInfo(),
+        ClusterWriteMapping.writeFlowMeasurementInteractionInfo())));
+    clusterMap.put("relativeHumidityMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.RelativeHumidityMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getRelativeHumidityMeasurementCommandMap(),
+        ClusterReadMapping.readRelativeHumidityMeasurementInteractionInfo(),
+        ClusterWriteMapping.writeRelativeHumidityMeasurementInteractionInfo())));
+    clusterMap.put("occupancySensing", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.OccupancySensingCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getOccupancySensingCommandMap(),
+        ClusterReadMapping.readOccupancySensingInteractionInfo(),
+        ClusterWriteMapping.writeOccupancySensingInteractionInfo())));
+    clusterMap.put("carbonMonoxideConcentrationMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.CarbonMonoxideConcentrationMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getCarbonMonoxideConcentrationMeasurementCommandMap(),
+        ClusterReadMapping.readCarbonMonoxideConcentrationMeasurementInteractionInfo(),
+        ClusterWriteMapping.writeCarbonMonoxideConcentrationMeasurementInteractionInfo())));
+    clusterMap.put("carbonDioxideConcentrationMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.CarbonDioxideConcentrationMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getCarbonDioxideConcentrationMeasurementCommandMap(),
+        ClusterReadMapping.readCarbonDioxideConcentrationMeasurementInteractionInfo(),
+        ClusterWriteMapping.writeCarbonDioxideConcentrationMeasurementInteractionInfo())));
+    clusterMap.put("nitrogenDioxideConcentrationMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.NitrogenDioxideConcentrationMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getNitrogenDioxideConcentrationMeasurementCommandMap(),
+        ClusterReadMapping.readNitrogenDioxideConcentrationMeasurementInteractionInfo(),
+        ClusterWriteMapping.writeNitrogenDioxideConcentrationMeasurementInteractionInfo())));
+    clusterMap.put("ozoneConcentrationMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.OzoneConcentrationMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getOzoneConcentrationMeasurementCommandMap(),
+        ClusterReadMapping.readOzoneConcentrationMeasurementInteractionInfo(),
+        ClusterWriteMapping.writeOzoneConcentrationMeasurementInteractionInfo())));
+    clusterMap.put("pm25ConcentrationMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.Pm25ConcentrationMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getPm25ConcentrationMeasurementCommandMap(),
+        ClusterReadMapping.readPm25ConcentrationMeasurementInteractionInfo(),
+        ClusterWriteMapping.writePm25ConcentrationMeasurementInteractionInfo())));
+    clusterMap.put("formaldehydeConcentrationMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.FormaldehydeConcentrationMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getFormaldehydeConcentrationMeasurementCommandMap(),
+        ClusterReadMapping.readFormaldehydeConcentrationMeasurementInteractionInfo(),
+        ClusterWriteMapping.writeFormaldehydeConcentrationMeasurementInteractionInfo())));
+    clusterMap.put("pm1ConcentrationMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.Pm1ConcentrationMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getPm1ConcentrationMeasurementCommandMap(),
+        ClusterReadMapping.readPm1ConcentrationMeasurementInteractionInfo(),
+        ClusterWriteMapping.writePm1ConcentrationMeasurementInteractionInfo())));
+    clusterMap.put("pm10ConcentrationMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.Pm10ConcentrationMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getPm10ConcentrationMeasurementCommandMap(),
+        ClusterReadMapping.readPm10ConcentrationMeasurementInteractionInfo(),
+        ClusterWriteMapping.writePm10ConcentrationMeasurementInteractionInfo())));
+    clusterMap.put("totalVolatileOrganicCompoundsConcentrationMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.TotalVolatileOrganicCompoundsConcentrationMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getTotalVolatileOrganicCompoundsConcentrationMeasurementCommandMap(),
+        ClusterReadMapping.readTotalVolatileOrganicCompoundsConcentrationMeasurementInteractionInfo(),
+        ClusterWriteMapping.writeTotalVolatileOrganicCompoundsConcentrationMeasurementInteractionInfo())));
+    clusterMap.put("radonConcentrationMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.RadonConcentrationMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getRadonConcentrationMeasurementCommandMap(),
+        ClusterReadMapping.readRadonConcentrationMeasurementInteractionInfo(),
+        ClusterWriteMapping.writeRadonConcentrationMeasurementInteractionInfo())));
+    clusterMap.put("soilMeasurement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.SoilMeasurementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getSoilMeasurementCommandMap(),
+        ClusterReadMapping.readSoilMeasurementInteractionInfo(),
+        ClusterWriteMapping.writeSoilMeasurementInteractionInfo())));
+    clusterMap.put("ambientContextSensing", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.AmbientContextSensingCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getAmbientContextSensingCommandMap(),
+        ClusterReadMapping.readAmbientContextSensingInteractionInfo(),
+        ClusterWriteMapping.writeAmbientContextSensingInteractionInfo())));
+    clusterMap.put("wiFiNetworkManagement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.WiFiNetworkManagementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getWiFiNetworkManagementCommandMap(),
+        ClusterReadMapping.readWiFiNetworkManagementInteractionInfo(),
+        ClusterWriteMapping.writeWiFiNetworkManagementInteractionInfo())));
+    clusterMap.put("threadBorderRouterManagement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ThreadBorderRouterManagementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getThreadBorderRouterManagementCommandMap(),
+        ClusterReadMapping.readThreadBorderRouterManagementInteractionInfo(),
+        ClusterWriteMapping.writeThreadBorderRouterManagementInteractionInfo())));
+    clusterMap.put("threadNetworkDirectory", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ThreadNetworkDirectoryCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getThreadNetworkDirectoryCommandMap(),
+        ClusterReadMapping.readThreadNetworkDirectoryInteractionInfo(),
+        ClusterWriteMapping.writeThreadNetworkDirectoryInteractionInfo())));
+    clusterMap.put("wakeOnLan", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.WakeOnLanCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getWakeOnLanCommandMap(),
+        ClusterReadMapping.readWakeOnLanInteractionInfo(),
+        ClusterWriteMapping.writeWakeOnLanInteractionInfo())));
+    clusterMap.put("channel", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ChannelCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getChannelCommandMap(),
+        ClusterReadMapping.readChannelInteractionInfo(),
+        ClusterWriteMapping.writeChannelInteractionInfo())));
+    clusterMap.put("targetNavigator", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.TargetNavigatorCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getTargetNavigatorCommandMap(),
+        ClusterReadMapping.readTargetNavigatorInteractionInfo(),
+        ClusterWriteMapping.writeTargetNavigatorInteractionInfo())));
+    clusterMap.put("mediaPlayback", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.MediaPlaybackCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getMediaPlaybackCommandMap(),
+        ClusterReadMapping.readMediaPlaybackInteractionInfo(),
+        ClusterWriteMapping.writeMediaPlaybackInteractionInfo())));
+    clusterMap.put("mediaInput", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.MediaInputCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getMediaInputCommandMap(),
+        ClusterReadMapping.readMediaInputInteractionInfo(),
+        ClusterWriteMapping.writeMediaInputInteractionInfo())));
+    clusterMap.put("lowPower", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.LowPowerCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getLowPowerCommandMap(),
+        ClusterReadMapping.readLowPowerInteractionInfo(),
+        ClusterWriteMapping.writeLowPowerInteractionInfo())));
+    clusterMap.put("keypadInput", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.KeypadInputCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getKeypadInputCommandMap(),
+        ClusterReadMapping.readKeypadInputInteractionInfo(),
+        ClusterWriteMapping.writeKeypadInputInteractionInfo())));
+    clusterMap.put("contentLauncher", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ContentLauncherCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getContentLauncherCommandMap(),
+        ClusterReadMapping.readContentLauncherInteractionInfo(),
+        ClusterWriteMapping.writeContentLauncherInteractionInfo())));
+    clusterMap.put("audioOutput", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.AudioOutputCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getAudioOutputCommandMap(),
+        ClusterReadMapping.readAudioOutputInteractionInfo(),
+        ClusterWriteMapping.writeAudioOutputInteractionInfo())));
+    clusterMap.put("applicationLauncher", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ApplicationLauncherCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getApplicationLauncherCommandMap(),
+        ClusterReadMapping.readApplicationLauncherInteractionInfo(),
+        ClusterWriteMapping.writeApplicationLauncherInteractionInfo())));
+    clusterMap.put("applicationBasic", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ApplicationBasicCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getApplicationBasicCommandMap(),
+        ClusterReadMapping.readApplicationBasicInteractionInfo(),
+        ClusterWriteMapping.writeApplicationBasicInteractionInfo())));
+    clusterMap.put("accountLogin", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.AccountLoginCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getAccountLoginCommandMap(),
+        ClusterReadMapping.readAccountLoginInteractionInfo(),
+        ClusterWriteMapping.writeAccountLoginInteractionInfo())));
+    clusterMap.put("contentControl", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ContentControlCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getContentControlCommandMap(),
+        ClusterReadMapping.readContentControlInteractionInfo(),
+        ClusterWriteMapping.writeContentControlInteractionInfo())));
+    clusterMap.put("contentAppObserver", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ContentAppObserverCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getContentAppObserverCommandMap(),
+        ClusterReadMapping.readContentAppObserverInteractionInfo(),
+        ClusterWriteMapping.writeContentAppObserverInteractionInfo())));
+    clusterMap.put("zoneManagement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ZoneManagementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getZoneManagementCommandMap(),
+        ClusterReadMapping.readZoneManagementInteractionInfo(),
+        ClusterWriteMapping.writeZoneManagementInteractionInfo())));
+    clusterMap.put("cameraAvStreamManagement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.CameraAvStreamManagementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getCameraAvStreamManagementCommandMap(),
+        ClusterReadMapping.readCameraAvStreamManagementInteractionInfo(),
+        ClusterWriteMapping.writeCameraAvStreamManagementInteractionInfo())));
+    clusterMap.put("cameraAvSettingsUserLevelManagement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.CameraAvSettingsUserLevelManagementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getCameraAvSettingsUserLevelManagementCommandMap(),
+        ClusterReadMapping.readCameraAvSettingsUserLevelManagementInteractionInfo(),
+        ClusterWriteMapping.writeCameraAvSettingsUserLevelManagementInteractionInfo())));
+    clusterMap.put("webRTCTransportProvider", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.WebRTCTransportProviderCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getWebRTCTransportProviderCommandMap(),
+        ClusterReadMapping.readWebRTCTransportProviderInteractionInfo(),
+        ClusterWriteMapping.writeWebRTCTransportProviderInteractionInfo())));
+    clusterMap.put("webRTCTransportRequestor", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.WebRTCTransportRequestorCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getWebRTCTransportRequestorCommandMap(),
+        ClusterReadMapping.readWebRTCTransportRequestorInteractionInfo(),
+        ClusterWriteMapping.writeWebRTCTransportRequestorInteractionInfo())));
+    clusterMap.put("pushAvStreamTransport", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.PushAvStreamTransportCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getPushAvStreamTransportCommandMap(),
+        ClusterReadMapping.readPushAvStreamTransportInteractionInfo(),
+        ClusterWriteMapping.writePushAvStreamTransportInteractionInfo())));
+    clusterMap.put("chime", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.ChimeCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getChimeCommandMap(),
+        ClusterReadMapping.readChimeInteractionInfo(),
+        ClusterWriteMapping.writeChimeInteractionInfo())));
+    clusterMap.put("commodityTariff", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.CommodityTariffCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getCommodityTariffCommandMap(),
+        ClusterReadMapping.readCommodityTariffInteractionInfo(),
+        ClusterWriteMapping.writeCommodityTariffInteractionInfo())));
+    clusterMap.put("ecosystemInformation", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.EcosystemInformationCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getEcosystemInformationCommandMap(),
+        ClusterReadMapping.readEcosystemInformationInteractionInfo(),
+        ClusterWriteMapping.writeEcosystemInformationInteractionInfo())));
+    clusterMap.put("commissionerControl", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.CommissionerControlCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getCommissionerControlCommandMap(),
+        ClusterReadMapping.readCommissionerControlInteractionInfo(),
+        ClusterWriteMapping.writeCommissionerControlInteractionInfo())));
+    clusterMap.put("jointFabricDatastore", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.JointFabricDatastoreCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getJointFabricDatastoreCommandMap(),
+        ClusterReadMapping.readJointFabricDatastoreInteractionInfo(),
+        ClusterWriteMapping.writeJointFabricDatastoreInteractionInfo())));
+    clusterMap.put("jointFabricAdministrator", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.JointFabricAdministratorCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getJointFabricAdministratorCommandMap(),
+        ClusterReadMapping.readJointFabricAdministratorInteractionInfo(),
+        ClusterWriteMapping.writeJointFabricAdministratorInteractionInfo())));
+    clusterMap.put("tlsCertificateManagement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.TlsCertificateManagementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getTlsCertificateManagementCommandMap(),
+        ClusterReadMapping.readTlsCertificateManagementInteractionInfo(),
+        ClusterWriteMapping.writeTlsCertificateManagementInteractionInfo())));
+    clusterMap.put("tlsClientManagement", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.TlsClientManagementCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getTlsClientManagementCommandMap(),
+        ClusterReadMapping.readTlsClientManagementInteractionInfo(),
+        ClusterWriteMapping.writeTlsClientManagementInteractionInfo())));
+    clusterMap.put("meterIdentification", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.MeterIdentificationCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getMeterIdentificationCommandMap(),
+        ClusterReadMapping.readMeterIdentificationInteractionInfo(),
+        ClusterWriteMapping.writeMeterIdentificationInteractionInfo())));
+    clusterMap.put("commodityMetering", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.CommodityMeteringCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getCommodityMeteringCommandMap(),
+        ClusterReadMapping.readCommodityMeteringInteractionInfo(),
+        ClusterWriteMapping.writeCommodityMeteringInteractionInfo())));
+    clusterMap.put("unitTesting", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.UnitTestingCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getUnitTestingCommandMap(),
+        ClusterReadMapping.readUnitTestingInteractionInfo(),
+        ClusterWriteMapping.writeUnitTestingInteractionInfo())));
+    clusterMap.put("faultInjection", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.FaultInjectionCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getFaultInjectionCommandMap(),
+        ClusterReadMapping.readFaultInjectionInteractionInfo(),
+        ClusterWriteMapping.writeFaultInjectionInteractionInfo())));
+    clusterMap.put("sampleMei", new ClusterInfo(
+      (ptr, endpointId) -> new ChipClusters.SampleMeiCluster(ptr, endpointId),
+      () -> combineInteractionInfo(
+        getSampleMeiCommandMap(),
+        ClusterReadMapping.readSampleMeiInteractionInfo(),
+        ClusterWriteMapping.writeSampleMeiInteractionInfo())));
     return clusterMap;
- }
+  }
+
+  private static Map<String, InteractionInfo> combineInteractionInfo(
+      Map<String, InteractionInfo> commands,
+      Map<String, InteractionInfo> readAttributes,
+      Map<String, InteractionInfo> writeAttributes) {
+    Map<String, InteractionInfo> interactionInfo = new LinkedHashMap<>(commands);
+    interactionInfo.putAll(readAttributes);
+    interactionInfo.putAll(writeAttributes);
+    return interactionInfo;
+  }
 
   public Map<String, ClusterInfo> initializeClusterMap() {
     Map<String, ClusterInfo> clusterMap = new HashMap<>();
@@ -23738,10 +24605,156 @@ public class ClusterInfoMapping {
     destination.get("sampleMei").combineCommands(source.get("sampleMei"));
   }
 
- @SuppressWarnings("unchecked")
   public Map<String, Map<String, InteractionInfo>> getCommandMap() {
     Map<String, Map<String, InteractionInfo>> commandMap = new HashMap<>();
+    commandMap.put("identify", getIdentifyCommandMap());
+    commandMap.put("groups", getGroupsCommandMap());
+    commandMap.put("onOff", getOnOffCommandMap());
+    commandMap.put("levelControl", getLevelControlCommandMap());
+    commandMap.put("pulseWidthModulation", getPulseWidthModulationCommandMap());
+    commandMap.put("descriptor", getDescriptorCommandMap());
+    commandMap.put("binding", getBindingCommandMap());
+    commandMap.put("accessControl", getAccessControlCommandMap());
+    commandMap.put("actions", getActionsCommandMap());
+    commandMap.put("basicInformation", getBasicInformationCommandMap());
+    commandMap.put("otaSoftwareUpdateProvider", getOtaSoftwareUpdateProviderCommandMap());
+    commandMap.put("otaSoftwareUpdateRequestor", getOtaSoftwareUpdateRequestorCommandMap());
+    commandMap.put("localizationConfiguration", getLocalizationConfigurationCommandMap());
+    commandMap.put("timeFormatLocalization", getTimeFormatLocalizationCommandMap());
+    commandMap.put("unitLocalization", getUnitLocalizationCommandMap());
+    commandMap.put("powerSourceConfiguration", getPowerSourceConfigurationCommandMap());
+    commandMap.put("powerSource", getPowerSourceCommandMap());
+    commandMap.put("generalCommissioning", getGeneralCommissioningCommandMap());
+    commandMap.put("networkCommissioning", getNetworkCommissioningCommandMap());
+    commandMap.put("diagnosticLogs", getDiagnosticLogsCommandMap());
+    commandMap.put("generalDiagnostics", getGeneralDiagnosticsCommandMap());
+    commandMap.put("softwareDiagnostics", getSoftwareDiagnosticsCommandMap());
+    commandMap.put("threadNetworkDiagnostics", getThreadNetworkDiagnosticsCommandMap());
+    commandMap.put("wiFiNetworkDiagnostics", getWiFiNetworkDiagnosticsCommandMap());
+    commandMap.put("ethernetNetworkDiagnostics", getEthernetNetworkDiagnosticsCommandMap());
+    commandMap.put("timeSynchronization", getTimeSynchronizationCommandMap());
+    commandMap.put("bridgedDeviceBasicInformation", getBridgedDeviceBasicInformationCommandMap());
+    commandMap.put("switch", getSwitchCommandMap());
+    commandMap.put("administratorCommissioning", getAdministratorCommissioningCommandMap());
+    commandMap.put("operationalCredentials", getOperationalCredentialsCommandMap());
+    commandMap.put("groupKeyManagement", getGroupKeyManagementCommandMap());
+    commandMap.put("fixedLabel", getFixedLabelCommandMap());
+    commandMap.put("userLabel", getUserLabelCommandMap());
+    commandMap.put("proxyConfiguration", getProxyConfigurationCommandMap());
+    commandMap.put("proxyDiscovery", getProxyDiscoveryCommandMap());
+    commandMap.put("proxyValid", getProxyValidCommandMap());
+    commandMap.put("booleanState", getBooleanStateCommandMap());
+    commandMap.put("icdManagement", getIcdManagementCommandMap());
+    commandMap.put("timer", getTimerCommandMap());
+    commandMap.put("ovenCavityOperationalState", getOvenCavityOperationalStateCommandMap());
+    commandMap.put("ovenMode", getOvenModeCommandMap());
+    commandMap.put("laundryDryerControls", getLaundryDryerControlsCommandMap());
+    commandMap.put("modeSelect", getModeSelectCommandMap());
+    commandMap.put("laundryWasherMode", getLaundryWasherModeCommandMap());
+    commandMap.put("refrigeratorAndTemperatureControlledCabinetMode", getRefrigeratorAndTemperatureControlledCabinetModeCommandMap());
+    commandMap.put("laundryWasherControls", getLaundryWasherControlsCommandMap());
+    commandMap.put("rvcRunMode", getRvcRunModeCommandMap());
+    commandMap.put("rvcCleanMode", getRvcCleanModeCommandMap());
+    commandMap.put("temperatureControl", getTemperatureControlCommandMap());
+    commandMap.put("refrigeratorAlarm", getRefrigeratorAlarmCommandMap());
+    commandMap.put("dishwasherMode", getDishwasherModeCommandMap());
+    commandMap.put("airQuality", getAirQualityCommandMap());
+    commandMap.put("smokeCoAlarm", getSmokeCoAlarmCommandMap());
+    commandMap.put("dishwasherAlarm", getDishwasherAlarmCommandMap());
+    commandMap.put("microwaveOvenMode", getMicrowaveOvenModeCommandMap());
+    commandMap.put("microwaveOvenControl", getMicrowaveOvenControlCommandMap());
+    commandMap.put("operationalState", getOperationalStateCommandMap());
+    commandMap.put("rvcOperationalState", getRvcOperationalStateCommandMap());
+    commandMap.put("scenesManagement", getScenesManagementCommandMap());
+    commandMap.put("groupcast", getGroupcastCommandMap());
+    commandMap.put("hepaFilterMonitoring", getHepaFilterMonitoringCommandMap());
+    commandMap.put("activatedCarbonFilterMonitoring", getActivatedCarbonFilterMonitoringCommandMap());
+    commandMap.put("waterTankLevelMonitoring", getWaterTankLevelMonitoringCommandMap());
+    commandMap.put("booleanStateConfiguration", getBooleanStateConfigurationCommandMap());
+    commandMap.put("valveConfigurationAndControl", getValveConfigurationAndControlCommandMap());
+    commandMap.put("electricalPowerMeasurement", getElectricalPowerMeasurementCommandMap());
+    commandMap.put("electricalEnergyMeasurement", getElectricalEnergyMeasurementCommandMap());
+    commandMap.put("waterHeaterManagement", getWaterHeaterManagementCommandMap());
+    commandMap.put("commodityPrice", getCommodityPriceCommandMap());
+    commandMap.put("messages", getMessagesCommandMap());
+    commandMap.put("deviceEnergyManagement", getDeviceEnergyManagementCommandMap());
+    commandMap.put("energyEvse", getEnergyEvseCommandMap());
+    commandMap.put("energyPreference", getEnergyPreferenceCommandMap());
+    commandMap.put("powerTopology", getPowerTopologyCommandMap());
+    commandMap.put("energyEvseMode", getEnergyEvseModeCommandMap());
+    commandMap.put("waterHeaterMode", getWaterHeaterModeCommandMap());
+    commandMap.put("deviceEnergyManagementMode", getDeviceEnergyManagementModeCommandMap());
+    commandMap.put("electricalGridConditions", getElectricalGridConditionsCommandMap());
+    commandMap.put("doorLock", getDoorLockCommandMap());
+    commandMap.put("windowCovering", getWindowCoveringCommandMap());
+    commandMap.put("closureControl", getClosureControlCommandMap());
+    commandMap.put("closureDimension", getClosureDimensionCommandMap());
+    commandMap.put("serviceArea", getServiceAreaCommandMap());
+    commandMap.put("pumpConfigurationAndControl", getPumpConfigurationAndControlCommandMap());
+    commandMap.put("thermostat", getThermostatCommandMap());
+    commandMap.put("fanControl", getFanControlCommandMap());
+    commandMap.put("thermostatUserInterfaceConfiguration", getThermostatUserInterfaceConfigurationCommandMap());
+    commandMap.put("colorControl", getColorControlCommandMap());
+    commandMap.put("ballastConfiguration", getBallastConfigurationCommandMap());
+    commandMap.put("illuminanceMeasurement", getIlluminanceMeasurementCommandMap());
+    commandMap.put("temperatureMeasurement", getTemperatureMeasurementCommandMap());
+    commandMap.put("pressureMeasurement", getPressureMeasurementCommandMap());
+    commandMap.put("flowMeasurement", getFlowMeasurementCommandMap());
+    commandMap.put("relativeHumidityMeasurement", getRelativeHumidityMeasurementCommandMap());
+    commandMap.put("occupancySensing", getOccupancySensingCommandMap());
+    commandMap.put("carbonMonoxideConcentrationMeasurement", getCarbonMonoxideConcentrationMeasurementCommandMap());
+    commandMap.put("carbonDioxideConcentrationMeasurement", getCarbonDioxideConcentrationMeasurementCommandMap());
+    commandMap.put("nitrogenDioxideConcentrationMeasurement", getNitrogenDioxideConcentrationMeasurementCommandMap());
+    commandMap.put("ozoneConcentrationMeasurement", getOzoneConcentrationMeasurementCommandMap());
+    commandMap.put("pm25ConcentrationMeasurement", getPm25ConcentrationMeasurementCommandMap());
+    commandMap.put("formaldehydeConcentrationMeasurement", getFormaldehydeConcentrationMeasurementCommandMap());
+    commandMap.put("pm1ConcentrationMeasurement", getPm1ConcentrationMeasurementCommandMap());
+    commandMap.put("pm10ConcentrationMeasurement", getPm10ConcentrationMeasurementCommandMap());
+    commandMap.put("totalVolatileOrganicCompoundsConcentrationMeasurement", getTotalVolatileOrganicCompoundsConcentrationMeasurementCommandMap());
+    commandMap.put("radonConcentrationMeasurement", getRadonConcentrationMeasurementCommandMap());
+    commandMap.put("soilMeasurement", getSoilMeasurementCommandMap());
+    commandMap.put("ambientContextSensing", getAmbientContextSensingCommandMap());
+    commandMap.put("wiFiNetworkManagement", getWiFiNetworkManagementCommandMap());
+    commandMap.put("threadBorderRouterManagement", getThreadBorderRouterManagementCommandMap());
+    commandMap.put("threadNetworkDirectory", getThreadNetworkDirectoryCommandMap());
+    commandMap.put("wakeOnLan", getWakeOnLanCommandMap());
+    commandMap.put("channel", getChannelCommandMap());
+    commandMap.put("targetNavigator", getTargetNavigatorCommandMap());
+    commandMap.put("mediaPlayback", getMediaPlaybackCommandMap());
+    commandMap.put("mediaInput", getMediaInputCommandMap());
+    commandMap.put("lowPower", getLowPowerCommandMap());
+    commandMap.put("keypadInput", getKeypadInputCommandMap());
+    commandMap.put("contentLauncher", getContentLauncherCommandMap());
+    commandMap.put("audioOutput", getAudioOutputCommandMap());
+    commandMap.put("applicationLauncher", getApplicationLauncherCommandMap());
+    commandMap.put("applicationBasic", getApplicationBasicCommandMap());
+    commandMap.put("accountLogin", getAccountLoginCommandMap());
+    commandMap.put("contentControl", getContentControlCommandMap());
+    commandMap.put("contentAppObserver", getContentAppObserverCommandMap());
+    commandMap.put("zoneManagement", getZoneManagementCommandMap());
+    commandMap.put("cameraAvStreamManagement", getCameraAvStreamManagementCommandMap());
+    commandMap.put("cameraAvSettingsUserLevelManagement", getCameraAvSettingsUserLevelManagementCommandMap());
+    commandMap.put("webRTCTransportProvider", getWebRTCTransportProviderCommandMap());
+    commandMap.put("webRTCTransportRequestor", getWebRTCTransportRequestorCommandMap());
+    commandMap.put("pushAvStreamTransport", getPushAvStreamTransportCommandMap());
+    commandMap.put("chime", getChimeCommandMap());
+    commandMap.put("commodityTariff", getCommodityTariffCommandMap());
+    commandMap.put("ecosystemInformation", getEcosystemInformationCommandMap());
+    commandMap.put("commissionerControl", getCommissionerControlCommandMap());
+    commandMap.put("jointFabricDatastore", getJointFabricDatastoreCommandMap());
+    commandMap.put("jointFabricAdministrator", getJointFabricAdministratorCommandMap());
+    commandMap.put("tlsCertificateManagement", getTlsCertificateManagementCommandMap());
+    commandMap.put("tlsClientManagement", getTlsClientManagementCommandMap());
+    commandMap.put("meterIdentification", getMeterIdentificationCommandMap());
+    commandMap.put("commodityMetering", getCommodityMeteringCommandMap());
+    commandMap.put("unitTesting", getUnitTestingCommandMap());
+    commandMap.put("faultInjection", getFaultInjectionCommandMap());
+    commandMap.put("sampleMei", getSampleMeiCommandMap());
+    return commandMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getIdentifyCommandMap() {
     Map<String, InteractionInfo> identifyClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> identifyidentifyCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -23783,8 +24796,11 @@ public class ClusterInfoMapping {
     );
     identifyClusterInteractionInfoMap.put("triggerEffect", identifytriggerEffectInteractionInfo);
 
-    commandMap.put("identify", identifyClusterInteractionInfoMap);
+    return identifyClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getGroupsCommandMap() {
     Map<String, InteractionInfo> groupsClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> groupsaddGroupCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -23899,8 +24915,11 @@ public class ClusterInfoMapping {
     );
     groupsClusterInteractionInfoMap.put("addGroupIfIdentifying", groupsaddGroupIfIdentifyingInteractionInfo);
 
-    commandMap.put("groups", groupsClusterInteractionInfoMap);
+    return groupsClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getOnOffCommandMap() {
     Map<String, InteractionInfo> onOffClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> onOffoffCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -24000,8 +25019,11 @@ public class ClusterInfoMapping {
     );
     onOffClusterInteractionInfoMap.put("onWithTimedOff", onOffonWithTimedOffInteractionInfo);
 
-    commandMap.put("onOff", onOffClusterInteractionInfoMap);
+    return onOffClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getLevelControlCommandMap() {
     Map<String, InteractionInfo> levelControlClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> levelControlmoveToLevelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -24267,20 +25289,32 @@ public class ClusterInfoMapping {
     );
     levelControlClusterInteractionInfoMap.put("moveToClosestFrequency", levelControlmoveToClosestFrequencyInteractionInfo);
 
-    commandMap.put("levelControl", levelControlClusterInteractionInfoMap);
+    return levelControlClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getPulseWidthModulationCommandMap() {
     Map<String, InteractionInfo> pulseWidthModulationClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("pulseWidthModulation", pulseWidthModulationClusterInteractionInfoMap);
+    return pulseWidthModulationClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getDescriptorCommandMap() {
     Map<String, InteractionInfo> descriptorClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("descriptor", descriptorClusterInteractionInfoMap);
+    return descriptorClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getBindingCommandMap() {
     Map<String, InteractionInfo> bindingClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("binding", bindingClusterInteractionInfoMap);
+    return bindingClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getAccessControlCommandMap() {
     Map<String, InteractionInfo> accessControlClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> accessControlreviewFabricRestrictionsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -24299,8 +25333,11 @@ public class ClusterInfoMapping {
       );
     accessControlClusterInteractionInfoMap.put("reviewFabricRestrictions", accessControlreviewFabricRestrictionsInteractionInfo);
 
-    commandMap.put("accessControl", accessControlClusterInteractionInfoMap);
+    return accessControlClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getActionsCommandMap() {
     Map<String, InteractionInfo> actionsClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> actionsinstantActionCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -24592,8 +25629,11 @@ public class ClusterInfoMapping {
     );
     actionsClusterInteractionInfoMap.put("disableActionWithDuration", actionsdisableActionWithDurationInteractionInfo);
 
-    commandMap.put("actions", actionsClusterInteractionInfoMap);
+    return actionsClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getBasicInformationCommandMap() {
     Map<String, InteractionInfo> basicInformationClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> basicInformationmfgSpecificPingCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -24608,8 +25648,11 @@ public class ClusterInfoMapping {
     );
     basicInformationClusterInteractionInfoMap.put("mfgSpecificPing", basicInformationmfgSpecificPingInteractionInfo);
 
-    commandMap.put("basicInformation", basicInformationClusterInteractionInfoMap);
+    return basicInformationClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getOtaSoftwareUpdateProviderCommandMap() {
     Map<String, InteractionInfo> otaSoftwareUpdateProviderClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> otaSoftwareUpdateProviderqueryImageCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -24718,8 +25761,11 @@ public class ClusterInfoMapping {
     );
     otaSoftwareUpdateProviderClusterInteractionInfoMap.put("notifyUpdateApplied", otaSoftwareUpdateProvidernotifyUpdateAppliedInteractionInfo);
 
-    commandMap.put("otaSoftwareUpdateProvider", otaSoftwareUpdateProviderClusterInteractionInfoMap);
+    return otaSoftwareUpdateProviderClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getOtaSoftwareUpdateRequestorCommandMap() {
     Map<String, InteractionInfo> otaSoftwareUpdateRequestorClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> otaSoftwareUpdateRequestorannounceOTAProviderCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -24759,28 +25805,46 @@ public class ClusterInfoMapping {
     );
     otaSoftwareUpdateRequestorClusterInteractionInfoMap.put("announceOTAProvider", otaSoftwareUpdateRequestorannounceOTAProviderInteractionInfo);
 
-    commandMap.put("otaSoftwareUpdateRequestor", otaSoftwareUpdateRequestorClusterInteractionInfoMap);
+    return otaSoftwareUpdateRequestorClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getLocalizationConfigurationCommandMap() {
     Map<String, InteractionInfo> localizationConfigurationClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("localizationConfiguration", localizationConfigurationClusterInteractionInfoMap);
+    return localizationConfigurationClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getTimeFormatLocalizationCommandMap() {
     Map<String, InteractionInfo> timeFormatLocalizationClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("timeFormatLocalization", timeFormatLocalizationClusterInteractionInfoMap);
+    return timeFormatLocalizationClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getUnitLocalizationCommandMap() {
     Map<String, InteractionInfo> unitLocalizationClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("unitLocalization", unitLocalizationClusterInteractionInfoMap);
+    return unitLocalizationClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getPowerSourceConfigurationCommandMap() {
     Map<String, InteractionInfo> powerSourceConfigurationClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("powerSourceConfiguration", powerSourceConfigurationClusterInteractionInfoMap);
+    return powerSourceConfigurationClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getPowerSourceCommandMap() {
     Map<String, InteractionInfo> powerSourceClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("powerSource", powerSourceClusterInteractionInfoMap);
+    return powerSourceClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getGeneralCommissioningCommandMap() {
     Map<String, InteractionInfo> generalCommissioningClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> generalCommissioningarmFailSafeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -24873,8 +25937,11 @@ public class ClusterInfoMapping {
       );
     generalCommissioningClusterInteractionInfoMap.put("setTCAcknowledgements", generalCommissioningsetTCAcknowledgementsInteractionInfo);
 
-    commandMap.put("generalCommissioning", generalCommissioningClusterInteractionInfoMap);
+    return generalCommissioningClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getNetworkCommissioningCommandMap() {
     Map<String, InteractionInfo> networkCommissioningClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> networkCommissioningscanNetworksCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -25075,8 +26142,11 @@ public class ClusterInfoMapping {
       );
     networkCommissioningClusterInteractionInfoMap.put("queryIdentity", networkCommissioningqueryIdentityInteractionInfo);
 
-    commandMap.put("networkCommissioning", networkCommissioningClusterInteractionInfoMap);
+    return networkCommissioningClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getDiagnosticLogsCommandMap() {
     Map<String, InteractionInfo> diagnosticLogsClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> diagnosticLogsretrieveLogsRequestCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -25109,8 +26179,11 @@ public class ClusterInfoMapping {
       );
     diagnosticLogsClusterInteractionInfoMap.put("retrieveLogsRequest", diagnosticLogsretrieveLogsRequestInteractionInfo);
 
-    commandMap.put("diagnosticLogs", diagnosticLogsClusterInteractionInfoMap);
+    return diagnosticLogsClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getGeneralDiagnosticsCommandMap() {
     Map<String, InteractionInfo> generalDiagnosticsClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> generalDiagnosticstestEventTriggerCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -25177,8 +26250,11 @@ public class ClusterInfoMapping {
       );
     generalDiagnosticsClusterInteractionInfoMap.put("payloadTestRequest", generalDiagnosticspayloadTestRequestInteractionInfo);
 
-    commandMap.put("generalDiagnostics", generalDiagnosticsClusterInteractionInfoMap);
+    return generalDiagnosticsClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getSoftwareDiagnosticsCommandMap() {
     Map<String, InteractionInfo> softwareDiagnosticsClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> softwareDiagnosticsresetWatermarksCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -25193,8 +26269,11 @@ public class ClusterInfoMapping {
     );
     softwareDiagnosticsClusterInteractionInfoMap.put("resetWatermarks", softwareDiagnosticsresetWatermarksInteractionInfo);
 
-    commandMap.put("softwareDiagnostics", softwareDiagnosticsClusterInteractionInfoMap);
+    return softwareDiagnosticsClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getThreadNetworkDiagnosticsCommandMap() {
     Map<String, InteractionInfo> threadNetworkDiagnosticsClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> threadNetworkDiagnosticsresetCountsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -25209,8 +26288,11 @@ public class ClusterInfoMapping {
     );
     threadNetworkDiagnosticsClusterInteractionInfoMap.put("resetCounts", threadNetworkDiagnosticsresetCountsInteractionInfo);
 
-    commandMap.put("threadNetworkDiagnostics", threadNetworkDiagnosticsClusterInteractionInfoMap);
+    return threadNetworkDiagnosticsClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getWiFiNetworkDiagnosticsCommandMap() {
     Map<String, InteractionInfo> wiFiNetworkDiagnosticsClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> wiFiNetworkDiagnosticsresetCountsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -25225,8 +26307,11 @@ public class ClusterInfoMapping {
     );
     wiFiNetworkDiagnosticsClusterInteractionInfoMap.put("resetCounts", wiFiNetworkDiagnosticsresetCountsInteractionInfo);
 
-    commandMap.put("wiFiNetworkDiagnostics", wiFiNetworkDiagnosticsClusterInteractionInfoMap);
+    return wiFiNetworkDiagnosticsClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getEthernetNetworkDiagnosticsCommandMap() {
     Map<String, InteractionInfo> ethernetNetworkDiagnosticsClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> ethernetNetworkDiagnosticsresetCountsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -25241,8 +26326,11 @@ public class ClusterInfoMapping {
     );
     ethernetNetworkDiagnosticsClusterInteractionInfoMap.put("resetCounts", ethernetNetworkDiagnosticsresetCountsInteractionInfo);
 
-    commandMap.put("ethernetNetworkDiagnostics", ethernetNetworkDiagnosticsClusterInteractionInfoMap);
+    return ethernetNetworkDiagnosticsClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getTimeSynchronizationCommandMap() {
     Map<String, InteractionInfo> timeSynchronizationClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> timeSynchronizationsetUTCTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -25335,8 +26423,11 @@ public class ClusterInfoMapping {
     );
     timeSynchronizationClusterInteractionInfoMap.put("setDefaultNTP", timeSynchronizationsetDefaultNTPInteractionInfo);
 
-    commandMap.put("timeSynchronization", timeSynchronizationClusterInteractionInfoMap);
+    return timeSynchronizationClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getBridgedDeviceBasicInformationCommandMap() {
     Map<String, InteractionInfo> bridgedDeviceBasicInformationClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> bridgedDeviceBasicInformationkeepActiveCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -25361,12 +26452,18 @@ public class ClusterInfoMapping {
     );
     bridgedDeviceBasicInformationClusterInteractionInfoMap.put("keepActive", bridgedDeviceBasicInformationkeepActiveInteractionInfo);
 
-    commandMap.put("bridgedDeviceBasicInformation", bridgedDeviceBasicInformationClusterInteractionInfoMap);
+    return bridgedDeviceBasicInformationClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getSwitchCommandMap() {
     Map<String, InteractionInfo> switchClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("switch", switchClusterInteractionInfoMap);
+    return switchClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getAdministratorCommissioningCommandMap() {
     Map<String, InteractionInfo> administratorCommissioningClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> administratorCommissioningopenCommissioningWindowCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -25435,8 +26532,11 @@ public class ClusterInfoMapping {
     );
     administratorCommissioningClusterInteractionInfoMap.put("revokeCommissioning", administratorCommissioningrevokeCommissioningInteractionInfo);
 
-    commandMap.put("administratorCommissioning", administratorCommissioningClusterInteractionInfoMap);
+    return administratorCommissioningClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getOperationalCredentialsCommandMap() {
     Map<String, InteractionInfo> operationalCredentialsClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> operationalCredentialsattestationRequestCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -25669,8 +26769,11 @@ public class ClusterInfoMapping {
       );
     operationalCredentialsClusterInteractionInfoMap.put("signVIDVerificationRequest", operationalCredentialssignVIDVerificationRequestInteractionInfo);
 
-    commandMap.put("operationalCredentials", operationalCredentialsClusterInteractionInfoMap);
+    return operationalCredentialsClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getGroupKeyManagementCommandMap() {
     Map<String, InteractionInfo> groupKeyManagementClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> groupKeyManagementkeySetWriteCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -25735,32 +26838,53 @@ public class ClusterInfoMapping {
       );
     groupKeyManagementClusterInteractionInfoMap.put("keySetReadAllIndices", groupKeyManagementkeySetReadAllIndicesInteractionInfo);
 
-    commandMap.put("groupKeyManagement", groupKeyManagementClusterInteractionInfoMap);
+    return groupKeyManagementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getFixedLabelCommandMap() {
     Map<String, InteractionInfo> fixedLabelClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("fixedLabel", fixedLabelClusterInteractionInfoMap);
+    return fixedLabelClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getUserLabelCommandMap() {
     Map<String, InteractionInfo> userLabelClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("userLabel", userLabelClusterInteractionInfoMap);
+    return userLabelClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getProxyConfigurationCommandMap() {
     Map<String, InteractionInfo> proxyConfigurationClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("proxyConfiguration", proxyConfigurationClusterInteractionInfoMap);
+    return proxyConfigurationClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getProxyDiscoveryCommandMap() {
     Map<String, InteractionInfo> proxyDiscoveryClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("proxyDiscovery", proxyDiscoveryClusterInteractionInfoMap);
+    return proxyDiscoveryClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getProxyValidCommandMap() {
     Map<String, InteractionInfo> proxyValidClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("proxyValid", proxyValidClusterInteractionInfoMap);
+    return proxyValidClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getBooleanStateCommandMap() {
     Map<String, InteractionInfo> booleanStateClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("booleanState", booleanStateClusterInteractionInfoMap);
+    return booleanStateClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getIcdManagementCommandMap() {
     Map<String, InteractionInfo> icdManagementClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> icdManagementregisterClientCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -25845,8 +26969,11 @@ public class ClusterInfoMapping {
       );
     icdManagementClusterInteractionInfoMap.put("stayActiveRequest", icdManagementstayActiveRequestInteractionInfo);
 
-    commandMap.put("icdManagement", icdManagementClusterInteractionInfoMap);
+    return icdManagementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getTimerCommandMap() {
     Map<String, InteractionInfo> timerClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> timersetTimerCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -25912,8 +27039,11 @@ public class ClusterInfoMapping {
     );
     timerClusterInteractionInfoMap.put("reduceTime", timerreduceTimeInteractionInfo);
 
-    commandMap.put("timer", timerClusterInteractionInfoMap);
+    return timerClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getOvenCavityOperationalStateCommandMap() {
     Map<String, InteractionInfo> ovenCavityOperationalStateClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> ovenCavityOperationalStatestopCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -25940,8 +27070,11 @@ public class ClusterInfoMapping {
       );
     ovenCavityOperationalStateClusterInteractionInfoMap.put("start", ovenCavityOperationalStatestartInteractionInfo);
 
-    commandMap.put("ovenCavityOperationalState", ovenCavityOperationalStateClusterInteractionInfoMap);
+    return ovenCavityOperationalStateClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getOvenModeCommandMap() {
     Map<String, InteractionInfo> ovenModeClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> ovenModechangeToModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -25962,12 +27095,18 @@ public class ClusterInfoMapping {
       );
     ovenModeClusterInteractionInfoMap.put("changeToMode", ovenModechangeToModeInteractionInfo);
 
-    commandMap.put("ovenMode", ovenModeClusterInteractionInfoMap);
+    return ovenModeClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getLaundryDryerControlsCommandMap() {
     Map<String, InteractionInfo> laundryDryerControlsClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("laundryDryerControls", laundryDryerControlsClusterInteractionInfoMap);
+    return laundryDryerControlsClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getModeSelectCommandMap() {
     Map<String, InteractionInfo> modeSelectClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> modeSelectchangeToModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -25987,8 +27126,11 @@ public class ClusterInfoMapping {
     );
     modeSelectClusterInteractionInfoMap.put("changeToMode", modeSelectchangeToModeInteractionInfo);
 
-    commandMap.put("modeSelect", modeSelectClusterInteractionInfoMap);
+    return modeSelectClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getLaundryWasherModeCommandMap() {
     Map<String, InteractionInfo> laundryWasherModeClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> laundryWasherModechangeToModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26009,8 +27151,11 @@ public class ClusterInfoMapping {
       );
     laundryWasherModeClusterInteractionInfoMap.put("changeToMode", laundryWasherModechangeToModeInteractionInfo);
 
-    commandMap.put("laundryWasherMode", laundryWasherModeClusterInteractionInfoMap);
+    return laundryWasherModeClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getRefrigeratorAndTemperatureControlledCabinetModeCommandMap() {
     Map<String, InteractionInfo> refrigeratorAndTemperatureControlledCabinetModeClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> refrigeratorAndTemperatureControlledCabinetModechangeToModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26031,12 +27176,18 @@ public class ClusterInfoMapping {
       );
     refrigeratorAndTemperatureControlledCabinetModeClusterInteractionInfoMap.put("changeToMode", refrigeratorAndTemperatureControlledCabinetModechangeToModeInteractionInfo);
 
-    commandMap.put("refrigeratorAndTemperatureControlledCabinetMode", refrigeratorAndTemperatureControlledCabinetModeClusterInteractionInfoMap);
+    return refrigeratorAndTemperatureControlledCabinetModeClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getLaundryWasherControlsCommandMap() {
     Map<String, InteractionInfo> laundryWasherControlsClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("laundryWasherControls", laundryWasherControlsClusterInteractionInfoMap);
+    return laundryWasherControlsClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getRvcRunModeCommandMap() {
     Map<String, InteractionInfo> rvcRunModeClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> rvcRunModechangeToModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26057,8 +27208,11 @@ public class ClusterInfoMapping {
       );
     rvcRunModeClusterInteractionInfoMap.put("changeToMode", rvcRunModechangeToModeInteractionInfo);
 
-    commandMap.put("rvcRunMode", rvcRunModeClusterInteractionInfoMap);
+    return rvcRunModeClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getRvcCleanModeCommandMap() {
     Map<String, InteractionInfo> rvcCleanModeClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> rvcCleanModechangeToModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26079,8 +27233,11 @@ public class ClusterInfoMapping {
       );
     rvcCleanModeClusterInteractionInfoMap.put("changeToMode", rvcCleanModechangeToModeInteractionInfo);
 
-    commandMap.put("rvcCleanMode", rvcCleanModeClusterInteractionInfoMap);
+    return rvcCleanModeClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getTemperatureControlCommandMap() {
     Map<String, InteractionInfo> temperatureControlClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> temperatureControlsetTemperatureCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26105,12 +27262,18 @@ public class ClusterInfoMapping {
     );
     temperatureControlClusterInteractionInfoMap.put("setTemperature", temperatureControlsetTemperatureInteractionInfo);
 
-    commandMap.put("temperatureControl", temperatureControlClusterInteractionInfoMap);
+    return temperatureControlClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getRefrigeratorAlarmCommandMap() {
     Map<String, InteractionInfo> refrigeratorAlarmClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("refrigeratorAlarm", refrigeratorAlarmClusterInteractionInfoMap);
+    return refrigeratorAlarmClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getDishwasherModeCommandMap() {
     Map<String, InteractionInfo> dishwasherModeClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> dishwasherModechangeToModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26131,12 +27294,18 @@ public class ClusterInfoMapping {
       );
     dishwasherModeClusterInteractionInfoMap.put("changeToMode", dishwasherModechangeToModeInteractionInfo);
 
-    commandMap.put("dishwasherMode", dishwasherModeClusterInteractionInfoMap);
+    return dishwasherModeClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getAirQualityCommandMap() {
     Map<String, InteractionInfo> airQualityClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("airQuality", airQualityClusterInteractionInfoMap);
+    return airQualityClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getSmokeCoAlarmCommandMap() {
     Map<String, InteractionInfo> smokeCoAlarmClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> smokeCoAlarmselfTestRequestCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26151,8 +27320,11 @@ public class ClusterInfoMapping {
     );
     smokeCoAlarmClusterInteractionInfoMap.put("selfTestRequest", smokeCoAlarmselfTestRequestInteractionInfo);
 
-    commandMap.put("smokeCoAlarm", smokeCoAlarmClusterInteractionInfoMap);
+    return smokeCoAlarmClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getDishwasherAlarmCommandMap() {
     Map<String, InteractionInfo> dishwasherAlarmClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> dishwasherAlarmresetCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26189,12 +27361,18 @@ public class ClusterInfoMapping {
     );
     dishwasherAlarmClusterInteractionInfoMap.put("modifyEnabledAlarms", dishwasherAlarmmodifyEnabledAlarmsInteractionInfo);
 
-    commandMap.put("dishwasherAlarm", dishwasherAlarmClusterInteractionInfoMap);
+    return dishwasherAlarmClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getMicrowaveOvenModeCommandMap() {
     Map<String, InteractionInfo> microwaveOvenModeClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("microwaveOvenMode", microwaveOvenModeClusterInteractionInfoMap);
+    return microwaveOvenModeClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getMicrowaveOvenControlCommandMap() {
     Map<String, InteractionInfo> microwaveOvenControlClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> microwaveOvenControlsetCookingParametersCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26251,8 +27429,11 @@ public class ClusterInfoMapping {
     );
     microwaveOvenControlClusterInteractionInfoMap.put("addMoreTime", microwaveOvenControladdMoreTimeInteractionInfo);
 
-    commandMap.put("microwaveOvenControl", microwaveOvenControlClusterInteractionInfoMap);
+    return microwaveOvenControlClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getOperationalStateCommandMap() {
     Map<String, InteractionInfo> operationalStateClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> operationalStatepauseCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26303,8 +27484,11 @@ public class ClusterInfoMapping {
       );
     operationalStateClusterInteractionInfoMap.put("resume", operationalStateresumeInteractionInfo);
 
-    commandMap.put("operationalState", operationalStateClusterInteractionInfoMap);
+    return operationalStateClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getRvcOperationalStateCommandMap() {
     Map<String, InteractionInfo> rvcOperationalStateClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> rvcOperationalStatepauseCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26343,8 +27527,11 @@ public class ClusterInfoMapping {
       );
     rvcOperationalStateClusterInteractionInfoMap.put("goHome", rvcOperationalStategoHomeInteractionInfo);
 
-    commandMap.put("rvcOperationalState", rvcOperationalStateClusterInteractionInfoMap);
+    return rvcOperationalStateClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getScenesManagementCommandMap() {
     Map<String, InteractionInfo> scenesManagementClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> scenesManagementaddSceneCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26564,8 +27751,11 @@ public class ClusterInfoMapping {
       );
     scenesManagementClusterInteractionInfoMap.put("copyScene", scenesManagementcopySceneInteractionInfo);
 
-    commandMap.put("scenesManagement", scenesManagementClusterInteractionInfoMap);
+    return scenesManagementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getGroupcastCommandMap() {
     Map<String, InteractionInfo> groupcastClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> groupcastjoinGroupCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26705,8 +27895,11 @@ public class ClusterInfoMapping {
     );
     groupcastClusterInteractionInfoMap.put("configureAuxiliaryACL", groupcastconfigureAuxiliaryACLInteractionInfo);
 
-    commandMap.put("groupcast", groupcastClusterInteractionInfoMap);
+    return groupcastClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getHepaFilterMonitoringCommandMap() {
     Map<String, InteractionInfo> hepaFilterMonitoringClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> hepaFilterMonitoringresetConditionCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26721,8 +27914,11 @@ public class ClusterInfoMapping {
     );
     hepaFilterMonitoringClusterInteractionInfoMap.put("resetCondition", hepaFilterMonitoringresetConditionInteractionInfo);
 
-    commandMap.put("hepaFilterMonitoring", hepaFilterMonitoringClusterInteractionInfoMap);
+    return hepaFilterMonitoringClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getActivatedCarbonFilterMonitoringCommandMap() {
     Map<String, InteractionInfo> activatedCarbonFilterMonitoringClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> activatedCarbonFilterMonitoringresetConditionCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26737,8 +27933,11 @@ public class ClusterInfoMapping {
     );
     activatedCarbonFilterMonitoringClusterInteractionInfoMap.put("resetCondition", activatedCarbonFilterMonitoringresetConditionInteractionInfo);
 
-    commandMap.put("activatedCarbonFilterMonitoring", activatedCarbonFilterMonitoringClusterInteractionInfoMap);
+    return activatedCarbonFilterMonitoringClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getWaterTankLevelMonitoringCommandMap() {
     Map<String, InteractionInfo> waterTankLevelMonitoringClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> waterTankLevelMonitoringresetConditionCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26753,8 +27952,11 @@ public class ClusterInfoMapping {
     );
     waterTankLevelMonitoringClusterInteractionInfoMap.put("resetCondition", waterTankLevelMonitoringresetConditionInteractionInfo);
 
-    commandMap.put("waterTankLevelMonitoring", waterTankLevelMonitoringClusterInteractionInfoMap);
+    return waterTankLevelMonitoringClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getBooleanStateConfigurationCommandMap() {
     Map<String, InteractionInfo> booleanStateConfigurationClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> booleanStateConfigurationsuppressAlarmCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26791,8 +27993,11 @@ public class ClusterInfoMapping {
     );
     booleanStateConfigurationClusterInteractionInfoMap.put("enableDisableAlarm", booleanStateConfigurationenableDisableAlarmInteractionInfo);
 
-    commandMap.put("booleanStateConfiguration", booleanStateConfigurationClusterInteractionInfoMap);
+    return booleanStateConfigurationClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getValveConfigurationAndControlCommandMap() {
     Map<String, InteractionInfo> valveConfigurationAndControlClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> valveConfigurationAndControlopenCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26829,16 +28034,25 @@ public class ClusterInfoMapping {
     );
     valveConfigurationAndControlClusterInteractionInfoMap.put("close", valveConfigurationAndControlcloseInteractionInfo);
 
-    commandMap.put("valveConfigurationAndControl", valveConfigurationAndControlClusterInteractionInfoMap);
+    return valveConfigurationAndControlClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getElectricalPowerMeasurementCommandMap() {
     Map<String, InteractionInfo> electricalPowerMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("electricalPowerMeasurement", electricalPowerMeasurementClusterInteractionInfoMap);
+    return electricalPowerMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getElectricalEnergyMeasurementCommandMap() {
     Map<String, InteractionInfo> electricalEnergyMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("electricalEnergyMeasurement", electricalEnergyMeasurementClusterInteractionInfoMap);
+    return electricalEnergyMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getWaterHeaterManagementCommandMap() {
     Map<String, InteractionInfo> waterHeaterManagementClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> waterHeaterManagementboostCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26868,8 +28082,11 @@ public class ClusterInfoMapping {
     );
     waterHeaterManagementClusterInteractionInfoMap.put("cancelBoost", waterHeaterManagementcancelBoostInteractionInfo);
 
-    commandMap.put("waterHeaterManagement", waterHeaterManagementClusterInteractionInfoMap);
+    return waterHeaterManagementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getCommodityPriceCommandMap() {
     Map<String, InteractionInfo> commodityPriceClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> commodityPricegetDetailedPriceRequestCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26908,8 +28125,11 @@ public class ClusterInfoMapping {
       );
     commodityPriceClusterInteractionInfoMap.put("getDetailedForecastRequest", commodityPricegetDetailedForecastRequestInteractionInfo);
 
-    commandMap.put("commodityPrice", commodityPriceClusterInteractionInfoMap);
+    return commodityPriceClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getMessagesCommandMap() {
     Map<String, InteractionInfo> messagesClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> messagespresentMessagesRequestCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -26974,8 +28194,11 @@ public class ClusterInfoMapping {
     );
     messagesClusterInteractionInfoMap.put("cancelMessagesRequest", messagescancelMessagesRequestInteractionInfo);
 
-    commandMap.put("messages", messagesClusterInteractionInfoMap);
+    return messagesClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getDeviceEnergyManagementCommandMap() {
     Map<String, InteractionInfo> deviceEnergyManagementClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> deviceEnergyManagementpowerAdjustRequestCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -27130,8 +28353,11 @@ public class ClusterInfoMapping {
     );
     deviceEnergyManagementClusterInteractionInfoMap.put("cancelRequest", deviceEnergyManagementcancelRequestInteractionInfo);
 
-    commandMap.put("deviceEnergyManagement", deviceEnergyManagementClusterInteractionInfoMap);
+    return deviceEnergyManagementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getEnergyEvseCommandMap() {
     Map<String, InteractionInfo> energyEvseClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> energyEvsedisableCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -27246,16 +28472,25 @@ public class ClusterInfoMapping {
     );
     energyEvseClusterInteractionInfoMap.put("clearTargets", energyEvseclearTargetsInteractionInfo);
 
-    commandMap.put("energyEvse", energyEvseClusterInteractionInfoMap);
+    return energyEvseClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getEnergyPreferenceCommandMap() {
     Map<String, InteractionInfo> energyPreferenceClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("energyPreference", energyPreferenceClusterInteractionInfoMap);
+    return energyPreferenceClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getPowerTopologyCommandMap() {
     Map<String, InteractionInfo> powerTopologyClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("powerTopology", powerTopologyClusterInteractionInfoMap);
+    return powerTopologyClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getEnergyEvseModeCommandMap() {
     Map<String, InteractionInfo> energyEvseModeClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> energyEvseModechangeToModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -27276,8 +28511,11 @@ public class ClusterInfoMapping {
       );
     energyEvseModeClusterInteractionInfoMap.put("changeToMode", energyEvseModechangeToModeInteractionInfo);
 
-    commandMap.put("energyEvseMode", energyEvseModeClusterInteractionInfoMap);
+    return energyEvseModeClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getWaterHeaterModeCommandMap() {
     Map<String, InteractionInfo> waterHeaterModeClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> waterHeaterModechangeToModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -27298,8 +28536,11 @@ public class ClusterInfoMapping {
       );
     waterHeaterModeClusterInteractionInfoMap.put("changeToMode", waterHeaterModechangeToModeInteractionInfo);
 
-    commandMap.put("waterHeaterMode", waterHeaterModeClusterInteractionInfoMap);
+    return waterHeaterModeClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getDeviceEnergyManagementModeCommandMap() {
     Map<String, InteractionInfo> deviceEnergyManagementModeClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> deviceEnergyManagementModechangeToModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -27320,12 +28561,18 @@ public class ClusterInfoMapping {
       );
     deviceEnergyManagementModeClusterInteractionInfoMap.put("changeToMode", deviceEnergyManagementModechangeToModeInteractionInfo);
 
-    commandMap.put("deviceEnergyManagementMode", deviceEnergyManagementModeClusterInteractionInfoMap);
+    return deviceEnergyManagementModeClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getElectricalGridConditionsCommandMap() {
     Map<String, InteractionInfo> electricalGridConditionsClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("electricalGridConditions", electricalGridConditionsClusterInteractionInfoMap);
+    return electricalGridConditionsClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getDoorLockCommandMap() {
     Map<String, InteractionInfo> doorLockClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> doorLocklockDoorCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -27842,8 +29089,11 @@ public class ClusterInfoMapping {
     );
     doorLockClusterInteractionInfoMap.put("clearAliroReaderConfig", doorLockclearAliroReaderConfigInteractionInfo);
 
-    commandMap.put("doorLock", doorLockClusterInteractionInfoMap);
+    return doorLockClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getWindowCoveringCommandMap() {
     Map<String, InteractionInfo> windowCoveringClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> windowCoveringupOrOpenCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -27950,8 +29200,11 @@ public class ClusterInfoMapping {
     );
     windowCoveringClusterInteractionInfoMap.put("goToTiltPercentage", windowCoveringgoToTiltPercentageInteractionInfo);
 
-    commandMap.put("windowCovering", windowCoveringClusterInteractionInfoMap);
+    return windowCoveringClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getClosureControlCommandMap() {
     Map<String, InteractionInfo> closureControlClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> closureControlstopCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -28005,8 +29258,11 @@ public class ClusterInfoMapping {
     );
     closureControlClusterInteractionInfoMap.put("calibrate", closureControlcalibrateInteractionInfo);
 
-    commandMap.put("closureControl", closureControlClusterInteractionInfoMap);
+    return closureControlClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getClosureDimensionCommandMap() {
     Map<String, InteractionInfo> closureDimensionClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> closureDimensionsetTargetCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -28063,8 +29319,11 @@ public class ClusterInfoMapping {
     );
     closureDimensionClusterInteractionInfoMap.put("step", closureDimensionstepInteractionInfo);
 
-    commandMap.put("closureDimension", closureDimensionClusterInteractionInfoMap);
+    return closureDimensionClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getServiceAreaCommandMap() {
     Map<String, InteractionInfo> serviceAreaClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> serviceAreaselectAreasCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -28103,12 +29362,18 @@ public class ClusterInfoMapping {
       );
     serviceAreaClusterInteractionInfoMap.put("skipArea", serviceAreaskipAreaInteractionInfo);
 
-    commandMap.put("serviceArea", serviceAreaClusterInteractionInfoMap);
+    return serviceAreaClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getPumpConfigurationAndControlCommandMap() {
     Map<String, InteractionInfo> pumpConfigurationAndControlClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("pumpConfigurationAndControl", pumpConfigurationAndControlClusterInteractionInfoMap);
+    return pumpConfigurationAndControlClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getThermostatCommandMap() {
     Map<String, InteractionInfo> thermostatClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> thermostatsetpointRaiseLowerCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -28310,8 +29575,11 @@ public class ClusterInfoMapping {
       );
     thermostatClusterInteractionInfoMap.put("atomicRequest", thermostatatomicRequestInteractionInfo);
 
-    commandMap.put("thermostat", thermostatClusterInteractionInfoMap);
+    return thermostatClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getFanControlCommandMap() {
     Map<String, InteractionInfo> fanControlClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> fanControlstepCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -28341,12 +29609,18 @@ public class ClusterInfoMapping {
     );
     fanControlClusterInteractionInfoMap.put("step", fanControlstepInteractionInfo);
 
-    commandMap.put("fanControl", fanControlClusterInteractionInfoMap);
+    return fanControlClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getThermostatUserInterfaceConfigurationCommandMap() {
     Map<String, InteractionInfo> thermostatUserInterfaceConfigurationClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("thermostatUserInterfaceConfiguration", thermostatUserInterfaceConfigurationClusterInteractionInfoMap);
+    return thermostatUserInterfaceConfigurationClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getColorControlCommandMap() {
     Map<String, InteractionInfo> colorControlClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> colorControlmoveToHueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -29032,84 +30306,144 @@ public class ClusterInfoMapping {
     );
     colorControlClusterInteractionInfoMap.put("stepColorTemperature", colorControlstepColorTemperatureInteractionInfo);
 
-    commandMap.put("colorControl", colorControlClusterInteractionInfoMap);
+    return colorControlClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getBallastConfigurationCommandMap() {
     Map<String, InteractionInfo> ballastConfigurationClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("ballastConfiguration", ballastConfigurationClusterInteractionInfoMap);
+    return ballastConfigurationClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getIlluminanceMeasurementCommandMap() {
     Map<String, InteractionInfo> illuminanceMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("illuminanceMeasurement", illuminanceMeasurementClusterInteractionInfoMap);
+    return illuminanceMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getTemperatureMeasurementCommandMap() {
     Map<String, InteractionInfo> temperatureMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("temperatureMeasurement", temperatureMeasurementClusterInteractionInfoMap);
+    return temperatureMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getPressureMeasurementCommandMap() {
     Map<String, InteractionInfo> pressureMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("pressureMeasurement", pressureMeasurementClusterInteractionInfoMap);
+    return pressureMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getFlowMeasurementCommandMap() {
     Map<String, InteractionInfo> flowMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("flowMeasurement", flowMeasurementClusterInteractionInfoMap);
+    return flowMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getRelativeHumidityMeasurementCommandMap() {
     Map<String, InteractionInfo> relativeHumidityMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("relativeHumidityMeasurement", relativeHumidityMeasurementClusterInteractionInfoMap);
+    return relativeHumidityMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getOccupancySensingCommandMap() {
     Map<String, InteractionInfo> occupancySensingClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("occupancySensing", occupancySensingClusterInteractionInfoMap);
+    return occupancySensingClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getCarbonMonoxideConcentrationMeasurementCommandMap() {
     Map<String, InteractionInfo> carbonMonoxideConcentrationMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("carbonMonoxideConcentrationMeasurement", carbonMonoxideConcentrationMeasurementClusterInteractionInfoMap);
+    return carbonMonoxideConcentrationMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getCarbonDioxideConcentrationMeasurementCommandMap() {
     Map<String, InteractionInfo> carbonDioxideConcentrationMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("carbonDioxideConcentrationMeasurement", carbonDioxideConcentrationMeasurementClusterInteractionInfoMap);
+    return carbonDioxideConcentrationMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getNitrogenDioxideConcentrationMeasurementCommandMap() {
     Map<String, InteractionInfo> nitrogenDioxideConcentrationMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("nitrogenDioxideConcentrationMeasurement", nitrogenDioxideConcentrationMeasurementClusterInteractionInfoMap);
+    return nitrogenDioxideConcentrationMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getOzoneConcentrationMeasurementCommandMap() {
     Map<String, InteractionInfo> ozoneConcentrationMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("ozoneConcentrationMeasurement", ozoneConcentrationMeasurementClusterInteractionInfoMap);
+    return ozoneConcentrationMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getPm25ConcentrationMeasurementCommandMap() {
     Map<String, InteractionInfo> pm25ConcentrationMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("pm25ConcentrationMeasurement", pm25ConcentrationMeasurementClusterInteractionInfoMap);
+    return pm25ConcentrationMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getFormaldehydeConcentrationMeasurementCommandMap() {
     Map<String, InteractionInfo> formaldehydeConcentrationMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("formaldehydeConcentrationMeasurement", formaldehydeConcentrationMeasurementClusterInteractionInfoMap);
+    return formaldehydeConcentrationMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getPm1ConcentrationMeasurementCommandMap() {
     Map<String, InteractionInfo> pm1ConcentrationMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("pm1ConcentrationMeasurement", pm1ConcentrationMeasurementClusterInteractionInfoMap);
+    return pm1ConcentrationMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getPm10ConcentrationMeasurementCommandMap() {
     Map<String, InteractionInfo> pm10ConcentrationMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("pm10ConcentrationMeasurement", pm10ConcentrationMeasurementClusterInteractionInfoMap);
+    return pm10ConcentrationMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getTotalVolatileOrganicCompoundsConcentrationMeasurementCommandMap() {
     Map<String, InteractionInfo> totalVolatileOrganicCompoundsConcentrationMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("totalVolatileOrganicCompoundsConcentrationMeasurement", totalVolatileOrganicCompoundsConcentrationMeasurementClusterInteractionInfoMap);
+    return totalVolatileOrganicCompoundsConcentrationMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getRadonConcentrationMeasurementCommandMap() {
     Map<String, InteractionInfo> radonConcentrationMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("radonConcentrationMeasurement", radonConcentrationMeasurementClusterInteractionInfoMap);
+    return radonConcentrationMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getSoilMeasurementCommandMap() {
     Map<String, InteractionInfo> soilMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("soilMeasurement", soilMeasurementClusterInteractionInfoMap);
+    return soilMeasurementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getAmbientContextSensingCommandMap() {
     Map<String, InteractionInfo> ambientContextSensingClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("ambientContextSensing", ambientContextSensingClusterInteractionInfoMap);
+    return ambientContextSensingClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getWiFiNetworkManagementCommandMap() {
     Map<String, InteractionInfo> wiFiNetworkManagementClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> wiFiNetworkManagementnetworkPassphraseRequestCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -29124,8 +30458,11 @@ public class ClusterInfoMapping {
       );
     wiFiNetworkManagementClusterInteractionInfoMap.put("networkPassphraseRequest", wiFiNetworkManagementnetworkPassphraseRequestInteractionInfo);
 
-    commandMap.put("wiFiNetworkManagement", wiFiNetworkManagementClusterInteractionInfoMap);
+    return wiFiNetworkManagementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getThreadBorderRouterManagementCommandMap() {
     Map<String, InteractionInfo> threadBorderRouterManagementClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> threadBorderRouterManagementgetActiveDatasetRequestCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -29191,8 +30528,11 @@ public class ClusterInfoMapping {
     );
     threadBorderRouterManagementClusterInteractionInfoMap.put("setPendingDatasetRequest", threadBorderRouterManagementsetPendingDatasetRequestInteractionInfo);
 
-    commandMap.put("threadBorderRouterManagement", threadBorderRouterManagementClusterInteractionInfoMap);
+    return threadBorderRouterManagementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getThreadNetworkDirectoryCommandMap() {
     Map<String, InteractionInfo> threadNetworkDirectoryClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> threadNetworkDirectoryaddNetworkCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -29247,12 +30587,18 @@ public class ClusterInfoMapping {
       );
     threadNetworkDirectoryClusterInteractionInfoMap.put("getOperationalDataset", threadNetworkDirectorygetOperationalDatasetInteractionInfo);
 
-    commandMap.put("threadNetworkDirectory", threadNetworkDirectoryClusterInteractionInfoMap);
+    return threadNetworkDirectoryClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getWakeOnLanCommandMap() {
     Map<String, InteractionInfo> wakeOnLanClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("wakeOnLan", wakeOnLanClusterInteractionInfoMap);
+    return wakeOnLanClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getChannelCommandMap() {
     Map<String, InteractionInfo> channelClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> channelchangeChannelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -29420,8 +30766,11 @@ public class ClusterInfoMapping {
     );
     channelClusterInteractionInfoMap.put("cancelRecordProgram", channelcancelRecordProgramInteractionInfo);
 
-    commandMap.put("channel", channelClusterInteractionInfoMap);
+    return channelClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getTargetNavigatorCommandMap() {
     Map<String, InteractionInfo> targetNavigatorClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> targetNavigatornavigateTargetCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -29448,8 +30797,11 @@ public class ClusterInfoMapping {
       );
     targetNavigatorClusterInteractionInfoMap.put("navigateTarget", targetNavigatornavigateTargetInteractionInfo);
 
-    commandMap.put("targetNavigator", targetNavigatorClusterInteractionInfoMap);
+    return targetNavigatorClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getMediaPlaybackCommandMap() {
     Map<String, InteractionInfo> mediaPlaybackClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> mediaPlaybackplayCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -29665,8 +31017,11 @@ public class ClusterInfoMapping {
     );
     mediaPlaybackClusterInteractionInfoMap.put("deactivateTextTrack", mediaPlaybackdeactivateTextTrackInteractionInfo);
 
-    commandMap.put("mediaPlayback", mediaPlaybackClusterInteractionInfoMap);
+    return mediaPlaybackClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getMediaInputCommandMap() {
     Map<String, InteractionInfo> mediaInputClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> mediaInputselectInputCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -29732,8 +31087,11 @@ public class ClusterInfoMapping {
     );
     mediaInputClusterInteractionInfoMap.put("renameInput", mediaInputrenameInputInteractionInfo);
 
-    commandMap.put("mediaInput", mediaInputClusterInteractionInfoMap);
+    return mediaInputClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getLowPowerCommandMap() {
     Map<String, InteractionInfo> lowPowerClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> lowPowersleepCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -29748,8 +31106,11 @@ public class ClusterInfoMapping {
     );
     lowPowerClusterInteractionInfoMap.put("sleep", lowPowersleepInteractionInfo);
 
-    commandMap.put("lowPower", lowPowerClusterInteractionInfoMap);
+    return lowPowerClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getKeypadInputCommandMap() {
     Map<String, InteractionInfo> keypadInputClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> keypadInputsendKeyCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -29770,8 +31131,11 @@ public class ClusterInfoMapping {
       );
     keypadInputClusterInteractionInfoMap.put("sendKey", keypadInputsendKeyInteractionInfo);
 
-    commandMap.put("keypadInput", keypadInputClusterInteractionInfoMap);
+    return keypadInputClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getContentLauncherCommandMap() {
     Map<String, InteractionInfo> contentLauncherClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> contentLauncherlaunchContentCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -29840,8 +31204,11 @@ public class ClusterInfoMapping {
       );
     contentLauncherClusterInteractionInfoMap.put("launchURL", contentLauncherlaunchURLInteractionInfo);
 
-    commandMap.put("contentLauncher", contentLauncherClusterInteractionInfoMap);
+    return contentLauncherClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getAudioOutputCommandMap() {
     Map<String, InteractionInfo> audioOutputClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> audioOutputselectOutputCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -29883,8 +31250,11 @@ public class ClusterInfoMapping {
     );
     audioOutputClusterInteractionInfoMap.put("renameOutput", audioOutputrenameOutputInteractionInfo);
 
-    commandMap.put("audioOutput", audioOutputClusterInteractionInfoMap);
+    return audioOutputClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getApplicationLauncherCommandMap() {
     Map<String, InteractionInfo> applicationLauncherClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> applicationLauncherlaunchAppCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -29941,12 +31311,18 @@ public class ClusterInfoMapping {
       );
     applicationLauncherClusterInteractionInfoMap.put("hideApp", applicationLauncherhideAppInteractionInfo);
 
-    commandMap.put("applicationLauncher", applicationLauncherClusterInteractionInfoMap);
+    return applicationLauncherClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getApplicationBasicCommandMap() {
     Map<String, InteractionInfo> applicationBasicClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("applicationBasic", applicationBasicClusterInteractionInfoMap);
+    return applicationBasicClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getAccountLoginCommandMap() {
     Map<String, InteractionInfo> accountLoginClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> accountLogingetSetupPINCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -30011,8 +31387,11 @@ public class ClusterInfoMapping {
     );
     accountLoginClusterInteractionInfoMap.put("logout", accountLoginlogoutInteractionInfo);
 
-    commandMap.put("accountLogin", accountLoginClusterInteractionInfoMap);
+    return accountLoginClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getContentControlCommandMap() {
     Map<String, InteractionInfo> contentControlClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> contentControlupdatePINCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -30264,8 +31643,11 @@ public class ClusterInfoMapping {
     );
     contentControlClusterInteractionInfoMap.put("removeBlockContentTimeWindow", contentControlremoveBlockContentTimeWindowInteractionInfo);
 
-    commandMap.put("contentControl", contentControlClusterInteractionInfoMap);
+    return contentControlClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getContentAppObserverCommandMap() {
     Map<String, InteractionInfo> contentAppObserverClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> contentAppObservercontentAppMessageCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -30292,8 +31674,11 @@ public class ClusterInfoMapping {
       );
     contentAppObserverClusterInteractionInfoMap.put("contentAppMessage", contentAppObservercontentAppMessageInteractionInfo);
 
-    commandMap.put("contentAppObserver", contentAppObserverClusterInteractionInfoMap);
+    return contentAppObserverClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getZoneManagementCommandMap() {
     Map<String, InteractionInfo> zoneManagementClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> zoneManagementcreateTwoDCartesianZoneCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -30381,8 +31766,11 @@ public class ClusterInfoMapping {
     );
     zoneManagementClusterInteractionInfoMap.put("removeTrigger", zoneManagementremoveTriggerInteractionInfo);
 
-    commandMap.put("zoneManagement", zoneManagementClusterInteractionInfoMap);
+    return zoneManagementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getCameraAvStreamManagementCommandMap() {
     Map<String, InteractionInfo> cameraAvStreamManagementClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> cameraAvStreamManagementaudioStreamAllocateCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -30701,8 +32089,11 @@ public class ClusterInfoMapping {
       );
     cameraAvStreamManagementClusterInteractionInfoMap.put("captureSnapshot", cameraAvStreamManagementcaptureSnapshotInteractionInfo);
 
-    commandMap.put("cameraAvStreamManagement", cameraAvStreamManagementClusterInteractionInfoMap);
+    return cameraAvStreamManagementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getCameraAvSettingsUserLevelManagementCommandMap() {
     Map<String, InteractionInfo> cameraAvSettingsUserLevelManagementClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> cameraAvSettingsUserLevelManagementMPTZSetPositionCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -30867,8 +32258,11 @@ public class ClusterInfoMapping {
     );
     cameraAvSettingsUserLevelManagementClusterInteractionInfoMap.put("DPTZRelativeMove", cameraAvSettingsUserLevelManagementDPTZRelativeMoveInteractionInfo);
 
-    commandMap.put("cameraAvSettingsUserLevelManagement", cameraAvSettingsUserLevelManagementClusterInteractionInfoMap);
+    return cameraAvSettingsUserLevelManagementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getWebRTCTransportProviderCommandMap() {
     Map<String, InteractionInfo> webRTCTransportProviderClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> webRTCTransportProvidersolicitOfferCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -31059,8 +32453,11 @@ public class ClusterInfoMapping {
     );
     webRTCTransportProviderClusterInteractionInfoMap.put("endSession", webRTCTransportProviderendSessionInteractionInfo);
 
-    commandMap.put("webRTCTransportProvider", webRTCTransportProviderClusterInteractionInfoMap);
+    return webRTCTransportProviderClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getWebRTCTransportRequestorCommandMap() {
     Map<String, InteractionInfo> webRTCTransportRequestorClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> webRTCTransportRequestorofferCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -31157,8 +32554,11 @@ public class ClusterInfoMapping {
     );
     webRTCTransportRequestorClusterInteractionInfoMap.put("end", webRTCTransportRequestorendInteractionInfo);
 
-    commandMap.put("webRTCTransportRequestor", webRTCTransportRequestorClusterInteractionInfoMap);
+    return webRTCTransportRequestorClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getPushAvStreamTransportCommandMap() {
     Map<String, InteractionInfo> pushAvStreamTransportClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> pushAvStreamTransportallocatePushTransportCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -31284,8 +32684,11 @@ public class ClusterInfoMapping {
       );
     pushAvStreamTransportClusterInteractionInfoMap.put("findTransport", pushAvStreamTransportfindTransportInteractionInfo);
 
-    commandMap.put("pushAvStreamTransport", pushAvStreamTransportClusterInteractionInfoMap);
+    return pushAvStreamTransportClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getChimeCommandMap() {
     Map<String, InteractionInfo> chimeClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> chimeplayChimeSoundCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -31300,8 +32703,11 @@ public class ClusterInfoMapping {
     );
     chimeClusterInteractionInfoMap.put("playChimeSound", chimeplayChimeSoundInteractionInfo);
 
-    commandMap.put("chime", chimeClusterInteractionInfoMap);
+    return chimeClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getCommodityTariffCommandMap() {
     Map<String, InteractionInfo> commodityTariffClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> commodityTariffgetTariffComponentCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -31340,12 +32746,18 @@ public class ClusterInfoMapping {
       );
     commodityTariffClusterInteractionInfoMap.put("getDayEntry", commodityTariffgetDayEntryInteractionInfo);
 
-    commandMap.put("commodityTariff", commodityTariffClusterInteractionInfoMap);
+    return commodityTariffClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getEcosystemInformationCommandMap() {
     Map<String, InteractionInfo> ecosystemInformationClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("ecosystemInformation", ecosystemInformationClusterInteractionInfoMap);
+    return ecosystemInformationClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getCommissionerControlCommandMap() {
     Map<String, InteractionInfo> commissionerControlClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> commissionerControlrequestCommissioningApprovalCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -31404,8 +32816,11 @@ public class ClusterInfoMapping {
       );
     commissionerControlClusterInteractionInfoMap.put("commissionNode", commissionerControlcommissionNodeInteractionInfo);
 
-    commandMap.put("commissionerControl", commissionerControlClusterInteractionInfoMap);
+    return commissionerControlClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getJointFabricDatastoreCommandMap() {
     Map<String, InteractionInfo> jointFabricDatastoreClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> jointFabricDatastoreaddKeySetCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -31885,8 +33300,11 @@ public class ClusterInfoMapping {
     );
     jointFabricDatastoreClusterInteractionInfoMap.put("removeACLFromNode", jointFabricDatastoreremoveACLFromNodeInteractionInfo);
 
-    commandMap.put("jointFabricDatastore", jointFabricDatastoreClusterInteractionInfoMap);
+    return jointFabricDatastoreClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getJointFabricAdministratorCommandMap() {
     Map<String, InteractionInfo> jointFabricAdministratorClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> jointFabricAdministratorICACCSRRequestCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -31997,8 +33415,11 @@ public class ClusterInfoMapping {
     );
     jointFabricAdministratorClusterInteractionInfoMap.put("announceJointFabricAdministrator", jointFabricAdministratorannounceJointFabricAdministratorInteractionInfo);
 
-    commandMap.put("jointFabricAdministrator", jointFabricAdministratorClusterInteractionInfoMap);
+    return jointFabricAdministratorClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getTlsCertificateManagementCommandMap() {
     Map<String, InteractionInfo> tlsCertificateManagementClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> tlsCertificateManagementprovisionRootCertificateCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -32182,8 +33603,11 @@ public class ClusterInfoMapping {
     );
     tlsCertificateManagementClusterInteractionInfoMap.put("removeClientCertificate", tlsCertificateManagementremoveClientCertificateInteractionInfo);
 
-    commandMap.put("tlsCertificateManagement", tlsCertificateManagementClusterInteractionInfoMap);
+    return tlsCertificateManagementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getTlsClientManagementCommandMap() {
     Map<String, InteractionInfo> tlsClientManagementClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> tlsClientManagementprovisionEndpointCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -32263,16 +33687,25 @@ public class ClusterInfoMapping {
     );
     tlsClientManagementClusterInteractionInfoMap.put("removeEndpoint", tlsClientManagementremoveEndpointInteractionInfo);
 
-    commandMap.put("tlsClientManagement", tlsClientManagementClusterInteractionInfoMap);
+    return tlsClientManagementClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getMeterIdentificationCommandMap() {
     Map<String, InteractionInfo> meterIdentificationClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("meterIdentification", meterIdentificationClusterInteractionInfoMap);
+    return meterIdentificationClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getCommodityMeteringCommandMap() {
     Map<String, InteractionInfo> commodityMeteringClusterInteractionInfoMap = new LinkedHashMap<>();
 
-    commandMap.put("commodityMetering", commodityMeteringClusterInteractionInfoMap);
+    return commodityMeteringClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getUnitTestingCommandMap() {
     Map<String, InteractionInfo> unitTestingClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> unitTestingtestCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -32868,8 +34301,11 @@ public class ClusterInfoMapping {
       );
     unitTestingClusterInteractionInfoMap.put("testDifferentVendorMeiRequest", unitTestingtestDifferentVendorMeiRequestInteractionInfo);
 
-    commandMap.put("unitTesting", unitTestingClusterInteractionInfoMap);
+    return unitTestingClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getFaultInjectionCommandMap() {
     Map<String, InteractionInfo> faultInjectionClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> faultInjectionfailAtFaultCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -32936,8 +34372,11 @@ public class ClusterInfoMapping {
     );
     faultInjectionClusterInteractionInfoMap.put("failRandomlyAtFault", faultInjectionfailRandomlyAtFaultInteractionInfo);
 
-    commandMap.put("faultInjection", faultInjectionClusterInteractionInfoMap);
+    return faultInjectionClusterInteractionInfoMap;
+  }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getSampleMeiCommandMap() {
     Map<String, InteractionInfo> sampleMeiClusterInteractionInfoMap = new LinkedHashMap<>();
 
     Map<String, CommandParameterInfo> sampleMeipingCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
@@ -32976,8 +34415,6 @@ public class ClusterInfoMapping {
       );
     sampleMeiClusterInteractionInfoMap.put("addArguments", sampleMeiaddArgumentsInteractionInfo);
 
-    commandMap.put("sampleMei", sampleMeiClusterInteractionInfoMap);
-
-    return commandMap;
+    return sampleMeiClusterInteractionInfoMap;
   }
 }
@@ -25,7 +25,7 @@ import java.util.Map;
 public class ClusterReadMapping {
 
 
-    private static Map<String, InteractionInfo> readIdentifyInteractionInfo() {
+    static Map<String, InteractionInfo> readIdentifyInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readIdentifyIdentifyTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readIdentifyIdentifyTimeAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -106,7 +106,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readGroupsInteractionInfo() {
+    static Map<String, InteractionInfo> readGroupsInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readGroupsNameSupportCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readGroupsNameSupportAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -176,7 +176,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readOnOffInteractionInfo() {
+    static Map<String, InteractionInfo> readOnOffInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readOnOffOnOffCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readOnOffOnOffAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -290,7 +290,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readLevelControlInteractionInfo() {
+    static Map<String, InteractionInfo> readLevelControlInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readLevelControlCurrentLevelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readLevelControlCurrentLevelAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -503,7 +503,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readPulseWidthModulationInteractionInfo() {
+    static Map<String, InteractionInfo> readPulseWidthModulationInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readPulseWidthModulationGeneratedCommandListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readPulseWidthModulationGeneratedCommandListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -562,7 +562,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readDescriptorInteractionInfo() {
+    static Map<String, InteractionInfo> readDescriptorInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readDescriptorDeviceTypeListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readDescriptorDeviceTypeListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -687,7 +687,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readBindingInteractionInfo() {
+    static Map<String, InteractionInfo> readBindingInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readBindingBindingCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readBindingBindingAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -757,7 +757,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readAccessControlInteractionInfo() {
+    static Map<String, InteractionInfo> readAccessControlInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readAccessControlAclCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readAccessControlAclAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -904,7 +904,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readActionsInteractionInfo() {
+    static Map<String, InteractionInfo> readActionsInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readActionsActionListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readActionsActionListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -996,7 +996,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readBasicInformationInteractionInfo() {
+    static Map<String, InteractionInfo> readBasicInformationInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readBasicInformationDataModelRevisionCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readBasicInformationDataModelRevisionAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -1297,7 +1297,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readOtaSoftwareUpdateProviderInteractionInfo() {
+    static Map<String, InteractionInfo> readOtaSoftwareUpdateProviderInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readOtaSoftwareUpdateProviderGeneratedCommandListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readOtaSoftwareUpdateProviderGeneratedCommandListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -1356,7 +1356,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readOtaSoftwareUpdateRequestorInteractionInfo() {
+    static Map<String, InteractionInfo> readOtaSoftwareUpdateRequestorInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readOtaSoftwareUpdateRequestorDefaultOTAProvidersCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readOtaSoftwareUpdateRequestorDefaultOTAProvidersAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -1459,7 +1459,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readLocalizationConfigurationInteractionInfo() {
+    static Map<String, InteractionInfo> readLocalizationConfigurationInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readLocalizationConfigurationActiveLocaleCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readLocalizationConfigurationActiveLocaleAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -1540,7 +1540,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readTimeFormatLocalizationInteractionInfo() {
+    static Map<String, InteractionInfo> readTimeFormatLocalizationInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readTimeFormatLocalizationHourFormatCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readTimeFormatLocalizationHourFormatAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -1632,7 +1632,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readUnitLocalizationInteractionInfo() {
+    static Map<String, InteractionInfo> readUnitLocalizationInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readUnitLocalizationTemperatureUnitCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readUnitLocalizationTemperatureUnitAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -1713,7 +1713,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readPowerSourceConfigurationInteractionInfo() {
+    static Map<String, InteractionInfo> readPowerSourceConfigurationInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readPowerSourceConfigurationSourcesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readPowerSourceConfigurationSourcesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -1783,7 +1783,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readPowerSourceInteractionInfo() {
+    static Map<String, InteractionInfo> readPowerSourceInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readPowerSourceStatusCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readPowerSourceStatusAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -2194,7 +2194,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readGeneralCommissioningInteractionInfo() {
+    static Map<String, InteractionInfo> readGeneralCommissioningInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readGeneralCommissioningBreadcrumbCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readGeneralCommissioningBreadcrumbAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -2385,7 +2385,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readNetworkCommissioningInteractionInfo() {
+    static Map<String, InteractionInfo> readNetworkCommissioningInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readNetworkCommissioningMaxNetworksCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readNetworkCommissioningMaxNetworksAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -2565,7 +2565,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readDiagnosticLogsInteractionInfo() {
+    static Map<String, InteractionInfo> readDiagnosticLogsInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readDiagnosticLogsGeneratedCommandListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readDiagnosticLogsGeneratedCommandListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -2624,7 +2624,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readGeneralDiagnosticsInteractionInfo() {
+    static Map<String, InteractionInfo> readGeneralDiagnosticsInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readGeneralDiagnosticsNetworkInterfacesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readGeneralDiagnosticsNetworkInterfacesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -2782,7 +2782,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readSoftwareDiagnosticsInteractionInfo() {
+    static Map<String, InteractionInfo> readSoftwareDiagnosticsInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readSoftwareDiagnosticsThreadMetricsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readSoftwareDiagnosticsThreadMetricsAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -2885,7 +2885,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readThreadNetworkDiagnosticsInteractionInfo() {
+    static Map<String, InteractionInfo> readThreadNetworkDiagnosticsInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsChannelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readThreadNetworkDiagnosticsChannelAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -3637,7 +3637,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readWiFiNetworkDiagnosticsInteractionInfo() {
+    static Map<String, InteractionInfo> readWiFiNetworkDiagnosticsInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readWiFiNetworkDiagnosticsBssidCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readWiFiNetworkDiagnosticsBssidAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -3839,7 +3839,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readEthernetNetworkDiagnosticsInteractionInfo() {
+    static Map<String, InteractionInfo> readEthernetNetworkDiagnosticsInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readEthernetNetworkDiagnosticsPHYRateCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readEthernetNetworkDiagnosticsPHYRateAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -3997,7 +3997,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readTimeSynchronizationInteractionInfo() {
+    static Map<String, InteractionInfo> readTimeSynchronizationInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readTimeSynchronizationUTCTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readTimeSynchronizationUTCTimeAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -4188,7 +4188,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readBridgedDeviceBasicInformationInteractionInfo() {
+    static Map<String, InteractionInfo> readBridgedDeviceBasicInformationInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readBridgedDeviceBasicInformationVendorNameCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readBridgedDeviceBasicInformationVendorNameAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -4434,7 +4434,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readSwitchInteractionInfo() {
+    static Map<String, InteractionInfo> readSwitchInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readSwitchNumberOfPositionsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readSwitchNumberOfPositionsAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -4526,7 +4526,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readAdministratorCommissioningInteractionInfo() {
+    static Map<String, InteractionInfo> readAdministratorCommissioningInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readAdministratorCommissioningWindowStatusCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readAdministratorCommissioningWindowStatusAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -4618,7 +4618,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readOperationalCredentialsInteractionInfo() {
+    static Map<String, InteractionInfo> readOperationalCredentialsInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readOperationalCredentialsNOCsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readOperationalCredentialsNOCsAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -4743,7 +4743,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readGroupKeyManagementInteractionInfo() {
+    static Map<String, InteractionInfo> readGroupKeyManagementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readGroupKeyManagementGroupKeyMapCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readGroupKeyManagementGroupKeyMapAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -4846,7 +4846,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readFixedLabelInteractionInfo() {
+    static Map<String, InteractionInfo> readFixedLabelInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readFixedLabelLabelListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readFixedLabelLabelListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -4916,7 +4916,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readUserLabelInteractionInfo() {
+    static Map<String, InteractionInfo> readUserLabelInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readUserLabelLabelListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readUserLabelLabelListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -4986,7 +4986,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readProxyConfigurationInteractionInfo() {
+    static Map<String, InteractionInfo> readProxyConfigurationInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readProxyConfigurationGeneratedCommandListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readProxyConfigurationGeneratedCommandListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -5045,7 +5045,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readProxyDiscoveryInteractionInfo() {
+    static Map<String, InteractionInfo> readProxyDiscoveryInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readProxyDiscoveryGeneratedCommandListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readProxyDiscoveryGeneratedCommandListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -5104,7 +5104,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readProxyValidInteractionInfo() {
+    static Map<String, InteractionInfo> readProxyValidInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readProxyValidGeneratedCommandListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readProxyValidGeneratedCommandListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -5163,7 +5163,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readBooleanStateInteractionInfo() {
+    static Map<String, InteractionInfo> readBooleanStateInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readBooleanStateStateValueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readBooleanStateStateValueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -5233,7 +5233,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readIcdManagementInteractionInfo() {
+    static Map<String, InteractionInfo> readIcdManagementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readIcdManagementIdleModeDurationCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readIcdManagementIdleModeDurationAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -5402,7 +5402,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readTimerInteractionInfo() {
+    static Map<String, InteractionInfo> readTimerInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readTimerSetTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readTimerSetTimeAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -5494,7 +5494,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readOvenCavityOperationalStateInteractionInfo() {
+    static Map<String, InteractionInfo> readOvenCavityOperationalStateInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readOvenCavityOperationalStatePhaseListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readOvenCavityOperationalStatePhaseListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -5608,7 +5608,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readOvenModeInteractionInfo() {
+    static Map<String, InteractionInfo> readOvenModeInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readOvenModeSupportedModesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readOvenModeSupportedModesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -5689,7 +5689,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readLaundryDryerControlsInteractionInfo() {
+    static Map<String, InteractionInfo> readLaundryDryerControlsInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readLaundryDryerControlsSupportedDrynessLevelsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readLaundryDryerControlsSupportedDrynessLevelsAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -5770,7 +5770,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readModeSelectInteractionInfo() {
+    static Map<String, InteractionInfo> readModeSelectInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readModeSelectDescriptionCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readModeSelectDescriptionAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -5895,7 +5895,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readLaundryWasherModeInteractionInfo() {
+    static Map<String, InteractionInfo> readLaundryWasherModeInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readLaundryWasherModeSupportedModesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readLaundryWasherModeSupportedModesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -5976,7 +5976,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readRefrigeratorAndTemperatureControlledCabinetModeInteractionInfo() {
+    static Map<String, InteractionInfo> readRefrigeratorAndTemperatureControlledCabinetModeInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readRefrigeratorAndTemperatureControlledCabinetModeSupportedModesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readRefrigeratorAndTemperatureControlledCabinetModeSupportedModesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -6057,7 +6057,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readLaundryWasherControlsInteractionInfo() {
+    static Map<String, InteractionInfo> readLaundryWasherControlsInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readLaundryWasherControlsSpinSpeedsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readLaundryWasherControlsSpinSpeedsAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -6160,7 +6160,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readRvcRunModeInteractionInfo() {
+    static Map<String, InteractionInfo> readRvcRunModeInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readRvcRunModeSupportedModesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readRvcRunModeSupportedModesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -6241,7 +6241,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readRvcCleanModeInteractionInfo() {
+    static Map<String, InteractionInfo> readRvcCleanModeInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readRvcCleanModeSupportedModesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readRvcCleanModeSupportedModesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -6322,7 +6322,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readTemperatureControlInteractionInfo() {
+    static Map<String, InteractionInfo> readTemperatureControlInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readTemperatureControlTemperatureSetpointCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readTemperatureControlTemperatureSetpointAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -6447,7 +6447,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readRefrigeratorAlarmInteractionInfo() {
+    static Map<String, InteractionInfo> readRefrigeratorAlarmInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readRefrigeratorAlarmMaskCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readRefrigeratorAlarmMaskAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -6539,7 +6539,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readDishwasherModeInteractionInfo() {
+    static Map<String, InteractionInfo> readDishwasherModeInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readDishwasherModeSupportedModesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readDishwasherModeSupportedModesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -6620,7 +6620,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readAirQualityInteractionInfo() {
+    static Map<String, InteractionInfo> readAirQualityInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readAirQualityAirQualityCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readAirQualityAirQualityAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -6690,7 +6690,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readSmokeCoAlarmInteractionInfo() {
+    static Map<String, InteractionInfo> readSmokeCoAlarmInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readSmokeCoAlarmExpressedStateCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readSmokeCoAlarmExpressedStateAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -6892,7 +6892,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readDishwasherAlarmInteractionInfo() {
+    static Map<String, InteractionInfo> readDishwasherAlarmInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readDishwasherAlarmMaskCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readDishwasherAlarmMaskAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -6995,7 +6995,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readMicrowaveOvenModeInteractionInfo() {
+    static Map<String, InteractionInfo> readMicrowaveOvenModeInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readMicrowaveOvenModeSupportedModesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readMicrowaveOvenModeSupportedModesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -7076,7 +7076,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readMicrowaveOvenControlInteractionInfo() {
+    static Map<String, InteractionInfo> readMicrowaveOvenControlInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readMicrowaveOvenControlCookTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readMicrowaveOvenControlCookTimeAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -7234,7 +7234,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readOperationalStateInteractionInfo() {
+    static Map<String, InteractionInfo> readOperationalStateInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readOperationalStatePhaseListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readOperationalStatePhaseListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -7348,7 +7348,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readRvcOperationalStateInteractionInfo() {
+    static Map<String, InteractionInfo> readRvcOperationalStateInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readRvcOperationalStatePhaseListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readRvcOperationalStatePhaseListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -7462,7 +7462,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readScenesManagementInteractionInfo() {
+    static Map<String, InteractionInfo> readScenesManagementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readScenesManagementSceneTableSizeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readScenesManagementSceneTableSizeAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -7543,7 +7543,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readGroupcastInteractionInfo() {
+    static Map<String, InteractionInfo> readGroupcastInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readGroupcastMembershipCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readGroupcastMembershipAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -7624,7 +7624,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readHepaFilterMonitoringInteractionInfo() {
+    static Map<String, InteractionInfo> readHepaFilterMonitoringInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readHepaFilterMonitoringConditionCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readHepaFilterMonitoringConditionAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -7749,7 +7749,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readActivatedCarbonFilterMonitoringInteractionInfo() {
+    static Map<String, InteractionInfo> readActivatedCarbonFilterMonitoringInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readActivatedCarbonFilterMonitoringConditionCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readActivatedCarbonFilterMonitoringConditionAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -7874,7 +7874,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readWaterTankLevelMonitoringInteractionInfo() {
+    static Map<String, InteractionInfo> readWaterTankLevelMonitoringInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readWaterTankLevelMonitoringConditionCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readWaterTankLevelMonitoringConditionAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -7999,7 +7999,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readBooleanStateConfigurationInteractionInfo() {
+    static Map<String, InteractionInfo> readBooleanStateConfigurationInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readBooleanStateConfigurationCurrentSensitivityLevelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readBooleanStateConfigurationCurrentSensitivityLevelAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -8146,7 +8146,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readValveConfigurationAndControlInteractionInfo() {
+    static Map<String, InteractionInfo> readValveConfigurationAndControlInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readValveConfigurationAndControlOpenDurationCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readValveConfigurationAndControlOpenDurationAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -8326,7 +8326,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readElectricalPowerMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readElectricalPowerMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readElectricalPowerMeasurementPowerModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readElectricalPowerMeasurementPowerModeAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -8594,7 +8594,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readElectricalEnergyMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readElectricalEnergyMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readElectricalEnergyMeasurementGeneratedCommandListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readElectricalEnergyMeasurementGeneratedCommandListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -8653,7 +8653,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readWaterHeaterManagementInteractionInfo() {
+    static Map<String, InteractionInfo> readWaterHeaterManagementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readWaterHeaterManagementHeaterTypesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readWaterHeaterManagementHeaterTypesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -8778,7 +8778,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readCommodityPriceInteractionInfo() {
+    static Map<String, InteractionInfo> readCommodityPriceInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readCommodityPriceTariffUnitCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readCommodityPriceTariffUnitAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -8859,7 +8859,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readMessagesInteractionInfo() {
+    static Map<String, InteractionInfo> readMessagesInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readMessagesMessagesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readMessagesMessagesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -8940,7 +8940,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readDeviceEnergyManagementInteractionInfo() {
+    static Map<String, InteractionInfo> readDeviceEnergyManagementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readDeviceEnergyManagementESATypeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readDeviceEnergyManagementESATypeAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -9065,7 +9065,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readEnergyEvseInteractionInfo() {
+    static Map<String, InteractionInfo> readEnergyEvseInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readEnergyEvseStateCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readEnergyEvseStateAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -9377,7 +9377,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readEnergyPreferenceInteractionInfo() {
+    static Map<String, InteractionInfo> readEnergyPreferenceInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readEnergyPreferenceEnergyBalancesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readEnergyPreferenceEnergyBalancesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -9491,7 +9491,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readPowerTopologyInteractionInfo() {
+    static Map<String, InteractionInfo> readPowerTopologyInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readPowerTopologyAvailableEndpointsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readPowerTopologyAvailableEndpointsAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -9583,7 +9583,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readEnergyEvseModeInteractionInfo() {
+    static Map<String, InteractionInfo> readEnergyEvseModeInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readEnergyEvseModeSupportedModesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readEnergyEvseModeSupportedModesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -9664,7 +9664,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readWaterHeaterModeInteractionInfo() {
+    static Map<String, InteractionInfo> readWaterHeaterModeInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readWaterHeaterModeSupportedModesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readWaterHeaterModeSupportedModesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -9745,7 +9745,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readDeviceEnergyManagementModeInteractionInfo() {
+    static Map<String, InteractionInfo> readDeviceEnergyManagementModeInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readDeviceEnergyManagementModeSupportedModesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readDeviceEnergyManagementModeSupportedModesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -9826,7 +9826,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readElectricalGridConditionsInteractionInfo() {
+    static Map<String, InteractionInfo> readElectricalGridConditionsInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readElectricalGridConditionsLocalGenerationAvailableCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readElectricalGridConditionsLocalGenerationAvailableAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -9907,7 +9907,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readDoorLockInteractionInfo() {
+    static Map<String, InteractionInfo> readDoorLockInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readDoorLockLockStateCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readDoorLockLockStateAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -10461,7 +10461,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readWindowCoveringInteractionInfo() {
+    static Map<String, InteractionInfo> readWindowCoveringInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readWindowCoveringTypeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readWindowCoveringTypeAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -10762,7 +10762,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readClosureControlInteractionInfo() {
+    static Map<String, InteractionInfo> readClosureControlInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readClosureControlCountdownTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readClosureControlCountdownTimeAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -10865,7 +10865,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readClosureDimensionInteractionInfo() {
+    static Map<String, InteractionInfo> readClosureDimensionInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readClosureDimensionResolutionCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readClosureDimensionResolutionAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -11012,7 +11012,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readServiceAreaInteractionInfo() {
+    static Map<String, InteractionInfo> readServiceAreaInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readServiceAreaSupportedAreasCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readServiceAreaSupportedAreasAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -11137,7 +11137,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readPumpConfigurationAndControlInteractionInfo() {
+    static Map<String, InteractionInfo> readPumpConfigurationAndControlInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readPumpConfigurationAndControlMaxPressureCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readPumpConfigurationAndControlMaxPressureAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -11449,7 +11449,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readThermostatInteractionInfo() {
+    static Map<String, InteractionInfo> readThermostatInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readThermostatLocalTemperatureCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readThermostatLocalTemperatureAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -12201,7 +12201,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readFanControlInteractionInfo() {
+    static Map<String, InteractionInfo> readFanControlInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readFanControlFanModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readFanControlFanModeAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -12392,7 +12392,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readThermostatUserInterfaceConfigurationInteractionInfo() {
+    static Map<String, InteractionInfo> readThermostatUserInterfaceConfigurationInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readThermostatUserInterfaceConfigurationTemperatureDisplayModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readThermostatUserInterfaceConfigurationTemperatureDisplayModeAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -12484,7 +12484,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readColorControlInteractionInfo() {
+    static Map<String, InteractionInfo> readColorControlInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readColorControlCurrentHueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readColorControlCurrentHueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -13115,7 +13115,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readBallastConfigurationInteractionInfo() {
+    static Map<String, InteractionInfo> readBallastConfigurationInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readBallastConfigurationPhysicalMinLevelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readBallastConfigurationPhysicalMinLevelAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -13328,7 +13328,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readIlluminanceMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readIlluminanceMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readIlluminanceMeasurementMeasuredValueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readIlluminanceMeasurementMeasuredValueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -13442,7 +13442,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readTemperatureMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readTemperatureMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readTemperatureMeasurementMeasuredValueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readTemperatureMeasurementMeasuredValueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -13545,7 +13545,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readPressureMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readPressureMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readPressureMeasurementMeasuredValueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readPressureMeasurementMeasuredValueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -13703,7 +13703,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readFlowMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readFlowMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readFlowMeasurementMeasuredValueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readFlowMeasurementMeasuredValueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -13806,7 +13806,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readRelativeHumidityMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readRelativeHumidityMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readRelativeHumidityMeasurementMeasuredValueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readRelativeHumidityMeasurementMeasuredValueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -13909,7 +13909,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readOccupancySensingInteractionInfo() {
+    static Map<String, InteractionInfo> readOccupancySensingInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readOccupancySensingOccupancyCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readOccupancySensingOccupancyAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -14111,7 +14111,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readCarbonMonoxideConcentrationMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readCarbonMonoxideConcentrationMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readCarbonMonoxideConcentrationMeasurementMeasuredValueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readCarbonMonoxideConcentrationMeasurementMeasuredValueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -14291,7 +14291,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readCarbonDioxideConcentrationMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readCarbonDioxideConcentrationMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readCarbonDioxideConcentrationMeasurementMeasuredValueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readCarbonDioxideConcentrationMeasurementMeasuredValueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -14471,7 +14471,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readNitrogenDioxideConcentrationMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readNitrogenDioxideConcentrationMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readNitrogenDioxideConcentrationMeasurementMeasuredValueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readNitrogenDioxideConcentrationMeasurementMeasuredValueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -14651,7 +14651,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readOzoneConcentrationMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readOzoneConcentrationMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readOzoneConcentrationMeasurementMeasuredValueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readOzoneConcentrationMeasurementMeasuredValueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -14831,7 +14831,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readPm25ConcentrationMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readPm25ConcentrationMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readPm25ConcentrationMeasurementMeasuredValueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readPm25ConcentrationMeasurementMeasuredValueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -15011,7 +15011,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readFormaldehydeConcentrationMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readFormaldehydeConcentrationMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readFormaldehydeConcentrationMeasurementMeasuredValueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readFormaldehydeConcentrationMeasurementMeasuredValueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -15191,7 +15191,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readPm1ConcentrationMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readPm1ConcentrationMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readPm1ConcentrationMeasurementMeasuredValueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readPm1ConcentrationMeasurementMeasuredValueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -15371,7 +15371,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readPm10ConcentrationMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readPm10ConcentrationMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readPm10ConcentrationMeasurementMeasuredValueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readPm10ConcentrationMeasurementMeasuredValueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -15551,7 +15551,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readTotalVolatileOrganicCompoundsConcentrationMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readTotalVolatileOrganicCompoundsConcentrationMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readTotalVolatileOrganicCompoundsConcentrationMeasurementMeasuredValueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readTotalVolatileOrganicCompoundsConcentrationMeasurementMeasuredValueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -15731,7 +15731,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readRadonConcentrationMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readRadonConcentrationMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readRadonConcentrationMeasurementMeasuredValueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readRadonConcentrationMeasurementMeasuredValueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -15911,7 +15911,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readSoilMeasurementInteractionInfo() {
+    static Map<String, InteractionInfo> readSoilMeasurementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readSoilMeasurementSoilMoistureMeasuredValueCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readSoilMeasurementSoilMoistureMeasuredValueAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -15981,7 +15981,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readAmbientContextSensingInteractionInfo() {
+    static Map<String, InteractionInfo> readAmbientContextSensingInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readAmbientContextSensingHumanActivityDetectedCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readAmbientContextSensingHumanActivityDetectedAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -16172,7 +16172,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readWiFiNetworkManagementInteractionInfo() {
+    static Map<String, InteractionInfo> readWiFiNetworkManagementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readWiFiNetworkManagementSsidCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readWiFiNetworkManagementSsidAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -16253,7 +16253,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readThreadBorderRouterManagementInteractionInfo() {
+    static Map<String, InteractionInfo> readThreadBorderRouterManagementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readThreadBorderRouterManagementBorderRouterNameCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readThreadBorderRouterManagementBorderRouterNameAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -16378,7 +16378,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readThreadNetworkDirectoryInteractionInfo() {
+    static Map<String, InteractionInfo> readThreadNetworkDirectoryInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readThreadNetworkDirectoryPreferredExtendedPanIDCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readThreadNetworkDirectoryPreferredExtendedPanIDAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -16470,7 +16470,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readWakeOnLanInteractionInfo() {
+    static Map<String, InteractionInfo> readWakeOnLanInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readWakeOnLanMACAddressCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readWakeOnLanMACAddressAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -16551,7 +16551,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readChannelInteractionInfo() {
+    static Map<String, InteractionInfo> readChannelInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readChannelChannelListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readChannelChannelListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -16621,7 +16621,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readTargetNavigatorInteractionInfo() {
+    static Map<String, InteractionInfo> readTargetNavigatorInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readTargetNavigatorTargetListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readTargetNavigatorTargetListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -16702,7 +16702,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readMediaPlaybackInteractionInfo() {
+    static Map<String, InteractionInfo> readMediaPlaybackInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readMediaPlaybackCurrentStateCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readMediaPlaybackCurrentStateAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -16849,7 +16849,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readMediaInputInteractionInfo() {
+    static Map<String, InteractionInfo> readMediaInputInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readMediaInputInputListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readMediaInputInputListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -16930,7 +16930,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readLowPowerInteractionInfo() {
+    static Map<String, InteractionInfo> readLowPowerInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readLowPowerGeneratedCommandListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readLowPowerGeneratedCommandListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -16989,7 +16989,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readKeypadInputInteractionInfo() {
+    static Map<String, InteractionInfo> readKeypadInputInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readKeypadInputGeneratedCommandListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readKeypadInputGeneratedCommandListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -17048,7 +17048,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readContentLauncherInteractionInfo() {
+    static Map<String, InteractionInfo> readContentLauncherInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readContentLauncherAcceptHeaderCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readContentLauncherAcceptHeaderAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -17129,7 +17129,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readAudioOutputInteractionInfo() {
+    static Map<String, InteractionInfo> readAudioOutputInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readAudioOutputOutputListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readAudioOutputOutputListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -17210,7 +17210,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readApplicationLauncherInteractionInfo() {
+    static Map<String, InteractionInfo> readApplicationLauncherInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readApplicationLauncherCatalogListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readApplicationLauncherCatalogListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -17280,7 +17280,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readApplicationBasicInteractionInfo() {
+    static Map<String, InteractionInfo> readApplicationBasicInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readApplicationBasicVendorNameCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readApplicationBasicVendorNameAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -17416,7 +17416,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readAccountLoginInteractionInfo() {
+    static Map<String, InteractionInfo> readAccountLoginInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readAccountLoginGeneratedCommandListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readAccountLoginGeneratedCommandListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -17475,7 +17475,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readContentControlInteractionInfo() {
+    static Map<String, InteractionInfo> readContentControlInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readContentControlEnabledCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readContentControlEnabledAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -17655,7 +17655,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readContentAppObserverInteractionInfo() {
+    static Map<String, InteractionInfo> readContentAppObserverInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readContentAppObserverGeneratedCommandListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readContentAppObserverGeneratedCommandListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -17714,7 +17714,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readZoneManagementInteractionInfo() {
+    static Map<String, InteractionInfo> readZoneManagementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readZoneManagementMaxUserDefinedZonesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readZoneManagementMaxUserDefinedZonesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -17839,7 +17839,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readCameraAvStreamManagementInteractionInfo() {
+    static Map<String, InteractionInfo> readCameraAvStreamManagementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readCameraAvStreamManagementMaxConcurrentEncodersCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readCameraAvStreamManagementMaxConcurrentEncodersAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -18294,7 +18294,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readCameraAvSettingsUserLevelManagementInteractionInfo() {
+    static Map<String, InteractionInfo> readCameraAvSettingsUserLevelManagementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readCameraAvSettingsUserLevelManagementMaxPresetsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readCameraAvSettingsUserLevelManagementMaxPresetsAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -18452,7 +18452,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readWebRTCTransportProviderInteractionInfo() {
+    static Map<String, InteractionInfo> readWebRTCTransportProviderInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readWebRTCTransportProviderCurrentSessionsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readWebRTCTransportProviderCurrentSessionsAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -18522,7 +18522,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readWebRTCTransportRequestorInteractionInfo() {
+    static Map<String, InteractionInfo> readWebRTCTransportRequestorInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readWebRTCTransportRequestorCurrentSessionsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readWebRTCTransportRequestorCurrentSessionsAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -18592,7 +18592,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readPushAvStreamTransportInteractionInfo() {
+    static Map<String, InteractionInfo> readPushAvStreamTransportInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readPushAvStreamTransportSupportedFormatsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readPushAvStreamTransportSupportedFormatsAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -18673,7 +18673,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readChimeInteractionInfo() {
+    static Map<String, InteractionInfo> readChimeInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readChimeInstalledChimeSoundsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readChimeInstalledChimeSoundsAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -18765,7 +18765,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readCommodityTariffInteractionInfo() {
+    static Map<String, InteractionInfo> readCommodityTariffInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readCommodityTariffTariffUnitCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readCommodityTariffTariffUnitAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -18978,7 +18978,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readEcosystemInformationInteractionInfo() {
+    static Map<String, InteractionInfo> readEcosystemInformationInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readEcosystemInformationDeviceDirectoryCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readEcosystemInformationDeviceDirectoryAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -19059,7 +19059,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readCommissionerControlInteractionInfo() {
+    static Map<String, InteractionInfo> readCommissionerControlInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readCommissionerControlSupportedDeviceCategoriesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readCommissionerControlSupportedDeviceCategoriesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -19129,7 +19129,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readJointFabricDatastoreInteractionInfo() {
+    static Map<String, InteractionInfo> readJointFabricDatastoreInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readJointFabricDatastoreAnchorRootCACommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readJointFabricDatastoreAnchorRootCAAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -19331,7 +19331,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readJointFabricAdministratorInteractionInfo() {
+    static Map<String, InteractionInfo> readJointFabricAdministratorInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readJointFabricAdministratorAdministratorFabricIndexCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readJointFabricAdministratorAdministratorFabricIndexAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -19401,7 +19401,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readTlsCertificateManagementInteractionInfo() {
+    static Map<String, InteractionInfo> readTlsCertificateManagementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readTlsCertificateManagementMaxRootCertificatesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readTlsCertificateManagementMaxRootCertificatesAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -19504,7 +19504,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readTlsClientManagementInteractionInfo() {
+    static Map<String, InteractionInfo> readTlsClientManagementInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readTlsClientManagementMaxProvisionedCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readTlsClientManagementMaxProvisionedAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -19585,7 +19585,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readMeterIdentificationInteractionInfo() {
+    static Map<String, InteractionInfo> readMeterIdentificationInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readMeterIdentificationMeterTypeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readMeterIdentificationMeterTypeAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -19688,7 +19688,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readCommodityMeteringInteractionInfo() {
+    static Map<String, InteractionInfo> readCommodityMeteringInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readCommodityMeteringMeteredQuantityCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readCommodityMeteringMeteredQuantityAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -19791,7 +19791,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readUnitTestingInteractionInfo() {
+    static Map<String, InteractionInfo> readUnitTestingInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readUnitTestingBooleanCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readUnitTestingBooleanAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -20796,7 +20796,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readFaultInjectionInteractionInfo() {
+    static Map<String, InteractionInfo> readFaultInjectionInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readFaultInjectionGeneratedCommandListCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readFaultInjectionGeneratedCommandListAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -20855,7 +20855,7 @@ public class ClusterReadMapping {
      
        return result;
     }
-    private static Map<String, InteractionInfo> readSampleMeiInteractionInfo() {
+    static Map<String, InteractionInfo> readSampleMeiInteractionInfo() {
        Map<String, InteractionInfo> result = new LinkedHashMap<>();Map<String, CommandParameterInfo> readSampleMeiFlipFlopCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
         InteractionInfo readSampleMeiFlipFlopAttributeInteractionInfo = new InteractionInfo(
           (cluster, callback, commandArguments) -> {
@@ -20925,153 +20925,152 @@ public class ClusterReadMapping {
      
        return result;
     }
-    @SuppressWarnings("serial")
     public Map<String, Map<String, InteractionInfo>> getReadAttributeMap() {
-
-        return new HashMap<String, Map<String, InteractionInfo>>(){{
-            put("identify", readIdentifyInteractionInfo());
-            put("groups", readGroupsInteractionInfo());
-            put("onOff", readOnOffInteractionInfo());
-            put("levelControl", readLevelControlInteractionInfo());
-            put("pulseWidthModulation", readPulseWidthModulationInteractionInfo());
-            put("descriptor", readDescriptorInteractionInfo());
-            put("binding", readBindingInteractionInfo());
-            put("accessControl", readAccessControlInteractionInfo());
-            put("actions", readActionsInteractionInfo());
-            put("basicInformation", readBasicInformationInteractionInfo());
-            put("otaSoftwareUpdateProvider", readOtaSoftwareUpdateProviderInteractionInfo());
-            put("otaSoftwareUpdateRequestor", readOtaSoftwareUpdateRequestorInteractionInfo());
-            put("localizationConfiguration", readLocalizationConfigurationInteractionInfo());
-            put("timeFormatLocalization", readTimeFormatLocalizationInteractionInfo());
-            put("unitLocalization", readUnitLocalizationInteractionInfo());
-            put("powerSourceConfiguration", readPowerSourceConfigurationInteractionInfo());
-            put("powerSource", readPowerSourceInteractionInfo());
-            put("generalCommissioning", readGeneralCommissioningInteractionInfo());
-            put("networkCommissioning", readNetworkCommissioningInteractionInfo());
-            put("diagnosticLogs", readDiagnosticLogsInteractionInfo());
-            put("generalDiagnostics", readGeneralDiagnosticsInteractionInfo());
-            put("softwareDiagnostics", readSoftwareDiagnosticsInteractionInfo());
-            put("threadNetworkDiagnostics", readThreadNetworkDiagnosticsInteractionInfo());
-            put("wiFiNetworkDiagnostics", readWiFiNetworkDiagnosticsInteractionInfo());
-            put("ethernetNetworkDiagnostics", readEthernetNetworkDiagnosticsInteractionInfo());
-            put("timeSynchronization", readTimeSynchronizationInteractionInfo());
-            put("bridgedDeviceBasicInformation", readBridgedDeviceBasicInformationInteractionInfo());
-            put("switch", readSwitchInteractionInfo());
-            put("administratorCommissioning", readAdministratorCommissioningInteractionInfo());
-            put("operationalCredentials", readOperationalCredentialsInteractionInfo());
-            put("groupKeyManagement", readGroupKeyManagementInteractionInfo());
-            put("fixedLabel", readFixedLabelInteractionInfo());
-            put("userLabel", readUserLabelInteractionInfo());
-            put("proxyConfiguration", readProxyConfigurationInteractionInfo());
-            put("proxyDiscovery", readProxyDiscoveryInteractionInfo());
-            put("proxyValid", readProxyValidInteractionInfo());
-            put("booleanState", readBooleanStateInteractionInfo());
-            put("icdManagement", readIcdManagementInteractionInfo());
-            put("timer", readTimerInteractionInfo());
-            put("ovenCavityOperationalState", readOvenCavityOperationalStateInteractionInfo());
-            put("ovenMode", readOvenModeInteractionInfo());
-            put("laundryDryerControls", readLaundryDryerControlsInteractionInfo());
-            put("modeSelect", readModeSelectInteractionInfo());
-            put("laundryWasherMode", readLaundryWasherModeInteractionInfo());
-            put("refrigeratorAndTemperatureControlledCabinetMode", readRefrigeratorAndTemperatureControlledCabinetModeInteractionInfo());
-            put("laundryWasherControls", readLaundryWasherControlsInteractionInfo());
-            put("rvcRunMode", readRvcRunModeInteractionInfo());
-            put("rvcCleanMode", readRvcCleanModeInteractionInfo());
-            put("temperatureControl", readTemperatureControlInteractionInfo());
-            put("refrigeratorAlarm", readRefrigeratorAlarmInteractionInfo());
-            put("dishwasherMode", readDishwasherModeInteractionInfo());
-            put("airQuality", readAirQualityInteractionInfo());
-            put("smokeCoAlarm", readSmokeCoAlarmInteractionInfo());
-            put("dishwasherAlarm", readDishwasherAlarmInteractionInfo());
-            put("microwaveOvenMode", readMicrowaveOvenModeInteractionInfo());
-            put("microwaveOvenControl", readMicrowaveOvenControlInteractionInfo());
-            put("operationalState", readOperationalStateInteractionInfo());
-            put("rvcOperationalState", readRvcOperationalStateInteractionInfo());
-            put("scenesManagement", readScenesManagementInteractionInfo());
-            put("groupcast", readGroupcastInteractionInfo());
-            put("hepaFilterMonitoring", readHepaFilterMonitoringInteractionInfo());
-            put("activatedCarbonFilterMonitoring", readActivatedCarbonFilterMonitoringInteractionInfo());
-            put("waterTankLevelMonitoring", readWaterTankLevelMonitoringInteractionInfo());
-            put("booleanStateConfiguration", readBooleanStateConfigurationInteractionInfo());
-            put("valveConfigurationAndControl", readValveConfigurationAndControlInteractionInfo());
-            put("electricalPowerMeasurement", readElectricalPowerMeasurementInteractionInfo());
-            put("electricalEnergyMeasurement", readElectricalEnergyMeasurementInteractionInfo());
-            put("waterHeaterManagement", readWaterHeaterManagementInteractionInfo());
-            put("commodityPrice", readCommodityPriceInteractionInfo());
-            put("messages", readMessagesInteractionInfo());
-            put("deviceEnergyManagement", readDeviceEnergyManagementInteractionInfo());
-            put("energyEvse", readEnergyEvseInteractionInfo());
-            put("energyPreference", readEnergyPreferenceInteractionInfo());
-            put("powerTopology", readPowerTopologyInteractionInfo());
-            put("energyEvseMode", readEnergyEvseModeInteractionInfo());
-            put("waterHeaterMode", readWaterHeaterModeInteractionInfo());
-            put("deviceEnergyManagementMode", readDeviceEnergyManagementModeInteractionInfo());
-            put("electricalGridConditions", readElectricalGridConditionsInteractionInfo());
-            put("doorLock", readDoorLockInteractionInfo());
-            put("windowCovering", readWindowCoveringInteractionInfo());
-            put("closureControl", readClosureControlInteractionInfo());
-            put("closureDimension", readClosureDimensionInteractionInfo());
-            put("serviceArea", readServiceAreaInteractionInfo());
-            put("pumpConfigurationAndControl", readPumpConfigurationAndControlInteractionInfo());
-            put("thermostat", readThermostatInteractionInfo());
-            put("fanControl", readFanControlInteractionInfo());
-            put("thermostatUserInterfaceConfiguration", readThermostatUserInterfaceConfigurationInteractionInfo());
-            put("colorControl", readColorControlInteractionInfo());
-            put("ballastConfiguration", readBallastConfigurationInteractionInfo());
-            put("illuminanceMeasurement", readIlluminanceMeasurementInteractionInfo());
-            put("temperatureMeasurement", readTemperatureMeasurementInteractionInfo());
-            put("pressureMeasurement", readPressureMeasurementInteractionInfo());
-            put("flowMeasurement", readFlowMeasurementInteractionInfo());
-            put("relativeHumidityMeasurement", readRelativeHumidityMeasurementInteractionInfo());
-            put("occupancySensing", readOccupancySensingInteractionInfo());
-            put("carbonMonoxideConcentrationMeasurement", readCarbonMonoxideConcentrationMeasurementInteractionInfo());
-            put("carbonDioxideConcentrationMeasurement", readCarbonDioxideConcentrationMeasurementInteractionInfo());
-            put("nitrogenDioxideConcentrationMeasurement", readNitrogenDioxideConcentrationMeasurementInteractionInfo());
-            put("ozoneConcentrationMeasurement", readOzoneConcentrationMeasurementInteractionInfo());
-            put("pm25ConcentrationMeasurement", readPm25ConcentrationMeasurementInteractionInfo());
-            put("formaldehydeConcentrationMeasurement", readFormaldehydeConcentrationMeasurementInteractionInfo());
-            put("pm1ConcentrationMeasurement", readPm1ConcentrationMeasurementInteractionInfo());
-            put("pm10ConcentrationMeasurement", readPm10ConcentrationMeasurementInteractionInfo());
-            put("totalVolatileOrganicCompoundsConcentrationMeasurement", readTotalVolatileOrganicCompoundsConcentrationMeasurementInteractionInfo());
-            put("radonConcentrationMeasurement", readRadonConcentrationMeasurementInteractionInfo());
-            put("soilMeasurement", readSoilMeasurementInteractionInfo());
-            put("ambientContextSensing", readAmbientContextSensingInteractionInfo());
-            put("wiFiNetworkManagement", readWiFiNetworkManagementInteractionInfo());
-            put("threadBorderRouterManagement", readThreadBorderRouterManagementInteractionInfo());
-            put("threadNetworkDirectory", readThreadNetworkDirectoryInteractionInfo());
-            put("wakeOnLan", readWakeOnLanInteractionInfo());
-            put("channel", readChannelInteractionInfo());
-            put("targetNavigator", readTargetNavigatorInteractionInfo());
-            put("mediaPlayback", readMediaPlaybackInteractionInfo());
-            put("mediaInput", readMediaInputInteractionInfo());
-            put("lowPower", readLowPowerInteractionInfo());
-            put("keypadInput", readKeypadInputInteractionInfo());
-            put("contentLauncher", readContentLauncherInteractionInfo());
-            put("audioOutput", readAudioOutputInteractionInfo());
-            put("applicationLauncher", readApplicationLauncherInteractionInfo());
-            put("applicationBasic", readApplicationBasicInteractionInfo());
-            put("accountLogin", readAccountLoginInteractionInfo());
-            put("contentControl", readContentControlInteractionInfo());
-            put("contentAppObserver", readContentAppObserverInteractionInfo());
-            put("zoneManagement", readZoneManagementInteractionInfo());
-            put("cameraAvStreamManagement", readCameraAvStreamManagementInteractionInfo());
-            put("cameraAvSettingsUserLevelManagement", readCameraAvSettingsUserLevelManagementInteractionInfo());
-            put("webRTCTransportProvider", readWebRTCTransportProviderInteractionInfo());
-            put("webRTCTransportRequestor", readWebRTCTransportRequestorInteractionInfo());
-            put("pushAvStreamTransport", readPushAvStreamTransportInteractionInfo());
-            put("chime", readChimeInteractionInfo());
-            put("commodityTariff", readCommodityTariffInteractionInfo());
-            put("ecosystemInformation", readEcosystemInformationInteractionInfo());
-            put("commissionerControl", readCommissionerControlInteractionInfo());
-            put("jointFabricDatastore", readJointFabricDatastoreInteractionInfo());
-            put("jointFabricAdministrator", readJointFabricAdministratorInteractionInfo());
-            put("tlsCertificateManagement", readTlsCertificateManagementInteractionInfo());
-            put("tlsClientManagement", readTlsClientManagementInteractionInfo());
-            put("meterIdentification", readMeterIdentificationInteractionInfo());
-            put("commodityMetering", readCommodityMeteringInteractionInfo());
-            put("unitTesting", readUnitTestingInteractionInfo());
-            put("faultInjection", readFaultInjectionInteractionInfo());
-            put("sampleMei", readSampleMeiInteractionInfo());}};
+        Map<String, Map<String, InteractionInfo>> readAttributeMap = new HashMap<>();
+        readAttributeMap.put("identify", readIdentifyInteractionInfo());
+        readAttributeMap.put("groups", readGroupsInteractionInfo());
+        readAttributeMap.put("onOff", readOnOffInteractionInfo());
+        readAttributeMap.put("levelControl", readLevelControlInteractionInfo());
+        readAttributeMap.put("pulseWidthModulation", readPulseWidthModulationInteractionInfo());
+        readAttributeMap.put("descriptor", readDescriptorInteractionInfo());
+        readAttributeMap.put("binding", readBindingInteractionInfo());
+        readAttributeMap.put("accessControl", readAccessControlInteractionInfo());
+        readAttributeMap.put("actions", readActionsInteractionInfo());
+        readAttributeMap.put("basicInformation", readBasicInformationInteractionInfo());
+        readAttributeMap.put("otaSoftwareUpdateProvider", readOtaSoftwareUpdateProviderInteractionInfo());
+        readAttributeMap.put("otaSoftwareUpdateRequestor", readOtaSoftwareUpdateRequestorInteractionInfo());
+        readAttributeMap.put("localizationConfiguration", readLocalizationConfigurationInteractionInfo());
+        readAttributeMap.put("timeFormatLocalization", readTimeFormatLocalizationInteractionInfo());
+        readAttributeMap.put("unitLocalization", readUnitLocalizationInteractionInfo());
+        readAttributeMap.put("powerSourceConfiguration", readPowerSourceConfigurationInteractionInfo());
+        readAttributeMap.put("powerSource", readPowerSourceInteractionInfo());
+        readAttributeMap.put("generalCommissioning", readGeneralCommissioningInteractionInfo());
+        readAttributeMap.put("networkCommissioning", readNetworkCommissioningInteractionInfo());
+        readAttributeMap.put("diagnosticLogs", readDiagnosticLogsInteractionInfo());
+        readAttributeMap.put("generalDiagnostics", readGeneralDiagnosticsInteractionInfo());
+        readAttributeMap.put("softwareDiagnostics", readSoftwareDiagnosticsInteractionInfo());
+        readAttributeMap.put("threadNetworkDiagnostics", readThreadNetworkDiagnosticsInteractionInfo());
+        readAttributeMap.put("wiFiNetworkDiagnostics", readWiFiNetworkDiagnosticsInteractionInfo());
+        readAttributeMap.put("ethernetNetworkDiagnostics", readEthernetNetworkDiagnosticsInteractionInfo());
+        readAttributeMap.put("timeSynchronization", readTimeSynchronizationInteractionInfo());
+        readAttributeMap.put("bridgedDeviceBasicInformation", readBridgedDeviceBasicInformationInteractionInfo());
+        readAttributeMap.put("switch", readSwitchInteractionInfo());
+        readAttributeMap.put("administratorCommissioning", readAdministratorCommissioningInteractionInfo());
+        readAttributeMap.put("operationalCredentials", readOperationalCredentialsInteractionInfo());
+        readAttributeMap.put("groupKeyManagement", readGroupKeyManagementInteractionInfo());
+        readAttributeMap.put("fixedLabel", readFixedLabelInteractionInfo());
+        readAttributeMap.put("userLabel", readUserLabelInteractionInfo());
+        readAttributeMap.put("proxyConfiguration", readProxyConfigurationInteractionInfo());
+        readAttributeMap.put("proxyDiscovery", readProxyDiscoveryInteractionInfo());
+        readAttributeMap.put("proxyValid", readProxyValidInteractionInfo());
+        readAttributeMap.put("booleanState", readBooleanStateInteractionInfo());
+        readAttributeMap.put("icdManagement", readIcdManagementInteractionInfo());
+        readAttributeMap.put("timer", readTimerInteractionInfo());
+        readAttributeMap.put("ovenCavityOperationalState", readOvenCavityOperationalStateInteractionInfo());
+        readAttributeMap.put("ovenMode", readOvenModeInteractionInfo());
+        readAttributeMap.put("laundryDryerControls", readLaundryDryerControlsInteractionInfo());
+        readAttributeMap.put("modeSelect", readModeSelectInteractionInfo());
+        readAttributeMap.put("laundryWasherMode", readLaundryWasherModeInteractionInfo());
+        readAttributeMap.put("refrigeratorAndTemperatureControlledCabinetMode", readRefrigeratorAndTemperatureControlledCabinetModeInteractionInfo());
+        readAttributeMap.put("laundryWasherControls", readLaundryWasherControlsInteractionInfo());
+        readAttributeMap.put("rvcRunMode", readRvcRunModeInteractionInfo());
+        readAttributeMap.put("rvcCleanMode", readRvcCleanModeInteractionInfo());
+        readAttributeMap.put("temperatureControl", readTemperatureControlInteractionInfo());
+        readAttributeMap.put("refrigeratorAlarm", readRefrigeratorAlarmInteractionInfo());
+        readAttributeMap.put("dishwasherMode", readDishwasherModeInteractionInfo());
+        readAttributeMap.put("airQuality", readAirQualityInteractionInfo());
+        readAttributeMap.put("smokeCoAlarm", readSmokeCoAlarmInteractionInfo());
+        readAttributeMap.put("dishwasherAlarm", readDishwasherAlarmInteractionInfo());
+        readAttributeMap.put("microwaveOvenMode", readMicrowaveOvenModeInteractionInfo());
+        readAttributeMap.put("microwaveOvenControl", readMicrowaveOvenControlInteractionInfo());
+        readAttributeMap.put("operationalState", readOperationalStateInteractionInfo());
+        readAttributeMap.put("rvcOperationalState", readRvcOperationalStateInteractionInfo());
+        readAttributeMap.put("scenesManagement", readScenesManagementInteractionInfo());
+        readAttributeMap.put("groupcast", readGroupcastInteractionInfo());
+        readAttributeMap.put("hepaFilterMonitoring", readHepaFilterMonitoringInteractionInfo());
+        readAttributeMap.put("activatedCarbonFilterMonitoring", readActivatedCarbonFilterMonitoringInteractionInfo());
+        readAttributeMap.put("waterTankLevelMonitoring", readWaterTankLevelMonitoringInteractionInfo());
+        readAttributeMap.put("booleanStateConfiguration", readBooleanStateConfigurationInteractionInfo());
+        readAttributeMap.put("valveConfigurationAndControl", readValveConfigurationAndControlInteractionInfo());
+        readAttributeMap.put("electricalPowerMeasurement", readElectricalPowerMeasurementInteractionInfo());
+        readAttributeMap.put("electricalEnergyMeasurement", readElectricalEnergyMeasurementInteractionInfo());
+        readAttributeMap.put("waterHeaterManagement", readWaterHeaterManagementInteractionInfo());
+        readAttributeMap.put("commodityPrice", readCommodityPriceInteractionInfo());
+        readAttributeMap.put("messages", readMessagesInteractionInfo());
+        readAttributeMap.put("deviceEnergyManagement", readDeviceEnergyManagementInteractionInfo());
+        readAttributeMap.put("energyEvse", readEnergyEvseInteractionInfo());
+        readAttributeMap.put("energyPreference", readEnergyPreferenceInteractionInfo());
+        readAttributeMap.put("powerTopology", readPowerTopologyInteractionInfo());
+        readAttributeMap.put("energyEvseMode", readEnergyEvseModeInteractionInfo());
+        readAttributeMap.put("waterHeaterMode", readWaterHeaterModeInteractionInfo());
+        readAttributeMap.put("deviceEnergyManagementMode", readDeviceEnergyManagementModeInteractionInfo());
+        readAttributeMap.put("electricalGridConditions", readElectricalGridConditionsInteractionInfo());
+        readAttributeMap.put("doorLock", readDoorLockInteractionInfo());
+        readAttributeMap.put("windowCovering", readWindowCoveringInteractionInfo());
+        readAttributeMap.put("closureControl", readClosureControlInteractionInfo());
+        readAttributeMap.put("closureDimension", readClosureDimensionInteractionInfo());
+        readAttributeMap.put("serviceArea", readServiceAreaInteractionInfo());
+        readAttributeMap.put("pumpConfigurationAndControl", readPumpConfigurationAndControlInteractionInfo());
+        readAttributeMap.put("thermostat", readThermostatInteractionInfo());
+        readAttributeMap.put("fanControl", readFanControlInteractionInfo());
+        readAttributeMap.put("thermostatUserInterfaceConfiguration", readThermostatUserInterfaceConfigurationInteractionInfo());
+        readAttributeMap.put("colorControl", readColorControlInteractionInfo());
+        readAttributeMap.put("ballastConfiguration", readBallastConfigurationInteractionInfo());
+        readAttributeMap.put("illuminanceMeasurement", readIlluminanceMeasurementInteractionInfo());
+        readAttributeMap.put("temperatureMeasurement", readTemperatureMeasurementInteractionInfo());
+        readAttributeMap.put("pressureMeasurement", readPressureMeasurementInteractionInfo());
+        readAttributeMap.put("flowMeasurement", readFlowMeasurementInteractionInfo());
+        readAttributeMap.put("relativeHumidityMeasurement", readRelativeHumidityMeasurementInteractionInfo());
+        readAttributeMap.put("occupancySensing", readOccupancySensingInteractionInfo());
+        readAttributeMap.put("carbonMonoxideConcentrationMeasurement", readCarbonMonoxideConcentrationMeasurementInteractionInfo());
+        readAttributeMap.put("carbonDioxideConcentrationMeasurement", readCarbonDioxideConcentrationMeasurementInteractionInfo());
+        readAttributeMap.put("nitrogenDioxideConcentrationMeasurement", readNitrogenDioxideConcentrationMeasurementInteractionInfo());
+        readAttributeMap.put("ozoneConcentrationMeasurement", readOzoneConcentrationMeasurementInteractionInfo());
+        readAttributeMap.put("pm25ConcentrationMeasurement", readPm25ConcentrationMeasurementInteractionInfo());
+        readAttributeMap.put("formaldehydeConcentrationMeasurement", readFormaldehydeConcentrationMeasurementInteractionInfo());
+        readAttributeMap.put("pm1ConcentrationMeasurement", readPm1ConcentrationMeasurementInteractionInfo());
+        readAttributeMap.put("pm10ConcentrationMeasurement", readPm10ConcentrationMeasurementInteractionInfo());
+        readAttributeMap.put("totalVolatileOrganicCompoundsConcentrationMeasurement", readTotalVolatileOrganicCompoundsConcentrationMeasurementInteractionInfo());
+        readAttributeMap.put("radonConcentrationMeasurement", readRadonConcentrationMeasurementInteractionInfo());
+        readAttributeMap.put("soilMeasurement", readSoilMeasurementInteractionInfo());
+        readAttributeMap.put("ambientContextSensing", readAmbientContextSensingInteractionInfo());
+        readAttributeMap.put("wiFiNetworkManagement", readWiFiNetworkManagementInteractionInfo());
+        readAttributeMap.put("threadBorderRouterManagement", readThreadBorderRouterManagementInteractionInfo());
+        readAttributeMap.put("threadNetworkDirectory", readThreadNetworkDirectoryInteractionInfo());
+        readAttributeMap.put("wakeOnLan", readWakeOnLanInteractionInfo());
+        readAttributeMap.put("channel", readChannelInteractionInfo());
+        readAttributeMap.put("targetNavigator", readTargetNavigatorInteractionInfo());
+        readAttributeMap.put("mediaPlayback", readMediaPlaybackInteractionInfo());
+        readAttributeMap.put("mediaInput", readMediaInputInteractionInfo());
+        readAttributeMap.put("lowPower", readLowPowerInteractionInfo());
+        readAttributeMap.put("keypadInput", readKeypadInputInteractionInfo());
+        readAttributeMap.put("contentLauncher", readContentLauncherInteractionInfo());
+        readAttributeMap.put("audioOutput", readAudioOutputInteractionInfo());
+        readAttributeMap.put("applicationLauncher", readApplicationLauncherInteractionInfo());
+        readAttributeMap.put("applicationBasic", readApplicationBasicInteractionInfo());
+        readAttributeMap.put("accountLogin", readAccountLoginInteractionInfo());
+        readAttributeMap.put("contentControl", readContentControlInteractionInfo());
+        readAttributeMap.put("contentAppObserver", readContentAppObserverInteractionInfo());
+        readAttributeMap.put("zoneManagement", readZoneManagementInteractionInfo());
+        readAttributeMap.put("cameraAvStreamManagement", readCameraAvStreamManagementInteractionInfo());
+        readAttributeMap.put("cameraAvSettingsUserLevelManagement", readCameraAvSettingsUserLevelManagementInteractionInfo());
+        readAttributeMap.put("webRTCTransportProvider", readWebRTCTransportProviderInteractionInfo());
+        readAttributeMap.put("webRTCTransportRequestor", readWebRTCTransportRequestorInteractionInfo());
+        readAttributeMap.put("pushAvStreamTransport", readPushAvStreamTransportInteractionInfo());
+        readAttributeMap.put("chime", readChimeInteractionInfo());
+        readAttributeMap.put("commodityTariff", readCommodityTariffInteractionInfo());
+        readAttributeMap.put("ecosystemInformation", readEcosystemInformationInteractionInfo());
+        readAttributeMap.put("commissionerControl", readCommissionerControlInteractionInfo());
+        readAttributeMap.put("jointFabricDatastore", readJointFabricDatastoreInteractionInfo());
+        readAttributeMap.put("jointFabricAdministrator", readJointFabricAdministratorInteractionInfo());
+        readAttributeMap.put("tlsCertificateManagement", readTlsCertificateManagementInteractionInfo());
+        readAttributeMap.put("tlsClientManagement", readTlsClientManagementInteractionInfo());
+        readAttributeMap.put("meterIdentification", readMeterIdentificationInteractionInfo());
+        readAttributeMap.put("commodityMetering", readCommodityMeteringInteractionInfo());
+        readAttributeMap.put("unitTesting", readUnitTestingInteractionInfo());
+        readAttributeMap.put("faultInjection", readFaultInjectionInteractionInfo());
+        readAttributeMap.put("sampleMei", readSampleMeiInteractionInfo());
+        return readAttributeMap;
     }
 }
 
@@ -0,0 +1,5828 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package chip.devicecontroller;
+
+import javax.annotation.Nullable;
+import matter.tlv.AnonymousTag;
+import matter.tlv.TlvParsingException;
+import matter.tlv.TlvReader;
+
+/**
+ * Decodes attribute and event values into the types used by ChipClusters, ChipStructs and
+ * ChipEventStructs, without going through JNI. The decoded values are the same as the ones returned
+ * by ChipTLVValueDecoder.
+ */
+public final class ClusterValueDecoder {
+  private ClusterValueDecoder() {}
+
+
+  /**
+   * Decodes the TLV of an attribute value. Returns null if the attribute is unknown or its value
+   * cannot be decoded.
+   */
+  @SuppressWarnings("unchecked")
+  public static @Nullable <T> T decodeAttributeValue(long clusterId, long attributeId, byte[] tlv) {
+    if ((clusterId >>> 32) != 0 || (attributeId >>> 32) != 0) {
+      return null;
+    }
+    TlvReader reader = new TlvReader(tlv);
+    try {
+      switch ((int) clusterId) {
+        case (int) 3L:
+          return (T) decodeIdentifyAttributeValue((int) attributeId, reader);
+        case (int) 4L:
+          return (T) decodeGroupsAttributeValue((int) attributeId, reader);
+        case (int) 6L:
+          return (T) decodeOnOffAttributeValue((int) attributeId, reader);
+        case (int) 8L:
+          return (T) decodeLevelControlAttributeValue((int) attributeId, reader);
+        case (int) 28L:
+          return (T) decodePulseWidthModulationAttributeValue((int) attributeId, reader);
+        case (int) 29L:
+          return (T) decodeDescriptorAttributeValue((int) attributeId, reader);
+        case (int) 30L:
+          return (T) decodeBindingAttributeValue((int) attributeId, reader);
+        case (int) 31L:
+          return (T) decodeAccessControlAttributeValue((int) attributeId, reader);
+        case (int) 37L:
+          return (T) decodeActionsAttributeValue((int) attributeId, reader);
+        case (int) 40L:
+          return (T) decodeBasicInformationAttributeValue((int) attributeId, reader);
+        case (int) 41L:
+          return (T) decodeOtaSoftwareUpdateProviderAttributeValue((int) attributeId, reader);
+        case (int) 42L:
+          return (T) decodeOtaSoftwareUpdateRequestorAttributeValue((int) attributeId, reader);
+        case (int) 43L:
+          return (T) decodeLocalizationConfigurationAttributeValue((int) attributeId, reader);
+        case (int) 44L:
+          return (T) decodeTimeFormatLocalizationAttributeValue((int) attributeId, reader);
+        case (int) 45L:
+          return (T) decodeUnitLocalizationAttributeValue((int) attributeId, reader);
+        case (int) 46L:
+          return (T) decodePowerSourceConfigurationAttributeValue((int) attributeId, reader);
+        case (int) 47L:
+          return (T) decodePowerSourceAttributeValue((int) attributeId, reader);
+        case (int) 48L:
+          return (T) decodeGeneralCommissioningAttributeValue((int) attributeId, reader);
+        case (int) 49L:
+          return (T) decodeNetworkCommissioningAttributeValue((int) attributeId, reader);
+        case (int) 50L:
+          return (T) decodeDiagnosticLogsAttributeValue((int) attributeId, reader);
+        case (int) 51L:
+          return (T) decodeGeneralDiagnosticsAttributeValue((int) attributeId, reader);
+        case (int) 52L:
+          return (T) decodeSoftwareDiagnosticsAttributeValue((int) attributeId, reader);
+        case (int) 53L:
+          return (T) decodeThreadNetworkDiagnosticsAttributeValue((int) attributeId, reader);
+        case (int) 54L:
+          return (T) decodeWiFiNetworkDiagnosticsAttributeValue((int) attributeId, reader);
+        case (int) 55L:
+          return (T) decodeEthernetNetworkDiagnosticsAttributeValue((int) attributeId, reader);
+        case (int) 56L:
+          return (T) decodeTimeSynchronizationAttributeValue((int) attributeId, reader);
+        case (int) 57L:
+          return (T) decodeBridgedDeviceBasicInformationAttributeValue((int) attributeId, reader);
+        case (int) 59L:
+          return (T) decodeSwitchAttributeValue((int) attributeId, reader);
+        case (int) 60L:
+          return (T) decodeAdministratorCommissioningAttributeValue((int) attributeId, reader);
+        case (int) 62L:
+          return (T) decodeOperationalCredentialsAttributeValue((int) attributeId, reader);
+        case (int) 63L:
+          return (T) decodeGroupKeyManagementAttributeValue((int) attributeId, reader);
+        case (int) 64L:
+          return (T) decodeFixedLabelAttributeValue((int) attributeId, reader);
+        case (int) 65L:
+          return (T) decodeUserLabelAttributeValue((int) attributeId, reader);
+        case (int) 66L:
+          return (T) decodeProxyConfigurationAttributeValue((int) attributeId, reader);
+        case (int) 67L:
+          return (T) decodeProxyDiscoveryAttributeValue((int) attributeId, reader);
+        case (int) 68L:
+          return (T) decodeProxyValidAttributeValue((int) attributeId, reader);
+        case (int) 69L:
+          return (T) decodeBooleanStateAttributeValue((int) attributeId, reader);
+        case (int) 70L:
+          return (T) decodeIcdManagementAttributeValue((int) attributeId, reader);
+        case (int) 71L:
+          return (T) decodeTimerAttributeValue((int) attributeId, reader);
+        case (int) 72L:
+          return (T) decodeOvenCavityOperationalStateAttributeValue((int) attributeId, reader);
+        case (int) 73L:
+          return (T) decodeOvenModeAttributeValue((int) attributeId, reader);
+        case (int) 74L:
+          return (T) decodeLaundryDryerControlsAttributeValue((int) attributeId, reader);
+        case (int) 80L:
+          return (T) decodeModeSelectAttributeValue((int) attributeId, reader);
+        case (int) 81L:
+          return (T) decodeLaundryWasherModeAttributeValue((int) attributeId, reader);
+        case (int) 82L:
+          return (T) decodeRefrigeratorAndTemperatureControlledCabinetModeAttributeValue((int) attributeId, reader);
+        case (int) 83L:
+          return (T) decodeLaundryWasherControlsAttributeValue((int) attributeId, reader);
+        case (int) 84L:
+          return (T) decodeRvcRunModeAttributeValue((int) attributeId, reader);
+        case (int) 85L:
+          return (T) decodeRvcCleanModeAttributeValue((int) attributeId, reader);
+        case (int) 86L:
+          return (T) decodeTemperatureControlAttributeValue((int) attributeId, reader);
+        case (int) 87L:
+          return (T) decodeRefrigeratorAlarmAttributeValue((int) attributeId, reader);
+        case (int) 89L:
+          return (T) decodeDishwasherModeAttributeValue((int) attributeId, reader);
+        case (int) 91L:
+          return (T) decodeAirQualityAttributeValue((int) attributeId, reader);
+        case (int) 92L:
+          return (T) decodeSmokeCoAlarmAttributeValue((int) attributeId, reader);
+        case (int) 93L:
+          return (T) decodeDishwasherAlarmAttributeValue((int) attributeId, reader);
+        case (int) 94L:
+          return (T) decodeMicrowaveOvenModeAttributeValue((int) attributeId, reader);
+        case (int) 95L:
+          return (T) decodeMicrowaveOvenControlAttributeValue((int) attributeId, reader);
+        case (int) 96L:
+          return (T) decodeOperationalStateAttributeValue((int) attributeId, reader);
+        case (int) 97L:
+          return (T) decodeRvcOperationalStateAttributeValue((int) attributeId, reader);
+        case (int) 98L:
+          return (T) decodeScenesManagementAttributeValue((int) attributeId, reader);
+        case (int) 101L:
+          return (T) decodeGroupcastAttributeValue((int) attributeId, reader);
+        case (int) 113L:
+          return (T) decodeHepaFilterMonitoringAttributeValue((int) attributeId, reader);
+        case (int) 114L:
+          return (T) decodeActivatedCarbonFilterMonitoringAttributeValue((int) attributeId, reader);
+        case (int) 121L:
+          return (T) decodeWaterTankLevelMonitoringAttributeValue((int) attributeId, reader);
+        case (int) 128L:
+          return (T) decodeBooleanStateConfigurationAttributeValue((int) attributeId, reader);
+        case (int) 129L:
+          return (T) decodeValveConfigurationAndControlAttributeValue((int) attributeId, reader);
+        case (int) 144L:
+          return (T) decodeElectricalPowerMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 145L:
+          return (T) decodeElectricalEnergyMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 148L:
+          return (T) decodeWaterHeaterManagementAttributeValue((int) attributeId, reader);
+        case (int) 149L:
+          return (T) decodeCommodityPriceAttributeValue((int) attributeId, reader);
+        case (int) 151L:
+          return (T) decodeMessagesAttributeValue((int) attributeId, reader);
+        case (int) 152L:
+          return (T) decodeDeviceEnergyManagementAttributeValue((int) attributeId, reader);
+        case (int) 153L:
+          return (T) decodeEnergyEvseAttributeValue((int) attributeId, reader);
+        case (int) 155L:
+          return (T) decodeEnergyPreferenceAttributeValue((int) attributeId, reader);
+        case (int) 156L:
+          return (T) decodePowerTopologyAttributeValue((int) attributeId, reader);
+        case (int) 157L:
+          return (T) decodeEnergyEvseModeAttributeValue((int) attributeId, reader);
+        case (int) 158L:
+          return (T) decodeWaterHeaterModeAttributeValue((int) attributeId, reader);
+        case (int) 159L:
+          return (T) decodeDeviceEnergyManagementModeAttributeValue((int) attributeId, reader);
+        case (int) 160L:
+          return (T) decodeElectricalGridConditionsAttributeValue((int) attributeId, reader);
+        case (int) 257L:
+          return (T) decodeDoorLockAttributeValue((int) attributeId, reader);
+        case (int) 258L:
+          return (T) decodeWindowCoveringAttributeValue((int) attributeId, reader);
+        case (int) 260L:
+          return (T) decodeClosureControlAttributeValue((int) attributeId, reader);
+        case (int) 261L:
+          return (T) decodeClosureDimensionAttributeValue((int) attributeId, reader);
+        case (int) 336L:
+          return (T) decodeServiceAreaAttributeValue((int) attributeId, reader);
+        case (int) 512L:
+          return (T) decodePumpConfigurationAndControlAttributeValue((int) attributeId, reader);
+        case (int) 513L:
+          return (T) decodeThermostatAttributeValue((int) attributeId, reader);
+        case (int) 514L:
+          return (T) decodeFanControlAttributeValue((int) attributeId, reader);
+        case (int) 516L:
+          return (T) decodeThermostatUserInterfaceConfigurationAttributeValue((int) attributeId, reader);
+        case (int) 768L:
+          return (T) decodeColorControlAttributeValue((int) attributeId, reader);
+        case (int) 769L:
+          return (T) decodeBallastConfigurationAttributeValue((int) attributeId, reader);
+        case (int) 1024L:
+          return (T) decodeIlluminanceMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 1026L:
+          return (T) decodeTemperatureMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 1027L:
+          return (T) decodePressureMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 1028L:
+          return (T) decodeFlowMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 1029L:
+          return (T) decodeRelativeHumidityMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 1030L:
+          return (T) decodeOccupancySensingAttributeValue((int) attributeId, reader);
+        case (int) 1036L:
+          return (T) decodeCarbonMonoxideConcentrationMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 1037L:
+          return (T) decodeCarbonDioxideConcentrationMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 1043L:
+          return (T) decodeNitrogenDioxideConcentrationMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 1045L:
+          return (T) decodeOzoneConcentrationMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 1066L:
+          return (T) decodePm25ConcentrationMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 1067L:
+          return (T) decodeFormaldehydeConcentrationMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 1068L:
+          return (T) decodePm1ConcentrationMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 1069L:
+          return (T) decodePm10ConcentrationMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 1070L:
+          return (T) decodeTotalVolatileOrganicCompoundsConcentrationMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 1071L:
+          return (T) decodeRadonConcentrationMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 1072L:
+          return (T) decodeSoilMeasurementAttributeValue((int) attributeId, reader);
+        case (int) 1073L:
+          return (T) decodeAmbientContextSensingAttributeValue((int) attributeId, reader);
+        case (int) 1105L:
+          return (T) decodeWiFiNetworkManagementAttributeValue((int) attributeId, reader);
+        case (int) 1106L:
+          return (T) decodeThreadBorderRouterManagementAttributeValue((int) attributeId, reader);
+        case (int) 1107L:
+          return (T) decodeThreadNetworkDirectoryAttributeValue((int) attributeId, reader);
+        case (int) 1283L:
+          return (T) decodeWakeOnLanAttributeValue((int) attributeId, reader);
+        case (int) 1284L:
+          return (T) decodeChannelAttributeValue((int) attributeId, reader);
+        case (int) 1285L:
+          return (T) decodeTargetNavigatorAttributeValue((int) attributeId, reader);
+        case (int) 1286L:
+          return (T) decodeMediaPlaybackAttributeValue((int) attributeId, reader);
+        case (int) 1287L:
+          return (T) decodeMediaInputAttributeValue((int) attributeId, reader);
+        case (int) 1288L:
+          return (T) decodeLowPowerAttributeValue((int) attributeId, reader);
+        case (int) 1289L:
+          return (T) decodeKeypadInputAttributeValue((int) attributeId, reader);
+        case (int) 1290L:
+          return (T) decodeContentLauncherAttributeValue((int) attributeId, reader);
+        case (int) 1291L:
+          return (T) decodeAudioOutputAttributeValue((int) attributeId, reader);
+        case (int) 1292L:
+          return (T) decodeApplicationLauncherAttributeValue((int) attributeId, reader);
+        case (int) 1293L:
+          return (T) decodeApplicationBasicAttributeValue((int) attributeId, reader);
+        case (int) 1294L:
+          return (T) decodeAccountLoginAttributeValue((int) attributeId, reader);
+        case (int) 1295L:
+          return (T) decodeContentControlAttributeValue((int) attributeId, reader);
+        case (int) 1296L:
+          return (T) decodeContentAppObserverAttributeValue((int) attributeId, reader);
+        case (int) 1360L:
+          return (T) decodeZoneManagementAttributeValue((int) attributeId, reader);
+        case (int) 1361L:
+          return (T) decodeCameraAvStreamManagementAttributeValue((int) attributeId, reader);
+        case (int) 1362L:
+          return (T) decodeCameraAvSettingsUserLevelManagementAttributeValue((int) attributeId, reader);
+        case (int) 1363L:
+          return (T) decodeWebRTCTransportProviderAttributeValue((int) attributeId, reader);
+        case (int) 1364L:
+          return (T) decodeWebRTCTransportRequestorAttributeValue((int) attributeId, reader);
+        case (int) 1365L:
+          return (T) decodePushAvStreamTransportAttributeValue((int) attributeId, reader);
+        case (int) 1366L:
+          return (T) decodeChimeAttributeValue((int) attributeId, reader);
+        case (int) 1792L:
+          return (T) decodeCommodityTariffAttributeValue((int) attributeId, reader);
+        case (int) 1872L:
+          return (T) decodeEcosystemInformationAttributeValue((int) attributeId, reader);
+        case (int) 1873L:
+          return (T) decodeCommissionerControlAttributeValue((int) attributeId, reader);
+        case (int) 1874L:
+          return (T) decodeJointFabricDatastoreAttributeValue((int) attributeId, reader);
+        case (int) 1875L:
+          return (T) decodeJointFabricAdministratorAttributeValue((int) attributeId, reader);
+        case (int) 2049L:
+          return (T) decodeTlsCertificateManagementAttributeValue((int) attributeId, reader);
+        case (int) 2050L:
+          return (T) decodeTlsClientManagementAttributeValue((int) attributeId, reader);
+        case (int) 2822L:
+          return (T) decodeMeterIdentificationAttributeValue((int) attributeId, reader);
+        case (int) 2823L:
+          return (T) decodeCommodityMeteringAttributeValue((int) attributeId, reader);
+        case (int) 4294048773L:
+          return (T) decodeUnitTestingAttributeValue((int) attributeId, reader);
+        case (int) 4294048774L:
+          return (T) decodeFaultInjectionAttributeValue((int) attributeId, reader);
+        case (int) 4294048800L:
+          return (T) decodeSampleMeiAttributeValue((int) attributeId, reader);
+        default:
+          return null;
+      }
+    } catch (TlvParsingException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Decodes the TLV of an event value. Returns null if the event is unknown or its value cannot be
+   * decoded.
+   */
+  @SuppressWarnings("unchecked")
+  public static @Nullable <T> T decodeEventValue(long clusterId, long eventId, byte[] tlv) {
+    if ((clusterId >>> 32) != 0 || (eventId >>> 32) != 0) {
+      return null;
+    }
+    TlvReader reader = new TlvReader(tlv);
+    try {
+      switch ((int) clusterId) {
+        case (int) 31L:
+          return (T) decodeAccessControlEventValue((int) eventId, reader);
+        case (int) 37L:
+          return (T) decodeActionsEventValue((int) eventId, reader);
+        case (int) 40L:
+          return (T) decodeBasicInformationEventValue((int) eventId, reader);
+        case (int) 42L:
+          return (T) decodeOtaSoftwareUpdateRequestorEventValue((int) eventId, reader);
+        case (int) 47L:
+          return (T) decodePowerSourceEventValue((int) eventId, reader);
+        case (int) 51L:
+          return (T) decodeGeneralDiagnosticsEventValue((int) eventId, reader);
+        case (int) 52L:
+          return (T) decodeSoftwareDiagnosticsEventValue((int) eventId, reader);
+        case (int) 53L:
+          return (T) decodeThreadNetworkDiagnosticsEventValue((int) eventId, reader);
+        case (int) 54L:
+          return (T) decodeWiFiNetworkDiagnosticsEventValue((int) eventId, reader);
+        case (int) 56L:
+          return (T) decodeTimeSynchronizationEventValue((int) eventId, reader);
+        case (int) 57L:
+          return (T) decodeBridgedDeviceBasicInformationEventValue((int) eventId, reader);
+        case (int) 59L:
+          return (T) decodeSwitchEventValue((int) eventId, reader);
+        case (int) 69L:
+          return (T) decodeBooleanStateEventValue((int) eventId, reader);
+        case (int) 72L:
+          return (T) decodeOvenCavityOperationalStateEventValue((int) eventId, reader);
+        case (int) 87L:
+          return (T) decodeRefrigeratorAlarmEventValue((int) eventId, reader);
+        case (int) 92L:
+          return (T) decodeSmokeCoAlarmEventValue((int) eventId, reader);
+        case (int) 93L:
+          return (T) decodeDishwasherAlarmEventValue((int) eventId, reader);
+        case (int) 96L:
+          return (T) decodeOperationalStateEventValue((int) eventId, reader);
+        case (int) 97L:
+          return (T) decodeRvcOperationalStateEventValue((int) eventId, reader);
+        case (int) 128L:
+          return (T) decodeBooleanStateConfigurationEventValue((int) eventId, reader);
+        case (int) 129L:
+          return (T) decodeValveConfigurationAndControlEventValue((int) eventId, reader);
+        case (int) 144L:
+          return (T) decodeElectricalPowerMeasurementEventValue((int) eventId, reader);
+        case (int) 145L:
+          return (T) decodeElectricalEnergyMeasurementEventValue((int) eventId, reader);
+        case (int) 148L:
+          return (T) decodeWaterHeaterManagementEventValue((int) eventId, reader);
+        case (int) 149L:
+          return (T) decodeCommodityPriceEventValue((int) eventId, reader);
+        case (int) 151L:
+          return (T) decodeMessagesEventValue((int) eventId, reader);
+        case (int) 152L:
+          return (T) decodeDeviceEnergyManagementEventValue((int) eventId, reader);
+        case (int) 153L:
+          return (T) decodeEnergyEvseEventValue((int) eventId, reader);
+        case (int) 160L:
+          return (T) decodeElectricalGridConditionsEventValue((int) eventId, reader);
+        case (int) 257L:
+          return (T) decodeDoorLockEventValue((int) eventId, reader);
+        case (int) 260L:
+          return (T) decodeClosureControlEventValue((int) eventId, reader);
+        case (int) 512L:
+          return (T) decodePumpConfigurationAndControlEventValue((int) eventId, reader);
+        case (int) 513L:
+          return (T) decodeThermostatEventValue((int) eventId, reader);
+        case (int) 1030L:
+          return (T) decodeOccupancySensingEventValue((int) eventId, reader);
+        case (int) 1285L:
+          return (T) decodeTargetNavigatorEventValue((int) eventId, reader);
+        case (int) 1286L:
+          return (T) decodeMediaPlaybackEventValue((int) eventId, reader);
+        case (int) 1294L:
+          return (T) decodeAccountLoginEventValue((int) eventId, reader);
+        case (int) 1295L:
+          return (T) decodeContentControlEventValue((int) eventId, reader);
+        case (int) 1360L:
+          return (T) decodeZoneManagementEventValue((int) eventId, reader);
+        case (int) 1365L:
+          return (T) decodePushAvStreamTransportEventValue((int) eventId, reader);
+        case (int) 1873L:
+          return (T) decodeCommissionerControlEventValue((int) eventId, reader);
+        case (int) 4294048773L:
+          return (T) decodeUnitTestingEventValue((int) eventId, reader);
+        case (int) 4294048800L:
+          return (T) decodeSampleMeiEventValue((int) eventId, reader);
+        default:
+          return null;
+      }
+    } catch (TlvParsingException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static @Nullable Object decodeIdentifyAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeGroupsAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeOnOffAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 16384L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 16385L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16386L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16387L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeLevelControlAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 15L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 17L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 18L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 19L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 20L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16384L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodePulseWidthModulationAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeDescriptorAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.DescriptorClusterDeviceTypeStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 2L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 3L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 4L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.DescriptorClusterSemanticTagStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 5L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeBindingAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.BindingClusterTargetStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeAccessControlAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.AccessControlClusterAccessControlEntryStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.AccessControlClusterAccessControlExtensionStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.AccessControlClusterCommissioningAccessRestrictionEntryStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 6L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.AccessControlClusterAccessRestrictionEntryStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 7L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.AccessControlClusterAccessControlEntryStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeAccessControlEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.AccessControlClusterAccessControlEntryChangedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.AccessControlClusterAccessControlExtensionChangedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.AccessControlClusterFabricRestrictionReviewUpdateEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 3L:
+        return ChipEventStructs.AccessControlClusterAuxiliaryAccessUpdatedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeActionsAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ActionsClusterActionStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ActionsClusterEndpointListStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 2L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeActionsEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.ActionsClusterStateChangedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.ActionsClusterActionFailedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeBasicInformationAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 11L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 12L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 13L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 14L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 15L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 16L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 17L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 18L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 19L:
+        return ChipStructs.BasicInformationClusterCapabilityMinimaStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 20L:
+        return ChipStructs.BasicInformationClusterProductAppearanceStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 21L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 22L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 24L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeBasicInformationEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.BasicInformationClusterStartUpEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.BasicInformationClusterShutDownEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.BasicInformationClusterLeaveEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 3L:
+        return ChipEventStructs.BasicInformationClusterReachableChangedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeOtaSoftwareUpdateProviderAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeOtaSoftwareUpdateRequestorAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.OtaSoftwareUpdateRequestorClusterProviderLocation.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeOtaSoftwareUpdateRequestorEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.OtaSoftwareUpdateRequestorClusterStateTransitionEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.OtaSoftwareUpdateRequestorClusterVersionAppliedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.OtaSoftwareUpdateRequestorClusterDownloadErrorEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeLocalizationConfigurationAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUtf8String(AnonymousTag.INSTANCE));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeTimeFormatLocalizationAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeUnitLocalizationAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodePowerSourceConfigurationAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodePowerSourceAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 11L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 12L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 13L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 14L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 15L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 16L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 17L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 18L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 19L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 20L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 21L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 22L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 23L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 24L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 25L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 26L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 27L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 28L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 29L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 30L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 31L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodePowerSourceEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.PowerSourceClusterWiredFaultChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.PowerSourceClusterBatFaultChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.PowerSourceClusterBatChargeFaultChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeGeneralCommissioningAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return ChipStructs.GeneralCommissioningClusterBasicCommissioningInfo.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 11L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 12L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeNetworkCommissioningAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.NetworkCommissioningClusterNetworkInfoStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.isNull() ? null : reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeDiagnosticLogsAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeGeneralDiagnosticsAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.GeneralDiagnosticsClusterNetworkInterface.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 6L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 7L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 8L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return ChipStructs.GeneralDiagnosticsClusterDeviceLoadStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeGeneralDiagnosticsEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.GeneralDiagnosticsClusterHardwareFaultChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.GeneralDiagnosticsClusterRadioFaultChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.GeneralDiagnosticsClusterNetworkFaultChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 3L:
+        return ChipEventStructs.GeneralDiagnosticsClusterBootReasonEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeSoftwareDiagnosticsAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.SoftwareDiagnosticsClusterThreadMetricsStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeSoftwareDiagnosticsEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.SoftwareDiagnosticsClusterSoftwareFaultEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeThreadNetworkDiagnosticsAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ThreadNetworkDiagnosticsClusterNeighborTableStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 8L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ThreadNetworkDiagnosticsClusterRouteTableStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 9L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 11L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 12L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 13L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 14L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 15L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 17L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 18L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 19L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 20L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 21L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 22L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 23L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 24L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 25L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 26L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 27L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 28L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 29L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 30L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 31L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 32L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 33L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 34L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 35L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 36L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 37L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 38L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 39L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 40L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 41L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 42L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 43L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 44L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 45L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 46L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 47L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 48L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 49L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 50L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 51L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 52L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 53L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 54L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 55L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 56L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 57L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 58L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 59L:
+        return reader.isNull() ? null : ChipStructs.ThreadNetworkDiagnosticsClusterSecurityPolicy.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 60L:
+        return reader.isNull() ? null : reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 61L:
+        return reader.isNull() ? null : ChipStructs.ThreadNetworkDiagnosticsClusterOperationalDatasetComponents.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 62L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 63L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 64L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeThreadNetworkDiagnosticsEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.ThreadNetworkDiagnosticsClusterConnectionStatusEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.ThreadNetworkDiagnosticsClusterNetworkFaultChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeWiFiNetworkDiagnosticsAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 11L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 12L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeWiFiNetworkDiagnosticsEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.WiFiNetworkDiagnosticsClusterDisconnectionEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.WiFiNetworkDiagnosticsClusterAssociationFailureEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.WiFiNetworkDiagnosticsClusterConnectionStatusEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeEthernetNetworkDiagnosticsAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.isNull() ? null : reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeTimeSynchronizationAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : ChipStructs.TimeSynchronizationClusterTrustedTimeSourceStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 4L:
+        return reader.isNull() ? null : reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.TimeSynchronizationClusterTimeZoneStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 6L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.TimeSynchronizationClusterDSTOffsetStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 7L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 11L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 12L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeTimeSynchronizationEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.TimeSynchronizationClusterDSTTableEmptyEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.TimeSynchronizationClusterDSTStatusEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.TimeSynchronizationClusterTimeZoneStatusEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 3L:
+        return ChipEventStructs.TimeSynchronizationClusterTimeFailureEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 4L:
+        return ChipEventStructs.TimeSynchronizationClusterMissingTrustedTimeSourceEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeBridgedDeviceBasicInformationAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 1L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 11L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 12L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 13L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 14L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 15L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 17L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 18L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 20L:
+        return ChipStructs.BridgedDeviceBasicInformationClusterProductAppearanceStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 24L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeBridgedDeviceBasicInformationEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.BridgedDeviceBasicInformationClusterStartUpEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.BridgedDeviceBasicInformationClusterShutDownEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.BridgedDeviceBasicInformationClusterLeaveEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 3L:
+        return ChipEventStructs.BridgedDeviceBasicInformationClusterReachableChangedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 128L:
+        return ChipEventStructs.BridgedDeviceBasicInformationClusterActiveChangedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeSwitchAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeSwitchEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.SwitchClusterSwitchLatchedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.SwitchClusterInitialPressEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.SwitchClusterLongPressEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 3L:
+        return ChipEventStructs.SwitchClusterShortReleaseEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 4L:
+        return ChipEventStructs.SwitchClusterLongReleaseEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 5L:
+        return ChipEventStructs.SwitchClusterMultiPressOngoingEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 6L:
+        return ChipEventStructs.SwitchClusterMultiPressCompleteEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeAdministratorCommissioningAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeOperationalCredentialsAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.OperationalCredentialsClusterNOCStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.OperationalCredentialsClusterFabricDescriptorStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getByteString(AnonymousTag.INSTANCE));
+      case (int) 5L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeGroupKeyManagementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.GroupKeyManagementClusterGroupKeyMapStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.GroupKeyManagementClusterGroupInfoMapStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeFixedLabelAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.FixedLabelClusterLabelStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeUserLabelAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.UserLabelClusterLabelStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeProxyConfigurationAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeProxyDiscoveryAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeProxyValidAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeBooleanStateAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeBooleanStateEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.BooleanStateClusterStateChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeIcdManagementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.IcdManagementClusterMonitoringRegistrationStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 4L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeTimerAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeOvenCavityOperationalStateAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUtf8String(AnonymousTag.INSTANCE));
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.OvenCavityOperationalStateClusterOperationalStateStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return ChipStructs.OvenCavityOperationalStateClusterErrorStateStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeOvenCavityOperationalStateEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.OvenCavityOperationalStateClusterOperationalErrorEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.OvenCavityOperationalStateClusterOperationCompletionEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeOvenModeAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.OvenModeClusterModeOptionStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeLaundryDryerControlsAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeModeSelectAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ModeSelectClusterModeOptionStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeLaundryWasherModeAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.LaundryWasherModeClusterModeOptionStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeRefrigeratorAndTemperatureControlledCabinetModeAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.RefrigeratorAndTemperatureControlledCabinetModeClusterModeOptionStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeLaundryWasherControlsAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUtf8String(AnonymousTag.INSTANCE));
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeRvcRunModeAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.RvcRunModeClusterModeOptionStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeRvcCleanModeAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.RvcCleanModeClusterModeOptionStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeTemperatureControlAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUtf8String(AnonymousTag.INSTANCE));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeRefrigeratorAlarmAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeRefrigeratorAlarmEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.RefrigeratorAlarmClusterNotifyEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeDishwasherModeAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.DishwasherModeClusterModeOptionStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeAirQualityAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeSmokeCoAlarmAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 11L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 12L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeSmokeCoAlarmEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.SmokeCoAlarmClusterSmokeAlarmEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.SmokeCoAlarmClusterCOAlarmEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.SmokeCoAlarmClusterLowBatteryEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 3L:
+        return ChipEventStructs.SmokeCoAlarmClusterHardwareFaultEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 4L:
+        return ChipEventStructs.SmokeCoAlarmClusterEndOfServiceEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 5L:
+        return ChipEventStructs.SmokeCoAlarmClusterSelfTestCompleteEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 6L:
+        return ChipEventStructs.SmokeCoAlarmClusterAlarmMutedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 7L:
+        return ChipEventStructs.SmokeCoAlarmClusterMuteEndedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 8L:
+        return ChipEventStructs.SmokeCoAlarmClusterInterconnectSmokeAlarmEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 9L:
+        return ChipEventStructs.SmokeCoAlarmClusterInterconnectCOAlarmEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 10L:
+        return ChipEventStructs.SmokeCoAlarmClusterAllClearEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeDishwasherAlarmAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeDishwasherAlarmEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.DishwasherAlarmClusterNotifyEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeMicrowaveOvenModeAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.MicrowaveOvenModeClusterModeOptionStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeMicrowaveOvenControlAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 7L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeOperationalStateAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUtf8String(AnonymousTag.INSTANCE));
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.OperationalStateClusterOperationalStateStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return ChipStructs.OperationalStateClusterErrorStateStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeOperationalStateEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.OperationalStateClusterOperationalErrorEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.OperationalStateClusterOperationCompletionEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeRvcOperationalStateAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUtf8String(AnonymousTag.INSTANCE));
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.RvcOperationalStateClusterOperationalStateStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return ChipStructs.RvcOperationalStateClusterErrorStateStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeRvcOperationalStateEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.RvcOperationalStateClusterOperationalErrorEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.RvcOperationalStateClusterOperationCompletionEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeScenesManagementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ScenesManagementClusterSceneInfoStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeGroupcastAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.GroupcastClusterMembershipStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeHepaFilterMonitoringAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.HepaFilterMonitoringClusterReplacementProductStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeActivatedCarbonFilterMonitoringAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ActivatedCarbonFilterMonitoringClusterReplacementProductStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeWaterTankLevelMonitoringAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.WaterTankLevelMonitoringClusterReplacementProductStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeBooleanStateConfigurationAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeBooleanStateConfigurationEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.BooleanStateConfigurationClusterAlarmsStateChangedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.BooleanStateConfigurationClusterSensorFaultEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeValveConfigurationAndControlAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeValveConfigurationAndControlEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.ValveConfigurationAndControlClusterValveStateChangedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.ValveConfigurationAndControlClusterValveFaultEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeElectricalPowerMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ElectricalPowerMeasurementClusterMeasurementAccuracyStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 3L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ElectricalPowerMeasurementClusterMeasurementRangeStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 4L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 11L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 12L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 13L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 14L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 15L:
+        return reader.isNull() ? null : ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ElectricalPowerMeasurementClusterHarmonicMeasurementStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 16L:
+        return reader.isNull() ? null : ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ElectricalPowerMeasurementClusterHarmonicMeasurementStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 17L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 18L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeElectricalPowerMeasurementEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.ElectricalPowerMeasurementClusterMeasurementPeriodRangesEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeElectricalEnergyMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipStructs.ElectricalEnergyMeasurementClusterMeasurementAccuracyStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return reader.isNull() ? null : ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return reader.isNull() ? null : ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 3L:
+        return reader.isNull() ? null : ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 4L:
+        return reader.isNull() ? null : ChipStructs.ElectricalEnergyMeasurementClusterEnergyMeasurementStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 5L:
+        return reader.isNull() ? null : ChipStructs.ElectricalEnergyMeasurementClusterCumulativeEnergyResetStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeElectricalEnergyMeasurementEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.ElectricalEnergyMeasurementClusterCumulativeEnergyMeasuredEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.ElectricalEnergyMeasurementClusterPeriodicEnergyMeasuredEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeWaterHeaterManagementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeWaterHeaterManagementEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.WaterHeaterManagementClusterBoostStartedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.WaterHeaterManagementClusterBoostEndedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeCommodityPriceAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : ChipStructs.CommodityPriceClusterCurrencyStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return reader.isNull() ? null : ChipStructs.CommodityPriceClusterCommodityPriceStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 3L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.CommodityPriceClusterCommodityPriceStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeCommodityPriceEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.CommodityPriceClusterPriceChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeMessagesAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.MessagesClusterMessageStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getByteString(AnonymousTag.INSTANCE));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeMessagesEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.MessagesClusterMessageQueuedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.MessagesClusterMessagePresentedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.MessagesClusterMessageCompleteEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeDeviceEnergyManagementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : ChipStructs.DeviceEnergyManagementClusterPowerAdjustCapabilityStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 6L:
+        return reader.isNull() ? null : ChipStructs.DeviceEnergyManagementClusterForecastStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 7L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeDeviceEnergyManagementEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.DeviceEnergyManagementClusterPowerAdjustStartEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.DeviceEnergyManagementClusterPowerAdjustEndEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.DeviceEnergyManagementClusterPausedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 3L:
+        return ChipEventStructs.DeviceEnergyManagementClusterResumedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeEnergyEvseAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 35L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 36L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 37L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 38L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 39L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 48L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 49L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 50L:
+        return reader.isNull() ? null : reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 64L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 66L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 67L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeEnergyEvseEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.EnergyEvseClusterEVConnectedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.EnergyEvseClusterEVNotDetectedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.EnergyEvseClusterEnergyTransferStartedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 3L:
+        return ChipEventStructs.EnergyEvseClusterEnergyTransferStoppedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 4L:
+        return ChipEventStructs.EnergyEvseClusterFaultEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 5L:
+        return ChipEventStructs.EnergyEvseClusterRFIDEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeEnergyPreferenceAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.EnergyPreferenceClusterBalanceStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 3L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.EnergyPreferenceClusterBalanceStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodePowerTopologyAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 1L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 2L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.PowerTopologyClusterCircuitNodeStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeEnergyEvseModeAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.EnergyEvseModeClusterModeOptionStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeWaterHeaterModeAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.WaterHeaterModeClusterModeOptionStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeDeviceEnergyManagementModeAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.DeviceEnergyManagementModeClusterModeOptionStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeElectricalGridConditionsAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : ChipStructs.ElectricalGridConditionsClusterElectricalGridConditionsStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ElectricalGridConditionsClusterElectricalGridConditionsStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeElectricalGridConditionsEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.ElectricalGridConditionsClusterCurrentConditionsChangedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeDoorLockAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 17L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 18L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 19L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 20L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 21L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 22L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 23L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 24L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 25L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 26L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 27L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 28L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 33L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 34L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 35L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 36L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 37L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 38L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 39L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 40L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 41L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 42L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 43L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 44L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 48L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 49L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 50L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 51L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 53L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 128L:
+        return reader.isNull() ? null : reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 129L:
+        return reader.isNull() ? null : reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 130L:
+        return reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 131L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getByteString(AnonymousTag.INSTANCE));
+      case (int) 132L:
+        return reader.isNull() ? null : reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 133L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getByteString(AnonymousTag.INSTANCE));
+      case (int) 134L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 135L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 136L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeDoorLockEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.DoorLockClusterDoorLockAlarmEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.DoorLockClusterDoorStateChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.DoorLockClusterLockOperationEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 3L:
+        return ChipEventStructs.DoorLockClusterLockOperationErrorEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 4L:
+        return ChipEventStructs.DoorLockClusterLockUserChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeWindowCoveringAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 11L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 12L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 13L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 14L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 15L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 17L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 18L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 19L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 23L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 26L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeClosureControlAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 3L:
+        return reader.isNull() ? null : ChipStructs.ClosureControlClusterOverallCurrentStateStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 4L:
+        return reader.isNull() ? null : ChipStructs.ClosureControlClusterOverallTargetStateStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 5L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeClosureControlEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.ClosureControlClusterOperationalErrorEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.ClosureControlClusterMovementCompletedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.ClosureControlClusterEngageStateChangedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 3L:
+        return ChipEventStructs.ClosureControlClusterSecureStateChangedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeClosureDimensionAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : ChipStructs.ClosureDimensionClusterDimensionStateStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return reader.isNull() ? null : ChipStructs.ClosureDimensionClusterDimensionStateStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : ChipStructs.ClosureDimensionClusterUnitRangeStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 6L:
+        return ChipStructs.ClosureDimensionClusterRangePercent100thsStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 7L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 11L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeServiceAreaAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ServiceAreaClusterAreaStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ServiceAreaClusterMapStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 2L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 3L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ServiceAreaClusterProgressStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodePumpConfigurationAndControlAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 11L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 12L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 16L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 17L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 18L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 19L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 20L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 21L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 22L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 23L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 32L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 33L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodePumpConfigurationAndControlEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.PumpConfigurationAndControlClusterSupplyVoltageLowEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.PumpConfigurationAndControlClusterSupplyVoltageHighEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.PumpConfigurationAndControlClusterPowerMissingPhaseEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 3L:
+        return ChipEventStructs.PumpConfigurationAndControlClusterSystemPressureLowEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 4L:
+        return ChipEventStructs.PumpConfigurationAndControlClusterSystemPressureHighEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 5L:
+        return ChipEventStructs.PumpConfigurationAndControlClusterDryRunningEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 6L:
+        return ChipEventStructs.PumpConfigurationAndControlClusterMotorTemperatureHighEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 7L:
+        return ChipEventStructs.PumpConfigurationAndControlClusterPumpMotorFatalFailureEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 8L:
+        return ChipEventStructs.PumpConfigurationAndControlClusterElectronicTemperatureHighEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 9L:
+        return ChipEventStructs.PumpConfigurationAndControlClusterPumpBlockedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 10L:
+        return ChipEventStructs.PumpConfigurationAndControlClusterSensorFailureEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 11L:
+        return ChipEventStructs.PumpConfigurationAndControlClusterElectronicNonFatalFailureEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 12L:
+        return ChipEventStructs.PumpConfigurationAndControlClusterElectronicFatalFailureEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 13L:
+        return ChipEventStructs.PumpConfigurationAndControlClusterGeneralFaultEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 14L:
+        return ChipEventStructs.PumpConfigurationAndControlClusterLeakageEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 15L:
+        return ChipEventStructs.PumpConfigurationAndControlClusterAirDetectionEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 16L:
+        return ChipEventStructs.PumpConfigurationAndControlClusterTurbineOperationEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeThermostatAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 17L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 18L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 19L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 20L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 21L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 22L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 23L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 24L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 25L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 26L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 27L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 28L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 30L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 32L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 33L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 34L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 35L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 36L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 37L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 41L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 48L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 49L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 50L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 52L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 53L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 54L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 55L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 56L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 57L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 58L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 64L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 66L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 67L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 68L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 69L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 70L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 71L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 72L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ThermostatClusterPresetTypeStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 73L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ThermostatClusterScheduleTypeStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 74L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 75L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 76L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 77L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 78L:
+        return reader.isNull() ? null : reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 79L:
+        return reader.isNull() ? null : reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 80L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ThermostatClusterPresetStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 81L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ThermostatClusterScheduleStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 82L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 83L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 84L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ThermostatClusterThermostatSuggestionStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 85L:
+        return reader.isNull() ? null : ChipStructs.ThermostatClusterThermostatSuggestionStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 86L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeThermostatEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.ThermostatClusterSystemModeChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.ThermostatClusterLocalTemperatureChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.ThermostatClusterOccupancyChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 3L:
+        return ChipEventStructs.ThermostatClusterSetpointChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 4L:
+        return ChipEventStructs.ThermostatClusterRunningStateChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 5L:
+        return ChipEventStructs.ThermostatClusterRunningModeChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 6L:
+        return ChipEventStructs.ThermostatClusterActiveScheduleChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 7L:
+        return ChipEventStructs.ThermostatClusterActivePresetChangeEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeFanControlAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 11L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeThermostatUserInterfaceConfigurationAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeColorControlAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 15L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 17L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 18L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 19L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 21L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 22L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 23L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 25L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 26L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 27L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 32L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 33L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 34L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 36L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 37L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 38L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 40L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 41L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 42L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 48L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 49L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 50L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 51L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 52L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 54L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 55L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 56L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 58L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 59L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 60L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16384L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16385L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16386L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16387L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16388L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16389L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16390L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16394L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16395L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16396L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16397L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16400L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeBallastConfigurationAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 17L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 20L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 21L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 32L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 48L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 49L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 50L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 51L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 52L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 53L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeIlluminanceMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeTemperatureMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodePressureMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 17L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 18L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 19L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 20L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeFlowMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeRelativeHumidityMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeOccupancySensingAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return ChipStructs.OccupancySensingClusterHoldTimeLimitsStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 16L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 17L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 18L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 32L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 33L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 34L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 48L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 49L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 50L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeOccupancySensingEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.OccupancySensingClusterOccupancyChangedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeCarbonMonoxideConcentrationMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeCarbonDioxideConcentrationMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeNitrogenDioxideConcentrationMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeOzoneConcentrationMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodePm25ConcentrationMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeFormaldehydeConcentrationMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodePm1ConcentrationMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodePm10ConcentrationMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeTotalVolatileOrganicCompoundsConcentrationMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeRadonConcentrationMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeSoilMeasurementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipStructs.SoilMeasurementClusterMeasurementAccuracyStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeAmbientContextSensingAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.AmbientContextSensingClusterAmbientContextTypeStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 4L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.AmbientContextSensingClusterSemanticTagStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 5L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return ChipStructs.AmbientContextSensingClusterHoldTimeLimitsStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 11L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.AmbientContextSensingClusterPredictedActivityStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 12L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeWiFiNetworkManagementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeThreadBorderRouterManagementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeThreadNetworkDirectoryAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ThreadNetworkDirectoryClusterThreadNetworkStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeWakeOnLanAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeChannelAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ChannelClusterChannelInfoStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return reader.isNull() ? null : ChipStructs.ChannelClusterLineupInfoStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return reader.isNull() ? null : ChipStructs.ChannelClusterChannelInfoStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeTargetNavigatorAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.TargetNavigatorClusterTargetInfoStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeTargetNavigatorEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.TargetNavigatorClusterTargetUpdatedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeMediaPlaybackAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : ChipStructs.MediaPlaybackClusterPlaybackPositionStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 4L:
+        return reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.isNull() ? null : ChipStructs.MediaPlaybackClusterTrackStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 8L:
+        return reader.isNull() ? null : ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.MediaPlaybackClusterTrackStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 9L:
+        return reader.isNull() ? null : ChipStructs.MediaPlaybackClusterTrackStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 10L:
+        return reader.isNull() ? null : ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.MediaPlaybackClusterTrackStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeMediaPlaybackEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.MediaPlaybackClusterStateChangedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeMediaInputAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.MediaInputClusterInputInfoStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeLowPowerAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeKeypadInputAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeContentLauncherAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUtf8String(AnonymousTag.INSTANCE));
+      case (int) 1L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeAudioOutputAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.AudioOutputClusterOutputInfoStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeApplicationLauncherAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 1L:
+        return reader.isNull() ? null : ChipStructs.ApplicationLauncherClusterApplicationEPStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeApplicationBasicAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return ChipStructs.ApplicationBasicClusterApplicationStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 5L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeAccountLoginAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeAccountLoginEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.AccountLoginClusterLoggedOutEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeContentControlAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ContentControlClusterRatingNameStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 2L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ContentControlClusterRatingNameStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 4L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ContentControlClusterBlockChannelStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 9L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ContentControlClusterAppInfoStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 10L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ContentControlClusterTimeWindowStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeContentControlEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.ContentControlClusterRemainingScreenTimeExpiredEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.ContentControlClusterEnteringBlockContentTimeWindowEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeContentAppObserverAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeZoneManagementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ZoneManagementClusterZoneInformationStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 3L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ZoneManagementClusterZoneTriggerControlStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return ChipStructs.ZoneManagementClusterTwoDCartesianVertexStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeZoneManagementEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.ZoneManagementClusterZoneTriggeredEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.ZoneManagementClusterZoneStoppedEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeCameraAvStreamManagementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return ChipStructs.CameraAvStreamManagementClusterVideoSensorParamsStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 3L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return ChipStructs.CameraAvStreamManagementClusterVideoResolutionStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 5L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.CameraAvStreamManagementClusterRateDistortionTradeOffPointsStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 6L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return ChipStructs.CameraAvStreamManagementClusterAudioCapabilitiesStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 8L:
+        return ChipStructs.CameraAvStreamManagementClusterAudioCapabilitiesStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.CameraAvStreamManagementClusterSnapshotCapabilitiesStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 11L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 12L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 13L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 14L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 15L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.CameraAvStreamManagementClusterVideoStreamStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 16L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.CameraAvStreamManagementClusterAudioStreamStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 17L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.CameraAvStreamManagementClusterSnapshotStreamStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 18L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 19L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 20L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 21L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 22L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 23L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 24L:
+        return ChipStructs.CameraAvStreamManagementClusterViewportStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 25L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 26L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 27L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 28L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 29L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 30L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 31L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 32L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 33L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 34L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 35L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 36L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 37L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 38L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 39L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 40L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeCameraAvSettingsUserLevelManagementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipStructs.CameraAvSettingsUserLevelManagementClusterMPTZStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.CameraAvSettingsUserLevelManagementClusterMPTZPresetStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 3L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.CameraAvSettingsUserLevelManagementClusterDPTZStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 4L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeWebRTCTransportProviderAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.WebRTCTransportProviderClusterWebRTCSessionStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeWebRTCTransportRequestorAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.WebRTCTransportRequestorClusterWebRTCSessionStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodePushAvStreamTransportAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.PushAvStreamTransportClusterSupportedFormatStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.PushAvStreamTransportClusterTransportConfigurationStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodePushAvStreamTransportEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.PushAvStreamTransportClusterPushTransportBeginEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return ChipEventStructs.PushAvStreamTransportClusterPushTransportEndEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeChimeAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.ChimeClusterChimeSoundStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeCommodityTariffAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : ChipStructs.CommodityTariffClusterTariffInformationStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 1L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.CommodityTariffClusterDayEntryStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 4L:
+        return reader.isNull() ? null : ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.CommodityTariffClusterDayPatternStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 5L:
+        return reader.isNull() ? null : ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.CommodityTariffClusterCalendarPeriodStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 6L:
+        return reader.isNull() ? null : ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.CommodityTariffClusterDayStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 7L:
+        return reader.isNull() ? null : ChipStructs.CommodityTariffClusterDayStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 8L:
+        return reader.isNull() ? null : ChipStructs.CommodityTariffClusterDayStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 9L:
+        return reader.isNull() ? null : ChipStructs.CommodityTariffClusterDayEntryStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 10L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 11L:
+        return reader.isNull() ? null : ChipStructs.CommodityTariffClusterDayEntryStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 12L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 13L:
+        return reader.isNull() ? null : ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.CommodityTariffClusterTariffComponentStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 14L:
+        return reader.isNull() ? null : ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.CommodityTariffClusterTariffPeriodStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 15L:
+        return reader.isNull() ? null : ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.CommodityTariffClusterTariffComponentStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 16L:
+        return reader.isNull() ? null : ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.CommodityTariffClusterTariffComponentStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 17L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 18L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeEcosystemInformationAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.EcosystemInformationClusterEcosystemDeviceStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.EcosystemInformationClusterEcosystemLocationStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeCommissionerControlAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeCommissionerControlEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.CommissionerControlClusterCommissioningRequestResultEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeJointFabricDatastoreAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.JointFabricDatastoreClusterDatastoreGroupKeySetStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 5L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.JointFabricDatastoreClusterDatastoreGroupInformationEntryStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 6L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.JointFabricDatastoreClusterDatastoreNodeInformationEntryStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 7L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.JointFabricDatastoreClusterDatastoreAdministratorInformationEntryStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 8L:
+        return ChipStructs.JointFabricDatastoreClusterDatastoreStatusEntryStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 9L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.JointFabricDatastoreClusterDatastoreEndpointGroupIDEntryStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 10L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.JointFabricDatastoreClusterDatastoreEndpointBindingEntryStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 11L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.JointFabricDatastoreClusterDatastoreNodeKeySetEntryStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 12L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.JointFabricDatastoreClusterDatastoreACLEntryStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 13L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.JointFabricDatastoreClusterDatastoreEndpointEntryStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeJointFabricAdministratorAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeTlsCertificateManagementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.TlsCertificateManagementClusterTLSCertStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.TlsCertificateManagementClusterTLSClientCertificateDetailStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeTlsClientManagementAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.TlsClientManagementClusterTLSEndpointStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeMeterIdentificationAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return reader.isNull() ? null : reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.isNull() ? null : ChipStructs.MeterIdentificationClusterPowerThresholdStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeCommodityMeteringAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.isNull() ? null : ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.CommodityMeteringClusterMeteredQuantityStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 1L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeUnitTestingAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 1L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 2L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 3L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 5L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 6L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 7L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 8L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 9L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 10L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 11L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 12L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 13L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 14L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 15L:
+        return reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 16L:
+        return reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 17L:
+        return reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 18L:
+        return reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 19L:
+        return reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 20L:
+        return reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 21L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 22L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 23L:
+        return reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 24L:
+        return reader.getDouble(AnonymousTag.INSTANCE);
+      case (int) 25L:
+        return reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 26L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> (int) reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 27L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getByteString(AnonymousTag.INSTANCE));
+      case (int) 28L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.UnitTestingClusterTestListStructOctet.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 29L:
+        return reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 30L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 31L:
+        return reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 32L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 33L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 34L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 35L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.UnitTestingClusterNullablesAndOptionalsStruct.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 36L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 37L:
+        return ChipStructs.UnitTestingClusterSimpleStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 38L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 39L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 40L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 41L:
+        return (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 42L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getByteString(AnonymousTag.INSTANCE));
+      case (int) 43L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> ChipStructs.UnitTestingClusterTestFabricScoped.decodeTlv(AnonymousTag.INSTANCE, reader));
+      case (int) 48L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 49L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 50L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 51L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 52L:
+        return ChipStructs.UnitTestingClusterTestGlobalStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 254L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 255L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 12288L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 12289L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16384L:
+        return reader.isNull() ? null : reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 16385L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16386L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16387L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16388L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16389L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16390L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16391L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16392L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16393L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16394L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16395L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16396L:
+        return reader.isNull() ? null : reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16397L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 16398L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 16399L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 16400L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 16401L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 16402L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 16403L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 16404L:
+        return reader.isNull() ? null : reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 16405L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16406L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16407L:
+        return reader.isNull() ? null : reader.getFloat(AnonymousTag.INSTANCE);
+      case (int) 16408L:
+        return reader.isNull() ? null : reader.getDouble(AnonymousTag.INSTANCE);
+      case (int) 16409L:
+        return reader.isNull() ? null : reader.getByteString(AnonymousTag.INSTANCE);
+      case (int) 16414L:
+        return reader.isNull() ? null : reader.getUtf8String(AnonymousTag.INSTANCE);
+      case (int) 16420L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16421L:
+        return reader.isNull() ? null : ChipStructs.UnitTestingClusterSimpleStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 16422L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16423L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 16424L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16425L:
+        return reader.isNull() ? null : (int) reader.getLong(AnonymousTag.INSTANCE);
+      case (int) 16426L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16435L:
+        return reader.isNull() ? null : (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 16436L:
+        return reader.isNull() ? null : ChipStructs.UnitTestingClusterTestGlobalStruct.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 4294070017L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeUnitTestingEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 1L:
+        return ChipEventStructs.UnitTestingClusterTestEventEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 2L:
+        return ChipEventStructs.UnitTestingClusterTestFabricScopedEventEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      case (int) 4294050030L:
+        return ChipEventStructs.UnitTestingClusterTestDifferentVendorMeiEventEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeFaultInjectionAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeSampleMeiAttributeValue(int attributeId, TlvReader reader) {
+    switch (attributeId) {
+      case (int) 0L:
+        return reader.getBool(AnonymousTag.INSTANCE);
+      case (int) 65528L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65529L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65531L:
+        return ChipTLVCodec.readArray(reader, AnonymousTag.INSTANCE, () -> reader.getUnsigned(AnonymousTag.INSTANCE));
+      case (int) 65532L:
+        return reader.getUnsigned(AnonymousTag.INSTANCE);
+      case (int) 65533L:
+        return (int) reader.getUnsigned(AnonymousTag.INSTANCE);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object decodeSampleMeiEventValue(int eventId, TlvReader reader) {
+    switch (eventId) {
+      case (int) 0L:
+        return ChipEventStructs.SampleMeiClusterPingCountEventEvent.decodeTlv(AnonymousTag.INSTANCE, reader);
+      default:
+        return null;
+    }
+  }
+}
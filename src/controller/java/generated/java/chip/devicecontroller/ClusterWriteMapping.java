@@ -26,7 +26,154 @@ import java.util.Map;
 public class ClusterWriteMapping {
   public Map<String, Map<String, InteractionInfo>> getWriteAttributeMap() {
     Map<String, Map<String, InteractionInfo>> writeAttributeMap = new HashMap<>();
-    Map<String, InteractionInfo> writeIdentifyInteractionInfo = new LinkedHashMap<>();
+    writeAttributeMap.put("identify", writeIdentifyInteractionInfo());
+    writeAttributeMap.put("groups", writeGroupsInteractionInfo());
+    writeAttributeMap.put("onOff", writeOnOffInteractionInfo());
+    writeAttributeMap.put("levelControl", writeLevelControlInteractionInfo());
+    writeAttributeMap.put("pulseWidthModulation", writePulseWidthModulationInteractionInfo());
+    writeAttributeMap.put("descriptor", writeDescriptorInteractionInfo());
+    writeAttributeMap.put("binding", writeBindingInteractionInfo());
+    writeAttributeMap.put("accessControl", writeAccessControlInteractionInfo());
+    writeAttributeMap.put("actions", writeActionsInteractionInfo());
+    writeAttributeMap.put("basicInformation", writeBasicInformationInteractionInfo());
+    writeAttributeMap.put("otaSoftwareUpdateProvider", writeOtaSoftwareUpdateProviderInteractionInfo());
+    writeAttributeMap.put("otaSoftwareUpdateRequestor", writeOtaSoftwareUpdateRequestorInteractionInfo());
+    writeAttributeMap.put("localizationConfiguration", writeLocalizationConfigurationInteractionInfo());
+    writeAttributeMap.put("timeFormatLocalization", writeTimeFormatLocalizationInteractionInfo());
+    writeAttributeMap.put("unitLocalization", writeUnitLocalizationInteractionInfo());
+    writeAttributeMap.put("powerSourceConfiguration", writePowerSourceConfigurationInteractionInfo());
+    writeAttributeMap.put("powerSource", writePowerSourceInteractionInfo());
+    writeAttributeMap.put("generalCommissioning", writeGeneralCommissioningInteractionInfo());
+    writeAttributeMap.put("networkCommissioning", writeNetworkCommissioningInteractionInfo());
+    writeAttributeMap.put("diagnosticLogs", writeDiagnosticLogsInteractionInfo());
+    writeAttributeMap.put("generalDiagnostics", writeGeneralDiagnosticsInteractionInfo());
+    writeAttributeMap.put("softwareDiagnostics", writeSoftwareDiagnosticsInteractionInfo());
+    writeAttributeMap.put("threadNetworkDiagnostics", writeThreadNetworkDiagnosticsInteractionInfo());
+    writeAttributeMap.put("wiFiNetworkDiagnostics", writeWiFiNetworkDiagnosticsInteractionInfo());
+    writeAttributeMap.put("ethernetNetworkDiagnostics", writeEthernetNetworkDiagnosticsInteractionInfo());
+    writeAttributeMap.put("timeSynchronization", writeTimeSynchronizationInteractionInfo());
+    writeAttributeMap.put("bridgedDeviceBasicInformation", writeBridgedDeviceBasicInformationInteractionInfo());
+    writeAttributeMap.put("switch", writeSwitchInteractionInfo());
+    writeAttributeMap.put("administratorCommissioning", writeAdministratorCommissioningInteractionInfo());
+    writeAttributeMap.put("operationalCredentials", writeOperationalCredentialsInteractionInfo());
+    writeAttributeMap.put("groupKeyManagement", writeGroupKeyManagementInteractionInfo());
+    writeAttributeMap.put("fixedLabel", writeFixedLabelInteractionInfo());
+    writeAttributeMap.put("userLabel", writeUserLabelInteractionInfo());
+    writeAttributeMap.put("proxyConfiguration", writeProxyConfigurationInteractionInfo());
+    writeAttributeMap.put("proxyDiscovery", writeProxyDiscoveryInteractionInfo());
+    writeAttributeMap.put("proxyValid", writeProxyValidInteractionInfo());
+    writeAttributeMap.put("booleanState", writeBooleanStateInteractionInfo());
+    writeAttributeMap.put("icdManagement", writeIcdManagementInteractionInfo());
+    writeAttributeMap.put("timer", writeTimerInteractionInfo());
+    writeAttributeMap.put("ovenCavityOperationalState", writeOvenCavityOperationalStateInteractionInfo());
+    writeAttributeMap.put("ovenMode", writeOvenModeInteractionInfo());
+    writeAttributeMap.put("laundryDryerControls", writeLaundryDryerControlsInteractionInfo());
+    writeAttributeMap.put("modeSelect", writeModeSelectInteractionInfo());
+    writeAttributeMap.put("laundryWasherMode", writeLaundryWasherModeInteractionInfo());
+    writeAttributeMap.put("refrigeratorAndTemperatureControlledCabinetMode", writeRefrigeratorAndTemperatureControlledCabinetModeInteractionInfo());
+    writeAttributeMap.put("laundryWasherControls", writeLaundryWasherControlsInteractionInfo());
+    writeAttributeMap.put("rvcRunMode", writeRvcRunModeInteractionInfo());
+    writeAttributeMap.put("rvcCleanMode", writeRvcCleanModeInteractionInfo());
+    writeAttributeMap.put("temperatureControl", writeTemperatureControlInteractionInfo());
+    writeAttributeMap.put("refrigeratorAlarm", writeRefrigeratorAlarmInteractionInfo());
+    writeAttributeMap.put("dishwasherMode", writeDishwasherModeInteractionInfo());
+    writeAttributeMap.put("airQuality", writeAirQualityInteractionInfo());
+    writeAttributeMap.put("smokeCoAlarm", writeSmokeCoAlarmInteractionInfo());
+    writeAttributeMap.put("dishwasherAlarm", writeDishwasherAlarmInteractionInfo());
+    writeAttributeMap.put("microwaveOvenMode", writeMicrowaveOvenModeInteractionInfo());
+    writeAttributeMap.put("microwaveOvenControl", writeMicrowaveOvenControlInteractionInfo());
+    writeAttributeMap.put("operationalState", writeOperationalStateInteractionInfo());
+    writeAttributeMap.put("rvcOperationalState", writeRvcOperationalStateInteractionInfo());
+    writeAttributeMap.put("scenesManagement", writeScenesManagementInteractionInfo());
+    writeAttributeMap.put("groupcast", writeGroupcastInteractionInfo());
+    writeAttributeMap.put("hepaFilterMonitoring", writeHepaFilterMonitoringInteractionInfo());
+    writeAttributeMap.put("activatedCarbonFilterMonitoring", writeActivatedCarbonFilterMonitoringInteractionInfo());
+    writeAttributeMap.put("waterTankLevelMonitoring", writeWaterTankLevelMonitoringInteractionInfo());
+    writeAttributeMap.put("booleanStateConfiguration", writeBooleanStateConfigurationInteractionInfo());
+    writeAttributeMap.put("valveConfigurationAndControl", writeValveConfigurationAndControlInteractionInfo());
+    writeAttributeMap.put("electricalPowerMeasurement", writeElectricalPowerMeasurementInteractionInfo());
+    writeAttributeMap.put("electricalEnergyMeasurement", writeElectricalEnergyMeasurementInteractionInfo());
+    writeAttributeMap.put("waterHeaterManagement", writeWaterHeaterManagementInteractionInfo());
+    writeAttributeMap.put("commodityPrice", writeCommodityPriceInteractionInfo());
+    writeAttributeMap.put("messages", writeMessagesInteractionInfo());
+    writeAttributeMap.put("deviceEnergyManagement", writeDeviceEnergyManagementInteractionInfo());
+    writeAttributeMap.put("energyEvse", writeEnergyEvseInteractionInfo());
+    writeAttributeMap.put("energyPreference", writeEnergyPreferenceInteractionInfo());
+    writeAttributeMap.put("powerTopology", writePowerTopologyInteractionInfo());
+    writeAttributeMap.put("energyEvseMode", writeEnergyEvseModeInteractionInfo());
+    writeAttributeMap.put("waterHeaterMode", writeWaterHeaterModeInteractionInfo());
+    writeAttributeMap.put("deviceEnergyManagementMode", writeDeviceEnergyManagementModeInteractionInfo());
+    writeAttributeMap.put("electricalGridConditions", writeElectricalGridConditionsInteractionInfo());
+    writeAttributeMap.put("doorLock", writeDoorLockInteractionInfo());
+    writeAttributeMap.put("windowCovering", writeWindowCoveringInteractionInfo());
+    writeAttributeMap.put("closureControl", writeClosureControlInteractionInfo());
+    writeAttributeMap.put("closureDimension", writeClosureDimensionInteractionInfo());
+    writeAttributeMap.put("serviceArea", writeServiceAreaInteractionInfo());
+    writeAttributeMap.put("pumpConfigurationAndControl", writePumpConfigurationAndControlInteractionInfo());
+    writeAttributeMap.put("thermostat", writeThermostatInteractionInfo());
+    writeAttributeMap.put("fanControl", writeFanControlInteractionInfo());
+    writeAttributeMap.put("thermostatUserInterfaceConfiguration", writeThermostatUserInterfaceConfigurationInteractionInfo());
+    writeAttributeMap.put("colorControl", writeColorControlInteractionInfo());
+    writeAttributeMap.put("ballastConfiguration", writeBallastConfigurationInteractionInfo());
+    writeAttributeMap.put("illuminanceMeasurement", writeIlluminanceMeasurementInteractionInfo());
+    writeAttributeMap.put("temperatureMeasurement", writeTemperatureMeasurementInteractionInfo());
+    writeAttributeMap.put("pressureMeasurement", writePressureMeasurementInteractionInfo());
+    writeAttributeMap.put("flowMeasurement", writeFlowMeasurementInteractionInfo());
+    writeAttributeMap.put("relativeHumidityMeasurement", writeRelativeHumidityMeasurementInteractionInfo());
+    writeAttributeMap.put("occupancySensing", writeOccupancySensingInteractionInfo());
+    writeAttributeMap.put("carbonMonoxideConcentrationMeasurement", writeCarbonMonoxideConcentrationMeasurementInteractionInfo());
+    writeAttributeMap.put("carbonDioxideConcentrationMeasurement", writeCarbonDioxideConcentrationMeasurementInteractionInfo());
+    writeAttributeMap.put("nitrogenDioxideConcentrationMeasurement", writeNitrogenDioxideConcentrationMeasurementInteractionInfo());
+    writeAttributeMap.put("ozoneConcentrationMeasurement", writeOzoneConcentrationMeasurementInteractionInfo());
+    writeAttributeMap.put("pm25ConcentrationMeasurement", writePm25ConcentrationMeasurementInteractionInfo());
+    writeAttributeMap.put("formaldehydeConcentrationMeasurement", writeFormaldehydeConcentrationMeasurementInteractionInfo());
+    writeAttributeMap.put("pm1ConcentrationMeasurement", writePm1ConcentrationMeasurementInteractionInfo());
+    writeAttributeMap.put("pm10ConcentrationMeasurement", writePm10ConcentrationMeasurementInteractionInfo());
+    writeAttributeMap.put("totalVolatileOrganicCompoundsConcentrationMeasurement", writeTotalVolatileOrganicCompoundsConcentrationMeasurementInteractionInfo());
+    writeAttributeMap.put("radonConcentrationMeasurement", writeRadonConcentrationMeasurementInteractionInfo());
+    writeAttributeMap.put("soilMeasurement", writeSoilMeasurementInteractionInfo());
+    writeAttributeMap.put("ambientContextSensing", writeAmbientContextSensingInteractionInfo());
+    writeAttributeMap.put("wiFiNetworkManagement", writeWiFiNetworkManagementInteractionInfo());
+    writeAttributeMap.put("threadBorderRouterManagement", writeThreadBorderRouterManagementInteractionInfo());
+    writeAttributeMap.put("threadNetworkDirectory", writeThreadNetworkDirectoryInteractionInfo());
+    writeAttributeMap.put("wakeOnLan", writeWakeOnLanInteractionInfo());
+    writeAttributeMap.put("channel", writeChannelInteractionInfo());
+    writeAttributeMap.put("targetNavigator", writeTargetNavigatorInteractionInfo());
+    writeAttributeMap.put("mediaPlayback", writeMediaPlaybackInteractionInfo());
+    writeAttributeMap.put("mediaInput", writeMediaInputInteractionInfo());
+    writeAttributeMap.put("lowPower", writeLowPowerInteractionInfo());
+    writeAttributeMap.put("keypadInput", writeKeypadInputInteractionInfo());
+    writeAttributeMap.put("contentLauncher", writeContentLauncherInteractionInfo());
+    writeAttributeMap.put("audioOutput", writeAudioOutputInteractionInfo());
+    writeAttributeMap.put("applicationLauncher", writeApplicationLauncherInteractionInfo());
+    writeAttributeMap.put("applicationBasic", writeApplicationBasicInteractionInfo());
+    writeAttributeMap.put("accountLogin", writeAccountLoginInteractionInfo());
+    writeAttributeMap.put("contentControl", writeContentControlInteractionInfo());
+    writeAttributeMap.put("contentAppObserver", writeContentAppObserverInteractionInfo());
+    writeAttributeMap.put("zoneManagement", writeZoneManagementInteractionInfo());
+    writeAttributeMap.put("cameraAvStreamManagement", writeCameraAvStreamManagementInteractionInfo());
+    writeAttributeMap.put("cameraAvSettingsUserLevelManagement", writeCameraAvSettingsUserLevelManagementInteractionInfo());
+    writeAttributeMap.put("webRTCTransportProvider", writeWebRTCTransportProviderInteractionInfo());
+    writeAttributeMap.put("webRTCTransportRequestor", writeWebRTCTransportRequestorInteractionInfo());
+    writeAttributeMap.put("pushAvStreamTransport", writePushAvStreamTransportInteractionInfo());
+    writeAttributeMap.put("chime", writeChimeInteractionInfo());
+    writeAttributeMap.put("commodityTariff", writeCommodityTariffInteractionInfo());
+    writeAttributeMap.put("ecosystemInformation", writeEcosystemInformationInteractionInfo());
+    writeAttributeMap.put("commissionerControl", writeCommissionerControlInteractionInfo());
+    writeAttributeMap.put("jointFabricDatastore", writeJointFabricDatastoreInteractionInfo());
+    writeAttributeMap.put("jointFabricAdministrator", writeJointFabricAdministratorInteractionInfo());
+    writeAttributeMap.put("tlsCertificateManagement", writeTlsCertificateManagementInteractionInfo());
+    writeAttributeMap.put("tlsClientManagement", writeTlsClientManagementInteractionInfo());
+    writeAttributeMap.put("meterIdentification", writeMeterIdentificationInteractionInfo());
+    writeAttributeMap.put("commodityMetering", writeCommodityMeteringInteractionInfo());
+    writeAttributeMap.put("unitTesting", writeUnitTestingInteractionInfo());
+    writeAttributeMap.put("faultInjection", writeFaultInjectionInteractionInfo());
+    writeAttributeMap.put("sampleMei", writeSampleMeiInteractionInfo());
+    return writeAttributeMap;
+  }
+
+  static Map<String, InteractionInfo> writeIdentifyInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeIdentifyIdentifyTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo identifyidentifyTimeCommandParameterInfo =
         new CommandParameterInfo(
@@ -48,11 +195,17 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeIdentifyIdentifyTimeCommandParams
     );
-    writeIdentifyInteractionInfo.put("writeIdentifyTimeAttribute", writeIdentifyIdentifyTimeAttributeInteractionInfo);
-    writeAttributeMap.put("identify", writeIdentifyInteractionInfo);
-    Map<String, InteractionInfo> writeGroupsInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("groups", writeGroupsInteractionInfo);
-    Map<String, InteractionInfo> writeOnOffInteractionInfo = new LinkedHashMap<>();
+    result.put("writeIdentifyTimeAttribute", writeIdentifyIdentifyTimeAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeGroupsInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeOnOffInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeOnOffOnTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo onOffonTimeCommandParameterInfo =
         new CommandParameterInfo(
@@ -74,7 +227,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeOnOffOnTimeCommandParams
     );
-    writeOnOffInteractionInfo.put("writeOnTimeAttribute", writeOnOffOnTimeAttributeInteractionInfo);
+    result.put("writeOnTimeAttribute", writeOnOffOnTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeOnOffOffWaitTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo onOffoffWaitTimeCommandParameterInfo =
         new CommandParameterInfo(
@@ -96,7 +249,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeOnOffOffWaitTimeCommandParams
     );
-    writeOnOffInteractionInfo.put("writeOffWaitTimeAttribute", writeOnOffOffWaitTimeAttributeInteractionInfo);
+    result.put("writeOffWaitTimeAttribute", writeOnOffOffWaitTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeOnOffStartUpOnOffCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo onOffstartUpOnOffCommandParameterInfo =
         new CommandParameterInfo(
@@ -118,9 +271,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeOnOffStartUpOnOffCommandParams
     );
-    writeOnOffInteractionInfo.put("writeStartUpOnOffAttribute", writeOnOffStartUpOnOffAttributeInteractionInfo);
-    writeAttributeMap.put("onOff", writeOnOffInteractionInfo);
-    Map<String, InteractionInfo> writeLevelControlInteractionInfo = new LinkedHashMap<>();
+    result.put("writeStartUpOnOffAttribute", writeOnOffStartUpOnOffAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeLevelControlInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeLevelControlOptionsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo levelControloptionsCommandParameterInfo =
         new CommandParameterInfo(
@@ -142,7 +298,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeLevelControlOptionsCommandParams
     );
-    writeLevelControlInteractionInfo.put("writeOptionsAttribute", writeLevelControlOptionsAttributeInteractionInfo);
+    result.put("writeOptionsAttribute", writeLevelControlOptionsAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeLevelControlOnOffTransitionTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo levelControlonOffTransitionTimeCommandParameterInfo =
         new CommandParameterInfo(
@@ -164,7 +320,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeLevelControlOnOffTransitionTimeCommandParams
     );
-    writeLevelControlInteractionInfo.put("writeOnOffTransitionTimeAttribute", writeLevelControlOnOffTransitionTimeAttributeInteractionInfo);
+    result.put("writeOnOffTransitionTimeAttribute", writeLevelControlOnOffTransitionTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeLevelControlOnLevelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo levelControlonLevelCommandParameterInfo =
         new CommandParameterInfo(
@@ -186,7 +342,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeLevelControlOnLevelCommandParams
     );
-    writeLevelControlInteractionInfo.put("writeOnLevelAttribute", writeLevelControlOnLevelAttributeInteractionInfo);
+    result.put("writeOnLevelAttribute", writeLevelControlOnLevelAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeLevelControlOnTransitionTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo levelControlonTransitionTimeCommandParameterInfo =
         new CommandParameterInfo(
@@ -208,7 +364,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeLevelControlOnTransitionTimeCommandParams
     );
-    writeLevelControlInteractionInfo.put("writeOnTransitionTimeAttribute", writeLevelControlOnTransitionTimeAttributeInteractionInfo);
+    result.put("writeOnTransitionTimeAttribute", writeLevelControlOnTransitionTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeLevelControlOffTransitionTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo levelControloffTransitionTimeCommandParameterInfo =
         new CommandParameterInfo(
@@ -230,7 +386,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeLevelControlOffTransitionTimeCommandParams
     );
-    writeLevelControlInteractionInfo.put("writeOffTransitionTimeAttribute", writeLevelControlOffTransitionTimeAttributeInteractionInfo);
+    result.put("writeOffTransitionTimeAttribute", writeLevelControlOffTransitionTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeLevelControlDefaultMoveRateCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo levelControldefaultMoveRateCommandParameterInfo =
         new CommandParameterInfo(
@@ -252,7 +408,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeLevelControlDefaultMoveRateCommandParams
     );
-    writeLevelControlInteractionInfo.put("writeDefaultMoveRateAttribute", writeLevelControlDefaultMoveRateAttributeInteractionInfo);
+    result.put("writeDefaultMoveRateAttribute", writeLevelControlDefaultMoveRateAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeLevelControlStartUpCurrentLevelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo levelControlstartUpCurrentLevelCommandParameterInfo =
         new CommandParameterInfo(
@@ -274,19 +430,37 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeLevelControlStartUpCurrentLevelCommandParams
     );
-    writeLevelControlInteractionInfo.put("writeStartUpCurrentLevelAttribute", writeLevelControlStartUpCurrentLevelAttributeInteractionInfo);
-    writeAttributeMap.put("levelControl", writeLevelControlInteractionInfo);
-    Map<String, InteractionInfo> writePulseWidthModulationInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("pulseWidthModulation", writePulseWidthModulationInteractionInfo);
-    Map<String, InteractionInfo> writeDescriptorInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("descriptor", writeDescriptorInteractionInfo);
-    Map<String, InteractionInfo> writeBindingInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("binding", writeBindingInteractionInfo);
-    Map<String, InteractionInfo> writeAccessControlInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("accessControl", writeAccessControlInteractionInfo);
-    Map<String, InteractionInfo> writeActionsInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("actions", writeActionsInteractionInfo);
-    Map<String, InteractionInfo> writeBasicInformationInteractionInfo = new LinkedHashMap<>();
+    result.put("writeStartUpCurrentLevelAttribute", writeLevelControlStartUpCurrentLevelAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writePulseWidthModulationInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeDescriptorInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeBindingInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeAccessControlInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeActionsInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeBasicInformationInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeBasicInformationNodeLabelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo basicInformationnodeLabelCommandParameterInfo =
         new CommandParameterInfo(
@@ -308,7 +482,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeBasicInformationNodeLabelCommandParams
     );
-    writeBasicInformationInteractionInfo.put("writeNodeLabelAttribute", writeBasicInformationNodeLabelAttributeInteractionInfo);
+    result.put("writeNodeLabelAttribute", writeBasicInformationNodeLabelAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeBasicInformationLocationCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo basicInformationlocationCommandParameterInfo =
         new CommandParameterInfo(
@@ -330,7 +504,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeBasicInformationLocationCommandParams
     );
-    writeBasicInformationInteractionInfo.put("writeLocationAttribute", writeBasicInformationLocationAttributeInteractionInfo);
+    result.put("writeLocationAttribute", writeBasicInformationLocationAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeBasicInformationLocalConfigDisabledCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo basicInformationlocalConfigDisabledCommandParameterInfo =
         new CommandParameterInfo(
@@ -352,13 +526,22 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeBasicInformationLocalConfigDisabledCommandParams
     );
-    writeBasicInformationInteractionInfo.put("writeLocalConfigDisabledAttribute", writeBasicInformationLocalConfigDisabledAttributeInteractionInfo);
-    writeAttributeMap.put("basicInformation", writeBasicInformationInteractionInfo);
-    Map<String, InteractionInfo> writeOtaSoftwareUpdateProviderInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("otaSoftwareUpdateProvider", writeOtaSoftwareUpdateProviderInteractionInfo);
-    Map<String, InteractionInfo> writeOtaSoftwareUpdateRequestorInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("otaSoftwareUpdateRequestor", writeOtaSoftwareUpdateRequestorInteractionInfo);
-    Map<String, InteractionInfo> writeLocalizationConfigurationInteractionInfo = new LinkedHashMap<>();
+    result.put("writeLocalConfigDisabledAttribute", writeBasicInformationLocalConfigDisabledAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeOtaSoftwareUpdateProviderInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeOtaSoftwareUpdateRequestorInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeLocalizationConfigurationInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeLocalizationConfigurationActiveLocaleCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo localizationConfigurationactiveLocaleCommandParameterInfo =
         new CommandParameterInfo(
@@ -380,9 +563,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeLocalizationConfigurationActiveLocaleCommandParams
     );
-    writeLocalizationConfigurationInteractionInfo.put("writeActiveLocaleAttribute", writeLocalizationConfigurationActiveLocaleAttributeInteractionInfo);
-    writeAttributeMap.put("localizationConfiguration", writeLocalizationConfigurationInteractionInfo);
-    Map<String, InteractionInfo> writeTimeFormatLocalizationInteractionInfo = new LinkedHashMap<>();
+    result.put("writeActiveLocaleAttribute", writeLocalizationConfigurationActiveLocaleAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeTimeFormatLocalizationInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeTimeFormatLocalizationHourFormatCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo timeFormatLocalizationhourFormatCommandParameterInfo =
         new CommandParameterInfo(
@@ -404,7 +590,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeTimeFormatLocalizationHourFormatCommandParams
     );
-    writeTimeFormatLocalizationInteractionInfo.put("writeHourFormatAttribute", writeTimeFormatLocalizationHourFormatAttributeInteractionInfo);
+    result.put("writeHourFormatAttribute", writeTimeFormatLocalizationHourFormatAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTimeFormatLocalizationActiveCalendarTypeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo timeFormatLocalizationactiveCalendarTypeCommandParameterInfo =
         new CommandParameterInfo(
@@ -426,9 +612,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeTimeFormatLocalizationActiveCalendarTypeCommandParams
     );
-    writeTimeFormatLocalizationInteractionInfo.put("writeActiveCalendarTypeAttribute", writeTimeFormatLocalizationActiveCalendarTypeAttributeInteractionInfo);
-    writeAttributeMap.put("timeFormatLocalization", writeTimeFormatLocalizationInteractionInfo);
-    Map<String, InteractionInfo> writeUnitLocalizationInteractionInfo = new LinkedHashMap<>();
+    result.put("writeActiveCalendarTypeAttribute", writeTimeFormatLocalizationActiveCalendarTypeAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeUnitLocalizationInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeUnitLocalizationTemperatureUnitCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitLocalizationtemperatureUnitCommandParameterInfo =
         new CommandParameterInfo(
@@ -450,13 +639,22 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitLocalizationTemperatureUnitCommandParams
     );
-    writeUnitLocalizationInteractionInfo.put("writeTemperatureUnitAttribute", writeUnitLocalizationTemperatureUnitAttributeInteractionInfo);
-    writeAttributeMap.put("unitLocalization", writeUnitLocalizationInteractionInfo);
-    Map<String, InteractionInfo> writePowerSourceConfigurationInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("powerSourceConfiguration", writePowerSourceConfigurationInteractionInfo);
-    Map<String, InteractionInfo> writePowerSourceInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("powerSource", writePowerSourceInteractionInfo);
-    Map<String, InteractionInfo> writeGeneralCommissioningInteractionInfo = new LinkedHashMap<>();
+    result.put("writeTemperatureUnitAttribute", writeUnitLocalizationTemperatureUnitAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writePowerSourceConfigurationInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writePowerSourceInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeGeneralCommissioningInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeGeneralCommissioningBreadcrumbCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo generalCommissioningbreadcrumbCommandParameterInfo =
         new CommandParameterInfo(
@@ -478,9 +676,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeGeneralCommissioningBreadcrumbCommandParams
     );
-    writeGeneralCommissioningInteractionInfo.put("writeBreadcrumbAttribute", writeGeneralCommissioningBreadcrumbAttributeInteractionInfo);
-    writeAttributeMap.put("generalCommissioning", writeGeneralCommissioningInteractionInfo);
-    Map<String, InteractionInfo> writeNetworkCommissioningInteractionInfo = new LinkedHashMap<>();
+    result.put("writeBreadcrumbAttribute", writeGeneralCommissioningBreadcrumbAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeNetworkCommissioningInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeNetworkCommissioningInterfaceEnabledCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo networkCommissioninginterfaceEnabledCommandParameterInfo =
         new CommandParameterInfo(
@@ -502,23 +703,47 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeNetworkCommissioningInterfaceEnabledCommandParams
     );
-    writeNetworkCommissioningInteractionInfo.put("writeInterfaceEnabledAttribute", writeNetworkCommissioningInterfaceEnabledAttributeInteractionInfo);
-    writeAttributeMap.put("networkCommissioning", writeNetworkCommissioningInteractionInfo);
-    Map<String, InteractionInfo> writeDiagnosticLogsInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("diagnosticLogs", writeDiagnosticLogsInteractionInfo);
-    Map<String, InteractionInfo> writeGeneralDiagnosticsInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("generalDiagnostics", writeGeneralDiagnosticsInteractionInfo);
-    Map<String, InteractionInfo> writeSoftwareDiagnosticsInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("softwareDiagnostics", writeSoftwareDiagnosticsInteractionInfo);
-    Map<String, InteractionInfo> writeThreadNetworkDiagnosticsInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("threadNetworkDiagnostics", writeThreadNetworkDiagnosticsInteractionInfo);
-    Map<String, InteractionInfo> writeWiFiNetworkDiagnosticsInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("wiFiNetworkDiagnostics", writeWiFiNetworkDiagnosticsInteractionInfo);
-    Map<String, InteractionInfo> writeEthernetNetworkDiagnosticsInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("ethernetNetworkDiagnostics", writeEthernetNetworkDiagnosticsInteractionInfo);
-    Map<String, InteractionInfo> writeTimeSynchronizationInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("timeSynchronization", writeTimeSynchronizationInteractionInfo);
-    Map<String, InteractionInfo> writeBridgedDeviceBasicInformationInteractionInfo = new LinkedHashMap<>();
+    result.put("writeInterfaceEnabledAttribute", writeNetworkCommissioningInterfaceEnabledAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeDiagnosticLogsInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeGeneralDiagnosticsInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeSoftwareDiagnosticsInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeThreadNetworkDiagnosticsInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeWiFiNetworkDiagnosticsInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeEthernetNetworkDiagnosticsInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeTimeSynchronizationInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeBridgedDeviceBasicInformationInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeBridgedDeviceBasicInformationNodeLabelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo bridgedDeviceBasicInformationnodeLabelCommandParameterInfo =
         new CommandParameterInfo(
@@ -540,37 +765,82 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeBridgedDeviceBasicInformationNodeLabelCommandParams
     );
-    writeBridgedDeviceBasicInformationInteractionInfo.put("writeNodeLabelAttribute", writeBridgedDeviceBasicInformationNodeLabelAttributeInteractionInfo);
-    writeAttributeMap.put("bridgedDeviceBasicInformation", writeBridgedDeviceBasicInformationInteractionInfo);
-    Map<String, InteractionInfo> writeSwitchInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("switch", writeSwitchInteractionInfo);
-    Map<String, InteractionInfo> writeAdministratorCommissioningInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("administratorCommissioning", writeAdministratorCommissioningInteractionInfo);
-    Map<String, InteractionInfo> writeOperationalCredentialsInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("operationalCredentials", writeOperationalCredentialsInteractionInfo);
-    Map<String, InteractionInfo> writeGroupKeyManagementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("groupKeyManagement", writeGroupKeyManagementInteractionInfo);
-    Map<String, InteractionInfo> writeFixedLabelInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("fixedLabel", writeFixedLabelInteractionInfo);
-    Map<String, InteractionInfo> writeUserLabelInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("userLabel", writeUserLabelInteractionInfo);
-    Map<String, InteractionInfo> writeProxyConfigurationInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("proxyConfiguration", writeProxyConfigurationInteractionInfo);
-    Map<String, InteractionInfo> writeProxyDiscoveryInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("proxyDiscovery", writeProxyDiscoveryInteractionInfo);
-    Map<String, InteractionInfo> writeProxyValidInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("proxyValid", writeProxyValidInteractionInfo);
-    Map<String, InteractionInfo> writeBooleanStateInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("booleanState", writeBooleanStateInteractionInfo);
-    Map<String, InteractionInfo> writeIcdManagementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("icdManagement", writeIcdManagementInteractionInfo);
-    Map<String, InteractionInfo> writeTimerInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("timer", writeTimerInteractionInfo);
-    Map<String, InteractionInfo> writeOvenCavityOperationalStateInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("ovenCavityOperationalState", writeOvenCavityOperationalStateInteractionInfo);
-    Map<String, InteractionInfo> writeOvenModeInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("ovenMode", writeOvenModeInteractionInfo);
-    Map<String, InteractionInfo> writeLaundryDryerControlsInteractionInfo = new LinkedHashMap<>();
+    result.put("writeNodeLabelAttribute", writeBridgedDeviceBasicInformationNodeLabelAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeSwitchInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeAdministratorCommissioningInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeOperationalCredentialsInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeGroupKeyManagementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeFixedLabelInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeUserLabelInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeProxyConfigurationInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeProxyDiscoveryInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeProxyValidInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeBooleanStateInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeIcdManagementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeTimerInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeOvenCavityOperationalStateInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeOvenModeInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeLaundryDryerControlsInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeLaundryDryerControlsSelectedDrynessLevelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo laundryDryerControlsselectedDrynessLevelCommandParameterInfo =
         new CommandParameterInfo(
@@ -592,9 +862,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeLaundryDryerControlsSelectedDrynessLevelCommandParams
     );
-    writeLaundryDryerControlsInteractionInfo.put("writeSelectedDrynessLevelAttribute", writeLaundryDryerControlsSelectedDrynessLevelAttributeInteractionInfo);
-    writeAttributeMap.put("laundryDryerControls", writeLaundryDryerControlsInteractionInfo);
-    Map<String, InteractionInfo> writeModeSelectInteractionInfo = new LinkedHashMap<>();
+    result.put("writeSelectedDrynessLevelAttribute", writeLaundryDryerControlsSelectedDrynessLevelAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeModeSelectInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeModeSelectStartUpModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo modeSelectstartUpModeCommandParameterInfo =
         new CommandParameterInfo(
@@ -616,7 +889,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeModeSelectStartUpModeCommandParams
     );
-    writeModeSelectInteractionInfo.put("writeStartUpModeAttribute", writeModeSelectStartUpModeAttributeInteractionInfo);
+    result.put("writeStartUpModeAttribute", writeModeSelectStartUpModeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeModeSelectOnModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo modeSelectonModeCommandParameterInfo =
         new CommandParameterInfo(
@@ -638,13 +911,22 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeModeSelectOnModeCommandParams
     );
-    writeModeSelectInteractionInfo.put("writeOnModeAttribute", writeModeSelectOnModeAttributeInteractionInfo);
-    writeAttributeMap.put("modeSelect", writeModeSelectInteractionInfo);
-    Map<String, InteractionInfo> writeLaundryWasherModeInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("laundryWasherMode", writeLaundryWasherModeInteractionInfo);
-    Map<String, InteractionInfo> writeRefrigeratorAndTemperatureControlledCabinetModeInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("refrigeratorAndTemperatureControlledCabinetMode", writeRefrigeratorAndTemperatureControlledCabinetModeInteractionInfo);
-    Map<String, InteractionInfo> writeLaundryWasherControlsInteractionInfo = new LinkedHashMap<>();
+    result.put("writeOnModeAttribute", writeModeSelectOnModeAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeLaundryWasherModeInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeRefrigeratorAndTemperatureControlledCabinetModeInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeLaundryWasherControlsInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeLaundryWasherControlsSpinSpeedCurrentCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo laundryWasherControlsspinSpeedCurrentCommandParameterInfo =
         new CommandParameterInfo(
@@ -666,7 +948,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeLaundryWasherControlsSpinSpeedCurrentCommandParams
     );
-    writeLaundryWasherControlsInteractionInfo.put("writeSpinSpeedCurrentAttribute", writeLaundryWasherControlsSpinSpeedCurrentAttributeInteractionInfo);
+    result.put("writeSpinSpeedCurrentAttribute", writeLaundryWasherControlsSpinSpeedCurrentAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeLaundryWasherControlsNumberOfRinsesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo laundryWasherControlsnumberOfRinsesCommandParameterInfo =
         new CommandParameterInfo(
@@ -688,21 +970,42 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeLaundryWasherControlsNumberOfRinsesCommandParams
     );
-    writeLaundryWasherControlsInteractionInfo.put("writeNumberOfRinsesAttribute", writeLaundryWasherControlsNumberOfRinsesAttributeInteractionInfo);
-    writeAttributeMap.put("laundryWasherControls", writeLaundryWasherControlsInteractionInfo);
-    Map<String, InteractionInfo> writeRvcRunModeInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("rvcRunMode", writeRvcRunModeInteractionInfo);
-    Map<String, InteractionInfo> writeRvcCleanModeInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("rvcCleanMode", writeRvcCleanModeInteractionInfo);
-    Map<String, InteractionInfo> writeTemperatureControlInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("temperatureControl", writeTemperatureControlInteractionInfo);
-    Map<String, InteractionInfo> writeRefrigeratorAlarmInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("refrigeratorAlarm", writeRefrigeratorAlarmInteractionInfo);
-    Map<String, InteractionInfo> writeDishwasherModeInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("dishwasherMode", writeDishwasherModeInteractionInfo);
-    Map<String, InteractionInfo> writeAirQualityInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("airQuality", writeAirQualityInteractionInfo);
-    Map<String, InteractionInfo> writeSmokeCoAlarmInteractionInfo = new LinkedHashMap<>();
+    result.put("writeNumberOfRinsesAttribute", writeLaundryWasherControlsNumberOfRinsesAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeRvcRunModeInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeRvcCleanModeInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeTemperatureControlInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeRefrigeratorAlarmInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeDishwasherModeInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeAirQualityInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeSmokeCoAlarmInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeSmokeCoAlarmSmokeSensitivityLevelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo smokeCoAlarmsmokeSensitivityLevelCommandParameterInfo =
         new CommandParameterInfo(
@@ -724,23 +1027,47 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeSmokeCoAlarmSmokeSensitivityLevelCommandParams
     );
-    writeSmokeCoAlarmInteractionInfo.put("writeSmokeSensitivityLevelAttribute", writeSmokeCoAlarmSmokeSensitivityLevelAttributeInteractionInfo);
-    writeAttributeMap.put("smokeCoAlarm", writeSmokeCoAlarmInteractionInfo);
-    Map<String, InteractionInfo> writeDishwasherAlarmInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("dishwasherAlarm", writeDishwasherAlarmInteractionInfo);
-    Map<String, InteractionInfo> writeMicrowaveOvenModeInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("microwaveOvenMode", writeMicrowaveOvenModeInteractionInfo);
-    Map<String, InteractionInfo> writeMicrowaveOvenControlInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("microwaveOvenControl", writeMicrowaveOvenControlInteractionInfo);
-    Map<String, InteractionInfo> writeOperationalStateInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("operationalState", writeOperationalStateInteractionInfo);
-    Map<String, InteractionInfo> writeRvcOperationalStateInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("rvcOperationalState", writeRvcOperationalStateInteractionInfo);
-    Map<String, InteractionInfo> writeScenesManagementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("scenesManagement", writeScenesManagementInteractionInfo);
-    Map<String, InteractionInfo> writeGroupcastInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("groupcast", writeGroupcastInteractionInfo);
-    Map<String, InteractionInfo> writeHepaFilterMonitoringInteractionInfo = new LinkedHashMap<>();
+    result.put("writeSmokeSensitivityLevelAttribute", writeSmokeCoAlarmSmokeSensitivityLevelAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeDishwasherAlarmInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeMicrowaveOvenModeInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeMicrowaveOvenControlInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeOperationalStateInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeRvcOperationalStateInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeScenesManagementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeGroupcastInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeHepaFilterMonitoringInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeHepaFilterMonitoringLastChangedTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo hepaFilterMonitoringlastChangedTimeCommandParameterInfo =
         new CommandParameterInfo(
@@ -762,9 +1089,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeHepaFilterMonitoringLastChangedTimeCommandParams
     );
-    writeHepaFilterMonitoringInteractionInfo.put("writeLastChangedTimeAttribute", writeHepaFilterMonitoringLastChangedTimeAttributeInteractionInfo);
-    writeAttributeMap.put("hepaFilterMonitoring", writeHepaFilterMonitoringInteractionInfo);
-    Map<String, InteractionInfo> writeActivatedCarbonFilterMonitoringInteractionInfo = new LinkedHashMap<>();
+    result.put("writeLastChangedTimeAttribute", writeHepaFilterMonitoringLastChangedTimeAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeActivatedCarbonFilterMonitoringInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeActivatedCarbonFilterMonitoringLastChangedTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo activatedCarbonFilterMonitoringlastChangedTimeCommandParameterInfo =
         new CommandParameterInfo(
@@ -786,9 +1116,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeActivatedCarbonFilterMonitoringLastChangedTimeCommandParams
     );
-    writeActivatedCarbonFilterMonitoringInteractionInfo.put("writeLastChangedTimeAttribute", writeActivatedCarbonFilterMonitoringLastChangedTimeAttributeInteractionInfo);
-    writeAttributeMap.put("activatedCarbonFilterMonitoring", writeActivatedCarbonFilterMonitoringInteractionInfo);
-    Map<String, InteractionInfo> writeWaterTankLevelMonitoringInteractionInfo = new LinkedHashMap<>();
+    result.put("writeLastChangedTimeAttribute", writeActivatedCarbonFilterMonitoringLastChangedTimeAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeWaterTankLevelMonitoringInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeWaterTankLevelMonitoringLastChangedTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo waterTankLevelMonitoringlastChangedTimeCommandParameterInfo =
         new CommandParameterInfo(
@@ -810,9 +1143,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeWaterTankLevelMonitoringLastChangedTimeCommandParams
     );
-    writeWaterTankLevelMonitoringInteractionInfo.put("writeLastChangedTimeAttribute", writeWaterTankLevelMonitoringLastChangedTimeAttributeInteractionInfo);
-    writeAttributeMap.put("waterTankLevelMonitoring", writeWaterTankLevelMonitoringInteractionInfo);
-    Map<String, InteractionInfo> writeBooleanStateConfigurationInteractionInfo = new LinkedHashMap<>();
+    result.put("writeLastChangedTimeAttribute", writeWaterTankLevelMonitoringLastChangedTimeAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeBooleanStateConfigurationInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeBooleanStateConfigurationCurrentSensitivityLevelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo booleanStateConfigurationcurrentSensitivityLevelCommandParameterInfo =
         new CommandParameterInfo(
@@ -834,9 +1170,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeBooleanStateConfigurationCurrentSensitivityLevelCommandParams
     );
-    writeBooleanStateConfigurationInteractionInfo.put("writeCurrentSensitivityLevelAttribute", writeBooleanStateConfigurationCurrentSensitivityLevelAttributeInteractionInfo);
-    writeAttributeMap.put("booleanStateConfiguration", writeBooleanStateConfigurationInteractionInfo);
-    Map<String, InteractionInfo> writeValveConfigurationAndControlInteractionInfo = new LinkedHashMap<>();
+    result.put("writeCurrentSensitivityLevelAttribute", writeBooleanStateConfigurationCurrentSensitivityLevelAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeValveConfigurationAndControlInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeValveConfigurationAndControlDefaultOpenDurationCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo valveConfigurationAndControldefaultOpenDurationCommandParameterInfo =
         new CommandParameterInfo(
@@ -858,7 +1197,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeValveConfigurationAndControlDefaultOpenDurationCommandParams
     );
-    writeValveConfigurationAndControlInteractionInfo.put("writeDefaultOpenDurationAttribute", writeValveConfigurationAndControlDefaultOpenDurationAttributeInteractionInfo);
+    result.put("writeDefaultOpenDurationAttribute", writeValveConfigurationAndControlDefaultOpenDurationAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeValveConfigurationAndControlDefaultOpenLevelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo valveConfigurationAndControldefaultOpenLevelCommandParameterInfo =
         new CommandParameterInfo(
@@ -880,21 +1219,42 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeValveConfigurationAndControlDefaultOpenLevelCommandParams
     );
-    writeValveConfigurationAndControlInteractionInfo.put("writeDefaultOpenLevelAttribute", writeValveConfigurationAndControlDefaultOpenLevelAttributeInteractionInfo);
-    writeAttributeMap.put("valveConfigurationAndControl", writeValveConfigurationAndControlInteractionInfo);
-    Map<String, InteractionInfo> writeElectricalPowerMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("electricalPowerMeasurement", writeElectricalPowerMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writeElectricalEnergyMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("electricalEnergyMeasurement", writeElectricalEnergyMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writeWaterHeaterManagementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("waterHeaterManagement", writeWaterHeaterManagementInteractionInfo);
-    Map<String, InteractionInfo> writeCommodityPriceInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("commodityPrice", writeCommodityPriceInteractionInfo);
-    Map<String, InteractionInfo> writeMessagesInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("messages", writeMessagesInteractionInfo);
-    Map<String, InteractionInfo> writeDeviceEnergyManagementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("deviceEnergyManagement", writeDeviceEnergyManagementInteractionInfo);
-    Map<String, InteractionInfo> writeEnergyEvseInteractionInfo = new LinkedHashMap<>();
+    result.put("writeDefaultOpenLevelAttribute", writeValveConfigurationAndControlDefaultOpenLevelAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeElectricalPowerMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeElectricalEnergyMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeWaterHeaterManagementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeCommodityPriceInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeMessagesInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeDeviceEnergyManagementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeEnergyEvseInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeEnergyEvseUserMaximumChargeCurrentCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo energyEvseuserMaximumChargeCurrentCommandParameterInfo =
         new CommandParameterInfo(
@@ -916,7 +1276,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeEnergyEvseUserMaximumChargeCurrentCommandParams
     );
-    writeEnergyEvseInteractionInfo.put("writeUserMaximumChargeCurrentAttribute", writeEnergyEvseUserMaximumChargeCurrentAttributeInteractionInfo);
+    result.put("writeUserMaximumChargeCurrentAttribute", writeEnergyEvseUserMaximumChargeCurrentAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeEnergyEvseRandomizationDelayWindowCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo energyEvserandomizationDelayWindowCommandParameterInfo =
         new CommandParameterInfo(
@@ -938,7 +1298,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeEnergyEvseRandomizationDelayWindowCommandParams
     );
-    writeEnergyEvseInteractionInfo.put("writeRandomizationDelayWindowAttribute", writeEnergyEvseRandomizationDelayWindowAttributeInteractionInfo);
+    result.put("writeRandomizationDelayWindowAttribute", writeEnergyEvseRandomizationDelayWindowAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeEnergyEvseApproximateEVEfficiencyCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo energyEvseapproximateEVEfficiencyCommandParameterInfo =
         new CommandParameterInfo(
@@ -960,9 +1320,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeEnergyEvseApproximateEVEfficiencyCommandParams
     );
-    writeEnergyEvseInteractionInfo.put("writeApproximateEVEfficiencyAttribute", writeEnergyEvseApproximateEVEfficiencyAttributeInteractionInfo);
-    writeAttributeMap.put("energyEvse", writeEnergyEvseInteractionInfo);
-    Map<String, InteractionInfo> writeEnergyPreferenceInteractionInfo = new LinkedHashMap<>();
+    result.put("writeApproximateEVEfficiencyAttribute", writeEnergyEvseApproximateEVEfficiencyAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeEnergyPreferenceInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeEnergyPreferenceCurrentEnergyBalanceCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo energyPreferencecurrentEnergyBalanceCommandParameterInfo =
         new CommandParameterInfo(
@@ -984,7 +1347,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeEnergyPreferenceCurrentEnergyBalanceCommandParams
     );
-    writeEnergyPreferenceInteractionInfo.put("writeCurrentEnergyBalanceAttribute", writeEnergyPreferenceCurrentEnergyBalanceAttributeInteractionInfo);
+    result.put("writeCurrentEnergyBalanceAttribute", writeEnergyPreferenceCurrentEnergyBalanceAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeEnergyPreferenceCurrentLowPowerModeSensitivityCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo energyPreferencecurrentLowPowerModeSensitivityCommandParameterInfo =
         new CommandParameterInfo(
@@ -1006,17 +1369,32 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeEnergyPreferenceCurrentLowPowerModeSensitivityCommandParams
     );
-    writeEnergyPreferenceInteractionInfo.put("writeCurrentLowPowerModeSensitivityAttribute", writeEnergyPreferenceCurrentLowPowerModeSensitivityAttributeInteractionInfo);
-    writeAttributeMap.put("energyPreference", writeEnergyPreferenceInteractionInfo);
-    Map<String, InteractionInfo> writePowerTopologyInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("powerTopology", writePowerTopologyInteractionInfo);
-    Map<String, InteractionInfo> writeEnergyEvseModeInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("energyEvseMode", writeEnergyEvseModeInteractionInfo);
-    Map<String, InteractionInfo> writeWaterHeaterModeInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("waterHeaterMode", writeWaterHeaterModeInteractionInfo);
-    Map<String, InteractionInfo> writeDeviceEnergyManagementModeInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("deviceEnergyManagementMode", writeDeviceEnergyManagementModeInteractionInfo);
-    Map<String, InteractionInfo> writeElectricalGridConditionsInteractionInfo = new LinkedHashMap<>();
+    result.put("writeCurrentLowPowerModeSensitivityAttribute", writeEnergyPreferenceCurrentLowPowerModeSensitivityAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writePowerTopologyInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeEnergyEvseModeInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeWaterHeaterModeInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeDeviceEnergyManagementModeInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeElectricalGridConditionsInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeElectricalGridConditionsLocalGenerationAvailableCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo electricalGridConditionslocalGenerationAvailableCommandParameterInfo =
         new CommandParameterInfo(
@@ -1038,9 +1416,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeElectricalGridConditionsLocalGenerationAvailableCommandParams
     );
-    writeElectricalGridConditionsInteractionInfo.put("writeLocalGenerationAvailableAttribute", writeElectricalGridConditionsLocalGenerationAvailableAttributeInteractionInfo);
-    writeAttributeMap.put("electricalGridConditions", writeElectricalGridConditionsInteractionInfo);
-    Map<String, InteractionInfo> writeDoorLockInteractionInfo = new LinkedHashMap<>();
+    result.put("writeLocalGenerationAvailableAttribute", writeElectricalGridConditionsLocalGenerationAvailableAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeDoorLockInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeDoorLockDoorOpenEventsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLockdoorOpenEventsCommandParameterInfo =
         new CommandParameterInfo(
@@ -1062,7 +1443,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockDoorOpenEventsCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeDoorOpenEventsAttribute", writeDoorLockDoorOpenEventsAttributeInteractionInfo);
+    result.put("writeDoorOpenEventsAttribute", writeDoorLockDoorOpenEventsAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockDoorClosedEventsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLockdoorClosedEventsCommandParameterInfo =
         new CommandParameterInfo(
@@ -1084,7 +1465,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockDoorClosedEventsCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeDoorClosedEventsAttribute", writeDoorLockDoorClosedEventsAttributeInteractionInfo);
+    result.put("writeDoorClosedEventsAttribute", writeDoorLockDoorClosedEventsAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockOpenPeriodCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLockopenPeriodCommandParameterInfo =
         new CommandParameterInfo(
@@ -1106,7 +1487,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockOpenPeriodCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeOpenPeriodAttribute", writeDoorLockOpenPeriodAttributeInteractionInfo);
+    result.put("writeOpenPeriodAttribute", writeDoorLockOpenPeriodAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockLanguageCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLocklanguageCommandParameterInfo =
         new CommandParameterInfo(
@@ -1128,7 +1509,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockLanguageCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeLanguageAttribute", writeDoorLockLanguageAttributeInteractionInfo);
+    result.put("writeLanguageAttribute", writeDoorLockLanguageAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockLEDSettingsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLockLEDSettingsCommandParameterInfo =
         new CommandParameterInfo(
@@ -1150,7 +1531,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockLEDSettingsCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeLEDSettingsAttribute", writeDoorLockLEDSettingsAttributeInteractionInfo);
+    result.put("writeLEDSettingsAttribute", writeDoorLockLEDSettingsAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockAutoRelockTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLockautoRelockTimeCommandParameterInfo =
         new CommandParameterInfo(
@@ -1172,7 +1553,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockAutoRelockTimeCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeAutoRelockTimeAttribute", writeDoorLockAutoRelockTimeAttributeInteractionInfo);
+    result.put("writeAutoRelockTimeAttribute", writeDoorLockAutoRelockTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockSoundVolumeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLocksoundVolumeCommandParameterInfo =
         new CommandParameterInfo(
@@ -1194,7 +1575,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockSoundVolumeCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeSoundVolumeAttribute", writeDoorLockSoundVolumeAttributeInteractionInfo);
+    result.put("writeSoundVolumeAttribute", writeDoorLockSoundVolumeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockOperatingModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLockoperatingModeCommandParameterInfo =
         new CommandParameterInfo(
@@ -1216,7 +1597,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockOperatingModeCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeOperatingModeAttribute", writeDoorLockOperatingModeAttributeInteractionInfo);
+    result.put("writeOperatingModeAttribute", writeDoorLockOperatingModeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockEnableLocalProgrammingCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLockenableLocalProgrammingCommandParameterInfo =
         new CommandParameterInfo(
@@ -1238,7 +1619,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockEnableLocalProgrammingCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeEnableLocalProgrammingAttribute", writeDoorLockEnableLocalProgrammingAttributeInteractionInfo);
+    result.put("writeEnableLocalProgrammingAttribute", writeDoorLockEnableLocalProgrammingAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockEnableOneTouchLockingCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLockenableOneTouchLockingCommandParameterInfo =
         new CommandParameterInfo(
@@ -1260,7 +1641,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockEnableOneTouchLockingCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeEnableOneTouchLockingAttribute", writeDoorLockEnableOneTouchLockingAttributeInteractionInfo);
+    result.put("writeEnableOneTouchLockingAttribute", writeDoorLockEnableOneTouchLockingAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockEnableInsideStatusLEDCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLockenableInsideStatusLEDCommandParameterInfo =
         new CommandParameterInfo(
@@ -1282,7 +1663,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockEnableInsideStatusLEDCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeEnableInsideStatusLEDAttribute", writeDoorLockEnableInsideStatusLEDAttributeInteractionInfo);
+    result.put("writeEnableInsideStatusLEDAttribute", writeDoorLockEnableInsideStatusLEDAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockEnablePrivacyModeButtonCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLockenablePrivacyModeButtonCommandParameterInfo =
         new CommandParameterInfo(
@@ -1304,7 +1685,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockEnablePrivacyModeButtonCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeEnablePrivacyModeButtonAttribute", writeDoorLockEnablePrivacyModeButtonAttributeInteractionInfo);
+    result.put("writeEnablePrivacyModeButtonAttribute", writeDoorLockEnablePrivacyModeButtonAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockLocalProgrammingFeaturesCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLocklocalProgrammingFeaturesCommandParameterInfo =
         new CommandParameterInfo(
@@ -1326,7 +1707,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockLocalProgrammingFeaturesCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeLocalProgrammingFeaturesAttribute", writeDoorLockLocalProgrammingFeaturesAttributeInteractionInfo);
+    result.put("writeLocalProgrammingFeaturesAttribute", writeDoorLockLocalProgrammingFeaturesAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockWrongCodeEntryLimitCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLockwrongCodeEntryLimitCommandParameterInfo =
         new CommandParameterInfo(
@@ -1348,7 +1729,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockWrongCodeEntryLimitCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeWrongCodeEntryLimitAttribute", writeDoorLockWrongCodeEntryLimitAttributeInteractionInfo);
+    result.put("writeWrongCodeEntryLimitAttribute", writeDoorLockWrongCodeEntryLimitAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockUserCodeTemporaryDisableTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLockuserCodeTemporaryDisableTimeCommandParameterInfo =
         new CommandParameterInfo(
@@ -1370,7 +1751,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockUserCodeTemporaryDisableTimeCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeUserCodeTemporaryDisableTimeAttribute", writeDoorLockUserCodeTemporaryDisableTimeAttributeInteractionInfo);
+    result.put("writeUserCodeTemporaryDisableTimeAttribute", writeDoorLockUserCodeTemporaryDisableTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockSendPINOverTheAirCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLocksendPINOverTheAirCommandParameterInfo =
         new CommandParameterInfo(
@@ -1392,7 +1773,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockSendPINOverTheAirCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeSendPINOverTheAirAttribute", writeDoorLockSendPINOverTheAirAttributeInteractionInfo);
+    result.put("writeSendPINOverTheAirAttribute", writeDoorLockSendPINOverTheAirAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockRequirePINforRemoteOperationCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLockrequirePINforRemoteOperationCommandParameterInfo =
         new CommandParameterInfo(
@@ -1414,7 +1795,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockRequirePINforRemoteOperationCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeRequirePINforRemoteOperationAttribute", writeDoorLockRequirePINforRemoteOperationAttributeInteractionInfo);
+    result.put("writeRequirePINforRemoteOperationAttribute", writeDoorLockRequirePINforRemoteOperationAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockExpiringUserTimeoutCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo doorLockexpiringUserTimeoutCommandParameterInfo =
         new CommandParameterInfo(
@@ -1436,9 +1817,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeDoorLockExpiringUserTimeoutCommandParams
     );
-    writeDoorLockInteractionInfo.put("writeExpiringUserTimeoutAttribute", writeDoorLockExpiringUserTimeoutAttributeInteractionInfo);
-    writeAttributeMap.put("doorLock", writeDoorLockInteractionInfo);
-    Map<String, InteractionInfo> writeWindowCoveringInteractionInfo = new LinkedHashMap<>();
+    result.put("writeExpiringUserTimeoutAttribute", writeDoorLockExpiringUserTimeoutAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeWindowCoveringInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeWindowCoveringModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo windowCoveringmodeCommandParameterInfo =
         new CommandParameterInfo(
@@ -1460,15 +1844,27 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeWindowCoveringModeCommandParams
     );
-    writeWindowCoveringInteractionInfo.put("writeModeAttribute", writeWindowCoveringModeAttributeInteractionInfo);
-    writeAttributeMap.put("windowCovering", writeWindowCoveringInteractionInfo);
-    Map<String, InteractionInfo> writeClosureControlInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("closureControl", writeClosureControlInteractionInfo);
-    Map<String, InteractionInfo> writeClosureDimensionInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("closureDimension", writeClosureDimensionInteractionInfo);
-    Map<String, InteractionInfo> writeServiceAreaInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("serviceArea", writeServiceAreaInteractionInfo);
-    Map<String, InteractionInfo> writePumpConfigurationAndControlInteractionInfo = new LinkedHashMap<>();
+    result.put("writeModeAttribute", writeWindowCoveringModeAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeClosureControlInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeClosureDimensionInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeServiceAreaInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writePumpConfigurationAndControlInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writePumpConfigurationAndControlLifetimeRunningHoursCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo pumpConfigurationAndControllifetimeRunningHoursCommandParameterInfo =
         new CommandParameterInfo(
@@ -1490,7 +1886,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writePumpConfigurationAndControlLifetimeRunningHoursCommandParams
     );
-    writePumpConfigurationAndControlInteractionInfo.put("writeLifetimeRunningHoursAttribute", writePumpConfigurationAndControlLifetimeRunningHoursAttributeInteractionInfo);
+    result.put("writeLifetimeRunningHoursAttribute", writePumpConfigurationAndControlLifetimeRunningHoursAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writePumpConfigurationAndControlLifetimeEnergyConsumedCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo pumpConfigurationAndControllifetimeEnergyConsumedCommandParameterInfo =
         new CommandParameterInfo(
@@ -1512,7 +1908,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writePumpConfigurationAndControlLifetimeEnergyConsumedCommandParams
     );
-    writePumpConfigurationAndControlInteractionInfo.put("writeLifetimeEnergyConsumedAttribute", writePumpConfigurationAndControlLifetimeEnergyConsumedAttributeInteractionInfo);
+    result.put("writeLifetimeEnergyConsumedAttribute", writePumpConfigurationAndControlLifetimeEnergyConsumedAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writePumpConfigurationAndControlOperationModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo pumpConfigurationAndControloperationModeCommandParameterInfo =
         new CommandParameterInfo(
@@ -1534,7 +1930,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writePumpConfigurationAndControlOperationModeCommandParams
     );
-    writePumpConfigurationAndControlInteractionInfo.put("writeOperationModeAttribute", writePumpConfigurationAndControlOperationModeAttributeInteractionInfo);
+    result.put("writeOperationModeAttribute", writePumpConfigurationAndControlOperationModeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writePumpConfigurationAndControlControlModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo pumpConfigurationAndControlcontrolModeCommandParameterInfo =
         new CommandParameterInfo(
@@ -1556,9 +1952,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writePumpConfigurationAndControlControlModeCommandParams
     );
-    writePumpConfigurationAndControlInteractionInfo.put("writeControlModeAttribute", writePumpConfigurationAndControlControlModeAttributeInteractionInfo);
-    writeAttributeMap.put("pumpConfigurationAndControl", writePumpConfigurationAndControlInteractionInfo);
-    Map<String, InteractionInfo> writeThermostatInteractionInfo = new LinkedHashMap<>();
+    result.put("writeControlModeAttribute", writePumpConfigurationAndControlControlModeAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeThermostatInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeThermostatHVACSystemTypeConfigurationCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatHVACSystemTypeConfigurationCommandParameterInfo =
         new CommandParameterInfo(
@@ -1580,7 +1979,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatHVACSystemTypeConfigurationCommandParams
     );
-    writeThermostatInteractionInfo.put("writeHVACSystemTypeConfigurationAttribute", writeThermostatHVACSystemTypeConfigurationAttributeInteractionInfo);
+    result.put("writeHVACSystemTypeConfigurationAttribute", writeThermostatHVACSystemTypeConfigurationAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatLocalTemperatureCalibrationCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatlocalTemperatureCalibrationCommandParameterInfo =
         new CommandParameterInfo(
@@ -1602,7 +2001,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatLocalTemperatureCalibrationCommandParams
     );
-    writeThermostatInteractionInfo.put("writeLocalTemperatureCalibrationAttribute", writeThermostatLocalTemperatureCalibrationAttributeInteractionInfo);
+    result.put("writeLocalTemperatureCalibrationAttribute", writeThermostatLocalTemperatureCalibrationAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatOccupiedCoolingSetpointCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatoccupiedCoolingSetpointCommandParameterInfo =
         new CommandParameterInfo(
@@ -1624,7 +2023,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatOccupiedCoolingSetpointCommandParams
     );
-    writeThermostatInteractionInfo.put("writeOccupiedCoolingSetpointAttribute", writeThermostatOccupiedCoolingSetpointAttributeInteractionInfo);
+    result.put("writeOccupiedCoolingSetpointAttribute", writeThermostatOccupiedCoolingSetpointAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatOccupiedHeatingSetpointCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatoccupiedHeatingSetpointCommandParameterInfo =
         new CommandParameterInfo(
@@ -1646,7 +2045,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatOccupiedHeatingSetpointCommandParams
     );
-    writeThermostatInteractionInfo.put("writeOccupiedHeatingSetpointAttribute", writeThermostatOccupiedHeatingSetpointAttributeInteractionInfo);
+    result.put("writeOccupiedHeatingSetpointAttribute", writeThermostatOccupiedHeatingSetpointAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatUnoccupiedCoolingSetpointCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatunoccupiedCoolingSetpointCommandParameterInfo =
         new CommandParameterInfo(
@@ -1668,7 +2067,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatUnoccupiedCoolingSetpointCommandParams
     );
-    writeThermostatInteractionInfo.put("writeUnoccupiedCoolingSetpointAttribute", writeThermostatUnoccupiedCoolingSetpointAttributeInteractionInfo);
+    result.put("writeUnoccupiedCoolingSetpointAttribute", writeThermostatUnoccupiedCoolingSetpointAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatUnoccupiedHeatingSetpointCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatunoccupiedHeatingSetpointCommandParameterInfo =
         new CommandParameterInfo(
@@ -1690,7 +2089,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatUnoccupiedHeatingSetpointCommandParams
     );
-    writeThermostatInteractionInfo.put("writeUnoccupiedHeatingSetpointAttribute", writeThermostatUnoccupiedHeatingSetpointAttributeInteractionInfo);
+    result.put("writeUnoccupiedHeatingSetpointAttribute", writeThermostatUnoccupiedHeatingSetpointAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatMinHeatSetpointLimitCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatminHeatSetpointLimitCommandParameterInfo =
         new CommandParameterInfo(
@@ -1712,7 +2111,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatMinHeatSetpointLimitCommandParams
     );
-    writeThermostatInteractionInfo.put("writeMinHeatSetpointLimitAttribute", writeThermostatMinHeatSetpointLimitAttributeInteractionInfo);
+    result.put("writeMinHeatSetpointLimitAttribute", writeThermostatMinHeatSetpointLimitAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatMaxHeatSetpointLimitCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatmaxHeatSetpointLimitCommandParameterInfo =
         new CommandParameterInfo(
@@ -1734,7 +2133,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatMaxHeatSetpointLimitCommandParams
     );
-    writeThermostatInteractionInfo.put("writeMaxHeatSetpointLimitAttribute", writeThermostatMaxHeatSetpointLimitAttributeInteractionInfo);
+    result.put("writeMaxHeatSetpointLimitAttribute", writeThermostatMaxHeatSetpointLimitAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatMinCoolSetpointLimitCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatminCoolSetpointLimitCommandParameterInfo =
         new CommandParameterInfo(
@@ -1756,7 +2155,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatMinCoolSetpointLimitCommandParams
     );
-    writeThermostatInteractionInfo.put("writeMinCoolSetpointLimitAttribute", writeThermostatMinCoolSetpointLimitAttributeInteractionInfo);
+    result.put("writeMinCoolSetpointLimitAttribute", writeThermostatMinCoolSetpointLimitAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatMaxCoolSetpointLimitCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatmaxCoolSetpointLimitCommandParameterInfo =
         new CommandParameterInfo(
@@ -1778,7 +2177,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatMaxCoolSetpointLimitCommandParams
     );
-    writeThermostatInteractionInfo.put("writeMaxCoolSetpointLimitAttribute", writeThermostatMaxCoolSetpointLimitAttributeInteractionInfo);
+    result.put("writeMaxCoolSetpointLimitAttribute", writeThermostatMaxCoolSetpointLimitAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatMinSetpointDeadBandCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatminSetpointDeadBandCommandParameterInfo =
         new CommandParameterInfo(
@@ -1800,7 +2199,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatMinSetpointDeadBandCommandParams
     );
-    writeThermostatInteractionInfo.put("writeMinSetpointDeadBandAttribute", writeThermostatMinSetpointDeadBandAttributeInteractionInfo);
+    result.put("writeMinSetpointDeadBandAttribute", writeThermostatMinSetpointDeadBandAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatRemoteSensingCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatremoteSensingCommandParameterInfo =
         new CommandParameterInfo(
@@ -1822,7 +2221,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatRemoteSensingCommandParams
     );
-    writeThermostatInteractionInfo.put("writeRemoteSensingAttribute", writeThermostatRemoteSensingAttributeInteractionInfo);
+    result.put("writeRemoteSensingAttribute", writeThermostatRemoteSensingAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatControlSequenceOfOperationCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatcontrolSequenceOfOperationCommandParameterInfo =
         new CommandParameterInfo(
@@ -1844,7 +2243,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatControlSequenceOfOperationCommandParams
     );
-    writeThermostatInteractionInfo.put("writeControlSequenceOfOperationAttribute", writeThermostatControlSequenceOfOperationAttributeInteractionInfo);
+    result.put("writeControlSequenceOfOperationAttribute", writeThermostatControlSequenceOfOperationAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatSystemModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatsystemModeCommandParameterInfo =
         new CommandParameterInfo(
@@ -1866,7 +2265,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatSystemModeCommandParams
     );
-    writeThermostatInteractionInfo.put("writeSystemModeAttribute", writeThermostatSystemModeAttributeInteractionInfo);
+    result.put("writeSystemModeAttribute", writeThermostatSystemModeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatTemperatureSetpointHoldCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostattemperatureSetpointHoldCommandParameterInfo =
         new CommandParameterInfo(
@@ -1888,7 +2287,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatTemperatureSetpointHoldCommandParams
     );
-    writeThermostatInteractionInfo.put("writeTemperatureSetpointHoldAttribute", writeThermostatTemperatureSetpointHoldAttributeInteractionInfo);
+    result.put("writeTemperatureSetpointHoldAttribute", writeThermostatTemperatureSetpointHoldAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatTemperatureSetpointHoldDurationCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostattemperatureSetpointHoldDurationCommandParameterInfo =
         new CommandParameterInfo(
@@ -1910,7 +2309,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatTemperatureSetpointHoldDurationCommandParams
     );
-    writeThermostatInteractionInfo.put("writeTemperatureSetpointHoldDurationAttribute", writeThermostatTemperatureSetpointHoldDurationAttributeInteractionInfo);
+    result.put("writeTemperatureSetpointHoldDurationAttribute", writeThermostatTemperatureSetpointHoldDurationAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatThermostatProgrammingOperationModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatthermostatProgrammingOperationModeCommandParameterInfo =
         new CommandParameterInfo(
@@ -1932,7 +2331,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatThermostatProgrammingOperationModeCommandParams
     );
-    writeThermostatInteractionInfo.put("writeThermostatProgrammingOperationModeAttribute", writeThermostatThermostatProgrammingOperationModeAttributeInteractionInfo);
+    result.put("writeThermostatProgrammingOperationModeAttribute", writeThermostatThermostatProgrammingOperationModeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatOccupiedSetbackCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatoccupiedSetbackCommandParameterInfo =
         new CommandParameterInfo(
@@ -1954,7 +2353,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatOccupiedSetbackCommandParams
     );
-    writeThermostatInteractionInfo.put("writeOccupiedSetbackAttribute", writeThermostatOccupiedSetbackAttributeInteractionInfo);
+    result.put("writeOccupiedSetbackAttribute", writeThermostatOccupiedSetbackAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatUnoccupiedSetbackCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatunoccupiedSetbackCommandParameterInfo =
         new CommandParameterInfo(
@@ -1976,7 +2375,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatUnoccupiedSetbackCommandParams
     );
-    writeThermostatInteractionInfo.put("writeUnoccupiedSetbackAttribute", writeThermostatUnoccupiedSetbackAttributeInteractionInfo);
+    result.put("writeUnoccupiedSetbackAttribute", writeThermostatUnoccupiedSetbackAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatEmergencyHeatDeltaCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatemergencyHeatDeltaCommandParameterInfo =
         new CommandParameterInfo(
@@ -1998,7 +2397,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatEmergencyHeatDeltaCommandParams
     );
-    writeThermostatInteractionInfo.put("writeEmergencyHeatDeltaAttribute", writeThermostatEmergencyHeatDeltaAttributeInteractionInfo);
+    result.put("writeEmergencyHeatDeltaAttribute", writeThermostatEmergencyHeatDeltaAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatACTypeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatACTypeCommandParameterInfo =
         new CommandParameterInfo(
@@ -2020,7 +2419,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatACTypeCommandParams
     );
-    writeThermostatInteractionInfo.put("writeACTypeAttribute", writeThermostatACTypeAttributeInteractionInfo);
+    result.put("writeACTypeAttribute", writeThermostatACTypeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatACCapacityCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatACCapacityCommandParameterInfo =
         new CommandParameterInfo(
@@ -2042,7 +2441,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatACCapacityCommandParams
     );
-    writeThermostatInteractionInfo.put("writeACCapacityAttribute", writeThermostatACCapacityAttributeInteractionInfo);
+    result.put("writeACCapacityAttribute", writeThermostatACCapacityAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatACRefrigerantTypeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatACRefrigerantTypeCommandParameterInfo =
         new CommandParameterInfo(
@@ -2064,7 +2463,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatACRefrigerantTypeCommandParams
     );
-    writeThermostatInteractionInfo.put("writeACRefrigerantTypeAttribute", writeThermostatACRefrigerantTypeAttributeInteractionInfo);
+    result.put("writeACRefrigerantTypeAttribute", writeThermostatACRefrigerantTypeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatACCompressorTypeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatACCompressorTypeCommandParameterInfo =
         new CommandParameterInfo(
@@ -2086,7 +2485,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatACCompressorTypeCommandParams
     );
-    writeThermostatInteractionInfo.put("writeACCompressorTypeAttribute", writeThermostatACCompressorTypeAttributeInteractionInfo);
+    result.put("writeACCompressorTypeAttribute", writeThermostatACCompressorTypeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatACErrorCodeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatACErrorCodeCommandParameterInfo =
         new CommandParameterInfo(
@@ -2108,7 +2507,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatACErrorCodeCommandParams
     );
-    writeThermostatInteractionInfo.put("writeACErrorCodeAttribute", writeThermostatACErrorCodeAttributeInteractionInfo);
+    result.put("writeACErrorCodeAttribute", writeThermostatACErrorCodeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatACLouverPositionCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatACLouverPositionCommandParameterInfo =
         new CommandParameterInfo(
@@ -2130,7 +2529,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatACLouverPositionCommandParams
     );
-    writeThermostatInteractionInfo.put("writeACLouverPositionAttribute", writeThermostatACLouverPositionAttributeInteractionInfo);
+    result.put("writeACLouverPositionAttribute", writeThermostatACLouverPositionAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatACCapacityformatCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatACCapacityformatCommandParameterInfo =
         new CommandParameterInfo(
@@ -2152,9 +2551,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatACCapacityformatCommandParams
     );
-    writeThermostatInteractionInfo.put("writeACCapacityformatAttribute", writeThermostatACCapacityformatAttributeInteractionInfo);
-    writeAttributeMap.put("thermostat", writeThermostatInteractionInfo);
-    Map<String, InteractionInfo> writeFanControlInteractionInfo = new LinkedHashMap<>();
+    result.put("writeACCapacityformatAttribute", writeThermostatACCapacityformatAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeFanControlInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeFanControlFanModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo fanControlfanModeCommandParameterInfo =
         new CommandParameterInfo(
@@ -2176,7 +2578,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeFanControlFanModeCommandParams
     );
-    writeFanControlInteractionInfo.put("writeFanModeAttribute", writeFanControlFanModeAttributeInteractionInfo);
+    result.put("writeFanModeAttribute", writeFanControlFanModeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeFanControlPercentSettingCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo fanControlpercentSettingCommandParameterInfo =
         new CommandParameterInfo(
@@ -2198,7 +2600,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeFanControlPercentSettingCommandParams
     );
-    writeFanControlInteractionInfo.put("writePercentSettingAttribute", writeFanControlPercentSettingAttributeInteractionInfo);
+    result.put("writePercentSettingAttribute", writeFanControlPercentSettingAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeFanControlSpeedSettingCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo fanControlspeedSettingCommandParameterInfo =
         new CommandParameterInfo(
@@ -2220,7 +2622,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeFanControlSpeedSettingCommandParams
     );
-    writeFanControlInteractionInfo.put("writeSpeedSettingAttribute", writeFanControlSpeedSettingAttributeInteractionInfo);
+    result.put("writeSpeedSettingAttribute", writeFanControlSpeedSettingAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeFanControlRockSettingCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo fanControlrockSettingCommandParameterInfo =
         new CommandParameterInfo(
@@ -2242,7 +2644,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeFanControlRockSettingCommandParams
     );
-    writeFanControlInteractionInfo.put("writeRockSettingAttribute", writeFanControlRockSettingAttributeInteractionInfo);
+    result.put("writeRockSettingAttribute", writeFanControlRockSettingAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeFanControlWindSettingCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo fanControlwindSettingCommandParameterInfo =
         new CommandParameterInfo(
@@ -2264,7 +2666,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeFanControlWindSettingCommandParams
     );
-    writeFanControlInteractionInfo.put("writeWindSettingAttribute", writeFanControlWindSettingAttributeInteractionInfo);
+    result.put("writeWindSettingAttribute", writeFanControlWindSettingAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeFanControlAirflowDirectionCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo fanControlairflowDirectionCommandParameterInfo =
         new CommandParameterInfo(
@@ -2286,9 +2688,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeFanControlAirflowDirectionCommandParams
     );
-    writeFanControlInteractionInfo.put("writeAirflowDirectionAttribute", writeFanControlAirflowDirectionAttributeInteractionInfo);
-    writeAttributeMap.put("fanControl", writeFanControlInteractionInfo);
-    Map<String, InteractionInfo> writeThermostatUserInterfaceConfigurationInteractionInfo = new LinkedHashMap<>();
+    result.put("writeAirflowDirectionAttribute", writeFanControlAirflowDirectionAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeThermostatUserInterfaceConfigurationInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeThermostatUserInterfaceConfigurationTemperatureDisplayModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatUserInterfaceConfigurationtemperatureDisplayModeCommandParameterInfo =
         new CommandParameterInfo(
@@ -2310,7 +2715,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatUserInterfaceConfigurationTemperatureDisplayModeCommandParams
     );
-    writeThermostatUserInterfaceConfigurationInteractionInfo.put("writeTemperatureDisplayModeAttribute", writeThermostatUserInterfaceConfigurationTemperatureDisplayModeAttributeInteractionInfo);
+    result.put("writeTemperatureDisplayModeAttribute", writeThermostatUserInterfaceConfigurationTemperatureDisplayModeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatUserInterfaceConfigurationKeypadLockoutCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatUserInterfaceConfigurationkeypadLockoutCommandParameterInfo =
         new CommandParameterInfo(
@@ -2332,7 +2737,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatUserInterfaceConfigurationKeypadLockoutCommandParams
     );
-    writeThermostatUserInterfaceConfigurationInteractionInfo.put("writeKeypadLockoutAttribute", writeThermostatUserInterfaceConfigurationKeypadLockoutAttributeInteractionInfo);
+    result.put("writeKeypadLockoutAttribute", writeThermostatUserInterfaceConfigurationKeypadLockoutAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeThermostatUserInterfaceConfigurationScheduleProgrammingVisibilityCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo thermostatUserInterfaceConfigurationscheduleProgrammingVisibilityCommandParameterInfo =
         new CommandParameterInfo(
@@ -2354,9 +2759,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThermostatUserInterfaceConfigurationScheduleProgrammingVisibilityCommandParams
     );
-    writeThermostatUserInterfaceConfigurationInteractionInfo.put("writeScheduleProgrammingVisibilityAttribute", writeThermostatUserInterfaceConfigurationScheduleProgrammingVisibilityAttributeInteractionInfo);
-    writeAttributeMap.put("thermostatUserInterfaceConfiguration", writeThermostatUserInterfaceConfigurationInteractionInfo);
-    Map<String, InteractionInfo> writeColorControlInteractionInfo = new LinkedHashMap<>();
+    result.put("writeScheduleProgrammingVisibilityAttribute", writeThermostatUserInterfaceConfigurationScheduleProgrammingVisibilityAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeColorControlInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeColorControlOptionsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo colorControloptionsCommandParameterInfo =
         new CommandParameterInfo(
@@ -2378,7 +2786,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeColorControlOptionsCommandParams
     );
-    writeColorControlInteractionInfo.put("writeOptionsAttribute", writeColorControlOptionsAttributeInteractionInfo);
+    result.put("writeOptionsAttribute", writeColorControlOptionsAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeColorControlStartUpColorTemperatureMiredsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo colorControlstartUpColorTemperatureMiredsCommandParameterInfo =
         new CommandParameterInfo(
@@ -2400,9 +2808,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeColorControlStartUpColorTemperatureMiredsCommandParams
     );
-    writeColorControlInteractionInfo.put("writeStartUpColorTemperatureMiredsAttribute", writeColorControlStartUpColorTemperatureMiredsAttributeInteractionInfo);
-    writeAttributeMap.put("colorControl", writeColorControlInteractionInfo);
-    Map<String, InteractionInfo> writeBallastConfigurationInteractionInfo = new LinkedHashMap<>();
+    result.put("writeStartUpColorTemperatureMiredsAttribute", writeColorControlStartUpColorTemperatureMiredsAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeBallastConfigurationInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeBallastConfigurationMinLevelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo ballastConfigurationminLevelCommandParameterInfo =
         new CommandParameterInfo(
@@ -2424,7 +2835,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeBallastConfigurationMinLevelCommandParams
     );
-    writeBallastConfigurationInteractionInfo.put("writeMinLevelAttribute", writeBallastConfigurationMinLevelAttributeInteractionInfo);
+    result.put("writeMinLevelAttribute", writeBallastConfigurationMinLevelAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeBallastConfigurationMaxLevelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo ballastConfigurationmaxLevelCommandParameterInfo =
         new CommandParameterInfo(
@@ -2446,7 +2857,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeBallastConfigurationMaxLevelCommandParams
     );
-    writeBallastConfigurationInteractionInfo.put("writeMaxLevelAttribute", writeBallastConfigurationMaxLevelAttributeInteractionInfo);
+    result.put("writeMaxLevelAttribute", writeBallastConfigurationMaxLevelAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeBallastConfigurationIntrinsicBallastFactorCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo ballastConfigurationintrinsicBallastFactorCommandParameterInfo =
         new CommandParameterInfo(
@@ -2468,7 +2879,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeBallastConfigurationIntrinsicBallastFactorCommandParams
     );
-    writeBallastConfigurationInteractionInfo.put("writeIntrinsicBallastFactorAttribute", writeBallastConfigurationIntrinsicBallastFactorAttributeInteractionInfo);
+    result.put("writeIntrinsicBallastFactorAttribute", writeBallastConfigurationIntrinsicBallastFactorAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeBallastConfigurationBallastFactorAdjustmentCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo ballastConfigurationballastFactorAdjustmentCommandParameterInfo =
         new CommandParameterInfo(
@@ -2490,7 +2901,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeBallastConfigurationBallastFactorAdjustmentCommandParams
     );
-    writeBallastConfigurationInteractionInfo.put("writeBallastFactorAdjustmentAttribute", writeBallastConfigurationBallastFactorAdjustmentAttributeInteractionInfo);
+    result.put("writeBallastFactorAdjustmentAttribute", writeBallastConfigurationBallastFactorAdjustmentAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeBallastConfigurationLampTypeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo ballastConfigurationlampTypeCommandParameterInfo =
         new CommandParameterInfo(
@@ -2512,7 +2923,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeBallastConfigurationLampTypeCommandParams
     );
-    writeBallastConfigurationInteractionInfo.put("writeLampTypeAttribute", writeBallastConfigurationLampTypeAttributeInteractionInfo);
+    result.put("writeLampTypeAttribute", writeBallastConfigurationLampTypeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeBallastConfigurationLampManufacturerCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo ballastConfigurationlampManufacturerCommandParameterInfo =
         new CommandParameterInfo(
@@ -2534,7 +2945,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeBallastConfigurationLampManufacturerCommandParams
     );
-    writeBallastConfigurationInteractionInfo.put("writeLampManufacturerAttribute", writeBallastConfigurationLampManufacturerAttributeInteractionInfo);
+    result.put("writeLampManufacturerAttribute", writeBallastConfigurationLampManufacturerAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeBallastConfigurationLampRatedHoursCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo ballastConfigurationlampRatedHoursCommandParameterInfo =
         new CommandParameterInfo(
@@ -2556,7 +2967,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeBallastConfigurationLampRatedHoursCommandParams
     );
-    writeBallastConfigurationInteractionInfo.put("writeLampRatedHoursAttribute", writeBallastConfigurationLampRatedHoursAttributeInteractionInfo);
+    result.put("writeLampRatedHoursAttribute", writeBallastConfigurationLampRatedHoursAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeBallastConfigurationLampBurnHoursCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo ballastConfigurationlampBurnHoursCommandParameterInfo =
         new CommandParameterInfo(
@@ -2578,7 +2989,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeBallastConfigurationLampBurnHoursCommandParams
     );
-    writeBallastConfigurationInteractionInfo.put("writeLampBurnHoursAttribute", writeBallastConfigurationLampBurnHoursAttributeInteractionInfo);
+    result.put("writeLampBurnHoursAttribute", writeBallastConfigurationLampBurnHoursAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeBallastConfigurationLampAlarmModeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo ballastConfigurationlampAlarmModeCommandParameterInfo =
         new CommandParameterInfo(
@@ -2600,7 +3011,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeBallastConfigurationLampAlarmModeCommandParams
     );
-    writeBallastConfigurationInteractionInfo.put("writeLampAlarmModeAttribute", writeBallastConfigurationLampAlarmModeAttributeInteractionInfo);
+    result.put("writeLampAlarmModeAttribute", writeBallastConfigurationLampAlarmModeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeBallastConfigurationLampBurnHoursTripPointCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo ballastConfigurationlampBurnHoursTripPointCommandParameterInfo =
         new CommandParameterInfo(
@@ -2622,19 +3033,37 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeBallastConfigurationLampBurnHoursTripPointCommandParams
     );
-    writeBallastConfigurationInteractionInfo.put("writeLampBurnHoursTripPointAttribute", writeBallastConfigurationLampBurnHoursTripPointAttributeInteractionInfo);
-    writeAttributeMap.put("ballastConfiguration", writeBallastConfigurationInteractionInfo);
-    Map<String, InteractionInfo> writeIlluminanceMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("illuminanceMeasurement", writeIlluminanceMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writeTemperatureMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("temperatureMeasurement", writeTemperatureMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writePressureMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("pressureMeasurement", writePressureMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writeFlowMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("flowMeasurement", writeFlowMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writeRelativeHumidityMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("relativeHumidityMeasurement", writeRelativeHumidityMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writeOccupancySensingInteractionInfo = new LinkedHashMap<>();
+    result.put("writeLampBurnHoursTripPointAttribute", writeBallastConfigurationLampBurnHoursTripPointAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeIlluminanceMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeTemperatureMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writePressureMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeFlowMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeRelativeHumidityMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeOccupancySensingInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeOccupancySensingHoldTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo occupancySensingholdTimeCommandParameterInfo =
         new CommandParameterInfo(
@@ -2656,7 +3085,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeOccupancySensingHoldTimeCommandParams
     );
-    writeOccupancySensingInteractionInfo.put("writeHoldTimeAttribute", writeOccupancySensingHoldTimeAttributeInteractionInfo);
+    result.put("writeHoldTimeAttribute", writeOccupancySensingHoldTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeOccupancySensingPIROccupiedToUnoccupiedDelayCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo occupancySensingPIROccupiedToUnoccupiedDelayCommandParameterInfo =
         new CommandParameterInfo(
@@ -2678,7 +3107,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeOccupancySensingPIROccupiedToUnoccupiedDelayCommandParams
     );
-    writeOccupancySensingInteractionInfo.put("writePIROccupiedToUnoccupiedDelayAttribute", writeOccupancySensingPIROccupiedToUnoccupiedDelayAttributeInteractionInfo);
+    result.put("writePIROccupiedToUnoccupiedDelayAttribute", writeOccupancySensingPIROccupiedToUnoccupiedDelayAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeOccupancySensingPIRUnoccupiedToOccupiedDelayCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo occupancySensingPIRUnoccupiedToOccupiedDelayCommandParameterInfo =
         new CommandParameterInfo(
@@ -2700,7 +3129,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeOccupancySensingPIRUnoccupiedToOccupiedDelayCommandParams
     );
-    writeOccupancySensingInteractionInfo.put("writePIRUnoccupiedToOccupiedDelayAttribute", writeOccupancySensingPIRUnoccupiedToOccupiedDelayAttributeInteractionInfo);
+    result.put("writePIRUnoccupiedToOccupiedDelayAttribute", writeOccupancySensingPIRUnoccupiedToOccupiedDelayAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeOccupancySensingPIRUnoccupiedToOccupiedThresholdCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo occupancySensingPIRUnoccupiedToOccupiedThresholdCommandParameterInfo =
         new CommandParameterInfo(
@@ -2722,7 +3151,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeOccupancySensingPIRUnoccupiedToOccupiedThresholdCommandParams
     );
-    writeOccupancySensingInteractionInfo.put("writePIRUnoccupiedToOccupiedThresholdAttribute", writeOccupancySensingPIRUnoccupiedToOccupiedThresholdAttributeInteractionInfo);
+    result.put("writePIRUnoccupiedToOccupiedThresholdAttribute", writeOccupancySensingPIRUnoccupiedToOccupiedThresholdAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeOccupancySensingUltrasonicOccupiedToUnoccupiedDelayCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo occupancySensingultrasonicOccupiedToUnoccupiedDelayCommandParameterInfo =
         new CommandParameterInfo(
@@ -2744,7 +3173,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeOccupancySensingUltrasonicOccupiedToUnoccupiedDelayCommandParams
     );
-    writeOccupancySensingInteractionInfo.put("writeUltrasonicOccupiedToUnoccupiedDelayAttribute", writeOccupancySensingUltrasonicOccupiedToUnoccupiedDelayAttributeInteractionInfo);
+    result.put("writeUltrasonicOccupiedToUnoccupiedDelayAttribute", writeOccupancySensingUltrasonicOccupiedToUnoccupiedDelayAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeOccupancySensingUltrasonicUnoccupiedToOccupiedDelayCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo occupancySensingultrasonicUnoccupiedToOccupiedDelayCommandParameterInfo =
         new CommandParameterInfo(
@@ -2766,7 +3195,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeOccupancySensingUltrasonicUnoccupiedToOccupiedDelayCommandParams
     );
-    writeOccupancySensingInteractionInfo.put("writeUltrasonicUnoccupiedToOccupiedDelayAttribute", writeOccupancySensingUltrasonicUnoccupiedToOccupiedDelayAttributeInteractionInfo);
+    result.put("writeUltrasonicUnoccupiedToOccupiedDelayAttribute", writeOccupancySensingUltrasonicUnoccupiedToOccupiedDelayAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeOccupancySensingUltrasonicUnoccupiedToOccupiedThresholdCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo occupancySensingultrasonicUnoccupiedToOccupiedThresholdCommandParameterInfo =
         new CommandParameterInfo(
@@ -2788,7 +3217,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeOccupancySensingUltrasonicUnoccupiedToOccupiedThresholdCommandParams
     );
-    writeOccupancySensingInteractionInfo.put("writeUltrasonicUnoccupiedToOccupiedThresholdAttribute", writeOccupancySensingUltrasonicUnoccupiedToOccupiedThresholdAttributeInteractionInfo);
+    result.put("writeUltrasonicUnoccupiedToOccupiedThresholdAttribute", writeOccupancySensingUltrasonicUnoccupiedToOccupiedThresholdAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeOccupancySensingPhysicalContactOccupiedToUnoccupiedDelayCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo occupancySensingphysicalContactOccupiedToUnoccupiedDelayCommandParameterInfo =
         new CommandParameterInfo(
@@ -2810,7 +3239,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeOccupancySensingPhysicalContactOccupiedToUnoccupiedDelayCommandParams
     );
-    writeOccupancySensingInteractionInfo.put("writePhysicalContactOccupiedToUnoccupiedDelayAttribute", writeOccupancySensingPhysicalContactOccupiedToUnoccupiedDelayAttributeInteractionInfo);
+    result.put("writePhysicalContactOccupiedToUnoccupiedDelayAttribute", writeOccupancySensingPhysicalContactOccupiedToUnoccupiedDelayAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeOccupancySensingPhysicalContactUnoccupiedToOccupiedDelayCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo occupancySensingphysicalContactUnoccupiedToOccupiedDelayCommandParameterInfo =
         new CommandParameterInfo(
@@ -2832,7 +3261,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeOccupancySensingPhysicalContactUnoccupiedToOccupiedDelayCommandParams
     );
-    writeOccupancySensingInteractionInfo.put("writePhysicalContactUnoccupiedToOccupiedDelayAttribute", writeOccupancySensingPhysicalContactUnoccupiedToOccupiedDelayAttributeInteractionInfo);
+    result.put("writePhysicalContactUnoccupiedToOccupiedDelayAttribute", writeOccupancySensingPhysicalContactUnoccupiedToOccupiedDelayAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeOccupancySensingPhysicalContactUnoccupiedToOccupiedThresholdCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo occupancySensingphysicalContactUnoccupiedToOccupiedThresholdCommandParameterInfo =
         new CommandParameterInfo(
@@ -2854,31 +3283,67 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeOccupancySensingPhysicalContactUnoccupiedToOccupiedThresholdCommandParams
     );
-    writeOccupancySensingInteractionInfo.put("writePhysicalContactUnoccupiedToOccupiedThresholdAttribute", writeOccupancySensingPhysicalContactUnoccupiedToOccupiedThresholdAttributeInteractionInfo);
-    writeAttributeMap.put("occupancySensing", writeOccupancySensingInteractionInfo);
-    Map<String, InteractionInfo> writeCarbonMonoxideConcentrationMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("carbonMonoxideConcentrationMeasurement", writeCarbonMonoxideConcentrationMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writeCarbonDioxideConcentrationMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("carbonDioxideConcentrationMeasurement", writeCarbonDioxideConcentrationMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writeNitrogenDioxideConcentrationMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("nitrogenDioxideConcentrationMeasurement", writeNitrogenDioxideConcentrationMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writeOzoneConcentrationMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("ozoneConcentrationMeasurement", writeOzoneConcentrationMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writePm25ConcentrationMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("pm25ConcentrationMeasurement", writePm25ConcentrationMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writeFormaldehydeConcentrationMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("formaldehydeConcentrationMeasurement", writeFormaldehydeConcentrationMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writePm1ConcentrationMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("pm1ConcentrationMeasurement", writePm1ConcentrationMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writePm10ConcentrationMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("pm10ConcentrationMeasurement", writePm10ConcentrationMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writeTotalVolatileOrganicCompoundsConcentrationMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("totalVolatileOrganicCompoundsConcentrationMeasurement", writeTotalVolatileOrganicCompoundsConcentrationMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writeRadonConcentrationMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("radonConcentrationMeasurement", writeRadonConcentrationMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writeSoilMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("soilMeasurement", writeSoilMeasurementInteractionInfo);
-    Map<String, InteractionInfo> writeAmbientContextSensingInteractionInfo = new LinkedHashMap<>();
+    result.put("writePhysicalContactUnoccupiedToOccupiedThresholdAttribute", writeOccupancySensingPhysicalContactUnoccupiedToOccupiedThresholdAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeCarbonMonoxideConcentrationMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeCarbonDioxideConcentrationMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeNitrogenDioxideConcentrationMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeOzoneConcentrationMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writePm25ConcentrationMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeFormaldehydeConcentrationMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writePm1ConcentrationMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writePm10ConcentrationMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeTotalVolatileOrganicCompoundsConcentrationMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeRadonConcentrationMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeSoilMeasurementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeAmbientContextSensingInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeAmbientContextSensingSimultaneousDetectionLimitCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo ambientContextSensingsimultaneousDetectionLimitCommandParameterInfo =
         new CommandParameterInfo(
@@ -2900,7 +3365,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeAmbientContextSensingSimultaneousDetectionLimitCommandParams
     );
-    writeAmbientContextSensingInteractionInfo.put("writeSimultaneousDetectionLimitAttribute", writeAmbientContextSensingSimultaneousDetectionLimitAttributeInteractionInfo);
+    result.put("writeSimultaneousDetectionLimitAttribute", writeAmbientContextSensingSimultaneousDetectionLimitAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeAmbientContextSensingCountThresholdCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo ambientContextSensingcountThresholdCommandParameterInfo =
         new CommandParameterInfo(
@@ -2922,7 +3387,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeAmbientContextSensingCountThresholdCommandParams
     );
-    writeAmbientContextSensingInteractionInfo.put("writeCountThresholdAttribute", writeAmbientContextSensingCountThresholdAttributeInteractionInfo);
+    result.put("writeCountThresholdAttribute", writeAmbientContextSensingCountThresholdAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeAmbientContextSensingHoldTimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo ambientContextSensingholdTimeCommandParameterInfo =
         new CommandParameterInfo(
@@ -2944,13 +3409,22 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeAmbientContextSensingHoldTimeCommandParams
     );
-    writeAmbientContextSensingInteractionInfo.put("writeHoldTimeAttribute", writeAmbientContextSensingHoldTimeAttributeInteractionInfo);
-    writeAttributeMap.put("ambientContextSensing", writeAmbientContextSensingInteractionInfo);
-    Map<String, InteractionInfo> writeWiFiNetworkManagementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("wiFiNetworkManagement", writeWiFiNetworkManagementInteractionInfo);
-    Map<String, InteractionInfo> writeThreadBorderRouterManagementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("threadBorderRouterManagement", writeThreadBorderRouterManagementInteractionInfo);
-    Map<String, InteractionInfo> writeThreadNetworkDirectoryInteractionInfo = new LinkedHashMap<>();
+    result.put("writeHoldTimeAttribute", writeAmbientContextSensingHoldTimeAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeWiFiNetworkManagementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeThreadBorderRouterManagementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeThreadNetworkDirectoryInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeThreadNetworkDirectoryPreferredExtendedPanIDCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo threadNetworkDirectorypreferredExtendedPanIDCommandParameterInfo =
         new CommandParameterInfo(
@@ -2972,37 +3446,82 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeThreadNetworkDirectoryPreferredExtendedPanIDCommandParams
     );
-    writeThreadNetworkDirectoryInteractionInfo.put("writePreferredExtendedPanIDAttribute", writeThreadNetworkDirectoryPreferredExtendedPanIDAttributeInteractionInfo);
-    writeAttributeMap.put("threadNetworkDirectory", writeThreadNetworkDirectoryInteractionInfo);
-    Map<String, InteractionInfo> writeWakeOnLanInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("wakeOnLan", writeWakeOnLanInteractionInfo);
-    Map<String, InteractionInfo> writeChannelInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("channel", writeChannelInteractionInfo);
-    Map<String, InteractionInfo> writeTargetNavigatorInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("targetNavigator", writeTargetNavigatorInteractionInfo);
-    Map<String, InteractionInfo> writeMediaPlaybackInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("mediaPlayback", writeMediaPlaybackInteractionInfo);
-    Map<String, InteractionInfo> writeMediaInputInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("mediaInput", writeMediaInputInteractionInfo);
-    Map<String, InteractionInfo> writeLowPowerInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("lowPower", writeLowPowerInteractionInfo);
-    Map<String, InteractionInfo> writeKeypadInputInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("keypadInput", writeKeypadInputInteractionInfo);
-    Map<String, InteractionInfo> writeContentLauncherInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("contentLauncher", writeContentLauncherInteractionInfo);
-    Map<String, InteractionInfo> writeAudioOutputInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("audioOutput", writeAudioOutputInteractionInfo);
-    Map<String, InteractionInfo> writeApplicationLauncherInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("applicationLauncher", writeApplicationLauncherInteractionInfo);
-    Map<String, InteractionInfo> writeApplicationBasicInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("applicationBasic", writeApplicationBasicInteractionInfo);
-    Map<String, InteractionInfo> writeAccountLoginInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("accountLogin", writeAccountLoginInteractionInfo);
-    Map<String, InteractionInfo> writeContentControlInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("contentControl", writeContentControlInteractionInfo);
-    Map<String, InteractionInfo> writeContentAppObserverInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("contentAppObserver", writeContentAppObserverInteractionInfo);
-    Map<String, InteractionInfo> writeZoneManagementInteractionInfo = new LinkedHashMap<>();
+    result.put("writePreferredExtendedPanIDAttribute", writeThreadNetworkDirectoryPreferredExtendedPanIDAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeWakeOnLanInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeChannelInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeTargetNavigatorInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeMediaPlaybackInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeMediaInputInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeLowPowerInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeKeypadInputInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeContentLauncherInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeAudioOutputInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeApplicationLauncherInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeApplicationBasicInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeAccountLoginInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeContentControlInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeContentAppObserverInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeZoneManagementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeZoneManagementSensitivityCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo zoneManagementsensitivityCommandParameterInfo =
         new CommandParameterInfo(
@@ -3024,9 +3543,12 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeZoneManagementSensitivityCommandParams
     );
-    writeZoneManagementInteractionInfo.put("writeSensitivityAttribute", writeZoneManagementSensitivityAttributeInteractionInfo);
-    writeAttributeMap.put("zoneManagement", writeZoneManagementInteractionInfo);
-    Map<String, InteractionInfo> writeCameraAvStreamManagementInteractionInfo = new LinkedHashMap<>();
+    result.put("writeSensitivityAttribute", writeZoneManagementSensitivityAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeCameraAvStreamManagementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeCameraAvStreamManagementHDRModeEnabledCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo cameraAvStreamManagementHDRModeEnabledCommandParameterInfo =
         new CommandParameterInfo(
@@ -3048,7 +3570,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeCameraAvStreamManagementHDRModeEnabledCommandParams
     );
-    writeCameraAvStreamManagementInteractionInfo.put("writeHDRModeEnabledAttribute", writeCameraAvStreamManagementHDRModeEnabledAttributeInteractionInfo);
+    result.put("writeHDRModeEnabledAttribute", writeCameraAvStreamManagementHDRModeEnabledAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeCameraAvStreamManagementSoftRecordingPrivacyModeEnabledCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo cameraAvStreamManagementsoftRecordingPrivacyModeEnabledCommandParameterInfo =
         new CommandParameterInfo(
@@ -3070,7 +3592,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeCameraAvStreamManagementSoftRecordingPrivacyModeEnabledCommandParams
     );
-    writeCameraAvStreamManagementInteractionInfo.put("writeSoftRecordingPrivacyModeEnabledAttribute", writeCameraAvStreamManagementSoftRecordingPrivacyModeEnabledAttributeInteractionInfo);
+    result.put("writeSoftRecordingPrivacyModeEnabledAttribute", writeCameraAvStreamManagementSoftRecordingPrivacyModeEnabledAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeCameraAvStreamManagementSoftLivestreamPrivacyModeEnabledCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo cameraAvStreamManagementsoftLivestreamPrivacyModeEnabledCommandParameterInfo =
         new CommandParameterInfo(
@@ -3092,7 +3614,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeCameraAvStreamManagementSoftLivestreamPrivacyModeEnabledCommandParams
     );
-    writeCameraAvStreamManagementInteractionInfo.put("writeSoftLivestreamPrivacyModeEnabledAttribute", writeCameraAvStreamManagementSoftLivestreamPrivacyModeEnabledAttributeInteractionInfo);
+    result.put("writeSoftLivestreamPrivacyModeEnabledAttribute", writeCameraAvStreamManagementSoftLivestreamPrivacyModeEnabledAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeCameraAvStreamManagementNightVisionCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo cameraAvStreamManagementnightVisionCommandParameterInfo =
         new CommandParameterInfo(
@@ -3114,7 +3636,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeCameraAvStreamManagementNightVisionCommandParams
     );
-    writeCameraAvStreamManagementInteractionInfo.put("writeNightVisionAttribute", writeCameraAvStreamManagementNightVisionAttributeInteractionInfo);
+    result.put("writeNightVisionAttribute", writeCameraAvStreamManagementNightVisionAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeCameraAvStreamManagementNightVisionIllumCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo cameraAvStreamManagementnightVisionIllumCommandParameterInfo =
         new CommandParameterInfo(
@@ -3136,7 +3658,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeCameraAvStreamManagementNightVisionIllumCommandParams
     );
-    writeCameraAvStreamManagementInteractionInfo.put("writeNightVisionIllumAttribute", writeCameraAvStreamManagementNightVisionIllumAttributeInteractionInfo);
+    result.put("writeNightVisionIllumAttribute", writeCameraAvStreamManagementNightVisionIllumAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeCameraAvStreamManagementSpeakerMutedCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo cameraAvStreamManagementspeakerMutedCommandParameterInfo =
         new CommandParameterInfo(
@@ -3158,7 +3680,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeCameraAvStreamManagementSpeakerMutedCommandParams
     );
-    writeCameraAvStreamManagementInteractionInfo.put("writeSpeakerMutedAttribute", writeCameraAvStreamManagementSpeakerMutedAttributeInteractionInfo);
+    result.put("writeSpeakerMutedAttribute", writeCameraAvStreamManagementSpeakerMutedAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeCameraAvStreamManagementSpeakerVolumeLevelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo cameraAvStreamManagementspeakerVolumeLevelCommandParameterInfo =
         new CommandParameterInfo(
@@ -3180,7 +3702,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeCameraAvStreamManagementSpeakerVolumeLevelCommandParams
     );
-    writeCameraAvStreamManagementInteractionInfo.put("writeSpeakerVolumeLevelAttribute", writeCameraAvStreamManagementSpeakerVolumeLevelAttributeInteractionInfo);
+    result.put("writeSpeakerVolumeLevelAttribute", writeCameraAvStreamManagementSpeakerVolumeLevelAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeCameraAvStreamManagementMicrophoneMutedCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo cameraAvStreamManagementmicrophoneMutedCommandParameterInfo =
         new CommandParameterInfo(
@@ -3202,7 +3724,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeCameraAvStreamManagementMicrophoneMutedCommandParams
     );
-    writeCameraAvStreamManagementInteractionInfo.put("writeMicrophoneMutedAttribute", writeCameraAvStreamManagementMicrophoneMutedAttributeInteractionInfo);
+    result.put("writeMicrophoneMutedAttribute", writeCameraAvStreamManagementMicrophoneMutedAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeCameraAvStreamManagementMicrophoneVolumeLevelCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo cameraAvStreamManagementmicrophoneVolumeLevelCommandParameterInfo =
         new CommandParameterInfo(
@@ -3224,7 +3746,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeCameraAvStreamManagementMicrophoneVolumeLevelCommandParams
     );
-    writeCameraAvStreamManagementInteractionInfo.put("writeMicrophoneVolumeLevelAttribute", writeCameraAvStreamManagementMicrophoneVolumeLevelAttributeInteractionInfo);
+    result.put("writeMicrophoneVolumeLevelAttribute", writeCameraAvStreamManagementMicrophoneVolumeLevelAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeCameraAvStreamManagementMicrophoneAGCEnabledCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo cameraAvStreamManagementmicrophoneAGCEnabledCommandParameterInfo =
         new CommandParameterInfo(
@@ -3246,7 +3768,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeCameraAvStreamManagementMicrophoneAGCEnabledCommandParams
     );
-    writeCameraAvStreamManagementInteractionInfo.put("writeMicrophoneAGCEnabledAttribute", writeCameraAvStreamManagementMicrophoneAGCEnabledAttributeInteractionInfo);
+    result.put("writeMicrophoneAGCEnabledAttribute", writeCameraAvStreamManagementMicrophoneAGCEnabledAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeCameraAvStreamManagementImageRotationCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo cameraAvStreamManagementimageRotationCommandParameterInfo =
         new CommandParameterInfo(
@@ -3268,7 +3790,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeCameraAvStreamManagementImageRotationCommandParams
     );
-    writeCameraAvStreamManagementInteractionInfo.put("writeImageRotationAttribute", writeCameraAvStreamManagementImageRotationAttributeInteractionInfo);
+    result.put("writeImageRotationAttribute", writeCameraAvStreamManagementImageRotationAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeCameraAvStreamManagementImageFlipHorizontalCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo cameraAvStreamManagementimageFlipHorizontalCommandParameterInfo =
         new CommandParameterInfo(
@@ -3290,7 +3812,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeCameraAvStreamManagementImageFlipHorizontalCommandParams
     );
-    writeCameraAvStreamManagementInteractionInfo.put("writeImageFlipHorizontalAttribute", writeCameraAvStreamManagementImageFlipHorizontalAttributeInteractionInfo);
+    result.put("writeImageFlipHorizontalAttribute", writeCameraAvStreamManagementImageFlipHorizontalAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeCameraAvStreamManagementImageFlipVerticalCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo cameraAvStreamManagementimageFlipVerticalCommandParameterInfo =
         new CommandParameterInfo(
@@ -3312,7 +3834,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeCameraAvStreamManagementImageFlipVerticalCommandParams
     );
-    writeCameraAvStreamManagementInteractionInfo.put("writeImageFlipVerticalAttribute", writeCameraAvStreamManagementImageFlipVerticalAttributeInteractionInfo);
+    result.put("writeImageFlipVerticalAttribute", writeCameraAvStreamManagementImageFlipVerticalAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeCameraAvStreamManagementLocalVideoRecordingEnabledCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo cameraAvStreamManagementlocalVideoRecordingEnabledCommandParameterInfo =
         new CommandParameterInfo(
@@ -3334,7 +3856,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeCameraAvStreamManagementLocalVideoRecordingEnabledCommandParams
     );
-    writeCameraAvStreamManagementInteractionInfo.put("writeLocalVideoRecordingEnabledAttribute", writeCameraAvStreamManagementLocalVideoRecordingEnabledAttributeInteractionInfo);
+    result.put("writeLocalVideoRecordingEnabledAttribute", writeCameraAvStreamManagementLocalVideoRecordingEnabledAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeCameraAvStreamManagementLocalSnapshotRecordingEnabledCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo cameraAvStreamManagementlocalSnapshotRecordingEnabledCommandParameterInfo =
         new CommandParameterInfo(
@@ -3356,7 +3878,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeCameraAvStreamManagementLocalSnapshotRecordingEnabledCommandParams
     );
-    writeCameraAvStreamManagementInteractionInfo.put("writeLocalSnapshotRecordingEnabledAttribute", writeCameraAvStreamManagementLocalSnapshotRecordingEnabledAttributeInteractionInfo);
+    result.put("writeLocalSnapshotRecordingEnabledAttribute", writeCameraAvStreamManagementLocalSnapshotRecordingEnabledAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeCameraAvStreamManagementStatusLightEnabledCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo cameraAvStreamManagementstatusLightEnabledCommandParameterInfo =
         new CommandParameterInfo(
@@ -3378,7 +3900,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeCameraAvStreamManagementStatusLightEnabledCommandParams
     );
-    writeCameraAvStreamManagementInteractionInfo.put("writeStatusLightEnabledAttribute", writeCameraAvStreamManagementStatusLightEnabledAttributeInteractionInfo);
+    result.put("writeStatusLightEnabledAttribute", writeCameraAvStreamManagementStatusLightEnabledAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeCameraAvStreamManagementStatusLightBrightnessCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo cameraAvStreamManagementstatusLightBrightnessCommandParameterInfo =
         new CommandParameterInfo(
@@ -3400,17 +3922,32 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeCameraAvStreamManagementStatusLightBrightnessCommandParams
     );
-    writeCameraAvStreamManagementInteractionInfo.put("writeStatusLightBrightnessAttribute", writeCameraAvStreamManagementStatusLightBrightnessAttributeInteractionInfo);
-    writeAttributeMap.put("cameraAvStreamManagement", writeCameraAvStreamManagementInteractionInfo);
-    Map<String, InteractionInfo> writeCameraAvSettingsUserLevelManagementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("cameraAvSettingsUserLevelManagement", writeCameraAvSettingsUserLevelManagementInteractionInfo);
-    Map<String, InteractionInfo> writeWebRTCTransportProviderInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("webRTCTransportProvider", writeWebRTCTransportProviderInteractionInfo);
-    Map<String, InteractionInfo> writeWebRTCTransportRequestorInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("webRTCTransportRequestor", writeWebRTCTransportRequestorInteractionInfo);
-    Map<String, InteractionInfo> writePushAvStreamTransportInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("pushAvStreamTransport", writePushAvStreamTransportInteractionInfo);
-    Map<String, InteractionInfo> writeChimeInteractionInfo = new LinkedHashMap<>();
+    result.put("writeStatusLightBrightnessAttribute", writeCameraAvStreamManagementStatusLightBrightnessAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeCameraAvSettingsUserLevelManagementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeWebRTCTransportProviderInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeWebRTCTransportRequestorInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writePushAvStreamTransportInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeChimeInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeChimeSelectedChimeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo chimeselectedChimeCommandParameterInfo =
         new CommandParameterInfo(
@@ -3432,7 +3969,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeChimeSelectedChimeCommandParams
     );
-    writeChimeInteractionInfo.put("writeSelectedChimeAttribute", writeChimeSelectedChimeAttributeInteractionInfo);
+    result.put("writeSelectedChimeAttribute", writeChimeSelectedChimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeChimeEnabledCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo chimeenabledCommandParameterInfo =
         new CommandParameterInfo(
@@ -3454,27 +3991,57 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeChimeEnabledCommandParams
     );
-    writeChimeInteractionInfo.put("writeEnabledAttribute", writeChimeEnabledAttributeInteractionInfo);
-    writeAttributeMap.put("chime", writeChimeInteractionInfo);
-    Map<String, InteractionInfo> writeCommodityTariffInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("commodityTariff", writeCommodityTariffInteractionInfo);
-    Map<String, InteractionInfo> writeEcosystemInformationInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("ecosystemInformation", writeEcosystemInformationInteractionInfo);
-    Map<String, InteractionInfo> writeCommissionerControlInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("commissionerControl", writeCommissionerControlInteractionInfo);
-    Map<String, InteractionInfo> writeJointFabricDatastoreInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("jointFabricDatastore", writeJointFabricDatastoreInteractionInfo);
-    Map<String, InteractionInfo> writeJointFabricAdministratorInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("jointFabricAdministrator", writeJointFabricAdministratorInteractionInfo);
-    Map<String, InteractionInfo> writeTlsCertificateManagementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("tlsCertificateManagement", writeTlsCertificateManagementInteractionInfo);
-    Map<String, InteractionInfo> writeTlsClientManagementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("tlsClientManagement", writeTlsClientManagementInteractionInfo);
-    Map<String, InteractionInfo> writeMeterIdentificationInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("meterIdentification", writeMeterIdentificationInteractionInfo);
-    Map<String, InteractionInfo> writeCommodityMeteringInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("commodityMetering", writeCommodityMeteringInteractionInfo);
-    Map<String, InteractionInfo> writeUnitTestingInteractionInfo = new LinkedHashMap<>();
+    result.put("writeEnabledAttribute", writeChimeEnabledAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeCommodityTariffInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeEcosystemInformationInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeCommissionerControlInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeJointFabricDatastoreInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeJointFabricAdministratorInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeTlsCertificateManagementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeTlsClientManagementInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeMeterIdentificationInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeCommodityMeteringInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeUnitTestingInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeUnitTestingBooleanCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingbooleanCommandParameterInfo =
         new CommandParameterInfo(
@@ -3496,7 +4063,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingBooleanCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeBooleanAttribute", writeUnitTestingBooleanAttributeInteractionInfo);
+    result.put("writeBooleanAttribute", writeUnitTestingBooleanAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingBitmap8CommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingbitmap8CommandParameterInfo =
         new CommandParameterInfo(
@@ -3518,7 +4085,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingBitmap8CommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeBitmap8Attribute", writeUnitTestingBitmap8AttributeInteractionInfo);
+    result.put("writeBitmap8Attribute", writeUnitTestingBitmap8AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingBitmap16CommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingbitmap16CommandParameterInfo =
         new CommandParameterInfo(
@@ -3540,7 +4107,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingBitmap16CommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeBitmap16Attribute", writeUnitTestingBitmap16AttributeInteractionInfo);
+    result.put("writeBitmap16Attribute", writeUnitTestingBitmap16AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingBitmap32CommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingbitmap32CommandParameterInfo =
         new CommandParameterInfo(
@@ -3562,7 +4129,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingBitmap32CommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeBitmap32Attribute", writeUnitTestingBitmap32AttributeInteractionInfo);
+    result.put("writeBitmap32Attribute", writeUnitTestingBitmap32AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingBitmap64CommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingbitmap64CommandParameterInfo =
         new CommandParameterInfo(
@@ -3584,7 +4151,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingBitmap64CommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeBitmap64Attribute", writeUnitTestingBitmap64AttributeInteractionInfo);
+    result.put("writeBitmap64Attribute", writeUnitTestingBitmap64AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingInt8uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingint8uCommandParameterInfo =
         new CommandParameterInfo(
@@ -3606,7 +4173,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingInt8uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeInt8uAttribute", writeUnitTestingInt8uAttributeInteractionInfo);
+    result.put("writeInt8uAttribute", writeUnitTestingInt8uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingInt16uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingint16uCommandParameterInfo =
         new CommandParameterInfo(
@@ -3628,7 +4195,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingInt16uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeInt16uAttribute", writeUnitTestingInt16uAttributeInteractionInfo);
+    result.put("writeInt16uAttribute", writeUnitTestingInt16uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingInt24uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingint24uCommandParameterInfo =
         new CommandParameterInfo(
@@ -3650,7 +4217,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingInt24uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeInt24uAttribute", writeUnitTestingInt24uAttributeInteractionInfo);
+    result.put("writeInt24uAttribute", writeUnitTestingInt24uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingInt32uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingint32uCommandParameterInfo =
         new CommandParameterInfo(
@@ -3672,7 +4239,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingInt32uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeInt32uAttribute", writeUnitTestingInt32uAttributeInteractionInfo);
+    result.put("writeInt32uAttribute", writeUnitTestingInt32uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingInt40uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingint40uCommandParameterInfo =
         new CommandParameterInfo(
@@ -3694,7 +4261,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingInt40uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeInt40uAttribute", writeUnitTestingInt40uAttributeInteractionInfo);
+    result.put("writeInt40uAttribute", writeUnitTestingInt40uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingInt48uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingint48uCommandParameterInfo =
         new CommandParameterInfo(
@@ -3716,7 +4283,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingInt48uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeInt48uAttribute", writeUnitTestingInt48uAttributeInteractionInfo);
+    result.put("writeInt48uAttribute", writeUnitTestingInt48uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingInt56uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingint56uCommandParameterInfo =
         new CommandParameterInfo(
@@ -3738,7 +4305,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingInt56uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeInt56uAttribute", writeUnitTestingInt56uAttributeInteractionInfo);
+    result.put("writeInt56uAttribute", writeUnitTestingInt56uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingInt64uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingint64uCommandParameterInfo =
         new CommandParameterInfo(
@@ -3760,7 +4327,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingInt64uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeInt64uAttribute", writeUnitTestingInt64uAttributeInteractionInfo);
+    result.put("writeInt64uAttribute", writeUnitTestingInt64uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingInt8sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingint8sCommandParameterInfo =
         new CommandParameterInfo(
@@ -3782,7 +4349,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingInt8sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeInt8sAttribute", writeUnitTestingInt8sAttributeInteractionInfo);
+    result.put("writeInt8sAttribute", writeUnitTestingInt8sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingInt16sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingint16sCommandParameterInfo =
         new CommandParameterInfo(
@@ -3804,7 +4371,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingInt16sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeInt16sAttribute", writeUnitTestingInt16sAttributeInteractionInfo);
+    result.put("writeInt16sAttribute", writeUnitTestingInt16sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingInt24sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingint24sCommandParameterInfo =
         new CommandParameterInfo(
@@ -3826,7 +4393,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingInt24sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeInt24sAttribute", writeUnitTestingInt24sAttributeInteractionInfo);
+    result.put("writeInt24sAttribute", writeUnitTestingInt24sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingInt32sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingint32sCommandParameterInfo =
         new CommandParameterInfo(
@@ -3848,7 +4415,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingInt32sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeInt32sAttribute", writeUnitTestingInt32sAttributeInteractionInfo);
+    result.put("writeInt32sAttribute", writeUnitTestingInt32sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingInt40sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingint40sCommandParameterInfo =
         new CommandParameterInfo(
@@ -3870,7 +4437,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingInt40sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeInt40sAttribute", writeUnitTestingInt40sAttributeInteractionInfo);
+    result.put("writeInt40sAttribute", writeUnitTestingInt40sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingInt48sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingint48sCommandParameterInfo =
         new CommandParameterInfo(
@@ -3892,7 +4459,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingInt48sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeInt48sAttribute", writeUnitTestingInt48sAttributeInteractionInfo);
+    result.put("writeInt48sAttribute", writeUnitTestingInt48sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingInt56sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingint56sCommandParameterInfo =
         new CommandParameterInfo(
@@ -3914,7 +4481,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingInt56sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeInt56sAttribute", writeUnitTestingInt56sAttributeInteractionInfo);
+    result.put("writeInt56sAttribute", writeUnitTestingInt56sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingInt64sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingint64sCommandParameterInfo =
         new CommandParameterInfo(
@@ -3936,7 +4503,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingInt64sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeInt64sAttribute", writeUnitTestingInt64sAttributeInteractionInfo);
+    result.put("writeInt64sAttribute", writeUnitTestingInt64sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingEnum8CommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingenum8CommandParameterInfo =
         new CommandParameterInfo(
@@ -3958,7 +4525,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingEnum8CommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeEnum8Attribute", writeUnitTestingEnum8AttributeInteractionInfo);
+    result.put("writeEnum8Attribute", writeUnitTestingEnum8AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingEnum16CommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingenum16CommandParameterInfo =
         new CommandParameterInfo(
@@ -3980,7 +4547,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingEnum16CommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeEnum16Attribute", writeUnitTestingEnum16AttributeInteractionInfo);
+    result.put("writeEnum16Attribute", writeUnitTestingEnum16AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingFloatSingleCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingfloatSingleCommandParameterInfo =
         new CommandParameterInfo(
@@ -4002,7 +4569,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingFloatSingleCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeFloatSingleAttribute", writeUnitTestingFloatSingleAttributeInteractionInfo);
+    result.put("writeFloatSingleAttribute", writeUnitTestingFloatSingleAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingFloatDoubleCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingfloatDoubleCommandParameterInfo =
         new CommandParameterInfo(
@@ -4024,7 +4591,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingFloatDoubleCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeFloatDoubleAttribute", writeUnitTestingFloatDoubleAttributeInteractionInfo);
+    result.put("writeFloatDoubleAttribute", writeUnitTestingFloatDoubleAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingOctetStringCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingoctetStringCommandParameterInfo =
         new CommandParameterInfo(
@@ -4046,7 +4613,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingOctetStringCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeOctetStringAttribute", writeUnitTestingOctetStringAttributeInteractionInfo);
+    result.put("writeOctetStringAttribute", writeUnitTestingOctetStringAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingLongOctetStringCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestinglongOctetStringCommandParameterInfo =
         new CommandParameterInfo(
@@ -4068,7 +4635,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingLongOctetStringCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeLongOctetStringAttribute", writeUnitTestingLongOctetStringAttributeInteractionInfo);
+    result.put("writeLongOctetStringAttribute", writeUnitTestingLongOctetStringAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingCharStringCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingcharStringCommandParameterInfo =
         new CommandParameterInfo(
@@ -4090,7 +4657,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingCharStringCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeCharStringAttribute", writeUnitTestingCharStringAttributeInteractionInfo);
+    result.put("writeCharStringAttribute", writeUnitTestingCharStringAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingLongCharStringCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestinglongCharStringCommandParameterInfo =
         new CommandParameterInfo(
@@ -4112,7 +4679,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingLongCharStringCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeLongCharStringAttribute", writeUnitTestingLongCharStringAttributeInteractionInfo);
+    result.put("writeLongCharStringAttribute", writeUnitTestingLongCharStringAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingEpochUsCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingepochUsCommandParameterInfo =
         new CommandParameterInfo(
@@ -4134,7 +4701,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingEpochUsCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeEpochUsAttribute", writeUnitTestingEpochUsAttributeInteractionInfo);
+    result.put("writeEpochUsAttribute", writeUnitTestingEpochUsAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingEpochSCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingepochSCommandParameterInfo =
         new CommandParameterInfo(
@@ -4156,7 +4723,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingEpochSCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeEpochSAttribute", writeUnitTestingEpochSAttributeInteractionInfo);
+    result.put("writeEpochSAttribute", writeUnitTestingEpochSAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingVendorIdCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingvendorIdCommandParameterInfo =
         new CommandParameterInfo(
@@ -4178,7 +4745,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingVendorIdCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeVendorIdAttribute", writeUnitTestingVendorIdAttributeInteractionInfo);
+    result.put("writeVendorIdAttribute", writeUnitTestingVendorIdAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingEnumAttrCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingenumAttrCommandParameterInfo =
         new CommandParameterInfo(
@@ -4200,7 +4767,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingEnumAttrCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeEnumAttrAttribute", writeUnitTestingEnumAttrAttributeInteractionInfo);
+    result.put("writeEnumAttrAttribute", writeUnitTestingEnumAttrAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingRangeRestrictedInt8uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingrangeRestrictedInt8uCommandParameterInfo =
         new CommandParameterInfo(
@@ -4222,7 +4789,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingRangeRestrictedInt8uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeRangeRestrictedInt8uAttribute", writeUnitTestingRangeRestrictedInt8uAttributeInteractionInfo);
+    result.put("writeRangeRestrictedInt8uAttribute", writeUnitTestingRangeRestrictedInt8uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingRangeRestrictedInt8sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingrangeRestrictedInt8sCommandParameterInfo =
         new CommandParameterInfo(
@@ -4244,7 +4811,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingRangeRestrictedInt8sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeRangeRestrictedInt8sAttribute", writeUnitTestingRangeRestrictedInt8sAttributeInteractionInfo);
+    result.put("writeRangeRestrictedInt8sAttribute", writeUnitTestingRangeRestrictedInt8sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingRangeRestrictedInt16uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingrangeRestrictedInt16uCommandParameterInfo =
         new CommandParameterInfo(
@@ -4266,7 +4833,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingRangeRestrictedInt16uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeRangeRestrictedInt16uAttribute", writeUnitTestingRangeRestrictedInt16uAttributeInteractionInfo);
+    result.put("writeRangeRestrictedInt16uAttribute", writeUnitTestingRangeRestrictedInt16uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingRangeRestrictedInt16sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingrangeRestrictedInt16sCommandParameterInfo =
         new CommandParameterInfo(
@@ -4288,7 +4855,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingRangeRestrictedInt16sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeRangeRestrictedInt16sAttribute", writeUnitTestingRangeRestrictedInt16sAttributeInteractionInfo);
+    result.put("writeRangeRestrictedInt16sAttribute", writeUnitTestingRangeRestrictedInt16sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingTimedWriteBooleanCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingtimedWriteBooleanCommandParameterInfo =
         new CommandParameterInfo(
@@ -4310,7 +4877,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingTimedWriteBooleanCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeTimedWriteBooleanAttribute", writeUnitTestingTimedWriteBooleanAttributeInteractionInfo);
+    result.put("writeTimedWriteBooleanAttribute", writeUnitTestingTimedWriteBooleanAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingGeneralErrorBooleanCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestinggeneralErrorBooleanCommandParameterInfo =
         new CommandParameterInfo(
@@ -4332,7 +4899,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingGeneralErrorBooleanCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeGeneralErrorBooleanAttribute", writeUnitTestingGeneralErrorBooleanAttributeInteractionInfo);
+    result.put("writeGeneralErrorBooleanAttribute", writeUnitTestingGeneralErrorBooleanAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingClusterErrorBooleanCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingclusterErrorBooleanCommandParameterInfo =
         new CommandParameterInfo(
@@ -4354,7 +4921,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingClusterErrorBooleanCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeClusterErrorBooleanAttribute", writeUnitTestingClusterErrorBooleanAttributeInteractionInfo);
+    result.put("writeClusterErrorBooleanAttribute", writeUnitTestingClusterErrorBooleanAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingGlobalEnumCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingglobalEnumCommandParameterInfo =
         new CommandParameterInfo(
@@ -4376,7 +4943,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingGlobalEnumCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeGlobalEnumAttribute", writeUnitTestingGlobalEnumAttributeInteractionInfo);
+    result.put("writeGlobalEnumAttribute", writeUnitTestingGlobalEnumAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingUnsupportedAttributeRequiringAdminPrivilegeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingunsupportedAttributeRequiringAdminPrivilegeCommandParameterInfo =
         new CommandParameterInfo(
@@ -4398,7 +4965,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingUnsupportedAttributeRequiringAdminPrivilegeCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeUnsupportedAttributeRequiringAdminPrivilegeAttribute", writeUnitTestingUnsupportedAttributeRequiringAdminPrivilegeAttributeInteractionInfo);
+    result.put("writeUnsupportedAttributeRequiringAdminPrivilegeAttribute", writeUnitTestingUnsupportedAttributeRequiringAdminPrivilegeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingUnsupportedCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingunsupportedCommandParameterInfo =
         new CommandParameterInfo(
@@ -4420,7 +4987,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingUnsupportedCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeUnsupportedAttribute", writeUnitTestingUnsupportedAttributeInteractionInfo);
+    result.put("writeUnsupportedAttribute", writeUnitTestingUnsupportedAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingReadFailureCodeCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingreadFailureCodeCommandParameterInfo =
         new CommandParameterInfo(
@@ -4442,7 +5009,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingReadFailureCodeCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeReadFailureCodeAttribute", writeUnitTestingReadFailureCodeAttributeInteractionInfo);
+    result.put("writeReadFailureCodeAttribute", writeUnitTestingReadFailureCodeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingFailureInt32UCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingfailureInt32UCommandParameterInfo =
         new CommandParameterInfo(
@@ -4464,7 +5031,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingFailureInt32UCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeFailureInt32UAttribute", writeUnitTestingFailureInt32UAttributeInteractionInfo);
+    result.put("writeFailureInt32UAttribute", writeUnitTestingFailureInt32UAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableBooleanCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableBooleanCommandParameterInfo =
         new CommandParameterInfo(
@@ -4486,7 +5053,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableBooleanCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableBooleanAttribute", writeUnitTestingNullableBooleanAttributeInteractionInfo);
+    result.put("writeNullableBooleanAttribute", writeUnitTestingNullableBooleanAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableBitmap8CommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableBitmap8CommandParameterInfo =
         new CommandParameterInfo(
@@ -4508,7 +5075,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableBitmap8CommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableBitmap8Attribute", writeUnitTestingNullableBitmap8AttributeInteractionInfo);
+    result.put("writeNullableBitmap8Attribute", writeUnitTestingNullableBitmap8AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableBitmap16CommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableBitmap16CommandParameterInfo =
         new CommandParameterInfo(
@@ -4530,7 +5097,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableBitmap16CommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableBitmap16Attribute", writeUnitTestingNullableBitmap16AttributeInteractionInfo);
+    result.put("writeNullableBitmap16Attribute", writeUnitTestingNullableBitmap16AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableBitmap32CommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableBitmap32CommandParameterInfo =
         new CommandParameterInfo(
@@ -4552,7 +5119,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableBitmap32CommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableBitmap32Attribute", writeUnitTestingNullableBitmap32AttributeInteractionInfo);
+    result.put("writeNullableBitmap32Attribute", writeUnitTestingNullableBitmap32AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableBitmap64CommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableBitmap64CommandParameterInfo =
         new CommandParameterInfo(
@@ -4574,7 +5141,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableBitmap64CommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableBitmap64Attribute", writeUnitTestingNullableBitmap64AttributeInteractionInfo);
+    result.put("writeNullableBitmap64Attribute", writeUnitTestingNullableBitmap64AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableInt8uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableInt8uCommandParameterInfo =
         new CommandParameterInfo(
@@ -4596,7 +5163,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableInt8uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableInt8uAttribute", writeUnitTestingNullableInt8uAttributeInteractionInfo);
+    result.put("writeNullableInt8uAttribute", writeUnitTestingNullableInt8uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableInt16uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableInt16uCommandParameterInfo =
         new CommandParameterInfo(
@@ -4618,7 +5185,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableInt16uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableInt16uAttribute", writeUnitTestingNullableInt16uAttributeInteractionInfo);
+    result.put("writeNullableInt16uAttribute", writeUnitTestingNullableInt16uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableInt24uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableInt24uCommandParameterInfo =
         new CommandParameterInfo(
@@ -4640,7 +5207,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableInt24uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableInt24uAttribute", writeUnitTestingNullableInt24uAttributeInteractionInfo);
+    result.put("writeNullableInt24uAttribute", writeUnitTestingNullableInt24uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableInt32uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableInt32uCommandParameterInfo =
         new CommandParameterInfo(
@@ -4662,7 +5229,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableInt32uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableInt32uAttribute", writeUnitTestingNullableInt32uAttributeInteractionInfo);
+    result.put("writeNullableInt32uAttribute", writeUnitTestingNullableInt32uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableInt40uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableInt40uCommandParameterInfo =
         new CommandParameterInfo(
@@ -4684,7 +5251,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableInt40uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableInt40uAttribute", writeUnitTestingNullableInt40uAttributeInteractionInfo);
+    result.put("writeNullableInt40uAttribute", writeUnitTestingNullableInt40uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableInt48uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableInt48uCommandParameterInfo =
         new CommandParameterInfo(
@@ -4706,7 +5273,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableInt48uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableInt48uAttribute", writeUnitTestingNullableInt48uAttributeInteractionInfo);
+    result.put("writeNullableInt48uAttribute", writeUnitTestingNullableInt48uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableInt56uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableInt56uCommandParameterInfo =
         new CommandParameterInfo(
@@ -4728,7 +5295,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableInt56uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableInt56uAttribute", writeUnitTestingNullableInt56uAttributeInteractionInfo);
+    result.put("writeNullableInt56uAttribute", writeUnitTestingNullableInt56uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableInt64uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableInt64uCommandParameterInfo =
         new CommandParameterInfo(
@@ -4750,7 +5317,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableInt64uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableInt64uAttribute", writeUnitTestingNullableInt64uAttributeInteractionInfo);
+    result.put("writeNullableInt64uAttribute", writeUnitTestingNullableInt64uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableInt8sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableInt8sCommandParameterInfo =
         new CommandParameterInfo(
@@ -4772,7 +5339,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableInt8sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableInt8sAttribute", writeUnitTestingNullableInt8sAttributeInteractionInfo);
+    result.put("writeNullableInt8sAttribute", writeUnitTestingNullableInt8sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableInt16sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableInt16sCommandParameterInfo =
         new CommandParameterInfo(
@@ -4794,7 +5361,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableInt16sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableInt16sAttribute", writeUnitTestingNullableInt16sAttributeInteractionInfo);
+    result.put("writeNullableInt16sAttribute", writeUnitTestingNullableInt16sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableInt24sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableInt24sCommandParameterInfo =
         new CommandParameterInfo(
@@ -4816,7 +5383,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableInt24sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableInt24sAttribute", writeUnitTestingNullableInt24sAttributeInteractionInfo);
+    result.put("writeNullableInt24sAttribute", writeUnitTestingNullableInt24sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableInt32sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableInt32sCommandParameterInfo =
         new CommandParameterInfo(
@@ -4838,7 +5405,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableInt32sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableInt32sAttribute", writeUnitTestingNullableInt32sAttributeInteractionInfo);
+    result.put("writeNullableInt32sAttribute", writeUnitTestingNullableInt32sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableInt40sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableInt40sCommandParameterInfo =
         new CommandParameterInfo(
@@ -4860,7 +5427,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableInt40sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableInt40sAttribute", writeUnitTestingNullableInt40sAttributeInteractionInfo);
+    result.put("writeNullableInt40sAttribute", writeUnitTestingNullableInt40sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableInt48sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableInt48sCommandParameterInfo =
         new CommandParameterInfo(
@@ -4882,7 +5449,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableInt48sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableInt48sAttribute", writeUnitTestingNullableInt48sAttributeInteractionInfo);
+    result.put("writeNullableInt48sAttribute", writeUnitTestingNullableInt48sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableInt56sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableInt56sCommandParameterInfo =
         new CommandParameterInfo(
@@ -4904,7 +5471,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableInt56sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableInt56sAttribute", writeUnitTestingNullableInt56sAttributeInteractionInfo);
+    result.put("writeNullableInt56sAttribute", writeUnitTestingNullableInt56sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableInt64sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableInt64sCommandParameterInfo =
         new CommandParameterInfo(
@@ -4926,7 +5493,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableInt64sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableInt64sAttribute", writeUnitTestingNullableInt64sAttributeInteractionInfo);
+    result.put("writeNullableInt64sAttribute", writeUnitTestingNullableInt64sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableEnum8CommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableEnum8CommandParameterInfo =
         new CommandParameterInfo(
@@ -4948,7 +5515,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableEnum8CommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableEnum8Attribute", writeUnitTestingNullableEnum8AttributeInteractionInfo);
+    result.put("writeNullableEnum8Attribute", writeUnitTestingNullableEnum8AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableEnum16CommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableEnum16CommandParameterInfo =
         new CommandParameterInfo(
@@ -4970,7 +5537,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableEnum16CommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableEnum16Attribute", writeUnitTestingNullableEnum16AttributeInteractionInfo);
+    result.put("writeNullableEnum16Attribute", writeUnitTestingNullableEnum16AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableFloatSingleCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableFloatSingleCommandParameterInfo =
         new CommandParameterInfo(
@@ -4992,7 +5559,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableFloatSingleCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableFloatSingleAttribute", writeUnitTestingNullableFloatSingleAttributeInteractionInfo);
+    result.put("writeNullableFloatSingleAttribute", writeUnitTestingNullableFloatSingleAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableFloatDoubleCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableFloatDoubleCommandParameterInfo =
         new CommandParameterInfo(
@@ -5014,7 +5581,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableFloatDoubleCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableFloatDoubleAttribute", writeUnitTestingNullableFloatDoubleAttributeInteractionInfo);
+    result.put("writeNullableFloatDoubleAttribute", writeUnitTestingNullableFloatDoubleAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableOctetStringCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableOctetStringCommandParameterInfo =
         new CommandParameterInfo(
@@ -5036,7 +5603,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableOctetStringCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableOctetStringAttribute", writeUnitTestingNullableOctetStringAttributeInteractionInfo);
+    result.put("writeNullableOctetStringAttribute", writeUnitTestingNullableOctetStringAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableCharStringCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableCharStringCommandParameterInfo =
         new CommandParameterInfo(
@@ -5058,7 +5625,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableCharStringCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableCharStringAttribute", writeUnitTestingNullableCharStringAttributeInteractionInfo);
+    result.put("writeNullableCharStringAttribute", writeUnitTestingNullableCharStringAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableEnumAttrCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableEnumAttrCommandParameterInfo =
         new CommandParameterInfo(
@@ -5080,7 +5647,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableEnumAttrCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableEnumAttrAttribute", writeUnitTestingNullableEnumAttrAttributeInteractionInfo);
+    result.put("writeNullableEnumAttrAttribute", writeUnitTestingNullableEnumAttrAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableRangeRestrictedInt8uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableRangeRestrictedInt8uCommandParameterInfo =
         new CommandParameterInfo(
@@ -5102,7 +5669,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableRangeRestrictedInt8uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableRangeRestrictedInt8uAttribute", writeUnitTestingNullableRangeRestrictedInt8uAttributeInteractionInfo);
+    result.put("writeNullableRangeRestrictedInt8uAttribute", writeUnitTestingNullableRangeRestrictedInt8uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableRangeRestrictedInt8sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableRangeRestrictedInt8sCommandParameterInfo =
         new CommandParameterInfo(
@@ -5124,7 +5691,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableRangeRestrictedInt8sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableRangeRestrictedInt8sAttribute", writeUnitTestingNullableRangeRestrictedInt8sAttributeInteractionInfo);
+    result.put("writeNullableRangeRestrictedInt8sAttribute", writeUnitTestingNullableRangeRestrictedInt8sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableRangeRestrictedInt16uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableRangeRestrictedInt16uCommandParameterInfo =
         new CommandParameterInfo(
@@ -5146,7 +5713,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableRangeRestrictedInt16uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableRangeRestrictedInt16uAttribute", writeUnitTestingNullableRangeRestrictedInt16uAttributeInteractionInfo);
+    result.put("writeNullableRangeRestrictedInt16uAttribute", writeUnitTestingNullableRangeRestrictedInt16uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableRangeRestrictedInt16sCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableRangeRestrictedInt16sCommandParameterInfo =
         new CommandParameterInfo(
@@ -5168,7 +5735,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableRangeRestrictedInt16sCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableRangeRestrictedInt16sAttribute", writeUnitTestingNullableRangeRestrictedInt16sAttributeInteractionInfo);
+    result.put("writeNullableRangeRestrictedInt16sAttribute", writeUnitTestingNullableRangeRestrictedInt16sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingWriteOnlyInt8uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingwriteOnlyInt8uCommandParameterInfo =
         new CommandParameterInfo(
@@ -5190,7 +5757,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingWriteOnlyInt8uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeWriteOnlyInt8uAttribute", writeUnitTestingWriteOnlyInt8uAttributeInteractionInfo);
+    result.put("writeWriteOnlyInt8uAttribute", writeUnitTestingWriteOnlyInt8uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingNullableGlobalEnumCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingnullableGlobalEnumCommandParameterInfo =
         new CommandParameterInfo(
@@ -5212,7 +5779,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingNullableGlobalEnumCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeNullableGlobalEnumAttribute", writeUnitTestingNullableGlobalEnumAttributeInteractionInfo);
+    result.put("writeNullableGlobalEnumAttribute", writeUnitTestingNullableGlobalEnumAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeUnitTestingMeiInt8uCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo unitTestingmeiInt8uCommandParameterInfo =
         new CommandParameterInfo(
@@ -5234,11 +5801,17 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeUnitTestingMeiInt8uCommandParams
     );
-    writeUnitTestingInteractionInfo.put("writeMeiInt8uAttribute", writeUnitTestingMeiInt8uAttributeInteractionInfo);
-    writeAttributeMap.put("unitTesting", writeUnitTestingInteractionInfo);
-    Map<String, InteractionInfo> writeFaultInjectionInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("faultInjection", writeFaultInjectionInteractionInfo);
-    Map<String, InteractionInfo> writeSampleMeiInteractionInfo = new LinkedHashMap<>();
+    result.put("writeMeiInt8uAttribute", writeUnitTestingMeiInt8uAttributeInteractionInfo);
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeFaultInjectionInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
+    return result;
+  }
+
+  static Map<String, InteractionInfo> writeSampleMeiInteractionInfo() {
+    Map<String, InteractionInfo> result = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeSampleMeiFlipFlopCommandParams = new LinkedHashMap<String, CommandParameterInfo>();
     CommandParameterInfo sampleMeiflipFlopCommandParameterInfo =
         new CommandParameterInfo(
@@ -5260,7 +5833,7 @@ public class ClusterWriteMapping {
       () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
       writeSampleMeiFlipFlopCommandParams
     );
-    writeSampleMeiInteractionInfo.put("writeFlipFlopAttribute", writeSampleMeiFlipFlopAttributeInteractionInfo);
-    writeAttributeMap.put("sampleMei", writeSampleMeiInteractionInfo);return writeAttributeMap;
+    result.put("writeFlipFlopAttribute", writeSampleMeiFlipFlopAttributeInteractionInfo);
+    return result;
   }
 }
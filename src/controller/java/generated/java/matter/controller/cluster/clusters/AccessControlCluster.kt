@@ -305,9 +305,12 @@ class AccessControlCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Acl attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -451,9 +454,12 @@ class AccessControlCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Extension attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -550,10 +556,11 @@ class AccessControlCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Subjectsperaccesscontrolentry attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -633,10 +640,11 @@ class AccessControlCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Targetsperaccesscontrolentry attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -718,10 +726,11 @@ class AccessControlCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Accesscontrolentriesperfabric attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -817,10 +826,11 @@ class AccessControlCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Commissioningarl attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -927,9 +937,12 @@ class AccessControlCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Arl attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -1035,9 +1048,12 @@ class AccessControlCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Auxiliaryacl attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -1134,10 +1150,11 @@ class AccessControlCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Generatedcommandlist attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -1231,10 +1248,11 @@ class AccessControlCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Acceptedcommandlist attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -1328,9 +1346,12 @@ class AccessControlCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Attributelist attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -1416,9 +1437,12 @@ class AccessControlCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Featuremap attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -1497,10 +1521,11 @@ class AccessControlCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Clusterrevision attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
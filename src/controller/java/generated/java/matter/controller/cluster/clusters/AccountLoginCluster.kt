@@ -246,10 +246,11 @@ class AccountLoginCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Generatedcommandlist attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -343,10 +344,11 @@ class AccountLoginCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Acceptedcommandlist attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -440,9 +442,12 @@ class AccountLoginCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Attributelist attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -528,9 +533,12 @@ class AccountLoginCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Featuremap attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -609,10 +617,11 @@ class AccountLoginCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Clusterrevision attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -508,9 +508,12 @@ class ActionsCluster(private val controller: MatterController, private val endpo
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Actionlist attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -603,9 +606,12 @@ class ActionsCluster(private val controller: MatterController, private val endpo
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Endpointlists attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -696,9 +702,12 @@ class ActionsCluster(private val controller: MatterController, private val endpo
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Setupurl attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -789,10 +798,11 @@ class ActionsCluster(private val controller: MatterController, private val endpo
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Generatedcommandlist attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -886,10 +896,11 @@ class ActionsCluster(private val controller: MatterController, private val endpo
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Acceptedcommandlist attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -983,9 +994,12 @@ class ActionsCluster(private val controller: MatterController, private val endpo
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Attributelist attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -1071,9 +1085,12 @@ class ActionsCluster(private val controller: MatterController, private val endpo
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Featuremap attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -1152,10 +1169,11 @@ class ActionsCluster(private val controller: MatterController, private val endpo
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Clusterrevision attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -188,9 +188,12 @@ class ActivatedCarbonFilterMonitoringCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Condition attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -279,10 +282,11 @@ class ActivatedCarbonFilterMonitoringCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Degradationdirection attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -367,10 +371,11 @@ class ActivatedCarbonFilterMonitoringCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Changeindication attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -455,10 +460,11 @@ class ActivatedCarbonFilterMonitoringCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Inplaceindicator attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -593,10 +599,11 @@ class ActivatedCarbonFilterMonitoringCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Lastchangedtime attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -702,10 +709,11 @@ class ActivatedCarbonFilterMonitoringCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Replacementproductlist attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -808,10 +816,11 @@ class ActivatedCarbonFilterMonitoringCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Generatedcommandlist attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -905,10 +914,11 @@ class ActivatedCarbonFilterMonitoringCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Acceptedcommandlist attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -1002,9 +1012,12 @@ class ActivatedCarbonFilterMonitoringCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Attributelist attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -1090,9 +1103,12 @@ class ActivatedCarbonFilterMonitoringCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Featuremap attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -1171,10 +1187,11 @@ class ActivatedCarbonFilterMonitoringCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Clusterrevision attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
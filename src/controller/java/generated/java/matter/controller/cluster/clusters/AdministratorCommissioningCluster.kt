@@ -240,9 +240,12 @@ class AdministratorCommissioningCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Windowstatus attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -327,10 +330,11 @@ class AdministratorCommissioningCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Adminfabricindex attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -422,9 +426,12 @@ class AdministratorCommissioningCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Adminvendorid attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -516,10 +523,11 @@ class AdministratorCommissioningCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Generatedcommandlist attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -613,10 +621,11 @@ class AdministratorCommissioningCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Acceptedcommandlist attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -710,9 +719,12 @@ class AdministratorCommissioningCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Attributelist attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -798,9 +810,12 @@ class AdministratorCommissioningCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) { "Featuremap attribute not found in Node State update" }
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
+          }
 
           // Decode the TLV data into the appropriate type
           val tlvReader = TlvReader(attributeData.data)
@@ -879,10 +894,11 @@ class AdministratorCommissioningCluster(
           val attributeData =
             subscriptionState.updateState.successes
               .filterIsInstance<ReadData.Attribute>()
-              .firstOrNull { it.path.attributeId == ATTRIBUTE_ID }
+              .lastOrNull { it.path.attributeId == ATTRIBUTE_ID }
 
-          requireNotNull(attributeData) {
-            "Clusterrevision attribute not found in Node State update"
+          // Each update only carries the paths reported since the previous one.
+          if (attributeData == null) {
+            return@transform
           }
 
           // Decode the TLV data into the appropriate type
@@ -1,29 +1,67 @@
 package chip.clusterinfo;
 
 import chip.devicecontroller.ChipClusters.BaseChipCluster;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /** ClusterInfo maps commands and provides a constructor function for a cluster. */
 public class ClusterInfo {
   private final ClusterConstructor createClusterFunction;
-  private final Map<String, InteractionInfo> commands;
+  private final Supplier<Map<String, InteractionInfo>> commandsSupplier;
+  private volatile Map<String, InteractionInfo> commands;
 
   public ClusterInfo(
       ClusterConstructor createClusterFunction, Map<String, InteractionInfo> commands) {
     this.createClusterFunction = createClusterFunction;
+    this.commandsSupplier = null;
     this.commands = commands;
   }
 
+  /**
+   * Creates a ClusterInfo whose commands are created by {@code commandsSupplier} the first time
+   * they are needed. These commands cannot be modified.
+   */
+  public ClusterInfo(
+      ClusterConstructor createClusterFunction,
+      Supplier<Map<String, InteractionInfo>> commandsSupplier) {
+    this.createClusterFunction = createClusterFunction;
+    this.commandsSupplier = commandsSupplier;
+  }
+
   public ClusterConstructor getCreateClusterFunction() {
     return createClusterFunction;
   }
 
   public Map<String, InteractionInfo> getCommands() {
-    return commands;
+    Map<String, InteractionInfo> result = commands;
+    if (result == null) {
+      synchronized (this) {
+        result = commands;
+        if (result == null) {
+          result = Collections.unmodifiableMap(commandsSupplier.get());
+          commands = result;
+        }
+      }
+    }
+    return result;
   }
 
+  /**
+   * Adds commands to this cluster. Commands created on demand are not modified; they are replaced
+   * with an unmodifiable copy that also holds {@code newCommands}.
+   */
   public void combineCommands(Map<String, InteractionInfo> newCommands) {
-    this.commands.putAll(newCommands);
+    if (commandsSupplier == null) {
+      commands.putAll(newCommands);
+      return;
+    }
+    synchronized (this) {
+      Map<String, InteractionInfo> combined = new HashMap<>(getCommands());
+      combined.putAll(newCommands);
+      commands = Collections.unmodifiableMap(combined);
+    }
   }
 
   /**
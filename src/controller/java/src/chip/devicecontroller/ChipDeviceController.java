@@ -32,17 +32,26 @@ import java.util.Calendar;
 import java.util.List;
 import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 /** Controller to interact with the CHIP device. */
 public class ChipDeviceController {
   private static final String TAG = ChipDeviceController.class.getSimpleName();
+  private static final long CHIP_ERROR_INCORRECT_STATE = 0x03;
   private long deviceControllerPtr;
   private int connectionId;
   private CompletionListener completionListener;
   private ScanNetworksListener scanNetworksListener;
   private NOCChainIssuer nocChainIssuer;
+  // Completes the futures of the asynchronous variants off the CHIP thread, so that their
+  // dependent stages can call back into the controller.
+  private final Executor futureExecutor = ForkJoinPool.commonPool();
+  private final CommissioningOperationQueue commissioningOperations =
+      new CommissioningOperationQueue(futureExecutor, this::stopDevicePairing);
 
   /**
    * To load class and jni, we need to new AndroidChipPlatform after jni load but before new
@@ -67,6 +76,8 @@ public class ChipDeviceController {
       throw new NullPointerException("params cannot be null");
     }
     deviceControllerPtr = newDeviceController(params);
+    // Creating a controller re-initializes the shared ICD client storage.
+    ICDPeerCache.invalidateAll();
   }
 
   public void setCompletionListener(CompletionListener listener) {
@@ -260,7 +271,7 @@ public class ChipDeviceController {
 
       if (connectionId == 0) {
         Log.e(TAG, "Failed to add Bluetooth connection.");
-        completionListener.onError(new Exception("Failed to add Bluetooth connection."));
+        onError(new Exception("Failed to add Bluetooth connection."));
         return;
       }
 
@@ -276,10 +287,37 @@ public class ChipDeviceController {
           params.getICDRegistrationInfo());
     } else {
       Log.e(TAG, "Bluetooth connection already in use.");
-      completionListener.onError(new Exception("Bluetooth connection already in use."));
+      onError(new Exception("Bluetooth connection already in use."));
     }
   }
 
+  /**
+   * Like {@link #pairDeviceThroughBLE(BluetoothGatt, int, long, long, CommissionParameters)}, but
+   * returns a future completed once the device is commissioned.
+   *
+   * <p>Pairing and PASE operations started through the asynchronous variants run one after the
+   * other, in the order they were started. The {@link CompletionListener} is still called. Do not
+   * start PASE or commissioning through the synchronous variants while asynchronous ones are
+   * pending: their completion would be taken for that of the running asynchronous operation.
+   *
+   * <p>Cancelling the future drops the operation, and stops pairing if it already started.
+   *
+   * @return a future completed exceptionally with a {@link ChipDeviceControllerException} carrying
+   *     the error code if PASE or commissioning fails, or {@code CHIP_ERROR_TIMEOUT} if it does not
+   *     complete in time
+   */
+  public CompletableFuture<Void> pairDeviceThroughBLEAsync(
+      BluetoothGatt bleServer,
+      int connId,
+      long deviceId,
+      long setupPincode,
+      @Nonnull CommissionParameters params) {
+    return commissioningOperations.submit(
+        CommissioningOperationQueue.Kind.PAIRING,
+        deviceId,
+        () -> pairDeviceThroughBLE(bleServer, connId, deviceId, setupPincode, params));
+  }
+
   /**
    * Pair a device connected through NFC.
    *
@@ -301,6 +339,19 @@ public class ChipDeviceController {
         params.getICDRegistrationInfo());
   }
 
+  /**
+   * Like {@link #pairDeviceThroughNfc(long, long, CommissionParameters)}, but returns a future
+   * completed once the device is commissioned, as described in {@link
+   * #pairDeviceThroughBLEAsync(BluetoothGatt, int, long, long, CommissionParameters)}.
+   */
+  public CompletableFuture<Void> pairDeviceThroughNfcAsync(
+      long deviceId, long setupPincode, @Nonnull CommissionParameters params) {
+    return commissioningOperations.submit(
+        CommissioningOperationQueue.Kind.PAIRING,
+        deviceId,
+        () -> pairDeviceThroughNfc(deviceId, setupPincode, params));
+  }
+
   /* This method was deprecated. Please use {@link ChipDeviceController.pairDeviceWithAddress(long, String, int, int, long, CommissionParameters)}. */
   public void pairDeviceWithAddress(
       long deviceId,
@@ -370,7 +421,7 @@ public class ChipDeviceController {
       @Nonnull CommissionParameters params) {
     if (params.getNetworkCredentials() != null) {
       Log.e(TAG, "Invalid parameter : NetworkCredentials");
-      completionListener.onError(new Exception("Invalid parameter : NetworkCredentials"));
+      onError(new Exception("Invalid parameter : NetworkCredentials"));
       return;
     }
     pairDeviceWithAddress(
@@ -384,6 +435,24 @@ public class ChipDeviceController {
         params.getICDRegistrationInfo());
   }
 
+  /**
+   * Like {@link #pairDeviceWithAddress(long, String, int, int, long, CommissionParameters)}, but
+   * returns a future completed once the device is commissioned, as described in {@link
+   * #pairDeviceThroughBLEAsync(BluetoothGatt, int, long, long, CommissionParameters)}.
+   */
+  public CompletableFuture<Void> pairDeviceWithAddressAsync(
+      long deviceId,
+      String address,
+      int port,
+      int discriminator,
+      long pinCode,
+      @Nonnull CommissionParameters params) {
+    return commissioningOperations.submit(
+        CommissioningOperationQueue.Kind.PAIRING,
+        deviceId,
+        () -> pairDeviceWithAddress(deviceId, address, port, discriminator, pinCode, params));
+  }
+
   /* This method was deprecated. Please use {@link ChipDeviceController.pairDeviceWithCode(long, String, boolean, boolean, CommissionParameters)}. */
   @Deprecated
   public void pairDeviceWithCode(
@@ -471,13 +540,32 @@ public class ChipDeviceController {
         params.getICDRegistrationInfo());
   }
 
+  /**
+   * Like {@link #pairDeviceWithCode(long, String, boolean, boolean, CommissionParameters)}, but
+   * returns a future completed once the device is commissioned, as described in {@link
+   * #pairDeviceThroughBLEAsync(BluetoothGatt, int, long, long, CommissionParameters)}.
+   */
+  public CompletableFuture<Void> pairDeviceWithCodeAsync(
+      long deviceId,
+      String setupCode,
+      boolean discoverOnce,
+      boolean useOnlyOnNetworkDiscovery,
+      @Nonnull CommissionParameters params) {
+    return commissioningOperations.submit(
+        CommissioningOperationQueue.Kind.PAIRING,
+        deviceId,
+        () ->
+            pairDeviceWithCode(
+                deviceId, setupCode, discoverOnce, useOnlyOnNetworkDiscovery, params));
+  }
+
   public void establishPaseConnection(long deviceId, int connId, long setupPincode) {
     if (connectionId == 0) {
       connectionId = connId;
 
       if (connectionId == 0) {
         Log.e(TAG, "Failed to add Bluetooth connection.");
-        completionListener.onError(new Exception("Failed to add Bluetooth connection."));
+        onError(new Exception("Failed to add Bluetooth connection."));
         return;
       }
 
@@ -486,7 +574,7 @@ public class ChipDeviceController {
       establishPaseConnection(deviceControllerPtr, deviceId, connId, setupPincode);
     } else {
       Log.e(TAG, "Bluetooth connection already in use.");
-      completionListener.onError(new Exception("Bluetooth connection already in use."));
+      onError(new Exception("Bluetooth connection already in use."));
     }
   }
 
@@ -518,6 +606,45 @@ public class ChipDeviceController {
         deviceControllerPtr, deviceId, setupCode, useOnlyOnNetworkDiscovery);
   }
 
+  /**
+   * Like {@link #establishPaseConnection(long, int, long)}, but returns a future completed once the
+   * PASE session is established, as described in {@link #pairDeviceThroughBLEAsync(BluetoothGatt,
+   * int, long, long, CommissionParameters)}.
+   */
+  public CompletableFuture<Void> establishPaseConnectionAsync(
+      long deviceId, int connId, long setupPincode) {
+    return commissioningOperations.submit(
+        CommissioningOperationQueue.Kind.PASE,
+        deviceId,
+        () -> establishPaseConnection(deviceId, connId, setupPincode));
+  }
+
+  /**
+   * Like {@link #establishPaseConnection(long, String, int, long)}, but returns a future completed
+   * once the PASE session is established, as described in {@link
+   * #pairDeviceThroughBLEAsync(BluetoothGatt, int, long, long, CommissionParameters)}.
+   */
+  public CompletableFuture<Void> establishPaseConnectionAsync(
+      long deviceId, String address, int port, long setupPincode) {
+    return commissioningOperations.submit(
+        CommissioningOperationQueue.Kind.PASE,
+        deviceId,
+        () -> establishPaseConnection(deviceId, address, port, setupPincode));
+  }
+
+  /**
+   * Like {@link #establishPaseConnection(long, String, boolean)}, but returns a future completed
+   * once the PASE session is established, as described in {@link
+   * #pairDeviceThroughBLEAsync(BluetoothGatt, int, long, long, CommissionParameters)}.
+   */
+  public CompletableFuture<Void> establishPaseConnectionAsync(
+      long deviceId, String setupCode, boolean useOnlyOnNetworkDiscovery) {
+    return commissioningOperations.submit(
+        CommissioningOperationQueue.Kind.PASE,
+        deviceId,
+        () -> establishPaseConnection(deviceId, setupCode, useOnlyOnNetworkDiscovery));
+  }
+
   /**
    * Initiates the automatic commissioning flow using the specified network credentials. It is
    * expected that a secure session has already been established via {@link
@@ -568,6 +695,19 @@ public class ChipDeviceController {
         params.getICDRegistrationInfo());
   }
 
+  /**
+   * Like {@link #commissionDevice(long, CommissionParameters)}, but returns a future completed once
+   * the device is commissioned, as described in {@link #pairDeviceThroughBLEAsync(BluetoothGatt,
+   * int, long, long, CommissionParameters)}.
+   */
+  public CompletableFuture<Void> commissionDeviceAsync(
+      long deviceId, @Nonnull CommissionParameters params) {
+    return commissioningOperations.submit(
+        CommissioningOperationQueue.Kind.COMMISSIONING,
+        deviceId,
+        () -> commissionDevice(deviceId, params));
+  }
+
   /**
    * This function instructs the commissioner to proceed to the next stage of commissioning after
    * attestation is reported.
@@ -636,6 +776,32 @@ public class ChipDeviceController {
     unpairDeviceCallback(deviceControllerPtr, deviceId, callback);
   }
 
+  /**
+   * Like {@link #unpairDeviceCallback(long, UnpairDeviceCallback)}, but returns a future completed
+   * once the device is unpaired, or completed exceptionally with a {@link
+   * ChipDeviceControllerException} carrying the error status.
+   */
+  public CompletableFuture<Void> unpairDeviceAsync(long deviceId) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    unpairDeviceCallback(
+        deviceId,
+        new UnpairDeviceCallback() {
+          @Override
+          public void onError(int status, long remoteDeviceId) {
+            completeExceptionally(
+                future,
+                new ChipDeviceControllerException(
+                    status, "Failed to unpair " + Long.toHexString(remoteDeviceId)));
+          }
+
+          @Override
+          public void onSuccess(long remoteDeviceId) {
+            complete(future, null);
+          }
+        });
+    return future;
+  }
+
   public void continueCommissioningAfterConnectNetworkRequest(long remoteDeviceId) {
     continueCommissioningAfterConnectNetworkRequest(deviceControllerPtr, remoteDeviceId);
   }
@@ -671,6 +837,29 @@ public class ChipDeviceController {
     getConnectedDevicePointer(deviceControllerPtr, nodeId, jniCallback.getCallbackHandle());
   }
 
+  /**
+   * Like {@link #getConnectedDevicePointer(long, GetConnectedDeviceCallback)}, but returns a future
+   * completed with the device pointer, which must be released through {@link
+   * #releaseConnectedDevicePointer(long)}.
+   */
+  public CompletableFuture<Long> getConnectedDevicePointerAsync(long nodeId) {
+    CompletableFuture<Long> future = new CompletableFuture<>();
+    getConnectedDevicePointer(
+        nodeId,
+        new GetConnectedDeviceCallback() {
+          @Override
+          public void onDeviceConnected(long devicePointer) {
+            complete(future, devicePointer);
+          }
+
+          @Override
+          public void onConnectionFailure(long nodeId, Exception error) {
+            completeExceptionally(future, error);
+          }
+        });
+    return future;
+  }
+
   public void releaseConnectedDevicePointer(long devicePtr) {
     releaseOperationalDevicePointer(devicePtr);
   }
@@ -728,7 +917,9 @@ public class ChipDeviceController {
   }
 
   public void onConnectDeviceComplete() {
-    completionListener.onConnectDeviceComplete();
+    if (completionListener != null) {
+      completionListener.onConnectDeviceComplete();
+    }
   }
 
   public void onStatusUpdate(int status) {
@@ -738,12 +929,18 @@ public class ChipDeviceController {
   }
 
   public void onPairingComplete(long errorCode) {
+    commissioningOperations.onPairingComplete(errorCode);
     if (completionListener != null) {
       completionListener.onPairingComplete(errorCode);
     }
   }
 
   public void onCommissioningComplete(long nodeId, long errorCode) {
+    if (errorCode != 0) {
+      // The ICD entry stored during commissioning, if any, was removed again.
+      ICDPeerCache.invalidate(getFabricIndex());
+    }
+    commissioningOperations.onCommissioningComplete(nodeId, errorCode);
     if (completionListener != null) {
       completionListener.onCommissioningComplete(nodeId, errorCode);
     }
@@ -802,20 +999,27 @@ public class ChipDeviceController {
     connectionId = 0;
 
     Log.d(TAG, "Calling onNotifyChipConnectionClosed()");
-    completionListener.onNotifyChipConnectionClosed();
+    if (completionListener != null) {
+      completionListener.onNotifyChipConnectionClosed();
+    }
   }
 
   public void onCloseBleComplete(int connId) {
     if (releaseBluetoothGatt(connId)) {
       Log.d(TAG, "Calling onCloseBleComplete()");
-      completionListener.onCloseBleComplete();
+      if (completionListener != null) {
+        completionListener.onCloseBleComplete();
+      }
     } else {
       Log.d(TAG, "Skipped calling onCloseBleComplete(). Connection has already been closed.");
     }
   }
 
   public void onError(Throwable error) {
-    completionListener.onError(error);
+    commissioningOperations.onError(error);
+    if (completionListener != null) {
+      completionListener.onError(error);
+    }
   }
 
   public void onICDRegistrationInfoRequired() {
@@ -825,6 +1029,7 @@ public class ChipDeviceController {
   }
 
   public void onICDRegistrationComplete(long errorCode, ICDDeviceInfo icdDeviceInfo) {
+    ICDPeerCache.invalidate(getFabricIndex());
     if (completionListener != null) {
       completionListener.onICDRegistrationComplete(errorCode, icdDeviceInfo);
     }
@@ -926,6 +1131,75 @@ public class ChipDeviceController {
         deviceControllerPtr, devicePtr, duration, iteration, discriminator, setupPinCode, callback);
   }
 
+  /**
+   * Like {@link #openPairingWindowCallback(long, int, OpenCommissioningCallback)}, but returns a
+   * future completed with the setup codes of the window, or completed exceptionally with a {@link
+   * ChipDeviceControllerException} if the window could not be opened.
+   */
+  public CompletableFuture<CommissioningWindowInfo> openPairingWindowAsync(
+      long devicePtr, int duration) {
+    CompletableFuture<CommissioningWindowInfo> future = new CompletableFuture<>();
+    if (!openPairingWindowCallback(devicePtr, duration, openCommissioningCallback(future))) {
+      future.completeExceptionally(
+          new ChipDeviceControllerException(
+              CHIP_ERROR_INCORRECT_STATE, "Failed to open the commissioning window"));
+    }
+    return future;
+  }
+
+  /**
+   * Like {@link #openPairingWindowWithPINCallback(long, int, long, int, Long,
+   * OpenCommissioningCallback)}, but returns a future, as described in {@link
+   * #openPairingWindowAsync(long, int)}.
+   */
+  public CompletableFuture<CommissioningWindowInfo> openPairingWindowWithPINAsync(
+      long devicePtr,
+      int duration,
+      long iteration,
+      int discriminator,
+      @Nullable Long setupPinCode) {
+    CompletableFuture<CommissioningWindowInfo> future = new CompletableFuture<>();
+    if (!openPairingWindowWithPINCallback(
+        devicePtr,
+        duration,
+        iteration,
+        discriminator,
+        setupPinCode,
+        openCommissioningCallback(future))) {
+      future.completeExceptionally(
+          new ChipDeviceControllerException(
+              CHIP_ERROR_INCORRECT_STATE, "Failed to open the commissioning window"));
+    }
+    return future;
+  }
+
+  private OpenCommissioningCallback openCommissioningCallback(
+      CompletableFuture<CommissioningWindowInfo> future) {
+    return new OpenCommissioningCallback() {
+      @Override
+      public void onError(int status, long deviceId) {
+        completeExceptionally(
+            future,
+            new ChipDeviceControllerException(
+                status,
+                "Failed to open the commissioning window of " + Long.toHexString(deviceId)));
+      }
+
+      @Override
+      public void onSuccess(long deviceId, String manualPairingCode, String qrCode) {
+        complete(future, new CommissioningWindowInfo(deviceId, manualPairingCode, qrCode));
+      }
+    };
+  }
+
+  private <T> void complete(CompletableFuture<T> future, @Nullable T value) {
+    futureExecutor.execute(() -> future.complete(value));
+  }
+
+  private void completeExceptionally(CompletableFuture<?> future, Throwable error) {
+    futureExecutor.execute(() -> future.completeExceptionally(error));
+  }
+
   /**
    * This function is used for downloading logs from the device.
    *
@@ -1433,6 +1707,77 @@ public class ChipDeviceController {
         eventMin);
   }
 
+  /**
+   * Subscribes to the given attribute/event paths, passing each reported attribute and event to
+   * {@code reportElementCallback} as it is received instead of building a {@link
+   * chip.devicecontroller.model.NodeState} per report.
+   *
+   * @param dataVersionFilters a list of data version filter, may be null
+   */
+  public void subscribeToPath(
+      @Nullable SubscriptionEstablishedCallback subscriptionEstablishedCallback,
+      @Nullable ResubscriptionAttemptCallback resubscriptionAttemptCallback,
+      ReportElementCallback reportElementCallback,
+      long devicePtr,
+      List<ChipAttributePath> attributePaths,
+      List<ChipEventPath> eventPaths,
+      @Nullable List<DataVersionFilter> dataVersionFilters,
+      int minInterval,
+      int maxInterval,
+      boolean keepSubscriptions,
+      boolean isFabricFiltered,
+      int imTimeoutMs,
+      @Nullable Long eventMin) {
+    ReportCallbackJni jniCallback =
+        new ReportCallbackJni(
+            subscriptionEstablishedCallback, reportElementCallback, resubscriptionAttemptCallback);
+    ChipInteractionClient.subscribe(
+        deviceControllerPtr,
+        jniCallback.getCallbackHandle(),
+        devicePtr,
+        attributePaths,
+        eventPaths,
+        dataVersionFilters,
+        minInterval,
+        maxInterval,
+        keepSubscriptions,
+        isFabricFiltered,
+        imTimeoutMs,
+        eventMin,
+        ChipICDClient.isPeerICDClient(
+            ChipInteractionClient.getFabricIndex(devicePtr),
+            ChipInteractionClient.getRemoteDeviceId(devicePtr)));
+  }
+
+  /**
+   * Reads the given attribute/event paths, passing each reported attribute and event to {@code
+   * reportElementCallback} as it is received instead of building a {@link
+   * chip.devicecontroller.model.NodeState} per report.
+   *
+   * @param dataVersionFilters a list of data version filter, may be null
+   */
+  public void readPath(
+      ReportElementCallback reportElementCallback,
+      long devicePtr,
+      List<ChipAttributePath> attributePaths,
+      List<ChipEventPath> eventPaths,
+      @Nullable List<DataVersionFilter> dataVersionFilters,
+      boolean isFabricFiltered,
+      int imTimeoutMs,
+      @Nullable Long eventMin) {
+    ReportCallbackJni jniCallback = new ReportCallbackJni(null, reportElementCallback, null);
+    ChipInteractionClient.read(
+        deviceControllerPtr,
+        jniCallback.getCallbackHandle(),
+        devicePtr,
+        attributePaths,
+        eventPaths,
+        dataVersionFilters,
+        isFabricFiltered,
+        imTimeoutMs,
+        eventMin);
+  }
+
   /**
    * @brief Write a list of attributes into target device
    * @param WriteAttributesCallback Callback when a write response has been received and processed
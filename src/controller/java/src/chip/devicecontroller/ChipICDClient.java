@@ -22,20 +22,41 @@ import java.util.List;
 
 public class ChipICDClient {
   public static boolean isPeerICDClient(int fabricIndex, long deviceId) {
+    return ICDPeerCache.contains(fabricIndex, deviceId, ChipICDClient::loadPeerNodeIds);
+  }
+
+  public static void storeICDEntryWithKey(
+      int fabricIndex, ICDClientInfo icdClientInfo, byte[] key) {
+    nativeStoreICDEntryWithKey(fabricIndex, icdClientInfo, key);
+    ICDPeerCache.invalidate(fabricIndex);
+  }
+
+  public static void removeICDEntryWithKey(int fabricIndex, ICDClientInfo icdClientInfo) {
+    nativeRemoveICDEntryWithKey(fabricIndex, icdClientInfo);
+    ICDPeerCache.invalidate(fabricIndex);
+  }
+
+  public static void clearICDClientInfo(int fabricIndex, long deviceId) {
+    nativeClearICDClientInfo(fabricIndex, deviceId);
+    ICDPeerCache.invalidate(fabricIndex);
+  }
+
+  public static native List<ICDClientInfo> getICDClientInfo(int fabricIndex);
+
+  private static long[] loadPeerNodeIds(int fabricIndex) {
     List<ICDClientInfo> clientInfo = getICDClientInfo(fabricIndex);
     if (clientInfo == null) {
-      return false;
+      return new long[0];
     }
 
-    return clientInfo.stream().anyMatch(info -> info.getPeerNodeId() == deviceId);
+    return clientInfo.stream().mapToLong(ICDClientInfo::getPeerNodeId).toArray();
   }
 
-  public static native void storeICDEntryWithKey(
+  private static native void nativeStoreICDEntryWithKey(
       int fabricIndex, ICDClientInfo icdClientInfo, byte[] key);
 
-  public static native void removeICDEntryWithKey(int fabricIndex, ICDClientInfo icdClientInfo);
-
-  public static native void clearICDClientInfo(int fabricIndex, long deviceId);
+  private static native void nativeRemoveICDEntryWithKey(
+      int fabricIndex, ICDClientInfo icdClientInfo);
 
-  public static native List<ICDClientInfo> getICDClientInfo(int fabricIndex);
+  private static native void nativeClearICDClientInfo(int fabricIndex, long deviceId);
 }
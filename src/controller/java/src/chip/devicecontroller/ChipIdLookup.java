@@ -41,11 +41,12 @@ public final class ChipIdLookup {
       return String.format("UNKNOWN_CLUSTER(%d)", clusterId);
     }
 
-    try {
-      return cluster.getAttributeName(attributeId);
-    } catch (NoSuchFieldError e) {
+    String name = cluster.findAttributeName(attributeId);
+    if (name == null) {
       return String.format("UNKNOWN_ATTRIBUTE(%d, %d)", clusterId, attributeId);
     }
+
+    return name;
   }
 
   /**
@@ -58,10 +59,11 @@ public final class ChipIdLookup {
       return String.format("UNKNOWN_CLUSTER(%d)", clusterId);
     }
 
-    try {
-      return cluster.getEventName(eventId);
-    } catch (NoSuchFieldError e) {
+    String name = cluster.findEventName(eventId);
+    if (name == null) {
       return String.format("UNKNOWN_EVENT(%d, %d)", clusterId, eventId);
     }
+
+    return name;
   }
 }
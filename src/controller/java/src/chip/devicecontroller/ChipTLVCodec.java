@@ -0,0 +1,42 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import java.util.ArrayList;
+import java.util.function.Supplier;
+import matter.tlv.Tag;
+import matter.tlv.TlvReader;
+
+/** Helpers shared by the generated TLV encoding and decoding code of ChipClusters and ChipStructs. */
+final class ChipTLVCodec {
+  private ChipTLVCodec() {}
+
+  /**
+   * Reads the array with the given tag, calling elementReader once per element with the reader
+   * positioned on that element.
+   */
+  static <T> ArrayList<T> readArray(TlvReader reader, Tag tag, Supplier<T> elementReader) {
+    ArrayList<T> elements = new ArrayList<>();
+    reader.enterArray(tag);
+    while (!reader.isEndOfContainer()) {
+      elements.add(elementReader.get());
+    }
+    reader.exitContainer();
+    return elements;
+  }
+}
@@ -0,0 +1,247 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import javax.annotation.Nullable;
+
+/**
+ * Runs the PASE and commissioning operations started through the {@link CompletableFuture} variants
+ * of {@link ChipDeviceController} one after the other, since the native commissioner handles a
+ * single device at a time, and completes each from the controller callbacks it waits for.
+ *
+ * <p>Queued operations are started and futures are completed on an executor: the callbacks are
+ * called on the CHIP thread, which may not call back into the controller.
+ *
+ * <p>An operation that does not complete within the timeout of its {@link Kind} once started fails
+ * with {@code CHIP_ERROR_TIMEOUT}, and an operation whose future is cancelled is dropped. Either
+ * way a started operation is aborted, so that the next one can start.
+ *
+ * <p>The queue only knows about the operations submitted to it. The controller callbacks of a
+ * synchronous PASE or commissioning call made while an operation is active complete that operation,
+ * so the synchronous variants must not be used while asynchronous ones are pending.
+ */
+final class CommissioningOperationQueue {
+  private static final long CHIP_ERROR_TIMEOUT = 0x32;
+
+  /** What an operation waits for. */
+  enum Kind {
+    /** {@link ChipDeviceController#onPairingComplete}. */
+    PASE(TimeUnit.MINUTES.toMillis(2)),
+    /** {@link ChipDeviceController#onCommissioningComplete}, after a successful PASE session. */
+    PAIRING(TimeUnit.MINUTES.toMillis(10)),
+    /** {@link ChipDeviceController#onCommissioningComplete} over an existing PASE session. */
+    COMMISSIONING(TimeUnit.MINUTES.toMillis(10));
+
+    final long timeoutMillis;
+
+    Kind(long timeoutMillis) {
+      this.timeoutMillis = timeoutMillis;
+    }
+  }
+
+  private static final class Operation {
+    final Kind kind;
+    final long nodeId;
+    final Runnable start;
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    @Nullable ScheduledFuture<?> timeout;
+
+    Operation(Kind kind, long nodeId, Runnable start) {
+      this.kind = kind;
+      this.nodeId = nodeId;
+      this.start = start;
+    }
+  }
+
+  private final Executor executor;
+  private final ScheduledExecutorService timer;
+  private final LongConsumer abort;
+  private final ArrayDeque<Operation> pendingOperations = new ArrayDeque<>();
+  @Nullable private Operation activeOperation;
+
+  /**
+   * @param executor the executor starting operations and completing their futures
+   * @param abort called with the node ID of a started operation that timed out or was cancelled
+   */
+  CommissioningOperationQueue(Executor executor, LongConsumer abort) {
+    this(executor, abort, SharedTimer.INSTANCE);
+  }
+
+  CommissioningOperationQueue(
+      Executor executor, LongConsumer abort, ScheduledExecutorService timer) {
+    this.executor = executor;
+    this.abort = abort;
+    this.timer = timer;
+  }
+
+  /**
+   * Queues an operation on a node, started by {@code start} once the operations queued before it
+   * are done.
+   */
+  CompletableFuture<Void> submit(Kind kind, long nodeId, Runnable start) {
+    Operation operation = new Operation(kind, nodeId, start);
+    operation.future.whenComplete(
+        (result, error) -> {
+          if (operation.future.isCancelled()) {
+            cancel(operation);
+          }
+        });
+    synchronized (this) {
+      if (activeOperation != null) {
+        pendingOperations.add(operation);
+        return operation.future;
+      }
+      activeOperation = operation;
+    }
+    start(operation);
+    return operation.future;
+  }
+
+  void onPairingComplete(long errorCode) {
+    Operation operation = getActiveOperation();
+    if (operation == null) {
+      return;
+    }
+    if (errorCode != 0) {
+      finish(
+          operation,
+          new ChipDeviceControllerException(
+              errorCode, "PASE session with " + Long.toHexString(operation.nodeId) + " failed"));
+    } else if (operation.kind == Kind.PASE) {
+      finish(operation, null);
+    }
+  }
+
+  void onCommissioningComplete(long nodeId, long errorCode) {
+    Operation operation = getActiveOperation();
+    if (operation == null || operation.kind == Kind.PASE || operation.nodeId != nodeId) {
+      return;
+    }
+    finish(
+        operation,
+        errorCode == 0
+            ? null
+            : new ChipDeviceControllerException(
+                errorCode, "Commissioning of " + Long.toHexString(nodeId) + " failed"));
+  }
+
+  void onError(Throwable error) {
+    Operation operation = getActiveOperation();
+    if (operation != null) {
+      finish(operation, error);
+    }
+  }
+
+  @Nullable
+  private synchronized Operation getActiveOperation() {
+    return activeOperation;
+  }
+
+  private void start(Operation operation) {
+    synchronized (this) {
+      if (activeOperation != operation) {
+        // Cancelled before it could start.
+        return;
+      }
+      operation.timeout =
+          timer.schedule(
+              () -> timeOut(operation), operation.kind.timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+    try {
+      operation.start.run();
+    } catch (RuntimeException e) {
+      finish(operation, e);
+    }
+  }
+
+  private void timeOut(Operation operation) {
+    if (getActiveOperation() != operation) {
+      return;
+    }
+    abort.accept(operation.nodeId);
+    finish(
+        operation,
+        new ChipDeviceControllerException(
+            CHIP_ERROR_TIMEOUT,
+            operation.kind + " of " + Long.toHexString(operation.nodeId) + " timed out"));
+  }
+
+  private void cancel(Operation operation) {
+    synchronized (this) {
+      if (pendingOperations.remove(operation)) {
+        return;
+      }
+    }
+    if (getActiveOperation() == operation) {
+      abort.accept(operation.nodeId);
+      finish(operation, null);
+    }
+  }
+
+  private void finish(Operation operation, @Nullable Throwable error) {
+    Operation next;
+    synchronized (this) {
+      if (activeOperation != operation) {
+        return;
+      }
+      if (operation.timeout != null) {
+        operation.timeout.cancel(false);
+      }
+      next = pendingOperations.poll();
+      activeOperation = next;
+    }
+    executor.execute(
+        () -> {
+          if (error == null) {
+            operation.future.complete(null);
+          } else {
+            operation.future.completeExceptionally(error);
+          }
+          if (next != null) {
+            start(next);
+          }
+        });
+  }
+
+  /** Holds the timer shared by the queues of every controller, created on first use. */
+  private static final class SharedTimer {
+    static final ScheduledExecutorService INSTANCE = create();
+
+    private static ScheduledExecutorService create() {
+      ScheduledThreadPoolExecutor timer =
+          new ScheduledThreadPoolExecutor(
+              1,
+              runnable -> {
+                Thread thread = new Thread(runnable, "CommissioningOperationTimer");
+                thread.setDaemon(true);
+                return thread;
+              });
+      // Most operations complete in time, so drop their timeouts instead of keeping them until due.
+      timer.setRemoveOnCancelPolicy(true);
+      return timer;
+    }
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+/** The setup codes of a commissioning window opened on a device. */
+public final class CommissioningWindowInfo {
+  private final long deviceId;
+  private final String manualPairingCode;
+  private final String qrCode;
+
+  public CommissioningWindowInfo(long deviceId, String manualPairingCode, String qrCode) {
+    this.deviceId = deviceId;
+    this.manualPairingCode = manualPairingCode;
+    this.qrCode = qrCode;
+  }
+
+  public long getDeviceId() {
+    return deviceId;
+  }
+
+  public String getManualPairingCode() {
+    return manualPairingCode;
+  }
+
+  public String getQrCode() {
+    return qrCode;
+  }
+}
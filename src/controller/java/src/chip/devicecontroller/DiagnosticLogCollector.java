@@ -0,0 +1,308 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Downloads diagnostic logs from any number of nodes at once, writing each to its own file.
+ *
+ * <p>Chunks are handed from {@link DownloadLogCallback#onTransferData} to a write executor without
+ * copying, and written to the file of their node through a {@link FileChannel}, in order for each
+ * node and in parallel across nodes. The bytes received but not yet written are bounded: once they
+ * exceed the limit, the next chunk is refused by returning {@code false} from {@code
+ * onTransferData}, which makes the native layer reject that transfer, so that a slow disk fails the
+ * downloads it cannot keep up with instead of buffering them in memory. Their nodes can be
+ * collected again once the queue drains.
+ */
+public final class DiagnosticLogCollector {
+  private static final Logger logger = Logger.getLogger(DiagnosticLogCollector.class.getName());
+
+  /** Receives the outcome of each log download. Called on the write executor. */
+  public interface Listener {
+    /** Called once the whole log of a node has been written to {@code file}. */
+    void onLogCollected(long nodeId, File file, TransferStatistics statistics);
+
+    /**
+     * Called when the log of a node could not be downloaded or written. {@code file} holds the part
+     * of the log written so far.
+     */
+    void onLogCollectionFailed(
+        long nodeId, File file, TransferStatistics statistics, Exception error);
+  }
+
+  /** The amount of data and the duration of a log download. */
+  public static final class TransferStatistics {
+    private final long bytes;
+    private final long nanos;
+
+    private TransferStatistics(long bytes, long nanos) {
+      this.bytes = bytes;
+      this.nanos = nanos;
+    }
+
+    /** The number of log bytes written. */
+    public long getBytes() {
+      return bytes;
+    }
+
+    /** The time from the start of the download to its last write, in milliseconds. */
+    public long getDurationMillis() {
+      return nanos / 1_000_000;
+    }
+
+    public double getBytesPerSecond() {
+      return nanos == 0 ? 0 : bytes * 1e9 / nanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          Locale.ROOT,
+          "%d bytes in %d ms (%.0fB/s)",
+          bytes,
+          getDurationMillis(),
+          getBytesPerSecond());
+    }
+  }
+
+  /** Starts the download of a log, as {@link ChipDeviceController#downloadLogFromNode}. */
+  interface LogDownloader {
+    boolean downloadLogFromNode(
+        long nodeId, DiagnosticLogType type, long timeout, DownloadLogCallback callback);
+  }
+
+  /** Opens the file a log is written to. */
+  interface LogFileOpener {
+    FileChannel open(File file) throws IOException;
+  }
+
+  private final LogDownloader downloader;
+  private final LogFileOpener fileOpener;
+  private final File directory;
+  private final long maxQueuedBytes;
+  private final Executor writeExecutor;
+  private final Listener listener;
+
+  private final Map<Long, Download> downloads = new ConcurrentHashMap<>();
+  private final AtomicLong queuedBytes = new AtomicLong();
+
+  /**
+   * @param directory the directory the logs are written to, as {@code <node ID>-<log type>.log}
+   * @param maxQueuedBytes the number of bytes received from all nodes that may wait for the disk
+   * @param writeExecutor the executor writing the files, which may run the writes of different
+   *     nodes in parallel
+   */
+  public DiagnosticLogCollector(
+      ChipDeviceController controller,
+      File directory,
+      long maxQueuedBytes,
+      Executor writeExecutor,
+      Listener listener) {
+    this(
+        controller::downloadLogFromNode,
+        DiagnosticLogCollector::openLogFile,
+        directory,
+        maxQueuedBytes,
+        writeExecutor,
+        listener);
+  }
+
+  DiagnosticLogCollector(
+      LogDownloader downloader,
+      LogFileOpener fileOpener,
+      File directory,
+      long maxQueuedBytes,
+      Executor writeExecutor,
+      Listener listener) {
+    this.downloader = downloader;
+    this.fileOpener = fileOpener;
+    this.directory = directory;
+    this.maxQueuedBytes = maxQueuedBytes;
+    this.writeExecutor = writeExecutor;
+    this.listener = listener;
+  }
+
+  /**
+   * Starts downloading a log from a node.
+   *
+   * @param timeout the timeout of the download in seconds, or 0 for none
+   * @return false if a log is already being downloaded from the node, or the download could not be
+   *     started
+   * @throws IOException if the file of the log cannot be created
+   */
+  public boolean collect(long nodeId, DiagnosticLogType type, long timeout) throws IOException {
+    File file =
+        new File(directory, String.format(Locale.ROOT, "%016X-%s.log", nodeId, type.toString()));
+    Download download = new Download(nodeId, file);
+    if (downloads.putIfAbsent(nodeId, download) != null) {
+      return false;
+    }
+    try {
+      download.channel = fileOpener.open(file);
+    } catch (IOException e) {
+      downloads.remove(nodeId, download);
+      throw e;
+    }
+    if (!downloader.downloadLogFromNode(nodeId, type, timeout, download)) {
+      downloads.remove(nodeId, download);
+      closeQuietly(download.channel);
+      return false;
+    }
+    return true;
+  }
+
+  /** Returns the number of downloads in progress. */
+  public int getActiveCollections() {
+    return downloads.size();
+  }
+
+  /** Returns the number of bytes received from all nodes that are not written yet. */
+  public long getQueuedBytes() {
+    return queuedBytes.get();
+  }
+
+  private static FileChannel openLogFile(File file) throws IOException {
+    return FileChannel.open(
+        file.toPath(),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING);
+  }
+
+  private static void closeQuietly(FileChannel channel) {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Failed to close log file", e);
+    }
+  }
+
+  private final class Download implements DownloadLogCallback {
+    private final long nodeId;
+    private final File file;
+    // Opened before the download starts.
+    private FileChannel channel;
+    private final long startNanos = System.nanoTime();
+    // The pending writes of the download, which run one after the other, each whether or not the
+    // previous one failed. Only extended from the CHIP thread.
+    private CompletableFuture<Void> writes = CompletableFuture.completedFuture(null);
+    // Only accessed by the writes.
+    private long bytesWritten;
+    private long lastWriteNanos = startNanos;
+    @Nullable private volatile Exception error;
+
+    Download(long nodeId, File file) {
+      this.nodeId = nodeId;
+      this.file = file;
+    }
+
+    @Override
+    public boolean onTransferData(int fabricIndex, long nodeId, @Nonnull byte[] data) {
+      if (error != null) {
+        return false;
+      }
+      if (queuedBytes.addAndGet(data.length) > maxQueuedBytes && data.length > 0) {
+        queuedBytes.addAndGet(-data.length);
+        error =
+            new IOException(
+                "Log write queue full, rejected the transfer from " + Long.toHexString(nodeId));
+        return false;
+      }
+      writes =
+          writes.handleAsync(
+              (result, failure) -> {
+                write(data);
+                return null;
+              },
+              writeExecutor);
+      return true;
+    }
+
+    @Override
+    public void onSuccess(int fabricIndex, long nodeId) {
+      finish(null);
+    }
+
+    @Override
+    public void onError(int fabricIndex, long nodeId, long errorCode) {
+      finish(
+          new ChipDeviceControllerException(
+              errorCode, "Log download from " + Long.toHexString(nodeId) + " failed"));
+    }
+
+    private void write(byte[] data) {
+      try {
+        if (error == null) {
+          ByteBuffer buffer = ByteBuffer.wrap(data);
+          while (buffer.hasRemaining()) {
+            channel.write(buffer);
+          }
+          bytesWritten += data.length;
+          lastWriteNanos = System.nanoTime();
+        }
+      } catch (Exception e) {
+        // Recorded whatever it is, so that the remaining writes are skipped and reported.
+        error = e;
+      } finally {
+        queuedBytes.addAndGet(-data.length);
+      }
+    }
+
+    private void finish(@Nullable Exception downloadError) {
+      downloads.remove(nodeId, this);
+      // Runs even if a write threw, so that the file is closed and the listener called.
+      writes.whenCompleteAsync(
+          (result, writeFailure) -> {
+            closeQuietly(channel);
+            TransferStatistics statistics =
+                new TransferStatistics(bytesWritten, lastWriteNanos - startNanos);
+            // A refused chunk or a failed write is the cause of the download error, if any.
+            Exception failure = error;
+            if (failure == null && writeFailure != null) {
+              failure = new IOException("Failed to write log", writeFailure);
+            }
+            if (failure == null) {
+              failure = downloadError;
+            }
+            if (failure == null) {
+              logger.log(
+                  Level.FINE, "Collected log of " + Long.toHexString(nodeId) + ": " + statistics);
+              listener.onLogCollected(nodeId, file, statistics);
+            } else {
+              listener.onLogCollectionFailed(nodeId, file, statistics, failure);
+            }
+          },
+          writeExecutor);
+    }
+  }
+}
@@ -25,11 +25,14 @@ import javax.annotation.Nullable;
 /** JNI wrapper callback class for {@link InvokeCallback}. */
 public final class ExtendableInvokeCallbackJni {
   private final ExtendableInvokeCallback wrappedExtendableInvokeCallback;
-  private long callbackHandle;
+  private final long callbackHandle;
+  private final NativeHandleCleaner.Cleanable cleanable;
 
   public ExtendableInvokeCallbackJni(ExtendableInvokeCallback wrappedExtendableInvokeCallback) {
     this.wrappedExtendableInvokeCallback = wrappedExtendableInvokeCallback;
     this.callbackHandle = newCallback();
+    final long handle = callbackHandle;
+    this.cleanable = NativeHandleCleaner.register(this, () -> deleteCallback(handle));
   }
 
   long getCallbackHandle() {
@@ -38,7 +41,7 @@ public final class ExtendableInvokeCallbackJni {
 
   private native long newCallback();
 
-  private native void deleteCallback(long callbackHandle);
+  private static native void deleteCallback(long callbackHandle);
 
   private void onError(Exception e) {
     wrappedExtendableInvokeCallback.onError(e);
@@ -78,17 +81,15 @@ public final class ExtendableInvokeCallbackJni {
   }
 
   private void onDone() {
-    wrappedExtendableInvokeCallback.onDone();
+    try {
+      wrappedExtendableInvokeCallback.onDone();
+    } finally {
+      close();
+    }
   }
 
-  // TODO(#8578): Replace finalizer with PhantomReference.
-  @SuppressWarnings("deprecation")
-  protected void finalize() throws Throwable {
-    super.finalize();
-
-    if (callbackHandle != 0) {
-      deleteCallback(callbackHandle);
-      callbackHandle = 0;
-    }
+  /** Releases the native callback, which must no longer be in use by the native side. */
+  void close() {
+    cleanable.clean();
   }
 }
@@ -0,0 +1,114 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+
+package chip.devicecontroller;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Per-fabric index of the peer node IDs registered in the ICD client storage.
+ *
+ * <p>The index of a fabric is loaded from the storage on first use and kept until it is
+ * invalidated, so that looking up a peer neither crosses JNI nor allocates. Anything that changes
+ * the ICD client storage must invalidate the index.
+ */
+public final class ICDPeerCache {
+  /** Loads the peer node IDs registered for a fabric from the ICD client storage. */
+  public interface Loader {
+    long[] loadPeerNodeIds(int fabricIndex);
+  }
+
+  // Fabric indices are 8-bit values.
+  private static final int MAX_FABRIC_INDEX = 0xFF;
+
+  private static final AtomicReferenceArray<PeerSet> peersByFabric =
+      new AtomicReferenceArray<>(MAX_FABRIC_INDEX + 1);
+  private static final AtomicLong version = new AtomicLong();
+
+  private ICDPeerCache() {}
+
+  /**
+   * Returns whether {@code peerNodeId} is registered as an ICD peer on the given fabric, loading
+   * the index of the fabric through {@code loader} if needed.
+   */
+  public static boolean contains(int fabricIndex, long peerNodeId, Loader loader) {
+    if (fabricIndex < 0 || fabricIndex > MAX_FABRIC_INDEX) {
+      return false;
+    }
+
+    PeerSet peers = peersByFabric.get(fabricIndex);
+    if (peers == null) {
+      long loadedVersion = version.get();
+      peers = new PeerSet(loader.loadPeerNodeIds(fabricIndex));
+      peersByFabric.set(fabricIndex, peers);
+      // Drop the index again if the storage changed while it was being loaded.
+      if (version.get() != loadedVersion) {
+        peersByFabric.compareAndSet(fabricIndex, peers, null);
+      }
+    }
+    return peers.contains(peerNodeId);
+  }
+
+  /** Drops the index of the given fabric after its ICD client storage changed. */
+  public static void invalidate(int fabricIndex) {
+    version.incrementAndGet();
+    if (fabricIndex >= 0 && fabricIndex <= MAX_FABRIC_INDEX) {
+      peersByFabric.set(fabricIndex, null);
+    }
+  }
+
+  /** Drops the index of every fabric. */
+  public static void invalidateAll() {
+    version.incrementAndGet();
+    for (int i = 0; i <= MAX_FABRIC_INDEX; i++) {
+      peersByFabric.set(i, null);
+    }
+  }
+
+  /** Open-addressing hash set of node IDs. */
+  private static final class PeerSet {
+    private final long[] slots;
+    private final boolean[] used;
+
+    PeerSet(long[] nodeIds) {
+      int capacity = Integer.highestOneBit(Math.max(nodeIds.length, 1) * 2) * 2;
+      slots = new long[capacity];
+      used = new boolean[capacity];
+      for (long nodeId : nodeIds) {
+        int slot = find(nodeId);
+        slots[slot] = nodeId;
+        used[slot] = true;
+      }
+    }
+
+    boolean contains(long nodeId) {
+      return used[find(nodeId)];
+    }
+
+    // Returns the slot holding nodeId, or the empty slot where it would be inserted.
+    private int find(long nodeId) {
+      int mask = slots.length - 1;
+      int slot = Long.hashCode(nodeId * 0x9E3779B97F4A7C15L) & mask;
+      while (used[slot] && slots[slot] != nodeId) {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+  }
+}
@@ -22,11 +22,14 @@ import chip.devicecontroller.model.InvokeElement;
 /** JNI wrapper callback class for {@link InvokeCallback}. */
 public final class InvokeCallbackJni {
   private final InvokeCallback wrappedInvokeCallback;
-  private long callbackHandle;
+  private final long callbackHandle;
+  private final NativeHandleCleaner.Cleanable cleanable;
 
   public InvokeCallbackJni(InvokeCallback wrappedInvokeCallback) {
     this.wrappedInvokeCallback = wrappedInvokeCallback;
     this.callbackHandle = newCallback();
+    final long handle = callbackHandle;
+    this.cleanable = NativeHandleCleaner.register(this, () -> deleteCallback(handle));
   }
 
   long getCallbackHandle() {
@@ -35,7 +38,7 @@ public final class InvokeCallbackJni {
 
   private native long newCallback();
 
-  private native void deleteCallback(long callbackHandle);
+  private static native void deleteCallback(long callbackHandle);
 
   private void onError(Exception e) {
     wrappedInvokeCallback.onError(e);
@@ -53,17 +56,15 @@ public final class InvokeCallbackJni {
   }
 
   private void onDone() {
-    wrappedInvokeCallback.onDone();
+    try {
+      wrappedInvokeCallback.onDone();
+    } finally {
+      close();
+    }
   }
 
-  // TODO(#8578): Replace finalizer with PhantomReference.
-  @SuppressWarnings("deprecation")
-  protected void finalize() throws Throwable {
-    super.finalize();
-
-    if (callbackHandle != 0) {
-      deleteCallback(callbackHandle);
-      callbackHandle = 0;
-    }
+  /** Releases the native callback, which must no longer be in use by the native side. */
+  void close() {
+    cleanable.clean();
   }
 }
@@ -0,0 +1,108 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Releases the native memory owned by JNI wrapper objects, either explicitly through {@link
+ * Cleanable#clean()} or once the wrapper has become phantom reachable.
+ *
+ * <p>This provides the behavior of {@code java.lang.ref.Cleaner}, which is not available on every
+ * supported Android API level. Release actions must not reference the object they are registered
+ * for, otherwise it never becomes unreachable.
+ */
+public final class NativeHandleCleaner {
+  private static final Logger logger = Logger.getLogger(NativeHandleCleaner.class.getName());
+
+  private static final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+  // Keeps the registered references reachable until they are cleaned.
+  private static final Set<Handle> handles = Collections.synchronizedSet(new HashSet<>());
+  private static final AtomicInteger liveHandleCount = new AtomicInteger();
+
+  static {
+    Thread thread = new Thread(NativeHandleCleaner::processQueue, "NativeHandleCleaner");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private NativeHandleCleaner() {}
+
+  /** A registered release action, which runs at most once. */
+  public interface Cleanable {
+    /** Runs the release action now if it has not run yet, and unregisters it. */
+    void clean();
+  }
+
+  /**
+   * Registers {@code releaseAction} to run once {@code owner} becomes phantom reachable, unless it
+   * was run earlier through the returned {@link Cleanable}.
+   */
+  public static Cleanable register(Object owner, Runnable releaseAction) {
+    Handle handle = new Handle(owner, releaseAction);
+    handles.add(handle);
+    liveHandleCount.incrementAndGet();
+    return handle;
+  }
+
+  /** Returns the number of native handles that are registered and not released yet. */
+  public static int getLiveHandleCount() {
+    return liveHandleCount.get();
+  }
+
+  private static void processQueue() {
+    while (true) {
+      try {
+        ((Handle) queue.remove()).clean();
+      } catch (InterruptedException e) {
+        // The cleaner thread lives as long as the process.
+      } catch (RuntimeException e) {
+        logger.log(Level.SEVERE, "Failed to release native handle", e);
+      }
+    }
+  }
+
+  private static final class Handle extends PhantomReference<Object> implements Cleanable {
+    private final Runnable releaseAction;
+    private final AtomicBoolean isCleaned = new AtomicBoolean(false);
+
+    Handle(Object owner, Runnable releaseAction) {
+      super(owner, queue);
+      this.releaseAction = releaseAction;
+    }
+
+    @Override
+    public void clean() {
+      if (!isCleaned.compareAndSet(false, true)) {
+        return;
+      }
+      handles.remove(this);
+      clear();
+      liveHandleCount.decrementAndGet();
+      releaseAction.run();
+    }
+  }
+}
@@ -0,0 +1,362 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import android.util.Log;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+
+/**
+ * An {@link OTAProviderDelegate} serving the OTA images of any number of products to any number of
+ * requestors.
+ *
+ * <p>Images are indexed by vendor ID, product ID and software version, and a QueryImage is answered
+ * with the newest image for the product of the requestor that is newer than its current version.
+ * Each image file is memory-mapped once when it is added, and BDX blocks are handed to the native
+ * layer as slices of the mapping at the position given by the block index, so blocks are never
+ * copied into Java arrays, transfers of the same image to several nodes share the mapping, and a
+ * transfer may start at an offset or skip ahead. Transfer sessions are tracked by node ID, and
+ * their throughput is reported through {@link #getStatistics()}.
+ *
+ * <p>All methods may be called from any thread.
+ */
+public class OTAImageServer implements OTAProviderDelegate {
+  private static final String TAG = OTAImageServer.class.getSimpleName();
+
+  /** An OTA image file added to the server. */
+  public static final class Image {
+    private final int vendorId;
+    private final int productId;
+    private final long softwareVersion;
+    private final String softwareVersionString;
+    private final File file;
+    private final String fileDesignator;
+    private final MappedByteBuffer buffer;
+
+    private Image(
+        int vendorId,
+        int productId,
+        long softwareVersion,
+        String softwareVersionString,
+        File file,
+        MappedByteBuffer buffer) {
+      this.vendorId = vendorId;
+      this.productId = productId;
+      this.softwareVersion = softwareVersion;
+      this.softwareVersionString = softwareVersionString;
+      this.file = file;
+      this.fileDesignator =
+          String.format(Locale.ROOT, "%04x-%04x-%d.ota", vendorId, productId, softwareVersion);
+      this.buffer = buffer;
+    }
+
+    public int getVendorId() {
+      return vendorId;
+    }
+
+    public int getProductId() {
+      return productId;
+    }
+
+    public long getSoftwareVersion() {
+      return softwareVersion;
+    }
+
+    public String getSoftwareVersionString() {
+      return softwareVersionString;
+    }
+
+    public File getFile() {
+      return file;
+    }
+
+    /** The file designator requestors download the image by. */
+    public String getFileDesignator() {
+      return fileDesignator;
+    }
+
+    public long getSize() {
+      return buffer.capacity();
+    }
+  }
+
+  /** A snapshot of the transfer counters of the server. */
+  public static final class Statistics {
+    private final int activeTransfers;
+    private final long completedTransfers;
+    private final long failedTransfers;
+    private final long bytesSent;
+    private final long transferNanos;
+
+    private Statistics(
+        int activeTransfers,
+        long completedTransfers,
+        long failedTransfers,
+        long bytesSent,
+        long transferNanos) {
+      this.activeTransfers = activeTransfers;
+      this.completedTransfers = completedTransfers;
+      this.failedTransfers = failedTransfers;
+      this.bytesSent = bytesSent;
+      this.transferNanos = transferNanos;
+    }
+
+    /** The number of transfer sessions currently in progress. */
+    public int getActiveTransfers() {
+      return activeTransfers;
+    }
+
+    /** The number of transfer sessions that ended successfully. */
+    public long getCompletedTransfers() {
+      return completedTransfers;
+    }
+
+    /** The number of transfer sessions that ended with an error. */
+    public long getFailedTransfers() {
+      return failedTransfers;
+    }
+
+    /** The number of image bytes sent by all the ended transfer sessions. */
+    public long getBytesSent() {
+      return bytesSent;
+    }
+
+    /**
+     * The average throughput of the ended transfer sessions, in bytes per second of session time,
+     * or zero if none ended yet.
+     */
+    public double getBytesPerSecond() {
+      return transferNanos == 0 ? 0 : bytesSent * 1e9 / transferNanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          Locale.ROOT,
+          "active=%d completed=%d failed=%d bytes=%d throughput=%.0fB/s",
+          activeTransfers,
+          completedTransfers,
+          failedTransfers,
+          bytesSent,
+          getBytesPerSecond());
+    }
+  }
+
+  private static final class Session {
+    final Image image;
+    // Private to the session, so that its position is independent of other transfers of the image.
+    final ByteBuffer buffer;
+    final long startOffset;
+    final long startNanos = System.nanoTime();
+    // BlockQueryWithSkip skips forward from the current position, so later blocks are shifted by
+    // every skip so far.
+    long skippedBytes;
+    long bytesSent;
+
+    Session(Image image, long startOffset) {
+      this.image = image;
+      this.buffer = image.buffer.duplicate();
+      this.startOffset = startOffset;
+    }
+  }
+
+  // Keyed by vendor ID and product ID, then by software version.
+  private final Map<Integer, NavigableMap<Long, Image>> imagesByProduct = new ConcurrentHashMap<>();
+  private final Map<String, Image> imagesByDesignator = new ConcurrentHashMap<>();
+  private final Map<Long, Session> sessions = new ConcurrentHashMap<>();
+
+  private final AtomicLong completedTransfers = new AtomicLong();
+  private final AtomicLong failedTransfers = new AtomicLong();
+  private final AtomicLong bytesSent = new AtomicLong();
+  private final AtomicLong transferNanos = new AtomicLong();
+
+  /**
+   * Adds an image, replacing any image with the same vendor ID, product ID and software version.
+   *
+   * @throws IOException if the file cannot be mapped
+   */
+  public Image addImage(
+      int vendorId, int productId, long softwareVersion, String softwareVersionString, File file)
+      throws IOException {
+    MappedByteBuffer buffer;
+    // The mapping stays valid once the channel is closed.
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        FileChannel channel = randomAccessFile.getChannel()) {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    Image image =
+        new Image(vendorId, productId, softwareVersion, softwareVersionString, file, buffer);
+    imagesByProduct
+        .computeIfAbsent(productKey(vendorId, productId), key -> new ConcurrentSkipListMap<>())
+        .put(softwareVersion, image);
+    imagesByDesignator.put(image.getFileDesignator(), image);
+    return image;
+  }
+
+  /**
+   * Removes an image. Transfers of the image already in progress are not affected.
+   *
+   * @return whether the image was added
+   */
+  public boolean removeImage(int vendorId, int productId, long softwareVersion) {
+    NavigableMap<Long, Image> images = imagesByProduct.get(productKey(vendorId, productId));
+    Image image = images == null ? null : images.remove(softwareVersion);
+    if (image == null) {
+      return false;
+    }
+    imagesByDesignator.remove(image.getFileDesignator(), image);
+    return true;
+  }
+
+  /** Returns the newest image for a product newer than {@code softwareVersion}, if any. */
+  @Nullable
+  public Image findUpdate(int vendorId, int productId, long softwareVersion) {
+    NavigableMap<Long, Image> images = imagesByProduct.get(productKey(vendorId, productId));
+    if (images == null) {
+      return null;
+    }
+    Map.Entry<Long, Image> newest = images.lastEntry();
+    return newest == null || newest.getKey() <= softwareVersion ? null : newest.getValue();
+  }
+
+  public Statistics getStatistics() {
+    return new Statistics(
+        sessions.size(),
+        completedTransfers.get(),
+        failedTransfers.get(),
+        bytesSent.get(),
+        transferNanos.get());
+  }
+
+  @Override
+  public QueryImageResponse handleQueryImage(
+      int vendorId,
+      int productId,
+      long softwareVersion,
+      @Nullable Integer hardwareVersion,
+      @Nullable String location,
+      @Nullable Boolean requestorCanConsent,
+      @Nullable byte[] metadataForProvider) {
+    Image image = findUpdate(vendorId, productId, softwareVersion);
+    if (image == null) {
+      return new QueryImageResponse(QueryImageResponseStatusEnum.NotAvailable, false);
+    }
+    return new QueryImageResponse(
+        image.getSoftwareVersion(),
+        image.getSoftwareVersionString(),
+        image.getFileDesignator(),
+        null);
+  }
+
+  @Override
+  public void handleOTAQueryFailure(int error) {
+    Log.w(TAG, "QueryImage failed: " + error);
+  }
+
+  /**
+   * @throws IllegalArgumentException if no image has the file designator, or the offset is past its
+   *     end, so that the native layer aborts the transfer
+   */
+  @Override
+  public void handleBDXTransferSessionBegin(long nodeId, String fileDesignator, long offset) {
+    Image image = imagesByDesignator.get(fileDesignator);
+    if (image == null || offset < 0 || offset > image.getSize()) {
+      // A session left from an earlier transfer to the node must not serve this one.
+      if (sessions.remove(nodeId) != null) {
+        failedTransfers.incrementAndGet();
+      }
+      throw new IllegalArgumentException(
+          image == null
+              ? "No image for file designator " + fileDesignator
+              : "Offset " + offset + " is past the end of " + fileDesignator);
+    }
+    if (sessions.put(nodeId, new Session(image, offset)) != null) {
+      Log.w(TAG, "Restarting the transfer to node " + Long.toHexString(nodeId));
+      failedTransfers.incrementAndGet();
+    }
+  }
+
+  /** Returns null, which makes the native layer abort the transfer, if the node has no session. */
+  @Override
+  @Nullable
+  public BDXData handleBDXQuery(long nodeId, int blockSize, long blockIndex, long bytesToSkip) {
+    Session session = sessions.get(nodeId);
+    if (session == null) {
+      return null;
+    }
+
+    // A session is only driven by the BDX exchange of its node, one block at a time, so its view
+    // of the mapping can be handed out as the block and reused for the next one.
+    session.skippedBytes += bytesToSkip;
+    long position = session.startOffset + session.skippedBytes + blockIndex * blockSize;
+    int size = session.buffer.capacity();
+    int start = (int) Math.min(position, size);
+    int end = (int) Math.min(position + blockSize, size);
+    session.buffer.limit(end);
+    session.buffer.position(start);
+    session.bytesSent += end - start;
+    return new BDXData(session.buffer, end == size);
+  }
+
+  @Override
+  public void handleBDXTransferSessionEnd(long errorCode, long nodeId) {
+    Session session = sessions.remove(nodeId);
+    if (session == null) {
+      return;
+    }
+
+    long nanos = System.nanoTime() - session.startNanos;
+    bytesSent.addAndGet(session.bytesSent);
+    transferNanos.addAndGet(nanos);
+    if (errorCode == 0) {
+      completedTransfers.incrementAndGet();
+    } else {
+      failedTransfers.incrementAndGet();
+    }
+    Log.d(
+        TAG,
+        String.format(
+            Locale.ROOT,
+            "Transfer of %s to node %x ended with error %d: %d bytes in %d ms",
+            session.image.getFileDesignator(),
+            nodeId,
+            errorCode,
+            session.bytesSent,
+            nanos / 1_000_000));
+  }
+
+  @Override
+  public ApplyUpdateResponse handleApplyUpdateRequest(long nodeId, long newVersion) {
+    return new ApplyUpdateResponse(ApplyUpdateActionEnum.Proceed, 0);
+  }
+
+  private static int productKey(int vendorId, int productId) {
+    return (vendorId << 16) | (productId & 0xFFFF);
+  }
+}
@@ -18,6 +18,7 @@
 
 package chip.devicecontroller;
 
+import java.nio.ByteBuffer;
 import javax.annotation.Nullable;
 
 /**
@@ -56,7 +57,8 @@ public interface OTAProviderDelegate {
   public void handleOTAQueryFailure(int error);
 
   /**
-   * The callback will be invoked when BDX Transfer session is begined.
+   * The callback will be invoked when BDX Transfer session is begined. Throwing an exception aborts
+   * the transfer.
    *
    * @param nodeId OTA Requester's Node ID
    * @param fileDesignator a variable-length identifier chosen by the Initiator to identify the
@@ -72,7 +74,8 @@ public interface OTAProviderDelegate {
    * @param blockSize Max blockSize that can be sent
    * @param blockIndex block Index value
    * @param bytesToSkip Bytes to skip
-   * @return BDXData sending packet in image, See detailed in {@link OTAProviderDelegate#BDXData}
+   * @return BDXData sending packet in image, See detailed in {@link OTAProviderDelegate#BDXData},
+   *     or null to abort the transfer
    */
   public BDXData handleBDXQuery(long nodeId, int blockSize, long blockIndex, long bytesToSkip);
 
@@ -105,9 +108,15 @@ public interface OTAProviderDelegate {
   /**
    * This is a class used when transmitting using the BDX Protocol. If isEOF value set true, OTA
    * Requester treats the data transfer as finished.
+   *
+   * <p>The block is either a {@code byte[]} or the remaining bytes of a direct {@link ByteBuffer},
+   * such as a slice of a mapped image file. The native layer reads a direct buffer in place,
+   * without a JNI array copy, before {@link #handleBDXQuery} returns to it, so the same buffer may
+   * be reused for the next block.
    */
   public class BDXData {
     @Nullable private byte[] data;
+    @Nullable private ByteBuffer buffer;
     private boolean isEOF;
 
     public BDXData(byte[] data, boolean isEOF) {
@@ -115,10 +124,30 @@ public interface OTAProviderDelegate {
       this.isEOF = isEOF;
     }
 
+    /**
+     * @param buffer a direct buffer holding the block between its position and its limit
+     * @throws IllegalArgumentException if the buffer is not direct
+     */
+    public BDXData(ByteBuffer buffer, boolean isEOF) {
+      if (!buffer.isDirect()) {
+        throw new IllegalArgumentException("BDX block buffer must be direct");
+      }
+      this.buffer = buffer;
+      this.isEOF = isEOF;
+    }
+
+    /** Returns the block, or null if it is held by a {@link #getBuffer() buffer}. */
+    @Nullable
     public byte[] getData() {
       return data;
     }
 
+    /** Returns the direct buffer holding the block, or null if it is held by an array. */
+    @Nullable
+    public ByteBuffer getBuffer() {
+      return buffer;
+    }
+
     public boolean isEOF() {
       return isEOF;
     }
@@ -33,4 +33,16 @@ public interface ReportCallback {
   void onReport(NodeState nodeState);
 
   default void onDone() {}
+
+  /**
+   * Returns whether the reported values are only kept as TLV, and decoded to their object form and
+   * JSON when first requested from {@link chip.devicecontroller.model.AttributeState} or {@link
+   * chip.devicecontroller.model.EventState}.
+   *
+   * <p>Callbacks that only read the TLV of large reports should return true, so that values are not
+   * decoded to objects and JSON that are never read.
+   */
+  default boolean decodeValuesLazily() {
+    return false;
+  }
 }
@@ -22,12 +22,14 @@ import chip.devicecontroller.model.ChipEventPath;
 import chip.devicecontroller.model.NodeState;
 import javax.annotation.Nullable;
 
-/** JNI wrapper callback class for {@link ReportCallback}. */
+/** JNI wrapper callback class for {@link ReportCallback} and {@link ReportElementCallback}. */
 public class ReportCallbackJni {
   @Nullable private SubscriptionEstablishedCallback wrappedSubscriptionEstablishedCallback;
   @Nullable private ResubscriptionAttemptCallback wrappedResubscriptionAttemptCallback;
-  private ReportCallback wrappedReportCallback;
-  private long callbackHandle;
+  @Nullable private ReportCallback wrappedReportCallback;
+  @Nullable private ReportElementCallback wrappedReportElementCallback;
+  private final long callbackHandle;
+  private final NativeHandleCleaner.Cleanable cleanable;
   @Nullable private NodeState nodeState;
 
   public ReportCallbackJni(
@@ -38,7 +40,30 @@ public class ReportCallbackJni {
     this.wrappedReportCallback = reportCallback;
     this.wrappedResubscriptionAttemptCallback = resubscriptionAttemptCallback;
     this.callbackHandle =
-        newCallback(subscriptionEstablishedCallback, resubscriptionAttemptCallback);
+        newCallback(
+            subscriptionEstablishedCallback,
+            resubscriptionAttemptCallback,
+            reportCallback.decodeValuesLazily(),
+            false);
+    final long handle = callbackHandle;
+    this.cleanable = NativeHandleCleaner.register(this, () -> deleteCallback(handle));
+  }
+
+  /**
+   * Creates a wrapper to which the native layer passes each attribute and event of a report as it
+   * receives them, without building a {@link NodeState}.
+   */
+  public ReportCallbackJni(
+      @Nullable SubscriptionEstablishedCallback subscriptionEstablishedCallback,
+      ReportElementCallback reportElementCallback,
+      @Nullable ResubscriptionAttemptCallback resubscriptionAttemptCallback) {
+    this.wrappedSubscriptionEstablishedCallback = subscriptionEstablishedCallback;
+    this.wrappedReportElementCallback = reportElementCallback;
+    this.wrappedResubscriptionAttemptCallback = resubscriptionAttemptCallback;
+    this.callbackHandle =
+        newCallback(subscriptionEstablishedCallback, resubscriptionAttemptCallback, false, true);
+    final long handle = callbackHandle;
+    this.cleanable = NativeHandleCleaner.register(this, () -> deleteCallback(handle));
   }
 
   long getCallbackHandle() {
@@ -47,22 +72,75 @@ public class ReportCallbackJni {
 
   private native long newCallback(
       @Nullable SubscriptionEstablishedCallback subscriptionEstablishedCallback,
-      @Nullable ResubscriptionAttemptCallback resubscriptionAttemptCallback);
+      @Nullable ResubscriptionAttemptCallback resubscriptionAttemptCallback,
+      boolean decodeValuesLazily,
+      boolean streamElements);
 
-  private native void deleteCallback(long callbackHandle);
+  private static native void deleteCallback(long callbackHandle);
 
   // Called from native code only, which ignores access modifiers.
   private void onReportBegin() {
+    if (wrappedReportElementCallback != null) {
+      wrappedReportElementCallback.onReportBegin();
+      return;
+    }
     nodeState = new NodeState();
   }
 
   private void onReportEnd() {
+    if (wrappedReportElementCallback != null) {
+      wrappedReportElementCallback.onReportEnd();
+      return;
+    }
     if (nodeState != null) {
       wrappedReportCallback.onReport(nodeState);
     }
     nodeState = null;
   }
 
+  // The following are only called when streaming to a ReportElementCallback.
+  private void onAttributeData(
+      int endpointId, long clusterId, long attributeId, long dataVersion, byte[] tlv) {
+    wrappedReportElementCallback.onAttributeData(
+        endpointId, clusterId, attributeId, dataVersion, tlv);
+  }
+
+  private void onAttributeStatus(
+      int endpointId,
+      long clusterId,
+      long attributeId,
+      int status,
+      @Nullable Integer clusterStatus) {
+    wrappedReportElementCallback.onAttributeStatus(
+        endpointId, clusterId, attributeId, status, clusterStatus);
+  }
+
+  private void onEventData(
+      int endpointId,
+      long clusterId,
+      long eventId,
+      long eventNumber,
+      int priorityLevel,
+      int timestampType,
+      long timestampValue,
+      byte[] tlv) {
+    wrappedReportElementCallback.onEventData(
+        endpointId,
+        clusterId,
+        eventId,
+        eventNumber,
+        priorityLevel,
+        timestampType,
+        timestampValue,
+        tlv);
+  }
+
+  private void onEventStatus(
+      int endpointId, long clusterId, long eventId, int status, @Nullable Integer clusterStatus) {
+    wrappedReportElementCallback.onEventStatus(
+        endpointId, clusterId, eventId, status, clusterStatus);
+  }
+
   private NodeState getNodeState() {
     return nodeState;
   }
@@ -77,26 +155,33 @@ public class ReportCallbackJni {
       long eventClusterId,
       long eventId,
       Exception e) {
-    wrappedReportCallback.onError(
+    ChipAttributePath attributePath =
         isAttributePath
             ? ChipAttributePath.newInstance(attributeEndpointId, attributeClusterId, attributeId)
-            : null,
-        isEventPath ? ChipEventPath.newInstance(eventEndpointId, eventClusterId, eventId) : null,
-        e);
+            : null;
+    ChipEventPath eventPath =
+        isEventPath ? ChipEventPath.newInstance(eventEndpointId, eventClusterId, eventId) : null;
+    if (wrappedReportElementCallback != null) {
+      wrappedReportElementCallback.onError(attributePath, eventPath, e);
+    } else {
+      wrappedReportCallback.onError(attributePath, eventPath, e);
+    }
   }
 
   private void onDone() {
-    wrappedReportCallback.onDone();
+    try {
+      if (wrappedReportElementCallback != null) {
+        wrappedReportElementCallback.onDone();
+      } else {
+        wrappedReportCallback.onDone();
+      }
+    } finally {
+      close();
+    }
   }
 
-  // TODO(#8578): Replace finalizer with PhantomReference.
-  @SuppressWarnings("deprecation")
-  protected void finalize() throws Throwable {
-    super.finalize();
-
-    if (callbackHandle != 0) {
-      deleteCallback(callbackHandle);
-      callbackHandle = 0;
-    }
+  /** Releases the native callback, which must no longer be in use by the native side. */
+  void close() {
+    cleanable.clean();
   }
 }
@@ -0,0 +1,90 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import chip.devicecontroller.model.ChipAttributePath;
+import chip.devicecontroller.model.ChipEventPath;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * An interface for receiving read/subscribe CHIP reports one attribute or event at a time.
+ *
+ * <p>Unlike {@link ReportCallback}, no {@link chip.devicecontroller.model.NodeState} is built: each
+ * element of a report is passed as soon as the native layer receives it, as primitives and its TLV
+ * value. This suits subscribers of high-rate reports that process the elements in order anyway.
+ *
+ * <p>All methods are called on the CHIP thread with the stack lock released, so they may call back
+ * into the controller. Work done in them delays the rest of the report, and the elements of later
+ * reports, so long-running work should be handed off to another thread.
+ */
+public interface ReportElementCallback {
+  /** The data version passed to {@link #onAttributeData} when the report does not carry one. */
+  long NO_DATA_VERSION = -1;
+
+  /** Called before the elements of a report. */
+  default void onReportBegin() {}
+
+  /**
+   * Called with the value of an attribute.
+   *
+   * @param dataVersion the data version of the cluster, or {@link #NO_DATA_VERSION}
+   * @param tlv the TLV of the value, with an anonymous tag
+   */
+  void onAttributeData(
+      int endpointId, long clusterId, long attributeId, long dataVersion, byte[] tlv);
+
+  /** Called with the status of an attribute, ahead of its value if the status is a success. */
+  default void onAttributeStatus(
+      int endpointId,
+      long clusterId,
+      long attributeId,
+      int status,
+      @Nullable Integer clusterStatus) {}
+
+  /**
+   * Called with an event.
+   *
+   * @param timestampType {@link chip.devicecontroller.model.EventState#MILLIS_SINCE_BOOT} or {@link
+   *     chip.devicecontroller.model.EventState#MILLIS_SINCE_EPOCH}
+   * @param tlv the TLV of the event data, with an anonymous tag
+   */
+  void onEventData(
+      int endpointId,
+      long clusterId,
+      long eventId,
+      long eventNumber,
+      int priorityLevel,
+      int timestampType,
+      long timestampValue,
+      byte[] tlv);
+
+  /** Called with the status of an event path that could not be read. */
+  default void onEventStatus(
+      int endpointId, long clusterId, long eventId, int status, @Nullable Integer clusterStatus) {}
+
+  /** Called after the elements of a report. */
+  default void onReportEnd() {}
+
+  void onError(
+      @Nullable ChipAttributePath attributePath,
+      @Nullable ChipEventPath eventPath,
+      @Nonnull Exception e);
+
+  default void onDone() {}
+}
@@ -24,11 +24,14 @@ import javax.annotation.Nullable;
 /** JNI wrapper callback class for {@link WriteAttributesCallback}. */
 public final class WriteAttributesCallbackJni {
   private final WriteAttributesCallback wrappedWriteAttributesCallback;
-  private long callbackHandle;
+  private final long callbackHandle;
+  private final NativeHandleCleaner.Cleanable cleanable;
 
   public WriteAttributesCallbackJni(WriteAttributesCallback wrappedWriteAttributesCallback) {
     this.wrappedWriteAttributesCallback = wrappedWriteAttributesCallback;
     this.callbackHandle = newCallback();
+    final long handle = callbackHandle;
+    this.cleanable = NativeHandleCleaner.register(this, () -> deleteCallback(handle));
   }
 
   long getCallbackHandle() {
@@ -37,7 +40,7 @@ public final class WriteAttributesCallbackJni {
 
   private native long newCallback();
 
-  private native void deleteCallback(long callbackHandle);
+  private static native void deleteCallback(long callbackHandle);
 
   // Called from native code only, which ignores access modifiers.
   private void onError(
@@ -59,17 +62,15 @@ public final class WriteAttributesCallbackJni {
   }
 
   private void onDone() {
-    wrappedWriteAttributesCallback.onDone();
+    try {
+      wrappedWriteAttributesCallback.onDone();
+    } finally {
+      close();
+    }
   }
 
-  // TODO(#8578): Replace finalizer with PhantomReference.
-  @SuppressWarnings("deprecation")
-  protected void finalize() throws Throwable {
-    super.finalize();
-
-    if (callbackHandle != 0) {
-      deleteCallback(callbackHandle);
-      callbackHandle = 0;
-    }
+  /** Releases the native callback, which must no longer be in use by the native side. */
+  void close() {
+    cleanable.clean();
   }
 }
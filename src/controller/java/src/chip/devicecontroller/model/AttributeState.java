@@ -18,28 +18,53 @@
 package chip.devicecontroller.model;
 
 import android.util.Log;
+import javax.annotation.Nullable;
 import org.json.JSONException;
 import org.json.JSONObject;
 
-/** Represents the reported value of an attribute in object form, TLV and JSON. */
+/**
+ * Represents the reported value of an attribute in object form, TLV and JSON.
+ *
+ * <p>When received by a {@link chip.devicecontroller.ReportCallback} that decodes values lazily,
+ * only the TLV is kept, and the object form and JSON are decoded from it when first requested.
+ */
 public final class AttributeState {
   private static final String TAG = "AttributeState";
 
-  private final Object valueObject;
+  private final int endpointId;
+  private final long clusterId;
+  private final long attributeId;
   private final byte[] tlv;
-  private JSONObject json;
+
+  private boolean isValueDecoded;
+  @Nullable private Object valueObject;
+  @Nullable private String jsonString;
+  private boolean isJsonParsed;
+  @Nullable private JSONObject json;
 
   public AttributeState(Object valueObject, byte[] tlv, String jsonString) {
+    this.endpointId = 0;
+    this.clusterId = 0;
+    this.attributeId = 0;
+    this.tlv = tlv;
+    this.isValueDecoded = true;
     this.valueObject = valueObject;
+    this.jsonString = jsonString;
+  }
+
+  AttributeState(int endpointId, long clusterId, long attributeId, byte[] tlv) {
+    this.endpointId = endpointId;
+    this.clusterId = clusterId;
+    this.attributeId = attributeId;
     this.tlv = tlv;
-    try {
-      this.json = new JSONObject(jsonString);
-    } catch (JSONException ex) {
-      Log.e(TAG, "Error parsing JSON string", ex);
-    }
   }
 
-  public Object getValue() {
+  public synchronized Object getValue() {
+    if (!isValueDecoded) {
+      valueObject =
+          ReportValueDecoder.decodeAttributeValue(endpointId, clusterId, attributeId, tlv);
+      isValueDecoded = true;
+    }
     return valueObject;
   }
 
@@ -50,7 +75,27 @@ public final class AttributeState {
     return tlv;
   }
 
-  public JSONObject getJson() {
+  public synchronized JSONObject getJson() {
+    if (!isJsonParsed) {
+      if (jsonString == null) {
+        jsonString = ReportValueDecoder.convertToJson(attributeId, tlv);
+      }
+      json = parseJson(jsonString);
+      isJsonParsed = true;
+    }
     return json;
   }
+
+  @Nullable
+  private static JSONObject parseJson(@Nullable String jsonString) {
+    if (jsonString == null) {
+      return null;
+    }
+    try {
+      return new JSONObject(jsonString);
+    } catch (JSONException ex) {
+      Log.e(TAG, "Error parsing JSON string", ex);
+      return null;
+    }
+  }
 }
@@ -30,11 +30,13 @@ import org.json.JSONObject;
 /** Class for tracking CHIP cluster state in a hierarchical manner. */
 public final class ClusterState {
   private static final String TAG = "ClusterState";
-  private Map<Long, AttributeState> attributes;
-  private Map<Long, ArrayList<EventState>> events;
-  private Map<Long, Status> attributeStatuses;
-  private Map<Long, ArrayList<Status>> eventStatuses;
-  private Optional<Long> dataVersion;
+  private final Map<Long, AttributeState> attributes;
+  // Created when first needed, since most clusters of a report have no events and no statuses.
+  @Nullable private Map<Long, ArrayList<EventState>> events;
+  @Nullable private Map<Long, Status> attributeStatuses;
+  @Nullable private Map<Long, ArrayList<Status>> eventStatuses;
+  private long dataVersion;
+  private boolean hasDataVersion;
 
   protected ClusterState(
       Map<Long, AttributeState> attributes,
@@ -45,7 +47,10 @@ public final class ClusterState {
     this.events = events;
     this.attributeStatuses = attributeStatuses;
     this.eventStatuses = eventStatuses;
-    this.dataVersion = Optional.empty();
+  }
+
+  ClusterState() {
+    this.attributes = new LongKeyedMap<>();
   }
 
   public Map<Long, AttributeState> getAttributeStates() {
@@ -53,23 +58,69 @@ public final class ClusterState {
   }
 
   public Map<Long, Status> getAttributeStatuses() {
+    if (attributeStatuses == null) {
+      attributeStatuses = new LongKeyedMap<>();
+    }
     return attributeStatuses;
   }
 
   public Map<Long, ArrayList<EventState>> getEventStates() {
+    if (events == null) {
+      events = new LongKeyedMap<>();
+    }
     return events;
   }
 
   public Map<Long, ArrayList<Status>> getEventStatuses() {
+    if (eventStatuses == null) {
+      eventStatuses = new LongKeyedMap<>();
+    }
     return eventStatuses;
   }
 
+  void addAttribute(long attributeId, AttributeState attributeState) {
+    if (attributeStatuses != null) {
+      LongKeyedMap.removeFrom(attributeStatuses, attributeId);
+    }
+    // This will overwrite previous attributes.
+    LongKeyedMap.putInto(attributes, attributeId, attributeState);
+  }
+
+  void addEvent(long eventId, EventState eventState) {
+    if (eventStatuses != null) {
+      LongKeyedMap.removeFrom(eventStatuses, eventId);
+    }
+    getOrCreateList(getEventStates(), eventId).add(eventState);
+  }
+
+  void addAttributeStatus(long attributeId, Status status) {
+    LongKeyedMap.removeFrom(attributes, attributeId);
+    LongKeyedMap.putInto(getAttributeStatuses(), attributeId, status);
+  }
+
+  void addEventStatus(long eventId, Status status) {
+    if (events != null) {
+      LongKeyedMap.removeFrom(events, eventId);
+    }
+    getOrCreateList(getEventStatuses(), eventId).add(status);
+  }
+
+  private static <T> ArrayList<T> getOrCreateList(Map<Long, ArrayList<T>> lists, long id) {
+    ArrayList<T> list = LongKeyedMap.getFrom(lists, id);
+    if (list == null) {
+      list = new ArrayList<>();
+      LongKeyedMap.putInto(lists, id, list);
+    }
+    return list;
+  }
+
   public void setDataVersion(long version) {
-    dataVersion = Optional.of(version);
+    dataVersion = version;
+    hasDataVersion = true;
   }
 
   public Optional<Long> getDataVersion() {
-    return dataVersion;
+    return hasDataVersion ? Optional.of(dataVersion) : Optional.empty();
   }
 
   /**
@@ -108,7 +159,7 @@ public final class ClusterState {
    */
   @Nullable
   public AttributeState getAttributeState(long attributeId) {
-    return attributes.get(attributeId);
+    return LongKeyedMap.getFrom(attributes, attributeId);
   }
 
   /**
@@ -118,7 +169,7 @@ public final class ClusterState {
    */
   @Nullable
   public ArrayList<EventState> getEventState(long eventId) {
-    return events.get(eventId);
+    return events == null ? null : LongKeyedMap.getFrom(events, eventId);
   }
 
   @Override
@@ -133,37 +184,43 @@ public final class ClusterState {
               attributeState.getJson() == null ? "null" : attributeState.getJson().toString());
           builder.append("\n");
         });
-    events.forEach(
-        (eventId, eventStates) -> {
-          eventStates.forEach(
-              (eventState) -> {
-                builder.append("Event ");
-                builder.append(eventId);
-                builder.append(": ");
-                builder.append(
-                    eventState.getJson() == null ? "null" : eventState.getJson().toString());
-                builder.append("\n");
-              });
-        });
-    attributeStatuses.forEach(
-        (attributeId, status) -> {
-          builder.append("Attribute Status ");
-          builder.append(attributeId);
-          builder.append(": ");
-          builder.append(status.toString());
-          builder.append("\n");
-        });
-    eventStatuses.forEach(
-        (eventId, status) -> {
-          status.forEach(
-              (eventState) -> {
-                builder.append("Event Status");
-                builder.append(eventId);
-                builder.append(": ");
-                builder.append(status.toString());
-                builder.append("\n");
-              });
-        });
+    if (events != null) {
+      events.forEach(
+          (eventId, eventStates) -> {
+            eventStates.forEach(
+                (eventState) -> {
+                  builder.append("Event ");
+                  builder.append(eventId);
+                  builder.append(": ");
+                  builder.append(
+                      eventState.getJson() == null ? "null" : eventState.getJson().toString());
+                  builder.append("\n");
+                });
+          });
+    }
+    if (attributeStatuses != null) {
+      attributeStatuses.forEach(
+          (attributeId, status) -> {
+            builder.append("Attribute Status ");
+            builder.append(attributeId);
+            builder.append(": ");
+            builder.append(status.toString());
+            builder.append("\n");
+          });
+    }
+    if (eventStatuses != null) {
+      eventStatuses.forEach(
+          (eventId, status) -> {
+            status.forEach(
+                (eventState) -> {
+                  builder.append("Event Status");
+                  builder.append(eventId);
+                  builder.append(": ");
+                  builder.append(status.toString());
+                  builder.append("\n");
+                });
+          });
+    }
     return builder.toString();
   }
 }
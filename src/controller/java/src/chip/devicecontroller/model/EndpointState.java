@@ -22,12 +22,16 @@ import javax.annotation.Nullable;
 
 /** Class for tracking CHIP endpoint state in a hierarchical manner. */
 public final class EndpointState {
-  private Map<Long, ClusterState> clusters;
+  private final Map<Long, ClusterState> clusters;
 
   public EndpointState(Map<Long, ClusterState> clusters) {
     this.clusters = clusters;
   }
 
+  EndpointState() {
+    this(new LongKeyedMap<>());
+  }
+
   public Map<Long, ClusterState> getClusterStates() {
     return clusters;
   }
@@ -39,7 +43,7 @@ public final class EndpointState {
    */
   @Nullable
   public ClusterState getClusterState(long clusterId) {
-    return clusters.get(clusterId);
+    return LongKeyedMap.getFrom(clusters, clusterId);
   }
 
   @Override
@@ -18,23 +18,36 @@
 package chip.devicecontroller.model;
 
 import android.util.Log;
+import javax.annotation.Nullable;
 import org.json.JSONException;
 import org.json.JSONObject;
 
-/** Represents the reported value of an attribute in object form, TLV and JSON. */
+/**
+ * Represents the reported value of an attribute in object form, TLV and JSON.
+ *
+ * <p>When received by a {@link chip.devicecontroller.ReportCallback} that decodes values lazily,
+ * only the TLV is kept, and the object form and JSON are decoded from it when first requested.
+ */
 public final class EventState {
   public static final int MILLIS_SINCE_BOOT = 0;
   public static final int MILLIS_SINCE_EPOCH = 1;
   private static final String TAG = "EventState";
 
+  private final int endpointId;
+  private final long clusterId;
+  private final long eventId;
+
   private final long eventNumber;
   private final int priorityLevel;
   private final int timestampType;
   private final long timestampValue;
 
-  private final Object valueObject;
   private final byte[] tlv;
-  private JSONObject json;
+  private boolean isValueDecoded;
+  @Nullable private Object valueObject;
+  @Nullable private String jsonString;
+  private boolean isJsonParsed;
+  @Nullable private JSONObject json;
 
   public EventState(
       long eventNumber,
@@ -44,18 +57,31 @@ public final class EventState {
       Object valueObject,
       byte[] tlv,
       String jsonString) {
+    this(0, 0, 0, eventNumber, priorityLevel, timestampType, timestampValue, tlv);
+    this.isValueDecoded = true;
+    this.valueObject = valueObject;
+    this.jsonString = jsonString;
+  }
+
+  EventState(
+      int endpointId,
+      long clusterId,
+      long eventId,
+      long eventNumber,
+      int priorityLevel,
+      int timestampType,
+      long timestampValue,
+      byte[] tlv) {
+    this.endpointId = endpointId;
+    this.clusterId = clusterId;
+    this.eventId = eventId;
+
     this.eventNumber = eventNumber;
     this.priorityLevel = priorityLevel;
     this.timestampType = timestampType;
     this.timestampValue = timestampValue;
 
-    this.valueObject = valueObject;
     this.tlv = tlv;
-    try {
-      this.json = new JSONObject(jsonString);
-    } catch (JSONException ex) {
-      Log.e(TAG, "Error parsing JSON string", ex);
-    }
   }
 
   public long getEventNumber() {
@@ -74,7 +100,11 @@ public final class EventState {
     return timestampValue;
   }
 
-  public Object getValue() {
+  public synchronized Object getValue() {
+    if (!isValueDecoded) {
+      valueObject = ReportValueDecoder.decodeEventValue(endpointId, clusterId, eventId, tlv);
+      isValueDecoded = true;
+    }
     return valueObject;
   }
 
@@ -85,12 +115,32 @@ public final class EventState {
     return tlv;
   }
 
-  public JSONObject getJson() {
+  public synchronized JSONObject getJson() {
+    if (!isJsonParsed) {
+      if (jsonString == null) {
+        jsonString = ReportValueDecoder.convertToJson(eventId, tlv);
+      }
+      json = parseJson(jsonString);
+      isJsonParsed = true;
+    }
     return json;
   }
 
   @Override
   public String toString() {
-    return valueObject.toString();
+    return String.valueOf(getValue());
+  }
+
+  @Nullable
+  private static JSONObject parseJson(@Nullable String jsonString) {
+    if (jsonString == null) {
+      return null;
+    }
+    try {
+      return new JSONObject(jsonString);
+    } catch (JSONException ex) {
+      Log.e(TAG, "Error parsing JSON string", ex);
+      return null;
+    }
   }
 }
@@ -0,0 +1,58 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller.model;
+
+import javax.annotation.Nullable;
+
+/** A {@link PrimitiveKeyedMap} keyed by endpoint IDs. */
+public final class IntKeyedMap<V> extends PrimitiveKeyedMap<Integer, V> {
+  public IntKeyedMap() {}
+
+  /** Like {@link #get(Object)}, without boxing {@code key}. */
+  @Nullable
+  public V get(int key) {
+    return getValue(key);
+  }
+
+  /** Like {@link #containsKey(Object)}, without boxing {@code key}. */
+  public boolean containsKey(int key) {
+    return hasKey(key);
+  }
+
+  /** Like {@link #put(Object, Object)}, without boxing {@code key}. */
+  @Nullable
+  public V put(int key, V value) {
+    return putValue(key, value);
+  }
+
+  /** Like {@link #remove(Object)}, without boxing {@code key}. */
+  @Nullable
+  public V remove(int key) {
+    return removeValue(key);
+  }
+
+  @Override
+  Integer boxKey(long key) {
+    return (int) key;
+  }
+
+  @Override
+  boolean isKey(@Nullable Object key) {
+    return key instanceof Integer;
+  }
+}
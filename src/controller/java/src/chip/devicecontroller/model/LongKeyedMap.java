@@ -0,0 +1,79 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller.model;
+
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/** A {@link PrimitiveKeyedMap} keyed by cluster, attribute or event IDs. */
+public final class LongKeyedMap<V> extends PrimitiveKeyedMap<Long, V> {
+  public LongKeyedMap() {}
+
+  /** Like {@link #get(Object)}, without boxing {@code key}. */
+  @Nullable
+  public V get(long key) {
+    return getValue(key);
+  }
+
+  /** Like {@link #containsKey(Object)}, without boxing {@code key}. */
+  public boolean containsKey(long key) {
+    return hasKey(key);
+  }
+
+  /** Like {@link #put(Object, Object)}, without boxing {@code key}. */
+  @Nullable
+  public V put(long key, V value) {
+    return putValue(key, value);
+  }
+
+  /** Like {@link #remove(Object)}, without boxing {@code key}. */
+  @Nullable
+  public V remove(long key) {
+    return removeValue(key);
+  }
+
+  /** Looks {@code key} up in {@code map}, without boxing it if {@code map} is a LongKeyedMap. */
+  @Nullable
+  static <V> V getFrom(Map<Long, V> map, long key) {
+    return map instanceof LongKeyedMap ? ((LongKeyedMap<V>) map).get(key) : map.get(key);
+  }
+
+  /** Puts {@code value} in {@code map}, without boxing {@code key} if it is a LongKeyedMap. */
+  @Nullable
+  static <V> V putInto(Map<Long, V> map, long key, V value) {
+    return map instanceof LongKeyedMap
+        ? ((LongKeyedMap<V>) map).put(key, value)
+        : map.put(key, value);
+  }
+
+  /** Removes {@code key} from {@code map}, without boxing it if {@code map} is a LongKeyedMap. */
+  @Nullable
+  static <V> V removeFrom(Map<Long, V> map, long key) {
+    return map instanceof LongKeyedMap ? ((LongKeyedMap<V>) map).remove(key) : map.remove(key);
+  }
+
+  @Override
+  Long boxKey(long key) {
+    return key;
+  }
+
+  @Override
+  boolean isKey(@Nullable Object key) {
+    return key instanceof Long;
+  }
+}
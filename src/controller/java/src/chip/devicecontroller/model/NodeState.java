@@ -17,17 +17,15 @@
  */
 package chip.devicecontroller.model;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Map;
 import javax.annotation.Nullable;
 
 /** Class for tracking CHIP node state in a hierarchical manner. */
 public final class NodeState {
-  private Map<Integer, EndpointState> endpoints;
+  private final IntKeyedMap<EndpointState> endpoints;
 
   public NodeState() {
-    this.endpoints = new HashMap<>();
+    this.endpoints = new IntKeyedMap<>();
   }
 
   public Map<Integer, EndpointState> getEndpointStates() {
@@ -71,6 +69,38 @@ public final class NodeState {
             jsonString));
   }
 
+  private void addAttribute(int endpointId, long clusterId, long attributeId, byte[] tlv) {
+    addAttribute(
+        endpointId,
+        clusterId,
+        attributeId,
+        new AttributeState(endpointId, clusterId, attributeId, tlv));
+  }
+
+  private void addEvent(
+      int endpointId,
+      long clusterId,
+      long eventId,
+      long eventNumber,
+      int priorityLevel,
+      int timestampType,
+      long timestampValue,
+      byte[] tlv) {
+    addEvent(
+        endpointId,
+        clusterId,
+        eventId,
+        new EventState(
+            endpointId,
+            clusterId,
+            eventId,
+            eventNumber,
+            priorityLevel,
+            timestampType,
+            timestampValue,
+            tlv));
+  }
+
   private void addAttributeStatus(
       int endpointId,
       long clusterId,
@@ -97,97 +127,35 @@ public final class NodeState {
 
   private void addAttribute(
       int endpointId, long clusterId, long attributeId, AttributeState attributeStateToAdd) {
-    EndpointState endpointState = getEndpointState(endpointId);
-    if (endpointState == null) {
-      endpointState = new EndpointState(new HashMap<>());
-      getEndpointStates().put(endpointId, endpointState);
-    }
-
-    ClusterState clusterState = endpointState.getClusterState(clusterId);
-    if (clusterState == null) {
-      clusterState =
-          new ClusterState(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
-      endpointState.getClusterStates().put(clusterId, clusterState);
-    }
-
-    if (clusterState.getAttributeStatuses().containsKey(attributeId)) {
-      clusterState.getAttributeStatuses().remove(attributeId);
-    }
-
-    // This will overwrite previous attributes.
-    clusterState.getAttributeStates().put(attributeId, attributeStateToAdd);
+    getOrCreateClusterState(endpointId, clusterId).addAttribute(attributeId, attributeStateToAdd);
   }
 
   private void addEvent(int endpointId, long clusterId, long eventId, EventState eventStateToAdd) {
-    EndpointState endpointState = getEndpointState(endpointId);
-    if (endpointState == null) {
-      endpointState = new EndpointState(new HashMap<>());
-      getEndpointStates().put(endpointId, endpointState);
-    }
-
-    ClusterState clusterState = endpointState.getClusterState(clusterId);
-    if (clusterState == null) {
-      clusterState =
-          new ClusterState(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
-      endpointState.getClusterStates().put(clusterId, clusterState);
-    }
-
-    if (!clusterState.getEventStates().containsKey(eventId)) {
-      clusterState.getEventStates().put(eventId, new ArrayList<EventState>());
-    }
-
-    if (clusterState.getEventStatuses().containsKey(eventId)) {
-      clusterState.getEventStatuses().remove(eventId);
-    }
-
-    clusterState.getEventStates().get(eventId).add(eventStateToAdd);
+    getOrCreateClusterState(endpointId, clusterId).addEvent(eventId, eventStateToAdd);
   }
 
   private void addAttributeStatus(
       int endpointId, long clusterId, long attributeId, Status statusToAdd) {
-    EndpointState endpointState = getEndpointState(endpointId);
-    if (endpointState == null) {
-      endpointState = new EndpointState(new HashMap<>());
-      getEndpointStates().put(endpointId, endpointState);
-    }
-
-    ClusterState clusterState = endpointState.getClusterState(clusterId);
-    if (clusterState == null) {
-      clusterState =
-          new ClusterState(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
-      endpointState.getClusterStates().put(clusterId, clusterState);
-    }
-
-    if (clusterState.getAttributeStates().containsKey(attributeId)) {
-      clusterState.getAttributeStates().remove(attributeId);
-    }
-    System.out.println("put : " + attributeId + ", " + statusToAdd);
-    clusterState.getAttributeStatuses().put(attributeId, statusToAdd);
+    getOrCreateClusterState(endpointId, clusterId).addAttributeStatus(attributeId, statusToAdd);
   }
 
   private void addEventStatus(int endpointId, long clusterId, long eventId, Status statusToAdd) {
-    EndpointState endpointState = getEndpointState(endpointId);
+    getOrCreateClusterState(endpointId, clusterId).addEventStatus(eventId, statusToAdd);
+  }
+
+  private ClusterState getOrCreateClusterState(int endpointId, long clusterId) {
+    EndpointState endpointState = endpoints.get(endpointId);
     if (endpointState == null) {
-      endpointState = new EndpointState(new HashMap<>());
-      getEndpointStates().put(endpointId, endpointState);
+      endpointState = new EndpointState();
+      endpoints.put(endpointId, endpointState);
     }
 
     ClusterState clusterState = endpointState.getClusterState(clusterId);
     if (clusterState == null) {
-      clusterState =
-          new ClusterState(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
-      endpointState.getClusterStates().put(clusterId, clusterState);
-    }
-
-    if (!clusterState.getEventStatuses().containsKey(eventId)) {
-      clusterState.getEventStatuses().put(eventId, new ArrayList<Status>());
+      clusterState = new ClusterState();
+      LongKeyedMap.putInto(endpointState.getClusterStates(), clusterId, clusterState);
     }
-
-    if (clusterState.getEventStates().containsKey(eventId)) {
-      clusterState.getEventStates().remove(eventId);
-    }
-
-    clusterState.getEventStatuses().get(eventId).add(statusToAdd);
+    return clusterState;
   }
 
   @Override
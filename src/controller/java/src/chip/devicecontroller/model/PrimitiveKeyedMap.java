@@ -0,0 +1,396 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+
+/**
+ * A map keyed by endpoint, cluster, attribute or event IDs, used by {@link NodeState} and its
+ * children in place of a {@link java.util.HashMap}.
+ *
+ * <p>Keys are stored unboxed in a {@code long[]} next to a {@code Object[]} of values, in insertion
+ * order, so an entry costs no key object and no entry object. Small maps, such as the attributes of
+ * most clusters, are searched linearly; larger ones also get an open-addressing {@code int[]}
+ * index. An empty map allocates no arrays. Iteration follows insertion order, like a {@link
+ * java.util.LinkedHashMap}; entries returned by {@link #entrySet()} are created as it is iterated.
+ *
+ * @param <K> the boxed key type, {@link Integer} or {@link Long}
+ */
+public abstract class PrimitiveKeyedMap<K, V> extends AbstractMap<K, V> {
+  private static final long[] EMPTY_KEYS = {};
+  private static final Object[] EMPTY_VALUES = {};
+  private static final int[] EMPTY_INDEX = {};
+  private static final int MIN_CAPACITY = 4;
+  // Up to this capacity keys are scanned, which is as fast as hashing and needs no index.
+  private static final int MAX_LINEAR_CAPACITY = 16;
+
+  // Marks the value slot of a removed entry until the next rehash compacts it away.
+  private static final Object REMOVED = new Object();
+
+  private long[] keys = EMPTY_KEYS;
+  private Object[] values = EMPTY_VALUES;
+  // Empty for linearly searched maps. Otherwise slots hold the position of an entry in keys/values
+  // plus one, or zero when free, and the length is a power of two at least twice the capacity of
+  // keys/values so that probe sequences stay short.
+  private int[] index = EMPTY_INDEX;
+  // Number of used positions in keys/values, including removed entries.
+  private int used;
+  private int size;
+  private int modCount;
+
+  PrimitiveKeyedMap() {}
+
+  /** Returns the boxed form of {@code key}. */
+  abstract K boxKey(long key);
+
+  /** Returns whether {@code key} has the boxed key type of this map. */
+  abstract boolean isKey(@Nullable Object key);
+
+  @Nullable
+  final V getValue(long key) {
+    int position = find(key);
+    return position < 0 ? null : valueAt(position);
+  }
+
+  final boolean hasKey(long key) {
+    return find(key) >= 0;
+  }
+
+  @Nullable
+  final V putValue(long key, V value) {
+    int position = find(key);
+    if (position >= 0) {
+      V previous = valueAt(position);
+      values[position] = value;
+      return previous;
+    }
+
+    if (used == keys.length) {
+      rehash(Math.max(MIN_CAPACITY, size + (size >> 1)));
+    }
+    keys[used] = key;
+    values[used] = value;
+    if (index.length != 0) {
+      insertIndex(key, used);
+    }
+    used++;
+    size++;
+    modCount++;
+    return null;
+  }
+
+  @Nullable
+  final V removeValue(long key) {
+    if (index.length == 0) {
+      int position = find(key);
+      if (position < 0) {
+        return null;
+      }
+      V previous = valueAt(position);
+      removeAt(-1, position);
+      return previous;
+    }
+    int mask = index.length - 1;
+    for (int slot = hash(key) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+      int position = index[slot] - 1;
+      if (keys[position] == key) {
+        V previous = valueAt(position);
+        removeAt(slot, position);
+        return previous;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  @Nullable
+  public V get(@Nullable Object key) {
+    return isKey(key) ? getValue(((Number) key).longValue()) : null;
+  }
+
+  @Override
+  public boolean containsKey(@Nullable Object key) {
+    return isKey(key) && hasKey(((Number) key).longValue());
+  }
+
+  @Override
+  @Nullable
+  public V put(K key, V value) {
+    if (!isKey(key)) {
+      throw new NullPointerException("key");
+    }
+    return putValue(((Number) key).longValue(), value);
+  }
+
+  @Override
+  @Nullable
+  public V remove(@Nullable Object key) {
+    return isKey(key) ? removeValue(((Number) key).longValue()) : null;
+  }
+
+  @Override
+  public void clear() {
+    keys = EMPTY_KEYS;
+    values = EMPTY_VALUES;
+    index = EMPTY_INDEX;
+    used = 0;
+    size = 0;
+    modCount++;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    int expectedModCount = modCount;
+    for (int position = 0; position < used; position++) {
+      if (values[position] != REMOVED) {
+        action.accept(boxKey(keys[position]), valueAt(position));
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  @Override
+  public Set<Map.Entry<K, V>> entrySet() {
+    return new AbstractSet<Map.Entry<K, V>>() {
+      @Override
+      public Iterator<Map.Entry<K, V>> iterator() {
+        return new EntryIterator();
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public void clear() {
+        PrimitiveKeyedMap.this.clear();
+      }
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private V valueAt(int position) {
+    return (V) values[position];
+  }
+
+  private int find(long key) {
+    if (index.length == 0) {
+      for (int position = 0; position < used; position++) {
+        if (keys[position] == key && values[position] != REMOVED) {
+          return position;
+        }
+      }
+      return -1;
+    }
+    int mask = index.length - 1;
+    for (int slot = hash(key) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+      int position = index[slot] - 1;
+      if (keys[position] == key) {
+        return position;
+      }
+    }
+    return -1;
+  }
+
+  private void insertIndex(long key, int position) {
+    int mask = index.length - 1;
+    int slot = hash(key) & mask;
+    while (index[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    index[slot] = position + 1;
+  }
+
+  /**
+   * Removes the entry at {@code position}, whose index slot is {@code slot} if there is an index.
+   */
+  private void removeAt(int slot, int position) {
+    values[position] = REMOVED;
+    size--;
+    modCount++;
+
+    if (index.length != 0) {
+      // Shift later entries of the probe sequence back so that lookups need no tombstones.
+      int mask = index.length - 1;
+      int free = slot;
+      for (int next = (slot + 1) & mask; index[next] != 0; next = (next + 1) & mask) {
+        int home = hash(keys[index[next] - 1]) & mask;
+        if (((next - home) & mask) >= ((next - free) & mask)) {
+          index[free] = index[next];
+          free = next;
+        }
+      }
+      index[free] = 0;
+    }
+
+    if (size == 0) {
+      clear();
+    }
+  }
+
+  /** Compacts away removed entries and resizes the arrays to hold {@code capacity} entries. */
+  private void rehash(int capacity) {
+    long[] newKeys = new long[capacity];
+    Object[] newValues = new Object[capacity];
+    int count = 0;
+    for (int position = 0; position < used; position++) {
+      if (values[position] != REMOVED) {
+        newKeys[count] = keys[position];
+        newValues[count] = values[position];
+        count++;
+      }
+    }
+
+    keys = newKeys;
+    values = newValues;
+    used = count;
+    if (capacity <= MAX_LINEAR_CAPACITY) {
+      index = EMPTY_INDEX;
+      return;
+    }
+    index = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+    for (int position = 0; position < count; position++) {
+      insertIndex(keys[position], position);
+    }
+  }
+
+  private static int hash(long key) {
+    // IDs are often small and consecutive, or share their high bits with a vendor prefix, so mix
+    // all the bits down into the low ones used to pick a slot.
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+    private int next;
+    private int last = -1;
+    private int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      while (next < used && values[next] == REMOVED) {
+        next++;
+      }
+      return next < used;
+    }
+
+    @Override
+    public Map.Entry<K, V> next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      last = next++;
+      return new Entry(last);
+    }
+
+    @Override
+    public void remove() {
+      if (last < 0) {
+        throw new IllegalStateException();
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      // Removal only marks the position, so the positions of the remaining entries are unchanged.
+      removeValue(keys[last]);
+      if (size == 0) {
+        next = 0;
+      }
+      last = -1;
+      expectedModCount = modCount;
+    }
+  }
+
+  private final class Entry implements Map.Entry<K, V> {
+    private final int position;
+    private final long key;
+
+    Entry(int position) {
+      this.position = position;
+      this.key = keys[position];
+    }
+
+    @Override
+    public K getKey() {
+      return boxKey(key);
+    }
+
+    @Override
+    @Nullable
+    public V getValue() {
+      return isCurrent() ? valueAt(position) : PrimitiveKeyedMap.this.getValue(key);
+    }
+
+    @Override
+    @Nullable
+    public V setValue(V value) {
+      if (!isCurrent()) {
+        return putValue(key, value);
+      }
+      V previous = valueAt(position);
+      values[position] = value;
+      return previous;
+    }
+
+    // A rehash moves entries, in which case the entry is looked up again by its key.
+    private boolean isCurrent() {
+      return position < used && keys[position] == key && values[position] != REMOVED;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof Map.Entry)) {
+        return false;
+      }
+      Map.Entry<?, ?> entry = (Map.Entry<?, ?>) other;
+      Object value = getValue();
+      return getKey().equals(entry.getKey())
+          && (value == null ? entry.getValue() == null : value.equals(entry.getValue()));
+    }
+
+    @Override
+    public int hashCode() {
+      Object value = getValue();
+      return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+}
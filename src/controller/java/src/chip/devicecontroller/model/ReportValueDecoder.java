@@ -0,0 +1,44 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller.model;
+
+import javax.annotation.Nullable;
+
+/**
+ * Decodes the TLV of reported attribute and event values on demand, for {@link AttributeState} and
+ * {@link EventState} received by a report callback that decodes values lazily.
+ */
+final class ReportValueDecoder {
+  private ReportValueDecoder() {}
+
+  /** Returns the value object of an attribute, or null if it could not be decoded. */
+  @Nullable
+  static native Object decodeAttributeValue(
+      int endpointId, long clusterId, long attributeId, byte[] tlv);
+
+  /** Returns the value object of an event, or null if it could not be decoded. */
+  @Nullable
+  static native Object decodeEventValue(int endpointId, long clusterId, long eventId, byte[] tlv);
+
+  /**
+   * Returns the JSON of a reported value, tagged with the ID of its attribute or event, or null if
+   * it could not be converted.
+   */
+  @Nullable
+  static native String convertToJson(long id, byte[] tlv);
+}
@@ -0,0 +1,250 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package matter.controller
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.logging.Level
+import java.util.logging.Logger
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.Deferred
+import matter.controller.model.AttributePath
+import matter.controller.model.DataVersionFilter
+
+/**
+ * Keeps the attribute values and data version of the clusters reported by each node, in memory and
+ * in an [AttributeCacheStorage], so that reads and subscriptions can ask a node only for the
+ * clusters that changed and still return every value.
+ *
+ * A cluster is only added once it was reported for a path covering all its attributes, since its
+ * data version could otherwise not tell whether the attributes that were not reported changed.
+ *
+ * The [storage] is only called from [storageExecutor], in order, so that reports are not held up by
+ * the storage. The first interaction with a node suspends until its clusters are loaded.
+ */
+internal class AttributeCache(
+  private val storage: AttributeCacheStorage,
+  private val storageExecutor: ExecutorService = newStorageExecutor()
+) {
+  class NodeClusters(val nodeId: Long, val clusters: HashMap<Long, CachedCluster>)
+
+  private class ReportedCluster(val endpointId: UShort, val clusterId: UInt) {
+    var dataVersion: UInt? = null
+    val attributes = LinkedHashMap<UInt, ByteArray>()
+  }
+
+  private val nodes = ConcurrentHashMap<Long, Deferred<NodeClusters>>()
+
+  /** Starts an interaction with a node for [attributePaths], to be updated with what it reports. */
+  suspend fun newUpdate(nodeId: Long, attributePaths: List<AttributePath>): Update =
+    Update(nodes.computeIfAbsent(nodeId, ::loadNodeClusters).await(), attributePaths)
+
+  /** Drops the clusters cached for a node, in memory and in the storage. */
+  fun remove(nodeId: Long) {
+    nodes.remove(nodeId)
+    persist(nodeId, "remove") { storage.remove(nodeId) }
+  }
+
+  /** Stops calling the storage once the pending changes are stored. */
+  fun close() {
+    storageExecutor.shutdown()
+  }
+
+  private fun loadNodeClusters(nodeId: Long): Deferred<NodeClusters> {
+    val loaded = CompletableDeferred<NodeClusters>()
+    val clusters = HashMap<Long, CachedCluster>()
+    try {
+      // Loading on the storage executor waits for the changes still pending for the node.
+      storageExecutor.execute {
+        try {
+          storage.load(nodeId).forEach {
+            clusters[clusterKey(it.endpointId.toInt(), it.clusterId.toLong())] = it
+          }
+        } catch (e: Exception) {
+          logger.log(Level.WARNING, "Failed to load cached clusters of %016X: %s".format(nodeId, e))
+        }
+        loaded.complete(NodeClusters(nodeId, clusters))
+      }
+    } catch (e: RejectedExecutionException) {
+      logger.log(Level.WARNING, "Failed to load cached clusters of %016X: %s".format(nodeId, e))
+      loaded.complete(NodeClusters(nodeId, clusters))
+    }
+    return loaded
+  }
+
+  private fun persist(nodeId: Long, operation: String, action: () -> Unit) {
+    try {
+      storageExecutor.execute {
+        try {
+          action()
+        } catch (e: Exception) {
+          logger.log(
+            Level.WARNING,
+            "Failed to %s cached clusters of %016X: %s".format(operation, nodeId, e)
+          )
+        }
+      }
+    } catch (e: RejectedExecutionException) {
+      logger.log(
+        Level.WARNING,
+        "Failed to %s cached clusters of %016X: %s".format(operation, nodeId, e)
+      )
+    }
+  }
+
+  /**
+   * The attribute data of a read or subscription, collected from the report callback and applied to
+   * the cache at the end of each report.
+   */
+  inner class Update
+  internal constructor(
+    private val node: NodeClusters,
+    private val attributePaths: List<AttributePath>
+  ) {
+    private val filteredClusters = HashMap<Long, CachedCluster>()
+    private val reportedClusters = LinkedHashMap<Long, ReportedCluster>()
+    private var isFirstReport = true
+
+    /**
+     * Returns [filters] followed by a filter for every other cached cluster covered in full by the
+     * attribute paths, whose values [commit] returns if the node does not report it.
+     */
+    fun dataVersionFilters(filters: List<DataVersionFilter>): List<DataVersionFilter> {
+      val requestedClusters =
+        filters.mapTo(HashSet()) { clusterKey(it.endpointId.toInt(), it.clusterId.toLong()) }
+      synchronized(node) {
+        for ((key, cluster) in node.clusters) {
+          if (key !in requestedClusters && coversCluster(cluster.endpointId, cluster.clusterId)) {
+            filteredClusters[key] = cluster
+          }
+        }
+      }
+      return filters +
+        filteredClusters.values.map {
+          DataVersionFilter(it.endpointId, it.clusterId, it.dataVersion)
+        }
+    }
+
+    /**
+     * Records attribute data reported by the node, whose data version is
+     * [ReportElementCallback.NO_DATA_VERSION] if the data has none.
+     */
+    fun record(
+      endpointId: Int,
+      clusterId: Long,
+      attributeId: Long,
+      dataVersion: Long,
+      tlv: ByteArray
+    ) {
+      val cluster =
+        reportedClusters.getOrPut(clusterKey(endpointId, clusterId)) {
+          ReportedCluster(endpointId.toUShort(), clusterId.toUInt())
+        }
+      if (dataVersion != ReportElementCallback.NO_DATA_VERSION) {
+        cluster.dataVersion = dataVersion.toUInt()
+      }
+      cluster.attributes[attributeId.toUInt()] = tlv
+    }
+
+    /**
+     * Applies the attribute data recorded since the previous call to the cache and stores the
+     * clusters it changed. The first call returns the cached values of the clusters filtered out by
+     * [dataVersionFilters] that the node did not report, since they did not change.
+     */
+    fun commit(): List<ReadData.Attribute> {
+      val changedClusters = ArrayList<CachedCluster>(reportedClusters.size)
+      synchronized(node) {
+        for ((key, reported) in reportedClusters) {
+          val updated = update(node.clusters[key], reported) ?: continue
+          node.clusters[key] = updated
+          changedClusters.add(updated)
+        }
+      }
+      if (changedClusters.isNotEmpty()) {
+        persist(node.nodeId, "store") { storage.store(node.nodeId, changedClusters) }
+      }
+
+      val unchangedValues =
+        filteredClusters
+          .filterKeys { it !in reportedClusters }
+          .values
+          .flatMap { cluster ->
+            cluster.attributes.map { (attributeId, tlv) ->
+              ReadData.Attribute(
+                AttributePath(cluster.endpointId, cluster.clusterId, attributeId),
+                tlv
+              )
+            }
+          }
+      filteredClusters.clear()
+      reportedClusters.clear()
+      isFirstReport = false
+      return unchangedValues
+    }
+
+    private fun update(cached: CachedCluster?, reported: ReportedCluster): CachedCluster? {
+      val dataVersion = reported.dataVersion
+      // Only the first report of an interaction carries clusters in full, replacing every cached
+      // attribute: later reports of a subscription only carry the attributes that changed.
+      if (
+        dataVersion != null &&
+          (cached != null || isFirstReport) &&
+          coversCluster(reported.endpointId, reported.clusterId)
+      ) {
+        return CachedCluster(
+          reported.endpointId,
+          reported.clusterId,
+          dataVersion,
+          if (isFirstReport) reported.attributes.toMap()
+          else cached?.attributes.orEmpty() + reported.attributes
+        )
+      }
+      // The other attributes may have changed as well, so the cluster keeps its previous data
+      // version and will be reported in full by the next read that covers it.
+      return cached?.let {
+        CachedCluster(
+          it.endpointId,
+          it.clusterId,
+          it.dataVersion,
+          it.attributes + reported.attributes
+        )
+      }
+    }
+
+    private fun coversCluster(endpointId: UShort, clusterId: UInt): Boolean =
+      attributePaths.any {
+        it.attributeId == null &&
+          (it.endpointId == null || it.endpointId == endpointId) &&
+          (it.clusterId == null || it.clusterId == clusterId)
+      }
+  }
+
+  companion object {
+    private val logger = Logger.getLogger(AttributeCache::class.java.simpleName)
+
+    private fun newStorageExecutor(): ExecutorService =
+      Executors.newSingleThreadExecutor { runnable ->
+        Thread(runnable, "AttributeCacheStorage").apply { isDaemon = true }
+      }
+
+    private fun clusterKey(endpointId: Int, clusterId: Long): Long =
+      (endpointId.toLong() shl Int.SIZE_BITS) or (clusterId and 0xFFFFFFFFL)
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package matter.controller
+
+import java.io.File
+import java.io.IOException
+import java.util.logging.Level
+import java.util.logging.Logger
+import matter.tlv.AnonymousTag
+import matter.tlv.ContextSpecificTag
+import matter.tlv.TlvParsingException
+import matter.tlv.TlvReader
+import matter.tlv.TlvWriter
+
+/**
+ * The attribute values of a cluster of a node, and the data version of the cluster they were
+ * reported with, as kept by the attribute cache of a [MatterController].
+ *
+ * @param endpointId The endpoint ID.
+ * @param clusterId The cluster ID.
+ * @param dataVersion The data version of the cluster.
+ * @param attributes The TLV-encoded value of each attribute of the cluster, with an anonymous tag.
+ */
+class CachedCluster(
+  val endpointId: UShort,
+  val clusterId: UInt,
+  val dataVersion: UInt,
+  val attributes: Map<UInt, ByteArray>
+)
+
+/**
+ * Persists the attribute cache of a [MatterController], set through
+ * [ControllerParams.attributeCacheStorage], so that a restarted controller only reads the clusters
+ * that changed since it last heard from a node.
+ *
+ * The methods are called one at a time, in order, on a thread of the controller that does not
+ * deliver reports.
+ */
+interface AttributeCacheStorage {
+  /** Returns the clusters stored for a node, or an empty list if none is. */
+  fun load(nodeId: Long): List<CachedCluster>
+
+  /** Stores clusters of a node, replacing any cluster stored with the same endpoint and ID. */
+  fun store(nodeId: Long, clusters: List<CachedCluster>)
+
+  /** Removes every cluster stored for a node. */
+  fun remove(nodeId: Long)
+}
+
+/**
+ * An [AttributeCacheStorage] keeping each cluster in a TLV file, in a directory per node.
+ *
+ * A file is written next to the one it replaces and then renamed over it, so a crash leaves either
+ * the old or the new cluster behind. Files that cannot be parsed are deleted when loaded.
+ *
+ * @param directory The directory holding the node directories.
+ */
+class FileAttributeCacheStorage(private val directory: File) : AttributeCacheStorage {
+  override fun load(nodeId: Long): List<CachedCluster> {
+    val files = nodeDirectory(nodeId).listFiles { file -> file.name.endsWith(FILE_SUFFIX) }
+    return files.orEmpty().mapNotNull { file ->
+      try {
+        decode(file.readBytes())
+      } catch (e: IOException) {
+        logger.log(Level.WARNING, "Failed to read cached cluster %s: %s".format(file, e))
+        null
+      } catch (e: TlvParsingException) {
+        logger.log(Level.WARNING, "Deleting invalid cached cluster %s: %s".format(file, e))
+        file.delete()
+        null
+      }
+    }
+  }
+
+  override fun store(nodeId: Long, clusters: List<CachedCluster>) {
+    val nodeDirectory = nodeDirectory(nodeId)
+    if (!nodeDirectory.isDirectory && !nodeDirectory.mkdirs()) {
+      throw IOException("Failed to create $nodeDirectory")
+    }
+    for (cluster in clusters) {
+      val name = "%04X_%08X".format(cluster.endpointId.toInt(), cluster.clusterId.toLong())
+      val file = File(nodeDirectory, name + FILE_SUFFIX)
+      val temporaryFile = File(nodeDirectory, name + TEMPORARY_FILE_SUFFIX)
+      temporaryFile.writeBytes(encode(cluster))
+      if (!temporaryFile.renameTo(file)) {
+        temporaryFile.delete()
+        throw IOException("Failed to replace $file")
+      }
+    }
+  }
+
+  override fun remove(nodeId: Long) {
+    nodeDirectory(nodeId).deleteRecursively()
+  }
+
+  private fun nodeDirectory(nodeId: Long) = File(directory, "%016X".format(nodeId))
+
+  companion object {
+    private val logger = Logger.getLogger(FileAttributeCacheStorage::class.java.simpleName)
+
+    private const val FILE_SUFFIX = ".tlv"
+    private const val TEMPORARY_FILE_SUFFIX = ".tmp"
+
+    private const val TAG_ENDPOINT_ID = 0
+    private const val TAG_CLUSTER_ID = 1
+    private const val TAG_DATA_VERSION = 2
+    private const val TAG_ATTRIBUTES = 3
+    private const val TAG_ATTRIBUTE_ID = 0
+    private const val TAG_ATTRIBUTE_VALUE = 1
+
+    private fun encode(cluster: CachedCluster): ByteArray {
+      val writer = TlvWriter()
+      writer
+        .startStructure(AnonymousTag)
+        .put(ContextSpecificTag(TAG_ENDPOINT_ID), cluster.endpointId)
+        .put(ContextSpecificTag(TAG_CLUSTER_ID), cluster.clusterId)
+        .put(ContextSpecificTag(TAG_DATA_VERSION), cluster.dataVersion)
+        .startArray(ContextSpecificTag(TAG_ATTRIBUTES))
+      for ((attributeId, value) in cluster.attributes) {
+        writer
+          .startStructure(AnonymousTag)
+          .put(ContextSpecificTag(TAG_ATTRIBUTE_ID), attributeId)
+          .put(ContextSpecificTag(TAG_ATTRIBUTE_VALUE), value)
+          .endStructure()
+      }
+      return writer.endArray().endStructure().getEncoded()
+    }
+
+    private fun decode(encoded: ByteArray): CachedCluster {
+      val reader = TlvReader(encoded)
+      reader.enterStructure(AnonymousTag)
+      val endpointId = reader.getUShort(ContextSpecificTag(TAG_ENDPOINT_ID))
+      val clusterId = reader.getUInt(ContextSpecificTag(TAG_CLUSTER_ID))
+      val dataVersion = reader.getUInt(ContextSpecificTag(TAG_DATA_VERSION))
+      val attributes = LinkedHashMap<UInt, ByteArray>()
+      reader.enterArray(ContextSpecificTag(TAG_ATTRIBUTES))
+      while (!reader.isEndOfContainer()) {
+        reader.enterStructure(AnonymousTag)
+        val attributeId = reader.getUInt(ContextSpecificTag(TAG_ATTRIBUTE_ID))
+        attributes[attributeId] = reader.getByteString(ContextSpecificTag(TAG_ATTRIBUTE_VALUE))
+        reader.exitContainer()
+      }
+      reader.exitContainer()
+      reader.exitContainer()
+      return CachedCluster(endpointId, clusterId, dataVersion, attributes)
+    }
+  }
+}
@@ -24,6 +24,9 @@ package matter.controller
  * @param udpListenPort A port for UDP communications, or [UDP_PORT_AUTO] to select automatically.
  * @param vendorId The identifier for the vendor using this controller.
  * @param countryCode The Regulatory Location country code.
+ * @param attributeCacheStorage An optional storage for the attribute values reported by nodes. If
+ *   set, the controller caches the attributes of the clusters it reads or subscribes to in full,
+ *   and requests with `useTrackedVersions` set only get the clusters that changed from the node.
  */
 class ControllerParams
 @JvmOverloads
@@ -33,6 +36,7 @@ constructor(
   val vendorId: Int = VENDOR_ID_TEST,
   val countryCode: String? = null,
   val enableServerInteractions: Boolean = false,
+  val attributeCacheStorage: AttributeCacheStorage? = null,
 ) {
   companion object {
     /** Matter assigned vendor ID for Google. */
@@ -0,0 +1,159 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package matter.controller
+
+import matter.controller.model.AttributePath
+import matter.controller.model.DataVersionFilter
+import matter.controller.model.EventPath
+
+/**
+ * Tracks the latest data version reported for each cluster of a node and the latest event number
+ * received from it, so that a later read or subscription only asks the node for what changed.
+ *
+ * A data version is only tracked for a cluster reported for a path covering all its attributes,
+ * since it could otherwise not tell whether the attributes that were not reported changed. The
+ * latest event number is tracked for the [MAX_EVENT_PATH_SETS] sets of requested event paths used
+ * most recently, since the events of other paths may not have been received up to that number.
+ */
+internal class DataVersionTracker {
+  private val lock = Any()
+  private val dataVersions = HashMap<Long, UInt>()
+  private val latestEventNumbers =
+    object : LinkedHashMap<Set<EventPath>, Long>(16, 0.75f, /* accessOrder= */ true) {
+      override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Set<EventPath>, Long>) =
+        size > MAX_EVENT_PATH_SETS
+    }
+
+  /**
+   * Records the data versions and event numbers of the reports received by a read or subscription
+   * for [attributePaths] and [eventPaths].
+   *
+   * The data versions of a report are only tracked once the report completed without errors, since
+   * the attributes of a cluster may otherwise not all have been received.
+   */
+  inner class ReportRecorder(attributePaths: List<AttributePath>, eventPaths: List<EventPath>) {
+    private val attributePaths = attributePaths.filter { it.attributeId == null }
+    private val eventPathsKey = eventPathsKey(eventPaths)
+    private val pendingDataVersions = HashMap<Long, UInt>()
+    private var hasError = false
+
+    /** Starts a report, dropping the data versions of a previous report that did not complete. */
+    fun beginReport() {
+      pendingDataVersions.clear()
+    }
+
+    /**
+     * Records the data version of a cluster carried by attribute data, which is
+     * [ReportElementCallback.NO_DATA_VERSION] if the data has none. The data version is dropped
+     * unless one of the requested paths covers all the attributes of the cluster.
+     */
+    fun recordDataVersion(endpointId: Int, clusterId: Long, dataVersion: Long) {
+      if (
+        dataVersion == ReportElementCallback.NO_DATA_VERSION ||
+          !coversCluster(attributePaths, endpointId.toUShort(), clusterId.toUInt())
+      ) {
+        return
+      }
+      pendingDataVersions[clusterKey(endpointId, clusterId)] = dataVersion.toUInt()
+    }
+
+    /** Records the number of an event received from the node. */
+    fun recordEventNumber(eventNumber: Long) {
+      synchronized(lock) {
+        val latest = latestEventNumbers[eventPathsKey]
+        if (latest == null || eventNumber > latest) {
+          latestEventNumbers[eventPathsKey] = eventNumber
+        }
+      }
+    }
+
+    /** Records that an error was reported, so that the data versions of the report are dropped. */
+    fun recordError() {
+      hasError = true
+    }
+
+    /** Completes a report, tracking its data versions unless an error was reported for it. */
+    fun endReport() {
+      if (!hasError && pendingDataVersions.isNotEmpty()) {
+        synchronized(lock) { dataVersions.putAll(pendingDataVersions) }
+      }
+      pendingDataVersions.clear()
+      hasError = false
+    }
+  }
+
+  /**
+   * Returns [filters] followed by a filter for every other tracked cluster covered by
+   * [attributePaths].
+   */
+  fun dataVersionFilters(
+    attributePaths: List<AttributePath>,
+    filters: List<DataVersionFilter>
+  ): List<DataVersionFilter> {
+    val filteredClusters = filters.map { clusterKey(it.endpointId.toInt(), it.clusterId.toLong()) }
+    synchronized(lock) {
+      val trackedFilters =
+        dataVersions.mapNotNull { (key, dataVersion) ->
+          val endpointId = (key ushr Int.SIZE_BITS).toUShort()
+          val clusterId = key.toUInt()
+          if (key !in filteredClusters && attributePaths.any { it.covers(endpointId, clusterId) }) {
+            DataVersionFilter(endpointId, clusterId, dataVersion)
+          } else {
+            null
+          }
+        }
+      return filters + trackedFilters
+    }
+  }
+
+  /**
+   * Returns [eventMin] if set, or else the number following the latest event received from the node
+   * for the same [eventPaths], or null if no such event was received yet.
+   */
+  fun eventMin(eventPaths: List<EventPath>, eventMin: ULong?): ULong? {
+    if (eventMin != null || eventPaths.isEmpty()) {
+      return eventMin
+    }
+    val key = eventPathsKey(eventPaths)
+    synchronized(lock) {
+      return latestEventNumbers[key]?.let { it.toULong() + 1UL }
+    }
+  }
+
+  companion object {
+    // Bounds the number of event path sets whose latest event number is tracked.
+    internal const val MAX_EVENT_PATH_SETS = 16
+
+    private fun clusterKey(endpointId: Int, clusterId: Long): Long =
+      (endpointId.toLong() shl Int.SIZE_BITS) or (clusterId and 0xFFFFFFFFL)
+
+    // Urgency only changes when events are reported, not which ones are.
+    private fun eventPathsKey(eventPaths: List<EventPath>): Set<EventPath> =
+      eventPaths.mapTo(HashSet()) { if (it.isUrgent) it.copy(isUrgent = false) else it }
+
+    private fun coversCluster(
+      attributePaths: List<AttributePath>,
+      endpointId: UShort,
+      clusterId: UInt
+    ): Boolean = attributePaths.any { it.attributeId == null && it.covers(endpointId, clusterId) }
+
+    private fun AttributePath.covers(endpointId: UShort, clusterId: UInt): Boolean =
+      (this.endpointId == null || this.endpointId == endpointId) &&
+        (this.clusterId == null || this.clusterId == clusterId)
+  }
+}
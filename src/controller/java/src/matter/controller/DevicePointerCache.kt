@@ -0,0 +1,205 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package matter.controller
+
+import chip.devicecontroller.ChipDeviceController
+import chip.devicecontroller.GetConnectedDeviceCallbackJni.GetConnectedDeviceCallback
+import java.util.logging.Level
+import java.util.logging.Logger
+import kotlinx.coroutines.CompletableDeferred
+
+/**
+ * Caches the operational device pointer of each node, keyed by fabric and node ID, so that
+ * operations on a node reuse its CASE session instead of looking it up every time.
+ *
+ * Concurrent lookups for the same node share a single lookup. A cached pointer is dropped once its
+ * session is no longer active, when the lookup for its node fails, or when its node is evicted, and
+ * it is released once the last operation using it returns it.
+ *
+ * @param lookUpPointer Looks up the device pointer of a node, establishing a CASE session if
+ *   needed.
+ * @param releasePointer Releases a device pointer that is no longer used.
+ * @param isSessionActive Returns whether the session of a device pointer is still active.
+ */
+internal class DevicePointerCache(
+  private val lookUpPointer: (nodeId: Long, callback: GetConnectedDeviceCallback) -> Unit,
+  private val releasePointer: (devicePtr: Long) -> Unit,
+  private val isSessionActive: (devicePtr: Long) -> Boolean
+) {
+  /**
+   * @param deviceController The controller used to look up and release device pointers.
+   * @param isSessionActive Returns whether the session of a device pointer is still active.
+   */
+  constructor(
+    deviceController: ChipDeviceController,
+    isSessionActive: (devicePtr: Long) -> Boolean
+  ) : this(
+    { nodeId, callback -> deviceController.getConnectedDevicePointer(nodeId, callback) },
+    { devicePtr -> deviceController.releaseConnectedDevicePointer(devicePtr) },
+    isSessionActive
+  )
+
+  private data class NodeKey(val fabricIndex: Int, val nodeId: Long)
+
+  private class Entry(val key: NodeKey, val devicePtr: Long) {
+    var leaseCount = 0
+    var isEvicted = false
+  }
+
+  private val lock = Any()
+  private val entriesByNode = HashMap<NodeKey, Entry>()
+  private val entriesByPointer = HashMap<Long, Entry>()
+  private val lookups = HashMap<NodeKey, CompletableDeferred<Long>>()
+
+  /**
+   * Returns the device pointer of a node, looking it up if no pointer with an active session is
+   * cached. The pointer must be returned through [release] once the operation using it returned.
+   *
+   * @throws Exception if the CASE session to the node cannot be established.
+   */
+  suspend fun acquire(fabricIndex: Int, nodeId: Long): Long {
+    val key = NodeKey(fabricIndex, nodeId)
+    while (true) {
+      // The entry is leased before its session is checked so that it cannot be released meanwhile.
+      val cached = synchronized(lock) { entriesByNode[key]?.also { it.leaseCount++ } }
+      if (cached != null) {
+        if (isSessionActive(cached.devicePtr)) {
+          return cached.devicePtr
+        }
+        logger.log(Level.INFO, "Session to device %016X is no longer active".format(nodeId))
+        releasePointers(
+          synchronized(lock) {
+            cached.leaseCount--
+            listOfNotNull(evict(cached))
+          }
+        )
+      }
+
+      var isLookupOwner = false
+      val lookup =
+        synchronized(lock) {
+          lookups.getOrPut(key) {
+            isLookupOwner = true
+            CompletableDeferred()
+          }
+        }
+      if (isLookupOwner) {
+        lookUp(key, lookup)
+      }
+
+      val devicePtr = lookup.await()
+      synchronized(lock) {
+        val entry = entriesByPointer[devicePtr]
+        if (entry != null && !entry.isEvicted) {
+          entry.leaseCount++
+          return devicePtr
+        }
+      }
+      // The pointer was evicted before this caller could lease it; look it up again.
+    }
+  }
+
+  /** Returns a device pointer obtained from [acquire]. */
+  fun release(devicePtr: Long) {
+    releasePointers(
+      synchronized(lock) {
+        val entry = entriesByPointer[devicePtr] ?: return
+        entry.leaseCount--
+        listOfNotNull(releaseIfUnused(entry))
+      }
+    )
+  }
+
+  /** Drops the cached device pointer of a node, if any. */
+  fun evict(fabricIndex: Int, nodeId: Long) {
+    releasePointers(
+      synchronized(lock) {
+        listOfNotNull(entriesByNode[NodeKey(fabricIndex, nodeId)]?.let(::evict))
+      }
+    )
+  }
+
+  /** Drops every cached device pointer. */
+  fun clear() {
+    releasePointers(synchronized(lock) { entriesByNode.values.toList().mapNotNull(::evict) })
+  }
+
+  private fun lookUp(key: NodeKey, lookup: CompletableDeferred<Long>) {
+    logger.log(Level.INFO, "Looking up pointer for %016X".format(key.nodeId))
+    lookUpPointer(
+      key.nodeId,
+      object : GetConnectedDeviceCallback {
+        override fun onDeviceConnected(devicePointer: Long) {
+          logger.log(Level.INFO, "Resolved pointer ${devicePointer} for device ${key.nodeId}")
+          releasePointers(
+            synchronized(lock) {
+              lookups.remove(key)
+              val replaced = entriesByNode[key]?.let(::evict)
+              val entry = Entry(key, devicePointer)
+              entriesByNode[key] = entry
+              entriesByPointer[devicePointer] = entry
+              listOfNotNull(replaced)
+            }
+          )
+          lookup.complete(devicePointer)
+        }
+
+        override fun onConnectionFailure(nodeId: Long, error: Exception) {
+          logger.log(Level.SEVERE, "Failed to establish CASE session for device ${nodeId}")
+          releasePointers(
+            synchronized(lock) {
+              lookups.remove(key)
+              listOfNotNull(entriesByNode[key]?.let(::evict))
+            }
+          )
+          lookup.completeExceptionally(
+            Exception("Failed to establish CASE session for device %016X".format(nodeId))
+          )
+        }
+      }
+    )
+  }
+
+  // Marks an entry as evicted and returns its pointer if it must be released.
+  private fun evict(entry: Entry): Long? {
+    if (entriesByNode[entry.key] === entry) {
+      entriesByNode.remove(entry.key)
+    }
+    entry.isEvicted = true
+    return releaseIfUnused(entry)
+  }
+
+  private fun releaseIfUnused(entry: Entry): Long? {
+    if (!entry.isEvicted || entry.leaseCount > 0) {
+      return null
+    }
+    entriesByPointer.remove(entry.devicePtr)
+    return entry.devicePtr
+  }
+
+  // Native calls wait for the stack lock, so they are made without holding the cache lock to keep
+  // other operations and the lookup callbacks, which the CHIP thread runs with the stack lock
+  // released, from waiting on them.
+  private fun releasePointers(devicePtrs: List<Long>) {
+    devicePtrs.forEach(releasePointer)
+  }
+
+  companion object {
+    private val logger = Logger.getLogger(DevicePointerCache::class.java.simpleName)
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package matter.controller
+
+/** An interface for receiving the responses to an invoke request carrying several commands. */
+interface ExtendableInvokeCallback {
+  /**
+   * OnError will be called when an error that is not specific to one command occurs.
+   *
+   * @param ex The exception which encapsulates the error, see [InvokeCallback.onError].
+   */
+  fun onError(ex: Exception)
+
+  /**
+   * OnResponse will be called when the response to one command has been received and processed.
+   *
+   * @param commandRef The reference of the command in the invoke request, or null if the request
+   *   carried a single command.
+   * @param result The response data or status of the command.
+   */
+  fun onResponse(commandRef: Int?, result: InvokeResult)
+
+  /**
+   * OnNoResponse will be called for each command without a response once the node indicated
+   * completion of the invoke request.
+   *
+   * @param commandRef The reference of the command in the invoke request.
+   */
+  fun onNoResponse(commandRef: Int)
+
+  fun onDone() {}
+}
@@ -0,0 +1,102 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package matter.controller
+
+import chip.devicecontroller.NativeHandleCleaner
+import matter.controller.model.CommandPath
+import matter.controller.model.Status
+
+/** JNI wrapper callback class for [ExtendableInvokeCallback]. */
+class ExtendableInvokeCallbackJni(val wrappedExtendableInvokeCallback: ExtendableInvokeCallback) {
+  private val callbackHandle: Long
+  private val cleanable: NativeHandleCleaner.Cleanable
+
+  init {
+    this.callbackHandle = newCallback()
+    val handle = callbackHandle
+    cleanable = NativeHandleCleaner.register(this) { deleteCallback(handle) }
+  }
+
+  private external fun newCallback(): Long
+
+  fun getJniHandle(): Long {
+    return callbackHandle
+  }
+
+  private fun onError(e: Exception) {
+    wrappedExtendableInvokeCallback.onError(e)
+  }
+
+  private fun onResponse(
+    endpointId: Int,
+    clusterId: Long,
+    commandId: Long,
+    commandRef: Int?,
+    tlv: ByteArray,
+    jsonString: String
+  ) {
+    wrappedExtendableInvokeCallback.onResponse(
+      commandRef,
+      InvokeResult.Response(
+        InvokeResponse(
+          tlv,
+          CommandPath(endpointId.toUShort(), clusterId.toUInt(), commandId.toUInt()),
+          jsonString
+        )
+      )
+    )
+  }
+
+  private fun onResponse(
+    endpointId: Int,
+    clusterId: Long,
+    commandId: Long,
+    commandRef: Int?,
+    status: Int,
+    clusterStatus: Int?
+  ) {
+    wrappedExtendableInvokeCallback.onResponse(
+      commandRef,
+      InvokeResult.StatusResponse(
+        CommandPath(endpointId.toUShort(), clusterId.toUInt(), commandId.toUInt()),
+        Status(status, clusterStatus)
+      )
+    )
+  }
+
+  private fun onNoResponse(commandRef: Int) {
+    wrappedExtendableInvokeCallback.onNoResponse(commandRef)
+  }
+
+  private fun onDone() {
+    try {
+      wrappedExtendableInvokeCallback.onDone()
+    } finally {
+      close()
+    }
+  }
+
+  /** Releases the native callback, which must no longer be in use by the native side. */
+  internal fun close() {
+    cleanable.clean()
+  }
+
+  companion object {
+    @JvmStatic private external fun deleteCallback(callbackHandle: Long)
+  }
+}
@@ -18,6 +18,7 @@
 package matter.controller
 
 import kotlinx.coroutines.flow.Flow
+import matter.controller.model.Status
 
 interface InteractionClient {
   /**
@@ -56,4 +57,47 @@ interface InteractionClient {
    *   operation.
    */
   suspend fun invoke(request: InvokeRequest): InvokeResponse
+
+  /**
+   * Invokes several commands on a target device, sending as many of them per invoke request as the
+   * device accepts.
+   *
+   * @param requests The paths and arguments of the commands to invoke.
+   * @return The result of each command, in the order of [requests].
+   * @throws Generic Exception or MatterControllerException if an error that is not specific to one
+   *   command occurs during the invoke operation.
+   */
+  suspend fun invoke(requests: List<InvokeRequest>): List<InvokeResult> {
+    // Clients that cannot batch commands invoke them one at a time.
+    return requests.map { request ->
+      try {
+        toInvokeResult(invoke(request))
+      } catch (e: MatterControllerException) {
+        toInvokeResult(request, e) ?: throw e
+      }
+    }
+  }
+}
+
+// CHIP errors encapsulating an Interaction Model status.
+internal const val IM_GLOBAL_STATUS_ERROR_BASE = 0x500L
+private const val IM_GLOBAL_STATUS_ERROR_MASK = 0xFFL.inv()
+
+private fun toInvokeResult(response: InvokeResponse): InvokeResult {
+  if (response.payload.isEmpty()) {
+    return InvokeResult.StatusResponse(response.path, Status(Status.Code.SUCCESS.id, null))
+  }
+  return InvokeResult.Response(response)
+}
+
+/** Returns the result of [request] for [e], or null if [e] is not a status of the command. */
+private fun toInvokeResult(request: InvokeRequest, e: MatterControllerException): InvokeResult? {
+  if ((e.errorCode and IM_GLOBAL_STATUS_ERROR_MASK) != IM_GLOBAL_STATUS_ERROR_BASE) {
+    return null
+  }
+  val status = (e.errorCode and 0xFFL).toInt()
+  if (status == Status.Code.NO_COMMAND_RESPONSE.id) {
+    return InvokeResult.NoResponse
+  }
+  return InvokeResult.StatusResponse(request.commandPath, Status(status, null))
 }
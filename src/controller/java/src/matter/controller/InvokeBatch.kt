@@ -0,0 +1,125 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package matter.controller
+
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.CoroutineStart
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.joinAll
+import kotlinx.coroutines.launch
+import matter.controller.model.Status
+
+/**
+ * [MatterController] that groups the commands invoked through it by [invokeAll] into batched invoke
+ * requests to the node of the wrapped controller.
+ *
+ * Generated cluster classes created with a batch in place of the controller it wraps send the
+ * commands of a scene-style automation in a single exchange, or as few as the node accepts:
+ * ```
+ * val batch = InvokeBatch(controller)
+ * val onOff = OnOffCluster(batch, endpointId = 1u)
+ * val levelControl = LevelControlCluster(batch, endpointId = 1u)
+ * batch.invokeAll({ onOff.on() }, { levelControl.moveToLevel(...) })
+ * ```
+ *
+ * Commands invoked outside of [invokeAll] are sent on their own.
+ *
+ * @param controller The controller connected to the node to invoke the commands on.
+ */
+class InvokeBatch(private val controller: MatterController) : MatterController by controller {
+  private val lock = Any()
+  private var pendingInvokes: MutableList<PendingInvoke>? = null
+
+  private class PendingInvoke(val request: InvokeRequest) {
+    val result = CompletableDeferred<InvokeResult>()
+  }
+
+  override suspend fun invoke(request: InvokeRequest): InvokeResponse {
+    val pendingInvoke =
+      synchronized(lock) { pendingInvokes?.let { PendingInvoke(request).also(it::add) } }
+    if (pendingInvoke == null) {
+      return controller.invoke(request)
+    }
+
+    return when (val result = pendingInvoke.result.await()) {
+      is InvokeResult.Response -> result.response
+      is InvokeResult.StatusResponse -> {
+        if (result.status.getCode() != Status.Code.SUCCESS) {
+          throw MatterControllerException(
+            IM_GLOBAL_STATUS_ERROR_BASE or result.status.status.toLong(),
+            "Command ${result.path} failed with status ${result.status}"
+          )
+        }
+        InvokeResponse(byteArrayOf(), result.path)
+      }
+      is InvokeResult.NoResponse ->
+        throw MatterControllerException(
+          IM_GLOBAL_STATUS_ERROR_BASE or Status.Code.NO_COMMAND_RESPONSE.id.toLong(),
+          "No response to command ${request.commandPath}"
+        )
+    }
+  }
+
+  /**
+   * Runs [commands], and sends the commands they invoke through this batch together once each of
+   * them is waiting for its response.
+   *
+   * Each of [commands] is expected to invoke a command before suspending for another reason, as the
+   * command methods of the generated cluster classes do. Commands invoked later are sent on their
+   * own.
+   *
+   * @throws Exception the first failure of [commands], after cancelling the others.
+   */
+  suspend fun invokeAll(vararg commands: suspend () -> Unit) {
+    val batch = mutableListOf<PendingInvoke>()
+    synchronized(lock) {
+      check(pendingInvokes == null) { "Commands are already being batched" }
+      pendingInvokes = batch
+    }
+
+    coroutineScope {
+      val jobs =
+        try {
+          // Each command runs until it suspends waiting for the response to its invoke.
+          commands.map { command -> launch(start = CoroutineStart.UNDISPATCHED) { command() } }
+        } finally {
+          synchronized(lock) { pendingInvokes = null }
+        }
+
+      send(batch)
+      jobs.joinAll()
+    }
+  }
+
+  private suspend fun send(batch: List<PendingInvoke>) {
+    if (batch.isEmpty()) {
+      return
+    }
+
+    try {
+      val results = controller.invoke(batch.map { it.request })
+      batch.forEachIndexed { index, pendingInvoke -> pendingInvoke.result.complete(results[index]) }
+    } catch (e: CancellationException) {
+      batch.forEach { it.result.cancel(e) }
+      throw e
+    } catch (e: Exception) {
+      batch.forEach { it.result.completeExceptionally(e) }
+    }
+  }
+}
@@ -17,20 +17,22 @@
  */
 package matter.controller
 
+import chip.devicecontroller.NativeHandleCleaner
 import matter.controller.model.CommandPath
 
 /** JNI wrapper callback class for [InvokeCallback]. */
 class InvokeCallbackJni(val wrappedInvokeCallback: InvokeCallback) {
-  private var callbackHandle: Long
+  private val callbackHandle: Long
+  private val cleanable: NativeHandleCleaner.Cleanable
 
   init {
     this.callbackHandle = newCallback()
+    val handle = callbackHandle
+    cleanable = NativeHandleCleaner.register(this) { deleteCallback(handle) }
   }
 
   private external fun newCallback(): Long
 
-  private external fun deleteCallback(callbackHandle: Long)
-
   fun getJniHandle(): Long {
     return callbackHandle
   }
@@ -58,16 +60,19 @@ class InvokeCallbackJni(val wrappedInvokeCallback: InvokeCallback) {
   }
 
   private fun onDone() {
-    wrappedInvokeCallback.onDone()
+    try {
+      wrappedInvokeCallback.onDone()
+    } finally {
+      close()
+    }
   }
 
-  // TODO(#8578): Replace finalizer with PhantomReference.
-  @Suppress("deprecation")
-  @Throws(Throwable::class)
-  protected fun finalize() {
-    if (callbackHandle != 0L) {
-      deleteCallback(callbackHandle)
-      callbackHandle = 0
-    }
+  /** Releases the native callback, which must no longer be in use by the native side. */
+  internal fun close() {
+    cleanable.clean()
+  }
+
+  companion object {
+    @JvmStatic private external fun deleteCallback(callbackHandle: Long)
   }
 }
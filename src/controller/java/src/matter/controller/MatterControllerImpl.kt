@@ -19,7 +19,8 @@ package matter.controller
 
 import chip.devicecontroller.ChipDeviceController
 import chip.devicecontroller.ChipDeviceControllerException
-import chip.devicecontroller.GetConnectedDeviceCallbackJni.GetConnectedDeviceCallback
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
 import java.util.logging.Level
 import java.util.logging.Logger
 import kotlin.coroutines.resume
@@ -33,9 +34,9 @@ import kotlinx.coroutines.flow.buffer
 import kotlinx.coroutines.flow.callbackFlow
 import kotlinx.coroutines.suspendCancellableCoroutine
 import matter.controller.model.AttributePath
+import matter.controller.model.DataVersionFilter
 import matter.controller.model.EventPath
 import matter.controller.model.EventState
-import matter.controller.model.NodeState
 import matter.controller.model.Status
 
 /** Controller to interact with the CHIP device. */
@@ -43,6 +44,9 @@ class MatterControllerImpl(params: ControllerParams) : MatterController {
   private val deviceController: ChipDeviceController
   private var nodeId: Long? = null
   private val deviceControllerPtr: Long
+  private val dataVersionTrackers = ConcurrentHashMap<Long, DataVersionTracker>()
+  private val attributeCache = params.attributeCacheStorage?.let { AttributeCache(it) }
+  private val devicePointers: DevicePointerCache
 
   override fun setCompletionListener(listener: MatterController.CompletionListener?) =
     deviceController.setCompletionListener(CompletionListenerAdapter.from(listener))
@@ -60,6 +64,9 @@ class MatterControllerImpl(params: ControllerParams) : MatterController {
 
   override fun unpairDevice(nodeId: Long) {
     deviceController.unpairDevice(nodeId)
+    dataVersionTrackers.remove(nodeId)
+    attributeCache?.remove(nodeId)
+    devicePointers.evict(deviceController.fabricIndex, nodeId)
     this.nodeId = null
   }
 
@@ -80,13 +87,17 @@ class MatterControllerImpl(params: ControllerParams) : MatterController {
 
     val attributePaths = request.attributePaths
     val eventPaths = request.eventPaths
-    val successes = mutableListOf<ReadData>()
-    val failures = mutableListOf<ReadFailure>()
+    val dataVersionTracker = getDataVersionTracker(nodeId)
 
     return callbackFlow {
-        val devicePtr: Long = getConnectedDevicePointer(nodeId)
-        val subscriptionEstablishedHandler = SubscriptionEstablishedCallback {
+        val reports = SubscriptionReports(request.trackLatestValues)
+        val reportRecorder = dataVersionTracker.ReportRecorder(attributePaths, eventPaths)
+        val cacheUpdate = attributeCache?.newUpdate(nodeId, attributePaths)
+        val devicePtr: Long = acquireDevicePointer(nodeId)
+        val establishedSubscriptionId = AtomicLong(NO_SUBSCRIPTION_ID)
+        val subscriptionEstablishedHandler = SubscriptionEstablishedCallback { subscriptionId ->
           logger.log(Level.INFO, "Subscription to device established")
+          establishedSubscriptionId.set(subscriptionId)
 
           trySendBlocking(SubscriptionState.SubscriptionEstablished).onFailure { ex ->
             logger.log(
@@ -117,49 +128,58 @@ class MatterControllerImpl(params: ControllerParams) : MatterController {
               }
           }
 
+        // Each report is streamed from the native layer element by element, and collected here
+        // straight into the ReadData list it is delivered as.
         val reportHandler =
-          object : ReportCallback {
-            override fun onReport(nodeState: NodeState) {
-              logger.log(Level.FINE, "Received subscribe report")
-              for (endpoint in nodeState.endpoints) {
-                for (cluster in endpoint.value.clusters) {
-                  for (attribute in cluster.value.attributes) {
-                    val readData =
-                      ReadData.Attribute(attribute.value.path, attribute.value.tlvValue)
-                    successes.add(readData)
-                  }
+          object : ReportElementCallback {
+            override fun onReportBegin() {
+              reports.beginReport()
+              reportRecorder.beginReport()
+            }
 
-                  for (eventList in cluster.value.events) {
-                    for (event in eventList.value) {
-                      val timestamp: Timestamp =
-                        when (event.getTimestampType()) {
-                          EventState.TypeStampTypeEnum.MILLIS_SINCE_BOOT ->
-                            Timestamp.MillisSinceBoot(event.timestampValue)
-                          EventState.TypeStampTypeEnum.MILLIS_SINCE_EPOCH ->
-                            Timestamp.MillisSinceEpoch(event.timestampValue)
-                          else -> {
-                            logger.log(Level.SEVERE, "Unsupported event timestamp type - ignoring")
-                            break
-                          }
-                        }
-
-                      val readData =
-                        ReadData.Event(
-                          path = event.path,
-                          eventNumber = event.eventNumber.toULong(),
-                          priorityLevel = event.priorityLevel.toUByte(),
-                          timeStamp = timestamp,
-                          data = event.tlvValue
-                        )
-                      successes.add(readData)
-                    }
-                  }
-                }
+            override fun onAttributeData(
+              endpointId: Int,
+              clusterId: Long,
+              attributeId: Long,
+              dataVersion: Long,
+              tlv: ByteArray
+            ) {
+              reportRecorder.recordDataVersion(endpointId, clusterId, dataVersion)
+              cacheUpdate?.record(endpointId, clusterId, attributeId, dataVersion, tlv)
+              reports.add(attributeReadData(endpointId, clusterId, attributeId, tlv))
+            }
+
+            override fun onEventData(
+              endpointId: Int,
+              clusterId: Long,
+              eventId: Long,
+              eventNumber: Long,
+              priorityLevel: Int,
+              timestampType: Int,
+              timestampValue: Long,
+              tlv: ByteArray
+            ) {
+              reportRecorder.recordEventNumber(eventNumber)
+              eventReadData(
+                  endpointId,
+                  clusterId,
+                  eventId,
+                  eventNumber,
+                  priorityLevel,
+                  timestampType,
+                  timestampValue,
+                  tlv
+                )
+                ?.let { reports.add(it) }
+            }
+
+            override fun onReportEnd() {
+              logger.log(Level.FINE, "Received subscribe report")
+              reportRecorder.endReport()
+              cacheUpdate?.let { it.commit().forEach(reports::add) }
+              trySendBlocking(reports.endReport()).onFailure { ex ->
+                logger.log(Level.SEVERE, "Error sending NodeStateUpdate to subscriber: %s", ex)
               }
-              trySendBlocking(SubscriptionState.NodeStateUpdate(ReadResponse(successes, failures)))
-                .onFailure { ex ->
-                  logger.log(Level.SEVERE, "Error sending NodeStateUpdate to subscriber: %s", ex)
-                }
             }
 
             override fun onError(
@@ -167,15 +187,14 @@ class MatterControllerImpl(params: ControllerParams) : MatterController {
               eventPath: EventPath?,
               e: Exception
             ) {
+              reportRecorder.recordError()
               attributePath?.let {
                 logger.log(Level.INFO, "Report error for attributePath:%s", it.toString())
-                val attributeFailure = ReadFailure.Attribute(path = it, error = e)
-                failures.add(attributeFailure)
+                reports.add(ReadFailure.Attribute(path = it, error = e))
               }
               eventPath?.let {
                 logger.log(Level.INFO, "Report error for eventPath:%s", it.toString())
-                val eventFailure = ReadFailure.Event(path = it, error = e)
-                failures.add(eventFailure)
+                reports.add(ReadFailure.Event(path = it, error = e))
               }
               if (attributePath == null && eventPath == null) {
                 logger.log(Level.SEVERE, "The underlying subscription is terminated")
@@ -207,21 +226,44 @@ class MatterControllerImpl(params: ControllerParams) : MatterController {
 
         val fabricIndex = getFabricIndex(devicePtr)
         val deviceId = getRemoteDeviceId(devicePtr)
+        val dataVersionFilters =
+          when {
+            !request.useTrackedVersions -> request.dataVersionFilters
+            cacheUpdate != null -> cacheUpdate.dataVersionFilters(request.dataVersionFilters)
+            else ->
+              dataVersionTracker.dataVersionFilters(attributePaths, request.dataVersionFilters)
+          }
+        val eventMin =
+          if (request.useTrackedVersions) {
+            dataVersionTracker.eventMin(eventPaths, request.eventMin)
+          } else {
+            request.eventMin
+          }
         subscribe(
           deviceControllerPtr,
           reportCallbackJni.getJniHandle(),
           devicePtr,
           attributePaths,
           eventPaths,
+          dataVersionFilters,
           request.minInterval.seconds.toInt(),
           request.maxInterval.seconds.toInt(),
           request.keepSubscriptions,
           request.fabricFiltered,
           CHIP_IM_TIMEOUT_MS,
+          eventMin?.toLong(),
           MatterICDClientImpl.isPeerICDClient(fabricIndex, deviceId)
         )
 
-        awaitClose { logger.log(Level.FINE, "Closing flow") }
+        awaitClose {
+          logger.log(Level.FINE, "Closing flow")
+          // Tear down the subscription on the device once nobody collects its reports anymore.
+          val subscriptionId = establishedSubscriptionId.get()
+          if (subscriptionId != NO_SUBSCRIPTION_ID) {
+            deviceController.shutdownSubscriptions(fabricIndex, deviceId, subscriptionId)
+          }
+          devicePointers.release(devicePtr)
+        }
       }
       .buffer(capacity = UNLIMITED)
   }
@@ -232,11 +274,13 @@ class MatterControllerImpl(params: ControllerParams) : MatterController {
     devicePtr: Long,
     attributePathList: List<AttributePath>,
     eventPathList: List<EventPath>,
+    dataVersionFilterList: List<DataVersionFilter>,
     minInterval: Int,
     maxInterval: Int,
     keepSubscriptions: Boolean,
     isFabricFiltered: Boolean,
     imTimeoutMs: Int,
+    eventMin: Long?,
     isPeerLIT: Boolean
   )
 
@@ -246,80 +290,116 @@ class MatterControllerImpl(params: ControllerParams) : MatterController {
     val nodeId = this.nodeId
     check(nodeId != null) { "nodeId has not been initialized yet" }
 
-    val devicePtr: Long = getConnectedDevicePointer(nodeId)
+    val dataVersionTracker = getDataVersionTracker(nodeId)
+    val reportRecorder =
+      dataVersionTracker.ReportRecorder(request.attributePaths, request.eventPaths)
 
     val successes = mutableListOf<ReadData>()
     val failures = mutableListOf<ReadFailure>()
+    val cacheUpdate = attributeCache?.newUpdate(nodeId, request.attributePaths)
+
+    return withDevicePointer(nodeId) { devicePtr ->
+      suspendCancellableCoroutine { continuation ->
+        val reportCallback =
+          object : ReportElementCallback {
+            override fun onReportBegin() {
+              reportRecorder.beginReport()
+            }
 
-    return suspendCancellableCoroutine { continuation ->
-      val reportCallback =
-        object : ReportCallback {
-          override fun onReport(nodeState: NodeState) {
-            logger.log(Level.FINE, "Received read report")
-            for (endpoint in nodeState.endpoints) {
-              for (cluster in endpoint.value.clusters) {
-                for (attribute in cluster.value.attributes) {
-                  val readData = ReadData.Attribute(attribute.value.path, attribute.value.tlvValue)
-                  successes.add(readData)
-                }
+            override fun onAttributeData(
+              endpointId: Int,
+              clusterId: Long,
+              attributeId: Long,
+              dataVersion: Long,
+              tlv: ByteArray
+            ) {
+              reportRecorder.recordDataVersion(endpointId, clusterId, dataVersion)
+              cacheUpdate?.record(endpointId, clusterId, attributeId, dataVersion, tlv)
+              successes.add(attributeReadData(endpointId, clusterId, attributeId, tlv))
+            }
 
-                for (eventList in cluster.value.events) {
-                  for (event in eventList.value) {
-                    val timestamp: Timestamp =
-                      when (event.getTimestampType()) {
-                        EventState.TypeStampTypeEnum.MILLIS_SINCE_BOOT ->
-                          Timestamp.MillisSinceBoot(event.timestampValue)
-                        EventState.TypeStampTypeEnum.MILLIS_SINCE_EPOCH ->
-                          Timestamp.MillisSinceEpoch(event.timestampValue)
-                        else -> {
-                          logger.log(Level.SEVERE, "Unsupported event timestamp type - ignoring")
-                          break
-                        }
-                      }
-
-                    val readData =
-                      ReadData.Event(
-                        path = event.path,
-                        eventNumber = event.eventNumber.toULong(),
-                        priorityLevel = event.priorityLevel.toUByte(),
-                        timeStamp = timestamp,
-                        data = event.tlvValue
-                      )
-                    successes.add(readData)
-                  }
-                }
-              }
+            override fun onEventData(
+              endpointId: Int,
+              clusterId: Long,
+              eventId: Long,
+              eventNumber: Long,
+              priorityLevel: Int,
+              timestampType: Int,
+              timestampValue: Long,
+              tlv: ByteArray
+            ) {
+              reportRecorder.recordEventNumber(eventNumber)
+              eventReadData(
+                  endpointId,
+                  clusterId,
+                  eventId,
+                  eventNumber,
+                  priorityLevel,
+                  timestampType,
+                  timestampValue,
+                  tlv
+                )
+                ?.let { successes.add(it) }
             }
-          }
 
-          override fun onError(attributePath: AttributePath?, eventPath: EventPath?, e: Exception) {
-            attributePath?.let {
-              logger.log(Level.INFO, "Report error for attributePath:%s", it.toString())
-              val attributeFailure = ReadFailure.Attribute(path = it, error = e)
-              failures.add(attributeFailure)
+            override fun onReportEnd() {
+              logger.log(Level.FINE, "Received read report")
+              reportRecorder.endReport()
             }
-            eventPath?.let {
-              logger.log(Level.INFO, "Report error for eventPath:%s", it.toString())
-              val eventFailure = ReadFailure.Event(path = it, error = e)
-              failures.add(eventFailure)
+
+            override fun onError(
+              attributePath: AttributePath?,
+              eventPath: EventPath?,
+              e: Exception
+            ) {
+              reportRecorder.recordError()
+              attributePath?.let {
+                logger.log(Level.INFO, "Report error for attributePath:%s", it.toString())
+                val attributeFailure = ReadFailure.Attribute(path = it, error = e)
+                failures.add(attributeFailure)
+              }
+              eventPath?.let {
+                logger.log(Level.INFO, "Report error for eventPath:%s", it.toString())
+                val eventFailure = ReadFailure.Event(path = it, error = e)
+                failures.add(eventFailure)
+              }
             }
-          }
 
-          override fun onDone() {
-            logger.log(Level.FINE, "read command completed")
-            continuation.resume(ReadResponse(successes, failures))
+            override fun onDone() {
+              logger.log(Level.FINE, "read command completed")
+              cacheUpdate?.let { successes.addAll(it.commit()) }
+              continuation.resume(ReadResponse(successes, failures))
+            }
           }
-        }
-      val reportCallbackJni = ReportCallbackJni(null, reportCallback, null)
-      read(
-        deviceControllerPtr,
-        reportCallbackJni.getJniHandle(),
-        devicePtr,
-        request.attributePaths,
-        request.eventPaths,
-        false,
-        CHIP_IM_TIMEOUT_MS
-      )
+        val reportCallbackJni = ReportCallbackJni(null, reportCallback, null)
+        val dataVersionFilters =
+          when {
+            !request.useTrackedVersions -> request.dataVersionFilters
+            cacheUpdate != null -> cacheUpdate.dataVersionFilters(request.dataVersionFilters)
+            else ->
+              dataVersionTracker.dataVersionFilters(
+                request.attributePaths,
+                request.dataVersionFilters
+              )
+          }
+        val eventMin =
+          if (request.useTrackedVersions) {
+            dataVersionTracker.eventMin(request.eventPaths, request.eventMin)
+          } else {
+            request.eventMin
+          }
+        read(
+          deviceControllerPtr,
+          reportCallbackJni.getJniHandle(),
+          devicePtr,
+          request.attributePaths,
+          request.eventPaths,
+          dataVersionFilters,
+          false,
+          CHIP_IM_TIMEOUT_MS,
+          eventMin?.toLong()
+        )
+      }
     }
   }
 
@@ -329,8 +409,10 @@ class MatterControllerImpl(params: ControllerParams) : MatterController {
     devicePtr: Long,
     attributePathList: List<AttributePath>,
     eventPathList: List<EventPath>,
+    dataVersionFilterList: List<DataVersionFilter>,
     isFabricFiltered: Boolean,
-    imTimeoutMs: Int
+    imTimeoutMs: Int,
+    eventMin: Long?
   )
 
   override suspend fun write(writeRequests: WriteRequests): WriteResponse {
@@ -339,59 +421,59 @@ class MatterControllerImpl(params: ControllerParams) : MatterController {
     val nodeId = this.nodeId
     check(nodeId != null) { "nodeId has not been initialized yet" }
 
-    val devicePtr: Long = getConnectedDevicePointer(nodeId)
-
     val failures = mutableListOf<AttributeWriteError>()
 
-    return suspendCancellableCoroutine { continuation ->
-      val writeCallback =
-        object : WriteAttributesCallback {
-          override fun onResponse(attributePath: AttributePath, status: Status) {
-            logger.log(
-              Level.INFO,
-              "Receive write response for attributePath: ${attributePath} and status ${status}"
-            )
-          }
+    return withDevicePointer(nodeId) { devicePtr ->
+      suspendCancellableCoroutine { continuation ->
+        val writeCallback =
+          object : WriteAttributesCallback {
+            override fun onResponse(attributePath: AttributePath, status: Status) {
+              logger.log(
+                Level.INFO,
+                "Receive write response for attributePath: ${attributePath} and status ${status}"
+              )
+            }
 
-          override fun onError(attributePath: AttributePath?, ex: Exception) {
-            logger.log(
-              Level.SEVERE,
-              "Failed to write attribute at path: %s",
-              attributePath.toString()
-            )
+            override fun onError(attributePath: AttributePath?, ex: Exception) {
+              logger.log(
+                Level.SEVERE,
+                "Failed to write attribute at path: %s",
+                attributePath.toString()
+              )
 
-            if (attributePath == null) {
-              if (ex is ChipDeviceControllerException) {
-                continuation.resumeWithException(
-                  MatterControllerException(ex.errorCode, ex.message)
-                )
+              if (attributePath == null) {
+                if (ex is ChipDeviceControllerException) {
+                  continuation.resumeWithException(
+                    MatterControllerException(ex.errorCode, ex.message)
+                  )
+                } else {
+                  continuation.resumeWithException(ex)
+                }
               } else {
-                continuation.resumeWithException(ex)
+                failures.add(AttributeWriteError(attributePath, ex))
               }
-            } else {
-              failures.add(AttributeWriteError(attributePath, ex))
             }
-          }
 
-          override fun onDone() {
-            logger.log(Level.INFO, "writeAttributes onDone is received")
+            override fun onDone() {
+              logger.log(Level.INFO, "writeAttributes onDone is received")
 
-            if (failures.isNotEmpty()) {
-              continuation.resume(WriteResponse.PartialWriteFailure(failures))
-            } else {
-              continuation.resume(WriteResponse.Success)
+              if (failures.isNotEmpty()) {
+                continuation.resume(WriteResponse.PartialWriteFailure(failures))
+              } else {
+                continuation.resume(WriteResponse.Success)
+              }
             }
           }
-        }
-      val writeAttributeCallbackJni = WriteAttributesCallbackJni(writeCallback)
-      write(
-        deviceControllerPtr,
-        writeAttributeCallbackJni.getCallbackHandle(),
-        devicePtr,
-        writeRequests.requests,
-        writeRequests.timedRequest?.toMillis()?.toInt() ?: 0,
-        CHIP_IM_TIMEOUT_MS,
-      )
+        val writeAttributeCallbackJni = WriteAttributesCallbackJni(writeCallback)
+        write(
+          deviceControllerPtr,
+          writeAttributeCallbackJni.getCallbackHandle(),
+          devicePtr,
+          writeRequests.requests,
+          writeRequests.timedRequest?.toMillis()?.toInt() ?: 0,
+          CHIP_IM_TIMEOUT_MS,
+        )
+      }
     }
   }
 
@@ -410,82 +492,168 @@ class MatterControllerImpl(params: ControllerParams) : MatterController {
     val nodeId = this.nodeId
     check(nodeId != null) { "nodeId has not been initialized yet" }
 
-    val devicePtr: Long = getConnectedDevicePointer(nodeId)
+    return withDevicePointer(nodeId) { devicePtr ->
+      suspendCancellableCoroutine { continuation ->
+        var invokeCallback =
+          object : InvokeCallback {
+            override fun onResponse(invokeResponse: InvokeResponse?, successCode: Long) {
+              logger.log(Level.FINE, "Invoke onResponse is received")
+              val ret =
+                if (invokeResponse == null) {
+                  InvokeResponse(byteArrayOf(), request.commandPath, null)
+                } else {
+                  invokeResponse
+                }
+              continuation.resume(ret)
+            }
 
-    return suspendCancellableCoroutine { continuation ->
-      var invokeCallback =
-        object : InvokeCallback {
-          override fun onResponse(invokeResponse: InvokeResponse?, successCode: Long) {
-            logger.log(Level.FINE, "Invoke onResponse is received")
-            val ret =
-              if (invokeResponse == null) {
-                InvokeResponse(byteArrayOf(), request.commandPath, null)
+            override fun onError(ex: Exception) {
+              if (ex is ChipDeviceControllerException) {
+                continuation.resumeWithException(
+                  MatterControllerException(ex.errorCode, ex.message)
+                )
               } else {
-                invokeResponse
+                continuation.resumeWithException(ex)
               }
-            continuation.resume(ret)
+            }
+          }
+        val invokeCallbackJni = InvokeCallbackJni(invokeCallback)
+        invoke(
+          deviceControllerPtr,
+          invokeCallbackJni.getJniHandle(),
+          devicePtr,
+          request,
+          request.timedRequest?.toMillis()?.toInt() ?: 0,
+          CHIP_IM_TIMEOUT_MS
+        )
+      }
+    }
+  }
+
+  private external fun invoke(
+    handle: Long,
+    callbackHandle: Long,
+    devicePtr: Long,
+    invokeRequest: InvokeRequest,
+    timedRequestTimeoutMs: Int,
+    imTimeoutMs: Int
+  )
+
+  override suspend fun invoke(requests: List<InvokeRequest>): List<InvokeResult> {
+    // To prevent potential issues related to concurrent modification, assign
+    // the value of the mutable property 'nodeId' to a temporary variable.
+    val nodeId = this.nodeId
+    check(nodeId != null) { "nodeId has not been initialized yet" }
+
+    if (requests.isEmpty()) {
+      return emptyList()
+    }
+
+    return withDevicePointer(nodeId) { devicePtr ->
+      // Nodes that do not announce how many commands they accept per invoke request accept one.
+      val maxPathsPerInvoke = getMaxPathsPerInvoke(devicePtr).coerceAtLeast(1)
+      val results = ArrayList<InvokeResult>(requests.size)
+      for (batch in requests.chunked(maxPathsPerInvoke)) {
+        results.addAll(extendableInvoke(devicePtr, batch))
+      }
+      results
+    }
+  }
+
+  private suspend fun extendableInvoke(
+    devicePtr: Long,
+    requests: List<InvokeRequest>
+  ): List<InvokeResult> {
+    val results = arrayOfNulls<InvokeResult>(requests.size)
+    val timedRequest = requests.mapNotNull { it.timedRequest }.maxOrNull()
+
+    return suspendCancellableCoroutine { continuation ->
+      val invokeCallback =
+        object : ExtendableInvokeCallback {
+          override fun onResponse(commandRef: Int?, result: InvokeResult) {
+            logger.log(Level.FINE, "Invoke onResponse is received for command ${commandRef}")
+            val index = commandRef ?: 0
+            if (index in results.indices) {
+              results[index] = result
+            } else {
+              logger.log(Level.SEVERE, "Unexpected command reference ${commandRef}")
+            }
+          }
+
+          override fun onNoResponse(commandRef: Int) {
+            logger.log(Level.INFO, "No response is received for command ${commandRef}")
           }
 
           override fun onError(ex: Exception) {
+            if (!continuation.isActive) {
+              return
+            }
             if (ex is ChipDeviceControllerException) {
               continuation.resumeWithException(MatterControllerException(ex.errorCode, ex.message))
             } else {
               continuation.resumeWithException(ex)
             }
           }
+
+          override fun onDone() {
+            if (continuation.isActive) {
+              continuation.resume(results.map { it ?: InvokeResult.NoResponse })
+            }
+          }
         }
-      val invokeCallbackJni = InvokeCallbackJni(invokeCallback)
-      invoke(
+      val invokeCallbackJni = ExtendableInvokeCallbackJni(invokeCallback)
+      extendableInvoke(
         deviceControllerPtr,
         invokeCallbackJni.getJniHandle(),
         devicePtr,
-        request,
-        request.timedRequest?.toMillis()?.toInt() ?: 0,
+        requests,
+        timedRequest?.toMillis()?.toInt() ?: 0,
         CHIP_IM_TIMEOUT_MS
       )
     }
   }
 
-  private external fun invoke(
+  private external fun extendableInvoke(
     handle: Long,
     callbackHandle: Long,
     devicePtr: Long,
-    invokeRequest: InvokeRequest,
+    invokeRequestList: List<InvokeRequest>,
     timedRequestTimeoutMs: Int,
     imTimeoutMs: Int
   )
 
+  private external fun getMaxPathsPerInvoke(devicePtr: Long): Int
+
   external fun getRemoteDeviceId(devicePtr: Long): Long
 
   external fun getFabricIndex(devicePtr: Long): Int
 
   override fun close() {
     logger.log(Level.INFO, "MatterController is closed")
+    devicePointers.clear()
+    attributeCache?.close()
     deviceController.shutdownCommissioning()
   }
 
-  private suspend fun getConnectedDevicePointer(nodeId: Long): Long {
-    return suspendCancellableCoroutine { cont ->
-      logger.log(Level.INFO, "Looking up pointer for %016X", nodeId)
-      deviceController.getConnectedDevicePointer(
-        nodeId,
-        object : GetConnectedDeviceCallback {
-          override fun onDeviceConnected(devicePointer: Long) {
-            logger.log(Level.INFO, "Resolved pointer ${devicePointer} for device ${nodeId}")
-            cont.resume(devicePointer)
-          }
+  private fun getDataVersionTracker(nodeId: Long): DataVersionTracker =
+    dataVersionTrackers.computeIfAbsent(nodeId) { DataVersionTracker() }
 
-          override fun onConnectionFailure(nodeId: Long, error: Exception) {
-            logger.log(Level.SEVERE, "Failed to establish CASE session for device ${nodeId}")
-            cont.resumeWithException(
-              Exception("Failed to establish CASE session for device %016X".format(nodeId))
-            )
-          }
-        }
-      )
+  private suspend fun acquireDevicePointer(nodeId: Long): Long =
+    devicePointers.acquire(deviceController.fabricIndex, nodeId)
+
+  // Runs an operation on the device pointer of a node, which stays leased until the operation
+  // returned so that the cache does not release it while it is in use.
+  private suspend inline fun <T> withDevicePointer(nodeId: Long, block: (Long) -> T): T {
+    val devicePtr = acquireDevicePointer(nodeId)
+    try {
+      return block(devicePtr)
+    } finally {
+      devicePointers.release(devicePtr)
     }
   }
 
+  private external fun isSessionActive(devicePtr: Long): Boolean
+
   init {
     val config: OperationalKeyConfig? = params.operationalKeyConfig
     val paramsBuilder =
@@ -507,6 +675,7 @@ class MatterControllerImpl(params: ControllerParams) : MatterController {
 
     deviceController = ChipDeviceController(paramsBuilder.build())
     deviceControllerPtr = deviceController.deviceControllerPtr
+    devicePointers = DevicePointerCache(deviceController) { isSessionActive(it) }
   }
 
   companion object {
@@ -518,5 +687,133 @@ class MatterControllerImpl(params: ControllerParams) : MatterController {
 
     // CHIP error values, lift from ChipError.h in the Matter SDK.
     private const val CHIP_ERROR_UNEXPECTED_EVENT: UInt = 0xc0u
+
+    private const val NO_SUBSCRIPTION_ID = -1L
+
+    private fun attributeReadData(
+      endpointId: Int,
+      clusterId: Long,
+      attributeId: Long,
+      tlv: ByteArray
+    ): ReadData.Attribute =
+      ReadData.Attribute(
+        AttributePath(endpointId.toUShort(), clusterId.toUInt(), attributeId.toUInt()),
+        tlv
+      )
+
+    /** Returns the [ReadData] of a reported event, or null if its timestamp type is unknown. */
+    private fun eventReadData(
+      endpointId: Int,
+      clusterId: Long,
+      eventId: Long,
+      eventNumber: Long,
+      priorityLevel: Int,
+      timestampType: Int,
+      timestampValue: Long,
+      tlv: ByteArray
+    ): ReadData.Event? {
+      val timestamp: Timestamp =
+        when (timestampType) {
+          EventState.TypeStampTypeEnum.MILLIS_SINCE_BOOT.type ->
+            Timestamp.MillisSinceBoot(timestampValue)
+          EventState.TypeStampTypeEnum.MILLIS_SINCE_EPOCH.type ->
+            Timestamp.MillisSinceEpoch(timestampValue)
+          else -> {
+            logger.log(Level.SEVERE, "Unsupported event timestamp type - ignoring")
+            return null
+          }
+        }
+      return ReadData.Event(
+        path = EventPath(endpointId.toUShort(), clusterId.toUInt(), eventId.toUInt()),
+        eventNumber = eventNumber.toULong(),
+        priorityLevel = priorityLevel.toUByte(),
+        timeStamp = timestamp,
+        data = tlv
+      )
+    }
   }
 }
+
+/**
+ * Collects the data and failures of the reports of a subscription into the
+ * [SubscriptionState.NodeStateUpdate] delivered for each of them, which carries only its own
+ * report.
+ *
+ * @param trackLatestValues Whether the updates also carry the latest value of every attribute path.
+ */
+internal class SubscriptionReports(trackLatestValues: Boolean) {
+  private val latestValues = if (trackLatestValues) LatestAttributeValues() else null
+  private var successes = mutableListOf<ReadData>()
+  // Failures are delivered through onError() ahead of the onReport() call that completes their
+  // report, so they are kept across the beginning of that report.
+  private var failures = mutableListOf<ReadFailure>()
+
+  fun beginReport() {
+    successes = mutableListOf()
+  }
+
+  fun add(data: ReadData) {
+    successes.add(data)
+  }
+
+  fun add(failure: ReadFailure) {
+    failures.add(failure)
+  }
+
+  /** Returns the update for the data and failures collected since the previous report ended. */
+  fun endReport(): SubscriptionState.NodeStateUpdate {
+    val updateState = ReadResponse(successes, failures)
+    successes = mutableListOf()
+    failures = mutableListOf()
+    val latestState =
+      latestValues?.run {
+        update(updateState)
+        snapshot()
+      }
+    return SubscriptionState.NodeStateUpdate(updateState, latestState)
+  }
+}
+
+/**
+ * Keeps the most recent data or failure reported for each attribute path of a subscription, so that
+ * its size is bounded by the number of paths rather than by the number of reports.
+ */
+internal class LatestAttributeValues {
+  private val successes = LinkedHashMap<AttributePath, ReadData.Attribute>()
+  private val failures = LinkedHashMap<AttributePath, ReadFailure.Attribute>()
+
+  fun update(report: ReadResponse) {
+    for (failure in report.failures) {
+      if (failure is ReadFailure.Attribute) {
+        successes.remove(failure.path)
+        failures[failure.path] = failure
+      }
+    }
+    for (data in report.successes) {
+      if (data is ReadData.Attribute) {
+        failures.remove(data.path)
+        successes[data.path] = data
+      }
+    }
+  }
+
+  /** Returns whether [data] differs from the latest data or failure kept for its path. */
+  fun changes(data: ReadData.Attribute): Boolean =
+    successes[data.path]?.data?.contentEquals(data.data) != true
+
+  /** Returns whether no failure is kept for the path of [failure]. */
+  fun changes(failure: ReadFailure.Attribute): Boolean = failure.path !in failures
+
+  /** Drops the data and failures kept for the paths not matching [predicate]. */
+  fun retain(predicate: (AttributePath) -> Boolean) {
+    successes.keys.retainAll(predicate)
+    failures.keys.retainAll(predicate)
+  }
+
+  fun clear() {
+    successes.clear()
+    failures.clear()
+  }
+
+  fun snapshot(): ReadResponse = ReadResponse(successes.values.toList(), failures.values.toList())
+}
@@ -18,17 +18,39 @@
 
 package matter.controller
 
+import chip.devicecontroller.ICDPeerCache
+
 object MatterICDClientImpl {
-  fun isPeerICDClient(fabricIndex: Int, deviceId: Long): Boolean {
-    val clientInfo = getICDClientInfo(fabricIndex) ?: return false
-    return clientInfo.firstOrNull { it.peerNodeId == deviceId } != null
-  }
+  fun isPeerICDClient(fabricIndex: Int, deviceId: Long): Boolean =
+    ICDPeerCache.contains(fabricIndex, deviceId) { loadPeerNodeIds(it) }
 
-  external fun storeICDEntryWithKey(fabricIndex: Int, icdClientInfo: ICDClientInfo, key: ByteArray)
+  fun storeICDEntryWithKey(fabricIndex: Int, icdClientInfo: ICDClientInfo, key: ByteArray) {
+    nativeStoreICDEntryWithKey(fabricIndex, icdClientInfo, key)
+    ICDPeerCache.invalidate(fabricIndex)
+  }
 
-  external fun removeICDEntryWithKey(fabricIndex: Int, icdClientInfo: ICDClientInfo)
+  fun removeICDEntryWithKey(fabricIndex: Int, icdClientInfo: ICDClientInfo) {
+    nativeRemoveICDEntryWithKey(fabricIndex, icdClientInfo)
+    ICDPeerCache.invalidate(fabricIndex)
+  }
 
-  external fun clearICDClientInfo(fabricIndex: Int, deviceId: Long)
+  fun clearICDClientInfo(fabricIndex: Int, deviceId: Long) {
+    nativeClearICDClientInfo(fabricIndex, deviceId)
+    ICDPeerCache.invalidate(fabricIndex)
+  }
 
   external fun getICDClientInfo(fabricIndex: Int): List<ICDClientInfo>?
+
+  private fun loadPeerNodeIds(fabricIndex: Int): LongArray =
+    getICDClientInfo(fabricIndex)?.map { it.peerNodeId }?.toLongArray() ?: LongArray(0)
+
+  private external fun nativeStoreICDEntryWithKey(
+    fabricIndex: Int,
+    icdClientInfo: ICDClientInfo,
+    key: ByteArray
+  )
+
+  private external fun nativeRemoveICDEntryWithKey(fabricIndex: Int, icdClientInfo: ICDClientInfo)
+
+  private external fun nativeClearICDClientInfo(fabricIndex: Int, deviceId: Long)
 }
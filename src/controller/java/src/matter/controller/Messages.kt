@@ -21,7 +21,9 @@ import java.time.Duration
 import java.util.Optional
 import matter.controller.model.AttributePath
 import matter.controller.model.CommandPath
+import matter.controller.model.DataVersionFilter
 import matter.controller.model.EventPath
+import matter.controller.model.Status
 
 private const val DEFAULT_SUBSCRIPTION_MIN_INTERVAL_S: Long = 0L
 private const val DEFAULT_SUBSCRIPTION_MAX_INTERVAL_S: Long = 30L
@@ -46,10 +48,22 @@ sealed class Timestamp {
  *
  * @param eventPaths A list of event path information in the read request.
  * @param attributePaths A list of attribute path information in the read request.
+ * @param dataVersionFilters Clusters whose attributes are not reported if their data version did
+ *   not change.
+ * @param eventMin The minimum event number of the events to report, or null to report all events.
+ * @param useTrackedVersions Whether to also filter out the clusters and events already received
+ *   from the node, using the latest data version reported for each cluster and the latest event
+ *   number reported by the node. Unchanged clusters are then missing from the response, so the
+ *   caller must keep the values it received before, unless the controller has an
+ *   [AttributeCacheStorage]: the response then carries the cached values of the unchanged clusters
+ *   covered in full by [attributePaths].
  */
 class ReadRequest(
   val eventPaths: List<EventPath>,
   val attributePaths: List<AttributePath>,
+  val dataVersionFilters: List<DataVersionFilter> = emptyList(),
+  val eventMin: ULong? = null,
+  val useTrackedVersions: Boolean = false
 )
 
 /** Represents data received from a read operation. */
@@ -116,6 +130,14 @@ class ReadResponse(val successes: List<ReadData>, val failures: List<ReadFailure
  * @param maxInterval The maximum interval boundary ceiling in seconds.
  * @param keepSubscriptions Indicates whether to keep existing subscriptions.
  * @param fabricFiltered Limits the data read within fabric-scoped lists to the accessing fabric.
+ * @param trackLatestValues Whether each [SubscriptionState.NodeStateUpdate] should also carry the
+ *   latest value received so far for every subscribed attribute path.
+ * @param dataVersionFilters Clusters whose attributes are not part of the priming report if their
+ *   data version did not change.
+ * @param eventMin The minimum event number of the events to report, or null to report all events.
+ * @param useTrackedVersions Whether to also filter out the clusters and events already received
+ *   from the node, as described in [ReadRequest.useTrackedVersions]. Cached values of unchanged
+ *   clusters are carried by the first report.
  */
 class SubscribeRequest(
   val eventPaths: List<EventPath>,
@@ -123,7 +145,11 @@ class SubscribeRequest(
   val minInterval: Duration = Duration.ofSeconds(DEFAULT_SUBSCRIPTION_MIN_INTERVAL_S),
   val maxInterval: Duration = Duration.ofSeconds(DEFAULT_SUBSCRIPTION_MAX_INTERVAL_S),
   val keepSubscriptions: Boolean = true,
-  val fabricFiltered: Boolean = true
+  val fabricFiltered: Boolean = true,
+  val trackLatestValues: Boolean = false,
+  val dataVersionFilters: List<DataVersionFilter> = emptyList(),
+  val eventMin: ULong? = null,
+  val useTrackedVersions: Boolean = false
 )
 
 /** An interface representing the possible states of a subscription. */
@@ -138,9 +164,14 @@ sealed class SubscriptionState {
   /**
    * Represents an update in the state of a subscribed node.
    *
-   * @param updateState The state update received from the subscribed node.
+   * @param updateState The data and failures carried by a single report from the subscribed node.
+   *   Paths that did not change since the previous report are not included.
+   * @param latestState The latest data or failure received for every attribute path since the
+   *   subscription started, or null unless [SubscribeRequest.trackLatestValues] is set. Events are
+   *   only reported through [updateState].
    */
-  class NodeStateUpdate(val updateState: ReadResponse) : SubscriptionState()
+  class NodeStateUpdate(val updateState: ReadResponse, val latestState: ReadResponse? = null) :
+    SubscriptionState()
 
   /** Represents the state where the subscription has been successfully established. */
   object SubscriptionEstablished : SubscriptionState()
@@ -260,3 +291,24 @@ class InvokeRequest(
  * @param payload An invoke response that could contain tlv data or empty.
  */
 class InvokeResponse(val payload: ByteArray, val path: CommandPath, val jsonString: String? = null)
+
+/** Represents the outcome of one command of a batched invoke. */
+sealed class InvokeResult {
+  /**
+   * The command completed with response data.
+   *
+   * @param response The response data of the command.
+   */
+  class Response(val response: InvokeResponse) : InvokeResult()
+
+  /**
+   * The command completed with a status and no response data.
+   *
+   * @param path The path of the command.
+   * @param status The status of the command, which is not necessarily a success.
+   */
+  class StatusResponse(val path: CommandPath, val status: Status) : InvokeResult()
+
+  /** The node indicated completion of the batch without responding to the command. */
+  object NoResponse : InvokeResult()
+}
@@ -17,14 +17,17 @@
  */
 package matter.controller
 
+import chip.devicecontroller.NativeHandleCleaner
 import matter.controller.model.AttributePath
 import matter.controller.model.EventPath
 import matter.controller.model.NodeState
 
-/** JNI wrapper callback class for [ReportCallback]. */
-class ReportCallbackJni(
+/** JNI wrapper callback class for [ReportCallback] and [ReportElementCallback]. */
+class ReportCallbackJni
+private constructor(
   subscriptionEstablishedCallback: SubscriptionEstablishedCallback?,
-  reportCallback: ReportCallback,
+  private val wrappedReportCallback: ReportCallback?,
+  private val wrappedReportElementCallback: ReportElementCallback?,
   resubscriptionAttemptCallback: ResubscriptionAttemptCallback?
 ) {
   private val wrappedSubscriptionEstablishedCallback: SubscriptionEstablishedCallback? =
@@ -32,39 +35,144 @@ class ReportCallbackJni(
   private val wrappedResubscriptionAttemptCallback: ResubscriptionAttemptCallback? =
     resubscriptionAttemptCallback
 
-  private val wrappedReportCallback: ReportCallback = reportCallback
-  private var callbackHandle: Long
+  private val callbackHandle: Long
+  private val cleanable: NativeHandleCleaner.Cleanable
 
   private var nodeState: NodeState? = null
 
+  constructor(
+    subscriptionEstablishedCallback: SubscriptionEstablishedCallback?,
+    reportCallback: ReportCallback,
+    resubscriptionAttemptCallback: ResubscriptionAttemptCallback?
+  ) : this(subscriptionEstablishedCallback, reportCallback, null, resubscriptionAttemptCallback)
+
+  /**
+   * Creates a wrapper to which the native layer passes each attribute and event of a report as it
+   * receives them, without building a [NodeState].
+   */
+  constructor(
+    subscriptionEstablishedCallback: SubscriptionEstablishedCallback?,
+    reportElementCallback: ReportElementCallback,
+    resubscriptionAttemptCallback: ResubscriptionAttemptCallback?
+  ) : this(
+    subscriptionEstablishedCallback,
+    null,
+    reportElementCallback,
+    resubscriptionAttemptCallback
+  )
+
   init {
     this.callbackHandle =
-      newCallback(subscriptionEstablishedCallback, resubscriptionAttemptCallback)
+      newCallback(
+        subscriptionEstablishedCallback,
+        resubscriptionAttemptCallback,
+        wrappedReportElementCallback != null
+      )
+    val handle = callbackHandle
+    cleanable = NativeHandleCleaner.register(this) { deleteCallback(handle) }
   }
 
   private external fun newCallback(
     subscriptionEstablishedCallback: SubscriptionEstablishedCallback?,
-    resubscriptionAttemptCallback: ResubscriptionAttemptCallback?
+    resubscriptionAttemptCallback: ResubscriptionAttemptCallback?,
+    streamElements: Boolean
   ): Long
 
-  private external fun deleteCallback(callbackHandle: Long)
-
   fun getJniHandle(): Long {
     return callbackHandle
   }
 
   // Called from native code only, which ignores access modifiers.
   private fun onReportBegin() {
+    if (wrappedReportElementCallback != null) {
+      wrappedReportElementCallback.onReportBegin()
+      return
+    }
     nodeState = NodeState()
   }
 
   private fun onReportEnd() {
+    if (wrappedReportElementCallback != null) {
+      wrappedReportElementCallback.onReportEnd()
+      return
+    }
     if (nodeState != null) {
-      wrappedReportCallback.onReport(nodeState!!)
+      wrappedReportCallback!!.onReport(nodeState!!)
     }
     nodeState = null
   }
 
+  // The following are only called when streaming to a ReportElementCallback.
+  private fun onAttributeData(
+    endpointId: Int,
+    clusterId: Long,
+    attributeId: Long,
+    dataVersion: Long,
+    tlv: ByteArray
+  ) {
+    wrappedReportElementCallback!!.onAttributeData(
+      endpointId,
+      clusterId,
+      attributeId,
+      dataVersion,
+      tlv
+    )
+  }
+
+  private fun onAttributeStatus(
+    endpointId: Int,
+    clusterId: Long,
+    attributeId: Long,
+    status: Int,
+    clusterStatus: Int?
+  ) {
+    wrappedReportElementCallback!!.onAttributeStatus(
+      endpointId,
+      clusterId,
+      attributeId,
+      status,
+      clusterStatus
+    )
+  }
+
+  private fun onEventData(
+    endpointId: Int,
+    clusterId: Long,
+    eventId: Long,
+    eventNumber: Long,
+    priorityLevel: Int,
+    timestampType: Int,
+    timestampValue: Long,
+    tlv: ByteArray
+  ) {
+    wrappedReportElementCallback!!.onEventData(
+      endpointId,
+      clusterId,
+      eventId,
+      eventNumber,
+      priorityLevel,
+      timestampType,
+      timestampValue,
+      tlv
+    )
+  }
+
+  private fun onEventStatus(
+    endpointId: Int,
+    clusterId: Long,
+    eventId: Long,
+    status: Int,
+    clusterStatus: Int?
+  ) {
+    wrappedReportElementCallback!!.onEventStatus(
+      endpointId,
+      clusterId,
+      eventId,
+      status,
+      clusterStatus
+    )
+  }
+
   private fun getNodeState(): NodeState? {
     return nodeState
   }
@@ -80,32 +188,43 @@ class ReportCallbackJni(
     eventId: Long,
     e: Exception
   ) {
-    wrappedReportCallback.onError(
+    val attributePath =
       if (isAttributePath)
         AttributePath(
           attributeEndpointId.toUShort(),
           attributeClusterId.toUInt(),
           attributeId.toUInt()
         )
-      else null,
+      else null
+    val eventPath =
       if (isEventPath)
         EventPath(eventEndpointId.toUShort(), eventClusterId.toUInt(), eventId.toUInt())
-      else null,
-      e
-    )
+      else null
+    if (wrappedReportElementCallback != null) {
+      wrappedReportElementCallback.onError(attributePath, eventPath, e)
+    } else {
+      wrappedReportCallback!!.onError(attributePath, eventPath, e)
+    }
   }
 
   private fun onDone() {
-    wrappedReportCallback.onDone()
+    try {
+      if (wrappedReportElementCallback != null) {
+        wrappedReportElementCallback.onDone()
+      } else {
+        wrappedReportCallback!!.onDone()
+      }
+    } finally {
+      close()
+    }
   }
 
-  // TODO(#8578): Replace finalizer with PhantomReference.
-  @Suppress("deprecation")
-  @Throws(Throwable::class)
-  protected fun finalize() {
-    if (callbackHandle != 0L) {
-      deleteCallback(callbackHandle)
-      callbackHandle = 0
-    }
+  /** Releases the native callback, which must no longer be in use by the native side. */
+  internal fun close() {
+    cleanable.clean()
+  }
+
+  companion object {
+    @JvmStatic private external fun deleteCallback(callbackHandle: Long)
   }
 }
@@ -0,0 +1,93 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package matter.controller
+
+import matter.controller.model.AttributePath
+import matter.controller.model.EventPath
+
+/**
+ * An interface for receiving read/subscribe CHIP reports one attribute or event at a time.
+ *
+ * Unlike [ReportCallback], no [matter.controller.model.NodeState] is built: each element of a
+ * report is passed as soon as the native layer receives it, as primitives and its TLV value.
+ */
+interface ReportElementCallback {
+  /** Called before the elements of a report. */
+  fun onReportBegin() {}
+
+  /**
+   * Called with the value of an attribute.
+   *
+   * @param dataVersion the data version of the cluster, or [NO_DATA_VERSION]
+   * @param tlv the TLV of the value, with an anonymous tag
+   */
+  fun onAttributeData(
+    endpointId: Int,
+    clusterId: Long,
+    attributeId: Long,
+    dataVersion: Long,
+    tlv: ByteArray
+  )
+
+  /** Called with the status of an attribute, ahead of its value if the status is a success. */
+  fun onAttributeStatus(
+    endpointId: Int,
+    clusterId: Long,
+    attributeId: Long,
+    status: Int,
+    clusterStatus: Int?
+  ) {}
+
+  /**
+   * Called with an event.
+   *
+   * @param timestampType a [matter.controller.model.EventState.TypeStampTypeEnum] value
+   * @param tlv the TLV of the event data, with an anonymous tag
+   */
+  fun onEventData(
+    endpointId: Int,
+    clusterId: Long,
+    eventId: Long,
+    eventNumber: Long,
+    priorityLevel: Int,
+    timestampType: Int,
+    timestampValue: Long,
+    tlv: ByteArray
+  )
+
+  /** Called with the status of an event path that could not be read. */
+  fun onEventStatus(
+    endpointId: Int,
+    clusterId: Long,
+    eventId: Long,
+    status: Int,
+    clusterStatus: Int?
+  ) {}
+
+  /** Called after the elements of a report. */
+  fun onReportEnd() {}
+
+  fun onError(attributePath: AttributePath?, eventPath: EventPath?, e: Exception)
+
+  fun onDone() {}
+
+  companion object {
+    /** The data version passed to [onAttributeData] when the report does not carry one. */
+    const val NO_DATA_VERSION = -1L
+  }
+}
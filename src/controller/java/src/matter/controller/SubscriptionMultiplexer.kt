@@ -0,0 +1,361 @@
+/*
+ *   Copyright (c) 2024 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package matter.controller
+
+import java.util.logging.Level
+import java.util.logging.Logger
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.cancel
+import kotlinx.coroutines.channels.Channel.Factory.UNLIMITED
+import kotlinx.coroutines.channels.SendChannel
+import kotlinx.coroutines.channels.awaitClose
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.buffer
+import kotlinx.coroutines.flow.callbackFlow
+import kotlinx.coroutines.launch
+import matter.controller.model.AttributePath
+import matter.controller.model.EventPath
+
+/**
+ * [MatterController] that serves all concurrent [subscribe] calls through a single subscription to
+ * the node of the wrapped controller.
+ *
+ * The attribute and event paths of every active collector are merged, dropping paths already
+ * covered by a wildcard path, and the underlying subscription is re-established whenever a
+ * collector joins with paths or intervals that the current subscription does not cover. When a
+ * collector leaves, the subscription is re-established without the paths only it asked for once no
+ * other collector left for [shrinkDelayMillis], so that collectors leaving in quick succession do
+ * not restart it every time. Each collector only receives the data and failures matching its own
+ * paths. A joining collector first receives the latest attribute values known for its paths; past
+ * events are not replayed.
+ *
+ * A re-established subscription only asks for events following the last one delivered, and
+ * attribute values of its priming report that are the same as the ones already delivered are
+ * dropped, so that collectors do not receive the same data twice.
+ *
+ * Requests with `keepSubscriptions` or `fabricFiltered` set to false, and requests filtering by
+ * data version or event number, are passed through to the wrapped controller, since they cannot
+ * share a subscription with other requests.
+ *
+ * Generated cluster classes can use the multiplexer in place of the controller it wraps, so that
+ * watching several attributes of a node costs a single subscription on the device.
+ *
+ * @param controller The controller connected to the node to subscribe to.
+ * @param shrinkDelayMillis How long after a collector leaves the subscription is narrowed to the
+ *   paths and intervals of the remaining collectors.
+ */
+class SubscriptionMultiplexer(
+  private val controller: MatterController,
+  private val shrinkDelayMillis: Long = DEFAULT_SHRINK_DELAY_MS
+) : MatterController by controller {
+  private val scope = CoroutineScope(SupervisorJob() + Dispatchers.Default)
+  private val lock = Any()
+  private val collectors = LinkedHashSet<Collector>()
+  private val latestValues = LatestAttributeValues()
+  private var lastEventNumber: ULong? = null
+  private var mergedRequest: SubscribeRequest? = null
+  private var upstream: Job? = null
+  private var pendingShrink: Job? = null
+  private var generation = 0
+  private var isEstablished = false
+
+  private class Collector(
+    val request: SubscribeRequest,
+    val channel: SendChannel<SubscriptionState>
+  ) {
+    var isEstablished = false
+  }
+
+  override fun subscribe(request: SubscribeRequest): Flow<SubscriptionState> {
+    if (
+      !request.keepSubscriptions ||
+        !request.fabricFiltered ||
+        request.dataVersionFilters.isNotEmpty() ||
+        request.eventMin != null ||
+        request.useTrackedVersions
+    ) {
+      return controller.subscribe(request)
+    }
+
+    return callbackFlow {
+        val collector = Collector(request, channel)
+        synchronized(lock) {
+          collectors.add(collector)
+          if (!renegotiate() && isEstablished) {
+            collector.isEstablished = true
+            collector.channel.trySend(SubscriptionState.SubscriptionEstablished)
+          }
+          sendUpdate(collector, latestValues.snapshot())
+        }
+
+        awaitClose {
+          synchronized(lock) {
+            collectors.remove(collector)
+            pendingShrink?.cancel()
+            pendingShrink = null
+            if (collectors.isEmpty()) {
+              stopUpstream()
+              clearDelivered()
+            } else {
+              scheduleShrink()
+            }
+          }
+        }
+      }
+      .buffer(capacity = UNLIMITED)
+  }
+
+  override fun close() {
+    scope.cancel()
+    controller.close()
+  }
+
+  private fun scheduleShrink() {
+    pendingShrink =
+      scope.launch {
+        delay(shrinkDelayMillis)
+        synchronized(lock) {
+          if (pendingShrink === coroutineContext[Job]) {
+            pendingShrink = null
+            renegotiate(shrink = true)
+          }
+        }
+      }
+  }
+
+  /**
+   * Restarts the underlying subscription if it does not cover the paths and intervals of the active
+   * collectors or, if [shrink] is set, if it asks for more than they do.
+   *
+   * @return true if a new subscription was started.
+   */
+  private fun renegotiate(shrink: Boolean = false): Boolean {
+    val merged = merge(collectors.map { it.request }) ?: return false
+    val current = mergedRequest
+    if (current != null && current.covers(merged) && (!shrink || merged.covers(current))) {
+      return false
+    }
+
+    stopUpstream()
+    latestValues.retain { path -> merged.attributePaths.any { it.covers(path) } }
+    val request =
+      SubscribeRequest(
+        eventPaths = merged.eventPaths,
+        attributePaths = merged.attributePaths,
+        minInterval = merged.minInterval,
+        maxInterval = merged.maxInterval,
+        eventMin = lastEventNumber?.let { it + 1u }
+      )
+    logger.log(
+      Level.INFO,
+      "Subscribing to ${request.attributePaths.size} attribute paths and " +
+        "${request.eventPaths.size} event paths for ${collectors.size} collectors"
+    )
+    mergedRequest = request
+    val currentGeneration = generation
+    upstream =
+      scope.launch {
+        try {
+          controller.subscribe(request).collect { dispatch(currentGeneration, it) }
+        } catch (e: CancellationException) {
+          throw e
+        } catch (e: Exception) {
+          fail(currentGeneration, e)
+        }
+      }
+    return true
+  }
+
+  private fun stopUpstream() {
+    upstream?.cancel()
+    upstream = null
+    mergedRequest = null
+    generation++
+    isEstablished = false
+  }
+
+  private fun clearDelivered() {
+    latestValues.clear()
+    lastEventNumber = null
+  }
+
+  private fun dispatch(fromGeneration: Int, state: SubscriptionState) {
+    synchronized(lock) {
+      if (fromGeneration != generation) {
+        return
+      }
+
+      when (state) {
+        is SubscriptionState.SubscriptionEstablished -> {
+          isEstablished = true
+          for (collector in collectors) {
+            if (!collector.isEstablished) {
+              collector.isEstablished = true
+              collector.channel.trySend(state)
+            }
+          }
+        }
+        is SubscriptionState.SubscriptionErrorNotification -> {
+          for (collector in collectors) {
+            collector.channel.trySend(state)
+          }
+        }
+        is SubscriptionState.NodeStateUpdate -> {
+          val report = undelivered(state.updateState)
+          latestValues.update(report)
+          for (collector in collectors) {
+            sendUpdate(collector, report)
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Drops the events of [report] that were already delivered and, until the subscription is
+   * established, the attribute data and failures that do not change the latest known ones.
+   */
+  private fun undelivered(report: ReadResponse): ReadResponse {
+    val lastDelivered = lastEventNumber
+    val successes =
+      report.successes.filter {
+        when (it) {
+          is ReadData.Event -> lastDelivered == null || it.eventNumber > lastDelivered
+          is ReadData.Attribute -> isEstablished || latestValues.changes(it)
+        }
+      }
+    val failures =
+      report.failures.filter {
+        it !is ReadFailure.Attribute || isEstablished || latestValues.changes(it)
+      }
+    val newestEvent = successes.filterIsInstance<ReadData.Event>().maxOfOrNull { it.eventNumber }
+    if (newestEvent != null) {
+      lastEventNumber = newestEvent
+    }
+    return ReadResponse(successes, failures)
+  }
+
+  private fun sendUpdate(collector: Collector, report: ReadResponse) {
+    val request = collector.request
+    val updateState =
+      ReadResponse(
+        report.successes.filter { request.covers(it) },
+        report.failures.filter { request.covers(it) }
+      )
+    if (updateState.successes.isEmpty() && updateState.failures.isEmpty()) {
+      return
+    }
+
+    val latestState =
+      if (request.trackLatestValues) {
+        val snapshot = latestValues.snapshot()
+        ReadResponse(
+          snapshot.successes.filter { request.covers(it) },
+          snapshot.failures.filter { request.covers(it) }
+        )
+      } else {
+        null
+      }
+    collector.channel.trySend(SubscriptionState.NodeStateUpdate(updateState, latestState))
+  }
+
+  private fun fail(fromGeneration: Int, error: Exception) {
+    synchronized(lock) {
+      if (fromGeneration != generation) {
+        return
+      }
+
+      logger.log(Level.SEVERE, "Shared subscription failed", error)
+      for (collector in collectors) {
+        collector.channel.close(error)
+      }
+      collectors.clear()
+      pendingShrink?.cancel()
+      pendingShrink = null
+      stopUpstream()
+      clearDelivered()
+    }
+  }
+
+  companion object {
+    private val logger = Logger.getLogger(SubscriptionMultiplexer::class.java.simpleName)
+
+    private const val DEFAULT_SHRINK_DELAY_MS = 1000L
+
+    /**
+     * Merges [requests] into a single request, or returns null if [requests] is empty.
+     *
+     * Paths covered by a wildcard path of another request are dropped. The merged request uses the
+     * smallest minimum and maximum intervals of all requests.
+     */
+    internal fun merge(requests: List<SubscribeRequest>): SubscribeRequest? {
+      if (requests.isEmpty()) {
+        return null
+      }
+
+      val attributePaths = requests.flatMap { it.attributePaths }.distinct()
+      val eventPaths = requests.flatMap { it.eventPaths }.distinct()
+      return SubscribeRequest(
+        eventPaths =
+          eventPaths.filter { path -> eventPaths.none { it != path && it.covers(path) } },
+        attributePaths =
+          attributePaths.filter { path -> attributePaths.none { it != path && it.covers(path) } },
+        minInterval = requests.minOf { it.minInterval },
+        maxInterval = requests.minOf { it.maxInterval },
+      )
+    }
+
+    /**
+     * Returns whether a subscription for this request reports everything [other] asks for, at least
+     * as often.
+     */
+    internal fun SubscribeRequest.covers(other: SubscribeRequest): Boolean =
+      other.attributePaths.all { path -> attributePaths.any { it.covers(path) } } &&
+        other.eventPaths.all { path -> eventPaths.any { it.covers(path) } } &&
+        minInterval <= other.minInterval &&
+        maxInterval <= other.maxInterval
+
+    internal fun SubscribeRequest.covers(data: ReadData): Boolean =
+      when (data) {
+        is ReadData.Attribute -> attributePaths.any { it.covers(data.path) }
+        is ReadData.Event -> eventPaths.any { it.covers(data.path) }
+      }
+
+    internal fun SubscribeRequest.covers(failure: ReadFailure): Boolean =
+      when (failure) {
+        is ReadFailure.Attribute -> attributePaths.any { it.covers(failure.path) }
+        is ReadFailure.Event -> eventPaths.any { it.covers(failure.path) }
+      }
+
+    internal fun AttributePath.covers(other: AttributePath): Boolean =
+      (endpointId == null || endpointId == other.endpointId) &&
+        (clusterId == null || clusterId == other.clusterId) &&
+        (attributeId == null || attributeId == other.attributeId)
+
+    internal fun EventPath.covers(other: EventPath): Boolean =
+      (endpointId == null || endpointId == other.endpointId) &&
+        (clusterId == null || clusterId == other.clusterId) &&
+        (eventId == null || eventId == other.eventId) &&
+        (isUrgent || !other.isUrgent)
+  }
+}
@@ -17,6 +17,7 @@
  */
 package matter.controller
 
+import chip.devicecontroller.NativeHandleCleaner
 import matter.controller.model.AttributePath
 import matter.controller.model.Status
 
@@ -24,16 +25,17 @@ import matter.controller.model.Status
 class WriteAttributesCallbackJni(
   private val wrappedWriteAttributesCallback: WriteAttributesCallback
 ) {
-  private var callbackHandle: Long
+  private val callbackHandle: Long
+  private val cleanable: NativeHandleCleaner.Cleanable
 
   init {
     this.callbackHandle = newCallback()
+    val handle = callbackHandle
+    cleanable = NativeHandleCleaner.register(this) { deleteCallback(handle) }
   }
 
   private external fun newCallback(): Long
 
-  private external fun deleteCallback(callbackHandle: Long)
-
   fun getCallbackHandle(): Long {
     return callbackHandle
   }
@@ -68,16 +70,19 @@ class WriteAttributesCallbackJni(
   }
 
   private fun onDone() {
-    wrappedWriteAttributesCallback.onDone()
+    try {
+      wrappedWriteAttributesCallback.onDone()
+    } finally {
+      close()
+    }
   }
 
-  // TODO(#8578): Replace finalizer with PhantomReference.
-  @Suppress("deprecation")
-  @Throws(Throwable::class)
-  protected fun finalize() {
-    if (callbackHandle != 0L) {
-      deleteCallback(callbackHandle)
-      callbackHandle = 0
-    }
+  /** Releases the native callback, which must no longer be in use by the native side. */
+  internal fun close() {
+    cleanable.clean()
+  }
+
+  companion object {
+    @JvmStatic private external fun deleteCallback(callbackHandle: Long)
   }
 }
@@ -74,6 +74,33 @@ data class EventPath(
   }
 }
 
+/**
+ * Represents a filter that skips reporting the attributes of a cluster whose data version did not
+ * change since the client last read it.
+ *
+ * @param endpointId The UShort representing the endpoint of the cluster.
+ * @param clusterId The UInt representing the cluster on the endpoint.
+ * @param dataVersion The UInt representing the data version of the cluster known by the client.
+ */
+data class DataVersionFilter(val endpointId: UShort, val clusterId: UInt, val dataVersion: UInt) {
+  override fun toString(): String = "$endpointId/$clusterId@$dataVersion"
+
+  // For JNI interface
+  @Suppress("UNUSED_PARAMETER")
+  private fun getEndpointId(wildcardId: Long): Long {
+    return endpointId.toLong()
+  }
+
+  @Suppress("UNUSED_PARAMETER")
+  private fun getClusterId(wildcardId: Long): Long {
+    return clusterId.toLong()
+  }
+
+  private fun getDataVersion(): Long {
+    return dataVersion.toLong()
+  }
+}
+
 /**
  * Represents a full path to a command sent to a node.
  *
@@ -17,12 +17,15 @@
  */
 package matter.controller.model
 
+import chip.devicecontroller.model.IntKeyedMap
+import chip.devicecontroller.model.LongKeyedMap
+
 /**
  * Represents information about a node, including data on all available endpoints.
  *
  * @param endpoints A mapping of endpoint IDs with the associated cluster data.
  */
-class NodeState(val endpoints: MutableMap<Int, EndpointState> = mutableMapOf()) {
+class NodeState(val endpoints: MutableMap<Int, EndpointState> = IntKeyedMap()) {
   private fun addAttribute(
     endpointId: UShort,
     clusterId: UInt,
@@ -48,9 +51,7 @@ class NodeState(val endpoints: MutableMap<Int, EndpointState> = mutableMapOf())
   ) {
     val endpointState = getEndpointState(endpointId)
     val clusterState = endpointState.getClusterState(clusterId)
-    if (clusterState.attributes[attributeId.toLong()] != null) {
-      clusterState.attributes.remove(attributeId.toLong())
-    }
+    clusterState.attributes.remove(attributeId.toLong())
     clusterState.attributeStatuses[attributeId.toLong()] = statusToAdd
   }
 
@@ -62,13 +63,8 @@ class NodeState(val endpoints: MutableMap<Int, EndpointState> = mutableMapOf())
   ) {
     val endpointState = getEndpointState(endpointId)
     val clusterState = endpointState.getClusterState(clusterId)
-    if (clusterState.events[eventId.toLong()] != null) {
-      clusterState.events.remove(eventId.toLong())
-    }
-    val eventStatuses = clusterState.eventStatuses.getOrDefault(eventId.toLong(), mutableListOf())
-    eventStatuses.add(statusToAdd)
-
-    clusterState.eventStatuses[eventId.toLong()] = eventStatuses
+    clusterState.events.remove(eventId.toLong())
+    clusterState.eventStatuses.getOrPut(eventId.toLong()) { mutableListOf() }.add(statusToAdd)
   }
 
   private fun getEndpointState(endpointId: UShort): EndpointState {
@@ -173,7 +169,7 @@ class NodeState(val endpoints: MutableMap<Int, EndpointState> = mutableMapOf())
  * @param id The endpoint ID.
  * @param clusters A mapping of cluster IDs to the cluster data.
  */
-class EndpointState(val id: Int, val clusters: MutableMap<Long, ClusterState> = mutableMapOf()) {
+class EndpointState(val id: Int, val clusters: MutableMap<Long, ClusterState> = LongKeyedMap()) {
   fun addAttribute(clusterId: UInt, attributeId: UInt, attributeState: AttributeState) {
     getClusterState(clusterId).addAttribute(attributeId, attributeState)
   }
@@ -202,11 +198,11 @@ class EndpointState(val id: Int, val clusters: MutableMap<Long, ClusterState> =
  */
 class ClusterState(
   val id: Long,
-  val attributes: MutableMap<Long, AttributeState> = mutableMapOf(),
-  val events: MutableMap<Long, MutableList<EventState>> = mutableMapOf(),
+  val attributes: MutableMap<Long, AttributeState> = LongKeyedMap(),
+  val events: MutableMap<Long, MutableList<EventState>> = LongKeyedMap(),
   var dataVersion: UInt? = null,
-  val attributeStatuses: MutableMap<Long, Status> = mutableMapOf(),
-  val eventStatuses: MutableMap<Long, MutableList<Status>> = mutableMapOf()
+  val attributeStatuses: MutableMap<Long, Status> = LongKeyedMap(),
+  val eventStatuses: MutableMap<Long, MutableList<Status>> = LongKeyedMap()
 ) {
   fun addAttribute(attributeId: UInt, attributeState: AttributeState) {
     attributes[attributeId.toLong()] = attributeState
@@ -18,10 +18,14 @@
 
 package matter.jsontlv
 
-import com.google.gson.JsonArray
-import com.google.gson.JsonElement
-import com.google.gson.JsonObject
-import com.google.gson.JsonParser
+import com.google.gson.JsonIOException
+import com.google.gson.JsonSyntaxException
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
+import com.google.gson.stream.MalformedJsonException
+import java.io.IOException
+import java.io.StringReader
+import java.math.BigDecimal
 import java.util.Base64
 import matter.tlv.*
 
@@ -55,158 +59,201 @@ fun TlvWriter.fromJsonString(json: String): ByteArray {
  * @throws IllegalArgumentException if the data was invalid
  */
 fun TlvWriter.putJsonString(tag: Tag, json: String): TlvWriter {
-  validateIsJsonObjectAndConvert(JsonParser.parseString(json), tag)
+  val reader = JsonReader(StringReader(json))
+  reader.isLenient = true
+  readJson {
+    putJson(tag, reader)
+    if (reader.peek() != JsonToken.END_DOCUMENT) {
+      throw JsonSyntaxException("Did not consume the entire document.")
+    }
+  }
   return this
 }
 
 /**
- * Converts Json Object into TLV Structure or TLV top level elements.
+ * Converts the Json object read from [reader] into a TLV Structure, streaming each value into this
+ * TLV writer as it is read instead of parsing the whole Json document first. The reader is left
+ * positioned after the Json object.
  *
- * @param json object to be converted to TLV.
+ * If the data is invalid, the TLV elements converted before the error was detected are left in this
+ * writer.
+ *
+ * @param tag the TLV tag to be encoded.
+ * @param reader Json reader positioned before a Json object.
  * @throws IllegalArgumentException if the data was invalid
  */
-private fun TlvWriter.fromJson(json: JsonObject): TlvWriter {
-  json.keySet().forEach { key ->
-    val (tag, type, subType) = extractTagAndTypeFromJsonKey(key)
-    fromJson(json.get(key), tag, type, subType)
-  }
+fun TlvWriter.putJson(tag: Tag, reader: JsonReader): TlvWriter {
+  readJson { putJsonObject(reader, tag) }
   return this
 }
 
 /**
- * Converts Json Array into TLV Array.
+ * Reports Json syntax and read errors the way [com.google.gson.JsonParser] does, since the
+ * converter used to parse the whole document with it.
+ */
+private inline fun readJson(read: () -> Unit) {
+  try {
+    read()
+  } catch (e: MalformedJsonException) {
+    throw JsonSyntaxException(e)
+  } catch (e: IOException) {
+    throw JsonIOException(e)
+  }
+}
+
+/**
+ * Converts the Json Object read from [reader] into a TLV Structure.
  *
- * @param json object to be converted to TLV.
- * @param type Type of array elements.
+ * @param tag the TLV tag of the structure.
  * @throws IllegalArgumentException if the data was invalid
  */
-private fun TlvWriter.fromJson(json: JsonArray, type: String): TlvWriter {
-  json.iterator().forEach { element -> fromJson(element, AnonymousTag, type) }
-  return this
+private fun TlvWriter.putJsonObject(reader: JsonReader, tag: Tag) {
+  require(reader.peek() == JsonToken.BEGIN_OBJECT) {
+    "Expected JsonObject; the actual element is: ${reader.peek()}"
+  }
+  startStructure(tag)
+  reader.beginObject()
+  while (reader.hasNext()) {
+    val key = JsonKey.parse(reader.nextName())
+    putJsonValue(reader, key.tag, key.type, key.subType)
+  }
+  reader.endObject()
+  endStructure()
 }
 
 /**
- * Converts Json Element into TLV Array.
+ * Converts the Json Element read from [reader] into a TLV element.
  *
- * @param element element to be converted to TLV.
  * @param tag element tag.
  * @param type element type.
  * @param subType array elements type. Only relevant when type is an Array. Should be empty string
  *   in all other cases.
  * @throws IllegalArgumentException if the data was invalid
  */
-private fun TlvWriter.fromJson(element: JsonElement, tag: Tag, type: String, subType: String = "") {
+private fun TlvWriter.putJsonValue(reader: JsonReader, tag: Tag, type: String, subType: String) {
   when (type) {
-    JSON_VALUE_TYPE_INT -> put(tag, validateIsNumber(element).toLong())
-    JSON_VALUE_TYPE_UINT -> put(tag, validateIsNumber(element).toLong().toULong())
-    JSON_VALUE_TYPE_BOOL -> put(tag, validateIsBoolean(element))
-    JSON_VALUE_TYPE_FLOAT -> put(tag, validateIsDouble(element).toFloat())
-    JSON_VALUE_TYPE_DOUBLE -> put(tag, validateIsDouble(element))
-    JSON_VALUE_TYPE_BYTES -> put(tag, validateIsString(element).base64Encode())
-    JSON_VALUE_TYPE_STRING -> put(tag, validateIsString(element))
-    JSON_VALUE_TYPE_NULL -> validateIsNullAndPut(element, tag)
-    JSON_VALUE_TYPE_STRUCT -> validateIsJsonObjectAndConvert(element, tag)
+    JSON_VALUE_TYPE_INT -> put(tag, nextNumberAsLong(reader))
+    JSON_VALUE_TYPE_UINT -> put(tag, nextNumberAsLong(reader).toULong())
+    JSON_VALUE_TYPE_BOOL -> put(tag, nextBoolean(reader))
+    JSON_VALUE_TYPE_FLOAT -> put(tag, nextDouble(reader).toFloat())
+    JSON_VALUE_TYPE_DOUBLE -> put(tag, nextDouble(reader))
+    JSON_VALUE_TYPE_BYTES -> put(tag, nextString(reader).base64Encode())
+    JSON_VALUE_TYPE_STRING -> put(tag, nextString(reader))
+    JSON_VALUE_TYPE_NULL -> {
+      require(reader.peek() == JsonToken.NULL) {
+        "Expected Null; the actual element is: ${reader.peek()}"
+      }
+      reader.nextNull()
+      putNull(tag)
+    }
+    JSON_VALUE_TYPE_STRUCT -> putJsonObject(reader, tag)
     JSON_VALUE_TYPE_ARRAY -> {
       if (subType.isEmpty()) {
         throw IllegalArgumentException("Multi-Dimensional JSON Array is Invalid")
-      } else {
-        require(element.isJsonArray()) { "Expected Array; the actual element is: $element" }
-        startArray(tag).fromJson(element.getAsJsonArray(), subType).endArray()
       }
+      require(reader.peek() == JsonToken.BEGIN_ARRAY) {
+        "Expected Array; the actual element is: ${reader.peek()}"
+      }
+      startArray(tag)
+      reader.beginArray()
+      while (reader.hasNext()) {
+        putJsonValue(reader, AnonymousTag, subType, "")
+      }
+      reader.endArray()
+      endArray()
     }
     JSON_VALUE_TYPE_EMPTY ->
-      throw IllegalArgumentException("Empty array was expected but there is value: $element}")
+      throw IllegalArgumentException(
+        "Empty array was expected but there is value: ${reader.peek()}"
+      )
     else -> throw IllegalArgumentException("Invalid type was specified: $type")
   }
 }
 
 /**
- * Extracts tag and type fields from Json key. Valid JSON key SHOULD have 1, 2, or 3 fields
- * constracted as [name:][tag:]type[-subtype]
- *
- * @param key Json element key value.
- * @throws IllegalArgumentException if the key format was invalid
+ * Tag and type fields of a Json key. Valid JSON key SHOULD have 1, 2, or 3 fields constracted as
+ * [name:][tag:]type[-subtype]
  */
-private fun extractTagAndTypeFromJsonKey(key: String): Triple<Tag, String, String> {
-  val keyFields = key.split(":")
-  var type = keyFields.last()
-  val typeFields = type.split("-")
-  var subType = ""
-
-  val tagNumber =
-    when (keyFields.size) {
-      2 -> keyFields.first().toUIntOrNull()
-      3 -> keyFields[1].toUIntOrNull()
-      else -> throw IllegalArgumentException("Invalid JSON key value: $key")
-    }
-
-  val tag =
-    when {
-      tagNumber == null -> throw IllegalArgumentException("Invalid JSON key value: $key")
-      tagNumber <= UByte.MAX_VALUE.toUInt() -> ContextSpecificTag(tagNumber.toInt())
-      tagNumber <= UShort.MAX_VALUE.toUInt() -> CommonProfileTag(2, tagNumber)
-      else -> CommonProfileTag(4, tagNumber)
-    }
+private class JsonKey(val tag: Tag, val type: String, val subType: String) {
+  companion object {
+    /**
+     * Extracts tag and type fields from Json key.
+     *
+     * @param key Json element key value.
+     * @throws IllegalArgumentException if the key format was invalid
+     */
+    fun parse(key: String): JsonKey {
+      val typeStart = key.lastIndexOf(':') + 1
+      require(typeStart > 0) { "Invalid JSON key value: $key" }
+      val tagStart = key.lastIndexOf(':', typeStart - 2) + 1
+      require(tagStart == 0 || key.lastIndexOf(':', tagStart - 2) < 0) {
+        "Invalid JSON key value: $key"
+      }
 
-  // Valid type field of the JSON key SHOULD have type and optional subtype component
-  require(typeFields.size in (1..2)) { "Invalid JSON key value: $key" }
+      val tagNumber =
+        key.substring(tagStart, typeStart - 1).toUIntOrNull()
+          ?: throw IllegalArgumentException("Invalid JSON key value: $key")
+      val tag =
+        when {
+          tagNumber <= UByte.MAX_VALUE.toUInt() -> ContextSpecificTag(tagNumber.toInt())
+          tagNumber <= UShort.MAX_VALUE.toUInt() -> CommonProfileTag(2, tagNumber)
+          else -> CommonProfileTag(4, tagNumber)
+        }
 
-  if (typeFields.size == 2) {
-    require(typeFields[0] == JSON_VALUE_TYPE_ARRAY) { "Invalid JSON key value: $key" }
-    type = JSON_VALUE_TYPE_ARRAY
-    subType = typeFields[1]
+      // Valid type field of the JSON key SHOULD have type and optional subtype component
+      val subTypeStart = key.indexOf('-', typeStart) + 1
+      if (subTypeStart == 0) {
+        return JsonKey(tag, key.substring(typeStart), "")
+      }
+      require(key.indexOf('-', subTypeStart) < 0) { "Invalid JSON key value: $key" }
+      require(
+        subTypeStart - 1 - typeStart == JSON_VALUE_TYPE_ARRAY.length &&
+          key.startsWith(JSON_VALUE_TYPE_ARRAY, typeStart)
+      ) {
+        "Invalid JSON key value: $key"
+      }
+      return JsonKey(tag, JSON_VALUE_TYPE_ARRAY, key.substring(subTypeStart))
+    }
   }
-
-  return Triple(tag, type, subType)
 }
 
 private fun String.base64Encode(): ByteArray {
   return Base64.getDecoder().decode(this)
 }
 
-/** Verifies JsonElement is Number. If yes, returns the value. */
-private fun validateIsNumber(element: JsonElement): Number {
-  require(
-    element.isJsonPrimitive() &&
-      (element.getAsJsonPrimitive().isNumber() || element.getAsJsonPrimitive().isString())
-  ) {
-    "Expected Integer represented as a Number or as a String; the actual element is: $element"
+/**
+ * Reads an integer represented as a Number or as a String. Values that do not fit into a Long wrap
+ * around, so that unsigned 64-bit integers are read as their two's complement.
+ */
+private fun nextNumberAsLong(reader: JsonReader): Long {
+  val token = reader.peek()
+  require(token == JsonToken.NUMBER || token == JsonToken.STRING) {
+    "Expected Integer represented as a Number or as a String; the actual element is: $token"
   }
-  return element.getAsJsonPrimitive().getAsNumber()
+  val value = reader.nextString()
+  return value.toLongOrNull() ?: BigDecimal(value).toLong()
 }
 
-/** Verifies JsonElement is Boolean. If yes, returns the value. */
-private fun validateIsBoolean(element: JsonElement): Boolean {
-  require(element.isJsonPrimitive() && element.getAsJsonPrimitive().isBoolean()) {
-    "Expected Boolean; the actual element is: $element"
+/** Reads a Boolean value. */
+private fun nextBoolean(reader: JsonReader): Boolean {
+  require(reader.peek() == JsonToken.BOOLEAN) {
+    "Expected Boolean; the actual element is: ${reader.peek()}"
   }
-  return element.getAsJsonPrimitive().getAsBoolean()
+  return reader.nextBoolean()
 }
 
-/** Verifies JsonElement is Double. If yes, returns the value. */
-private fun validateIsDouble(element: JsonElement): Double {
-  require(element.isJsonPrimitive() && element.getAsJsonPrimitive().isNumber()) {
-    "Expected Double; the actual element is: $element"
+/** Reads a Double value. */
+private fun nextDouble(reader: JsonReader): Double {
+  require(reader.peek() == JsonToken.NUMBER) {
+    "Expected Double; the actual element is: ${reader.peek()}"
   }
-  return element.getAsJsonPrimitive().getAsDouble()
+  return reader.nextDouble()
 }
 
-/** Verifies JsonElement is String. If yes, returns the value. */
-private fun validateIsString(element: JsonElement): String {
-  require(element.isJsonPrimitive() && element.getAsJsonPrimitive().isString()) {
-    "Expected String; the actual element is: $element"
+/** Reads a String value. */
+private fun nextString(reader: JsonReader): String {
+  require(reader.peek() == JsonToken.STRING) {
+    "Expected String; the actual element is: ${reader.peek()}"
   }
-  return element.getAsJsonPrimitive().getAsString()
-}
-
-/** Verifies JsonElement is Null. If yes, puts it into TLV. */
-private fun TlvWriter.validateIsNullAndPut(element: JsonElement, tag: Tag) {
-  require(element.isJsonNull()) { "Expected Null; the actual element is: $element" }
-  putNull(tag)
-}
-
-/** Verifies JsonElement is JsonObject. If yes, converts it into TLV Structure. */
-private fun TlvWriter.validateIsJsonObjectAndConvert(element: JsonElement, tag: Tag) {
-  require(element.isJsonObject()) { "Expected JsonObject; the actual element is: $element" }
-  startStructure(tag).fromJson(element.getAsJsonObject()).endStructure()
+  return reader.nextString()
 }
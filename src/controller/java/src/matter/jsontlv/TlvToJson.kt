@@ -18,9 +18,10 @@
 
 package matter.jsontlv
 
-import com.google.gson.JsonArray
-import com.google.gson.JsonNull
-import com.google.gson.JsonObject
+import com.google.gson.stream.JsonWriter
+import java.io.StringWriter
+import java.io.Writer
+import java.nio.CharBuffer
 import java.util.Base64
 import matter.tlv.*
 
@@ -46,6 +47,37 @@ import matter.tlv.*
  * @throws IllegalArgumentException if the data was invalid
  */
 fun TlvReader.toJsonString(): String {
+  val json = StringWriter()
+  toJson(json)
+  return json.toString()
+}
+
+/**
+ * Converts the top level TLV structure into Json written to [out], following the same rules as
+ * [toJsonString]. Values are written as they are read, so no Json tree is built and the memory used
+ * only depends on the nesting depth of the TLV data.
+ *
+ * If the data is invalid, the Json written before the error was detected is left in [out].
+ *
+ * @throws IllegalArgumentException if the data was invalid
+ */
+fun TlvReader.toJson(out: Appendable) {
+  val writer = JsonWriter(if (out is Writer) out else AppendableWriter(out))
+  // Matches the output of Gson's JsonElement.toString(), which allows NaN values.
+  writer.isLenient = true
+  toJson(writer)
+  writer.flush()
+}
+
+/**
+ * Converts the top level TLV structure into a Json object written to [writer], following the same
+ * rules as [toJsonString].
+ *
+ * If the data is invalid, the Json written before the error was detected is left in [writer].
+ *
+ * @throws IllegalArgumentException if the data was invalid
+ */
+fun TlvReader.toJson(writer: JsonWriter) {
   val element = nextElement()
   require(element.value is StructureValue) {
     "The top level element must be a structure. The actual value is ${element.value}"
@@ -53,19 +85,23 @@ fun TlvReader.toJsonString(): String {
   require(element.tag is AnonymousTag) {
     "The top level TLV Structure MUST have anonymous tag. The actual tag is ${element.tag}"
   }
-  return getStructJson().toString()
+  writeStructJson(writer)
 }
+
 /**
- * Encodes TLV Structure into Json Object. The TLV reader should be positioned at the start of a TLV
- * Structure (StructureValue element). After this call the TLV reader is positioned at the end of
- * the a TLV Structure (EndOfContainerValue element).
+ * Encodes TLV Structure into Json Object. The TLV reader should be positioned after the start of a
+ * TLV Structure (StructureValue element). After this call the TLV reader is positioned after the
+ * end of the TLV Structure (EndOfContainerValue element).
  */
-private fun TlvReader.getStructJson(): JsonObject {
-  var json = JsonObject()
+private fun TlvReader.writeStructJson(writer: JsonWriter) {
+  writer.beginObject()
   while (!isEndOfTlv()) {
     val element = nextElement()
     val tag = element.tag
     val value = element.value
+    if (value is EndOfContainerValue) {
+      break
+    }
 
     val key =
       when (tag) {
@@ -76,91 +112,61 @@ private fun TlvReader.getStructJson(): JsonObject {
       } + getJsonValueTypeField(value)
 
     when (value) {
-      is IntValue -> {
-        if (value.value >= Int.MIN_VALUE && value.value <= Int.MAX_VALUE) {
-          json.addProperty(key, value.value)
-        } else {
-          json.addProperty(key, value.value.toString())
-        }
-      }
-      is UnsignedIntValue -> {
-        if (value.value.toULong() <= UInt.MAX_VALUE.toULong()) {
-          json.addProperty(key, value.value)
-        } else {
-          json.addProperty(key, value.value.toULong().toString())
-        }
-      }
-      is Utf8StringValue -> json.addProperty(key, value.value)
-      is ByteStringValue -> json.addProperty(key, Base64.getEncoder().encodeToString(value.value))
-      is BooleanValue -> json.addProperty(key, value.value)
-      is FloatValue -> json.addProperty(key, validateFloat(value.value))
-      is DoubleValue -> json.addProperty(key, validateDouble(value.value))
-      is StructureValue -> json.add(key, getStructJson())
       is ArrayValue -> {
-        val (array, type) = getArrayJsonWithElementsType()
-        json.add("$key-$type", array)
+        writer.name("$key-${peekArrayElementsType()}")
+        writeArrayJson(writer)
       }
       is ListValue ->
         throw IllegalArgumentException("Invalid TLV element: TLV List is not supported")
-      is NullValue -> json.add(key, JsonNull.INSTANCE)
-      is EndOfContainerValue -> return json
+      else -> {
+        writer.name(key)
+        writeValueJson(writer, value)
+      }
     }
   }
-  return json
+  writer.endObject()
+}
+
+/**
+ * Returns the String specifying types of the elements in the TLV Array whose elements are read
+ * next, which is encoded in the Json key of the array.
+ */
+private fun TlvReader.peekArrayElementsType(): String {
+  if (isEndOfTlv()) {
+    return JSON_VALUE_TYPE_EMPTY
+  }
+  val subType = getJsonValueTypeField(peekElement().value)
+  return if (subType == JSON_VALUE_TYPE_ARRAY) JSON_VALUE_TYPE_EMPTY else subType
 }
 
 /**
- * Encodes TLV Array data into Json Array. The TLV reader should be positioned at the start of a TLV
- * Array (ArrayValue element). After this call the TLV reader is positioned at the end of the a TLV
- * Structure (EndOfContainerValue element). This method returns Json encoded array and a String
- * specifying types of the elements in the array.
+ * Encodes TLV Array data into Json Array. The TLV reader should be positioned after the start of a
+ * TLV Array (ArrayValue element). After this call the TLV reader is positioned after the end of the
+ * TLV Array (EndOfContainerValue element).
  */
-private fun TlvReader.getArrayJsonWithElementsType(): Pair<JsonArray, String> {
-  var json = JsonArray()
+private fun TlvReader.writeArrayJson(writer: JsonWriter) {
+  writer.beginArray()
   var lastValue: Value = ArrayValue
 
   while (!isEndOfTlv()) {
     val value = nextElement().value
-    if (lastValue !is ArrayValue && value !is EndOfContainerValue) {
+    if (value is EndOfContainerValue) {
+      writer.endArray()
+      return
+    }
+    if (lastValue !is ArrayValue) {
       require(value::class == lastValue::class) {
         "Invalid TLV element: all elements in array MUST be of the same type. Value ($value) is different from previous value ($lastValue)."
       }
     }
 
     when (value) {
-      is IntValue -> {
-        if (value.value >= Int.MIN_VALUE && value.value <= Int.MAX_VALUE) {
-          json.add(value.value)
-        } else {
-          json.add(value.value.toString())
-        }
-      }
-      is UnsignedIntValue -> {
-        if (value.value.toULong() <= UInt.MAX_VALUE) {
-          json.add(value.value)
-        } else {
-          json.add(value.value.toULong().toString())
-        }
-      }
-      is Utf8StringValue -> json.add(value.value)
-      is ByteStringValue -> json.add(Base64.getEncoder().encodeToString(value.value))
-      is BooleanValue -> json.add(value.value)
-      is FloatValue -> json.add(validateFloat(value.value))
-      is DoubleValue -> json.add(validateDouble(value.value))
-      is StructureValue -> json.add(getStructJson())
       is ArrayValue ->
         throw IllegalArgumentException(
           "Invalid TLV element: multi-dimensional TLV Array not supported"
         )
       is ListValue -> throw IllegalArgumentException("Invalid TLV Element: TLV List not supported")
-      is NullValue -> json.add(JsonNull.INSTANCE)
-      is EndOfContainerValue -> {
-        var subType = getJsonValueTypeField(lastValue)
-        if (subType == JSON_VALUE_TYPE_ARRAY) {
-          subType = JSON_VALUE_TYPE_EMPTY
-        }
-        return Pair(json, subType)
-      }
+      else -> writeValueJson(writer, value)
     }
 
     lastValue = value
@@ -171,6 +177,50 @@ private fun TlvReader.getArrayJsonWithElementsType(): Pair<JsonArray, String> {
   )
 }
 
+/** Encodes a TLV value other than an Array or a List into Json. */
+private fun TlvReader.writeValueJson(writer: JsonWriter, value: Value) {
+  when (value) {
+    is IntValue -> {
+      if (value.value >= Int.MIN_VALUE && value.value <= Int.MAX_VALUE) {
+        writer.value(value.value)
+      } else {
+        writer.value(value.value.toString())
+      }
+    }
+    is UnsignedIntValue -> {
+      if (value.value.toULong() <= UInt.MAX_VALUE.toULong()) {
+        writer.value(value.value)
+      } else {
+        writer.value(value.value.toULong().toString())
+      }
+    }
+    is Utf8StringValue -> writer.value(value.value)
+    is ByteStringValue -> writer.value(Base64.getEncoder().encodeToString(value.value))
+    is BooleanValue -> writer.value(value.value)
+    // Boxed so that the value is written the way Float.toString() formats it.
+    is FloatValue -> writer.value(validateFloat(value.value) as Number)
+    is DoubleValue -> writer.value(validateDouble(value.value) as Number)
+    is StructureValue -> writeStructJson(writer)
+    is NullValue -> writer.nullValue()
+    else -> throw IllegalArgumentException("Invalid TLV element: $value")
+  }
+}
+
+/** Writes to an [Appendable] that is not a [Writer]. */
+private class AppendableWriter(private val out: Appendable) : Writer() {
+  override fun write(cbuf: CharArray, off: Int, len: Int) {
+    out.append(CharBuffer.wrap(cbuf, off, len))
+  }
+
+  override fun write(str: String, off: Int, len: Int) {
+    out.append(str, off, off + len)
+  }
+
+  override fun flush() {}
+
+  override fun close() {}
+}
+
 /** Returns type string that should be encoded in the Json key string for the specified value. */
 private fun getJsonValueTypeField(value: Value): String {
   return when (value) {
@@ -75,9 +75,17 @@ private val kMaxBytesSingleChunkLen = 3
  * The resulting size of the out_buf span will be the size of data written.
  */
 fun base38Encode(inBuf: ByteArray, outBuf: CharArray): Unit {
-  var inBufLen = inBuf.size
+  base38Encode(inBuf, inBuf.size, outBuf, 0)
+}
+
+/**
+ * Encodes the first [inLength] bytes of [inBuf] into [outBuf] starting at [outOffset], in the same
+ * way as [base38Encode], and returns the index after the last character written.
+ */
+internal fun base38Encode(inBuf: ByteArray, inLength: Int, outBuf: CharArray, outOffset: Int): Int {
+  var inBufLen = inLength
   var inIdx = 0
-  var outIdx = 0
+  var outIdx = outOffset
 
   while (inBufLen > 0) {
     var value = 0
@@ -101,6 +109,8 @@ fun base38Encode(inBuf: ByteArray, outBuf: CharArray): Unit {
       value /= kRadix.toInt()
     }
   }
+
+  return outIdx
 }
 
 /*
@@ -112,9 +122,30 @@ fun base38EncodedLength(numBytes: Int): Int {
 
 /** Implements converting a Base38 String into an array of bytes. */
 fun base38Decode(base38: String): ArrayList<Byte> {
-  val result = ArrayList<Byte>()
-  var base38CharactersNumber = base38.length
-  var decodedBase38Characters = 0
+  val decoded = ByteArray(base38DecodedMaxLength(base38.length))
+  val length = base38Decode(base38, 0, base38.length, decoded)
+  val result = ArrayList<Byte>(length)
+  for (i in 0 until length) {
+    result.add(decoded[i])
+  }
+  return result
+}
+
+/*
+ * Returns the size needed to store the bytes decoded from the given number of base38 characters.
+ */
+internal fun base38DecodedMaxLength(numChars: Int): Int {
+  return (numChars / 5) * 3 + 2
+}
+
+/**
+ * Decodes the base38 characters of [base38] between [start] and [end] into [outBuf], in the same
+ * way as [base38Decode], and returns the number of bytes written.
+ */
+internal fun base38Decode(base38: CharSequence, start: Int, end: Int, outBuf: ByteArray): Int {
+  var base38CharactersNumber = end - start
+  var decodedBase38Characters = start
+  var outIdx = 0
 
   while (base38CharactersNumber > 0) {
     val base38CharactersInChunk: Byte
@@ -146,7 +177,7 @@ fun base38Decode(base38: String): ArrayList<Byte> {
     base38CharactersNumber -= base38CharactersInChunk.toInt()
 
     for (i in 0 until bytesInDecodedChunk) {
-      result.add(value.toByte())
+      outBuf[outIdx++] = value.toByte()
       value = value shr 8
     }
 
@@ -155,66 +186,71 @@ fun base38Decode(base38: String): ArrayList<Byte> {
     }
   }
 
-  return result
+  return outIdx
 }
 
-private fun decodeChar(c: Char): Byte {
-  val kBogus: Byte = -1
-  val decodes =
-    byteArrayOf(
-      36, // '-', =45
-      37, // '.', =46
-      kBogus, // '/', =47
-      0, // '0', =48
-      1, // '1', =49
-      2, // '2', =50
-      3, // '3', =51
-      4, // '4', =52
-      5, // '5', =53
-      6, // '6', =54
-      7, // '7', =55
-      8, // '8', =56
-      9, // '9', =57
-      kBogus, // ':', =58
-      kBogus, // ';', =59
-      kBogus, // '<', =50
-      kBogus, // '=', =61
-      kBogus, // '>', =62
-      kBogus, // '?', =63
-      kBogus, // '@', =64
-      10, // 'A', =65
-      11, // 'B', =66
-      12, // 'C', =67
-      13, // 'D', =68
-      14, // 'E', =69
-      15, // 'F', =70
-      16, // 'G', =71
-      17, // 'H', =72
-      18, // 'I', =73
-      19, // 'J', =74
-      20, // 'K', =75
-      21, // 'L', =76
-      22, // 'M', =77
-      23, // 'N', =78
-      24, // 'O', =79
-      25, // 'P', =80
-      26, // 'Q', =81
-      27, // 'R', =82
-      28, // 'S', =83
-      29, // 'T', =84
-      30, // 'U', =85
-      31, // 'V', =86
-      32, // 'W', =87
-      33, // 'X', =88
-      34, // 'Y', =89
-      35 // 'Z', =90
-    )
+/** Returns whether [c] is one of the characters of the base38 encoding. */
+internal fun isBase38Char(c: Char): Boolean {
+  return c in '-'..'Z' && kDecodes[c - '-'] != kBogus
+}
 
+private val kBogus: Byte = -1
+private val kDecodes =
+  byteArrayOf(
+    36, // '-', =45
+    37, // '.', =46
+    kBogus, // '/', =47
+    0, // '0', =48
+    1, // '1', =49
+    2, // '2', =50
+    3, // '3', =51
+    4, // '4', =52
+    5, // '5', =53
+    6, // '6', =54
+    7, // '7', =55
+    8, // '8', =56
+    9, // '9', =57
+    kBogus, // ':', =58
+    kBogus, // ';', =59
+    kBogus, // '<', =50
+    kBogus, // '=', =61
+    kBogus, // '>', =62
+    kBogus, // '?', =63
+    kBogus, // '@', =64
+    10, // 'A', =65
+    11, // 'B', =66
+    12, // 'C', =67
+    13, // 'D', =68
+    14, // 'E', =69
+    15, // 'F', =70
+    16, // 'G', =71
+    17, // 'H', =72
+    18, // 'I', =73
+    19, // 'J', =74
+    20, // 'K', =75
+    21, // 'L', =76
+    22, // 'M', =77
+    23, // 'N', =78
+    24, // 'O', =79
+    25, // 'P', =80
+    26, // 'Q', =81
+    27, // 'R', =82
+    28, // 'S', =83
+    29, // 'T', =84
+    30, // 'U', =85
+    31, // 'V', =86
+    32, // 'W', =87
+    33, // 'X', =88
+    34, // 'Y', =89
+    35 // 'Z', =90
+  )
+
+private fun decodeChar(c: Char): Byte {
   if (c < '-' || c > 'Z') {
     throw OnboardingPayloadException("Invalid character: $c")
   }
 
-  val v: Byte = decodes[c - '-']
+  val v: Byte = kDecodes[c - '-']
   if (v == kBogus) {
     throw OnboardingPayloadException("Invalid integer value")
   }
@@ -0,0 +1,430 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package matter.onboardingpayload
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.Executor
+import java.util.concurrent.ForkJoinPool
+
+// Below this many payloads per worker, splitting the batch costs more than it saves.
+private const val MIN_PAYLOADS_PER_WORKER = 256
+
+private const val DECIMAL_RADIX = 10
+
+// A first digit of 8 or 9 in a Manual Pairing Code would indicate a newer format.
+private const val MIN_NEWER_FORMAT_CHUNK1 = 8
+
+private val kBase38PayloadCharLength = base38EncodedLength(kTotalPayloadDataSizeInBytes)
+private val kQRCodeCharLength = kQRCodePrefix.length + kBase38PayloadCharLength
+
+/**
+ * Generates and parses QR codes and Manual Pairing Codes for many [OnboardingPayload]s in one call,
+ * for example to provision or verify a production batch of devices.
+ *
+ * The batch is split into one chunk per worker, and each chunk is converted on [executor] with its
+ * own scratch buffers. Payloads and codes without optional TLV data are converted with primitive
+ * bit buffers. Anything else, including every invalid input, goes through the single-payload
+ * generators and parsers, so each result and each exception is the same as with
+ * [OnboardingPayloadParser].
+ *
+ * If any conversion fails, the exception of the first failing element of the batch is thrown.
+ *
+ * @param executor runs the chunks of the batch
+ * @param parallelism the maximum number of chunks the batch is split into
+ */
+class OnboardingPayloadBatchCodec(
+  private val executor: Executor = ForkJoinPool.commonPool(),
+  private val parallelism: Int = Runtime.getRuntime().availableProcessors()
+) {
+  init {
+    require(parallelism > 0) { "parallelism must be positive: $parallelism" }
+  }
+
+  /**
+   * Returns the QR code of each payload. Optional data is TLV encoded as in
+   * [QRCodeOnboardingPayloadGenerator.payloadBase38RepresentationWithAutoTLVBuffer].
+   */
+  @Throws(OnboardingPayloadException::class)
+  fun getQrCodesFromPayloads(payloads: List<OnboardingPayload>): List<String> {
+    return convertAll(payloads) { generateQrCode(it) }
+  }
+
+  /**
+   * Returns the payload of each QR code, as [OnboardingPayloadParser.parseQrCode].
+   *
+   * @param skipPayloadValidation If this value is true, payload element validation is not checked.
+   */
+  @Throws(UnrecognizedQrCodeException::class, OnboardingPayloadException::class)
+  fun parseQrCodes(
+    qrCodeStrings: List<String>,
+    skipPayloadValidation: Boolean = false
+  ): List<OnboardingPayload> {
+    return convertAll(qrCodeStrings) { parseQrCode(it, skipPayloadValidation) }
+  }
+
+  /**
+   * Returns the Manual Pairing Code of each payload, as
+   * [OnboardingPayloadParser.getManualPairingCodeFromPayload].
+   *
+   * @param forceShortCode If this value is true, short codes are generated for all payloads.
+   */
+  @Throws(OnboardingPayloadException::class)
+  fun getManualPairingCodesFromPayloads(
+    payloads: List<OnboardingPayload>,
+    forceShortCode: Boolean = false
+  ): List<String> {
+    return convertAll(payloads) { generateManualPairingCode(it, forceShortCode) }
+  }
+
+  /**
+   * Returns the payload of each Manual Pairing Code, as
+   * [OnboardingPayloadParser.parseManualPairingCode].
+   *
+   * @param skipPayloadValidation If this value is true, payload element validation is not checked.
+   */
+  @Throws(InvalidManualPairingCodeFormatException::class, OnboardingPayloadException::class)
+  fun parseManualPairingCodes(
+    manualPairingCodeStrings: List<String>,
+    skipPayloadValidation: Boolean = false
+  ): List<OnboardingPayload> {
+    return convertAll(manualPairingCodeStrings) {
+      parseManualPairingCode(it, skipPayloadValidation)
+    }
+  }
+
+  private fun <T, R> convertAll(inputs: List<T>, convert: Scratch.(T) -> R): List<R> {
+    val items = if (inputs is RandomAccess) inputs else inputs.toList()
+    val results = arrayOfNulls<Any>(items.size)
+    val chunkCount = minOf(parallelism, items.size / MIN_PAYLOADS_PER_WORKER)
+
+    if (chunkCount <= 1) {
+      val scratch = Scratch()
+      for (i in items.indices) {
+        results[i] = scratch.convert(items[i])
+      }
+    } else {
+      val chunks =
+        (0 until chunkCount).map { chunk ->
+          val start = items.size * chunk / chunkCount
+          val end = items.size * (chunk + 1) / chunkCount
+          CompletableFuture.runAsync(
+            {
+              val scratch = Scratch()
+              for (i in start until end) {
+                results[i] = scratch.convert(items[i])
+              }
+            },
+            executor
+          )
+        }
+
+      // Wait for every chunk, then report the failure of the earliest chunk.
+      var failure: Throwable? = null
+      for (chunk in chunks) {
+        try {
+          chunk.join()
+        } catch (e: CompletionException) {
+          failure = failure ?: e.cause ?: e
+        }
+      }
+      failure?.let { throw it }
+    }
+
+    @Suppress("UNCHECKED_CAST") return results.asList() as List<R>
+  }
+
+  /** Buffers reused by a worker for all the elements of its chunk. */
+  private class Scratch {
+    val bytes = ByteArray(kTotalPayloadDataSizeInBytes)
+    val chars = CharArray(maxOf(kQRCodeCharLength, kManualSetupLongCodeCharLength + 1))
+
+    // Bits not yet written to or read from bytes, least significant bit first.
+    private var bitBuffer = 0L
+    private var bitCount = 0
+    private var byteIndex = 0
+
+    fun generateQrCode(payload: OnboardingPayload): String {
+      val hasOptionalData =
+        payload.getAllOptionalVendorData().isNotEmpty() ||
+          payload.getAllOptionalExtensionData().isNotEmpty()
+      if (!hasOptionalData && payload.isValidQRCodePayload() && writePayloadBits(payload)) {
+        kQRCodePrefix.toCharArray(chars, 0)
+        val length = base38Encode(bytes, bytes.size, chars, kQRCodePrefix.length)
+        return String(chars, 0, length)
+      }
+      return QRCodeOnboardingPayloadGenerator(payload)
+        .payloadBase38RepresentationWithAutoTLVBuffer()
+    }
+
+    fun parseQrCode(qrCodeString: String, skipPayloadValidation: Boolean): OnboardingPayload {
+      val payload =
+        readPayloadBits(qrCodeString)
+          ?: return OnboardingPayloadParser().parseQrCode(qrCodeString, skipPayloadValidation)
+
+      if (!skipPayloadValidation && !payload.isValidQRCodePayload()) {
+        throw OnboardingPayloadException("Invalid payload")
+      }
+      return payload
+    }
+
+    fun generateManualPairingCode(payload: OnboardingPayload, forceShortCode: Boolean): String {
+      val hasVendorAndProduct = payload.commissioningFlow != CommissioningFlow.STANDARD.value
+      val useLongCode = hasVendorAndProduct && !forceShortCode
+      val idsFit =
+        !useLongCode ||
+          (fitsInDigits(payload.vendorId, kManualSetupVendorIdCharLength) &&
+            fitsInDigits(payload.productId, kManualSetupProductIdCharLength))
+      if (!payload.isValidManualCode() || !idsFit) {
+        val generator = ManualOnboardingPayloadGenerator(payload)
+        generator.setForceShortCode(forceShortCode)
+        return generator.payloadDecimalStringRepresentation()
+      }
+
+      val discriminator = payload.getShortDiscriminatorValue()
+      val pinCode = payload.setupPinCode.toInt()
+      val discriminatorMsbits =
+        (discriminator shr
+          (kManualSetupDiscriminatorFieldLengthInBits -
+            kManualSetupChunk1DiscriminatorMsbitsLength)) and
+          ((1 shl kManualSetupChunk1DiscriminatorMsbitsLength) - 1)
+      val discriminatorLsbits =
+        discriminator and ((1 shl kManualSetupChunk2DiscriminatorLsbitsLength) - 1)
+      val vidPidPresentFlag = if (hasVendorAndProduct) 1 else 0
+      val chunk1 =
+        (discriminatorMsbits shl kManualSetupChunk1DiscriminatorMsbitsPos) or
+          (vidPidPresentFlag shl kManualSetupChunk1VidPidPresentBitPos)
+      val chunk2 =
+        ((pinCode and ((1 shl kManualSetupChunk2PINCodeLsbitsLength) - 1)) shl
+          kManualSetupChunk2PINCodeLsbitsPos) or
+          (discriminatorLsbits shl kManualSetupChunk2DiscriminatorLsbitsPos)
+      val chunk3 =
+        ((pinCode shr kManualSetupChunk2PINCodeLsbitsLength) and
+          ((1 shl kManualSetupChunk3PINCodeMsbitsLength) - 1)) shl
+          kManualSetupChunk3PINCodeMsbitsPos
+
+      var offset = writeDigits(chunk1, 0, kManualSetupCodeChunk1CharLength)
+      offset = writeDigits(chunk2, offset, kManualSetupCodeChunk2CharLength)
+      offset = writeDigits(chunk3, offset, kManualSetupCodeChunk3CharLength)
+      if (useLongCode) {
+        offset = writeDigits(payload.vendorId, offset, kManualSetupVendorIdCharLength)
+        offset = writeDigits(payload.productId, offset, kManualSetupProductIdCharLength)
+      }
+      chars[offset] = Verhoeff10.computeCheckChar(chars, offset)
+      return String(chars, 0, offset + 1)
+    }
+
+    fun parseManualPairingCode(
+      manualPairingCodeString: String,
+      skipPayloadValidation: Boolean
+    ): OnboardingPayload {
+      val payload =
+        readManualPairingCode(manualPairingCodeString)
+          ?: return OnboardingPayloadParser()
+            .parseManualPairingCode(manualPairingCodeString, skipPayloadValidation)
+
+      if (!skipPayloadValidation && !payload.isValidManualCode()) {
+        throw OnboardingPayloadException("Invalid manual entry code")
+      }
+      return payload
+    }
+
+    /** Writes the QR code fields of the payload to bytes, or returns false if one does not fit. */
+    private fun writePayloadBits(payload: OnboardingPayload): Boolean {
+      resetBits()
+      return writeBits(payload.version.toLong(), kVersionFieldLengthInBits) &&
+        writeBits(payload.vendorId.toLong(), kVendorIDFieldLengthInBits) &&
+        writeBits(payload.productId.toLong(), kProductIDFieldLengthInBits) &&
+        writeBits(payload.commissioningFlow.toLong(), kCommissioningFlowFieldLengthInBits) &&
+        writeBits(payload.getRendezvousInformation(), kRendezvousInfoFieldLengthInBits) &&
+        writeBits(payload.discriminator.toLong(), kPayloadDiscriminatorFieldLengthInBits) &&
+        writeBits(payload.setupPinCode, kSetupPINCodeFieldLengthInBits) &&
+        writeBits(0L, kPaddingFieldLengthInBits)
+    }
+
+    private fun writeBits(value: Long, numberOfBits: Int): Boolean {
+      if (value ushr numberOfBits != 0L) {
+        return false
+      }
+      bitBuffer = bitBuffer or (value shl bitCount)
+      bitCount += numberOfBits
+      while (bitCount >= Byte.SIZE_BITS) {
+        bytes[byteIndex++] = bitBuffer.toByte()
+        bitBuffer = bitBuffer ushr Byte.SIZE_BITS
+        bitCount -= Byte.SIZE_BITS
+      }
+      return true
+    }
+
+    /**
+     * Reads the payload of a QR code without optional data, or returns null if the QR code has
+     * optional data or is not valid.
+     *
+     * @throws OnboardingPayloadException if the base38 characters do not decode to bytes, as the
+     *   single-payload parser does for the same QR code
+     */
+    private fun readPayloadBits(qrCodeString: String): OnboardingPayload? {
+      if (!hasPayloadOnly(qrCodeString)) {
+        return null
+      }
+      base38Decode(qrCodeString, kQRCodePrefix.length, qrCodeString.length, bytes)
+
+      resetBits()
+      val payload = OnboardingPayload()
+      payload.version = readBits(kVersionFieldLengthInBits).toInt()
+      payload.vendorId = readBits(kVendorIDFieldLengthInBits).toInt()
+      payload.productId = readBits(kProductIDFieldLengthInBits).toInt()
+      payload.commissioningFlow = readBits(kCommissioningFlowFieldLengthInBits).toInt()
+      payload.setRendezvousInformation(readBits(kRendezvousInfoFieldLengthInBits))
+      payload.discriminator = readBits(kPayloadDiscriminatorFieldLengthInBits).toInt()
+      payload.setupPinCode = readBits(kSetupPINCodeFieldLengthInBits)
+      return payload.takeIf { readBits(kPaddingFieldLengthInBits) == 0L }
+    }
+
+    /** Returns whether the QR code holds a single payload, without optional data or separators. */
+    private fun hasPayloadOnly(qrCodeString: String): Boolean {
+      return qrCodeString.length == kQRCodeCharLength &&
+        qrCodeString.startsWith(kQRCodePrefix) &&
+        (kQRCodePrefix.length until qrCodeString.length).all { isBase38Char(qrCodeString[it]) }
+    }
+
+    private fun resetBits() {
+      bitBuffer = 0L
+      bitCount = 0
+      byteIndex = 0
+    }
+
+    private fun readBits(numberOfBits: Int): Long {
+      while (bitCount < numberOfBits) {
+        bitBuffer = bitBuffer or (java.lang.Byte.toUnsignedLong(bytes[byteIndex++]) shl bitCount)
+        bitCount += Byte.SIZE_BITS
+      }
+      val value = bitBuffer and ((1L shl numberOfBits) - 1)
+      bitBuffer = bitBuffer ushr numberOfBits
+      bitCount -= numberOfBits
+      return value
+    }
+
+    private fun writeDigits(value: Int, offset: Int, numberOfDigits: Int): Int {
+      var remaining = value
+      for (i in offset + numberOfDigits - 1 downTo offset) {
+        chars[i] = '0' + remaining % DECIMAL_RADIX
+        remaining /= DECIMAL_RADIX
+      }
+      return offset + numberOfDigits
+    }
+
+    /**
+     * Reads the payload of a Manual Pairing Code, or returns null if the code is not valid.
+     * Separators are skipped as in [ManualOnboardingPayloadParser].
+     */
+    private fun readManualPairingCode(manualPairingCodeString: String): OnboardingPayload? {
+      val codeLength = copyDigits(manualPairingCodeString) - 1
+      if (!hasValidCheckDigit(codeLength)) {
+        return null
+      }
+
+      val chunk1 = readDigits(0, kManualSetupCodeChunk1CharLength)
+      val isLongCode = ((chunk1 shr kManualSetupChunk1VidPidPresentBitPos) and 1) == 1
+      val expectedLength =
+        if (isLongCode) kManualSetupLongCodeCharLength else kManualSetupShortCodeCharLength
+      return if (chunk1 < MIN_NEWER_FORMAT_CHUNK1 && codeLength == expectedLength) {
+        readPayloadDigits(chunk1, isLongCode)
+      } else {
+        null
+      }
+    }
+
+    /**
+     * Copies the digits of the code to chars, and returns their number, or -1 if the code has other
+     * characters than digits and separators or is too long.
+     */
+    private fun copyDigits(manualPairingCodeString: String): Int {
+      var length = 0
+      for (c in manualPairingCodeString) {
+        if (c == '-') {
+          continue
+        }
+        if (c !in '0'..'9' || length == chars.size) {
+          return -1
+        }
+        chars[length++] = c
+      }
+      return length
+    }
+
+    private fun hasValidCheckDigit(codeLength: Int): Boolean {
+      return (codeLength == kManualSetupShortCodeCharLength ||
+        codeLength == kManualSetupLongCodeCharLength) &&
+        Verhoeff10.computeCheckChar(chars, codeLength) == chars[codeLength]
+    }
+
+    /**
+     * Reads the fields following the first digit of the code, or returns null if one is invalid.
+     */
+    private fun readPayloadDigits(chunk1: Int, isLongCode: Boolean): OnboardingPayload? {
+      var offset = kManualSetupCodeChunk1CharLength
+      val chunk2 = readDigits(offset, kManualSetupCodeChunk2CharLength)
+      offset += kManualSetupCodeChunk2CharLength
+      val chunk3 = readDigits(offset, kManualSetupCodeChunk3CharLength)
+      offset += kManualSetupCodeChunk3CharLength
+
+      val payload = OnboardingPayload()
+      payload.discriminator =
+        ((chunk2 shr kManualSetupChunk2DiscriminatorLsbitsPos) and
+          ((1 shl kManualSetupChunk2DiscriminatorLsbitsLength) - 1)) or
+          (((chunk1 shr kManualSetupChunk1DiscriminatorMsbitsPos) and
+            ((1 shl kManualSetupChunk1DiscriminatorMsbitsLength) - 1)) shl
+            kManualSetupChunk2DiscriminatorLsbitsLength)
+      payload.hasShortDiscriminator = true
+      payload.setupPinCode =
+        ((chunk2 shr kManualSetupChunk2PINCodeLsbitsPos) and
+            ((1 shl kManualSetupChunk2PINCodeLsbitsLength) - 1))
+          .toLong() or
+          (((chunk3 shr kManualSetupChunk3PINCodeMsbitsPos) and
+              ((1 shl kManualSetupChunk3PINCodeMsbitsLength) - 1))
+            .toLong() shl kManualSetupChunk2PINCodeLsbitsLength)
+      payload.commissioningFlow =
+        if (isLongCode) CommissioningFlow.CUSTOM.value else CommissioningFlow.STANDARD.value
+      if (isLongCode) {
+        payload.vendorId = readDigits(offset, kManualSetupVendorIdCharLength)
+        offset += kManualSetupVendorIdCharLength
+        payload.productId = readDigits(offset, kManualSetupProductIdCharLength)
+      }
+
+      val maxId = UShort.MAX_VALUE.toInt()
+      return payload.takeIf {
+        it.setupPinCode != 0L && it.vendorId <= maxId && it.productId <= maxId
+      }
+    }
+
+    private fun readDigits(offset: Int, numberOfDigits: Int): Int {
+      var value = 0
+      for (i in offset until offset + numberOfDigits) {
+        value = value * DECIMAL_RADIX + (chars[i] - '0')
+      }
+      return value
+    }
+
+    private fun fitsInDigits(value: Int, numberOfDigits: Int): Boolean {
+      var limit = 1
+      repeat(numberOfDigits) { limit *= DECIMAL_RADIX }
+      return value in 0 until limit
+    }
+  }
+}
@@ -147,6 +147,18 @@ class Verhoeff10 {
       return valToChar(c)
     }
 
+    // Compute a check character for the first strLen characters of a character buffer.
+    fun computeCheckChar(chars: CharArray, strLen: Int): Char {
+      var c = 0
+      for (i in 1..strLen) {
+        val value = charToVal(chars[strLen - i])
+        val p = Verhoeff.permute(value, sPermTable, Base, i)
+        c = sMultiplyTable[c * Base + p]
+      }
+      c = Verhoeff.dihedralInvert(c, PolygonSize)
+      return valToChar(c)
+    }
+
     // Verify a check character against a given string.
     fun validateCheckChar(checkChar: Char, str: String): Boolean {
       return validateCheckChar(checkChar, str, str.length)
@@ -20,16 +20,47 @@ package matter.tlv
 
 import java.lang.Double.longBitsToDouble
 import java.lang.Float.intBitsToFloat
+import java.nio.ByteBuffer
 
 /**
  * Implements Matter TLV reader that supports all values and tags as defined in the Spec.
  *
- * @param bytes the bytes to interpret
+ * The reader decodes directly from the underlying buffer. Typed getters such as [getUInt] or
+ * [getUtf8String] decode the value in place and do not allocate intermediate [Element] objects.
+ *
+ * @param buffer the bytes to interpret, from the buffer's position to its limit. The content is not
+ *   copied and the buffer's position is left unchanged, so the content must not be modified while
+ *   it is being read.
  */
-class TlvReader(bytes: ByteArray) : Iterable<Element> {
-  private val bytes = bytes.copyOf()
+class TlvReader(buffer: ByteBuffer) : Iterable<Element> {
+  private val bytes = buffer.slice()
+  private val size = bytes.limit()
   private var index = 0
 
+  // Location of the value of the element most recently decoded by readHeader().
+  private var valueIndex = 0
+  private var valueSize = 0
+
+  /**
+   * Creates a reader over a copy of the given bytes.
+   *
+   * @param bytes the bytes to interpret
+   */
+  constructor(bytes: ByteArray) : this(ByteBuffer.wrap(bytes.copyOf()))
+
+  /**
+   * Creates a reader over a range of the given bytes without copying them.
+   *
+   * @param bytes the array holding the bytes to interpret
+   * @param offset the index of the first byte to interpret
+   * @param length the number of bytes to interpret
+   */
+  constructor(
+    bytes: ByteArray,
+    offset: Int,
+    length: Int
+  ) : this(ByteBuffer.wrap(bytes, offset, length))
+
   /**
    * Reads the next element from the TLV.
    *
@@ -38,7 +69,7 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
   fun nextElement(): Element {
     // Ensure that at least one byte for control data is available for reading.
     checkSize("controlByte", 1)
-    val controlByte = bytes[index]
+    val controlByte = bytes.get(index)
     val elementType =
       runCatching { Type.from(controlByte) }
         .onFailure {
@@ -67,7 +98,7 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
       if (lengthSize > Int.SIZE_BYTES) {
         throw TlvParsingException("Length $lengthSize at $index too long")
       }
-      valueSize = bytes.sliceArray(index until index + lengthSize).fromLittleEndianToLong().toInt()
+      valueSize = bytes.getLittleEndian(index, lengthSize.toInt()).toInt()
       index += lengthSize
     } else {
       valueSize = elementType.valueSize.toInt()
@@ -76,20 +107,21 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
     // Ensure that the encoded length fits in the range of the array, and advance index to the
     // next control byte.
     checkSize("value", valueSize)
-    val valueBytes = bytes.sliceArray(index until index + valueSize)
+    val valueStart = index
     index += valueSize
 
     // Only supporting a small subset of value types currently. Others will just be interpreted
     // as a null value.
     val value: Value =
       when (elementType) {
-        is SignedIntType -> IntValue(valueBytes.fromLittleEndianToLong(isSigned = true))
-        is UnsignedIntType -> UnsignedIntValue(valueBytes.fromLittleEndianToLong())
-        is Utf8StringType -> Utf8StringValue(String(valueBytes, Charsets.UTF_8))
-        is ByteStringType -> ByteStringValue(valueBytes)
+        is SignedIntType -> IntValue(bytes.getLittleEndian(valueStart, valueSize, isSigned = true))
+        is UnsignedIntType -> UnsignedIntValue(bytes.getLittleEndian(valueStart, valueSize))
+        is Utf8StringType -> Utf8StringValue(readString(valueStart, valueSize))
+        is ByteStringType -> ByteStringValue(readBytes(valueStart, valueSize))
         is BooleanType -> BooleanValue(elementType.value)
-        is FloatType -> FloatValue(intBitsToFloat(valueBytes.fromLittleEndianToLong().toInt()))
-        is DoubleType -> DoubleValue(longBitsToDouble(valueBytes.fromLittleEndianToLong()))
+        is FloatType ->
+          FloatValue(intBitsToFloat(bytes.getLittleEndian(valueStart, valueSize).toInt()))
+        is DoubleType -> DoubleValue(longBitsToDouble(bytes.getLittleEndian(valueStart, valueSize)))
         is StructureType -> StructureValue
         is ArrayType -> ArrayValue
         is ListType -> ListValue
@@ -119,6 +151,9 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @throws TlvParsingException if the element is not of the expected type or tag
    */
   fun getLong(tag: Tag): Long {
+    if (nextInPlace(tag) { it is SignedIntType } != null) {
+      return bytes.getLittleEndian(valueIndex, valueSize, isSigned = true)
+    }
     val value = nextElement().verifyTagAndGetValue(tag)
     require(value is IntValue) { "Unexpected value $value at index $index (expected IntValue)" }
     return value.value
@@ -130,6 +165,9 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @throws TlvParsingException if the element is not of the expected type or tag
    */
   fun getULong(tag: Tag): ULong {
+    if (nextInPlace(tag) { it is UnsignedIntType } != null) {
+      return bytes.getLittleEndian(valueIndex, valueSize).toULong()
+    }
     val value = nextElement().verifyTagAndGetValue(tag)
     require(value is UnsignedIntValue) {
       "Unexpected value $value at index $index (expected UnsignedIntValue)"
@@ -137,13 +175,26 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
     return value.value.toULong()
   }
 
+  /**
+   * Reads the encoded ULong, UInt, UShort, or UByte value as a Long and advances to the next
+   * element.
+   *
+   * This method is functionally equivalent to fun getULong(tag: Tag): ULong and is required when
+   * called from Java, which doesn't support Unsigned integer types.
+   *
+   * @throws TlvParsingException if the element is not of the expected type or tag
+   */
+  fun getUnsigned(tag: Tag): Long {
+    return getULong(tag).toLong()
+  }
+
   /**
    * Reads the encoded Int value and advances to the next element.
    *
    * @throws TlvParsingException if the element is not of the expected type or tag
    */
   fun getInt(tag: Tag): Int {
-    return checkRange(getLong(tag), Int.MIN_VALUE.toLong()..Int.MAX_VALUE.toLong()).toInt()
+    return checkRange(getLong(tag), Int.MIN_VALUE.toLong(), Int.MAX_VALUE.toLong()).toInt()
   }
 
   /**
@@ -152,7 +203,7 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @throws TlvParsingException if the element is not of the expected type or tag
    */
   fun getUInt(tag: Tag): UInt {
-    return checkRange(getULong(tag), UInt.MIN_VALUE.toULong()..UInt.MAX_VALUE.toULong()).toUInt()
+    return checkRange(getULong(tag), UInt.MIN_VALUE.toULong(), UInt.MAX_VALUE.toULong()).toUInt()
   }
 
   /**
@@ -161,7 +212,7 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @throws TlvParsingException if the element is not of the expected type or tag
    */
   fun getShort(tag: Tag): Short {
-    return checkRange(getLong(tag), Short.MIN_VALUE.toLong()..Short.MAX_VALUE.toLong()).toShort()
+    return checkRange(getLong(tag), Short.MIN_VALUE.toLong(), Short.MAX_VALUE.toLong()).toShort()
   }
 
   /**
@@ -170,7 +221,7 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @throws TlvParsingException if the element is not of the expected type or tag
    */
   fun getUShort(tag: Tag): UShort {
-    return checkRange(getULong(tag), UShort.MIN_VALUE.toULong()..UShort.MAX_VALUE.toULong())
+    return checkRange(getULong(tag), UShort.MIN_VALUE.toULong(), UShort.MAX_VALUE.toULong())
       .toUShort()
   }
 
@@ -180,7 +231,7 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @throws TlvParsingException if the element is not of the expected type or tag
    */
   fun getByte(tag: Tag): Byte {
-    return checkRange(getLong(tag), Byte.MIN_VALUE.toLong()..Byte.MAX_VALUE.toLong()).toByte()
+    return checkRange(getLong(tag), Byte.MIN_VALUE.toLong(), Byte.MAX_VALUE.toLong()).toByte()
   }
 
   /**
@@ -189,7 +240,7 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @throws TlvParsingException if the element is not of the expected type or tag
    */
   fun getUByte(tag: Tag): UByte {
-    return checkRange(getULong(tag), UByte.MIN_VALUE.toULong()..UByte.MAX_VALUE.toULong()).toUByte()
+    return checkRange(getULong(tag), UByte.MIN_VALUE.toULong(), UByte.MAX_VALUE.toULong()).toUByte()
   }
 
   /**
@@ -198,6 +249,10 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @throws TlvParsingException if the element is not of the expected type or tag
    */
   fun getBool(tag: Tag): Boolean {
+    val type = nextInPlace(tag) { it is BooleanType }
+    if (type != null) {
+      return (type as BooleanType).value
+    }
     val value = nextElement().verifyTagAndGetValue(tag)
     require(value is BooleanValue) {
       "Unexpected value $value at index $index (expected BooleanValue)"
@@ -211,6 +266,9 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @throws TlvParsingException if the element is not of the expected type or tag
    */
   fun getFloat(tag: Tag): Float {
+    if (nextInPlace(tag) { it is FloatType } != null) {
+      return intBitsToFloat(bytes.getLittleEndian(valueIndex, valueSize).toInt())
+    }
     val value = nextElement().verifyTagAndGetValue(tag)
     require(value is FloatValue) { "Unexpected value $value at index $index (expected FloatValue)" }
     return value.value
@@ -222,6 +280,9 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @throws TlvParsingException if the element is not of the expected type or tag
    */
   fun getDouble(tag: Tag): Double {
+    if (nextInPlace(tag) { it is DoubleType } != null) {
+      return longBitsToDouble(bytes.getLittleEndian(valueIndex, valueSize))
+    }
     val value = nextElement().verifyTagAndGetValue(tag)
     require(value is DoubleValue) {
       "Unexpected value $value at index $index (expected DoubleValue)"
@@ -235,6 +296,9 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @throws TlvParsingException if the element is not of the expected type or tag
    */
   fun getUtf8String(tag: Tag): String {
+    if (nextInPlace(tag) { it is Utf8StringType } != null) {
+      return readString(valueIndex, valueSize)
+    }
     val value = nextElement().verifyTagAndGetValue(tag)
     require(value is Utf8StringValue) {
       "Unexpected value $value at index $index (expected Utf8StringValue)"
@@ -248,6 +312,9 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @throws TlvParsingException if the element is not of the expected type or tag
    */
   fun getByteString(tag: Tag): ByteArray {
+    if (nextInPlace(tag) { it is ByteStringType } != null) {
+      return readBytes(valueIndex, valueSize)
+    }
     val value = nextElement().verifyTagAndGetValue(tag)
     require(value is ByteStringValue) {
       "Unexpected value $value at index $index (expected ByteStringValue)"
@@ -255,12 +322,31 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
     return value.value
   }
 
+  /**
+   * Reads the encoded Octet String value and advances to the next element. Unlike getByteString()
+   * this method doesn't copy the value, the returned read-only buffer shares the TLV data.
+   *
+   * @throws TlvParsingException if the element is not of the expected type or tag
+   */
+  fun getByteStringView(tag: Tag): ByteBuffer {
+    if (nextInPlace(tag) { it is ByteStringType } == null) {
+      return ByteBuffer.wrap(getByteString(tag)).asReadOnlyBuffer()
+    }
+    val view = bytes.asReadOnlyBuffer()
+    view.position(valueIndex)
+    view.limit(valueIndex + valueSize)
+    return view.slice()
+  }
+
   /**
    * Verifies that the current element is Null with expected tag and advances to the next element.
    *
    * @throws TlvParsingException if the element is not of the expected type or tag
    */
   fun getNull(tag: Tag) {
+    if (nextInPlace(tag) { it is NullType } != null) {
+      return
+    }
     val value = nextElement().verifyTagAndGetValue(tag)
     require(value is NullValue) { "Unexpected value $value at index $index (expected NullValue)" }
   }
@@ -301,8 +387,8 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @return True if the current element's value is NullValue, otherwise false.
    */
   fun isNull(): Boolean {
-    val value = peekElement().value
-    return (value is NullValue)
+    val type = readHeader() ?: return peekElement().value is NullValue
+    return (type is NullType)
   }
 
   /**
@@ -312,8 +398,8 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @return True if the next tag matches the provided tag, otherwise false.
    */
   fun isNextTag(tag: Tag): Boolean {
-    val nextTag = peekElement().tag
-    return (nextTag == tag)
+    readHeader() ?: return peekElement().tag == tag
+    return Tag.matches(tag, bytes.get(index), index + 1, bytes)
   }
 
   /**
@@ -322,6 +408,9 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @throws TlvParsingException if the element is not of the expected type or tag
    */
   fun enterStructure(tag: Tag) {
+    if (nextInPlace(tag) { it is StructureType } != null) {
+      return
+    }
     val value = nextElement().verifyTagAndGetValue(tag)
     require(value is StructureValue) {
       "Unexpected value $value at index $index (expected StructureValue)"
@@ -334,6 +423,9 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @throws TlvParsingException if the element is not of the expected type or tag
    */
   fun enterArray(tag: Tag) {
+    if (nextInPlace(tag) { it is ArrayType } != null) {
+      return
+    }
     val value = nextElement().verifyTagAndGetValue(tag)
     require(value is ArrayValue) { "Unexpected value $value at index $index (expected ArrayValue)" }
   }
@@ -344,6 +436,9 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @throws TlvParsingException if the element is not of the expected type or tag
    */
   fun enterList(tag: Tag) {
+    if (nextInPlace(tag) { it is ListType } != null) {
+      return
+    }
     val value = nextElement().verifyTagAndGetValue(tag)
     require(value is ListValue) { "Unexpected value $value at index $index (expected ListValue)" }
   }
@@ -359,10 +454,10 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
   fun exitContainer() {
     var relevantDepth = 1
     while (relevantDepth > 0) {
-      val value = nextElement().value
-      if (value is EndOfContainerValue) {
+      val type = skipInPlace()
+      if (type is EndOfContainerType) {
         relevantDepth--
-      } else if (value is StructureValue || value is ArrayValue || value is ListValue) {
+      } else if (type is StructureType || type is ArrayType || type is ListType) {
         relevantDepth++
       }
     }
@@ -381,7 +476,7 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
    * @throws TlvParsingException if the TLV data was invalid
    */
   fun skipElement() {
-    nextElement()
+    skipInPlace()
   }
 
   /** Returns the total number of bytes read since the TlvReader was initialized. */
@@ -391,19 +486,19 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
 
   /** Returns the total number of bytes that can be read until the end of TLV data is reached. */
   fun getRemainingLength(): Int {
-    return bytes.size - index
+    return size - index
   }
 
   /** Returns true if TlvReader is positioned at the end of container. */
   fun isEndOfContainer(): Boolean {
     // Ensure that at least one byte for control data is available for reading.
     checkSize("controlByte", 1)
-    return bytes[index] == EndOfContainerType.encode()
+    return bytes.get(index) == EndOfContainerType.encode()
   }
 
   /** Returns true if TlvReader reached the end of Tlv data. Returns false otherwise. */
   fun isEndOfTlv(): Boolean {
-    return bytes.size == index
+    return size == index
   }
 
   /** Resets the reader to the start of the provided byte array. */
@@ -414,7 +509,7 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
   override fun iterator(): Iterator<Element> {
     return object : AbstractIterator<Element>() {
       override fun computeNext() {
-        if (index < bytes.size) {
+        if (index < size) {
           setNext(nextElement())
         } else {
           done()
@@ -424,20 +519,94 @@ class TlvReader(bytes: ByteArray) : Iterable<Element> {
   }
 
   private fun checkSize(propertyName: String, size: Number) {
-    if (index + size.toInt() > bytes.size) {
+    if (index + size.toInt() > this.size) {
       throw TlvParsingException(
-        "Invalid $propertyName length $size at index $index with ${bytes.size - index} available."
+        "Invalid $propertyName length $size at index $index with ${this.size - index} available."
       )
     }
   }
 
-  private fun <T : Comparable<T>> checkRange(
-    value: T,
-    range: ClosedRange<T>,
-    message: String = "Value $value at index $index is out of range $range"
-  ): T {
-    if (value !in range) {
-      throw TlvParsingException(message)
+  /**
+   * Decodes the control byte, tag and length of the element at the current position in place and
+   * records the location of its value in [valueIndex] and [valueSize]. The reader is not advanced.
+   *
+   * @return the element type, or null if the element is malformed, in which case callers fall back
+   *   to [nextElement] to report the error
+   */
+  private fun readHeader(): Type? {
+    if (index >= size) {
+      return null
+    }
+    val controlByte = bytes.get(index)
+    val type = Type.fromOrNull(controlByte) ?: return null
+    var cursor = index + 1 + Tag.sizeOf(controlByte)
+    var length = type.valueSize.toInt()
+    if (type.lengthSize > 0) {
+      val lengthSize = type.lengthSize.toInt()
+      if (lengthSize > Int.SIZE_BYTES || cursor + lengthSize > size) {
+        return null
+      }
+      length = bytes.getLittleEndian(cursor, lengthSize).toInt()
+      cursor += lengthSize
+    }
+    if (length < 0 || cursor + length > size) {
+      return null
+    }
+    valueIndex = cursor
+    valueSize = length
+    return type
+  }
+
+  /**
+   * Advances past the next element if it has the expected tag and type, without materializing it.
+   *
+   * @return the element type, or null if the element doesn't match and the reader wasn't advanced
+   */
+  private inline fun nextInPlace(tag: Tag, isExpectedType: (Type) -> Boolean): Type? {
+    val type = readHeader() ?: return null
+    if (!isExpectedType(type) || !Tag.matches(tag, bytes.get(index), index + 1, bytes)) {
+      return null
+    }
+    index = valueIndex + valueSize
+    return type
+  }
+
+  /** Advances past the next element without materializing it and returns its type. */
+  private fun skipInPlace(): Type {
+    val type = readHeader() ?: return nextElement().value.toType()
+    index = valueIndex + valueSize
+    return type
+  }
+
+  private fun readString(at: Int, length: Int): String {
+    if (bytes.hasArray()) {
+      return String(bytes.array(), bytes.arrayOffset() + at, length, Charsets.UTF_8)
+    }
+    return String(readBytes(at, length), Charsets.UTF_8)
+  }
+
+  private fun readBytes(at: Int, length: Int): ByteArray {
+    val value = ByteArray(length)
+    if (bytes.hasArray()) {
+      System.arraycopy(bytes.array(), bytes.arrayOffset() + at, value, 0, length)
+    } else {
+      val view = bytes.duplicate()
+      view.position(at)
+      view.get(value)
+    }
+    return value
+  }
+
+  private fun checkRange(value: Long, min: Long, max: Long): Long {
+    if (value < min || value > max) {
+      throw TlvParsingException("Value $value at index $index is out of range $min..$max")
+    }
+    return value
+  }
+
+  private fun checkRange(value: ULong, min: ULong, max: ULong): ULong {
+    if (value < min || value > max) {
+      throw TlvParsingException("Value $value at index $index is out of range $min..$max")
     }
     return value
   }
@@ -18,75 +18,113 @@
 
 package matter.tlv
 
-import java.io.ByteArrayOutputStream
+import java.lang.Double.doubleToLongBits
+import java.lang.Float.floatToIntBits
+import java.nio.ByteBuffer
 
 /**
  * Implements Matter TLV writer that supports all values and tags as defined in the Spec.
  *
- * @param bytes the bytes to interpret
+ * Elements are encoded directly into a byte buffer, which is either owned by the writer and grown
+ * as needed, or supplied by the caller. The buffer is kept across [reset] calls so that a writer
+ * can be reused to encode many payloads without further allocations.
  */
-class TlvWriter(initialCapacity: Int = 32) {
-  private val bytes = ByteArrayOutputStream(/* size= */ initialCapacity)
+class TlvWriter
+private constructor(private var bytes: ByteBuffer, private val isGrowable: Boolean) {
+  private val startPosition = bytes.position()
   private var containerDepth: Int = 0
-  private var containerType = Array<Type>(4) { NullType() }
+  private var containerType = Array<Type>(4) { NullType }
+
+  /**
+   * Creates a writer that encodes into its own buffer.
+   *
+   * @param initialCapacity the initial size of the buffer, which grows as elements are written
+   */
+  @JvmOverloads
+  constructor(
+    initialCapacity: Int = 32
+  ) : this(ByteBuffer.allocate(initialCapacity), isGrowable = true)
+
+  /**
+   * Creates a writer that encodes into the given buffer, starting at its current position and
+   * advancing it as elements are written. The buffer is never reallocated.
+   *
+   * @param buffer the buffer to write to
+   * @throws TlvEncodingException if an element doesn't fit before the limit of the buffer
+   */
+  constructor(buffer: ByteBuffer) : this(buffer, isGrowable = false)
 
   /**
    * Writes the next element to the TLV.
    *
    * @throws TlvEncodingException if the data was invalid
    */
-  private fun put(element: Element): TlvWriter {
-    val value = element.value
-    val tag = element.tag
-    val type = value.toType()
-    val encodedType = type.encode()
+  private fun put(tag: Tag, value: Value): TlvWriter {
+    return when (value) {
+      is IntValue -> put(tag, value.value)
+      is UnsignedIntValue -> putUnsignedInt(tag, value.value)
+      is BooleanValue -> put(tag, value.value)
+      is FloatValue -> put(tag, value.value)
+      is DoubleValue -> put(tag, value.value)
+      is Utf8StringValue -> put(tag, value.value)
+      is ByteStringValue -> put(tag, value.value)
+      is NullValue -> putNull(tag)
+      is StructureValue -> startStructure(tag)
+      is ArrayValue -> startArray(tag)
+      is ListValue -> startList(tag)
+      is EndOfContainerValue -> putControlAndTag(tag, EndOfContainerType, 0)
+    }
+  }
 
+  /**
+   * Validates that an element of the given type and tag can be written at the current position,
+   * then writes its control byte and tag and ensures that [valueSize] more bytes can be written for
+   * its length and value.
+   *
+   * @throws TlvEncodingException if the element doesn't fit in the buffer
+   */
+  private fun putControlAndTag(tag: Tag, type: Type, valueSize: Int): TlvWriter {
     if (containerDepth == 0) {
       require(tag !is ContextSpecificTag) {
-        "Invalid use of context tag at index ${bytes.size()}: can only be used within a " +
+        "Invalid use of context tag at index ${getLengthWritten()}: can only be used within a " +
           "structure or a list"
       }
     } else if (containerType[containerDepth - 1] is ArrayType) {
       require(tag is AnonymousTag) {
-        "Invalid element tag at index ${bytes.size()}: elements of an array SHALL be anonymous"
+        "Invalid element tag at index ${getLengthWritten()}: elements of an array SHALL be " +
+          "anonymous"
       }
     } else if (containerType[containerDepth - 1] is StructureType && type !is EndOfContainerType) {
       require(tag !is AnonymousTag) {
-        "Invalid element tag at index ${bytes.size()}: elements of a structure cannot be anonymous"
+        "Invalid element tag at index ${getLengthWritten()}: elements of a structure cannot be " +
+          "anonymous"
       }
     }
 
     if (tag is ContextSpecificTag) {
       require(tag.tagNumber.toUInt() <= UByte.MAX_VALUE) {
-        "Invalid context specific tag " + "value ${tag.tagNumber} at index ${bytes.size()}"
+        "Invalid context specific tag " + "value ${tag.tagNumber} at index ${getLengthWritten()}"
       }
     }
 
     // Update depth if the element is an end of container
-    if (value is EndOfContainerValue) {
+    if (type is EndOfContainerType) {
       require(containerDepth > 0) {
-        "Cannot close container at index ${bytes.size()}, which is not in the open container."
+        "Cannot close container at index ${getLengthWritten()}, which is not in the open " +
+          "container."
       }
+    }
+
+    ensureRemaining(1 + tag.size + valueSize)
+    if (type is EndOfContainerType) {
       containerDepth--
     }
 
     // Encode control byte and tag
-    val encodedControlAndTag: ByteArray =
-      runCatching { Tag.encode(encodedType, tag) }
-        .onFailure {
-          throw TlvEncodingException(
-            "Type error at ${bytes.size()} for ${encodedType.toBinary()}",
-            it
-          )
-        }
-        .getOrThrow()
-    bytes.write(encodedControlAndTag)
-
-    // Encode length and the value
-    bytes.write(value.encode())
+    Tag.encode(type.encode(), tag, bytes)
 
     // Update depth if the element is a start of container
-    if (value is StructureValue || value is ArrayValue || value is ListValue) {
+    if (type is StructureType || type is ArrayType || type is ListType) {
       if (containerType.size == containerDepth) {
         containerType = containerType.plus(type)
       } else {
@@ -98,13 +136,43 @@ class TlvWriter(initialCapacity: Int = 32) {
     return this
   }
 
+  private fun putSignedInt(tag: Tag, value: Long): TlvWriter {
+    val valueSize = signedIntSize(value)
+    putControlAndTag(tag, Type.signedInt(valueSize), valueSize.toInt())
+    bytes.putLittleEndian(value, valueSize.toInt())
+    return this
+  }
+
+  private fun putUnsignedInt(tag: Tag, value: Long): TlvWriter {
+    val valueSize = unsignedIntSize(value.toULong())
+    putControlAndTag(tag, Type.unsignedInt(valueSize), valueSize.toInt())
+    bytes.putLittleEndian(value, valueSize.toInt())
+    return this
+  }
+
+  private fun ensureRemaining(size: Int) {
+    if (bytes.remaining() >= size) {
+      return
+    }
+    if (!isGrowable) {
+      throw TlvEncodingException(
+        "Buffer full at index ${getLengthWritten()}: $size bytes needed with " +
+          "${bytes.remaining()} available"
+      )
+    }
+    val grown = ByteBuffer.allocate(maxOf(bytes.capacity() * 2, bytes.position() + size))
+    bytes.flip()
+    grown.put(bytes)
+    bytes = grown
+  }
+
   /**
    * Writes the next Long element to the TLV.
    *
    * @throws TlvEncodingException if the data was invalid
    */
   fun put(tag: Tag, value: Long): TlvWriter {
-    return put(Element(tag, IntValue(value)))
+    return putSignedInt(tag, value)
   }
 
   /**
@@ -113,7 +181,7 @@ class TlvWriter(initialCapacity: Int = 32) {
    * @throws TlvEncodingException if the data was invalid
    */
   fun put(tag: Tag, value: ULong): TlvWriter {
-    return put(Element(tag, UnsignedIntValue(value.toLong())))
+    return putUnsignedInt(tag, value.toLong())
   }
 
   /**
@@ -125,7 +193,7 @@ class TlvWriter(initialCapacity: Int = 32) {
    * @throws TlvEncodingException if the data was invalid
    */
   fun putUnsigned(tag: Tag, value: Number): TlvWriter {
-    return put(Element(tag, UnsignedIntValue(value.toLong())))
+    return putUnsignedInt(tag, value.toLong())
   }
 
   /**
@@ -134,7 +202,7 @@ class TlvWriter(initialCapacity: Int = 32) {
    * @throws TlvEncodingException if the data was invalid
    */
   fun put(tag: Tag, value: Int): TlvWriter {
-    return put(Element(tag, IntValue(value.toLong())))
+    return putSignedInt(tag, value.toLong())
   }
 
   /**
@@ -143,7 +211,7 @@ class TlvWriter(initialCapacity: Int = 32) {
    * @throws TlvEncodingException if the data was invalid
    */
   fun put(tag: Tag, value: UInt): TlvWriter {
-    return put(Element(tag, UnsignedIntValue(value.toLong())))
+    return putUnsignedInt(tag, value.toLong())
   }
 
   /**
@@ -152,7 +220,7 @@ class TlvWriter(initialCapacity: Int = 32) {
    * @throws TlvEncodingException if the data was invalid
    */
   fun put(tag: Tag, value: Short): TlvWriter {
-    return put(Element(tag, IntValue(value.toLong())))
+    return putSignedInt(tag, value.toLong())
   }
 
   /**
@@ -161,7 +229,7 @@ class TlvWriter(initialCapacity: Int = 32) {
    * @throws TlvEncodingException if the data was invalid
    */
   fun put(tag: Tag, value: UShort): TlvWriter {
-    return put(Element(tag, UnsignedIntValue(value.toLong())))
+    return putUnsignedInt(tag, value.toLong())
   }
 
   /**
@@ -170,7 +238,7 @@ class TlvWriter(initialCapacity: Int = 32) {
    * @throws TlvEncodingException if the data was invalid
    */
   fun put(tag: Tag, value: Byte): TlvWriter {
-    return put(Element(tag, IntValue(value.toLong())))
+    return putSignedInt(tag, value.toLong())
   }
 
   /**
@@ -179,7 +247,7 @@ class TlvWriter(initialCapacity: Int = 32) {
    * @throws TlvEncodingException if the data was invalid
    */
   fun put(tag: Tag, value: UByte): TlvWriter {
-    return put(Element(tag, UnsignedIntValue(value.toLong())))
+    return putUnsignedInt(tag, value.toLong())
   }
 
   /**
@@ -188,7 +256,7 @@ class TlvWriter(initialCapacity: Int = 32) {
    * @throws TlvEncodingException if the data was invalid
    */
   fun put(tag: Tag, value: Boolean): TlvWriter {
-    return put(Element(tag, BooleanValue(value)))
+    return putControlAndTag(tag, Type.boolean(value), 0)
   }
 
   /**
@@ -197,7 +265,9 @@ class TlvWriter(initialCapacity: Int = 32) {
    * @throws TlvEncodingException if the data was invalid
    */
   fun put(tag: Tag, value: Float): TlvWriter {
-    return put(Element(tag, FloatValue(value)))
+    putControlAndTag(tag, FloatType, Float.SIZE_BYTES)
+    bytes.putLittleEndian(floatToIntBits(value).toLong(), Float.SIZE_BYTES)
+    return this
   }
 
   /**
@@ -206,7 +276,9 @@ class TlvWriter(initialCapacity: Int = 32) {
    * @throws TlvEncodingException if the data was invalid
    */
   fun put(tag: Tag, value: Double): TlvWriter {
-    return put(Element(tag, DoubleValue(value)))
+    putControlAndTag(tag, DoubleType, Double.SIZE_BYTES)
+    bytes.putLittleEndian(doubleToLongBits(value), Double.SIZE_BYTES)
+    return this
   }
 
   /**
@@ -215,7 +287,12 @@ class TlvWriter(initialCapacity: Int = 32) {
    * @throws TlvEncodingException if the data was invalid
    */
   fun put(tag: Tag, value: String): TlvWriter {
-    return put(Element(tag, Utf8StringValue(value)))
+    val length = value.utf8Length()
+    val lengthSize = unsignedIntSize(length.toULong())
+    putControlAndTag(tag, Type.utf8String(lengthSize), lengthSize + length)
+    bytes.putLittleEndian(length.toLong(), lengthSize.toInt())
+    bytes.putUtf8(value)
+    return this
   }
 
   /**
@@ -224,7 +301,11 @@ class TlvWriter(initialCapacity: Int = 32) {
    * @throws TlvEncodingException if the data was invalid
    */
   fun put(tag: Tag, value: ByteArray): TlvWriter {
-    return put(Element(tag, ByteStringValue(value)))
+    val lengthSize = unsignedIntSize(value.size.toULong())
+    putControlAndTag(tag, Type.byteString(lengthSize), lengthSize + value.size)
+    bytes.putLittleEndian(value.size.toLong(), lengthSize.toInt())
+    bytes.put(value)
+    return this
   }
 
   /**
@@ -272,7 +353,7 @@ class TlvWriter(initialCapacity: Int = 32) {
    * @throws TlvEncodingException if the tag was invalid
    */
   fun putNull(tag: Tag): TlvWriter {
-    return put(Element(tag, NullValue))
+    return putControlAndTag(tag, NullType, 0)
   }
 
   /**
@@ -281,7 +362,7 @@ class TlvWriter(initialCapacity: Int = 32) {
    * @throws TlvEncodingException if the tag was invalid
    */
   fun startStructure(tag: Tag): TlvWriter {
-    return put(Element(tag, StructureValue))
+    return putControlAndTag(tag, StructureType, 0)
   }
 
   /**
@@ -290,7 +371,7 @@ class TlvWriter(initialCapacity: Int = 32) {
    * @throws TlvEncodingException if the tag was invalid
    */
   fun startArray(tag: Tag): TlvWriter {
-    return put(Element(tag, ArrayValue))
+    return putControlAndTag(tag, ArrayType, 0)
   }
 
   /**
@@ -299,32 +380,34 @@ class TlvWriter(initialCapacity: Int = 32) {
    * @throws TlvEncodingException if the tag was invalid
    */
   fun startList(tag: Tag): TlvWriter {
-    return put(Element(tag, ListValue))
+    return putControlAndTag(tag, ListType, 0)
   }
 
   /** Writes the End of Container element to the TLV. */
   fun endStructure(): TlvWriter {
     require((containerDepth > 0) && (containerType[containerDepth - 1] is StructureType)) {
-      "Error closing structure at index ${bytes.size()} as currently opened container is not " +
-        "a structure"
+      "Error closing structure at index ${getLengthWritten()} as currently opened container " +
+        "is not a structure"
     }
-    return put(Element(AnonymousTag, EndOfContainerValue))
+    return putControlAndTag(AnonymousTag, EndOfContainerType, 0)
   }
 
   /** Writes the End of Container element to the TLV. */
   fun endArray(): TlvWriter {
     require(containerDepth > 0 && containerType[containerDepth - 1] is ArrayType) {
-      "Error closing array at index ${bytes.size()} as currently opened container is not an array"
+      "Error closing array at index ${getLengthWritten()} as currently opened container " +
+        "is not an array"
     }
-    return put(Element(AnonymousTag, EndOfContainerValue))
+    return putControlAndTag(AnonymousTag, EndOfContainerType, 0)
   }
 
   /** Writes the End of Container element to the TLV. */
   fun endList(): TlvWriter {
     require(containerDepth > 0 && containerType[containerDepth - 1] is ListType) {
-      "Error closing list at index ${bytes.size()} as currently opened container is not a list"
+      "Error closing list at index ${getLengthWritten()} as currently opened container " +
+        "is not a list"
     }
-    return put(Element(AnonymousTag, EndOfContainerValue))
+    return putControlAndTag(AnonymousTag, EndOfContainerType, 0)
   }
 
   /**
@@ -369,9 +452,9 @@ class TlvWriter(initialCapacity: Int = 32) {
           require(value !is EndOfContainerValue) {
             "The TlvReader is positioned at invalid element: EndOfContainer"
           }
-          put(Element(tag, value))
+          put(tag, value)
         }
-        else -> put(element)
+        else -> put(element.tag, value)
       }
 
       if (value is EndOfContainerValue) {
@@ -385,7 +468,7 @@ class TlvWriter(initialCapacity: Int = 32) {
 
   /** Returns the total number of bytes written since the writer was initialized. */
   fun getLengthWritten(): Int {
-    return bytes.size()
+    return bytes.position() - startPosition
   }
 
   /** Verifies that all open containers are closed. */
@@ -398,14 +481,22 @@ class TlvWriter(initialCapacity: Int = 32) {
 
   /** Returns the TLV encoded data written since the writer was initialized. */
   fun getEncoded(): ByteArray {
-    return bytes.toByteArray()
+    val encoded = ByteArray(getLengthWritten())
+    val view = bytes.duplicate()
+    view.limit(bytes.position())
+    view.position(startPosition)
+    view.get(encoded)
+    return encoded
   }
 
-  /** Resets the writer state to empty byte array. */
+  /**
+   * Resets the writer state to empty byte array. The buffer is kept and reused by the next
+   * elements; a caller-supplied buffer is rewound to the position it had when the writer was
+   * created.
+   */
   fun reset() {
-    bytes.reset()
+    bytes.position(startPosition)
     containerDepth = 0
-    containerType = Array<Type>(4) { NullType() }
   }
 }
 
@@ -18,6 +18,7 @@
 
 package matter.tlv
 
+import java.nio.ByteBuffer
 import kotlin.experimental.and
 import kotlin.experimental.or
 
@@ -38,74 +39,129 @@ sealed class Tag {
 
   internal companion object {
     /**
-     * Parses a [Tag] from the given byte array using the control byte to determine the size of the
-     * tag.
+     * Parses a [Tag] from the given buffer using the control byte to determine the size of the tag.
      *
      * @param controlByte the control byte for the element whose tag is being parsed
-     * @param startIndex the index within [bytes] at which the tag data starts
+     * @param startIndex the absolute index within [bytes] at which the tag data starts
      * @param bytes the bytes of the TLV element
-     * @throws IllegalStateException if the byte array is too short to include the required tag data
+     * @throws IllegalStateException if the buffer is too short to include the required tag data
      */
-    fun from(controlByte: Byte, startIndex: Int, bytes: ByteArray): Tag {
+    fun from(controlByte: Byte, startIndex: Int, bytes: ByteBuffer): Tag {
       return when (controlByte and TAG_MASK) {
         ANONYMOUS -> AnonymousTag
         CONTEXT_SPECIFIC -> {
-          ContextSpecificTag(checkBytes(startIndex, 1, bytes).first().toUByte().toInt())
+          ContextSpecificTag(
+            checkBytes(startIndex, 1, bytes).getLittleEndian(startIndex, 1).toInt()
+          )
         }
         COMMON_PROFILE_2 -> {
           CommonProfileTag(
             size = 2,
-            tagNumber = checkBytes(startIndex, 2, bytes).fromLittleEndianToLong().toUInt()
+            tagNumber = checkBytes(startIndex, 2, bytes).getLittleEndian(startIndex, 2).toUInt()
           )
         }
         COMMON_PROFILE_4 -> {
           CommonProfileTag(
             size = 4,
-            tagNumber = checkBytes(startIndex, 4, bytes).fromLittleEndianToLong().toUInt()
+            tagNumber = checkBytes(startIndex, 4, bytes).getLittleEndian(startIndex, 4).toUInt()
           )
         }
         IMPLICIT_PROFILE_2 -> {
           ImplicitProfileTag(
             size = 2,
-            tagNumber = checkBytes(startIndex, 2, bytes).fromLittleEndianToLong().toUInt()
+            tagNumber = checkBytes(startIndex, 2, bytes).getLittleEndian(startIndex, 2).toUInt()
           )
         }
         IMPLICIT_PROFILE_4 -> {
           ImplicitProfileTag(
             size = 4,
-            tagNumber = checkBytes(startIndex, 4, bytes).fromLittleEndianToLong().toUInt()
+            tagNumber = checkBytes(startIndex, 4, bytes).getLittleEndian(startIndex, 4).toUInt()
           )
         }
         FULLY_QUALIFIED_6 -> {
+          checkBytes(startIndex, 6, bytes)
           FullyQualifiedTag(
             size = 6,
-            vendorId = checkBytes(startIndex, 2, bytes).fromLittleEndianToLong().toUShort(),
-            profileNumber =
-              checkBytes(startIndex + 2, 2, bytes).fromLittleEndianToLong().toUShort(),
-            tagNumber = checkBytes(startIndex + 4, 2, bytes).fromLittleEndianToLong().toUInt()
+            vendorId = bytes.getLittleEndian(startIndex, 2).toUShort(),
+            profileNumber = bytes.getLittleEndian(startIndex + 2, 2).toUShort(),
+            tagNumber = bytes.getLittleEndian(startIndex + 4, 2).toUInt()
           )
         }
         FULLY_QUALIFIED_8 -> {
+          checkBytes(startIndex, 8, bytes)
           FullyQualifiedTag(
             size = 8,
-            vendorId = checkBytes(startIndex, 2, bytes).fromLittleEndianToLong().toUShort(),
-            profileNumber =
-              checkBytes(startIndex + 2, 2, bytes).fromLittleEndianToLong().toUShort(),
-            tagNumber = checkBytes(startIndex + 4, 4, bytes).fromLittleEndianToLong().toUInt()
+            vendorId = bytes.getLittleEndian(startIndex, 2).toUShort(),
+            profileNumber = bytes.getLittleEndian(startIndex + 2, 2).toUShort(),
+            tagNumber = bytes.getLittleEndian(startIndex + 4, 4).toUInt()
           )
         }
         else -> throw IllegalArgumentException("Invalid control byte $controlByte")
       }
     }
 
+    /** Returns the number of tag bytes that follow the given control byte. */
+    fun sizeOf(controlByte: Byte): Int {
+      return when (controlByte and TAG_MASK) {
+        ANONYMOUS -> 0
+        CONTEXT_SPECIFIC -> 1
+        COMMON_PROFILE_2,
+        IMPLICIT_PROFILE_2 -> 2
+        COMMON_PROFILE_4,
+        IMPLICIT_PROFILE_4 -> 4
+        FULLY_QUALIFIED_6 -> 6
+        else -> 8
+      }
+    }
+
     /**
-     * Encode control byte and a tag as a TLV byte array from a [Tag] object.
+     * Checks whether the tag encoded at [startIndex] is equal to [tag] without allocating a new
+     * [Tag] object.
+     *
+     * @param tag the expected tag
+     * @param controlByte the control byte for the element whose tag is being compared
+     * @param startIndex the absolute index within [bytes] at which the tag data starts
+     * @param bytes the bytes of the TLV element
+     * @return false if the tags differ or if the buffer is too short to include the tag data
+     */
+    fun matches(tag: Tag, controlByte: Byte, startIndex: Int, bytes: ByteBuffer): Boolean {
+      if (tag.size != sizeOf(controlByte) || startIndex + tag.size > bytes.limit()) {
+        return false
+      }
+      return when (controlByte and TAG_MASK) {
+        ANONYMOUS -> tag is AnonymousTag
+        CONTEXT_SPECIFIC ->
+          tag is ContextSpecificTag && tag.tagNumber == bytes.getLittleEndian(startIndex, 1).toInt()
+        COMMON_PROFILE_2,
+        COMMON_PROFILE_4 ->
+          tag is CommonProfileTag &&
+            tag.tagNumber == bytes.getLittleEndian(startIndex, tag.size).toUInt()
+        IMPLICIT_PROFILE_2,
+        IMPLICIT_PROFILE_4 ->
+          tag is ImplicitProfileTag &&
+            tag.tagNumber == bytes.getLittleEndian(startIndex, tag.size).toUInt()
+        else ->
+          tag is FullyQualifiedTag &&
+            tag.vendorId == bytes.getLittleEndian(startIndex, 2).toUShort() &&
+            tag.profileNumber == bytes.getLittleEndian(startIndex + 2, 2).toUShort() &&
+            tag.tagNumber == bytes.getLittleEndian(startIndex + 4, tag.size - 4).toUInt()
+      }
+    }
+
+    /**
+     * Encodes control byte and a tag of a TLV element at the current position of the buffer.
      *
      * @param encodedType the partially encoded control byte with element type information
      * @param tag the tag of the encoded element
-     * @throws IllegalStateException if the byte array is too short to include the required tag data
+     * @param bytes the buffer to write to, with at least 1 + [Tag.size] bytes remaining
      */
-    fun encode(encodedType: Byte, tag: Tag): ByteArray {
+    fun encode(encodedType: Byte, tag: Tag, bytes: ByteBuffer) {
+      if (tag is ContextSpecificTag) {
+        require(tag.tagNumber.toUInt() <= UByte.MAX_VALUE) {
+          "Invalid tag value ${tag.tagNumber} for context specific tag"
+        }
+      }
+
       // Encode control byte
       val controlByte =
         encodedType or
@@ -116,37 +172,34 @@ sealed class Tag {
             is ImplicitProfileTag -> if (tag.size == 2) IMPLICIT_PROFILE_2 else IMPLICIT_PROFILE_4
             is FullyQualifiedTag -> if (tag.size == 6) FULLY_QUALIFIED_6 else FULLY_QUALIFIED_8
           }
+      bytes.put(controlByte)
 
       // Encode tag
-      val encodedTag =
-        when (tag) {
-          is AnonymousTag -> byteArrayOf()
-          is ContextSpecificTag -> {
-            require(tag.tagNumber.toUInt() <= UByte.MAX_VALUE) {
-              "Invalid tag value ${tag.tagNumber} for context specific tag"
-            }
-            byteArrayOf(tag.tagNumber.toByte())
-          }
-          is CommonProfileTag -> tag.tagNumber.toByteArrayLittleEndian(tag.size.toShort())
-          is ImplicitProfileTag -> tag.tagNumber.toByteArrayLittleEndian(tag.size.toShort())
-          is FullyQualifiedTag -> {
-            tag.vendorId.toByteArrayLittleEndian(2) +
-              tag.profileNumber.toByteArrayLittleEndian(2) +
-              tag.tagNumber.toByteArrayLittleEndian((tag.size - 4).toShort())
-          }
+      when (tag) {
+        is AnonymousTag -> {}
+        is ContextSpecificTag -> bytes.put(tag.tagNumber.toByte())
+        is CommonProfileTag -> bytes.putLittleEndian(tag.tagNumber.toLong(), tag.size)
+        is ImplicitProfileTag -> bytes.putLittleEndian(tag.tagNumber.toLong(), tag.size)
+        is FullyQualifiedTag -> {
+          bytes.putLittleEndian(tag.vendorId.toLong(), 2)
+          bytes.putLittleEndian(tag.profileNumber.toLong(), 2)
+          bytes.putLittleEndian(tag.tagNumber.toLong(), tag.size - 4)
         }
-
-      return byteArrayOf(controlByte) + encodedTag
+      }
     }
 
-    private fun checkBytes(startIndex: Int, expectedBytes: Int, actualBytes: ByteArray): ByteArray {
-      val remaining = actualBytes.size - startIndex
+    private fun checkBytes(
+      startIndex: Int,
+      expectedBytes: Int,
+      actualBytes: ByteBuffer
+    ): ByteBuffer {
+      val remaining = actualBytes.limit() - startIndex
       if (expectedBytes > remaining) {
         throw IllegalStateException(
           "Invalid tag: Expected $expectedBytes but only $remaining bytes available at $startIndex"
         )
       }
-      return actualBytes.sliceArray(startIndex until startIndex + expectedBytes)
+      return actualBytes
     }
   }
 }
@@ -47,8 +47,39 @@ internal sealed class Type(val lengthSize: Short, val valueSize: Short) {
   abstract fun encode(): Byte
 
   internal companion object {
+    /**
+     * Element types indexed by control byte. [Type] instances are immutable, so they are decoded
+     * once and shared between all elements; null entries are invalid control bytes.
+     */
+    private val typesByControlByte: Array<Type?> =
+      Array(256) { runCatching { decode(it.toByte()) }.getOrNull() }
+
     /** Returns the element type encoded by the given control byte. */
     fun from(controlByte: Byte): Type {
+      return typesByControlByte[controlByte.toInt() and 0xFF] ?: decode(controlByte)
+    }
+
+    /** Returns the element type encoded by the given control byte, or null if it is invalid. */
+    fun fromOrNull(controlByte: Byte): Type? {
+      return typesByControlByte[controlByte.toInt() and 0xFF]
+    }
+
+    /** Returns the shared type of signed integers encoded in [valueSize] bytes. */
+    fun signedInt(valueSize: Short): Type = from(SIGNED_INT_TYPE or encodeSize(valueSize))
+
+    /** Returns the shared type of unsigned integers encoded in [valueSize] bytes. */
+    fun unsignedInt(valueSize: Short): Type = from(UNSIGNED_INT_TYPE or encodeSize(valueSize))
+
+    /** Returns the shared type of UTF-8 strings whose length is encoded in [lengthSize] bytes. */
+    fun utf8String(lengthSize: Short): Type = from(UTF8_STRING_TYPE or encodeSize(lengthSize))
+
+    /** Returns the shared type of octet strings whose length is encoded in [lengthSize] bytes. */
+    fun byteString(lengthSize: Short): Type = from(BYTE_STRING_TYPE or encodeSize(lengthSize))
+
+    /** Returns the shared type of the given boolean value. */
+    fun boolean(value: Boolean): Type = from(if (value) BOOLEAN_TRUE else BOOLEAN_FALSE)
+
+    private fun decode(controlByte: Byte): Type {
       // Integer and string types encode the length in the lower two bits. For these types,
       // ignore the lower 2 bits for matching, and extract that size later.
       val modifiedControlByte =
@@ -67,12 +98,12 @@ internal sealed class Type(val lengthSize: Short, val valueSize: Short) {
         BYTE_STRING_TYPE -> ByteStringType(extractSize(controlByte))
         BOOLEAN_FALSE -> BooleanType(false)
         BOOLEAN_TRUE -> BooleanType(true)
-        FLOATING_POINT_4 -> FloatType()
-        FLOATING_POINT_8 -> DoubleType()
-        NULL -> NullType()
-        STRUCTURE -> StructureType()
-        ARRAY -> ArrayType()
-        LIST -> ListType()
+        FLOATING_POINT_4 -> FloatType
+        FLOATING_POINT_8 -> DoubleType
+        NULL -> NullType
+        STRUCTURE -> StructureType
+        ARRAY -> ArrayType
+        LIST -> ListType
         END_OF_CONTAINER -> EndOfContainerType
         else ->
           throw IllegalStateException(
@@ -122,12 +153,12 @@ internal class BooleanType(val value: Boolean) : Type(0, 0) {
 }
 
 /** Represents a floating-point float value. */
-internal class FloatType : Type(0, 4) {
+internal object FloatType : Type(0, 4) {
   override fun encode() = FLOATING_POINT_4
 }
 
 /** Represents a floating-point double value. */
-internal class DoubleType : Type(0, 8) {
+internal object DoubleType : Type(0, 8) {
   override fun encode() = FLOATING_POINT_8
 }
 
@@ -142,22 +173,22 @@ internal class ByteStringType(lengthSize: Short) : Type(lengthSize, 0) {
 }
 
 /** Represents a null value. */
-internal class NullType : Type(0, 0) {
+internal object NullType : Type(0, 0) {
   override fun encode() = NULL
 }
 
 /** Represents a structure container type. */
-internal class StructureType : Type(0, 0) {
+internal object StructureType : Type(0, 0) {
   override fun encode() = STRUCTURE
 }
 
 /** Represents an array container type. */
-internal class ArrayType : Type(0, 0) {
+internal object ArrayType : Type(0, 0) {
   override fun encode() = ARRAY
 }
 
 /** Represents a list container type. */
-internal class ListType : Type(0, 0) {
+internal object ListType : Type(0, 0) {
   override fun encode() = LIST
 }
 
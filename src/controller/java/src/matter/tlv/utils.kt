@@ -18,30 +18,85 @@
 
 package matter.tlv
 
-/** Converts bytes in a Little Endian format into Long integer. */
-internal fun ByteArray.fromLittleEndianToLong(isSigned: Boolean = false): Long =
-  foldRightIndexed(0) { i, value, acc ->
-    (acc shl 8) or (if (i == lastIndex && isSigned) value.toLong() else (value.toLong() and 0xFF))
-  }
-
-/** Converts Number into a byte array in a Little Endian format. */
-internal fun Number.toByteArrayLittleEndian(numBytes: Short): ByteArray =
-  toLong().toLittleEndianBytes(numBytes)
+import java.nio.ByteBuffer
 
-internal fun UByte.toByteArrayLittleEndian(numBytes: Short): ByteArray =
-  toLong().toLittleEndianBytes(numBytes)
-
-internal fun UShort.toByteArrayLittleEndian(numBytes: Short): ByteArray =
-  toLong().toLittleEndianBytes(numBytes)
+/**
+ * Converts bytes in a Little Endian format stored at the absolute [index] of the buffer into Long
+ * integer, without changing the buffer's position.
+ */
+internal fun ByteBuffer.getLittleEndian(index: Int, size: Int, isSigned: Boolean = false): Long {
+  var value = 0L
+  for (i in size - 1 downTo 0) {
+    val byte = get(index + i).toLong()
+    value = (value shl 8) or (if (i == size - 1 && isSigned) byte else (byte and 0xFF))
+  }
+  return value
+}
 
-internal fun UInt.toByteArrayLittleEndian(numBytes: Short): ByteArray =
-  toLong().toLittleEndianBytes(numBytes)
+/**
+ * Writes the [size] low-order bytes of the value in a Little Endian format at the current position
+ * of the buffer.
+ */
+internal fun ByteBuffer.putLittleEndian(value: Long, size: Int) {
+  for (i in 0 until size) {
+    put((value shr (8 * i)).toByte())
+  }
+}
 
-internal fun ULong.toByteArrayLittleEndian(numBytes: Short): ByteArray =
-  toLong().toLittleEndianBytes(numBytes)
+/** Returns the number of bytes in the UTF-8 encoding of the string, as [String.toByteArray]. */
+internal fun String.utf8Length(): Int {
+  var length = 0
+  var i = 0
+  while (i < this.length) {
+    val c = this[i]
+    length +=
+      when {
+        c.code < 0x80 -> 1
+        c.code < 0x800 -> 2
+        c.isHighSurrogate() && i + 1 < this.length && this[i + 1].isLowSurrogate() -> {
+          i++
+          4
+        }
+        c.isSurrogate() -> 1
+        else -> 3
+      }
+    i++
+  }
+  return length
+}
 
-private fun Long.toLittleEndianBytes(numBytes: Short) =
-  ByteArray(numBytes.toInt()) { i -> (this shr (8 * i)).toByte() }
+/**
+ * Writes the UTF-8 encoding of [value] at the current position of the buffer. Like
+ * [String.toByteArray], unpaired surrogates are replaced with '?'.
+ */
+internal fun ByteBuffer.putUtf8(value: String) {
+  var i = 0
+  while (i < value.length) {
+    val c = value[i]
+    val code = c.code
+    when {
+      code < 0x80 -> put(code.toByte())
+      code < 0x800 -> {
+        put((0xC0 or (code shr 6)).toByte())
+        put((0x80 or (code and 0x3F)).toByte())
+      }
+      c.isHighSurrogate() && i + 1 < value.length && value[i + 1].isLowSurrogate() -> {
+        val codePoint = Character.toCodePoint(c, value[++i])
+        put((0xF0 or (codePoint shr 18)).toByte())
+        put((0x80 or ((codePoint shr 12) and 0x3F)).toByte())
+        put((0x80 or ((codePoint shr 6) and 0x3F)).toByte())
+        put((0x80 or (codePoint and 0x3F)).toByte())
+      }
+      c.isSurrogate() -> put('?'.code.toByte())
+      else -> {
+        put((0xE0 or (code shr 12)).toByte())
+        put((0x80 or ((code shr 6) and 0x3F)).toByte())
+        put((0x80 or (code and 0x3F)).toByte())
+      }
+    }
+    i++
+  }
+}
 
 internal fun signedIntSize(value: Long): Short {
   return when (value) {
@@ -0,0 +1,110 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package chip.clusterinfo
+
+import chip.devicecontroller.ClusterInfoMapping
+import com.google.common.truth.Truth.assertThat
+import org.junit.Assert.assertThrows
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+@RunWith(JUnit4::class)
+class ClusterInfoTest {
+  @Test
+  fun combineCommands_onDemandCommands_keepsExistingAndAddsNew() {
+    var supplied = 0
+    val clusterInfo =
+      ClusterInfo({ _, _ -> null }) {
+        supplied++
+        mapOf("existing" to interactionInfo())
+      }
+    val added = interactionInfo()
+
+    clusterInfo.combineCommands(mapOf("added" to added))
+
+    assertThat(clusterInfo.commands.keys).containsExactly("existing", "added")
+    assertThat(clusterInfo.commands["added"]).isSameInstanceAs(added)
+    assertThat(supplied).isEqualTo(1)
+  }
+
+  @Test
+  fun combineCommands_onDemandCommands_staysUnmodifiable() {
+    val clusterInfo = ClusterInfo({ _, _ -> null }) { mapOf("existing" to interactionInfo()) }
+
+    clusterInfo.combineCommands(mapOf("added" to interactionInfo()))
+
+    assertThrows(UnsupportedOperationException::class.java) {
+      clusterInfo.commands["other"] = interactionInfo()
+    }
+  }
+
+  @Test
+  fun combineCommands_givenCommands_addsToMap() {
+    val commands = HashMap<String, InteractionInfo>()
+    val clusterInfo = ClusterInfo({ _, _ -> null }, commands)
+
+    clusterInfo.combineCommands(mapOf("added" to interactionInfo()))
+
+    assertThat(commands.keys).containsExactly("added")
+    assertThat(clusterInfo.commands).isSameInstanceAs(commands)
+  }
+
+  @Test
+  fun combineCommand_initializedClusterMap_addsCommandMap() {
+    val mapping = ClusterInfoMapping()
+    val destination = mapping.initializeClusterMap()
+
+    mapping.combineCommand(destination, mapping.commandMap)
+
+    assertThat(destination.getValue("onOff").commands.keys)
+      .containsExactlyElementsIn(mapping.commandMap.getValue("onOff").keys)
+  }
+
+  @Test
+  fun combineCommand_clusterMap_changesOnlyItsOwnMap() {
+    val mapping = ClusterInfoMapping()
+    val destination = mapping.clusterMap
+    val keys = destination.getValue("onOff").commands.keys.toSet()
+
+    val source = mapping.commandMap
+    source.getValue("onOff")["custom"] = interactionInfo()
+
+    mapping.combineCommand(destination, source)
+
+    assertThat(destination.getValue("onOff").commands.keys).containsAtLeastElementsIn(keys)
+    assertThat(destination.getValue("onOff").commands.keys).contains("custom")
+    assertThat(mapping.clusterMap.getValue("onOff").commands.keys).doesNotContain("custom")
+    assertThat(ClusterInfoMapping().clusterMap.getValue("onOff").commands.keys)
+      .doesNotContain("custom")
+  }
+
+  @Test
+  fun clusterMap_returnsNewMapEachTime() {
+    val mapping = ClusterInfoMapping()
+    val first = mapping.clusterMap
+    val second = mapping.clusterMap
+
+    assertThat(second).isNotSameInstanceAs(first)
+    assertThat(second.getValue("onOff")).isNotSameInstanceAs(first.getValue("onOff"))
+    first.remove("onOff")
+    assertThat(mapping.clusterMap).containsKey("onOff")
+  }
+
+  private fun interactionInfo() = InteractionInfo({ _, _, _ -> }, { null }, emptyMap())
+}
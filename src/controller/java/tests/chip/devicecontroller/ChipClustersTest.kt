@@ -0,0 +1,197 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package chip.devicecontroller
+
+import chip.devicecontroller.model.InvokeElement
+import com.google.common.truth.Truth.assertThat
+import java.util.Optional
+import matter.tlv.AnonymousTag
+import matter.tlv.ContextSpecificTag
+import matter.tlv.TlvReader
+import matter.tlv.TlvWriter
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+private const val CHIP_ERROR_UNSUPPORTED_COMMAND = 0x81L
+
+private val simpleStruct =
+  ChipStructs.UnitTestingClusterSimpleStruct(
+    1,
+    true,
+    2,
+    byteArrayOf(3, 4),
+    "five",
+    6,
+    7.5f,
+    8.25,
+    Optional.of(9)
+  )
+
+private class RecordingCallback : ChipClusters.DefaultClusterCallback {
+  var successCount = 0
+  var error: Exception? = null
+
+  override fun onSuccess() {
+    successCount++
+  }
+
+  override fun onError(error: Exception) {
+    this.error = error
+  }
+}
+
+@RunWith(JUnit4::class)
+class ChipClustersTest {
+  @Test
+  fun struct_encodeThenDecode_roundTrips() {
+    val struct =
+      ChipStructs.UnitTestingClusterNestedStructList(
+        1,
+        false,
+        simpleStruct,
+        arrayListOf(simpleStruct, simpleStruct),
+        arrayListOf(0L, 0xFFFFFFFFL),
+        arrayListOf(byteArrayOf(1), byteArrayOf()),
+        arrayListOf(0, 255)
+      )
+    val writer = TlvWriter()
+    struct.encodeTlv(AnonymousTag, writer)
+
+    val decoded =
+      ChipStructs.UnitTestingClusterNestedStructList.decodeTlv(
+        AnonymousTag,
+        TlvReader(writer.getEncoded())
+      )
+
+    assertThat(decoded.f.map { it.toList() }).isEqualTo(struct.f.map { it.toList() })
+    // Byte arrays are printed by identity, so the rest of the struct is compared without them.
+    decoded.f = struct.f
+    assertThat(decoded.toString()).isEqualTo(struct.toString())
+  }
+
+  @Test
+  fun nullablesAndOptionals_encodeThenDecode_roundTrips() {
+    val struct =
+      ChipStructs.UnitTestingClusterNullablesAndOptionalsStruct(
+        null,
+        Optional.of(2),
+        Optional.empty(),
+        "4",
+        Optional.empty(),
+        Optional.of("6"),
+        null,
+        Optional.of(simpleStruct),
+        Optional.empty(),
+        arrayListOf(7, 8),
+        Optional.empty(),
+        Optional.of(arrayListOf(9))
+      )
+    val writer = TlvWriter()
+    struct.encodeTlv(AnonymousTag, writer)
+
+    val decoded =
+      ChipStructs.UnitTestingClusterNullablesAndOptionalsStruct.decodeTlv(
+        AnonymousTag,
+        TlvReader(writer.getEncoded())
+      )
+
+    assertThat(decoded.toString()).isEqualTo(struct.toString())
+  }
+
+  @Test
+  fun eventStruct_encodeThenDecode_roundTrips() {
+    val event = ChipEventStructs.BasicInformationClusterStartUpEvent(0x01020304L)
+    val writer = TlvWriter()
+    event.encodeTlv(AnonymousTag, writer)
+
+    val decoded =
+      ChipEventStructs.BasicInformationClusterStartUpEvent.decodeTlv(
+        AnonymousTag,
+        TlvReader(writer.getEncoded())
+      )
+
+    assertThat(decoded.softwareVersion).isEqualTo(0x01020304L)
+  }
+
+  @Test
+  fun invokeResponse_decodesFields() {
+    val callback = RecordingCallback()
+    var decoded: ChipStructs.UnitTestingClusterSimpleStruct? = null
+    val invokeCallback =
+      object : ChipClusters.InvokeCallbackImpl(callback) {
+        override fun onResponse(reader: TlvReader) {
+          decoded =
+            ChipStructs.UnitTestingClusterSimpleStruct.decodeTlv(ContextSpecificTag(0), reader)
+          callback.onSuccess()
+        }
+      }
+    val writer = TlvWriter()
+    writer.startStructure(AnonymousTag)
+    simpleStruct.encodeTlv(ContextSpecificTag(0), writer)
+    writer.endStructure()
+
+    invokeCallback.onResponse(InvokeElement.newInstance(1, 2L, 3L, writer.getEncoded(), null), 0L)
+
+    assertThat(callback.successCount).isEqualTo(1)
+    assertThat(callback.error).isNull()
+    assertThat(decoded.toString()).isEqualTo(simpleStruct.toString())
+  }
+
+  @Test
+  fun invokeResponse_malformedField_reportsError() {
+    val callback = RecordingCallback()
+    val invokeCallback =
+      object : ChipClusters.InvokeCallbackImpl(callback) {
+        override fun onResponse(reader: TlvReader) {
+          ChipStructs.UnitTestingClusterSimpleStruct.decodeTlv(ContextSpecificTag(0), reader)
+          callback.onSuccess()
+        }
+      }
+    // The response carries a string where the struct is expected.
+    val writer = TlvWriter()
+    writer.startStructure(AnonymousTag)
+    writer.put(ContextSpecificTag(0), "not a struct")
+    writer.endStructure()
+
+    invokeCallback.onResponse(InvokeElement.newInstance(1, 2L, 3L, writer.getEncoded(), null), 0L)
+
+    assertThat(callback.successCount).isEqualTo(0)
+    assertThat((callback.error as ChipClusterException).errorCode)
+      .isEqualTo(CHIP_ERROR_UNSUPPORTED_COMMAND)
+  }
+
+  @Test
+  fun invokeResponse_notAStructure_reportsError() {
+    val callback = RecordingCallback()
+    val invokeCallback =
+      object : ChipClusters.InvokeCallbackImpl(callback) {
+        override fun onResponse(reader: TlvReader) {
+          callback.onSuccess()
+        }
+      }
+    val writer = TlvWriter()
+    writer.put(AnonymousTag, 1L)
+
+    invokeCallback.onResponse(InvokeElement.newInstance(1, 2L, 3L, writer.getEncoded(), null), 0L)
+
+    assertThat(callback.successCount).isEqualTo(0)
+    assertThat((callback.error as ChipClusterException).errorCode)
+      .isEqualTo(CHIP_ERROR_UNSUPPORTED_COMMAND)
+  }
+}
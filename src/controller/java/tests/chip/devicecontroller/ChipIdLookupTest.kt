@@ -0,0 +1,123 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package chip.devicecontroller
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.Assert.assertThrows
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+private const val UNKNOWN_CLUSTER_ID = 0x1234_5678L
+private const val UNKNOWN_ATTRIBUTE_ID = 0x1234L
+
+@RunWith(JUnit4::class)
+class ChipIdLookupTest {
+  @Test
+  fun clusterIdToName_knownCluster() {
+    assertThat(ChipIdLookup.clusterIdToName(ClusterIDMapping.OnOff.ID)).isEqualTo("OnOff")
+  }
+
+  @Test
+  fun clusterIdToName_unknownCluster() {
+    assertThat(ChipIdLookup.clusterIdToName(UNKNOWN_CLUSTER_ID))
+      .isEqualTo("UNKNOWN_CLUSTER($UNKNOWN_CLUSTER_ID)")
+  }
+
+  @Test
+  fun attributeIdToName_everyAttributeOfCluster() {
+    for (attribute in ClusterIDMapping.OnOff.Attribute.values()) {
+      assertThat(ChipIdLookup.attributeIdToName(ClusterIDMapping.OnOff.ID, attribute.id))
+        .isEqualTo(attribute.name)
+    }
+  }
+
+  @Test
+  fun attributeIdToName_unknownAttribute() {
+    assertThat(ChipIdLookup.attributeIdToName(ClusterIDMapping.OnOff.ID, UNKNOWN_ATTRIBUTE_ID))
+      .isEqualTo("UNKNOWN_ATTRIBUTE(${ClusterIDMapping.OnOff.ID}, $UNKNOWN_ATTRIBUTE_ID)")
+  }
+
+  @Test
+  fun attributeIdToName_unknownCluster() {
+    assertThat(ChipIdLookup.attributeIdToName(UNKNOWN_CLUSTER_ID, 0L))
+      .isEqualTo("UNKNOWN_CLUSTER($UNKNOWN_CLUSTER_ID)")
+  }
+
+  @Test
+  fun eventIdToName_knownAndUnknownEvents() {
+    val clusterId = ClusterIDMapping.BasicInformation.ID
+
+    assertThat(ChipIdLookup.eventIdToName(clusterId, 0L)).isEqualTo("StartUp")
+    assertThat(ChipIdLookup.eventIdToName(clusterId, UNKNOWN_ATTRIBUTE_ID))
+      .isEqualTo("UNKNOWN_EVENT($clusterId, $UNKNOWN_ATTRIBUTE_ID)")
+  }
+
+  @Test
+  fun getCluster_returnsSameInstance() {
+    val cluster = ClusterIDMapping.getCluster(ClusterIDMapping.OnOff.ID)
+
+    assertThat(cluster).isSameInstanceAs(ClusterIDMapping.OnOff.INSTANCE)
+    assertThat(ClusterIDMapping.getCluster(ClusterIDMapping.OnOff.ID)).isSameInstanceAs(cluster)
+  }
+
+  @Test
+  fun getCluster_idOutOfRange_returnsNull() {
+    assertThat(ClusterIDMapping.getCluster(ClusterIDMapping.OnOff.ID or (1L shl 32))).isNull()
+  }
+
+  @Test
+  fun find_idOutOfRange_returnsNull() {
+    assertThat(ClusterIDMapping.OnOff.Attribute.find(1L shl 32)).isNull()
+  }
+
+  @Test
+  fun value_unknownId_throws() {
+    assertThat(ClusterIDMapping.OnOff.Attribute.value(0L))
+      .isEqualTo(ClusterIDMapping.OnOff.Attribute.OnOff)
+    assertThrows(NoSuchFieldError::class.java) {
+      ClusterIDMapping.OnOff.Attribute.value(UNKNOWN_ATTRIBUTE_ID)
+    }
+  }
+
+  @Test
+  fun findName_clusterWithoutFindMethods_fallsBackToGetName() {
+    val cluster =
+      object : ClusterIDMapping.BaseCluster {
+        override fun getID() = UNKNOWN_CLUSTER_ID
+
+        override fun getAttributeName(id: Long) =
+          if (id == 0L) "Known" else throw NoSuchFieldError()
+
+        override fun getEventName(id: Long): String = throw NoSuchFieldError()
+
+        override fun getCommandName(id: Long): String = throw NoSuchFieldError()
+
+        override fun getAttributeID(name: String) = 0L
+
+        override fun getEventID(name: String) = 0L
+
+        override fun getCommandID(name: String) = 0L
+      }
+
+    assertThat(cluster.findAttributeName(0L)).isEqualTo("Known")
+    assertThat(cluster.findAttributeName(UNKNOWN_ATTRIBUTE_ID)).isNull()
+    assertThat(cluster.findEventName(0L)).isNull()
+    assertThat(cluster.findCommandName(0L)).isNull()
+  }
+}
@@ -0,0 +1,299 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package chip.devicecontroller
+
+import com.google.common.truth.Truth.assertThat
+import java.util.Optional
+import matter.tlv.AnonymousTag
+import matter.tlv.TlvWriter
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+private const val ENTRY_COUNT = 100
+private const val UNKNOWN_ID = 0x1234L
+
+private val ON_OFF_ID = ClusterIDMapping.OnOff.ID
+private val ON_OFF_ATTRIBUTE_ID = ClusterIDMapping.OnOff.Attribute.OnOff.id
+private val LEVEL_CONTROL_ID = ClusterIDMapping.LevelControl.ID
+private val CURRENT_LEVEL_ID = ClusterIDMapping.LevelControl.Attribute.CurrentLevel.id
+private val BASIC_INFORMATION_ID = ClusterIDMapping.BasicInformation.ID
+private val VENDOR_NAME_ID = ClusterIDMapping.BasicInformation.Attribute.VendorName.id
+private val START_UP_ID = ClusterIDMapping.BasicInformation.Event.StartUp.id
+private val ACCESS_CONTROL_ID = ClusterIDMapping.AccessControl.ID
+private val ACL_ID = ClusterIDMapping.AccessControl.Attribute.Acl.id
+private val ENTRY_CHANGED_ID = ClusterIDMapping.AccessControl.Event.AccessControlEntryChanged.id
+private val UNIT_TESTING_ID = ClusterIDMapping.UnitTesting.ID
+private val NULLABLES_AND_OPTIONALS_ID =
+  ClusterIDMapping.UnitTesting.Attribute.ListNullablesAndOptionalsStruct.id
+
+private fun aclEntry(i: Int) =
+  ChipStructs.AccessControlClusterAccessControlEntryStruct(
+    5,
+    2,
+    arrayListOf(0x1122334455667788L + i, i.toLong()),
+    arrayListOf(
+      ChipStructs.AccessControlClusterAccessControlTargetStruct(6L, i % 0xFFFF, null),
+      ChipStructs.AccessControlClusterAccessControlTargetStruct(null, null, 0x0100L + i)
+    ),
+    Optional.empty(),
+    i % 254 + 1
+  )
+
+private val aclEntries = List(ENTRY_COUNT) { aclEntry(it) }
+
+private fun hex(value: String): ByteArray =
+  value.replace(" ", "").chunked(2).map { it.toInt(16).toByte() }.toByteArray()
+
+// The TLV of an Access Control List as reported by a device: a CASE administrator entry with a
+// 16-bit and a 64-bit subject, and a group operator entry with a cluster and an endpoint target.
+private val reportedAclTlv =
+  hex(
+    "16" +
+      "15 240105 240202 3603 057000 07FEFFFFFFFFFFFFFF 18 3404 24FE01 18" +
+      "15 240103 240203 3403 3604" +
+      "15 260006000000 3401 3402 18" +
+      "15 3400 240101 3402 18" +
+      "18 24FE02 18" +
+      "18"
+  )
+
+private fun encodeList(entries: List<Any>, encode: Any.(TlvWriter) -> Unit): ByteArray {
+  val writer = TlvWriter()
+  writer.startArray(AnonymousTag)
+  entries.forEach { it.encode(writer) }
+  writer.endArray()
+  return writer.getEncoded()
+}
+
+private val aclTlv =
+  encodeList(aclEntries) {
+    (this as ChipStructs.AccessControlClusterAccessControlEntryStruct).encodeTlv(AnonymousTag, it)
+  }
+
+@RunWith(JUnit4::class)
+class ClusterValueDecoderTest {
+  // The expected values below are those ChipTLVValueDecoder returns for the same TLV.
+  @Test
+  fun decodeAttributeValue_matchesJniDecoder_primitives() {
+    assertThat(
+        ClusterValueDecoder.decodeAttributeValue<Boolean>(ON_OFF_ID, ON_OFF_ATTRIBUTE_ID, hex("09"))
+      )
+      .isTrue()
+    assertThat(
+        ClusterValueDecoder.decodeAttributeValue<Int>(
+          LEVEL_CONTROL_ID,
+          CURRENT_LEVEL_ID,
+          hex("04FE")
+        )
+      )
+      .isEqualTo(254)
+    assertThat(
+        ClusterValueDecoder.decodeAttributeValue<String>(
+          BASIC_INFORMATION_ID,
+          VENDOR_NAME_ID,
+          hex("0C0B544553545F56454E444F52")
+        )
+      )
+      .isEqualTo("TEST_VENDOR")
+  }
+
+  @Test
+  fun decodeAttributeValue_matchesJniDecoder_accessControlList() {
+    val decoded =
+      ClusterValueDecoder.decodeAttributeValue<
+        List<ChipStructs.AccessControlClusterAccessControlEntryStruct>
+      >(
+        ACCESS_CONTROL_ID,
+        ACL_ID,
+        reportedAclTlv
+      )
+
+    val expected =
+      listOf(
+        ChipStructs.AccessControlClusterAccessControlEntryStruct(
+          5,
+          2,
+          arrayListOf(0x70L, -2L),
+          null,
+          Optional.empty(),
+          1
+        ),
+        ChipStructs.AccessControlClusterAccessControlEntryStruct(
+          3,
+          3,
+          null,
+          arrayListOf(
+            ChipStructs.AccessControlClusterAccessControlTargetStruct(6L, null, null),
+            ChipStructs.AccessControlClusterAccessControlTargetStruct(null, 1, null)
+          ),
+          Optional.empty(),
+          2
+        )
+      )
+    assertThat(decoded!!.map { it.toString() }).isEqualTo(expected.map { it.toString() })
+  }
+
+  @Test
+  fun decodeEventValue_matchesJniDecoder() {
+    val decoded =
+      ClusterValueDecoder.decodeEventValue<ChipEventStructs.BasicInformationClusterStartUpEvent>(
+        BASIC_INFORMATION_ID,
+        START_UP_ID,
+        hex("15 260010000000 18")
+      )
+
+    assertThat(decoded!!.softwareVersion).isEqualTo(16L)
+  }
+
+  @Test
+  fun decodeAttributeValue_list() {
+    val decoded =
+      ClusterValueDecoder.decodeAttributeValue<
+        List<ChipStructs.AccessControlClusterAccessControlEntryStruct>
+      >(
+        ACCESS_CONTROL_ID,
+        ACL_ID,
+        aclTlv
+      )
+
+    assertThat(decoded!!.map { it.toString() }).isEqualTo(aclEntries.map { it.toString() })
+  }
+
+  @Test
+  fun decodeAttributeValue_nullableOptionalFields() {
+    val simple =
+      ChipStructs.UnitTestingClusterSimpleStruct(
+        1,
+        false,
+        2,
+        byteArrayOf(3),
+        "4",
+        5,
+        6f,
+        7.0,
+        Optional.empty()
+      )
+    val present =
+      ChipStructs.UnitTestingClusterNullablesAndOptionalsStruct(
+        1,
+        Optional.of(2),
+        Optional.of(3),
+        "4",
+        Optional.of("5"),
+        Optional.of("6"),
+        simple,
+        Optional.of(simple),
+        Optional.of(simple),
+        arrayListOf(7),
+        Optional.of(arrayListOf(8)),
+        Optional.of(arrayListOf(9))
+      )
+    // Like the JNI decoder, a null nullable optional field is decoded as an empty Optional.
+    val absentOrNull =
+      ChipStructs.UnitTestingClusterNullablesAndOptionalsStruct(
+        null,
+        Optional.empty(),
+        null,
+        null,
+        Optional.empty(),
+        Optional.empty(),
+        null,
+        Optional.empty(),
+        null,
+        null,
+        Optional.empty(),
+        Optional.empty()
+      )
+    val expectedAbsentOrNull =
+      ChipStructs.UnitTestingClusterNullablesAndOptionalsStruct(
+        null,
+        Optional.empty(),
+        Optional.empty(),
+        null,
+        Optional.empty(),
+        Optional.empty(),
+        null,
+        Optional.empty(),
+        Optional.empty(),
+        null,
+        Optional.empty(),
+        Optional.empty()
+      )
+    val tlv =
+      encodeList(listOf(present, absentOrNull)) {
+        (this as ChipStructs.UnitTestingClusterNullablesAndOptionalsStruct).encodeTlv(
+          AnonymousTag,
+          it
+        )
+      }
+
+    val decoded =
+      ClusterValueDecoder.decodeAttributeValue<
+        List<ChipStructs.UnitTestingClusterNullablesAndOptionalsStruct>
+      >(
+        UNIT_TESTING_ID,
+        NULLABLES_AND_OPTIONALS_ID,
+        tlv
+      )
+
+    assertThat(decoded!!.map { it.toString() })
+      .containsExactly(present.toString(), expectedAbsentOrNull.toString())
+      .inOrder()
+  }
+
+  @Test
+  fun decodeEventValue_decodesEventStruct() {
+    val event =
+      ChipEventStructs.AccessControlClusterAccessControlEntryChangedEvent(
+        0x1122334455667788L,
+        null,
+        1,
+        aclEntry(0),
+        1
+      )
+    val writer = TlvWriter()
+    event.encodeTlv(AnonymousTag, writer)
+
+    val decoded =
+      ClusterValueDecoder.decodeEventValue<
+        ChipEventStructs.AccessControlClusterAccessControlEntryChangedEvent
+      >(
+        ACCESS_CONTROL_ID,
+        ENTRY_CHANGED_ID,
+        writer.getEncoded()
+      )
+
+    assertThat(decoded.toString()).isEqualTo(event.toString())
+  }
+
+  @Test
+  fun decodeAttributeValue_returnsNullLikeJniDecoder() {
+    assertThat(ClusterValueDecoder.decodeAttributeValue<Any>(UNKNOWN_ID, ACL_ID, aclTlv)).isNull()
+    assertThat(ClusterValueDecoder.decodeAttributeValue<Any>(ACCESS_CONTROL_ID, UNKNOWN_ID, aclTlv))
+      .isNull()
+    assertThat(
+        ClusterValueDecoder.decodeAttributeValue<Any>(
+          ACCESS_CONTROL_ID,
+          ACL_ID,
+          aclTlv.copyOf(aclTlv.size / 2)
+        )
+      )
+      .isNull()
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package chip.devicecontroller
+
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executor
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.ScheduledThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import org.junit.After
+import org.junit.Assert.assertThrows
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+private const val NODE_ID = 0x11L
+private const val OTHER_NODE_ID = 0x22L
+private const val CHIP_ERROR_TIMEOUT = 0x32L
+private const val PASE_ERROR = 0x2CL
+
+@RunWith(JUnit4::class)
+class CommissioningOperationQueueTest {
+  private val timer = ManualTimer()
+  private val started = ArrayList<Long>()
+  private val aborted = ArrayList<Long>()
+  private val queue = CommissioningOperationQueue(Executor { it.run() }, { aborted.add(it) }, timer)
+
+  @After
+  fun tearDown() {
+    timer.shutdownNow()
+  }
+
+  @Test
+  fun submit_runsOperationsInOrder() {
+    val first = submit(CommissioningOperationQueue.Kind.PASE, NODE_ID)
+    val second = submit(CommissioningOperationQueue.Kind.PASE, OTHER_NODE_ID)
+
+    assertThat(started).containsExactly(NODE_ID)
+
+    queue.onPairingComplete(0)
+
+    assertThat(first.isDone).isTrue()
+    assertThat(second.isDone).isFalse()
+    assertThat(started).containsExactly(NODE_ID, OTHER_NODE_ID).inOrder()
+  }
+
+  @Test
+  fun onPairingComplete_error_failsWithErrorCode() {
+    val future = submit(CommissioningOperationQueue.Kind.PAIRING, NODE_ID)
+
+    queue.onPairingComplete(PASE_ERROR)
+
+    assertThat(errorCode(future)).isEqualTo(PASE_ERROR)
+  }
+
+  @Test
+  fun onCommissioningComplete_otherNode_isIgnored() {
+    val future = submit(CommissioningOperationQueue.Kind.COMMISSIONING, NODE_ID)
+
+    queue.onCommissioningComplete(OTHER_NODE_ID, 0)
+    assertThat(future.isDone).isFalse()
+
+    queue.onCommissioningComplete(NODE_ID, 0)
+    assertThat(future.isDone).isTrue()
+    assertThat(future.isCompletedExceptionally).isFalse()
+  }
+
+  @Test
+  fun onPairingComplete_pairing_waitsForCommissioning() {
+    val future = submit(CommissioningOperationQueue.Kind.PAIRING, NODE_ID)
+
+    queue.onPairingComplete(0)
+
+    assertThat(future.isDone).isFalse()
+  }
+
+  @Test
+  fun timeout_failsAbortsAndStartsNext() {
+    val first = submit(CommissioningOperationQueue.Kind.PAIRING, NODE_ID)
+    submit(CommissioningOperationQueue.Kind.PASE, OTHER_NODE_ID)
+
+    timer.fire(0)
+
+    assertThat(errorCode(first)).isEqualTo(CHIP_ERROR_TIMEOUT)
+    assertThat(aborted).containsExactly(NODE_ID)
+    assertThat(started).containsExactly(NODE_ID, OTHER_NODE_ID).inOrder()
+  }
+
+  @Test
+  fun timeout_isScheduledOnStartWithKindTimeout() {
+    submit(CommissioningOperationQueue.Kind.PASE, NODE_ID)
+    submit(CommissioningOperationQueue.Kind.COMMISSIONING, OTHER_NODE_ID)
+
+    assertThat(timer.delays).containsExactly(CommissioningOperationQueue.Kind.PASE.timeoutMillis)
+
+    queue.onPairingComplete(0)
+
+    assertThat(timer.delays)
+      .containsExactly(
+        CommissioningOperationQueue.Kind.PASE.timeoutMillis,
+        CommissioningOperationQueue.Kind.COMMISSIONING.timeoutMillis
+      )
+      .inOrder()
+    assertThat(timer.tasks[0].isCancelled).isTrue()
+  }
+
+  @Test
+  fun timeout_afterCompletion_isIgnored() {
+    val future = submit(CommissioningOperationQueue.Kind.PASE, NODE_ID)
+    queue.onPairingComplete(0)
+
+    timer.fire(0)
+
+    assertThat(future.isCompletedExceptionally).isFalse()
+    assertThat(aborted).isEmpty()
+  }
+
+  @Test
+  fun cancel_pendingOperation_isNeverStarted() {
+    submit(CommissioningOperationQueue.Kind.PASE, NODE_ID)
+    val cancelled = submit(CommissioningOperationQueue.Kind.PASE, OTHER_NODE_ID)
+
+    cancelled.cancel(false)
+    queue.onPairingComplete(0)
+
+    assertThat(started).containsExactly(NODE_ID)
+    assertThat(aborted).isEmpty()
+  }
+
+  @Test
+  fun cancel_activeOperation_abortsAndStartsNext() {
+    val cancelled = submit(CommissioningOperationQueue.Kind.PAIRING, NODE_ID)
+    val next = submit(CommissioningOperationQueue.Kind.PASE, OTHER_NODE_ID)
+
+    cancelled.cancel(false)
+
+    assertThat(aborted).containsExactly(NODE_ID)
+    assertThat(started).containsExactly(NODE_ID, OTHER_NODE_ID).inOrder()
+
+    queue.onPairingComplete(0)
+    assertThat(next.isDone).isTrue()
+  }
+
+  @Test
+  fun start_throws_failsAndStartsNext() {
+    val failure = IllegalStateException("No BLE")
+    val failed = queue.submit(CommissioningOperationQueue.Kind.PASE, NODE_ID) { throw failure }
+    submit(CommissioningOperationQueue.Kind.PASE, OTHER_NODE_ID)
+
+    val error = assertThrows(ExecutionException::class.java) { failed.get() }
+    assertThat(error).hasCauseThat().isSameInstanceAs(failure)
+    assertThat(started).containsExactly(OTHER_NODE_ID)
+  }
+
+  private fun submit(kind: CommissioningOperationQueue.Kind, nodeId: Long) =
+    queue.submit(kind, nodeId) { started.add(nodeId) }
+
+  private fun errorCode(future: CompletableFuture<Void>): Long {
+    val error = assertThrows(ExecutionException::class.java) { future.get() }
+    return (error.cause as ChipDeviceControllerException).errorCode
+  }
+
+  /** Records scheduled tasks instead of running them, until [fire] is called. */
+  private class ManualTimer : ScheduledThreadPoolExecutor(1) {
+    val delays = ArrayList<Long>()
+    val tasks = ArrayList<ScheduledFuture<*>>()
+    private val commands = ArrayList<Runnable>()
+
+    override fun schedule(command: Runnable, delay: Long, unit: TimeUnit): ScheduledFuture<*> {
+      delays.add(unit.toMillis(delay))
+      commands.add(command)
+      return super.schedule({}, 1, TimeUnit.DAYS).also { tasks.add(it) }
+    }
+
+    fun fire(index: Int) = commands[index].run()
+  }
+}
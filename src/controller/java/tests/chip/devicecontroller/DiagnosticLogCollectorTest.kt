@@ -0,0 +1,218 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package chip.devicecontroller
+
+import com.google.common.truth.Truth.assertThat
+import java.io.File
+import java.io.IOException
+import java.nio.channels.ClosedChannelException
+import java.nio.channels.FileChannel
+import java.nio.file.StandardOpenOption
+import java.util.concurrent.Executor
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+private const val NODE_ID = 0x11L
+private const val FABRIC_INDEX = 1
+private const val CHIP_ERROR_TIMEOUT = 0x32L
+private const val MAX_QUEUED_BYTES = 4L
+
+@RunWith(JUnit4::class)
+class DiagnosticLogCollectorTest {
+  @get:Rule val folder = TemporaryFolder()
+
+  private val listener = RecordingListener()
+  private val callbacks = ArrayList<DownloadLogCallback>()
+  private val channels = ArrayList<FileChannel>()
+  private var downloadStarts = true
+
+  @Test
+  fun download_success_writesFileAndReportsOnce() {
+    val collector = newCollector(Executor { it.run() })
+    assertThat(collector.collect(NODE_ID, DiagnosticLogType.EndUserSupport, 0)).isTrue()
+    val download = callbacks.single()
+
+    assertThat(download.onTransferData(FABRIC_INDEX, NODE_ID, byteArrayOf(1, 2))).isTrue()
+    assertThat(download.onTransferData(FABRIC_INDEX, NODE_ID, byteArrayOf(3))).isTrue()
+    download.onSuccess(FABRIC_INDEX, NODE_ID)
+
+    val collected = listener.collected.single()
+    assertThat(listener.failed).isEmpty()
+    assertThat(collected.file.readBytes()).isEqualTo(byteArrayOf(1, 2, 3))
+    assertThat(collected.statistics.bytes).isEqualTo(3L)
+    assertThat(channels.single().isOpen).isFalse()
+    assertThat(collector.activeCollections).isEqualTo(0)
+    assertThat(collector.queuedBytes).isEqualTo(0L)
+  }
+
+  @Test
+  fun download_queueFull_rejectsTransferAndReportsFailureOnce() {
+    val writeExecutor = QueueingExecutor()
+    val collector = newCollector(writeExecutor)
+    collector.collect(NODE_ID, DiagnosticLogType.EndUserSupport, 0)
+    val download = callbacks.single()
+
+    assertThat(download.onTransferData(FABRIC_INDEX, NODE_ID, byteArrayOf(1, 2, 3))).isTrue()
+    assertThat(download.onTransferData(FABRIC_INDEX, NODE_ID, byteArrayOf(4, 5))).isFalse()
+    assertThat(download.onTransferData(FABRIC_INDEX, NODE_ID, byteArrayOf(6))).isFalse()
+    assertThat(collector.queuedBytes).isEqualTo(3L)
+    // The native layer fails the transfer it was told to reject.
+    download.onError(FABRIC_INDEX, NODE_ID, CHIP_ERROR_TIMEOUT)
+    writeExecutor.runAll()
+
+    val failed = listener.failed.single()
+    assertThat(listener.collected).isEmpty()
+    assertThat(failed.error).isInstanceOf(IOException::class.java)
+    // The queued chunk is dropped too, since the log cannot be complete.
+    assertThat(failed.statistics.bytes).isEqualTo(0L)
+    assertThat(failed.file.length()).isEqualTo(0L)
+    assertThat(channels.single().isOpen).isFalse()
+    assertThat(collector.queuedBytes).isEqualTo(0L)
+  }
+
+  @Test
+  fun download_writeThrows_skipsLaterWritesAndReportsFailureOnce() {
+    val collector = newCollector(Executor { it.run() })
+    collector.collect(NODE_ID, DiagnosticLogType.EndUserSupport, 0)
+    val download = callbacks.single()
+    channels.single().close()
+
+    assertThat(download.onTransferData(FABRIC_INDEX, NODE_ID, byteArrayOf(1))).isTrue()
+    assertThat(download.onTransferData(FABRIC_INDEX, NODE_ID, byteArrayOf(2))).isFalse()
+    download.onSuccess(FABRIC_INDEX, NODE_ID)
+
+    val failed = listener.failed.single()
+    assertThat(listener.collected).isEmpty()
+    assertThat(failed.error).isInstanceOf(ClosedChannelException::class.java)
+    assertThat(failed.statistics.bytes).isEqualTo(0L)
+    assertThat(collector.queuedBytes).isEqualTo(0L)
+  }
+
+  @Test
+  fun download_error_closesFileAndReportsFailureOnce() {
+    val collector = newCollector(Executor { it.run() })
+    collector.collect(NODE_ID, DiagnosticLogType.EndUserSupport, 0)
+    val download = callbacks.single()
+
+    download.onTransferData(FABRIC_INDEX, NODE_ID, byteArrayOf(1))
+    download.onError(FABRIC_INDEX, NODE_ID, CHIP_ERROR_TIMEOUT)
+
+    val error = listener.failed.single().error
+    assertThat(listener.collected).isEmpty()
+    assertThat(error).isInstanceOf(ChipDeviceControllerException::class.java)
+    assertThat((error as ChipDeviceControllerException).errorCode).isEqualTo(CHIP_ERROR_TIMEOUT)
+    assertThat(channels.single().isOpen).isFalse()
+    assertThat(collector.activeCollections).isEqualTo(0)
+  }
+
+  @Test
+  fun collect_downloadNotStarted_closesFile() {
+    downloadStarts = false
+    val collector = newCollector(Executor { it.run() })
+
+    assertThat(collector.collect(NODE_ID, DiagnosticLogType.EndUserSupport, 0)).isFalse()
+
+    assertThat(channels.single().isOpen).isFalse()
+    assertThat(collector.activeCollections).isEqualTo(0)
+    assertThat(listener.collected).isEmpty()
+    assertThat(listener.failed).isEmpty()
+  }
+
+  @Test
+  fun collect_nodeAlreadyDownloading_returnsFalse() {
+    val collector = newCollector(Executor { it.run() })
+
+    assertThat(collector.collect(NODE_ID, DiagnosticLogType.EndUserSupport, 0)).isTrue()
+    assertThat(collector.collect(NODE_ID, DiagnosticLogType.NetworkDiagnostics, 0)).isFalse()
+
+    assertThat(callbacks).hasSize(1)
+    assertThat(collector.activeCollections).isEqualTo(1)
+  }
+
+  private fun newCollector(writeExecutor: Executor) =
+    DiagnosticLogCollector(
+      { _, _, _, callback ->
+        callbacks.add(callback)
+        downloadStarts
+      },
+      { file ->
+        FileChannel.open(
+            file.toPath(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING
+          )
+          .also { channels.add(it) }
+      },
+      folder.root,
+      MAX_QUEUED_BYTES,
+      writeExecutor,
+      listener
+    )
+
+  /** Runs tasks only when asked to, like a write executor that fell behind. */
+  private class QueueingExecutor : Executor {
+    private val tasks = ArrayDeque<Runnable>()
+
+    override fun execute(command: Runnable) {
+      tasks.add(command)
+    }
+
+    fun runAll() {
+      while (tasks.isNotEmpty()) {
+        tasks.removeFirst().run()
+      }
+    }
+  }
+
+  private class Collected(
+    val file: File,
+    val statistics: DiagnosticLogCollector.TransferStatistics
+  )
+
+  private class Failed(
+    val file: File,
+    val statistics: DiagnosticLogCollector.TransferStatistics,
+    val error: Exception
+  )
+
+  private class RecordingListener : DiagnosticLogCollector.Listener {
+    val collected = ArrayList<Collected>()
+    val failed = ArrayList<Failed>()
+
+    override fun onLogCollected(
+      nodeId: Long,
+      file: File,
+      statistics: DiagnosticLogCollector.TransferStatistics
+    ) {
+      collected.add(Collected(file, statistics))
+    }
+
+    override fun onLogCollectionFailed(
+      nodeId: Long,
+      file: File,
+      statistics: DiagnosticLogCollector.TransferStatistics,
+      error: Exception
+    ) {
+      failed.add(Failed(file, statistics, error))
+    }
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package chip.devicecontroller
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.Assert.assertThrows
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+private const val VENDOR_ID = 0xFFF1
+private const val PRODUCT_ID = 0x8001
+private const val SOFTWARE_VERSION = 2L
+private const val NODE_ID = 0x11L
+private const val IMAGE_SIZE = 100
+private const val BLOCK_SIZE = 32
+
+@RunWith(JUnit4::class)
+class OTAImageServerTest {
+  @get:Rule val folder = TemporaryFolder()
+
+  private val server = OTAImageServer()
+  private lateinit var image: OTAImageServer.Image
+
+  @Before
+  fun setUp() {
+    val file = folder.newFile("image.ota")
+    file.writeBytes(ByteArray(IMAGE_SIZE) { it.toByte() })
+    image = server.addImage(VENDOR_ID, PRODUCT_ID, SOFTWARE_VERSION, "2.0", file)
+  }
+
+  @Test
+  fun handleQueryImage_newerImage_returnsDesignator() {
+    val response = server.handleQueryImage(VENDOR_ID, PRODUCT_ID, 1L, null, null, null, null)
+
+    assertThat(response.filePath).isEqualTo(image.fileDesignator)
+    assertThat(server.findUpdate(VENDOR_ID, PRODUCT_ID, SOFTWARE_VERSION)).isNull()
+  }
+
+  @Test
+  fun handleBDXQuery_blocks_followBlockIndex() {
+    server.handleBDXTransferSessionBegin(NODE_ID, image.fileDesignator, 0)
+
+    assertThat(block(0)).isEqualTo(bytes(0, 32))
+    assertThat(block(1)).isEqualTo(bytes(32, 64))
+    assertThat(query(1).isEOF).isFalse()
+    val last = query(3)
+    assertThat(remaining(last)).isEqualTo(bytes(96, 100))
+    assertThat(last.isEOF).isTrue()
+  }
+
+  @Test
+  fun handleBDXQuery_startOffset_shiftsBlocks() {
+    server.handleBDXTransferSessionBegin(NODE_ID, image.fileDesignator, 10)
+
+    assertThat(block(0)).isEqualTo(bytes(10, 42))
+    assertThat(block(1)).isEqualTo(bytes(42, 74))
+  }
+
+  @Test
+  fun handleBDXQuery_skips_shiftLaterBlocks() {
+    server.handleBDXTransferSessionBegin(NODE_ID, image.fileDesignator, 0)
+
+    assertThat(remaining(query(0, 5))).isEqualTo(bytes(5, 37))
+    assertThat(remaining(query(1, 3))).isEqualTo(bytes(40, 72))
+    assertThat(block(2)).isEqualTo(bytes(72, 100))
+  }
+
+  @Test
+  fun handleBDXQuery_pastEnd_returnsEmptyEOF() {
+    server.handleBDXTransferSessionBegin(NODE_ID, image.fileDesignator, IMAGE_SIZE.toLong())
+
+    val data = query(0)
+
+    assertThat(remaining(data)).isEmpty()
+    assertThat(data.isEOF).isTrue()
+  }
+
+  @Test
+  fun handleBDXTransferSessionBegin_unknownDesignator_throws() {
+    assertThrows(IllegalArgumentException::class.java) {
+      server.handleBDXTransferSessionBegin(NODE_ID, "unknown.ota", 0)
+    }
+
+    assertThat(server.handleBDXQuery(NODE_ID, BLOCK_SIZE, 0, 0)).isNull()
+  }
+
+  @Test
+  fun handleBDXTransferSessionBegin_offsetPastEnd_throws() {
+    assertThrows(IllegalArgumentException::class.java) {
+      server.handleBDXTransferSessionBegin(NODE_ID, image.fileDesignator, IMAGE_SIZE + 1L)
+    }
+  }
+
+  @Test
+  fun handleBDXTransferSessionBegin_failedRestart_dropsEarlierSession() {
+    server.handleBDXTransferSessionBegin(NODE_ID, image.fileDesignator, 0)
+
+    assertThrows(IllegalArgumentException::class.java) {
+      server.handleBDXTransferSessionBegin(NODE_ID, "unknown.ota", 0)
+    }
+
+    assertThat(server.handleBDXQuery(NODE_ID, BLOCK_SIZE, 0, 0)).isNull()
+    assertThat(server.statistics.failedTransfers).isEqualTo(1)
+    assertThat(server.statistics.activeTransfers).isEqualTo(0)
+  }
+
+  @Test
+  fun handleBDXQuery_noSession_returnsNull() {
+    assertThat(server.handleBDXQuery(NODE_ID, BLOCK_SIZE, 0, 0)).isNull()
+  }
+
+  private fun query(blockIndex: Long, bytesToSkip: Long = 0): OTAProviderDelegate.BDXData =
+    checkNotNull(server.handleBDXQuery(NODE_ID, BLOCK_SIZE, blockIndex, bytesToSkip))
+
+  private fun block(blockIndex: Long): ByteArray = remaining(query(blockIndex))
+
+  private fun remaining(data: OTAProviderDelegate.BDXData): ByteArray {
+    val buffer = checkNotNull(data.buffer).duplicate()
+    return ByteArray(buffer.remaining()).also { buffer.get(it) }
+  }
+
+  private fun bytes(from: Int, to: Int) = ByteArray(to - from) { (from + it).toByte() }
+}
@@ -0,0 +1,170 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package chip.devicecontroller.model
+
+import com.google.common.truth.Truth.assertThat
+import kotlin.random.Random
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+private const val BRIDGED_ENDPOINT_COUNT = 3
+private const val RANDOM_OPERATIONS = 10000
+private const val DATA_VERSION = 0x12345678L
+
+// The clusters of a bridged light, with their attribute IDs and the global attribute IDs.
+private val GLOBAL_ATTRIBUTE_IDS = longArrayOf(0xFFF8, 0xFFF9, 0xFFFB, 0xFFFC, 0xFFFD)
+private val BRIDGED_LIGHT_CLUSTERS =
+  mapOf(
+    0x001DL to longArrayOf(0x0000, 0x0001, 0x0002, 0x0003),
+    0x0039L to longArrayOf(0x0001, 0x0003, 0x0005, 0x000A, 0x000F, 0x0011, 0x0012),
+    0x0006L to longArrayOf(0x0000, 0x4000, 0x4001, 0x4002, 0x4003),
+    0x0008L to longArrayOf(0x0000, 0x0001, 0x0002, 0x0003, 0x000F, 0x0010, 0x0011, 0x4000)
+  )
+
+private class Attribute(
+  val endpointId: Int,
+  val clusterId: Long,
+  val attributeId: Long,
+  val state: AttributeState
+)
+
+// A report of a bridge with an aggregator endpoint and one endpoint per bridged light.
+private val bridgeReport: List<Attribute> =
+  (1..BRIDGED_ENDPOINT_COUNT).flatMap { endpointId ->
+    BRIDGED_LIGHT_CLUSTERS.flatMap { (clusterId, attributeIds) ->
+      (attributeIds + GLOBAL_ATTRIBUTE_IDS).map { attributeId ->
+        Attribute(
+          endpointId,
+          clusterId,
+          attributeId,
+          AttributeState(attributeId, byteArrayOf(0x24, attributeId.toByte()), "{}")
+        )
+      }
+    }
+  }
+
+private val addAttribute =
+  NodeState::class
+    .java
+    .getDeclaredMethod(
+      "addAttribute",
+      Int::class.java,
+      Long::class.java,
+      Long::class.java,
+      AttributeState::class.java
+    )
+    .apply { isAccessible = true }
+
+private val setDataVersion =
+  NodeState::class
+    .java
+    .getDeclaredMethod("setDataVersion", Int::class.java, Long::class.java, Long::class.java)
+    .apply { isAccessible = true }
+
+/** Builds a [NodeState] from [bridgeReport] the way the native report callback does. */
+private fun buildNodeState(): NodeState {
+  val nodeState = NodeState()
+  for (attribute in bridgeReport) {
+    addAttribute.invoke(
+      nodeState,
+      attribute.endpointId,
+      attribute.clusterId,
+      attribute.attributeId,
+      attribute.state
+    )
+    setDataVersion.invoke(nodeState, attribute.endpointId, attribute.clusterId, DATA_VERSION)
+  }
+  return nodeState
+}
+
+/** Builds the endpoint states of [bridgeReport] in HashMaps. */
+private fun buildHashMapEndpointStates(): Map<Int, EndpointState> {
+  val endpoints = HashMap<Int, EndpointState>()
+  for (attribute in bridgeReport) {
+    val endpointState =
+      endpoints.getOrPut(attribute.endpointId) { EndpointState(HashMap<Long, ClusterState>()) }
+    val clusterState =
+      endpointState.clusterStates.getOrPut(attribute.clusterId) {
+        ClusterState(HashMap(), HashMap(), HashMap(), HashMap())
+      }
+    clusterState.attributeStatuses.remove(attribute.attributeId)
+    clusterState.attributeStates[attribute.attributeId] = attribute.state
+    clusterState.setDataVersion(DATA_VERSION)
+  }
+  return endpoints
+}
+
+@RunWith(JUnit4::class)
+class NodeStateTest {
+  @Test
+  fun primitiveKeyedMap_behavesLikeLinkedHashMap() {
+    val random = Random(0)
+    val map = LongKeyedMap<Int>()
+    val expected = LinkedHashMap<Long, Int>()
+    repeat(RANDOM_OPERATIONS) { i ->
+      // Mostly small IDs so that puts, replacements and removals all happen often.
+      val key = if (random.nextInt(10) == 0) random.nextLong() else random.nextLong(64)
+      when (random.nextInt(3)) {
+        0 -> assertThat(map.remove(key)).isEqualTo(expected.remove(key))
+        else -> assertThat(map.put(key, i)).isEqualTo(expected.put(key, i))
+      }
+      assertThat(map.get(key)).isEqualTo(expected[key])
+    }
+
+    assertThat(map).isEqualTo(expected)
+    assertThat(map.entries.map { it.key to it.value })
+      .containsExactlyElementsIn(expected.entries.map { it.key to it.value })
+      .inOrder()
+    assertThat(map.get(Integer.valueOf(1) as Any)).isNull()
+  }
+
+  @Test
+  fun primitiveKeyedMap_removesWhileIterating() {
+    val map = IntKeyedMap<String>()
+    (0 until 100).forEach { map.put(it, it.toString()) }
+
+    map.values.removeIf { it.toInt() % 2 == 0 }
+    map.put(100, "100")
+
+    assertThat(map.keys).containsExactlyElementsIn((1 until 100 step 2) + 100).inOrder()
+    assertThat(map.get(99)).isEqualTo("99")
+    assertThat(map.get(98)).isNull()
+  }
+
+  @Test
+  fun nodeState_matchesHashMapStorage() {
+    val nodeState = buildNodeState()
+    val expected = buildHashMapEndpointStates()
+
+    assertThat(nodeState.endpointStates.keys).containsExactlyElementsIn(expected.keys)
+    for ((endpointId, expectedEndpoint) in expected) {
+      val endpoint = nodeState.getEndpointState(endpointId)!!
+      assertThat(endpoint.clusterStates.keys)
+        .containsExactlyElementsIn(expectedEndpoint.clusterStates.keys)
+      for ((clusterId, expectedCluster) in expectedEndpoint.clusterStates) {
+        val cluster = endpoint.getClusterState(clusterId)!!
+        assertThat(cluster.attributeStates).isEqualTo(expectedCluster.attributeStates)
+        assertThat(cluster.getAttributeState(GLOBAL_ATTRIBUTE_IDS[0]))
+          .isSameInstanceAs(expectedCluster.getAttributeState(GLOBAL_ATTRIBUTE_IDS[0]))
+        assertThat(cluster.dataVersion).isEqualTo(expectedCluster.dataVersion)
+        assertThat(cluster.eventStates).isEmpty()
+      }
+    }
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package matter.controller
+
+import com.google.common.truth.Truth.assertThat
+import java.io.IOException
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import kotlinx.coroutines.async
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.yield
+import matter.controller.model.AttributePath
+import matter.controller.model.DataVersionFilter
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+private const val NODE_ID = 0x1234L
+private const val ENDPOINT_ID = 1
+private const val ON_OFF_CLUSTER_ID = 0x0006L
+private const val ON_OFF_ATTRIBUTE_ID = 0x0000L
+private const val ON_TIME_ATTRIBUTE_ID = 0x4001L
+
+private val onOffClusterPath = AttributePath(1u, 0x0006u, null)
+private val onOffAttributePath = AttributePath(1u, 0x0006u, 0x0000u)
+private val onValue = byteArrayOf(0x09)
+private val offValue = byteArrayOf(0x08)
+private val onTimeValue = byteArrayOf(0x04, 0x10)
+
+@RunWith(JUnit4::class)
+class AttributeCacheTest {
+  private val storage = FakeStorage()
+  private val cache = AttributeCache(storage, Executors.newSingleThreadExecutor())
+
+  @Test
+  fun commit_storesOnStorageExecutor() =
+    runBlocking<Unit> {
+      val update = cache.newUpdate(NODE_ID, listOf(onOffClusterPath))
+      update.record(ENDPOINT_ID, ON_OFF_CLUSTER_ID, ON_OFF_ATTRIBUTE_ID, 7L, onValue)
+
+      update.commit()
+      awaitStorage()
+
+      assertThat(storage.storeThreads).hasSize(1)
+      assertThat(storage.storeThreads).doesNotContain(Thread.currentThread())
+      assertThat(storage.clusters.getValue(ON_OFF_CLUSTER_ID.toUInt()).dataVersion).isEqualTo(7u)
+    }
+
+  @Test
+  fun commit_singleAttributePath_doesNotCacheCluster() =
+    runBlocking<Unit> {
+      val update = cache.newUpdate(NODE_ID, listOf(onOffAttributePath))
+      update.record(ENDPOINT_ID, ON_OFF_CLUSTER_ID, ON_OFF_ATTRIBUTE_ID, 7L, onValue)
+
+      update.commit()
+      awaitStorage()
+
+      assertThat(storage.clusters).isEmpty()
+    }
+
+  @Test
+  fun commit_fullClusterReport_replacesCachedAttributes() =
+    runBlocking<Unit> {
+      report(7L, ON_OFF_ATTRIBUTE_ID to onValue, ON_TIME_ATTRIBUTE_ID to onTimeValue)
+
+      report(8L, ON_OFF_ATTRIBUTE_ID to offValue)
+      awaitStorage()
+
+      val cluster = storage.clusters.getValue(ON_OFF_CLUSTER_ID.toUInt())
+      assertThat(cluster.dataVersion).isEqualTo(8u)
+      assertThat(cluster.attributes.keys).containsExactly(ON_OFF_ATTRIBUTE_ID.toUInt())
+      assertThat(cluster.attributes.getValue(ON_OFF_ATTRIBUTE_ID.toUInt())).isEqualTo(offValue)
+    }
+
+  @Test
+  fun commit_laterSubscriptionReport_keepsOtherAttributes() =
+    runBlocking<Unit> {
+      val update = cache.newUpdate(NODE_ID, listOf(onOffClusterPath))
+      update.record(ENDPOINT_ID, ON_OFF_CLUSTER_ID, ON_OFF_ATTRIBUTE_ID, 7L, onValue)
+      update.record(ENDPOINT_ID, ON_OFF_CLUSTER_ID, ON_TIME_ATTRIBUTE_ID, 7L, onTimeValue)
+      update.commit()
+
+      update.record(ENDPOINT_ID, ON_OFF_CLUSTER_ID, ON_OFF_ATTRIBUTE_ID, 8L, offValue)
+      update.commit()
+      awaitStorage()
+
+      val cluster = storage.clusters.getValue(ON_OFF_CLUSTER_ID.toUInt())
+      assertThat(cluster.dataVersion).isEqualTo(8u)
+      assertThat(cluster.attributes.keys)
+        .containsExactly(ON_OFF_ATTRIBUTE_ID.toUInt(), ON_TIME_ATTRIBUTE_ID.toUInt())
+    }
+
+  @Test
+  fun dataVersionFilters_cachedCluster_returnsUnchangedValues() =
+    runBlocking<Unit> {
+      report(7L, ON_OFF_ATTRIBUTE_ID to onValue)
+      val update = cache.newUpdate(NODE_ID, listOf(onOffClusterPath))
+
+      assertThat(update.dataVersionFilters(emptyList()))
+        .containsExactly(DataVersionFilter(1u, 0x0006u, 7u))
+      val unchanged = update.commit()
+
+      assertThat(unchanged.map { it.path }).containsExactly(onOffAttributePath)
+      assertThat(unchanged.single().data).isEqualTo(onValue)
+    }
+
+  @Test
+  fun newUpdate_loadsStoredClusters() =
+    runBlocking<Unit> {
+      storage.clusters[ON_OFF_CLUSTER_ID.toUInt()] =
+        CachedCluster(1u, 0x0006u, 3u, mapOf(ON_OFF_ATTRIBUTE_ID.toUInt() to onValue))
+
+      val update = cache.newUpdate(NODE_ID, listOf(onOffClusterPath))
+
+      assertThat(update.dataVersionFilters(emptyList()))
+        .containsExactly(DataVersionFilter(1u, 0x0006u, 3u))
+    }
+
+  @Test
+  fun newUpdate_loadingNode_suspendsWithoutBlockingCaller() =
+    runBlocking<Unit> {
+      storage.clusters[ON_OFF_CLUSTER_ID.toUInt()] =
+        CachedCluster(1u, 0x0006u, 3u, mapOf(ON_OFF_ATTRIBUTE_ID.toUInt() to onValue))
+      storage.loadGate = CountDownLatch(1)
+
+      val update = async { cache.newUpdate(NODE_ID, listOf(onOffClusterPath)) }
+      yield()
+
+      // Only runs while the load is pending if newUpdate() left this thread free.
+      assertThat(update.isCompleted).isFalse()
+      storage.loadGate?.countDown()
+      assertThat(update.await().dataVersionFilters(emptyList()))
+        .containsExactly(DataVersionFilter(1u, 0x0006u, 3u))
+    }
+
+  @Test
+  fun remove_dropsCachedAndStoredClusters() =
+    runBlocking<Unit> {
+      report(7L, ON_OFF_ATTRIBUTE_ID to onValue)
+
+      cache.remove(NODE_ID)
+      val update = cache.newUpdate(NODE_ID, listOf(onOffClusterPath))
+
+      assertThat(update.dataVersionFilters(emptyList())).isEmpty()
+      assertThat(storage.clusters).isEmpty()
+    }
+
+  @Test
+  fun commit_storageFailure_keepsCacheInMemory() =
+    runBlocking<Unit> {
+      storage.failStore = true
+      report(7L, ON_OFF_ATTRIBUTE_ID to onValue)
+      awaitStorage()
+
+      val update = cache.newUpdate(NODE_ID, listOf(onOffClusterPath))
+
+      assertThat(update.dataVersionFilters(emptyList()))
+        .containsExactly(DataVersionFilter(1u, 0x0006u, 7u))
+    }
+
+  private suspend fun report(dataVersion: Long, vararg attributes: Pair<Long, ByteArray>) {
+    val update = cache.newUpdate(NODE_ID, listOf(onOffClusterPath))
+    for ((attributeId, value) in attributes) {
+      update.record(ENDPOINT_ID, ON_OFF_CLUSTER_ID, attributeId, dataVersion, value)
+    }
+    update.commit()
+  }
+
+  private suspend fun awaitStorage() {
+    // Loading waits for every change submitted before it.
+    cache.newUpdate(NODE_ID + 1, emptyList())
+  }
+
+  /** Keeps the clusters of [NODE_ID] in memory, by cluster ID. */
+  private class FakeStorage : AttributeCacheStorage {
+    val clusters = HashMap<UInt, CachedCluster>()
+    val storeThreads = ArrayList<Thread>()
+    var failStore = false
+    // When set, loading waits for it, for at most a second.
+    @Volatile var loadGate: CountDownLatch? = null
+
+    override fun load(nodeId: Long): List<CachedCluster> {
+      loadGate?.await(1, TimeUnit.SECONDS)
+      return if (nodeId == NODE_ID) clusters.values.toList() else emptyList()
+    }
+
+    override fun store(nodeId: Long, clusters: List<CachedCluster>) {
+      storeThreads.add(Thread.currentThread())
+      if (failStore) {
+        throw IOException("Storage failure")
+      }
+      clusters.forEach { this.clusters[it.clusterId] = it }
+    }
+
+    override fun remove(nodeId: Long) {
+      clusters.clear()
+    }
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package matter.controller
+
+import com.google.common.truth.Truth.assertThat
+import matter.controller.model.AttributePath
+import matter.controller.model.DataVersionFilter
+import matter.controller.model.EventPath
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+private const val ENDPOINT_ID = 1
+private const val ON_OFF_CLUSTER_ID = 0x0006L
+private const val LEVEL_CONTROL_CLUSTER_ID = 0x0008L
+
+private val onOffClusterPath = AttributePath(1u, 0x0006u, null)
+private val onOffAttributePath = AttributePath(1u, 0x0006u, 0x0000u)
+private val wildcardPath = AttributePath(null, null, null)
+private val onOffEventPath = EventPath(1u, 0x0006u, null)
+private val levelControlEventPath = EventPath(1u, 0x0008u, null)
+
+@RunWith(JUnit4::class)
+class DataVersionTrackerTest {
+  private val tracker = DataVersionTracker()
+
+  @Test
+  fun record_fullClusterPath_addsFilter() {
+    report(listOf(onOffClusterPath)) { recordDataVersion(ENDPOINT_ID, ON_OFF_CLUSTER_ID, 42L) }
+
+    assertThat(tracker.dataVersionFilters(listOf(onOffClusterPath), emptyList()))
+      .containsExactly(DataVersionFilter(1u, 0x0006u, 42u))
+  }
+
+  @Test
+  fun record_wildcardPath_addsFilterForEveryCluster() {
+    report(listOf(wildcardPath)) {
+      recordDataVersion(ENDPOINT_ID, ON_OFF_CLUSTER_ID, 1L)
+      recordDataVersion(ENDPOINT_ID, LEVEL_CONTROL_CLUSTER_ID, 2L)
+    }
+
+    assertThat(tracker.dataVersionFilters(listOf(wildcardPath), emptyList()))
+      .containsExactly(DataVersionFilter(1u, 0x0006u, 1u), DataVersionFilter(1u, 0x0008u, 2u))
+    assertThat(tracker.dataVersionFilters(listOf(onOffClusterPath), emptyList()))
+      .containsExactly(DataVersionFilter(1u, 0x0006u, 1u))
+  }
+
+  @Test
+  fun record_singleAttributePath_dropsDataVersion() {
+    report(listOf(onOffAttributePath)) { recordDataVersion(ENDPOINT_ID, ON_OFF_CLUSTER_ID, 42L) }
+
+    assertThat(tracker.dataVersionFilters(listOf(onOffClusterPath), emptyList())).isEmpty()
+  }
+
+  @Test
+  fun record_singleAttributePath_keepsPreviousDataVersion() {
+    report(listOf(onOffClusterPath)) { recordDataVersion(ENDPOINT_ID, ON_OFF_CLUSTER_ID, 1L) }
+    report(listOf(onOffAttributePath)) { recordDataVersion(ENDPOINT_ID, ON_OFF_CLUSTER_ID, 2L) }
+
+    assertThat(tracker.dataVersionFilters(listOf(onOffClusterPath), emptyList()))
+      .containsExactly(DataVersionFilter(1u, 0x0006u, 1u))
+  }
+
+  @Test
+  fun record_noDataVersion_isIgnored() {
+    report(listOf(onOffClusterPath)) {
+      recordDataVersion(ENDPOINT_ID, ON_OFF_CLUSTER_ID, ReportElementCallback.NO_DATA_VERSION)
+    }
+
+    assertThat(tracker.dataVersionFilters(listOf(onOffClusterPath), emptyList())).isEmpty()
+  }
+
+  @Test
+  fun record_beforeReportEnds_isNotTracked() {
+    val recorder = tracker.ReportRecorder(listOf(onOffClusterPath), emptyList())
+
+    recorder.beginReport()
+    recorder.recordDataVersion(ENDPOINT_ID, ON_OFF_CLUSTER_ID, 42L)
+
+    assertThat(tracker.dataVersionFilters(listOf(onOffClusterPath), emptyList())).isEmpty()
+  }
+
+  @Test
+  fun record_reportWithError_dropsDataVersions() {
+    report(listOf(wildcardPath)) {
+      recordDataVersion(ENDPOINT_ID, ON_OFF_CLUSTER_ID, 1L)
+      recordError()
+    }
+
+    assertThat(tracker.dataVersionFilters(listOf(wildcardPath), emptyList())).isEmpty()
+  }
+
+  @Test
+  fun record_abortedReport_dropsDataVersionsAtNextReport() {
+    val recorder = tracker.ReportRecorder(listOf(wildcardPath), emptyList())
+
+    recorder.beginReport()
+    recorder.recordDataVersion(ENDPOINT_ID, ON_OFF_CLUSTER_ID, 1L)
+    recorder.beginReport()
+    recorder.recordDataVersion(ENDPOINT_ID, LEVEL_CONTROL_CLUSTER_ID, 2L)
+    recorder.endReport()
+
+    assertThat(tracker.dataVersionFilters(listOf(wildcardPath), emptyList()))
+      .containsExactly(DataVersionFilter(1u, 0x0008u, 2u))
+  }
+
+  @Test
+  fun record_errorOfPreviousReport_doesNotDropNextReport() {
+    val recorder = tracker.ReportRecorder(listOf(wildcardPath), emptyList())
+
+    recorder.beginReport()
+    recorder.recordError()
+    recorder.endReport()
+    recorder.beginReport()
+    recorder.recordDataVersion(ENDPOINT_ID, ON_OFF_CLUSTER_ID, 1L)
+    recorder.endReport()
+
+    assertThat(tracker.dataVersionFilters(listOf(wildcardPath), emptyList()))
+      .containsExactly(DataVersionFilter(1u, 0x0006u, 1u))
+  }
+
+  @Test
+  fun dataVersionFilters_keepsRequestedFilters() {
+    val requestedFilter = DataVersionFilter(1u, 0x0006u, 7u)
+
+    report(listOf(wildcardPath)) {
+      recordDataVersion(ENDPOINT_ID, ON_OFF_CLUSTER_ID, 1L)
+      recordDataVersion(ENDPOINT_ID, LEVEL_CONTROL_CLUSTER_ID, 2L)
+    }
+
+    assertThat(tracker.dataVersionFilters(listOf(wildcardPath), listOf(requestedFilter)))
+      .containsExactly(requestedFilter, DataVersionFilter(1u, 0x0008u, 2u))
+      .inOrder()
+  }
+
+  @Test
+  fun dataVersionFilters_skipsClustersNotRequested() {
+    report(listOf(wildcardPath)) { recordDataVersion(ENDPOINT_ID, LEVEL_CONTROL_CLUSTER_ID, 2L) }
+
+    assertThat(tracker.dataVersionFilters(listOf(onOffClusterPath), emptyList())).isEmpty()
+  }
+
+  @Test
+  fun eventMin_followsLatestEventOfSamePaths() {
+    report(eventPaths = listOf(onOffEventPath)) {
+      recordEventNumber(10L)
+      recordEventNumber(12L)
+      recordEventNumber(11L)
+    }
+
+    assertThat(tracker.eventMin(listOf(onOffEventPath), null)).isEqualTo(13UL)
+  }
+
+  @Test
+  fun eventMin_otherPaths_isNull() {
+    report(eventPaths = listOf(onOffEventPath)) { recordEventNumber(10L) }
+
+    assertThat(tracker.eventMin(listOf(levelControlEventPath), null)).isNull()
+    assertThat(tracker.eventMin(listOf(onOffEventPath, levelControlEventPath), null)).isNull()
+  }
+
+  @Test
+  fun eventMin_ignoresPathOrderAndUrgency() {
+    report(eventPaths = listOf(onOffEventPath, levelControlEventPath)) { recordEventNumber(10L) }
+
+    assertThat(
+        tracker.eventMin(listOf(levelControlEventPath, onOffEventPath.copy(isUrgent = true)), null)
+      )
+      .isEqualTo(11UL)
+  }
+
+  @Test
+  fun eventMin_requestedValue_takesPrecedence() {
+    report(eventPaths = listOf(onOffEventPath)) { recordEventNumber(10L) }
+
+    assertThat(tracker.eventMin(listOf(onOffEventPath), 5UL)).isEqualTo(5UL)
+  }
+
+  @Test
+  fun eventMin_forgetsLeastRecentlyUsedPathSets() {
+    report(eventPaths = listOf(onOffEventPath)) { recordEventNumber(10L) }
+    for (eventId in 1..DataVersionTracker.MAX_EVENT_PATH_SETS) {
+      report(eventPaths = listOf(EventPath(2u, 0x0006u, eventId.toUInt()))) {
+        recordEventNumber(eventId.toLong())
+      }
+    }
+
+    assertThat(tracker.eventMin(listOf(onOffEventPath), null)).isNull()
+    assertThat(tracker.eventMin(listOf(EventPath(2u, 0x0006u, 1u)), null)).isEqualTo(2UL)
+  }
+
+  private fun report(
+    attributePaths: List<AttributePath> = emptyList(),
+    eventPaths: List<EventPath> = emptyList(),
+    block: DataVersionTracker.ReportRecorder.() -> Unit
+  ) {
+    val recorder = tracker.ReportRecorder(attributePaths, eventPaths)
+    recorder.beginReport()
+    recorder.block()
+    recorder.endReport()
+  }
+}
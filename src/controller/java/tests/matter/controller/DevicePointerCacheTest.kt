@@ -0,0 +1,170 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package matter.controller
+
+import chip.devicecontroller.GetConnectedDeviceCallbackJni.GetConnectedDeviceCallback
+import com.google.common.truth.Truth.assertThat
+import kotlinx.coroutines.CoroutineStart
+import kotlinx.coroutines.async
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.runBlocking
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+private const val FABRIC_INDEX = 1
+private const val NODE_ID = 0x1234L
+private const val OTHER_NODE_ID = 0x5678L
+
+@RunWith(JUnit4::class)
+class DevicePointerCacheTest {
+  private val lookups = mutableListOf<Pair<Long, GetConnectedDeviceCallback>>()
+  private val released = mutableListOf<Long>()
+  private val inactivePointers = mutableSetOf<Long>()
+  private val cache =
+    DevicePointerCache(
+      { nodeId, callback -> lookups.add(nodeId to callback) },
+      { devicePtr -> released.add(devicePtr) },
+      { devicePtr -> devicePtr !in inactivePointers }
+    )
+
+  @Test
+  fun acquire_sharesLookupBetweenConcurrentCallers() =
+    runBlocking<Unit> {
+      val first =
+        async(start = CoroutineStart.UNDISPATCHED) { cache.acquire(FABRIC_INDEX, NODE_ID) }
+      val second =
+        async(start = CoroutineStart.UNDISPATCHED) { cache.acquire(FABRIC_INDEX, NODE_ID) }
+
+      assertThat(lookups.map { it.first }).containsExactly(NODE_ID)
+      lookups.single().second.onDeviceConnected(100L)
+
+      assertThat(first.await()).isEqualTo(100L)
+      assertThat(second.await()).isEqualTo(100L)
+    }
+
+  @Test
+  fun acquire_reusesPointerWhileSessionIsActive() =
+    runBlocking<Unit> {
+      val devicePtr = acquire(NODE_ID, 100L)
+      cache.release(devicePtr)
+
+      assertThat(cache.acquire(FABRIC_INDEX, NODE_ID)).isEqualTo(100L)
+      assertThat(lookups).hasSize(1)
+      assertThat(released).isEmpty()
+    }
+
+  @Test
+  fun acquire_looksUpNodesSeparately() =
+    runBlocking<Unit> {
+      assertThat(acquire(NODE_ID, 100L)).isEqualTo(100L)
+      assertThat(acquire(OTHER_NODE_ID, 200L)).isEqualTo(200L)
+
+      assertThat(lookups.map { it.first }).containsExactly(NODE_ID, OTHER_NODE_ID).inOrder()
+    }
+
+  @Test
+  fun acquire_replacesPointerWithInactiveSession() =
+    runBlocking<Unit> {
+      cache.release(acquire(NODE_ID, 100L))
+      inactivePointers.add(100L)
+
+      assertThat(acquire(NODE_ID, 101L)).isEqualTo(101L)
+      assertThat(lookups).hasSize(2)
+      assertThat(released).containsExactly(100L)
+    }
+
+  @Test
+  fun release_releasesEvictedPointerOnceLastLeaseIsReturned() =
+    runBlocking<Unit> {
+      val devicePtr = acquire(NODE_ID, 100L)
+      assertThat(cache.acquire(FABRIC_INDEX, NODE_ID)).isEqualTo(devicePtr)
+
+      cache.evict(FABRIC_INDEX, NODE_ID)
+      assertThat(released).isEmpty()
+
+      cache.release(devicePtr)
+      assertThat(released).isEmpty()
+      cache.release(devicePtr)
+      assertThat(released).containsExactly(100L)
+
+      // Returning the pointer again must not release it twice.
+      cache.release(devicePtr)
+      assertThat(released).containsExactly(100L)
+    }
+
+  @Test
+  fun release_keepsUnevictedPointerCached() =
+    runBlocking<Unit> {
+      cache.release(acquire(NODE_ID, 100L))
+
+      assertThat(released).isEmpty()
+      cache.evict(FABRIC_INDEX, NODE_ID)
+      assertThat(released).containsExactly(100L)
+    }
+
+  @Test
+  fun acquire_failsAndEvictsOnConnectionFailure() =
+    runBlocking<Unit> {
+      cache.release(acquire(NODE_ID, 100L))
+      inactivePointers.add(100L)
+      val failed =
+        async(start = CoroutineStart.UNDISPATCHED) {
+          runCatching { cache.acquire(FABRIC_INDEX, NODE_ID) }
+        }
+
+      lookups.last().second.onConnectionFailure(NODE_ID, Exception("CASE failed"))
+
+      assertThat(failed.await().exceptionOrNull()).hasMessageThat().contains("CASE session")
+      assertThat(released).containsExactly(100L)
+      assertThat(acquire(NODE_ID, 101L)).isEqualTo(101L)
+      assertThat(lookups).hasSize(3)
+    }
+
+  @Test
+  fun clear_releasesUnusedPointersAndLeasedOnesOnceReturned() =
+    runBlocking<Unit> {
+      cache.release(acquire(NODE_ID, 100L))
+      val leased = acquire(OTHER_NODE_ID, 200L)
+
+      cache.clear()
+      assertThat(released).containsExactly(100L)
+
+      cache.release(leased)
+      assertThat(released).containsExactly(100L, 200L).inOrder()
+      assertThat(acquire(NODE_ID, 101L)).isEqualTo(101L)
+    }
+
+  @Test
+  fun release_ignoresUnknownPointer() {
+    cache.release(300L)
+
+    assertThat(released).isEmpty()
+  }
+
+  // Acquires the pointer of a node, completing its lookup with devicePtr if one is started.
+  private suspend fun acquire(nodeId: Long, devicePtr: Long): Long = coroutineScope {
+    val lookupCount = lookups.size
+    val acquired =
+      async(start = CoroutineStart.UNDISPATCHED) { cache.acquire(FABRIC_INDEX, nodeId) }
+    if (lookups.size > lookupCount) {
+      lookups.last().second.onDeviceConnected(devicePtr)
+    }
+    acquired.await()
+  }
+}
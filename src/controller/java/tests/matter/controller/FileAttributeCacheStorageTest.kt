@@ -0,0 +1,110 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package matter.controller
+
+import com.google.common.truth.Truth.assertThat
+import java.io.File
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+private const val NODE_ID = 0x1234L
+private const val OTHER_NODE_ID = 0x5678L
+
+private val onOffCluster =
+  CachedCluster(
+    1u,
+    0x0006u,
+    7u,
+    mapOf(0x0000u to byteArrayOf(0x09), 0x4001u to byteArrayOf(0x04, 0x10))
+  )
+private val levelCluster = CachedCluster(1u, 0x0008u, 3u, mapOf(0x0000u to byteArrayOf(0x24, 0x7F)))
+
+@RunWith(JUnit4::class)
+class FileAttributeCacheStorageTest {
+  @get:Rule val folder = TemporaryFolder()
+
+  @Test
+  fun load_storedClusters_returnsThem() {
+    val storage = FileAttributeCacheStorage(folder.root)
+
+    storage.store(NODE_ID, listOf(onOffCluster, levelCluster))
+    val loaded = FileAttributeCacheStorage(folder.root).load(NODE_ID)
+
+    assertThat(loaded.map { it.clusterId }).containsExactly(0x0006u, 0x0008u)
+    val onOff = loaded.single { it.clusterId == 0x0006u }
+    assertThat(onOff.endpointId).isEqualTo(1.toUShort())
+    assertThat(onOff.dataVersion).isEqualTo(7u)
+    assertThat(onOff.attributes.keys).containsExactly(0x0000u, 0x4001u).inOrder()
+    assertThat(onOff.attributes.getValue(0x4001u)).isEqualTo(byteArrayOf(0x04, 0x10))
+  }
+
+  @Test
+  fun store_sameCluster_replacesIt() {
+    val storage = FileAttributeCacheStorage(folder.root)
+    storage.store(NODE_ID, listOf(onOffCluster))
+
+    storage.store(
+      NODE_ID,
+      listOf(CachedCluster(1u, 0x0006u, 8u, mapOf(0x0000u to byteArrayOf(0x08))))
+    )
+
+    val loaded = storage.load(NODE_ID).single()
+    assertThat(loaded.dataVersion).isEqualTo(8u)
+    assertThat(loaded.attributes.keys).containsExactly(0x0000u)
+    assertThat(nodeFiles(NODE_ID).map { it.extension }).containsExactly("tlv")
+  }
+
+  @Test
+  fun load_unknownNode_returnsEmpty() {
+    val storage = FileAttributeCacheStorage(folder.root)
+    storage.store(NODE_ID, listOf(onOffCluster))
+
+    assertThat(storage.load(OTHER_NODE_ID)).isEmpty()
+  }
+
+  @Test
+  fun remove_deletesOnlyThatNode() {
+    val storage = FileAttributeCacheStorage(folder.root)
+    storage.store(NODE_ID, listOf(onOffCluster))
+    storage.store(OTHER_NODE_ID, listOf(levelCluster))
+
+    storage.remove(NODE_ID)
+
+    assertThat(storage.load(NODE_ID)).isEmpty()
+    assertThat(storage.load(OTHER_NODE_ID).map { it.clusterId }).containsExactly(0x0008u)
+  }
+
+  @Test
+  fun load_invalidFile_deletesIt() {
+    val storage = FileAttributeCacheStorage(folder.root)
+    storage.store(NODE_ID, listOf(onOffCluster, levelCluster))
+    val invalidFile = nodeFiles(NODE_ID).first()
+    invalidFile.writeBytes(byteArrayOf(0x15, 0x24))
+
+    val loaded = storage.load(NODE_ID)
+
+    assertThat(loaded).hasSize(1)
+    assertThat(invalidFile.exists()).isFalse()
+  }
+
+  private fun nodeFiles(nodeId: Long): List<File> =
+    File(folder.root, "%016X".format(nodeId)).listFiles().orEmpty().sorted()
+}
@@ -0,0 +1,253 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package matter.controller
+
+import com.google.common.truth.Truth.assertThat
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.runBlocking
+import matter.controller.model.CommandPath
+import matter.controller.model.Status
+import org.junit.Assert.assertThrows
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+private val onPath = CommandPath(1u, 0x0006u, 0x01u)
+private val offPath = CommandPath(1u, 0x0006u, 0x00u)
+private val moveToLevelPath = CommandPath(1u, 0x0008u, 0x00u)
+
+@RunWith(JUnit4::class)
+class InvokeBatchTest {
+  private val controller = FakeController()
+  private val batch = InvokeBatch(controller)
+
+  @Test
+  fun invokeAll_sendsCommandsInOneBatch() =
+    runBlocking<Unit> {
+      controller.batchResults = { requests ->
+        requests.map { InvokeResult.Response(InvokeResponse(byteArrayOf(0x15), it.commandPath)) }
+      }
+      val responses = mutableListOf<InvokeResponse>()
+
+      batch.invokeAll(
+        { responses.add(batch.invoke(request(onPath))) },
+        { responses.add(batch.invoke(request(moveToLevelPath))) }
+      )
+
+      assertThat(controller.batches.map { requests -> requests.map { it.commandPath } })
+        .containsExactly(listOf(onPath, moveToLevelPath))
+      assertThat(controller.singleInvokes).isEmpty()
+      assertThat(responses.map { it.path }).containsExactly(onPath, moveToLevelPath)
+    }
+
+  @Test
+  fun invokeAll_mapsSuccessStatusToEmptyResponse() =
+    runBlocking<Unit> {
+      controller.batchResults = { requests ->
+        requests.map { InvokeResult.StatusResponse(it.commandPath, status(Status.Code.SUCCESS)) }
+      }
+      var response: InvokeResponse? = null
+
+      batch.invokeAll({ response = batch.invoke(request(onPath)) })
+
+      assertThat(response!!.path).isEqualTo(onPath)
+      assertThat(response!!.payload).isEmpty()
+    }
+
+  @Test
+  fun invokeAll_failsCommandsWithFailureStatus() {
+    controller.batchResults = { requests ->
+      listOf(
+        InvokeResult.StatusResponse(requests[0].commandPath, status(Status.Code.SUCCESS)),
+        InvokeResult.StatusResponse(
+          requests[1].commandPath,
+          status(Status.Code.UNSUPPORTED_COMMAND)
+        )
+      )
+    }
+    var onResponse: InvokeResponse? = null
+
+    val e =
+      assertThrows(MatterControllerException::class.java) {
+        runBlocking {
+          batch.invokeAll(
+            { onResponse = batch.invoke(request(onPath)) },
+            { batch.invoke(request(offPath)) }
+          )
+        }
+      }
+
+    assertThat(onResponse).isNotNull()
+    assertThat(e.errorCode).isEqualTo(0x500L or Status.Code.UNSUPPORTED_COMMAND.id.toLong())
+  }
+
+  @Test
+  fun invokeAll_failsCommandsWithoutResponse() {
+    controller.batchResults = { requests -> requests.map { InvokeResult.NoResponse } }
+
+    val e =
+      assertThrows(MatterControllerException::class.java) {
+        runBlocking { batch.invokeAll({ batch.invoke(request(onPath)) }) }
+      }
+
+    assertThat(e.errorCode).isEqualTo(0x500L or Status.Code.NO_COMMAND_RESPONSE.id.toLong())
+  }
+
+  @Test
+  fun invokeAll_failsAllCommandsWhenBatchFails() {
+    controller.batchResults = { throw MatterControllerException(0x32) }
+
+    val e =
+      assertThrows(MatterControllerException::class.java) {
+        runBlocking {
+          batch.invokeAll({ batch.invoke(request(onPath)) }, { batch.invoke(request(offPath)) })
+        }
+      }
+
+    assertThat(e.errorCode).isEqualTo(0x32L)
+  }
+
+  @Test
+  fun invoke_outsideInvokeAllIsSentOnItsOwn() =
+    runBlocking<Unit> {
+      val response = batch.invoke(request(onPath))
+
+      assertThat(response.path).isEqualTo(onPath)
+      assertThat(controller.singleInvokes.map { it.commandPath }).containsExactly(onPath)
+      assertThat(controller.batches).isEmpty()
+    }
+
+  @Test
+  fun invokeAll_rejectsNestedBatches() {
+    controller.batchResults = { requests -> requests.map { InvokeResult.NoResponse } }
+
+    assertThrows(IllegalStateException::class.java) {
+      runBlocking { batch.invokeAll({ batch.invokeAll() }) }
+    }
+  }
+
+  @Test
+  fun defaultBatchInvoke_mapsEachCommandOutcome() =
+    runBlocking<Unit> {
+      controller.singleOutcomes =
+        mapOf(
+          onPath to { InvokeResponse(byteArrayOf(0x15), onPath) },
+          offPath to { InvokeResponse(byteArrayOf(), offPath) },
+          moveToLevelPath to
+            {
+              throw MatterControllerException(0x500L or Status.Code.CONSTRAINT_ERROR.id.toLong())
+            }
+        )
+
+      val results =
+        controller.invoke(listOf(request(onPath), request(offPath), request(moveToLevelPath)))
+
+      assertThat(results).hasSize(3)
+      assertThat((results[0] as InvokeResult.Response).response.payload)
+        .isEqualTo(byteArrayOf(0x15))
+      val offResult = results[1] as InvokeResult.StatusResponse
+      assertThat(offResult.path).isEqualTo(offPath)
+      assertThat(offResult.status.getCode()).isEqualTo(Status.Code.SUCCESS)
+      val levelResult = results[2] as InvokeResult.StatusResponse
+      assertThat(levelResult.path).isEqualTo(moveToLevelPath)
+      assertThat(levelResult.status.getCode()).isEqualTo(Status.Code.CONSTRAINT_ERROR)
+    }
+
+  @Test
+  fun defaultBatchInvoke_mapsMissingResponse() =
+    runBlocking<Unit> {
+      controller.singleOutcomes =
+        mapOf(
+          onPath to
+            {
+              throw MatterControllerException(0x500L or Status.Code.NO_COMMAND_RESPONSE.id.toLong())
+            }
+        )
+
+      val results = controller.invoke(listOf(request(onPath)))
+
+      assertThat(results).containsExactly(InvokeResult.NoResponse)
+    }
+
+  @Test
+  fun defaultBatchInvoke_rethrowsErrorsThatAreNotCommandStatuses() {
+    controller.singleOutcomes = mapOf(onPath to { throw MatterControllerException(0x32) })
+
+    val e =
+      assertThrows(MatterControllerException::class.java) {
+        runBlocking { controller.invoke(listOf(request(onPath), request(offPath))) }
+      }
+
+    assertThat(e.errorCode).isEqualTo(0x32L)
+    assertThat(controller.singleInvokes.map { it.commandPath }).containsExactly(onPath)
+  }
+
+  /** Controller that sends batches with [batchResults], or one at a time if it is not set. */
+  private class FakeController : MatterController {
+    val singleInvokes = mutableListOf<InvokeRequest>()
+    val batches = mutableListOf<List<InvokeRequest>>()
+    var singleOutcomes: Map<CommandPath, () -> InvokeResponse> = emptyMap()
+    var batchResults: ((List<InvokeRequest>) -> List<InvokeResult>)? = null
+
+    override suspend fun invoke(request: InvokeRequest): InvokeResponse {
+      singleInvokes.add(request)
+      val outcome = singleOutcomes[request.commandPath]
+      return outcome?.invoke() ?: InvokeResponse(byteArrayOf(0x15), request.commandPath)
+    }
+
+    override suspend fun invoke(requests: List<InvokeRequest>): List<InvokeResult> {
+      val batchResults = this.batchResults ?: return super.invoke(requests)
+      batches.add(requests)
+      return batchResults(requests)
+    }
+
+    override fun subscribe(request: SubscribeRequest): Flow<SubscriptionState> =
+      throw UnsupportedOperationException()
+
+    override fun setCompletionListener(listener: MatterController.CompletionListener?) {}
+
+    override fun pairDevice(
+      nodeId: Long,
+      address: String,
+      port: Int,
+      discriminator: Int,
+      pinCode: Long
+    ) = throw UnsupportedOperationException()
+
+    override fun unpairDevice(nodeId: Long) = throw UnsupportedOperationException()
+
+    override fun establishPaseConnection(
+      nodeId: Long,
+      address: String,
+      port: Int,
+      setupPincode: Long
+    ) = throw UnsupportedOperationException()
+
+    override suspend fun read(request: ReadRequest): ReadResponse =
+      throw UnsupportedOperationException()
+
+    override suspend fun write(writeRequests: WriteRequests): WriteResponse =
+      throw UnsupportedOperationException()
+
+    override fun close() {}
+  }
+
+  private fun request(path: CommandPath) = InvokeRequest(path, byteArrayOf(), timedRequest = null)
+
+  private fun status(code: Status.Code) = Status(code.id, null)
+}
@@ -0,0 +1,130 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package matter.controller
+
+import com.google.common.truth.Truth.assertThat
+import matter.controller.model.AttributePath
+import matter.controller.model.EventPath
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+private val onOffPath = AttributePath(1u, 0x0006u, 0x0000u)
+private val currentLevelPath = AttributePath(1u, 0x0008u, 0x0000u)
+
+@RunWith(JUnit4::class)
+class LatestAttributeValuesTest {
+  private val latestValues = LatestAttributeValues()
+
+  @Test
+  fun snapshot_keepsLatestDataPerPath() {
+    latestValues.update(report(data(onOffPath, 0x08), data(currentLevelPath, 0x10)))
+    latestValues.update(report(data(onOffPath, 0x09)))
+
+    val snapshot = latestValues.snapshot()
+
+    assertThat(snapshot.successes.map { (it as ReadData.Attribute).path })
+      .containsExactly(onOffPath, currentLevelPath)
+      .inOrder()
+    assertThat((snapshot.successes[0] as ReadData.Attribute).data).isEqualTo(byteArrayOf(0x09))
+    assertThat(snapshot.failures).isEmpty()
+  }
+
+  @Test
+  fun snapshot_replacesDataWithLaterFailureAndBack() {
+    latestValues.update(report(data(onOffPath, 0x08)))
+    latestValues.update(report(failures = listOf(failure(onOffPath))))
+
+    assertThat(latestValues.snapshot().successes).isEmpty()
+    assertThat(latestValues.snapshot().failures.map { (it as ReadFailure.Attribute).path })
+      .containsExactly(onOffPath)
+
+    latestValues.update(report(data(onOffPath, 0x09)))
+
+    assertThat(latestValues.snapshot().successes).hasSize(1)
+    assertThat(latestValues.snapshot().failures).isEmpty()
+  }
+
+  @Test
+  fun snapshot_isNotChangedByLaterUpdates() {
+    latestValues.update(report(data(onOffPath, 0x08)))
+    val snapshot = latestValues.snapshot()
+
+    latestValues.update(report(data(currentLevelPath, 0x10)))
+
+    assertThat(snapshot.successes).hasSize(1)
+  }
+
+  @Test
+  fun snapshot_ignoresEvents() {
+    val event =
+      ReadData.Event(
+        path = EventPath(1u, 0x0006u, 0x0000u),
+        eventNumber = 1u,
+        priorityLevel = 1u,
+        timeStamp = Timestamp.MillisSinceEpoch(0),
+        data = byteArrayOf()
+      )
+
+    latestValues.update(ReadResponse(listOf(event), emptyList()))
+
+    assertThat(latestValues.snapshot().successes).isEmpty()
+  }
+
+  @Test
+  fun changes_comparesWithLatestData() {
+    latestValues.update(report(data(onOffPath, 0x08)))
+
+    assertThat(latestValues.changes(data(onOffPath, 0x08))).isFalse()
+    assertThat(latestValues.changes(data(onOffPath, 0x09))).isTrue()
+    assertThat(latestValues.changes(data(currentLevelPath, 0x08))).isTrue()
+    assertThat(latestValues.changes(failure(onOffPath))).isTrue()
+
+    latestValues.update(report(failures = listOf(failure(onOffPath))))
+
+    assertThat(latestValues.changes(failure(onOffPath))).isFalse()
+    assertThat(latestValues.changes(data(onOffPath, 0x08))).isTrue()
+  }
+
+  @Test
+  fun retain_dropsValuesOfOtherPaths() {
+    latestValues.update(report(data(onOffPath, 0x08), failures = listOf(failure(currentLevelPath))))
+
+    latestValues.retain { it.clusterId == 0x0006u }
+
+    assertThat(latestValues.snapshot().successes).hasSize(1)
+    assertThat(latestValues.snapshot().failures).isEmpty()
+  }
+
+  @Test
+  fun clear_dropsAllValues() {
+    latestValues.update(report(data(onOffPath, 0x08), failures = listOf(failure(currentLevelPath))))
+
+    latestValues.clear()
+
+    assertThat(latestValues.snapshot().successes).isEmpty()
+    assertThat(latestValues.snapshot().failures).isEmpty()
+  }
+
+  private fun data(path: AttributePath, value: Byte) = ReadData.Attribute(path, byteArrayOf(value))
+
+  private fun failure(path: AttributePath) = ReadFailure.Attribute(path, Exception("failure"))
+
+  private fun report(vararg successes: ReadData, failures: List<ReadFailure> = emptyList()) =
+    ReadResponse(successes.toList(), failures)
+}
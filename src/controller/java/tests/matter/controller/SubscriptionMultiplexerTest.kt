@@ -0,0 +1,329 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package matter.controller
+
+import com.google.common.truth.Truth.assertThat
+import java.time.Duration
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.TimeUnit
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.cancel
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.channels.Channel.Factory.UNLIMITED
+import kotlinx.coroutines.channels.ReceiveChannel
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.consumeAsFlow
+import kotlinx.coroutines.flow.onCompletion
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withTimeout
+import matter.controller.SubscriptionMultiplexer.Companion.covers
+import matter.controller.model.AttributePath
+import matter.controller.model.EventPath
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+private const val TIMEOUT_MS = 5_000L
+private const val NO_SUBSCRIBE_WAIT_MS = 200L
+private const val SHRINK_DELAY_MS = 50L
+
+private val wildcardPath = AttributePath(null, null, null)
+private val onOffClusterPath = AttributePath(1u, 0x0006u, null)
+private val onOffAttributePath = AttributePath(1u, 0x0006u, 0x0000u)
+private val levelClusterPath = AttributePath(1u, 0x0008u, null)
+private val currentLevelPath = AttributePath(1u, 0x0008u, 0x0000u)
+private val onOffEventPath = EventPath(1u, 0x0006u, null)
+private val urgentOnOffEventPath = EventPath(1u, 0x0006u, null, isUrgent = true)
+private val startUpEventPath = EventPath(1u, 0x0006u, 0x0000u)
+
+@RunWith(JUnit4::class)
+class SubscriptionMultiplexerTest {
+  private val controller = FakeController()
+  private val multiplexer = SubscriptionMultiplexer(controller, SHRINK_DELAY_MS)
+  private val scope = CoroutineScope(Dispatchers.Default)
+
+  @After
+  fun tearDown() {
+    scope.cancel()
+    multiplexer.close()
+  }
+
+  @Test
+  fun merge_dropsCoveredPathsAndUsesSmallestIntervals() {
+    val merged =
+      SubscriptionMultiplexer.merge(
+        listOf(
+          request(listOf(onOffAttributePath), listOf(startUpEventPath), interval(2, 20)),
+          request(
+            listOf(onOffClusterPath, levelClusterPath),
+            listOf(onOffEventPath),
+            interval(1, 30)
+          )
+        )
+      )!!
+
+    assertThat(merged.attributePaths).containsExactly(onOffClusterPath, levelClusterPath)
+    assertThat(merged.eventPaths).containsExactly(onOffEventPath)
+    assertThat(merged.minInterval).isEqualTo(Duration.ofSeconds(1))
+    assertThat(merged.maxInterval).isEqualTo(Duration.ofSeconds(20))
+  }
+
+  @Test
+  fun merge_noRequests_returnsNull() {
+    assertThat(SubscriptionMultiplexer.merge(emptyList())).isNull()
+  }
+
+  @Test
+  fun covers_attributePaths() {
+    assertThat(wildcardPath.covers(onOffAttributePath)).isTrue()
+    assertThat(onOffClusterPath.covers(onOffAttributePath)).isTrue()
+    assertThat(onOffClusterPath.covers(currentLevelPath)).isFalse()
+    assertThat(onOffAttributePath.covers(onOffClusterPath)).isFalse()
+  }
+
+  @Test
+  fun covers_eventPaths_urgentOnlyByUrgent() {
+    assertThat(onOffEventPath.covers(startUpEventPath)).isTrue()
+    assertThat(onOffEventPath.covers(urgentOnOffEventPath)).isFalse()
+    assertThat(urgentOnOffEventPath.covers(onOffEventPath)).isTrue()
+  }
+
+  @Test
+  fun covers_requests_pathsAndIntervals() {
+    val current = request(listOf(onOffClusterPath), listOf(onOffEventPath), interval(1, 10))
+
+    assertThat(current.covers(request(listOf(onOffAttributePath), emptyList(), interval(1, 10))))
+      .isTrue()
+    assertThat(current.covers(request(listOf(onOffAttributePath), emptyList(), interval(2, 20))))
+      .isTrue()
+    assertThat(current.covers(request(listOf(onOffAttributePath), emptyList(), interval(0, 10))))
+      .isFalse()
+    assertThat(current.covers(request(listOf(currentLevelPath), emptyList(), interval(1, 10))))
+      .isFalse()
+    assertThat(current.covers(request(emptyList(), listOf(urgentOnOffEventPath), interval(1, 10))))
+      .isFalse()
+  }
+
+  @Test
+  fun subscribe_joinWithNewPaths_resubscribesWithoutRepeatingDeliveredData() = runBlocking {
+    val first = collect(request(listOf(onOffClusterPath), listOf(onOffEventPath)))
+    val upstream = controller.nextSubscription()
+    upstream.send(update(attribute(onOffAttributePath, 0x08), event(5u)))
+    upstream.send(SubscriptionState.SubscriptionEstablished)
+    assertThat(first.nextUpdate().successes).hasSize(2)
+    assertThat(first.next()).isEqualTo(SubscriptionState.SubscriptionEstablished)
+
+    val second = collect(request(listOf(currentLevelPath), emptyList()))
+    val resubscription = controller.nextSubscription()
+    resubscription.send(
+      update(attribute(onOffAttributePath, 0x08), event(5u), attribute(currentLevelPath, 0x24))
+    )
+    resubscription.send(update(event(6u)))
+    resubscription.send(SubscriptionState.SubscriptionEstablished)
+
+    assertThat(resubscription.request.eventMin).isEqualTo(6uL)
+    assertThat(resubscription.request.attributePaths)
+      .containsExactly(onOffClusterPath, currentLevelPath)
+    assertThat(first.nextUpdate().successes.map { (it as ReadData.Event).eventNumber })
+      .containsExactly(6uL)
+    assertThat(second.nextUpdate().successes.map { (it as ReadData.Attribute).path })
+      .containsExactly(currentLevelPath)
+    assertThat(second.next()).isEqualTo(SubscriptionState.SubscriptionEstablished)
+  }
+
+  @Test
+  fun subscribe_establishedUpdate_deliversRepeatedValue() = runBlocking {
+    val collector = collect(request(listOf(onOffAttributePath), emptyList()))
+    val upstream = controller.nextSubscription()
+    upstream.send(update(attribute(onOffAttributePath, 0x08)))
+    upstream.send(SubscriptionState.SubscriptionEstablished)
+    upstream.send(update(attribute(onOffAttributePath, 0x08)))
+
+    assertThat(collector.nextUpdate().successes).hasSize(1)
+    assertThat(collector.next()).isEqualTo(SubscriptionState.SubscriptionEstablished)
+    assertThat(collector.nextUpdate().successes).hasSize(1)
+  }
+
+  @Test
+  fun subscribe_joinWithCoveredPaths_replaysLatestValues() = runBlocking {
+    val first = collect(request(listOf(onOffClusterPath), emptyList()))
+    val upstream = controller.nextSubscription()
+    upstream.send(update(attribute(onOffAttributePath, 0x08)))
+    upstream.send(SubscriptionState.SubscriptionEstablished)
+    first.nextUpdate()
+    first.next()
+
+    val second = collect(request(listOf(onOffAttributePath), emptyList()))
+
+    assertThat(second.next()).isEqualTo(SubscriptionState.SubscriptionEstablished)
+    assertThat(second.nextUpdate().successes.map { (it as ReadData.Attribute).path })
+      .containsExactly(onOffAttributePath)
+    assertThat(controller.subscriptions.poll(NO_SUBSCRIBE_WAIT_MS, TimeUnit.MILLISECONDS)).isNull()
+  }
+
+  @Test
+  fun subscribe_collectorLeaves_shrinksSubscription() = runBlocking {
+    val staying = collect(request(listOf(onOffClusterPath), listOf(onOffEventPath)))
+    controller.nextSubscription()
+    val leaving = collect(request(listOf(currentLevelPath), emptyList(), interval(0, 5)))
+    val upstream = controller.nextSubscription()
+    upstream.send(update(attribute(onOffAttributePath, 0x08), event(5u)))
+    upstream.send(SubscriptionState.SubscriptionEstablished)
+    assertThat(staying.nextUpdate().successes).hasSize(2)
+
+    leaving.job.cancel()
+    leaving.job.join()
+    val shrunk = controller.nextSubscription()
+
+    assertThat(shrunk.request.attributePaths).containsExactly(onOffClusterPath)
+    assertThat(shrunk.request.eventPaths).containsExactly(onOffEventPath)
+    assertThat(shrunk.request.minInterval).isEqualTo(Duration.ofSeconds(1))
+    assertThat(shrunk.request.maxInterval).isEqualTo(Duration.ofSeconds(10))
+    assertThat(shrunk.request.eventMin).isEqualTo(6uL)
+    assertThat(upstream.isCompleted).isTrue()
+  }
+
+  @Test
+  fun subscribe_collectorWithCoveredPathsLeaves_keepsSubscription() = runBlocking {
+    collect(request(listOf(onOffClusterPath), emptyList()))
+    val upstream = controller.nextSubscription()
+    val leaving = collect(request(listOf(onOffAttributePath), emptyList()))
+
+    leaving.job.cancel()
+    leaving.job.join()
+
+    assertThat(controller.subscriptions.poll(NO_SUBSCRIBE_WAIT_MS, TimeUnit.MILLISECONDS)).isNull()
+    assertThat(upstream.isCompleted).isFalse()
+  }
+
+  @Test
+  fun subscribe_lastCollectorLeaves_stopsSubscription() = runBlocking {
+    val leaving = collect(request(listOf(onOffClusterPath), emptyList()))
+    val upstream = controller.nextSubscription()
+
+    leaving.job.cancel()
+    leaving.job.join()
+
+    assertThat(controller.subscriptions.poll(NO_SUBSCRIBE_WAIT_MS, TimeUnit.MILLISECONDS)).isNull()
+    withTimeout(TIMEOUT_MS) {
+      while (!upstream.isCompleted) {
+        delay(10)
+      }
+    }
+  }
+
+  private class Collected(val job: Job, val states: ReceiveChannel<SubscriptionState>) {
+    suspend fun next(): SubscriptionState = withTimeout(TIMEOUT_MS) { states.receive() }
+
+    suspend fun nextUpdate(): ReadResponse =
+      (next() as SubscriptionState.NodeStateUpdate).updateState
+  }
+
+  private fun collect(request: SubscribeRequest): Collected {
+    val states = Channel<SubscriptionState>(UNLIMITED)
+    val job = scope.launch { multiplexer.subscribe(request).collect { states.send(it) } }
+    return Collected(job, states)
+  }
+
+  private class Subscription(val request: SubscribeRequest) {
+    val channel = Channel<SubscriptionState>(UNLIMITED)
+    @Volatile var isCompleted = false
+
+    suspend fun send(state: SubscriptionState) = channel.send(state)
+  }
+
+  private class FakeController : MatterController {
+    val subscriptions = LinkedBlockingQueue<Subscription>()
+
+    fun nextSubscription(): Subscription =
+      checkNotNull(subscriptions.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS)) { "No subscription" }
+
+    override fun subscribe(request: SubscribeRequest): Flow<SubscriptionState> {
+      val subscription = Subscription(request)
+      subscriptions.add(subscription)
+      return subscription.channel.consumeAsFlow().onCompletion { subscription.isCompleted = true }
+    }
+
+    override fun setCompletionListener(listener: MatterController.CompletionListener?) {}
+
+    override fun pairDevice(
+      nodeId: Long,
+      address: String,
+      port: Int,
+      discriminator: Int,
+      pinCode: Long
+    ) = throw UnsupportedOperationException()
+
+    override fun unpairDevice(nodeId: Long) = throw UnsupportedOperationException()
+
+    override fun establishPaseConnection(
+      nodeId: Long,
+      address: String,
+      port: Int,
+      setupPincode: Long
+    ) = throw UnsupportedOperationException()
+
+    override suspend fun read(request: ReadRequest): ReadResponse =
+      throw UnsupportedOperationException()
+
+    override suspend fun write(writeRequests: WriteRequests): WriteResponse =
+      throw UnsupportedOperationException()
+
+    override suspend fun invoke(request: InvokeRequest): InvokeResponse =
+      throw UnsupportedOperationException()
+
+    override suspend fun invoke(requests: List<InvokeRequest>): List<InvokeResult> =
+      throw UnsupportedOperationException()
+
+    override fun close() {}
+  }
+
+  private fun request(
+    attributePaths: List<AttributePath>,
+    eventPaths: List<EventPath>,
+    intervals: Pair<Duration, Duration> = interval(1, 10)
+  ) =
+    SubscribeRequest(
+      eventPaths = eventPaths,
+      attributePaths = attributePaths,
+      minInterval = intervals.first,
+      maxInterval = intervals.second
+    )
+
+  private fun interval(min: Long, max: Long) = Duration.ofSeconds(min) to Duration.ofSeconds(max)
+
+  private fun update(vararg data: ReadData) =
+    SubscriptionState.NodeStateUpdate(ReadResponse(data.toList(), emptyList()))
+
+  private fun attribute(path: AttributePath, value: Int) =
+    ReadData.Attribute(path, byteArrayOf(0x24, value.toByte()))
+
+  private fun event(eventNumber: ULong) =
+    ReadData.Event(
+      startUpEventPath,
+      eventNumber,
+      1u,
+      Timestamp.MillisSinceBoot(0L),
+      byteArrayOf(0x15, 0x18)
+    )
+}
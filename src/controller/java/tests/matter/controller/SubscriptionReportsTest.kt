@@ -0,0 +1,128 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package matter.controller
+
+import com.google.common.truth.Truth.assertThat
+import matter.controller.model.AttributePath
+import matter.controller.model.EventPath
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+private val onOffPath = AttributePath(1u, 0x0006u, 0x0000u)
+private val currentLevelPath = AttributePath(1u, 0x0008u, 0x0000u)
+private val startUpEventPath = EventPath(1u, 0x0006u, 0x0000u)
+
+@RunWith(JUnit4::class)
+class SubscriptionReportsTest {
+  @Test
+  fun endReport_carriesOnlyItsOwnReport() {
+    val reports = SubscriptionReports(trackLatestValues = false)
+
+    reports.beginReport()
+    reports.add(data(onOffPath, 0x08))
+    reports.add(data(currentLevelPath, 0x10))
+    val first = reports.endReport()
+    reports.beginReport()
+    reports.add(data(onOffPath, 0x09))
+    val second = reports.endReport()
+
+    assertThat(paths(first.updateState)).containsExactly(onOffPath, currentLevelPath).inOrder()
+    assertThat(paths(second.updateState)).containsExactly(onOffPath)
+    assertThat(first.latestState).isNull()
+    assertThat(second.latestState).isNull()
+  }
+
+  @Test
+  fun endReport_carriesFailuresDeliveredBeforeReportBegins() {
+    val reports = SubscriptionReports(trackLatestValues = false)
+
+    reports.add(ReadFailure.Attribute(onOffPath, Exception("failure")))
+    reports.add(ReadFailure.Event(startUpEventPath, Exception("failure")))
+    reports.beginReport()
+    reports.add(data(currentLevelPath, 0x10))
+    val first = reports.endReport()
+    reports.beginReport()
+    val second = reports.endReport()
+
+    assertThat(first.updateState.failures).hasSize(2)
+    assertThat(paths(first.updateState)).containsExactly(currentLevelPath)
+    assertThat(second.updateState.successes).isEmpty()
+    assertThat(second.updateState.failures).isEmpty()
+  }
+
+  @Test
+  fun endReport_carriesEvents() {
+    val reports = SubscriptionReports(trackLatestValues = true)
+
+    reports.beginReport()
+    reports.add(event(1u))
+    val update = reports.endReport()
+
+    assertThat(update.updateState.successes).hasSize(1)
+    assertThat(update.latestState!!.successes).isEmpty()
+  }
+
+  @Test
+  fun endReport_carriesLatestValueOfEveryPathWhenTracked() {
+    val reports = SubscriptionReports(trackLatestValues = true)
+
+    reports.beginReport()
+    reports.add(data(onOffPath, 0x08))
+    reports.add(data(currentLevelPath, 0x10))
+    reports.endReport()
+    reports.add(ReadFailure.Attribute(currentLevelPath, Exception("failure")))
+    reports.beginReport()
+    reports.add(data(onOffPath, 0x09))
+    val update = reports.endReport()
+
+    assertThat(paths(update.updateState)).containsExactly(onOffPath)
+    val latestState = update.latestState!!
+    assertThat(paths(latestState)).containsExactly(onOffPath)
+    assertThat((latestState.successes.single() as ReadData.Attribute).data)
+      .isEqualTo(byteArrayOf(0x09))
+    assertThat(latestState.failures.map { (it as ReadFailure.Attribute).path })
+      .containsExactly(currentLevelPath)
+  }
+
+  @Test
+  fun beginReport_dropsDataOfUnfinishedReport() {
+    val reports = SubscriptionReports(trackLatestValues = false)
+
+    reports.beginReport()
+    reports.add(data(onOffPath, 0x08))
+    reports.beginReport()
+    reports.add(data(currentLevelPath, 0x10))
+
+    assertThat(paths(reports.endReport().updateState)).containsExactly(currentLevelPath)
+  }
+
+  private fun data(path: AttributePath, value: Byte) = ReadData.Attribute(path, byteArrayOf(value))
+
+  private fun event(eventNumber: ULong) =
+    ReadData.Event(
+      path = startUpEventPath,
+      eventNumber = eventNumber,
+      priorityLevel = 1u,
+      timeStamp = Timestamp.MillisSinceEpoch(0),
+      data = byteArrayOf()
+    )
+
+  private fun paths(response: ReadResponse) =
+    response.successes.filterIsInstance<ReadData.Attribute>().map { it.path }
+}
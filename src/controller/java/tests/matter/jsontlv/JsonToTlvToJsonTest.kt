@@ -20,6 +20,10 @@ package matter.jsontlv
 
 import com.google.common.truth.Truth.assertThat
 import com.google.gson.JsonParser
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonWriter
+import java.io.StringReader
+import java.io.StringWriter
 import kotlin.test.assertFailsWith
 import matter.tlv.*
 import org.junit.Test
@@ -43,6 +47,14 @@ class JsonToTlvToJsonTest {
     if (jsonOriginal != jsonExpected) {
       assertThat(TlvWriter().fromJsonString(jsonExpected)).isEqualTo(tlvEncoding)
     }
+
+    // The streaming conversions produce the same results.
+    val jsonReader = JsonReader(StringReader(jsonOriginal)).apply { isLenient = true }
+    assertThat(TlvWriter().putJson(AnonymousTag, jsonReader).validateTlv().getEncoded())
+      .isEqualTo(tlvEncoding)
+    val json = StringBuilder()
+    TlvReader(tlvEncoding).toJson(json)
+    assertThat(json.toString()).isEqualTo(TlvReader(tlvEncoding).toJsonString())
   }
 
   @Test
@@ -1633,4 +1645,48 @@ class JsonToTlvToJsonTest {
 
     checkValidConversion(json, encoding)
   }
+
+  @Test
+  fun convertStreamingWithinEnclosingDocuments() {
+    // Json objects nested in a larger Json document are converted in place
+    val encoding =
+      TlvWriter()
+        .startStructure(AnonymousTag)
+        .startStructure(ContextSpecificTag(1))
+        .put(ContextSpecificTag(0), 42)
+        .put(ContextSpecificTag(1), "value")
+        .endStructure()
+        .endStructure()
+        .validateTlv()
+        .getEncoded()
+    val json = """{"first": {"0:INT": 42, "1:STRING": "value"}, "second": true}"""
+
+    val jsonReader = JsonReader(StringReader(json))
+    jsonReader.beginObject()
+    assertThat(jsonReader.nextName()).isEqualTo("first")
+    val tlvWriter = TlvWriter().startStructure(AnonymousTag)
+    tlvWriter.putJson(ContextSpecificTag(1), jsonReader)
+    assertThat(jsonReader.nextName()).isEqualTo("second")
+    assertThat(tlvWriter.endStructure().validateTlv().getEncoded()).isEqualTo(encoding)
+
+    val innerEncoding =
+      TlvWriter()
+        .startStructure(AnonymousTag)
+        .put(ContextSpecificTag(0), 42)
+        .put(ContextSpecificTag(1), "value")
+        .endStructure()
+        .validateTlv()
+        .getEncoded()
+    val output = StringWriter()
+    val jsonWriter = JsonWriter(output).beginArray()
+    TlvReader(innerEncoding).toJson(jsonWriter)
+    jsonWriter.endArray().close()
+    assertThat(output.toString()).isEqualTo("""[{"0:INT":42,"1:STRING":"value"}]""")
+  }
+
+  @Test
+  fun convertStreamingReportsInvalidJson() {
+    val jsonReader = JsonReader(StringReader("""{"0:INT": "text"}"""))
+    assertFailsWith<IllegalArgumentException> { TlvWriter().putJson(AnonymousTag, jsonReader) }
+  }
 }
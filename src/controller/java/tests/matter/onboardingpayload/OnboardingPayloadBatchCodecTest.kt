@@ -0,0 +1,117 @@
+/*
+ *
+ *    Copyright (c) 2024 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package matter.onboardingpayload
+
+import com.google.common.truth.Truth.assertThat
+import kotlin.test.assertFailsWith
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+// Enough payloads for the batch to be split into several chunks.
+private const val PAYLOAD_COUNT = 2048
+
+// Payloads shaped like a production batch: one product, consecutive PIN codes and discriminators.
+private fun batchPayload(i: Int): OnboardingPayload =
+  OnboardingPayload().apply {
+    vendorId = 0xFFF1
+    productId = 0x8001
+    commissioningFlow =
+      if (i % 4 == 0) CommissioningFlow.CUSTOM.value else CommissioningFlow.STANDARD.value
+    discoveryCapabilities.add(
+      if (i % 2 == 0) DiscoveryCapability.BLE else DiscoveryCapability.ON_NETWORK
+    )
+    setLongDiscriminatorValue(i % (kDiscriminatorLongMask + 1))
+    setupPinCode = 20202021L + i * 37L
+  }
+
+private val payloads: List<OnboardingPayload> = List(PAYLOAD_COUNT) { batchPayload(it) }
+
+@RunWith(JUnit4::class)
+class OnboardingPayloadBatchCodecTest {
+  private val parser = OnboardingPayloadParser()
+
+  @Test
+  fun batch_matchesSinglePayloadCodec() {
+    val codec = OnboardingPayloadBatchCodec()
+
+    val qrCodes = codec.getQrCodesFromPayloads(payloads)
+    assertThat(qrCodes).isEqualTo(payloads.map { parser.getQrCodeFromPayload(it) })
+    assertThat(codec.parseQrCodes(qrCodes)).isEqualTo(qrCodes.map { parser.parseQrCode(it) })
+
+    val manualCodes = codec.getManualPairingCodesFromPayloads(payloads)
+    assertThat(manualCodes).isEqualTo(payloads.map { parser.getManualPairingCodeFromPayload(it) })
+    assertThat(codec.parseManualPairingCodes(manualCodes))
+      .isEqualTo(manualCodes.map { parser.parseManualPairingCode(it) })
+
+    val shortCodes = codec.getManualPairingCodesFromPayloads(payloads, forceShortCode = true)
+    assertThat(shortCodes)
+      .isEqualTo(
+        payloads.map {
+          ManualOnboardingPayloadGenerator(it)
+            .apply { setForceShortCode(true) }
+            .payloadDecimalStringRepresentation()
+        }
+      )
+  }
+
+  @Test
+  fun batch_handlesOptionalDataAndSeparators() {
+    val codec = OnboardingPayloadBatchCodec()
+    val payload = batchPayload(0)
+    payload.addSerialNumber("123456789")
+
+    val qrCode = codec.getQrCodesFromPayloads(listOf(payload)).single()
+    assertThat(qrCode)
+      .isEqualTo(
+        QRCodeOnboardingPayloadGenerator(payload).payloadBase38RepresentationWithAutoTLVBuffer()
+      )
+    assertThat(codec.parseQrCodes(listOf(qrCode)).single().getSerialNumber()).isEqualTo("123456789")
+
+    val manualCode = parser.getManualPairingCodeFromPayload(payloads[1])
+    val separated = manualCode.substring(0, 4) + "-" + manualCode.substring(4)
+    assertThat(codec.parseManualPairingCodes(listOf(separated)))
+      .containsExactly(parser.parseManualPairingCode(manualCode))
+  }
+
+  @Test
+  fun batch_throwsFirstFailureOfSinglePayloadCodec() {
+    val codec = OnboardingPayloadBatchCodec(parallelism = 4)
+    val codes = payloads.map { parser.getManualPairingCodeFromPayload(it) }
+    val invalidCodes =
+      codes.toMutableList().apply {
+        this[PAYLOAD_COUNT / 2] = "1234567890"
+        this[PAYLOAD_COUNT - 1] = "12345"
+      }
+
+    val expected =
+      assertFailsWith<InvalidManualPairingCodeFormatException> {
+        parser.parseManualPairingCode("1234567890")
+      }
+    val actual =
+      assertFailsWith<InvalidManualPairingCodeFormatException> {
+        codec.parseManualPairingCodes(invalidCodes)
+      }
+    assertThat(actual.message).isEqualTo(expected.message)
+
+    assertFailsWith<UnrecognizedQrCodeException> { codec.parseQrCodes(listOf("MT:")) }
+    assertFailsWith<OnboardingPayloadException> {
+      codec.getQrCodesFromPayloads(listOf(OnboardingPayload()))
+    }
+  }
+}
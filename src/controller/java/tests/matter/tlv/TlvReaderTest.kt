@@ -20,6 +20,7 @@ package matter.tlv
 
 import com.google.common.truth.Truth.assertThat
 import java.math.BigInteger
+import java.nio.ByteBuffer
 import org.junit.Assert.assertThrows
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -269,4 +270,80 @@ class TlvReaderTest {
     assertThat(tag).isInstanceOf(ContextSpecificTag::class.java)
     assertThat((tag as ContextSpecificTag).tagNumber).isEqualTo(0xFE)
   }
+
+  @Test
+  fun readerOverArrayRange_readsWithoutCopy() {
+    // Context-Specific tag 1 with UTF-8 String "abc" surrounded by unrelated bytes
+    val bytes = byteArrayOf(0x7F, 0x2C, 0x01, 0x03, 0x61, 0x62, 0x63, 0x7F)
+    val reader = TlvReader(bytes, 1, 6)
+
+    assertThat(reader.getRemainingLength()).isEqualTo(6)
+    assertThat(reader.getUtf8String(ContextSpecificTag(1))).isEqualTo("abc")
+    assertThat(reader.isEndOfTlv()).isTrue()
+  }
+
+  @Test
+  fun readerOverDirectByteBuffer_extractsFabricId() {
+    val buffer = ByteBuffer.allocateDirect(fabricConfig.size + 2)
+    buffer.put(0x7F).put(fabricConfig).put(0x7F)
+    buffer.position(1)
+    buffer.limit(1 + fabricConfig.size)
+
+    val reader = TlvReader(buffer)
+    reader.enterStructure(FullyQualifiedTag(6, 0u, 5u, 1u))
+    assertThat(reader.getULong(ContextSpecificTag(1)))
+      .isEqualTo(BigInteger("7885a14c693bf1cb", 16).toLong().toULong())
+    reader.exitContainer()
+    assertThat(reader.isEndOfTlv()).isTrue()
+    assertThat(buffer.position()).isEqualTo(1)
+  }
+
+  @Test
+  fun getByteStringView_sharesUnderlyingBytes() {
+    // Anonymous Tag with ByteString 1-byte type
+    val bytes = byteArrayOf(0x10, 0x03, 0x01, 0x02, 0x03)
+    val view = TlvReader(bytes, 0, bytes.size).getByteStringView(AnonymousTag)
+
+    assertThat(view.remaining()).isEqualTo(3)
+    assertThat(view.isReadOnly).isTrue()
+    bytes[3] = 0x42
+    assertThat(view.get(1)).isEqualTo(0x42.toByte())
+  }
+
+  @Test
+  fun typedGettersOverView_matchNextElement() {
+    val encoding =
+      TlvWriter()
+        .apply {
+          startArray(AnonymousTag)
+          for (i in 0 until 3) {
+            startStructure(AnonymousTag)
+            put(ContextSpecificTag(0), i.toUInt())
+            put(ContextSpecificTag(1), -i.toLong())
+            put(ContextSpecificTag(2), i % 2 == 0)
+            put(ContextSpecificTag(3), byteArrayOf(1, 2, i.toByte()))
+            endStructure()
+          }
+          endArray()
+        }
+        .getEncoded()
+
+    val elements = TlvReader(encoding).toList()
+    val reader = TlvReader(encoding, 0, encoding.size)
+    reader.enterArray(AnonymousTag)
+    for (i in 0 until 3) {
+      val fields = elements.subList(2 + i * 6, 6 + i * 6).map { it.value }
+      reader.enterStructure(AnonymousTag)
+      assertThat(reader.getUInt(ContextSpecificTag(0)).toLong())
+        .isEqualTo((fields[0] as UnsignedIntValue).value)
+      assertThat(reader.getLong(ContextSpecificTag(1))).isEqualTo((fields[1] as IntValue).value)
+      assertThat(reader.getBool(ContextSpecificTag(2))).isEqualTo((fields[2] as BooleanValue).value)
+      val view = reader.getByteStringView(ContextSpecificTag(3))
+      assertThat(ByteArray(view.remaining()).also { view.get(it) })
+        .isEqualTo((fields[3] as ByteStringValue).value)
+      reader.exitContainer()
+    }
+    reader.exitContainer()
+    assertThat(reader.isEndOfTlv()).isTrue()
+  }
 }
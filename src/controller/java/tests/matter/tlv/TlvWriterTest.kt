@@ -20,6 +20,8 @@ package matter.tlv
 
 import com.google.common.truth.Truth.assertThat
 import java.math.BigInteger
+import java.nio.ByteBuffer
+import kotlin.test.assertFailsWith
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.junit.runners.JUnit4
@@ -68,4 +70,72 @@ class TlvWriterTest {
 
     assertThat(encodedTlv).isEqualTo(fabricConfig)
   }
+
+  @Test
+  fun encodingIntoCallerBuffer_writesFromPositionAndAdvancesIt() {
+    val buffer = ByteBuffer.allocateDirect(fabricConfig.size + 2)
+    buffer.put(0x7F)
+
+    val writer = TlvWriter(buffer)
+    writer
+      .startStructure(AnonymousTag)
+      .put(ContextSpecificTag(1), 0x1001u)
+      .put(ContextSpecificTag(2), "value")
+      .endStructure()
+
+    val expected = TlvWriter().startStructure(AnonymousTag)
+    expected.put(ContextSpecificTag(1), 0x1001u).put(ContextSpecificTag(2), "value").endStructure()
+    assertThat(writer.getEncoded()).isEqualTo(expected.getEncoded())
+    assertThat(writer.getLengthWritten()).isEqualTo(expected.getLengthWritten())
+    assertThat(buffer.position()).isEqualTo(1 + writer.getLengthWritten())
+    assertThat(buffer.get(0)).isEqualTo(0x7F.toByte())
+  }
+
+  @Test
+  fun encodingPastCallerBufferLimit_throwsTlvEncodingException() {
+    val writer = TlvWriter(ByteBuffer.allocate(4))
+    writer.put(AnonymousTag, 0x1001u)
+
+    assertFailsWith<TlvEncodingException> { writer.put(AnonymousTag, 0x1001u) }
+    assertThat(writer.getLengthWritten()).isEqualTo(3)
+  }
+
+  @Test
+  fun encodingAfterReset_reusesBufferAndGrowsIt() {
+    val writer = TlvWriter(initialCapacity = 1)
+    writer.startStructure(AnonymousTag).put(ContextSpecificTag(1), "discarded").endStructure()
+    writer.reset()
+
+    val encodedTlv =
+      writer
+        .startStructure(FullyQualifiedTag(6, 0u, 5u, 1u))
+        .put(ContextSpecificTag(1), BigInteger("7885a14c693bf1cb", 16).toLong().toULong())
+        .startArray(ContextSpecificTag(2))
+        .startStructure(AnonymousTag)
+        .put(ContextSpecificTag(1), 0x1001u)
+        .put(ContextSpecificTag(2), 0x01u)
+        .put(ContextSpecificTag(3), "149BF1430B26F5E4BBF380D3DB855BA1".octetsToByteArray())
+        .put(ContextSpecificTag(4), "E0E8BAA1CAC6E8E7216D720BD13C61C5E0E7B901".octetsToByteArray())
+        .put(ContextSpecificTag(5), 0u)
+        .put(ContextSpecificTag(6), 0u)
+        .endStructure()
+        .endArray()
+        .endStructure()
+        .validateTlv()
+        .getEncoded()
+
+    assertThat(encodedTlv).isEqualTo(fabricConfig)
+  }
+
+  @Test
+  fun encodingUtf8String_matchesStringToByteArray() {
+    val value = "a\u00e9\u20ac\ud83d\ude00\ud83d"
+    val expected = value.toByteArray()
+
+    val encodedTlv = TlvWriter().put(AnonymousTag, value).getEncoded()
+
+    assertThat(encodedTlv).isEqualTo(byteArrayOf(0x0C, expected.size.toByte(), *expected))
+    assertThat(TlvReader(encodedTlv).getUtf8String(AnonymousTag))
+      .isEqualTo(String(expected, Charsets.UTF_8))
+  }
 }